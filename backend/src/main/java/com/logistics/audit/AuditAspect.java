@@ -1,16 +1,8 @@
 package com.logistics.audit;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.logistics.entity.*;
+import com.logistics.entity.Role;
 import com.logistics.enums.AuditLogStatus;
-import com.logistics.enums.EmployeeStatus;
-import com.logistics.exception.AppException;
-import com.logistics.exception.enums.AccountErrorCode;
-import com.logistics.repository.AuditLogRepository;
-import com.logistics.repository.EmployeeRepository;
-import com.logistics.repository.RoleRepository;
-import com.logistics.repository.UserRepository;
-import com.logistics.service.user.UserUserService;
 import com.logistics.utils.SecurityUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -18,10 +10,10 @@ import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.reflect.MethodSignature;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
 import java.lang.reflect.Parameter;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
@@ -32,11 +24,7 @@ import java.util.Set;
 @RequiredArgsConstructor
 public class AuditAspect {
 
-    private final AuditLogRepository auditLogRepository;
-    private final UserRepository userRepository;
-    private final UserUserService userService;
-    private final RoleRepository roleRepository;
-    private final EmployeeRepository employeeRepository;
+    private final AuditLogWriter auditLogWriter;
     private final ObjectMapper objectMapper;
 
     @Around("@annotation(audit)")
@@ -68,8 +56,8 @@ public class AuditAspect {
         }
     }
 
-    @Async
-    protected void saveLog(
+    // Chỉ dựng sự kiện bất biến trên luồng request; tra ngữ cảnh và ghi DB do AuditLogWriter làm
+    private void saveLog(
             Integer userId,
             Role role,
             Audit audit,
@@ -79,32 +67,6 @@ public class AuditAspect {
             AuditLogStatus status,
             String errorMessage) {
         try {
-            User user = userId != null
-                    ? userRepository.findById(userId).orElse(null)
-                    : null;
-
-            User shop = null;
-            Office office = null;
-
-            if (user != null) {
-                try {
-                    Role currentRole = roleRepository.findByIdWithPermissionGroups(role.getId())
-                            .orElseThrow(() -> new AppException(AccountErrorCode.ACCOUNT_UNAUTHORIZED_ACCESS));
-
-                    boolean isSystemRole = currentRole.getUserOwner() == null && !currentRole.getName().equalsIgnoreCase("User");
-
-                    if (isSystemRole) {
-                        office = employeeRepository.findByUserIdAndStatus(userId, EmployeeStatus.ACTIVE)
-                                .map(Employee::getOffice)
-                                .orElse(null);
-                    } else {
-                        shop = userService.getShop(user);
-                    }
-                } catch (Exception e) {
-                    log.warn("AuditAspect: could not determine role context - {}", e.getMessage());
-                }
-            }
-
             String entityId = extractEntityId(pjp, audit);
 
             if (entityId == null && result != null) {
@@ -115,21 +77,18 @@ public class AuditAspect {
                     ? buildDescription(audit)
                     : audit.description();
 
-            AuditLog auditLog = AuditLog.builder()
-                    .user(user)
-                    .shop(shop)
-                    .office(office)
-                    .entity(audit.entity())
-                    .action(audit.action())
-                    .entityId(entityId)
-                    .description(description)
-                    .status(status)
-                    .errorMessage(errorMessage)
-                    .payloadRequestBody(payloadRequestBody)
-                    .payloadResult(toJson(result))
-                    .build();
-
-            auditLogRepository.save(auditLog);
+            auditLogWriter.submit(new AuditEvent(
+                    userId,
+                    role != null ? role.getId() : null,
+                    audit.entity(),
+                    audit.action(),
+                    entityId,
+                    description,
+                    status,
+                    errorMessage,
+                    payloadRequestBody,
+                    toJson(result),
+                    LocalDateTime.now()));
         } catch (Exception e) {
             log.error("AuditAspect: failed to save log - {}", e.getMessage());
         }
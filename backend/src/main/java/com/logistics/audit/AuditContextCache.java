@@ -0,0 +1,52 @@
+package com.logistics.audit;
+
+import com.logistics.cache.BoundedTtlCache;
+import com.logistics.config.properties.AuditProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cache ngữ cảnh (user tồn tại, shop, bưu cục) theo cặp (user, role) cho {@link AuditLogWriter};
+ * giới hạn {@code contextMaxEntries} để không phình theo số user.
+ */
+@Component
+@RequiredArgsConstructor
+public class AuditContextCache extends BoundedTtlCache<Long, AuditContextCache.Context> {
+
+    private final AuditProperties properties;
+
+    /**
+     * Ngữ cảnh còn hạn của cặp (user, role), hoặc null.
+     */
+    public Context get(long key) {
+        Context cached = lookup(key);
+        if (cached != null) {
+            recordHit();
+        } else {
+            recordMiss();
+        }
+        return cached;
+    }
+
+    public void store(long key, Context context) {
+        put(key, context);
+    }
+
+    @Override
+    public String statsName() {
+        return "Audit Context Cache";
+    }
+
+    @Override
+    protected int maxEntries() {
+        return properties.getContextMaxEntries();
+    }
+
+    @Override
+    protected long ttlMs(Context context) {
+        return properties.getContextTtlMs();
+    }
+
+    record Context(boolean userExists, Integer shopId, Integer officeId) {
+    }
+}
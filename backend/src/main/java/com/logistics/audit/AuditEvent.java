@@ -0,0 +1,25 @@
+package com.logistics.audit;
+
+import com.logistics.enums.AuditLogAction;
+import com.logistics.enums.AuditLogStatus;
+import com.logistics.enums.EntityType;
+
+import java.time.LocalDateTime;
+
+/**
+ * Ảnh chụp bất biến của một lần gọi được audit, tạo trên luồng request.
+ * Payload đã được serialize sẵn nên không còn giữ tham chiếu tới đối tượng của request.
+ */
+public record AuditEvent(
+        Integer userId,
+        Integer roleId,
+        EntityType entity,
+        AuditLogAction action,
+        String entityId,
+        String description,
+        AuditLogStatus status,
+        String errorMessage,
+        String payloadRequestBody,
+        String payloadResult,
+        LocalDateTime createdAt) {
+}
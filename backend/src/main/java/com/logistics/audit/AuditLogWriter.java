@@ -0,0 +1,290 @@
+package com.logistics.audit;
+
+import com.logistics.audit.AuditContextCache.Context;
+import com.logistics.config.properties.AuditProperties;
+import com.logistics.enums.EmployeeStatus;
+import com.logistics.monitoring.StatsSource;
+import com.logistics.repository.EmployeeRepository;
+import com.logistics.repository.RoleRepository;
+import com.logistics.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Ghi audit log bất đồng bộ: AuditAspect chỉ đưa {@link AuditEvent} vào bộ đệm có giới hạn,
+ * một luồng nền gom theo lô, tra ngữ cảnh shop / bưu cục từ cache rồi batch insert audit_logs.
+ * Bộ đệm đầy thì chờ tối đa {@code offerTimeoutMs} rồi bỏ sự kiện (có đếm) để không chặn request.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuditLogWriter implements StatsSource {
+
+    private static final String INSERT_SQL = """
+            insert into audit_logs
+                (user_id, shop_id, office_id, entity, entity_id, action, description, status,
+                 error_message, payload_request_body, payload_result, created_at)
+            values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final int[] INSERT_TYPES = {
+            Types.INTEGER, Types.INTEGER, Types.INTEGER, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR,
+            Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.TIMESTAMP
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final UserRepository userRepository;
+    private final RoleRepository roleRepository;
+    private final EmployeeRepository employeeRepository;
+    private final AuditProperties properties;
+    private final AuditContextCache contexts;
+
+    private final AtomicLong enqueued = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+
+    private BlockingQueue<AuditEvent> buffer;
+    private Thread worker;
+    private volatile boolean running;
+
+    @PostConstruct
+    public void start() {
+        buffer = new ArrayBlockingQueue<>(Math.max(1, properties.getBufferCapacity()));
+        running = true;
+        worker = new Thread(this::run, "audit-writer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * Đưa sự kiện vào bộ đệm. Không bao giờ ném lỗi ra luồng request.
+     */
+    public void submit(AuditEvent event) {
+        try {
+            boolean accepted = properties.getOfferTimeoutMs() > 0
+                    ? buffer.offer(event, properties.getOfferTimeoutMs(), TimeUnit.MILLISECONDS)
+                    : buffer.offer(event);
+            if (accepted) {
+                enqueued.incrementAndGet();
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (dropped.incrementAndGet() % 1000 == 1) {
+            log.warn("[Audit] Buffer full, dropped {} events so far ({} {})",
+                    dropped.get(), event.action(), event.entity());
+        }
+    }
+
+    private void run() {
+        int batchSize = Math.max(1, properties.getBatchSize());
+        List<AuditEvent> batch = new ArrayList<>(batchSize);
+
+        while (running || !buffer.isEmpty()) {
+            try {
+                AuditEvent first = buffer.poll(Math.max(10, properties.getFlushIntervalMs()), TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                buffer.drainTo(batch, batchSize - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                failed.addAndGet(batch.size());
+                log.error("[Audit] Failed to write {} events - {}", batch.size(), e.getMessage());
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<AuditEvent> batch) {
+        Map<Long, Context> resolved = resolve(batch);
+
+        List<Object[]> rows = new ArrayList<>(batch.size());
+        for (AuditEvent event : batch) {
+            Context context = event.userId() != null ? resolved.get(key(event.userId(), event.roleId())) : null;
+            // audit_logs.user_id bắt buộc: bỏ sự kiện không xác định được người thực hiện
+            if (context == null || !context.userExists()) {
+                failed.incrementAndGet();
+                continue;
+            }
+            rows.add(new Object[]{
+                    event.userId(),
+                    context.shopId(),
+                    context.officeId(),
+                    event.entity().name(),
+                    event.entityId(),
+                    event.action().name(),
+                    event.description(),
+                    event.status().name(),
+                    event.errorMessage(),
+                    event.payloadRequestBody(),
+                    event.payloadResult(),
+                    Timestamp.valueOf(event.createdAt())
+            });
+        }
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, rows, INSERT_TYPES);
+            written.addAndGet(rows.size());
+        } catch (Exception e) {
+            // Một dòng lỗi không được kéo theo cả lô: ghi lại từng dòng
+            log.warn("[Audit] Batch insert failed, retrying row by row - {}", e.getMessage());
+            for (Object[] row : rows) {
+                try {
+                    jdbcTemplate.update(INSERT_SQL, row, INSERT_TYPES);
+                    written.incrementAndGet();
+                } catch (Exception rowError) {
+                    failed.incrementAndGet();
+                    log.error("[Audit] Failed to save log - {}", rowError.getMessage());
+                }
+            }
+        }
+        batches.incrementAndGet();
+    }
+
+    /**
+     * Ngữ cảnh (user tồn tại, shop, bưu cục) cho các cặp (user, role) trong lô; cặp chưa có trong
+     * cache được tra chung bằng ba truy vấn IN.
+     */
+    private Map<Long, Context> resolve(List<AuditEvent> batch) {
+        Map<Long, Context> result = new HashMap<>();
+        Map<Long, AuditEvent> missing = new HashMap<>();
+
+        for (AuditEvent event : batch) {
+            if (event.userId() == null) {
+                continue;
+            }
+            long key = key(event.userId(), event.roleId());
+            Context cached = contexts.get(key);
+            if (cached != null) {
+                result.put(key, cached);
+            } else {
+                missing.putIfAbsent(key, event);
+            }
+        }
+        if (missing.isEmpty()) {
+            return result;
+        }
+
+        Set<Integer> userIds = new HashSet<>();
+        Set<Integer> roleIds = new HashSet<>();
+        for (AuditEvent event : missing.values()) {
+            userIds.add(event.userId());
+            if (event.roleId() != null) {
+                roleIds.add(event.roleId());
+            }
+        }
+
+        Map<Integer, Integer> shopByUser = new HashMap<>();
+        for (Object[] row : userRepository.findShopIdsByIds(userIds)) {
+            Integer userId = (Integer) row[0];
+            shopByUser.put(userId, row[1] != null ? (Integer) row[1] : userId);
+        }
+
+        // Role hệ thống: không có chủ và không phải role "User"
+        Map<Integer, Boolean> systemRole = new HashMap<>();
+        if (!roleIds.isEmpty()) {
+            for (Object[] row : roleRepository.findOwnershipByIds(roleIds)) {
+                String name = (String) row[1];
+                systemRole.put((Integer) row[0], row[2] == null && !"User".equalsIgnoreCase(name));
+            }
+        }
+
+        Set<Integer> staffIds = new HashSet<>();
+        for (AuditEvent event : missing.values()) {
+            if (Boolean.TRUE.equals(systemRole.get(event.roleId()))) {
+                staffIds.add(event.userId());
+            }
+        }
+        Map<Integer, Integer> officeByUser = new HashMap<>();
+        if (!staffIds.isEmpty()) {
+            for (Object[] row : employeeRepository.findOfficeIdsByUserIdsAndStatus(staffIds, EmployeeStatus.ACTIVE)) {
+                officeByUser.putIfAbsent((Integer) row[0], (Integer) row[1]);
+            }
+        }
+
+        for (Map.Entry<Long, AuditEvent> entry : missing.entrySet()) {
+            AuditEvent event = entry.getValue();
+            boolean userExists = shopByUser.containsKey(event.userId());
+            Boolean system = systemRole.get(event.roleId());
+
+            Integer shopId = null;
+            Integer officeId = null;
+            if (userExists && system != null) {
+                if (system) {
+                    officeId = officeByUser.get(event.userId());
+                } else {
+                    shopId = shopByUser.get(event.userId());
+                }
+            }
+
+            Context context = new Context(userExists, shopId, officeId);
+            contexts.store(entry.getKey(), context);
+            result.put(entry.getKey(), context);
+        }
+        return result;
+    }
+
+    private static long key(Integer userId, Integer roleId) {
+        return ((long) userId << 32) | ((roleId != null ? roleId : 0) & 0xFFFFFFFFL);
+    }
+
+    @Override
+    public String statsName() {
+        return "Audit";
+    }
+
+    /**
+     * Số liệu vận hành của pipeline (đếm tích lũy từ lúc khởi động).
+     */
+    @Override
+    public Map<String, Object> stats() {
+        return Map.of(
+                "enqueued", enqueued.get(),
+                "dropped", dropped.get(),
+                "written", written.get(),
+                "failed", failed.get(),
+                "batches", batches.get(),
+                "bufferSize", buffer.size());
+    }
+
+    @Override
+    public boolean hasActivity() {
+        return enqueued.get() > 0 || dropped.get() > 0;
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        // Luồng ghi tự dừng sau khi đã ghi hết phần còn lại trong bộ đệm
+        running = false;
+        worker.join(30_000);
+    }
+}
@@ -0,0 +1,122 @@
+package com.logistics.cache;
+
+import com.logistics.monitoring.StatsSource;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cache trong bộ nhớ giới hạn {@link #maxEntries()} phần tử theo LRU, mỗi phần tử sống tối đa
+ * {@link #ttlMs(Object)}. Lớp con quyết định thế nào là trúng cache (vd còn đúng version) và tự đếm
+ * qua {@link #recordHit()} / {@link #recordMiss()}; lớp này giữ map, đếm evict, báo số liệu cho
+ * StatsReporter và dọn phần tử hết hạn mỗi 5 phút để không giữ bộ nhớ tới khi bị LRU đẩy ra.
+ */
+public abstract class BoundedTtlCache<K, V> implements StatsSource {
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    private final Map<K, Entry<V>> entries = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+            if (size() > Math.max(1, maxEntries())) {
+                evictions.incrementAndGet();
+                return true;
+            }
+            return false;
+        }
+    };
+
+    /**
+     * Số phần tử tối đa; vượt quá thì bỏ phần tử lâu nhất chưa được đọc.
+     */
+    protected abstract int maxEntries();
+
+    /**
+     * Thời gian sống của phần tử, tính từ lúc lưu.
+     */
+    protected abstract long ttlMs(V value);
+
+    /**
+     * Phần tử còn hạn của key, hoặc null. Không đếm hit / miss.
+     */
+    protected V lookup(K key) {
+        long now = System.currentTimeMillis();
+        synchronized (entries) {
+            Entry<V> entry = entries.get(key);
+            return entry != null && !isExpired(entry, now) ? entry.value() : null;
+        }
+    }
+
+    protected void put(K key, V value) {
+        Entry<V> entry = new Entry<>(value, System.currentTimeMillis());
+        synchronized (entries) {
+            entries.put(key, entry);
+        }
+    }
+
+    protected void remove(K key) {
+        synchronized (entries) {
+            entries.remove(key);
+        }
+    }
+
+    protected void recordHit() {
+        hits.incrementAndGet();
+    }
+
+    protected void recordMiss() {
+        misses.incrementAndGet();
+    }
+
+    /**
+     * Số liệu riêng của lớp con (vd số lần invalidate), thêm vào sau số liệu chung.
+     */
+    protected Map<String, Object> extraStats() {
+        return Map.of();
+    }
+
+    /**
+     * Số liệu cache (đếm tích lũy từ lúc khởi động).
+     */
+    @Override
+    public Map<String, Object> stats() {
+        long hit = hits.get();
+        long total = hit + misses.get();
+        int size;
+        synchronized (entries) {
+            size = entries.size();
+        }
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("hits", hit);
+        stats.put("misses", misses.get());
+        stats.put("hitRate", total > 0 ? Math.round(hit * 10000.0 / total) / 100.0 : 0.0);
+        stats.put("evictions", evictions.get());
+        stats.putAll(extraStats());
+        stats.put("size", size);
+        return stats;
+    }
+
+    @Override
+    public boolean hasActivity() {
+        return hits.get() > 0 || misses.get() > 0;
+    }
+
+    @Scheduled(fixedDelay = 5 * 60 * 1000, initialDelay = 5 * 60 * 1000)
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        synchronized (entries) {
+            entries.values().removeIf(entry -> isExpired(entry, now));
+        }
+    }
+
+    private boolean isExpired(Entry<V> entry, long now) {
+        return now - entry.loadedAt() >= ttlMs(entry.value());
+    }
+
+    private record Entry<V>(V value, long loadedAt) {
+    }
+}
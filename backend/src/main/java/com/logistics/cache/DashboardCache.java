@@ -0,0 +1,109 @@
+package com.logistics.cache;
+
+import com.logistics.config.properties.DashboardCacheProperties;
+import com.logistics.utils.TransactionUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Cache kết quả dashboard và số đơn theo trạng thái, gom theo chủ sở hữu (shop / bưu cục).
+ * Giới hạn {@code maxEntries} theo LRU, mỗi kết quả sống tối đa {@code ttlMs}. Khi đơn của một
+ * shop / bưu cục đổi trạng thái ({@link DashboardCacheListener}) hoặc các bảng nguồn khác của dashboard
+ * thay đổi ({@link DashboardSourceCacheListener}), version của chủ đó tăng sau commit và mọi kết quả cũ
+ * của chủ đó bị bỏ qua ở lần đọc kế tiếp.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DashboardCache extends BoundedTtlCache<DashboardCache.EntryKey, DashboardCache.Entry> {
+
+    public enum Scope {
+        SHOP, OFFICE
+    }
+
+    // Version theo chủ sở hữu; số shop + bưu cục hữu hạn nên không cần dọn
+    private static final Map<Long, Long> OWNER_VERSIONS = new ConcurrentHashMap<>();
+
+    private static final AtomicLong INVALIDATIONS = new AtomicLong();
+
+    private final DashboardCacheProperties properties;
+
+    /**
+     * Bỏ cache của chủ sở hữu sau khi transaction hiện tại commit.
+     */
+    public static void invalidateAfterCommit(Scope scope, Integer ownerId) {
+        if (ownerId == null) {
+            return;
+        }
+        long owner = owner(scope, ownerId);
+        TransactionUtils.runAfterCommit(() -> invalidate(owner));
+    }
+
+    /**
+     * Kết quả còn hạn của (chủ sở hữu, name), hoặc gọi loader và lưu lại.
+     *
+     * @param name tên truy vấn, kèm tham số nếu có (vd khoảng ngày của biểu đồ)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(Scope scope, Integer ownerId, String name, Supplier<T> loader) {
+        if (ownerId == null) {
+            return loader.get();
+        }
+        long owner = owner(scope, ownerId);
+        EntryKey key = new EntryKey(owner, name);
+        // Đọc version trước khi nạp: nếu bị invalidate trong lúc nạp, kết quả lưu lại sẽ lệch version
+        long version = OWNER_VERSIONS.getOrDefault(owner, 0L);
+
+        Entry entry = lookup(key);
+        if (entry != null && entry.version() == version) {
+            recordHit();
+            return (T) entry.value();
+        }
+
+        recordMiss();
+        T value = loader.get();
+        put(key, new Entry(value, version));
+        return value;
+    }
+
+    private static void invalidate(long owner) {
+        OWNER_VERSIONS.merge(owner, 1L, Long::sum);
+        INVALIDATIONS.incrementAndGet();
+    }
+
+    private static long owner(Scope scope, Integer ownerId) {
+        return ((long) scope.ordinal() << 32) | (ownerId & 0xFFFFFFFFL);
+    }
+
+    @Override
+    public String statsName() {
+        return "Dashboard Cache";
+    }
+
+    @Override
+    protected Map<String, Object> extraStats() {
+        return Map.of("invalidations", INVALIDATIONS.get());
+    }
+
+    @Override
+    protected int maxEntries() {
+        return properties.getMaxEntries();
+    }
+
+    @Override
+    protected long ttlMs(Entry entry) {
+        return properties.getTtlMs();
+    }
+
+    record EntryKey(long owner, String name) {
+    }
+
+    record Entry(Object value, long version) {
+    }
+}
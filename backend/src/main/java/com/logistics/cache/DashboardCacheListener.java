@@ -0,0 +1,49 @@
+package com.logistics.cache;
+
+import com.logistics.cache.DashboardCache.Scope;
+import com.logistics.entity.Office;
+import com.logistics.entity.Order;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+import java.util.Objects;
+
+/**
+ * Entity listener cho Order: đơn mới, đơn bị xóa hoặc đơn đổi trạng thái / bưu cục hiện tại
+ * làm mới DashboardCache của shop và các bưu cục liên quan (kể cả bưu cục hiện tại trước đó).
+ * Cập nhật không đổi trạng thái (ghi chú, cờ thông báo...) không làm mất cache.
+ */
+public class DashboardCacheListener {
+
+    @PostPersist
+    @PostRemove
+    public void onCreateOrDelete(Order order) {
+        invalidate(order);
+    }
+
+    @PostUpdate
+    public void onUpdate(Order order) {
+        boolean statusChanged = order.getStatus() != order.getLoadedStatus();
+        boolean officeChanged = !Objects.equals(officeId(order.getCurrentOffice()), order.getLoadedCurrentOfficeId());
+        if (statusChanged || officeChanged) {
+            invalidate(order);
+        }
+    }
+
+    private static void invalidate(Order order) {
+        if (order.getUser() != null) {
+            DashboardCache.invalidateAfterCommit(Scope.SHOP, order.getUser().getId());
+        }
+        DashboardCache.invalidateAfterCommit(Scope.OFFICE, officeId(order.getFromOffice()));
+        DashboardCache.invalidateAfterCommit(Scope.OFFICE, officeId(order.getToOffice()));
+        DashboardCache.invalidateAfterCommit(Scope.OFFICE, officeId(order.getCurrentOffice()));
+        if (!Objects.equals(order.getLoadedCurrentOfficeId(), officeId(order.getCurrentOffice()))) {
+            DashboardCache.invalidateAfterCommit(Scope.OFFICE, order.getLoadedCurrentOfficeId());
+        }
+    }
+
+    private static Integer officeId(Office office) {
+        return office != null ? office.getId() : null;
+    }
+}
@@ -0,0 +1,59 @@
+package com.logistics.cache;
+
+import com.logistics.cache.DashboardCache.Scope;
+import com.logistics.entity.Employee;
+import com.logistics.entity.IncidentReport;
+import com.logistics.entity.Office;
+import com.logistics.entity.PaymentSubmissionBatch;
+import com.logistics.entity.Product;
+import com.logistics.entity.Shipment;
+import com.logistics.entity.ShippingRequest;
+import com.logistics.entity.Vehicle;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * Entity listener cho các bảng nguồn của dashboard ngoài Order: sản phẩm làm mới cache của shop,
+ * phương tiện / nhân viên / yêu cầu / chuyến hàng / phiên nộp tiền / sự cố làm mới cache của bưu cục.
+ * Entity chuyển bưu cục làm mới cả bưu cục lúc nạp entity.
+ */
+public class DashboardSourceCacheListener {
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        switch (entity) {
+            case Product product -> {
+                if (product.getUser() != null) {
+                    DashboardCache.invalidateAfterCommit(Scope.SHOP, product.getUser().getId());
+                }
+            }
+            case Vehicle vehicle -> invalidateOffices(vehicle.getOffice(), vehicle.getLoadedOfficeId());
+            case Employee employee -> invalidateOffices(employee.getOffice(), employee.getLoadedOfficeId());
+            case ShippingRequest request -> invalidateOffices(request.getOffice(), request.getLoadedOfficeId());
+            case Shipment shipment -> {
+                invalidateOffice(shipment.getFromOffice());
+                invalidateOffice(shipment.getToOffice());
+            }
+            case PaymentSubmissionBatch batch -> invalidateOffice(batch.getOffice());
+            case IncidentReport incident -> invalidateOffice(incident.getOffice());
+            default -> {
+            }
+        }
+    }
+
+    private static void invalidateOffices(Office office, Integer loadedOfficeId) {
+        invalidateOffice(office);
+        if (office == null || !office.getId().equals(loadedOfficeId)) {
+            DashboardCache.invalidateAfterCommit(Scope.OFFICE, loadedOfficeId);
+        }
+    }
+
+    private static void invalidateOffice(Office office) {
+        if (office != null) {
+            DashboardCache.invalidateAfterCommit(Scope.OFFICE, office.getId());
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.logistics.cache;
+
+import com.logistics.config.properties.TrackingCacheProperties;
+import com.logistics.dto.OrderHistoryDto;
+import com.logistics.utils.TransactionUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+/**
+ * Cache hành trình công khai theo mã vận đơn. Giới hạn {@code maxEntries} theo LRU, mỗi hành trình
+ * sống tối đa {@code ttlMs}; ghi thêm lịch sử cho đơn thì hành trình cũ bị bỏ sau commit. Mã vận đơn
+ * không tồn tại cũng được nhớ trong {@code notFoundTtlMs} để tra cứu sai lặp lại không chạm DB. Nhiều
+ * request cùng trượt cache của một mã chỉ nạp DB một lần, các request còn lại chờ kết quả đó.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TrackingTimelineCache extends BoundedTtlCache<String, TrackingTimelineCache.Entry> {
+
+    /**
+     * Hành trình đã dựng sẵn cùng ETag / Last-Modified (epoch millis, -1 nếu chưa có lịch sử).
+     */
+    public record Timeline(List<OrderHistoryDto> histories, String etag, long lastModified) {
+    }
+
+    // Version theo nhóm mã vận đơn: bộ nhớ cố định, hai mã chung nhóm chỉ làm nạp lại thừa một lần
+    private static final int VERSION_STRIPES = 4096;
+    private static final AtomicLongArray STRIPE_VERSIONS = new AtomicLongArray(VERSION_STRIPES);
+
+    private static final AtomicLong INVALIDATIONS = new AtomicLong();
+
+    private final TrackingCacheProperties properties;
+
+    private final Map<String, Load> loading = new ConcurrentHashMap<>();
+
+    /**
+     * Mã vận đơn dạng chuẩn để dùng làm khóa cache (tra cứu không phân biệt hoa thường).
+     */
+    public static String key(String trackingNumber) {
+        return trackingNumber.trim().toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * Bỏ hành trình đã cache của mã vận đơn sau khi transaction hiện tại commit.
+     */
+    public static void invalidateAfterCommit(String trackingNumber) {
+        if (trackingNumber == null) {
+            return;
+        }
+        int stripe = stripe(key(trackingNumber));
+        TransactionUtils.runAfterCommit(() -> invalidate(stripe));
+    }
+
+    /**
+     * Hành trình còn hạn của mã vận đơn, hoặc gọi loader và lưu lại. Loader trả null khi mã vận đơn
+     * không tồn tại: kết quả null cũng được lưu (hạn {@code notFoundTtlMs}) và trả về null. Loader
+     * ném lỗi thì không lưu gì.
+     */
+    public Timeline get(String trackingNumber, Supplier<Timeline> loader) {
+        String key = key(trackingNumber);
+        int stripe = stripe(key);
+        // Đọc version trước khi nạp: nếu bị invalidate trong lúc nạp, kết quả lưu lại sẽ lệch version
+        long version = STRIPE_VERSIONS.get(stripe);
+
+        Entry entry = lookup(key);
+        if (entry != null && entry.version() == version) {
+            recordHit();
+            return entry.timeline();
+        }
+
+        Load mine = new Load(version, new CompletableFuture<>());
+        Load inFlight = loading.putIfAbsent(key, mine);
+        if (inFlight != null && inFlight.version() == version) {
+            recordHit();
+            return await(inFlight);
+        }
+
+        recordMiss();
+        try {
+            Timeline timeline = loader.get();
+            put(key, new Entry(timeline, version));
+            mine.result().complete(timeline);
+            return timeline;
+        } catch (RuntimeException e) {
+            mine.result().completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(key, mine);
+        }
+    }
+
+    private static Timeline await(Load inFlight) {
+        try {
+            return inFlight.result().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static void invalidate(int stripe) {
+        STRIPE_VERSIONS.incrementAndGet(stripe);
+        INVALIDATIONS.incrementAndGet();
+    }
+
+    private static int stripe(String key) {
+        return (key.hashCode() & 0x7FFFFFFF) % VERSION_STRIPES;
+    }
+
+    @Override
+    public String statsName() {
+        return "Tracking Cache";
+    }
+
+    @Override
+    protected Map<String, Object> extraStats() {
+        return Map.of("invalidations", INVALIDATIONS.get());
+    }
+
+    @Override
+    protected int maxEntries() {
+        return properties.getMaxEntries();
+    }
+
+    @Override
+    protected long ttlMs(Entry entry) {
+        return entry.timeline() != null ? properties.getTtlMs() : properties.getNotFoundTtlMs();
+    }
+
+    // timeline null: mã vận đơn không tồn tại
+    record Entry(Timeline timeline, long version) {
+    }
+
+    // Lượt nạp đang chạy; request đọc version mới hơn (đã có lịch sử mới) không dùng lại kết quả của nó
+    private record Load(long version, CompletableFuture<Timeline> result) {
+    }
+}
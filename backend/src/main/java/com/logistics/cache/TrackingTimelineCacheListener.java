@@ -0,0 +1,22 @@
+package com.logistics.cache;
+
+import com.logistics.entity.OrderHistory;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * Entity listener cho OrderHistory: lịch sử được ghi, sửa hoặc xóa thì hành trình công khai của
+ * đơn trong TrackingTimelineCache bị bỏ sau commit.
+ */
+public class TrackingTimelineCacheListener {
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(OrderHistory history) {
+        if (history.getOrder() != null) {
+            TrackingTimelineCache.invalidateAfterCommit(history.getOrder().getTrackingNumber());
+        }
+    }
+}
@@ -1,11 +1,10 @@
 package com.logistics.config;
 
 import com.logistics.entity.Account;
-import com.logistics.entity.PermissionGroupApi;
 import com.logistics.entity.Role;
 import com.logistics.entity.User;
+import com.logistics.security.PermissionAuthorityCache;
 import com.logistics.security.UserPrincipal;
-import com.logistics.service.common.RoleService;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
@@ -35,7 +34,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final Key key;
 
     @Autowired
-    private RoleService roleService;
+    private PermissionAuthorityCache permissionAuthorityCache;
 
     public JwtAuthenticationFilter(@Value("${jwt.secret}") String secret) {
         this.key = Keys.hmacShaKeyFor(secret.getBytes());
@@ -94,17 +93,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
                         roleId = (Integer) accountMap.get("roleId");
 
-                        Role role = roleService.findByIdWithPermissionGroups(roleId);
-                        role.getPermissionGroups().stream()
-                                .flatMap(group -> group.getPermissionGroupApis().stream())
-                                .map(PermissionGroupApi::getPermissionApi)
-                                .filter(api -> api != null
-                                        && api.getUrl() != null
-                                        && api.getMethod() != null
-                                        && Boolean.TRUE.equals(api.getIsActive()))
-                                .forEach(api -> authorities.add(
-                                        new SimpleGrantedAuthority(api.getMethod().toUpperCase() + "::" + api.getUrl())
-                                ));
+                        authorities.addAll(permissionAuthorityCache.authorities(roleId));
                     }
 
                     Account account = new Account();
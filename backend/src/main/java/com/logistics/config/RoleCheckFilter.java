@@ -1,27 +1,24 @@
 package com.logistics.config;
 
 import com.logistics.entity.Role;
-import com.logistics.entity.User;
-import com.logistics.repository.UserRepository;
+import com.logistics.security.PermissionAuthorityCache;
 import com.logistics.utils.SecurityUtils;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
-import org.springframework.util.AntPathMatcher;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Set;
 
 @Component
 public class RoleCheckFilter extends OncePerRequestFilter {
 
     @Autowired
-    private UserRepository userRepository;
+    private PermissionAuthorityCache permissionAuthorityCache;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -62,15 +59,17 @@ public class RoleCheckFilter extends OncePerRequestFilter {
 
         request.setAttribute("currentUserId", userId);
 
-        // Notification: chỉ cần đăng nhập, không cần check permission
-        if (path.equals("/api/notifications") || path.startsWith("/api/notifications/")) {
+        // Notification, export job, báo giá hàng loạt: chỉ cần đăng nhập, không cần check permission
+        // (job xuất file chỉ trả về cho đúng người tạo)
+        if (path.equals("/api/notifications") || path.startsWith("/api/notifications/")
+                || path.startsWith("/api/export-jobs/") || path.equals("/api/fees/quotes")) {
             filterChain.doFilter(request, response);
             return;
         }
 
-        // Kiểm tra user + account tồn tại
-        User user = userRepository.findByIdWithRoles(userId).orElse(null);
-        if (user == null || user.getAccount() == null || user.getAccount().getAccountRoles() == null) {
+        // Kiểm tra user + account tồn tại (role active của user được cache theo version quyền)
+        Set<Integer> activeRoleIds = permissionAuthorityCache.activeRoleIds(userId);
+        if (activeRoleIds == null) {
             response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
             response.getWriter().write("User hoặc account không tồn tại");
             return;
@@ -87,10 +86,7 @@ public class RoleCheckFilter extends OncePerRequestFilter {
         Integer currentRoleId = currentRole.getId();
 
         // Kiểm tra role có thuộc account và đang active không
-        boolean roleBelongsToAccount = user.getAccount().getAccountRoles().stream()
-                .anyMatch(ar -> ar.getRole() != null
-                        && ar.getIsActive()
-                        && currentRoleId.equals(ar.getRole().getId()));
+        boolean roleBelongsToAccount = activeRoleIds.contains(currentRoleId);
 
         if (!roleBelongsToAccount) {
             response.setStatus(HttpServletResponse.SC_FORBIDDEN);
@@ -101,23 +97,8 @@ public class RoleCheckFilter extends OncePerRequestFilter {
         request.setAttribute("currentRoleName", currentRole.getName());
         request.setAttribute("currentRoleId", currentRoleId);
 
-        // Kiểm tra permission theo url + method từ authorities đã load trong JWT filter
-        AntPathMatcher matcher = new AntPathMatcher();
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-
-        boolean hasPermission = auth.getAuthorities().stream()
-                .map(a -> a.getAuthority())
-                .filter(a -> a.contains("::"))
-                .anyMatch(a -> {
-                    String[] parts = a.split("::", 2);
-                    if (!parts[0].equalsIgnoreCase(requestMethod)) {
-                        return false;
-                    }
-                    String permUrl = parts[1].trim();
-                    return matcher.match(permUrl, path)
-                            || matcher.match(permUrl, path.replaceFirst("^/api", ""))
-                            || matcher.match(permUrl.replaceFirst("^/api", ""), path);
-                });
+        // Kiểm tra permission theo url + method trên chỉ mục pattern đã biên dịch của role
+        boolean hasPermission = permissionAuthorityCache.hasPermission(currentRoleId, requestMethod, path);
 
         if (!hasPermission) {
             response.setStatus(HttpServletResponse.SC_FORBIDDEN);
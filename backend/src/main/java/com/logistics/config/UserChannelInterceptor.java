@@ -2,7 +2,13 @@ package com.logistics.config;
 
 import com.logistics.entity.SupportTicket;
 import com.logistics.repository.AccountRepository;
+import com.logistics.repository.OfficeRepository;
 import com.logistics.repository.SupportTicketRepository;
+import com.logistics.security.StompPrincipal;
+import com.logistics.telemetry.LiveFleetBroadcaster;
+import com.logistics.utils.JwtUtils;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
 import org.springframework.messaging.simp.stomp.StompCommand;
@@ -11,19 +17,25 @@ import org.springframework.messaging.support.ChannelInterceptor;
 import org.springframework.messaging.support.MessageHeaderAccessor;
 import org.springframework.stereotype.Component;
 
-import java.security.Principal;
 import java.util.List;
+import java.util.Map;
 
 @Component
 public class UserChannelInterceptor implements ChannelInterceptor {
 
     private final SupportTicketRepository supportTicketRepository;
     private final AccountRepository accountRepository;
+    private final OfficeRepository officeRepository;
+    private final JwtUtils jwtUtils;
 
     public UserChannelInterceptor(SupportTicketRepository supportTicketRepository,
-            AccountRepository accountRepository) {
+            AccountRepository accountRepository,
+            OfficeRepository officeRepository,
+            JwtUtils jwtUtils) {
         this.supportTicketRepository = supportTicketRepository;
         this.accountRepository = accountRepository;
+        this.officeRepository = officeRepository;
+        this.jwtUtils = jwtUtils;
     }
 
     @Override
@@ -33,16 +45,24 @@ public class UserChannelInterceptor implements ChannelInterceptor {
             return message;
         }
 
+        // Người dùng của phiên chỉ lấy từ JWT của frame CONNECT, các frame sau dùng lại
+        if (StompCommand.CONNECT.equals(accessor.getCommand()) || StompCommand.STOMP.equals(accessor.getCommand())) {
+            accessor.setUser(authenticate(accessor.getFirstNativeHeader("Authorization")));
+            return message;
+        }
+
         if (StompCommand.SUBSCRIBE.equals(accessor.getCommand())) {
-            Principal principal = accessor.getUser();
+            if (!(accessor.getUser() instanceof StompPrincipal principal)) {
+                throw new IllegalArgumentException("Unauthenticated subscription");
+            }
             String destination = accessor.getDestination();
-            if (principal == null || principal.getName() == null || destination == null) {
+            if (destination == null) {
                 return message;
             }
 
             if (destination.startsWith("/topic/support/")) {
                 try {
-                    Integer accountId = Integer.parseInt(principal.getName());
+                    Integer accountId = principal.accountId();
                     String suffix = destination.substring("/topic/support/".length());
                     Integer ticketId = Integer.parseInt(suffix);
 
@@ -62,8 +82,39 @@ public class UserChannelInterceptor implements ChannelInterceptor {
                     throw ex instanceof RuntimeException ? (RuntimeException) ex : new RuntimeException(ex);
                 }
             }
+
+            // Vị trí đội xe: chỉ trưởng bưu cục của chính bưu cục đó
+            if (destination.startsWith(LiveFleetBroadcaster.TOPIC_PREFIX)) {
+                Integer userId = principal.userId();
+                Integer officeId = Integer.parseInt(destination.substring(LiveFleetBroadcaster.TOPIC_PREFIX.length()));
+                if (!officeRepository.isManagedByUser(officeId, userId)) {
+                    throw new IllegalArgumentException("Forbidden fleet subscription");
+                }
+            }
         }
 
         return message;
     }
+
+    private StompPrincipal authenticate(String authHeader) {
+        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+            throw new IllegalArgumentException("Missing websocket token");
+        }
+        Claims claims;
+        try {
+            claims = jwtUtils.parseClaims(authHeader.substring(7));
+        } catch (JwtException | IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Invalid or expired token");
+        }
+        Integer userId = claimId(claims.get("user"));
+        Integer accountId = claimId(claims.get("account"));
+        if (userId == null || accountId == null) {
+            throw new IllegalArgumentException("Invalid or expired token");
+        }
+        return new StompPrincipal(userId, accountId);
+    }
+
+    private static Integer claimId(Object claim) {
+        return claim instanceof Map<?, ?> map && map.get("id") instanceof Number id ? id.intValue() : null;
+    }
 }
@@ -0,0 +1,24 @@
+package com.logistics.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "logistics.audit")
+public class AuditProperties {
+    // Sức chứa bộ đệm sự kiện audit giữa request và luồng ghi
+    private int bufferCapacity = 10000;
+
+    // Bộ đệm đầy: chờ tối đa bấy nhiêu ms rồi bỏ sự kiện (0 = bỏ ngay)
+    private long offerTimeoutMs = 20;
+
+    // Số dòng audit_logs tối đa mỗi lần batch insert và thời gian chờ khi bộ đệm rỗng
+    private int batchSize = 200;
+    private long flushIntervalMs = 1000;
+
+    // Thời gian cache và số cặp tối đa trong cache ngữ cảnh shop / bưu cục của (user, role)
+    private long contextTtlMs = 600000;
+    private int contextMaxEntries = 10000;
+}
@@ -0,0 +1,20 @@
+package com.logistics.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "logistics.auto-assign")
+public class AutoAssignProperties {
+    private boolean enabled = true;
+
+    // Trọng số chấm điểm shipper (điểm càng thấp càng ưu tiên)
+    private double loadWeight = 0.4;
+    private double capacityWeight = 0.3;
+    private double distanceWeight = 0.3;
+
+    // Khoảng cách (km) được coi là xa tối đa khi chuẩn hóa điểm khoảng cách
+    private double distanceCapKm = 20;
+}
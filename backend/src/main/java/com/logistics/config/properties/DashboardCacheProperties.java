@@ -0,0 +1,16 @@
+package com.logistics.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "logistics.dashboard-cache")
+public class DashboardCacheProperties {
+    // Số kết quả tối đa giữ trong cache, vượt quá thì bỏ kết quả lâu không dùng nhất
+    private int maxEntries = 5000;
+
+    // Thời gian sống tối đa của một kết quả; đơn đổi trạng thái thì bị bỏ ngay sau commit
+    private long ttlMs = 60000;
+}
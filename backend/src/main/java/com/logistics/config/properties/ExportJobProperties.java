@@ -0,0 +1,23 @@
+package com.logistics.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "logistics.export-job")
+public class ExportJobProperties {
+    // Thư mục lưu file xuất
+    private String directory = "exports";
+
+    // Pool sinh file: số luồng và số job chờ tối đa
+    private int workerThreads = 2;
+    private int queueCapacity = 50;
+
+    // Số job đang chờ / chạy tối đa của một shop hoặc một bưu cục
+    private int maxActivePerScope = 2;
+
+    // Thời gian giữ file sau khi xuất xong
+    private int retentionHours = 24;
+}
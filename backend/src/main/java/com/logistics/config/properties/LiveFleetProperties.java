@@ -0,0 +1,19 @@
+package com.logistics.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "logistics.live-fleet")
+public class LiveFleetProperties {
+    // Số xe tối đa giữ vị trí trực tiếp trong bộ nhớ (kích thước các mảng của store)
+    private int maxVehicles = 20000;
+
+    // Nhịp đẩy thay đổi vị trí qua /topic/fleet/{officeId}, trên luồng live-fleet riêng
+    private long broadcastIntervalMs = 1000;
+
+    // Xe không gửi vị trí lâu hơn mức này không còn nằm trong ảnh chụp bản đồ của bưu cục
+    private long staleAfterMs = 1800000;
+}
@@ -0,0 +1,17 @@
+package com.logistics.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "logistics.notification")
+public class NotificationProperties {
+    // Số dòng notifications mỗi lần batch insert
+    private int batchSize = 500;
+
+    // Pool đẩy STOMP: số luồng và sức chứa hàng đợi (đầy thì luồng gọi tự đẩy)
+    private int pushThreads = 2;
+    private int pushQueueCapacity = 10000;
+}
@@ -0,0 +1,16 @@
+package com.logistics.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "logistics.report-cube")
+public class ReportCubeProperties {
+    // Chu kỳ dựng lại các ngày có đơn / dòng tiền vừa thay đổi
+    private long refreshIntervalMs = 30000;
+
+    // Đối soát hằng đêm: dựng lại bấy nhiêu ngày gần nhất
+    private int reconcileDays = 35;
+}
@@ -10,4 +10,12 @@ import org.springframework.context.annotation.Configuration;
 public class SettlementProperties {
     private long warningOverHours;
     private long lockOverHours;
-}
\ No newline at end of file
+
+    // Job đối soát tự động: số worker song song, số shop mỗi partition, số lần thử lại shop lỗi
+    private int workerThreads = 4;
+    private int partitionSize = 20;
+    private int maxAttempts = 3;
+
+    // Thời gian chờ trước mỗi lượt chạy lại các shop lỗi trong cùng một lượt đối soát
+    private long retryBackoffMs = 30000;
+}
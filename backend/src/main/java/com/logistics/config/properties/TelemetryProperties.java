@@ -0,0 +1,24 @@
+package com.logistics.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "logistics.telemetry")
+public class TelemetryProperties {
+    // Số điểm GPS tối đa chờ ghi; đầy thì bỏ điểm mới (vị trí hiện tại của xe vẫn được cập nhật)
+    private int bufferCapacity = 200000;
+
+    // Số dòng vehicle_trackings tối đa mỗi lần batch insert và nhịp ghi khi bộ đệm vơi
+    private int batchSize = 1000;
+    private long flushIntervalMs = 500;
+
+    // Chu kỳ ghi vị trí hiện tại trong bộ nhớ xuống bảng vehicles
+    private long positionWriteBackMs = 15000;
+
+    // Thời gian cache và số chuyến tối đa trong cache (tài xế, xe) của chuyến hàng dùng để kiểm tra quyền gửi vị trí
+    private long assignmentTtlMs = 30000;
+    private int assignmentMaxEntries = 10000;
+}
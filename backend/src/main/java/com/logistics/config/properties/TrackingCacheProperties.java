@@ -0,0 +1,19 @@
+package com.logistics.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "logistics.tracking-cache")
+public class TrackingCacheProperties {
+    // Số mã vận đơn tối đa giữ hành trình trong cache, vượt quá thì bỏ mã lâu không được tra cứu nhất
+    private int maxEntries = 20000;
+
+    // Thời gian sống tối đa của một hành trình; có lịch sử mới thì bị bỏ ngay sau commit
+    private long ttlMs = 30000;
+
+    // Thời gian nhớ mã vận đơn không tồn tại; đơn mới được tạo sẽ ghi lịch sử nên cũng bỏ ngay sau commit
+    private long notFoundTtlMs = 10000;
+}
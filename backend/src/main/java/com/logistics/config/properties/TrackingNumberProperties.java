@@ -0,0 +1,13 @@
+package com.logistics.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "logistics.tracking-number")
+public class TrackingNumberProperties {
+    // Số mã vận đơn mỗi node thuê trong một lần ghi DB; khối dùng dở khi node tắt thì bỏ qua
+    private int blockSize = 1000;
+}
@@ -0,0 +1,30 @@
+package com.logistics.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "logistics.trajectory")
+public class TrajectoryProperties {
+    // Sai số rút gọn nền khi nén lộ trình (m) và độ phân giải mặc định khi đọc
+    private double toleranceMeters = 5.0;
+
+    // Chu kỳ nén lộ trình các chuyến đã kết thúc, số chuyến mỗi lô
+    private long compressIntervalMs = 300000;
+    private int compressBatchSize = 50;
+
+    // Chờ sau khi chuyến kết thúc để các điểm GPS còn trong bộ đệm kịp ghi xuống
+    private long finishGraceMs = 120000;
+
+    // Số điểm gốc tối đa đọc cho chuyến chưa nén (chuyến đang chạy)
+    private int maxRawPoints = 20000;
+
+    // Số ngày giữ điểm GPS gốc và số ngày tạo sẵn phân vùng phía trước
+    private int retentionDays = 30;
+    private int partitionAheadDays = 7;
+
+    // Tắt với database không phải MySQL (profile test)
+    private boolean partitionMaintenanceEnabled = true;
+}
@@ -9,19 +9,16 @@ import com.logistics.request.manager.audit.AuditLogSearchRequest;
 import com.logistics.response.ApiResponse;
 import com.logistics.response.ListResponse;
 import com.logistics.service.admin.AuditLogAdminService;
+import com.logistics.service.common.excel.ExcelExporter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
-
 @RequiredArgsConstructor
 @RestController
 @RequestMapping("/api/admin/logs")
@@ -45,21 +42,9 @@ public class AuditLogAdminController {
             action = AuditLogAction.EXPORT,
             description = AuditLogDescriptionConstant.AUDIT_LOG_EXPORT
     )
-    public ResponseEntity<byte[]> export(AuditLogSearchRequest auditLogSearchRequest) throws Exception {
-
-        byte[] data = service.export(auditLogSearchRequest);
-
-        String fileName = "UTE Logistics_Báo cáo lịch sử hoạt động của hệ thống.xlsx";
-        String encodedFileName = URLEncoder.encode(fileName, StandardCharsets.UTF_8.toString())
-                .replaceAll("\\+", "%20");
-
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_OCTET_STREAM);
-        headers.add(HttpHeaders.CONTENT_DISPOSITION,
-                "attachment; filename*=UTF-8''" + encodedFileName);
+    public void export(AuditLogSearchRequest auditLogSearchRequest, HttpServletResponse response) throws Exception {
 
-        return ResponseEntity.ok()
-                .headers(headers)
-                .body(data);
+        ExcelExporter.prepareDownload(response, "UTE Logistics_Báo cáo lịch sử hoạt động của hệ thống.xlsx");
+        service.export(auditLogSearchRequest, response.getOutputStream());
     }
-}
\ No newline at end of file
+}
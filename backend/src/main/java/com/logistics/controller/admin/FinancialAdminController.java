@@ -12,11 +12,11 @@ import com.logistics.request.admin.CreatePaymentSubmissionRequest;
 import com.logistics.response.ApiResponse;
 import com.logistics.response.ListResponse;
 import com.logistics.service.admin.FinancialAdminService;
+import com.logistics.service.common.excel.ExcelExporter;
 import com.logistics.utils.SecurityUtils;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -37,12 +37,14 @@ public class FinancialAdminController {
 
     @GetMapping("/submissions")
     public ResponseEntity<ApiResponse<ListResponse<AdminPaymentSubmissionListDto>>> listSubmissions(
-            @RequestParam(required = false) String status) {
+            @RequestParam(required = false) String status,
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "200") int limit) {
         if (isNotAdmin()) {
             throw new AppException(CommonErrorCode.FORBIDDEN);
         }
 
-        return ResponseEntity.ok(ApiResponse.success(service.listSubmissions(status)));
+        return ResponseEntity.ok(ApiResponse.success(service.listSubmissions(status, page, limit)));
     }
 
     @PutMapping("/submissions/{id}")
@@ -115,21 +117,19 @@ public class FinancialAdminController {
             action = AuditLogAction.EXPORT,
             description = AuditLogDescriptionConstant.PAYMENT_SUBMISSION_BATCH_EXPORT
     )
-    public ResponseEntity<byte[]> exportBatches(
+    public void exportBatches(
             @RequestParam(defaultValue = "1") int page,
             @RequestParam(defaultValue = "50") int limit,
             @RequestParam(required = false) String search,
             @RequestParam(required = false) String status,
-            @RequestParam(required = false) Integer shipperId) {
+            @RequestParam(required = false) Integer shipperId,
+            HttpServletResponse response) throws Exception {
         if (isNotAdmin()) {
-            return ResponseEntity.status(403).build();
+            response.setStatus(HttpServletResponse.SC_FORBIDDEN);
+            return;
         }
-        byte[] data = service.exportBatches(page, limit, search, status, shipperId);
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"));
-        String fileName = "batches_export.xlsx";
-        headers.add(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"");
-        return ResponseEntity.ok().headers(headers).body(data);
+        ExcelExporter.prepareDownload(response, "batches_export.xlsx");
+        service.exportBatches(page, limit, search, status, shipperId, response.getOutputStream());
     }
 
     @GetMapping("/submissions/export")
@@ -138,16 +138,14 @@ public class FinancialAdminController {
             action = AuditLogAction.EXPORT,
             description = AuditLogDescriptionConstant.PAYMENT_SUBMISSION_EXPORT
     )
-    public ResponseEntity<byte[]> exportSubmissions(@RequestParam(required = false) String status,
-                                                    @RequestParam(required = false) String search) {
+    public void exportSubmissions(@RequestParam(required = false) String status,
+                                  @RequestParam(required = false) String search,
+                                  HttpServletResponse response) throws Exception {
         if (isNotAdmin()) {
-            return ResponseEntity.status(403).build();
+            response.setStatus(HttpServletResponse.SC_FORBIDDEN);
+            return;
         }
-        byte[] data = service.exportSubmissions(status, search);
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"));
-        String fileName = "submissions_export.xlsx";
-        headers.add(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"");
-        return ResponseEntity.ok().headers(headers).body(data);
+        ExcelExporter.prepareDownload(response, "submissions_export.xlsx");
+        service.exportSubmissions(status, search, response.getOutputStream());
     }
 }
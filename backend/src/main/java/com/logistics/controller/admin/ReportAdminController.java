@@ -3,7 +3,9 @@ package com.logistics.controller.admin;
 import com.logistics.dto.admin.*;
 import com.logistics.response.ApiResponse;
 import com.logistics.service.admin.ReportAdminService;
+import com.logistics.service.common.excel.ExcelExporter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.format.annotation.DateTimeFormat;
@@ -196,68 +198,58 @@ public class ReportAdminController {
     }
 
     @GetMapping("/operations/export")
-    public ResponseEntity<byte[]> exportOperations(
+    public void exportOperations(
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate start,
-            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate end) {
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate end,
+            HttpServletResponse response) throws Exception {
         LocalDate s = start == null ? LocalDate.now().minusDays(30) : start;
         LocalDate e = end == null ? LocalDate.now() : end;
-        byte[] data = reportService.exportOperationsXlsx(s.atStartOfDay(), e.atTime(LocalTime.MAX));
-        return ResponseEntity.ok()
-                .header("Content-Disposition", "attachment; filename=operations_report.xlsx")
-                .header("Content-Type", "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet")
-                .body(data);
+        ExcelExporter.prepareDownload(response, "operations_report.xlsx");
+        reportService.exportOperationsXlsx(s.atStartOfDay(), e.atTime(LocalTime.MAX), response.getOutputStream());
     }
 
         @GetMapping("/overview/export")
-        public ResponseEntity<byte[]> exportOverview(
+        public void exportOverview(
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate start,
-            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate end) {
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate end,
+            HttpServletResponse response) throws Exception {
         LocalDate s = start == null ? LocalDate.now().minusDays(30) : start;
         LocalDate e = end == null ? LocalDate.now() : end;
-        byte[] data = reportService.exportOverviewXlsx(s.atStartOfDay(), e.atTime(LocalTime.MAX));
-        return ResponseEntity.ok()
-            .header("Content-Disposition", "attachment; filename=overview_report.xlsx")
-            .header("Content-Type", "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet")
-            .body(data);
+        ExcelExporter.prepareDownload(response, "overview_report.xlsx");
+        reportService.exportOverviewXlsx(s.atStartOfDay(), e.atTime(LocalTime.MAX), response.getOutputStream());
         }
 
         @GetMapping("/offices/export")
-        public ResponseEntity<byte[]> exportOfficesDetailed(
+        public void exportOfficesDetailed(
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate start,
-            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate end) {
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate end,
+            HttpServletResponse response) throws Exception {
         LocalDate s = start == null ? LocalDate.now().minusDays(30) : start;
         LocalDate e = end == null ? LocalDate.now() : end;
-        byte[] data = reportService.exportOfficesDetailedXlsx(s.atStartOfDay(), e.atTime(LocalTime.MAX));
-        return ResponseEntity.ok()
-            .header("Content-Disposition", "attachment; filename=offices_detailed_report.xlsx")
-            .header("Content-Type", "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet")
-            .body(data);
+        ExcelExporter.prepareDownload(response, "offices_detailed_report.xlsx");
+        reportService.exportOfficesDetailedXlsx(s.atStartOfDay(), e.atTime(LocalTime.MAX), response.getOutputStream());
         }
 
         @GetMapping("/shippers/export")
-        public ResponseEntity<byte[]> exportShippersDetailed(
+        public void exportShippersDetailed(
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate start,
-            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate end) {
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate end,
+            HttpServletResponse response) throws Exception {
         LocalDate s = start == null ? LocalDate.now().minusDays(30) : start;
         LocalDate e = end == null ? LocalDate.now() : end;
-        byte[] data = reportService.exportShippersDetailedXlsx(s.atStartOfDay(), e.atTime(LocalTime.MAX));
-        return ResponseEntity.ok()
-            .header("Content-Disposition", "attachment; filename=shippers_detailed_report.xlsx")
-            .header("Content-Type", "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet")
-            .body(data);
+        ExcelExporter.prepareDownload(response, "shippers_detailed_report.xlsx");
+        reportService.exportShippersDetailedXlsx(s.atStartOfDay(), e.atTime(LocalTime.MAX), response.getOutputStream());
         }
 
         @GetMapping("/finance/export")
-        public ResponseEntity<byte[]> exportFinance(
+        public void exportFinance(
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate start,
-            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate end) {
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate end,
+            HttpServletResponse response) throws Exception {
         LocalDate s = start == null ? LocalDate.now().minusDays(30) : start;
         LocalDate e = end == null ? LocalDate.now() : end;
-        byte[] data = reportService.exportFinanceXlsx(s.atStartOfDay(), e.atTime(LocalTime.MAX));
-        return ResponseEntity.ok()
-            .header("Content-Disposition", "attachment; filename=finance_report.xlsx")
-            .header("Content-Type", "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet")
-            .body(data);
+        ExcelExporter.prepareDownload(response, "finance_report.xlsx");
+        reportService.exportFinanceXlsx(s.atStartOfDay(), e.atTime(LocalTime.MAX), response.getOutputStream());
         }
 
     @GetMapping("/office")
@@ -289,28 +281,24 @@ public class ReportAdminController {
     }
 
     @GetMapping("/office/export")
-    public ResponseEntity<byte[]> exportOffice(
+    public void exportOffice(
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate start,
-            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate end) {
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate end,
+            HttpServletResponse response) throws Exception {
         LocalDate s = start == null ? LocalDate.now().minusDays(30) : start;
         LocalDate e = end == null ? LocalDate.now() : end;
-        byte[] data = reportService.exportOfficeXlsx(s.atStartOfDay(), e.atTime(LocalTime.MAX));
-        return ResponseEntity.ok()
-                .header("Content-Disposition", "attachment; filename=office_report.xlsx")
-                .header("Content-Type", "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet")
-                .body(data);
+        ExcelExporter.prepareDownload(response, "office_report.xlsx");
+        reportService.exportOfficeXlsx(s.atStartOfDay(), e.atTime(LocalTime.MAX), response.getOutputStream());
     }
 
     @GetMapping("/shop/export")
-    public ResponseEntity<byte[]> exportShop(
+    public void exportShop(
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate start,
-            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate end) {
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate end,
+            HttpServletResponse response) throws Exception {
         LocalDate s = start == null ? LocalDate.now().minusDays(30) : start;
         LocalDate e = end == null ? LocalDate.now() : end;
-        byte[] data = reportService.exportShopXlsx(s.atStartOfDay(), e.atTime(LocalTime.MAX));
-        return ResponseEntity.ok()
-                .header("Content-Disposition", "attachment; filename=shop_report.xlsx")
-                .header("Content-Type", "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet")
-                .body(data);
+        ExcelExporter.prepareDownload(response, "shop_report.xlsx");
+        reportService.exportShopXlsx(s.atStartOfDay(), e.atTime(LocalTime.MAX), response.getOutputStream());
     }
 }
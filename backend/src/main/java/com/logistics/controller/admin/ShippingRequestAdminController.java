@@ -24,8 +24,10 @@ public class ShippingRequestAdminController {
     private ShippingRequestAdminService shippingRequestAdminService;
 
     @GetMapping
-    public ResponseEntity<ApiResponse<List<Map<String, Object>>>> list() {
-        return ResponseEntity.ok(ApiResponse.success(shippingRequestAdminService.listAll()));
+    public ResponseEntity<ApiResponse<List<Map<String, Object>>>> list(
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "200") int limit) {
+        return ResponseEntity.ok(ApiResponse.success(shippingRequestAdminService.listAll(page, limit)));
     }
 
     @GetMapping("/{id}")
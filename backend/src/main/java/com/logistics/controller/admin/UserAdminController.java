@@ -14,17 +14,15 @@ import com.logistics.request.manager.audit.AuditLogSearchRequest;
 import com.logistics.response.ApiResponse;
 import com.logistics.response.ListResponse;
 import com.logistics.service.admin.UserAdminService;
+import com.logistics.service.common.excel.ExcelExporter;
 import com.logistics.utils.SecurityUtils;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
 import java.util.Map;
 
 @RestController
@@ -149,23 +147,12 @@ public class UserAdminController {
             action = AuditLogAction.EXPORT,
             description = AuditLogDescriptionConstant.AUDIT_LOG_EXPORT_BY_USER
     )
-    public ResponseEntity<byte[]> export(
+    public void export(
             @PathVariable Integer id,
-            AuditLogSearchRequest auditLogSearchRequest) throws Exception {
+            AuditLogSearchRequest auditLogSearchRequest,
+            HttpServletResponse response) throws Exception {
 
-        byte[] data = userAdminService.export(id, auditLogSearchRequest);
-
-        String fileName = "UTE Logistics_Báo cáo lịch sử hoạt động của người dùng.xlsx";
-        String encodedFileName = URLEncoder.encode(fileName, StandardCharsets.UTF_8.toString())
-                .replaceAll("\\+", "%20");
-
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_OCTET_STREAM);
-        headers.add(HttpHeaders.CONTENT_DISPOSITION,
-                "attachment; filename*=UTF-8''" + encodedFileName);
-
-        return ResponseEntity.ok()
-                .headers(headers)
-                .body(data);
+        ExcelExporter.prepareDownload(response, "UTE Logistics_Báo cáo lịch sử hoạt động của người dùng.xlsx");
+        userAdminService.export(id, auditLogSearchRequest, response.getOutputStream());
     }
 }
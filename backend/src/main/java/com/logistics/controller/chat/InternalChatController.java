@@ -31,8 +31,10 @@ public class InternalChatController {
     }
 
     @GetMapping("/rooms")
-    public ResponseEntity<ApiResponse<List<InternalChatRoomDto>>> getRooms() {
-        List<InternalChatRoomDto> rooms = internalChatService.getOfficeRooms();
+    public ResponseEntity<ApiResponse<List<InternalChatRoomDto>>> getRooms(
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "200") int limit) {
+        List<InternalChatRoomDto> rooms = internalChatService.getOfficeRooms(page, limit);
         return ResponseEntity.ok(ApiResponse.success(rooms));
     }
 
@@ -2,6 +2,7 @@ package com.logistics.controller.chat;
 
 import com.logistics.exception.AppException;
 import com.logistics.request.chat.InternalChatPayload;
+import com.logistics.security.StompPrincipal;
 import com.logistics.service.chat.InternalChatService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -25,18 +26,12 @@ public class InternalChatWebSocketController {
             return;
         }
 
-        if (principal == null || principal.getName() == null) {
+        if (!(principal instanceof StompPrincipal stompPrincipal)) {
             log.warn("Invalid principal for internal chat");
             return;
         }
 
-        Integer principalAccountId;
-        try {
-            principalAccountId = Integer.parseInt(principal.getName());
-        } catch (NumberFormatException e) {
-            log.warn("Invalid principal name format: {}", principal.getName());
-            return;
-        }
+        Integer principalAccountId = stompPrincipal.accountId();
 
         if (!principalAccountId.equals(payload.getSenderAccountId())) {
             log.warn("Principal accountId {} does not match senderAccountId {}", principalAccountId, payload.getSenderAccountId());
@@ -3,6 +3,7 @@ package com.logistics.controller.chat;
 import com.logistics.exception.AppException;
 import com.logistics.request.chat.SendSupportMessageRequest;
 import com.logistics.request.chat.SupportChatSendMessagePayload;
+import com.logistics.security.StompPrincipal;
 import com.logistics.service.chat.SupportMessageService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -25,18 +26,12 @@ public class SupportChatWebSocketController {
             return;
         }
 
-        if (principal == null || principal.getName() == null) {
+        if (!(principal instanceof StompPrincipal stompPrincipal)) {
             log.warn("Invalid principal for support chat");
             return;
         }
 
-        Integer principalAccountId;
-        try {
-            principalAccountId = Integer.parseInt(principal.getName());
-        } catch (NumberFormatException e) {
-            log.warn("Invalid principal name format: {}", principal.getName());
-            return;
-        }
+        Integer principalAccountId = stompPrincipal.accountId();
 
         if (!principalAccountId.equals(payload.getSenderAccountId())) {
             log.warn("Principal accountId {} does not match senderAccountId {}", principalAccountId, payload.getSenderAccountId());
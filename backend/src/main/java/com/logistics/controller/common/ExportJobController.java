@@ -0,0 +1,46 @@
+package com.logistics.controller.common;
+
+import com.logistics.dto.common.ExportJobDto;
+import com.logistics.mapper.ExportJobMapper;
+import com.logistics.response.ApiResponse;
+import com.logistics.service.common.excel.ExcelExporter;
+import com.logistics.service.common.export.ExportJob;
+import com.logistics.service.common.export.ExportJobService;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.nio.file.Files;
+
+@RestController
+@RequestMapping("/api/export-jobs")
+@Tag(name = "Export Job", description = "Theo dõi và tải file xuất chạy nền")
+public class ExportJobController {
+
+    @Autowired
+    private ExportJobService exportJobService;
+
+    @GetMapping("/{jobId}")
+    public ResponseEntity<ApiResponse<ExportJobDto>> getJob(@PathVariable String jobId,
+            HttpServletRequest request) {
+        Integer userId = (Integer) request.getAttribute("currentUserId");
+
+        return ResponseEntity.ok(ApiResponse.success(ExportJobMapper.toDto(exportJobService.get(userId, jobId))));
+    }
+
+    @GetMapping("/{jobId}/download")
+    public void download(@PathVariable String jobId,
+            HttpServletRequest request,
+            HttpServletResponse response) throws Exception {
+        Integer userId = (Integer) request.getAttribute("currentUserId");
+
+        ExportJob job = exportJobService.getDownloadable(userId, jobId);
+
+        ExcelExporter.prepareDownload(response, job.getFileName());
+        response.setContentLengthLong(Files.size(job.getFile()));
+        Files.copy(job.getFile(), response.getOutputStream());
+    }
+}
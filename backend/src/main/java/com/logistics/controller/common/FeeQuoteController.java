@@ -0,0 +1,37 @@
+package com.logistics.controller.common;
+
+import com.logistics.dto.common.FeeQuoteDto;
+import com.logistics.request.common.fee.FeeQuoteBatchRequest;
+import com.logistics.response.ApiResponse;
+import com.logistics.response.BulkResponse;
+import com.logistics.service.common.FeePublicService;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Báo giá hàng loạt (tới hàng nghìn dòng mỗi request) cho màn tạo đơn và nhập đơn hàng loạt; cần đăng
+ * nhập để client ẩn danh không đẩy được cả lô báo giá lên server. Báo giá từng đơn vẫn ở
+ * {@link FeePublicController}.
+ */
+@RestController
+@RequestMapping("/api/fees")
+@Tag(name = "Fee - Quote", description = "Báo giá cước hàng loạt")
+public class FeeQuoteController {
+
+    @Autowired
+    private FeePublicService feeService;
+
+    @PostMapping("/quotes")
+    public ResponseEntity<ApiResponse<BulkResponse<FeeQuoteDto>>> quoteBatch(
+            @RequestBody FeeQuoteBatchRequest request) {
+
+        BulkResponse<FeeQuoteDto> result = feeService.quoteBatch(request);
+
+        return ResponseEntity.ok(ApiResponse.success(result.getMessage(), result));
+    }
+}
@@ -1,15 +1,18 @@
 package com.logistics.controller.common;
 
+import com.logistics.cache.TrackingTimelineCache.Timeline;
 import com.logistics.dto.OrderHistoryDto;
 import com.logistics.response.ApiResponse;
 import com.logistics.service.common.OrderPublicService;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -23,8 +26,16 @@ public class OrderPublicController {
 
     @GetMapping("/{trackingNumber}")
     public ResponseEntity<ApiResponse<List<OrderHistoryDto>>> getOrderHistoriesByTrackingNumber(
-            @PathVariable String trackingNumber) {
+            @PathVariable String trackingNumber, WebRequest request) {
 
-        return ResponseEntity.ok(ApiResponse.success(service.getOrderHistoriesByTrackingNumber(trackingNumber)));
+        Timeline timeline = service.getTrackingTimeline(trackingNumber);
+        // Hành trình chưa đổi so với bản client đang giữ: trả 304 không kèm body
+        if (request.checkNotModified(timeline.etag(), timeline.lastModified())) {
+            return null;
+        }
+
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePublic())
+                .body(ApiResponse.success(timeline.histories()));
     }
-}
\ No newline at end of file
+}
@@ -106,10 +106,12 @@ public class ShipmentDriverController {
     }
 
     @GetMapping("/{id}/tracking")
-    public ResponseEntity<ApiResponse<Map<String, Object>>> getVehicleTracking(@PathVariable Integer id) {
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getVehicleTracking(@PathVariable Integer id,
+            @RequestParam(required = false) Double toleranceMeters,
+            @RequestParam(required = false) Integer maxPoints) {
         if (isNotDriver()) {
             throw new AppException(CommonErrorCode.FORBIDDEN);
         }
-        return ResponseEntity.ok(ApiResponse.success(shipmentDriverService.getVehicleTracking(id)));
+        return ResponseEntity.ok(ApiResponse.success(shipmentDriverService.getVehicleTracking(id, toleranceMeters, maxPoints)));
     }
 }
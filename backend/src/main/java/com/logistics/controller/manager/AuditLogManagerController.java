@@ -8,21 +8,18 @@ import com.logistics.enums.EntityType;
 import com.logistics.request.manager.audit.AuditLogSearchRequest;
 import com.logistics.response.ApiResponse;
 import com.logistics.response.ListResponse;
+import com.logistics.service.common.excel.ExcelExporter;
 import com.logistics.service.manager.AuditLogManagerService;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
-
 @RequiredArgsConstructor
 @RestController
 @RequestMapping("/api/manager/logs")
@@ -48,23 +45,13 @@ public class AuditLogManagerController {
             action = AuditLogAction.EXPORT,
             description = AuditLogDescriptionConstant.AUDIT_LOG_EXPORT
     )
-    public ResponseEntity<byte[]> export(HttpServletRequest request,
-                                         AuditLogSearchRequest auditLogSearchRequest) throws Exception {
+    public void export(HttpServletRequest request,
+                       AuditLogSearchRequest auditLogSearchRequest,
+                       HttpServletResponse response) throws Exception {
 
         Integer userId = (Integer) request.getAttribute("currentUserId");
-        byte[] data = service.export(userId, auditLogSearchRequest);
-
-        String fileName = "UTE Logistics_Báo cáo lịch sử hoạt động của bưu cục.xlsx";
-        String encodedFileName = URLEncoder.encode(fileName, StandardCharsets.UTF_8.toString())
-                .replaceAll("\\+", "%20");
-
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_OCTET_STREAM);
-        headers.add(HttpHeaders.CONTENT_DISPOSITION,
-                "attachment; filename*=UTF-8''" + encodedFileName);
 
-        return ResponseEntity.ok()
-                .headers(headers)
-                .body(data);
+        ExcelExporter.prepareDownload(response, "UTE Logistics_Báo cáo lịch sử hoạt động của bưu cục.xlsx");
+        service.export(userId, auditLogSearchRequest, response.getOutputStream());
     }
-}
\ No newline at end of file
+}
@@ -15,10 +15,12 @@ import com.logistics.request.manager.employee.ManagerEmployeeEditRequest;
 import com.logistics.request.manager.employee.ManagerEmployeeSearchRequest;
 import com.logistics.response.ApiResponse;
 import com.logistics.response.ListResponse;
+import com.logistics.service.common.excel.ExcelExporter;
 import com.logistics.service.manager.EmployeeManagerService;
 import com.logistics.service.manager.ShipmentManagerService;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpHeaders;
@@ -170,24 +172,14 @@ public class EmployeeManagerController {
             action = AuditLogAction.EXPORT,
             description = AuditLogDescriptionConstant.EMPLOYEE_EXPORT_PERFORMANCE
     )
-    public ResponseEntity<byte[]> exportPerformance(HttpServletRequest request,
-                                                    SearchRequest searchRequest) throws Exception {
+    public void exportPerformance(HttpServletRequest request,
+                                  SearchRequest searchRequest,
+                                  HttpServletResponse response) throws Exception {
 
         Integer userId = (Integer) request.getAttribute("currentUserId");
-        byte[] data = service.exportPerformance(userId, searchRequest);
 
-        String fileName = "UTE Logistics_Báo cáo hiệu suất giao hàng của nhân viên.xlsx";
-        String encodedFileName = URLEncoder.encode(fileName, StandardCharsets.UTF_8.toString())
-                .replaceAll("\\+", "%20");
-
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_OCTET_STREAM);
-        headers.add(HttpHeaders.CONTENT_DISPOSITION,
-                "attachment; filename*=UTF-8''" + encodedFileName);
-
-        return ResponseEntity.ok()
-                .headers(headers)
-                .body(data);
+        ExcelExporter.prepareDownload(response, "UTE Logistics_Báo cáo hiệu suất giao hàng của nhân viên.xlsx");
+        service.exportPerformance(userId, searchRequest, response.getOutputStream());
     }
 
     @GetMapping("/export")
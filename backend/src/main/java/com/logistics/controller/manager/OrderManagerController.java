@@ -3,11 +3,13 @@ package com.logistics.controller.manager;
 import com.logistics.audit.Audit;
 import com.logistics.constants.AuditLogDescriptionConstant;
 import com.logistics.dto.OrderPrintDto;
+import com.logistics.dto.common.ExportJobDto;
 import com.logistics.dto.manager.order.ManagerOrderDetailDto;
 import com.logistics.dto.manager.order.ManagerOrderListDto;
 import com.logistics.dto.manager.order.ManagerOrderStatusCountResponse;
 import com.logistics.enums.AuditLogAction;
 import com.logistics.enums.EntityType;
+import com.logistics.mapper.ExportJobMapper;
 import com.logistics.request.manager.order.ManagerOrderCreateRequest;
 import com.logistics.request.user.order.UserOrderSearchRequest;
 import com.logistics.request.user.order.UserUrgentOrderSearchRequest;
@@ -15,18 +17,17 @@ import com.logistics.response.ApiResponse;
 import com.logistics.response.BulkResponse;
 import com.logistics.response.ListResponse;
 import com.logistics.response.manager.order.UrgentOrderResponse;
+import com.logistics.service.common.excel.ExcelExporter;
+import com.logistics.service.common.export.ExportJob;
 import com.logistics.service.manager.OrderManagerService;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -225,31 +226,37 @@ public class OrderManagerController {
         return ResponseEntity.ok(ApiResponse.success(null));
     }
 
-    @GetMapping("/export")
+    @PostMapping("/export-jobs")
     @Audit(
             entity = EntityType.ORDER,
             action = AuditLogAction.EXPORT,
             description = AuditLogDescriptionConstant.ORDER_EXPORT
     )
-    public ResponseEntity<byte[]> export(
+    public ResponseEntity<ApiResponse<ExportJobDto>> submitExportJob(
             HttpServletRequest request,
-            UserOrderSearchRequest userOrderSearchRequest) throws Exception {
+            UserOrderSearchRequest userOrderSearchRequest) {
 
         Integer userId = (Integer) request.getAttribute("currentUserId");
-        byte[] data = service.export(userId, userOrderSearchRequest);
+        ExportJob job = service.submitExportJob(userId, userOrderSearchRequest);
 
-        String fileName = "UTE Logistics_Báo cáo đơn hàng bưu cục.xlsx";
-        String encodedFileName = URLEncoder.encode(fileName, StandardCharsets.UTF_8.toString())
-                .replaceAll("\\+", "%20");
+        return ResponseEntity.accepted().body(ApiResponse.success(ExportJobMapper.toDto(job)));
+    }
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_OCTET_STREAM);
-        headers.add(HttpHeaders.CONTENT_DISPOSITION,
-                "attachment; filename*=UTF-8''" + encodedFileName);
+    @GetMapping("/export")
+    @Audit(
+            entity = EntityType.ORDER,
+            action = AuditLogAction.EXPORT,
+            description = AuditLogDescriptionConstant.ORDER_EXPORT
+    )
+    public void export(
+            HttpServletRequest request,
+            UserOrderSearchRequest userOrderSearchRequest,
+            HttpServletResponse response) throws Exception {
+
+        Integer userId = (Integer) request.getAttribute("currentUserId");
 
-        return ResponseEntity.ok()
-                .headers(headers)
-                .body(data);
+        ExcelExporter.prepareDownload(response, "UTE Logistics_Báo cáo đơn hàng bưu cục.xlsx");
+        service.export(userId, userOrderSearchRequest, response.getOutputStream());
     }
 
     @GetMapping("/urgent-pickup")
@@ -290,25 +297,15 @@ public class OrderManagerController {
             action = AuditLogAction.EXPORT,
             description = AuditLogDescriptionConstant.ORDER_URGENT_EXPORT
     )
-    public ResponseEntity<byte[]> exportUrgent(
+    public void exportUrgent(
             HttpServletRequest request,
-            UserUrgentOrderSearchRequest userUrgentOrderSearchRequest) throws Exception {
+            UserUrgentOrderSearchRequest userUrgentOrderSearchRequest,
+            HttpServletResponse response) throws Exception {
 
         Integer userId = (Integer) request.getAttribute("currentUserId");
-        byte[] data = service.exportUrgent(userId, userUrgentOrderSearchRequest);
-
-        String fileName = "UTE Logistics_Báo cáo xử lý các yêu cầu lấy đơn hàng bưu cục.xlsx";
-        String encodedFileName = URLEncoder.encode(fileName, StandardCharsets.UTF_8.toString())
-                .replaceAll("\\+", "%20");
-
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_OCTET_STREAM);
-        headers.add(HttpHeaders.CONTENT_DISPOSITION,
-                "attachment; filename*=UTF-8''" + encodedFileName);
 
-        return ResponseEntity.ok()
-                .headers(headers)
-                .body(data);
+        ExcelExporter.prepareDownload(response, "UTE Logistics_Báo cáo xử lý các yêu cầu lấy đơn hàng bưu cục.xlsx");
+        service.exportUrgent(userId, userUrgentOrderSearchRequest, response.getOutputStream());
     }
 
     @PatchMapping("/urgent-pickup/{id}/confirm")
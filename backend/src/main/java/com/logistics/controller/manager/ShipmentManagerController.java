@@ -3,6 +3,7 @@ package com.logistics.controller.manager;
 import com.logistics.audit.Audit;
 import com.logistics.constants.AuditLogDescriptionConstant;
 import com.logistics.dto.manager.shipment.ManagerShipmentListDto;
+import com.logistics.dto.manager.shipment.ManagerShipmentPathDto;
 import com.logistics.enums.AuditLogAction;
 import com.logistics.enums.EntityType;
 import com.logistics.request.SearchRequest;
@@ -12,10 +13,12 @@ import com.logistics.request.manager.shipment.ManagerShipmentSearchRequest;
 import com.logistics.response.ApiResponse;
 import com.logistics.response.ListResponse;
 import com.logistics.response.manager.GetOrdersByShipmentIdManagerResponse;
+import com.logistics.service.common.excel.ExcelExporter;
 import com.logistics.service.manager.ShipmentManagerService;
 import com.logistics.service.shipper.ShipmentDeliveryService;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpHeaders;
@@ -67,6 +70,17 @@ public class ShipmentManagerController {
         return ResponseEntity.ok(ApiResponse.success(service.getAllOrderIdsByShipmentId(userId, id, searchRequest)));
     }
 
+    @GetMapping("/{id}/path")
+    public ResponseEntity<ApiResponse<ManagerShipmentPathDto>> getPath(
+            @PathVariable Integer id,
+            @RequestParam(required = false) Double toleranceMeters,
+            @RequestParam(required = false) Integer maxPoints,
+            HttpServletRequest request) {
+        Integer userId = (Integer) request.getAttribute("currentUserId");
+
+        return ResponseEntity.ok(ApiResponse.success(service.getPath(userId, id, toleranceMeters, maxPoints)));
+    }
+
     @GetMapping("/employee-performance/{id}/export")
     @Audit(
             entity = EntityType.SHIPMENT,
@@ -182,29 +196,21 @@ public class ShipmentManagerController {
             action = AuditLogAction.EXPORT,
             description = AuditLogDescriptionConstant.SHIPMENT_EXPORT_LIST
     )
-    public ResponseEntity<byte[]> export(
+    public void export(
             HttpServletRequest request,
-            ManagerShipmentSearchRequest managerShipmentSearchRequest) throws Exception {
+            ManagerShipmentSearchRequest managerShipmentSearchRequest,
+            HttpServletResponse response) throws Exception {
 
         Integer userId = (Integer) request.getAttribute("currentUserId");
-        byte[] data = service.export(userId, managerShipmentSearchRequest);
 
         String direction = managerShipmentSearchRequest.getDirection();
 
         String fileName = "INBOUND".equalsIgnoreCase(direction)
                 ? "UTE Logistics_Báo cáo danh sách chuyến hàng đến bưu cục.xlsx"
                 : "UTE Logistics_Báo cáo danh sách chuyến hàng đi của bưu cục.xlsx";
-        String encodedFileName = URLEncoder.encode(fileName, StandardCharsets.UTF_8.toString())
-                .replaceAll("\\+", "%20");
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_OCTET_STREAM);
-        headers.add(HttpHeaders.CONTENT_DISPOSITION,
-                "attachment; filename*=UTF-8''" + encodedFileName);
-
-        return ResponseEntity.ok()
-                .headers(headers)
-                .body(data);
+        ExcelExporter.prepareDownload(response, fileName);
+        service.export(userId, managerShipmentSearchRequest, response.getOutputStream());
     }
 
     @GetMapping("/{id}/export")
@@ -3,6 +3,7 @@ package com.logistics.controller.manager;
 import com.logistics.audit.Audit;
 import com.logistics.constants.AuditLogDescriptionConstant;
 import com.logistics.dto.VehicleDto;
+import com.logistics.dto.manager.fleet.ManagerFleetFrameDto;
 import com.logistics.enums.AuditLogAction;
 import com.logistics.enums.EntityType;
 import com.logistics.request.manager.vehicle.ManagerVehicleEditRequest;
@@ -65,6 +66,13 @@ public class VehicleManagerController {
         return ResponseEntity.ok(ApiResponse.success(service.getAvailableVehicles(userId)));
     }
 
+    @GetMapping("/live")
+    public ResponseEntity<ApiResponse<ManagerFleetFrameDto>> liveFleet(HttpServletRequest request) {
+        Integer userId = (Integer) request.getAttribute("currentUserId");
+
+        return ResponseEntity.ok(ApiResponse.success(service.liveFleet(userId)));
+    }
+
     @GetMapping("/export")
     @Audit(
             entity = EntityType.VEHICLE,
@@ -50,13 +50,16 @@ public class OrderShipperController {
             @RequestParam(defaultValue = "1") int page,
             @RequestParam(defaultValue = "10") int limit,
             @RequestParam(required = false) String status,
-            @RequestParam(required = false) String search) {
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Boolean withTotal) {
 
         if (isNotShipper()) {
             throw new AppException(CommonErrorCode.FORBIDDEN);
         }
 
-        return ResponseEntity.ok(ApiResponse.success(shipperService.listOrders(page, limit, status, search)));
+        return ResponseEntity.ok(ApiResponse.success(
+                shipperService.listOrders(page, limit, status, search, cursor, withTotal)));
     }
 
     @GetMapping("/orders-unassigned")
@@ -317,12 +320,14 @@ public class OrderShipperController {
     }
 
     @GetMapping("/incidents")
-    public ResponseEntity<ApiResponse<List<Map<String, Object>>>> listIncidents() {
+    public ResponseEntity<ApiResponse<List<Map<String, Object>>>> listIncidents(
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "200") int limit) {
         if (isNotShipper()) {
             throw new AppException(CommonErrorCode.FORBIDDEN);
         }
 
-        return ResponseEntity.ok(ApiResponse.success(shipperService.listIncidentReports()));
+        return ResponseEntity.ok(ApiResponse.success(shipperService.listIncidentReports(page, limit)));
     }
 
     @GetMapping("/incidents/{id}")
@@ -23,8 +23,10 @@ public class ShippingRequestShipperController {
     private ShippingRequestShipperService service;
 
     @GetMapping
-    public ResponseEntity<ApiResponse<List<ShippingRequest>>> list() {
-        return ResponseEntity.ok(ApiResponse.success(service.listForCurrentShipper()));
+    public ResponseEntity<ApiResponse<List<ShippingRequest>>> list(
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "200") int limit) {
+        return ResponseEntity.ok(ApiResponse.success(service.listForCurrentShipper(page, limit)));
     }
 
     @PostMapping("/{id}/accept")
@@ -3,11 +3,13 @@ package com.logistics.controller.user;
 import com.logistics.audit.Audit;
 import com.logistics.constants.AuditLogDescriptionConstant;
 import com.logistics.dto.OrderPrintDto;
+import com.logistics.dto.common.ExportJobDto;
 import com.logistics.dto.user.order.UserOrderDetailDto;
 import com.logistics.dto.user.order.UserOrderListDto;
 import com.logistics.dto.user.order.UserOrderStatusCountResponse;
 import com.logistics.enums.AuditLogAction;
 import com.logistics.enums.EntityType;
+import com.logistics.mapper.ExportJobMapper;
 import com.logistics.request.manager.shipmentOrder.SaveShipmentOrdersRequest;
 import com.logistics.request.user.order.UserOrderCreateRequest;
 import com.logistics.request.user.order.UserOrderSearchRequest;
@@ -15,18 +17,17 @@ import com.logistics.response.ApiResponse;
 import com.logistics.response.BulkResponse;
 import com.logistics.response.ListResponse;
 import com.logistics.response.OrderCreateSuccess;
+import com.logistics.service.common.excel.ExcelExporter;
+import com.logistics.service.common.export.ExportJob;
 import com.logistics.service.user.OrderUserService;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.List;
 
@@ -278,31 +279,37 @@ public class OrderUserController {
         return ResponseEntity.ok(service.setOrdersTransitToOffice(userId, parseOrderIds(orderIdsStr)));
     }
 
-    @GetMapping("/export")
+    @PostMapping("/export-jobs")
     @Audit(
             entity = EntityType.ORDER,
             action = AuditLogAction.EXPORT,
             description = AuditLogDescriptionConstant.ORDER_EXPORT
     )
-    public ResponseEntity<byte[]> export(
+    public ResponseEntity<ApiResponse<ExportJobDto>> submitExportJob(
             HttpServletRequest request,
-            UserOrderSearchRequest userOrderSearchRequest) throws Exception {
+            UserOrderSearchRequest userOrderSearchRequest) {
 
         Integer userId = (Integer) request.getAttribute("currentUserId");
-        byte[] data = service.export(userId, userOrderSearchRequest);
+        ExportJob job = service.submitExportJob(userId, userOrderSearchRequest);
 
-        String fileName = "UTE Logistics_Báo cáo đơn hàng.xlsx";
-        String encodedFileName = URLEncoder.encode(fileName, StandardCharsets.UTF_8.toString())
-                .replaceAll("\\+", "%20");
+        return ResponseEntity.accepted().body(ApiResponse.success(ExportJobMapper.toDto(job)));
+    }
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_OCTET_STREAM);
-        headers.add(HttpHeaders.CONTENT_DISPOSITION,
-                "attachment; filename*=UTF-8''" + encodedFileName);
+    @GetMapping("/export")
+    @Audit(
+            entity = EntityType.ORDER,
+            action = AuditLogAction.EXPORT,
+            description = AuditLogDescriptionConstant.ORDER_EXPORT
+    )
+    public void export(
+            HttpServletRequest request,
+            UserOrderSearchRequest userOrderSearchRequest,
+            HttpServletResponse response) throws Exception {
+
+        Integer userId = (Integer) request.getAttribute("currentUserId");
 
-        return ResponseEntity.ok()
-                .headers(headers)
-                .body(data);
+        ExcelExporter.prepareDownload(response, "UTE Logistics_Báo cáo đơn hàng.xlsx");
+        service.export(userId, userOrderSearchRequest, response.getOutputStream());
     }
 
     private List<Integer> parseOrderIds(String orderIdsStr) {
@@ -0,0 +1,134 @@
+package com.logistics.counter;
+
+import com.logistics.entity.Office;
+import com.logistics.entity.Order;
+import com.logistics.enums.OrderCounterOwnerType;
+import com.logistics.enums.OrderStatus;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Entity listener cho Order: mỗi lần đơn được tạo, xóa hoặc đổi trạng thái / shop / bưu cục,
+ * cộng trừ order_status_counters của shop và các bưu cục (gửi, nhận, hiện tại) ngay trong lúc
+ * flush nên bộ đếm commit / rollback cùng đơn hàng.
+ * <p>
+ * Listener do Hibernate tạo qua Spring bean container nên được inject JdbcTemplate; JdbcTemplate
+ * dùng chung connection của transaction JPA đang chạy. JdbcTemplate được lấy lúc ghi, không lấy
+ * lúc tạo listener: listener được tạo khi EntityManagerFactory đang khởi tạo, còn JdbcTemplate có
+ * thể phụ thuộc ngược lại EntityManagerFactory (vd. spring.jpa.defer-datasource-initialization).
+ */
+public class OrderStatusCounterListener {
+
+    private static final String UPSERT_SQL = """
+            insert into order_status_counters (owner_type, owner_id, status, order_count)
+            values (?, ?, ?, ?)
+            on duplicate key update order_count = order_count + ?
+            """;
+
+    // Khóa dòng theo cùng thứ tự ở mọi transaction để hạn chế deadlock
+    private static final Comparator<CounterKey> LOCK_ORDER = Comparator
+            .comparing(CounterKey::ownerType)
+            .thenComparing(CounterKey::ownerId)
+            .thenComparing(CounterKey::status);
+
+    private final ObjectProvider<JdbcTemplate> jdbcTemplate;
+
+    public OrderStatusCounterListener(ObjectProvider<JdbcTemplate> jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostPersist
+    public void onCreate(Order order) {
+        Map<CounterKey, Long> deltas = new TreeMap<>(LOCK_ORDER);
+        add(deltas, order.getStatus(), shopId(order), officeIds(order), 1);
+        apply(deltas);
+    }
+
+    @PostUpdate
+    public void onUpdate(Order order) {
+        Map<CounterKey, Long> deltas = new TreeMap<>(LOCK_ORDER);
+        add(deltas, order.getLoadedStatus(), order.getLoadedUserId(), loadedOfficeIds(order), -1);
+        add(deltas, order.getStatus(), shopId(order), officeIds(order), 1);
+        apply(deltas);
+    }
+
+    @PostRemove
+    public void onDelete(Order order) {
+        Map<CounterKey, Long> deltas = new TreeMap<>(LOCK_ORDER);
+        add(deltas, order.getLoadedStatus(), order.getLoadedUserId(), loadedOfficeIds(order), -1);
+        apply(deltas);
+    }
+
+    private static void add(Map<CounterKey, Long> deltas, OrderStatus status, Integer shopId,
+            Set<Integer> officeIds, long delta) {
+        if (status == null) {
+            return;
+        }
+        if (shopId != null) {
+            deltas.merge(new CounterKey(OrderCounterOwnerType.SHOP, shopId, status.name()), delta, Long::sum);
+        }
+        // Bưu cục không thấy đơn nháp (cùng điều kiện với countByStatusForOffice)
+        if (status == OrderStatus.DRAFT) {
+            return;
+        }
+        for (Integer officeId : officeIds) {
+            deltas.merge(new CounterKey(OrderCounterOwnerType.OFFICE, officeId, status.name()), delta, Long::sum);
+        }
+    }
+
+    private void apply(Map<CounterKey, Long> deltas) {
+        List<Object[]> rows = new ArrayList<>(deltas.size());
+        deltas.forEach((key, delta) -> {
+            // Trạng thái và chủ sở hữu không đổi thì +1 / -1 triệt tiêu nhau
+            if (delta != 0) {
+                rows.add(new Object[]{key.ownerType().name(), key.ownerId(), key.status(), delta, delta});
+            }
+        });
+        if (!rows.isEmpty()) {
+            jdbcTemplate.getObject().batchUpdate(UPSERT_SQL, rows);
+        }
+    }
+
+    private static Integer shopId(Order order) {
+        return order.getUser() != null ? order.getUser().getId() : null;
+    }
+
+    // Một đơn chỉ tính một lần cho mỗi bưu cục dù bưu cục đó vừa là nơi gửi vừa là nơi hiện tại
+    private static Set<Integer> officeIds(Order order) {
+        return distinct(officeId(order.getFromOffice()), officeId(order.getToOffice()),
+                officeId(order.getCurrentOffice()));
+    }
+
+    private static Set<Integer> loadedOfficeIds(Order order) {
+        return distinct(order.getLoadedFromOfficeId(), order.getLoadedToOfficeId(),
+                order.getLoadedCurrentOfficeId());
+    }
+
+    private static Set<Integer> distinct(Integer... ids) {
+        Set<Integer> result = new LinkedHashSet<>();
+        for (Integer id : ids) {
+            if (id != null) {
+                result.add(id);
+            }
+        }
+        return result;
+    }
+
+    private static Integer officeId(Office office) {
+        return office != null ? office.getId() : null;
+    }
+
+    private record CounterKey(OrderCounterOwnerType ownerType, Integer ownerId, String status) {
+    }
+}
@@ -0,0 +1,112 @@
+package com.logistics.counter;
+
+import com.logistics.enums.OrderCounterOwnerType;
+import com.logistics.repository.OrderRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Đọc số đơn theo trạng thái của shop / bưu cục từ order_status_counters (do
+ * {@link OrderStatusCounterListener} duy trì). Chủ sở hữu chưa từng đối soát được đếm lại từ bảng
+ * orders ở lần đọc đầu tiên; mọi chủ sở hữu được đối soát lại hằng đêm để sửa sai lệch do thay
+ * đổi không đi qua JPA.
+ */
+@Slf4j
+@Service
+public class OrderStatusCounterService {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final OrderRepository orderRepository;
+    private final TransactionTemplate reconcileTransaction;
+
+    public OrderStatusCounterService(JdbcTemplate jdbcTemplate, OrderRepository orderRepository,
+            PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.orderRepository = orderRepository;
+        // Transaction ghi riêng vì nơi gọi có thể đang trong transaction read-only
+        this.reconcileTransaction = new TransactionTemplate(transactionManager);
+        this.reconcileTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Các dòng [status (String), count (Long)] có count > 0.
+     */
+    public List<Object[]> countByStatus(OrderCounterOwnerType ownerType, Integer ownerId) {
+        Boolean reconciled = jdbcTemplate.queryForObject(
+                "select exists(select 1 from order_status_counter_owners where owner_type = ? and owner_id = ?)",
+                Boolean.class, ownerType.name(), ownerId);
+        if (!Boolean.TRUE.equals(reconciled)) {
+            reconcile(ownerType, ownerId);
+        }
+        return jdbcTemplate.query(
+                "select status, order_count from order_status_counters "
+                        + "where owner_type = ? and owner_id = ? and order_count > 0",
+                (rs, rowNum) -> new Object[]{rs.getString(1), rs.getLong(2)},
+                ownerType.name(), ownerId);
+    }
+
+    /**
+     * Đếm lại bộ đếm của một chủ sở hữu từ bảng orders. Khóa các dòng đếm của chủ đó trước khi
+     * đếm nên transaction chuyển trạng thái đang chạy hoặc đã xong trước, hoặc cộng dồn lên kết quả
+     * mới sau khi đối soát commit; không mất cập nhật nào.
+     */
+    public void reconcile(OrderCounterOwnerType ownerType, Integer ownerId) {
+        reconcileTransaction.executeWithoutResult(status -> {
+            jdbcTemplate.queryForList(
+                    "select status from order_status_counters where owner_type = ? and owner_id = ? for update",
+                    String.class, ownerType.name(), ownerId);
+
+            List<Object[]> actual = ownerType == OrderCounterOwnerType.SHOP
+                    ? orderRepository.countByStatusForUser(ownerId)
+                    : orderRepository.countByStatusForOffice(ownerId);
+
+            jdbcTemplate.update("delete from order_status_counters where owner_type = ? and owner_id = ?",
+                    ownerType.name(), ownerId);
+            List<Object[]> rows = new ArrayList<>(actual.size());
+            for (Object[] row : actual) {
+                rows.add(new Object[]{ownerType.name(), ownerId, row[0].toString(), ((Number) row[1]).longValue()});
+            }
+            if (!rows.isEmpty()) {
+                jdbcTemplate.batchUpdate(
+                        "insert into order_status_counters (owner_type, owner_id, status, order_count) values (?, ?, ?, ?)",
+                        rows);
+            }
+            jdbcTemplate.update("""
+                    insert into order_status_counter_owners (owner_type, owner_id, reconciled_at)
+                    values (?, ?, ?)
+                    on duplicate key update reconciled_at = ?
+                    """, ownerType.name(), ownerId, Timestamp.valueOf(LocalDateTime.now()),
+                    Timestamp.valueOf(LocalDateTime.now()));
+        });
+    }
+
+    @Scheduled(cron = "0 0 3 * * ?")
+    public void reconcileAll() {
+        List<Object[]> owners = jdbcTemplate.query(
+                "select owner_type, owner_id from order_status_counter_owners",
+                (rs, rowNum) -> new Object[]{rs.getString(1), rs.getInt(2)});
+
+        long startedAt = System.currentTimeMillis();
+        int failed = 0;
+        for (Object[] owner : owners) {
+            try {
+                reconcile(OrderCounterOwnerType.valueOf((String) owner[0]), (Integer) owner[1]);
+            } catch (Exception e) {
+                failed++;
+                log.warn("[Order Counter] Could not reconcile {} {} - {}", owner[0], owner[1], e.getMessage());
+            }
+        }
+        log.info("[Order Counter] Reconciled {} owners ({} failed) in {} ms",
+                owners.size(), failed, System.currentTimeMillis() - startedAt);
+    }
+}
@@ -0,0 +1,25 @@
+package com.logistics.dto.common;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class ExportJobDto {
+    private String id;
+    private String fileName;
+    private String status;
+    private Long rowsWritten;
+    private Long totalRows;
+    private Integer percent;
+    private String errorMessage;
+    private LocalDateTime createdAt;
+    private LocalDateTime finishedAt;
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,19 @@
+package com.logistics.dto.common;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class FeeQuoteDto {
+    private Integer shippingFee;
+    private Integer codFee;
+    private Integer insuranceFee;
+    private Integer packagingFee;
+    private Integer vatFee;
+    private Integer totalFee;
+}
@@ -0,0 +1,25 @@
+package com.logistics.dto.manager.fleet;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class ManagerFleetFrameDto {
+    private Integer officeId;
+
+    // true: mọi xe đang hoạt động của bưu cục; false: chỉ các xe đổi vị trí từ khung trước
+    private boolean snapshot;
+
+    // Thời điểm tạo khung (epoch millis)
+    private long at;
+
+    // Mỗi dòng: [vehicleId, shipmentId, latitudeE6, longitudeE6, speedE2, recordedAt]
+    private List<long[]> positions;
+}
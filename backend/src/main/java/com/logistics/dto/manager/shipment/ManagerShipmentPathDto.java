@@ -0,0 +1,19 @@
+package com.logistics.dto.manager.shipment;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class ManagerShipmentPathDto {
+    private Integer shipmentId;
+
+    // Mỗi dòng theo thời gian tăng dần: [recordedAt, latitudeE6, longitudeE6, speedE2]
+    private List<long[]> points;
+}
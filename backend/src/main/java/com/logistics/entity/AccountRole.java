@@ -1,11 +1,13 @@
 package com.logistics.entity;
 
+import com.logistics.security.AuthorityChangeListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
+@EntityListeners(AuthorityChangeListener.class)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
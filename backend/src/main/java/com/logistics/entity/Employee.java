@@ -1,5 +1,6 @@
 package com.logistics.entity;
 
+import com.logistics.cache.DashboardSourceCacheListener;
 import com.logistics.enums.EmployeeShift;
 import com.logistics.enums.EmployeeStatus;
 import jakarta.persistence.*;
@@ -18,7 +19,7 @@ import java.time.format.DateTimeFormatter;
 @NoArgsConstructor
 @AllArgsConstructor
 @Table(name = "employees")
-@EntityListeners(AuditingEntityListener.class)
+@EntityListeners({AuditingEntityListener.class, DashboardSourceCacheListener.class})
 public class Employee {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -66,5 +67,21 @@ public class Employee {
             String date = LocalDateTime.now().format(DateTimeFormatter.BASIC_ISO_DATE);
             this.code = "EP" + date + office.getId() + this.id;
         }
+        snapshotLoadedState();
     }
-}
\ No newline at end of file
+
+    // Bưu cục lúc nạp entity, để DashboardCache làm mới cả bưu cục cũ khi nhân viên chuyển bưu cục
+    @Transient
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private Integer loadedOfficeId;
+
+    // Callback của entity chạy sau các entity listener nên listener vẫn thấy giá trị cũ;
+    // sau khi persist thì generateCode gọi lại vì JPA chỉ cho một callback @PostPersist mỗi entity
+    @PostLoad
+    @PostUpdate
+    private void snapshotLoadedState() {
+        loadedOfficeId = office != null ? office.getId() : null;
+    }
+}
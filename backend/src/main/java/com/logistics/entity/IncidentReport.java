@@ -1,5 +1,6 @@
 package com.logistics.entity;
 
+import com.logistics.cache.DashboardSourceCacheListener;
 import com.logistics.enums.IncidentPriority;
 import com.logistics.enums.IncidentStatus;
 import com.logistics.enums.IncidentType;
@@ -20,7 +21,7 @@ import java.util.List;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-@EntityListeners(AuditingEntityListener.class)
+@EntityListeners({AuditingEntityListener.class, DashboardSourceCacheListener.class})
 public class IncidentReport {
 
     @Id
@@ -1,7 +1,11 @@
 package com.logistics.entity;
 
+import com.logistics.cache.DashboardCacheListener;
+import com.logistics.counter.OrderStatusCounterListener;
 import com.logistics.enums.*;
+import com.logistics.report.ReportCubeListener;
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -20,7 +24,37 @@ import java.util.List;
 @Setter
 @Table(name = "orders")
 @NoArgsConstructor
-@EntityListeners(AuditingEntityListener.class)
+@EntityListeners({AuditingEntityListener.class, ReportCubeListener.class, DashboardCacheListener.class, OrderStatusCounterListener.class})
+// Fetch plan theo từng màn hình: mọi quan hệ đều LAZY, truy vấn nào cần quan hệ nào thì khai báo graph tương ứng
+@NamedEntityGraphs({
+        // Danh sách đơn (shop, bưu cục, shipper)
+        @NamedEntityGraph(name = "Order.list", attributeNodes = {
+                @NamedAttributeNode("serviceType"),
+                @NamedAttributeNode("user"),
+                @NamedAttributeNode("employee"),
+                @NamedAttributeNode("fromOffice"),
+                @NamedAttributeNode("currentOffice")
+        }),
+        // Chi tiết đơn
+        @NamedEntityGraph(name = "Order.detail", attributeNodes = {
+                @NamedAttributeNode("senderAddress"),
+                @NamedAttributeNode("recipientAddress"),
+                @NamedAttributeNode("serviceType"),
+                @NamedAttributeNode("promotion"),
+                @NamedAttributeNode("fromOffice"),
+                @NamedAttributeNode("toOffice"),
+                @NamedAttributeNode("currentOffice"),
+                @NamedAttributeNode("user"),
+                @NamedAttributeNode("employee")
+        }),
+        // In vận đơn
+        @NamedEntityGraph(name = "Order.print", attributeNodes = {
+                @NamedAttributeNode("fromOffice")
+        }),
+        // Đơn trong phiên đối soát và tuyến giao AI chỉ đọc cột của bảng orders
+        @NamedEntityGraph(name = "Order.settlement"),
+        @NamedEntityGraph(name = "Order.route")
+})
 public class Order {
 
     // Id đơn hàng
@@ -42,11 +76,11 @@ public class Order {
     @Column(length = 20, nullable = false)
     private OrderCreatorType createdByType;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = true)
     private User user; // Người sở hữu đơn hàng
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "employee_id", nullable = true)
     private Employee employee; // Nhân viên tạo đơn hàng nếu như tạo tại bưu cục
 
@@ -81,7 +115,7 @@ public class Order {
     @Column(columnDefinition = "NVARCHAR(255)", nullable = false)
     private String senderFullAddress;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "sender_address_id")
     @OnDelete(action = OnDeleteAction.SET_NULL)
     private Address senderAddress;
@@ -117,7 +151,7 @@ public class Order {
     @Column(columnDefinition = "NVARCHAR(255)", nullable = false)
     private String recipientFullAddress;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "recipient_address_id", nullable = true)
     @OnDelete(action = OnDeleteAction.SET_NULL)
     private Address recipientAddress;
@@ -158,11 +192,11 @@ public class Order {
     @Column(precision = 10, scale = 2, nullable = true)
     private BigDecimal adjustedWeight;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "service_type_id", nullable = false)
     private ServiceType serviceType;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "promotion_id")
     private Promotion promotion;
 
@@ -195,11 +229,11 @@ public class Order {
 
     private LocalDateTime deliveredAt;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "from_office_id")
     private Office fromOffice;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "to_office_id")
     private Office toOffice;
 
@@ -224,7 +258,7 @@ public class Order {
     @OneToMany(mappedBy = "order")
     private List<PaymentSubmission> paymentSubmissions;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "settlement_batch_id")
     private SettlementBatch settlementBatch;
 
@@ -248,4 +282,36 @@ public class Order {
     @Column(nullable = false, columnDefinition = "BIGINT NOT NULL DEFAULT 0")
     private Long version = 0L;
 
-}
\ No newline at end of file
+    // Trạng thái, shop và các bưu cục theo DB, để entity listener biết giá trị cũ khi đơn chuyển trạng thái
+    @Transient
+    @Setter(AccessLevel.NONE)
+    private OrderStatus loadedStatus;
+
+    @Transient
+    @Setter(AccessLevel.NONE)
+    private Integer loadedUserId;
+
+    @Transient
+    @Setter(AccessLevel.NONE)
+    private Integer loadedFromOfficeId;
+
+    @Transient
+    @Setter(AccessLevel.NONE)
+    private Integer loadedToOfficeId;
+
+    @Transient
+    @Setter(AccessLevel.NONE)
+    private Integer loadedCurrentOfficeId;
+
+    // Callback của entity chạy sau các entity listener nên listener vẫn thấy giá trị cũ
+    @PostLoad
+    @PostPersist
+    @PostUpdate
+    private void snapshotLoadedState() {
+        loadedStatus = status;
+        loadedUserId = user != null ? user.getId() : null;
+        loadedFromOfficeId = fromOffice != null ? fromOffice.getId() : null;
+        loadedToOfficeId = toOffice != null ? toOffice.getId() : null;
+        loadedCurrentOfficeId = currentOffice != null ? currentOffice.getId() : null;
+    }
+}
@@ -1,5 +1,6 @@
 package com.logistics.entity;
 
+import com.logistics.cache.TrackingTimelineCacheListener;
 import com.logistics.enums.OrderHistoryActionType;
 import jakarta.persistence.*;
 import lombok.*;
@@ -16,7 +17,7 @@ import java.time.LocalDateTime;
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
-@EntityListeners(AuditingEntityListener.class)
+@EntityListeners({AuditingEntityListener.class, TrackingTimelineCacheListener.class})
 public class OrderHistory {
 
     @Id
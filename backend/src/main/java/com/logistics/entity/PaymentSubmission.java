@@ -2,6 +2,7 @@
 package com.logistics.entity;
 
 import com.logistics.enums.PaymentSubmissionStatus;
+import com.logistics.report.ReportCubeListener;
 import jakarta.persistence.*;
 import lombok.*;
 import org.springframework.data.annotation.CreatedDate;
@@ -21,7 +22,7 @@ import java.util.List;
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
-@EntityListeners(AuditingEntityListener.class)
+@EntityListeners({AuditingEntityListener.class, ReportCubeListener.class})
 public class PaymentSubmission {
 
     @Id
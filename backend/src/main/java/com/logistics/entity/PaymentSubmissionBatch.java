@@ -1,6 +1,8 @@
 package com.logistics.entity;
 
+import com.logistics.cache.DashboardSourceCacheListener;
 import com.logistics.enums.PaymentSubmissionBatchStatus;
+import com.logistics.report.ReportCubeListener;
 import jakarta.persistence.*;
 import lombok.*;
 import org.springframework.data.annotation.CreatedDate;
@@ -20,7 +22,7 @@ import java.util.List;
 @AllArgsConstructor
 @Getter
 @Setter
-@EntityListeners(AuditingEntityListener.class)
+@EntityListeners({AuditingEntityListener.class, ReportCubeListener.class, DashboardSourceCacheListener.class})
 public class PaymentSubmissionBatch {
 
     @Id
@@ -1,5 +1,6 @@
 package com.logistics.entity;
 
+import com.logistics.security.AuthorityChangeListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -23,7 +24,7 @@ import java.util.List;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-@EntityListeners(AuditingEntityListener.class)
+@EntityListeners({AuditingEntityListener.class, AuthorityChangeListener.class})
 public class PermissionApi {
 
     @Id
@@ -1,5 +1,6 @@
 package com.logistics.entity;
 
+import com.logistics.security.AuthorityChangeListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -21,7 +22,7 @@ import java.util.Set;
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
-@EntityListeners(AuditingEntityListener.class)
+@EntityListeners({AuditingEntityListener.class, AuthorityChangeListener.class})
 public class PermissionGroup {
 
     @Id
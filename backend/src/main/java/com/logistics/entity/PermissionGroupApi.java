@@ -1,5 +1,6 @@
 package com.logistics.entity;
 
+import com.logistics.security.AuthorityChangeListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -14,7 +15,7 @@ import java.time.LocalDateTime;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-@EntityListeners(AuditingEntityListener.class)
+@EntityListeners({AuditingEntityListener.class, AuthorityChangeListener.class})
 public class PermissionGroupApi {
 
     @EmbeddedId
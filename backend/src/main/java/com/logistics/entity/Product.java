@@ -1,5 +1,6 @@
 package com.logistics.entity;
 
+import com.logistics.cache.DashboardSourceCacheListener;
 import com.logistics.enums.ProductStatus;
 import com.logistics.enums.ProductType;
 import jakarta.persistence.*;
@@ -20,7 +21,7 @@ import java.util.List;
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
-@EntityListeners(AuditingEntityListener.class)
+@EntityListeners({AuditingEntityListener.class, DashboardSourceCacheListener.class})
 public class Product {
 
     @Id
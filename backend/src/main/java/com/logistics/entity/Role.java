@@ -1,5 +1,6 @@
 package com.logistics.entity;
 
+import com.logistics.security.AuthorityChangeListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -24,10 +25,10 @@ import java.util.Set;
         name = "roles",
         uniqueConstraints = @UniqueConstraint(
                 name = "uq_role_name_per_owner",
-                columnNames = {"name", "owner_account_id"}
+                columnNames = {"name", "user_owner_id"}
         )
 )
-@EntityListeners(AuditingEntityListener.class)
+@EntityListeners({AuditingEntityListener.class, AuthorityChangeListener.class})
 public class Role {
 
     @Id
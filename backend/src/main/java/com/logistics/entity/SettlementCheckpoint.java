@@ -0,0 +1,58 @@
+package com.logistics.entity;
+
+import com.logistics.enums.SettlementCheckpointStatus;
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// Tiến độ đối soát tự động theo từng shop trong một ngày, dùng để resume khi job bị gián đoạn
+@Entity
+@Table(name = "settlement_checkpoints",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"run_date", "shop_id"}))
+@Data
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EntityListeners(AuditingEntityListener.class)
+public class SettlementCheckpoint {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+
+    @Column(nullable = false)
+    private LocalDate runDate;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "shop_id", nullable = false)
+    private User shop;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20, nullable = false)
+    private SettlementCheckpointStatus status = SettlementCheckpointStatus.PENDING;
+
+    // Số đơn được gắn vào phiên đối soát
+    @Column(nullable = false)
+    private Integer orderCount = 0;
+
+    @Column(nullable = false)
+    private Integer attempts = 0;
+
+    private Long durationMs;
+
+    @Column(length = 500)
+    private String errorMessage;
+
+    @CreatedDate
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @LastModifiedDate
+    private LocalDateTime updatedAt;
+}
@@ -2,6 +2,7 @@ package com.logistics.entity;
 
 import com.logistics.enums.SettlementTransactionStatus;
 import com.logistics.enums.SettlementTransactionType;
+import com.logistics.report.ReportCubeListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -20,7 +21,7 @@ import java.time.format.DateTimeFormatter;
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
-@EntityListeners(AuditingEntityListener.class)
+@EntityListeners({AuditingEntityListener.class, ReportCubeListener.class})
 public class SettlementTransaction {
 
     @Id
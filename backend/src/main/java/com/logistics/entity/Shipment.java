@@ -1,5 +1,6 @@
 package com.logistics.entity;
 
+import com.logistics.cache.DashboardSourceCacheListener;
 import com.logistics.enums.ShipmentStatus;
 import com.logistics.enums.ShipmentType;
 import jakarta.persistence.*;
@@ -19,7 +20,7 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @Table(name = "shipments")
-@EntityListeners(AuditingEntityListener.class)
+@EntityListeners({AuditingEntityListener.class, DashboardSourceCacheListener.class})
 @ToString(exclude = {"shipmentOrders"})
 @EqualsAndHashCode(exclude = {"shipmentOrders"})
 public class Shipment {
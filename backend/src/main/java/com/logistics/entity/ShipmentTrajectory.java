@@ -0,0 +1,47 @@
+package com.logistics.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+// Lộ trình đã rút gọn và nén của một chuyến hàng đã kết thúc (xem TrajectoryCodec)
+@Entity
+@Table(name = "shipment_trajectories")
+@Data
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EntityListeners(AuditingEntityListener.class)
+public class ShipmentTrajectory {
+
+    @Id
+    private Integer shipmentId;
+
+    private Integer vehicleId;
+
+    // Số điểm GPS gốc và số điểm còn lại sau khi rút gọn
+    @Column(nullable = false)
+    private Integer rawPointCount;
+
+    @Column(nullable = false)
+    private Integer pointCount;
+
+    // Sai số rút gọn nền (cm): điểm lệch khỏi đường nối ít hơn mức này đã bị bỏ
+    @Column(nullable = false)
+    private Integer toleranceCm;
+
+    private LocalDateTime startedAt;
+
+    private LocalDateTime endedAt;
+
+    @Column(nullable = false, columnDefinition = "mediumblob")
+    private byte[] data;
+
+    @CreatedDate
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
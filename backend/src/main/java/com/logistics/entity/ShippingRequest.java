@@ -1,5 +1,6 @@
 package com.logistics.entity;
 
+import com.logistics.cache.DashboardSourceCacheListener;
 import com.logistics.enums.ShippingRequestAttachmentType;
 import com.logistics.enums.ShippingRequestStatus;
 import com.logistics.enums.ShippingRequestType;
@@ -21,7 +22,7 @@ import java.util.List;
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
-@EntityListeners(AuditingEntityListener.class)
+@EntityListeners({AuditingEntityListener.class, DashboardSourceCacheListener.class})
 public class ShippingRequest {
 
     @Id
@@ -131,5 +132,21 @@ public class ShippingRequest {
     @PostPersist
     private void generateCode() {
         this.code = "SR" + LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd")) + id;
+        snapshotLoadedState();
     }
-}
\ No newline at end of file
+
+    // Bưu cục lúc nạp entity, để DashboardCache làm mới cả bưu cục cũ khi yêu cầu chuyển bưu cục
+    @Transient
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private Integer loadedOfficeId;
+
+    // Callback của entity chạy sau các entity listener nên listener vẫn thấy giá trị cũ;
+    // sau khi persist thì generateCode gọi lại vì JPA chỉ cho một callback @PostPersist mỗi entity
+    @PostLoad
+    @PostUpdate
+    private void snapshotLoadedState() {
+        loadedOfficeId = office != null ? office.getId() : null;
+    }
+}
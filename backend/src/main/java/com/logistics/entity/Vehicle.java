@@ -1,5 +1,6 @@
 package com.logistics.entity;
 
+import com.logistics.cache.DashboardSourceCacheListener;
 import com.logistics.enums.VehicleStatus;
 import com.logistics.enums.VehicleType;
 import jakarta.persistence.*;
@@ -18,7 +19,7 @@ import java.time.LocalDateTime;
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
-@EntityListeners(AuditingEntityListener.class)
+@EntityListeners({AuditingEntityListener.class, DashboardSourceCacheListener.class})
 public class Vehicle {
 
     @Id
@@ -71,4 +72,19 @@ public class Vehicle {
 
     @Column(length = 64)
     private String gpsDeviceId;
-}
\ No newline at end of file
+
+    // Bưu cục lúc nạp entity, để DashboardCache làm mới cả bưu cục cũ khi phương tiện chuyển bưu cục
+    @Transient
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private Integer loadedOfficeId;
+
+    // Callback của entity chạy sau các entity listener nên listener vẫn thấy giá trị cũ
+    @PostLoad
+    @PostPersist
+    @PostUpdate
+    private void snapshotLoadedState() {
+        loadedOfficeId = office != null ? office.getId() : null;
+    }
+}
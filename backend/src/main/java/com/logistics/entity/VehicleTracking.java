@@ -1,12 +1,12 @@
 // Bảng mới theo dõi vị trí xe và cho hiển thị vị trí trên bản đồ và đường đã đi được
 package com.logistics.entity;
 
+import com.logistics.utils.GeoUtils;
 import jakarta.persistence.*;
 import lombok.*;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
@@ -23,27 +23,40 @@ public class VehicleTracking {
     private Integer id;
 
     // Liên kết tới xe
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "vehicle_id", nullable = false)
     private Vehicle vehicle;
 
     // Liên kết tới chuyến hàng
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "shipment_id", nullable = false)
     private Shipment shipment;
 
-    @Column(precision = 10, scale = 6, nullable = false)
-    private BigDecimal latitude;
+    // Tọa độ lưu dạng số nguyên: độ nhân 10^6 (xem GeoUtils.toE6)
+    @Column(name = "latitude_e6", nullable = false)
+    private Integer latitudeE6;
 
-    @Column(precision = 10, scale = 6, nullable = false)
-    private BigDecimal longitude;
+    @Column(name = "longitude_e6", nullable = false)
+    private Integer longitudeE6;
 
-    // Tốc độ di chuyển
-    @Column(precision = 6, scale = 2, nullable = false)
-    private BigDecimal speed;
+    // Tốc độ di chuyển (km/h nhân 100)
+    @Column(name = "speed_e2", nullable = false)
+    private Integer speedE2;
 
     // Thời gian tạo
     @CreatedDate
     @Column(nullable = false, updatable = false)
     private LocalDateTime recordedAt;
-}
\ No newline at end of file
+
+    public double getLatitude() {
+        return GeoUtils.fromE6(latitudeE6);
+    }
+
+    public double getLongitude() {
+        return GeoUtils.fromE6(longitudeE6);
+    }
+
+    public double getSpeed() {
+        return speedE2 / 100.0;
+    }
+}
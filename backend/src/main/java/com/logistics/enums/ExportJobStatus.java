@@ -0,0 +1,8 @@
+package com.logistics.enums;
+
+public enum ExportJobStatus {
+    PENDING, // Đang chờ trong hàng đợi
+    RUNNING, // Đang sinh file
+    DONE, // File đã sẵn sàng để tải
+    FAILED, // Lỗi khi sinh file
+}
@@ -0,0 +1,6 @@
+package com.logistics.enums;
+
+public enum OrderCounterOwnerType {
+    SHOP,
+    OFFICE
+}
@@ -0,0 +1,8 @@
+package com.logistics.enums;
+
+public enum SettlementCheckpointStatus {
+    PENDING, // Shop chưa được xử lý trong lượt đối soát
+    COMPLETED, // Đã tạo phiên đối soát
+    SKIPPED, // Không có đơn cần đối soát
+    FAILED, // Lỗi, sẽ được chạy lại khi resume
+}
@@ -15,6 +15,7 @@ public enum CommonErrorCode implements BaseErrorCode {
     BAD_REQUEST(HttpStatus.BAD_REQUEST, "Yêu cầu không được thực hiện"),
     FORBIDDEN(HttpStatus.FORBIDDEN, "Bạn không có quyền thực hiện thao tác này"),
     MISSING_REQUIRED_FIELDS(HttpStatus.BAD_REQUEST, "Thiếu thông tin bắt buộc: %s"),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "Con trỏ phân trang không hợp lệ"),
     EXPORT_EXCEL_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "Có lỗi xảy ra trong quá trình xuất file Excel"),
     PARSE_ATTACHMENTS_FAILED(HttpStatus.BAD_REQUEST, "Có lỗi xảy ra khi phân tích dữ liệu"),
     ROLE_INVALID(HttpStatus.UNAUTHORIZED, "Không xác định được role hiện tại"),
@@ -0,0 +1,22 @@
+package com.logistics.exception.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+
+@Getter
+@RequiredArgsConstructor
+public enum ExportJobErrorCode implements BaseErrorCode {
+    EXPORT_JOB_NOT_FOUND(HttpStatus.NOT_FOUND, "Yêu cầu xuất file không tồn tại hoặc đã hết hạn"),
+    EXPORT_JOB_NOT_READY(HttpStatus.CONFLICT, "File xuất chưa sẵn sàng để tải"),
+    EXPORT_JOB_LIMIT_REACHED(HttpStatus.TOO_MANY_REQUESTS, "Đang có quá nhiều yêu cầu xuất file, vui lòng chờ yêu cầu trước hoàn tất"),
+    EXPORT_JOB_QUEUE_FULL(HttpStatus.SERVICE_UNAVAILABLE, "Hệ thống đang bận xuất file, vui lòng thử lại sau"),
+    ;
+
+    private final HttpStatus httpStatus;
+    private final String message;
+
+    public String getCode() {
+        return this.name();
+    }
+}
@@ -13,7 +13,11 @@ public enum FeeErrorCode implements BaseErrorCode {
     ACCOUNT_PASSWORD_INCORRECT(HttpStatus.UNAUTHORIZED, "Mật khẩu không chính xác"),
     ACCOUNT_NEW_EMAIL_DUPLICATE_CURRENT(HttpStatus.BAD_REQUEST, "Email mới không được trùng với email hiện tại"),
     ACCOUNT_EMAIL_ALREADY_IN_USE(HttpStatus.CONFLICT, "Email này đã được sử dụng bởi tài khoản khác"),
-    ACCOUNT_OTP_INVALID_OR_EXPIRED(HttpStatus.BAD_REQUEST, "Mã OTP không hợp lệ hoặc đã hết hạn");
+    ACCOUNT_OTP_INVALID_OR_EXPIRED(HttpStatus.BAD_REQUEST, "Mã OTP không hợp lệ hoặc đã hết hạn"),
+
+    // Báo giá hàng loạt
+    FEE_QUOTE_ITEMS_REQUIRED(HttpStatus.BAD_REQUEST, "Danh sách báo giá không được để trống"),
+    FEE_QUOTE_ITEMS_TOO_MANY(HttpStatus.BAD_REQUEST, "Mỗi lần chỉ được báo giá tối đa %d dòng"),
     ;
 
     private final HttpStatus httpStatus;
@@ -0,0 +1,25 @@
+package com.logistics.mapper;
+
+import com.logistics.dto.common.ExportJobDto;
+import com.logistics.service.common.export.ExportJob;
+
+public class ExportJobMapper {
+
+    public static ExportJobDto toDto(ExportJob job) {
+        if (job == null) {
+            return null;
+        }
+
+        return new ExportJobDto(
+                job.getId(),
+                job.getFileName(),
+                job.getStatus().name(),
+                job.getRowsWritten(),
+                job.getTotalRows() >= 0 ? job.getTotalRows() : null,
+                job.getPercent(),
+                job.getErrorMessage(),
+                job.getCreatedAt(),
+                job.getFinishedAt(),
+                job.getExpiresAt());
+    }
+}
@@ -0,0 +1,32 @@
+package com.logistics.monitoring;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Ghi log số liệu của mọi {@link StatsSource} mỗi 5 phút.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StatsReporter {
+
+    private final List<StatsSource> sources;
+
+    @Scheduled(fixedDelay = 5 * 60 * 1000, initialDelay = 5 * 60 * 1000)
+    public void report() {
+        for (StatsSource source : sources) {
+            try {
+                if (source.hasActivity()) {
+                    log.info("[{}] {}", source.statsName(), source.stats());
+                }
+            } catch (Exception e) {
+                log.warn("[Stats] Could not read stats of {} - {}", source.statsName(), e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.logistics.monitoring;
+
+import java.util.Map;
+
+/**
+ * Thành phần có số liệu vận hành (đếm tích lũy từ lúc khởi động) được {@link StatsReporter} ghi log
+ * định kỳ.
+ */
+public interface StatsSource {
+
+    // Nhãn trong log, vd "Telemetry" -> "[Telemetry] {...}"
+    String statsName();
+
+    Map<String, Object> stats();
+
+    // false khi chưa có hoạt động nào để không ghi log toàn số 0
+    default boolean hasActivity() {
+        return true;
+    }
+}
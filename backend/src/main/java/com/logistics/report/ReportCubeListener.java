@@ -0,0 +1,35 @@
+package com.logistics.report;
+
+import com.logistics.entity.Order;
+import com.logistics.entity.PaymentSubmission;
+import com.logistics.entity.PaymentSubmissionBatch;
+import com.logistics.entity.SettlementTransaction;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entity listener cho Order, PaymentSubmission, PaymentSubmissionBatch và SettlementTransaction:
+ * đánh dấu ngày tổng hợp mà bản ghi thuộc về (ngày tạo đơn / ngày thanh toán) để
+ * ReportCubeRefresher dựng lại sau khi transaction commit.
+ */
+public class ReportCubeListener {
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        LocalDateTime time = switch (entity) {
+            case Order order -> order.getCreatedAt();
+            case PaymentSubmission submission -> submission.getPaidAt();
+            case PaymentSubmissionBatch batch -> batch.getCreatedAt();
+            case SettlementTransaction transaction -> transaction.getPaidAt();
+            default -> null;
+        };
+        if (time != null) {
+            ReportCubeRefresher.markDirtyAfterCommit(time.toLocalDate());
+        }
+    }
+}
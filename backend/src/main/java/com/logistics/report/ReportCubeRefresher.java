@@ -0,0 +1,121 @@
+package com.logistics.report;
+
+import com.logistics.config.properties.ReportCubeProperties;
+import com.logistics.repository.ReportCubeRepository;
+import com.logistics.utils.TransactionUtils;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Duy trì bảng tổng hợp báo cáo: {@link ReportCubeListener} đánh dấu ngày bị ảnh hưởng sau khi
+ * transaction commit, luồng nền dựng lại các ngày đó theo chu kỳ {@code refreshIntervalMs}.
+ * Đối soát hằng đêm dựng lại {@code reconcileDays} ngày gần nhất để bù các thay đổi không đi qua
+ * JPA (bulk update, sửa tay DB, instance khác); lần chạy đầu với bảng rỗng thì dựng toàn bộ lịch sử.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReportCubeRefresher {
+
+    private static final Set<LocalDate> DIRTY_DAYS = ConcurrentHashMap.newKeySet();
+
+    private final ReportCubeRepository cubeRepository;
+    private final ReportCubeProperties properties;
+
+    private ScheduledExecutorService executor;
+
+    /**
+     * Đánh dấu ngày cần dựng lại sau khi transaction hiện tại commit.
+     */
+    public static void markDirtyAfterCommit(LocalDate day) {
+        if (day == null) {
+            return;
+        }
+        TransactionUtils.runAfterCommit(() -> DIRTY_DAYS.add(day));
+    }
+
+    @PostConstruct
+    public void start() {
+        // Luồng riêng để việc dựng lại (nhất là lần backfill đầu) không chiếm luồng @Scheduled chung
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "report-cube");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.execute(this::backfillIfEmpty);
+        long interval = Math.max(1000, properties.getRefreshIntervalMs());
+        executor.scheduleWithFixedDelay(this::refreshDirtyDays, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @Scheduled(cron = "0 30 1 * * ?")
+    public void reconcile() {
+        LocalDate today = LocalDate.now();
+        executor.execute(() -> rebuild(today.minusDays(Math.max(1, properties.getReconcileDays()) - 1L), today));
+    }
+
+    private void backfillIfEmpty() {
+        try {
+            if (!cubeRepository.isEmpty()) {
+                return;
+            }
+            LocalDate first = cubeRepository.findFirstOrderDay();
+            if (first != null) {
+                log.info("[Report Cube] Empty cube, backfilling from {}", first);
+                rebuild(first, LocalDate.now());
+            }
+        } catch (Exception e) {
+            log.error("[Report Cube] Backfill failed - {}", e.getMessage(), e);
+        }
+    }
+
+    private void refreshDirtyDays() {
+        if (DIRTY_DAYS.isEmpty()) {
+            return;
+        }
+        List<LocalDate> days = new ArrayList<>(DIRTY_DAYS);
+        DIRTY_DAYS.removeAll(days);
+        for (LocalDate day : days) {
+            try {
+                cubeRepository.rebuildDay(day);
+            } catch (Exception e) {
+                // Giữ lại để thử ở chu kỳ sau
+                DIRTY_DAYS.add(day);
+                log.warn("[Report Cube] Could not rebuild {} - {}", day, e.getMessage());
+            }
+        }
+    }
+
+    private void rebuild(LocalDate from, LocalDate to) {
+        long startedAt = System.currentTimeMillis();
+        int rebuilt = 0;
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            try {
+                cubeRepository.rebuildDay(day);
+                rebuilt++;
+            } catch (Exception e) {
+                DIRTY_DAYS.add(day);
+                log.warn("[Report Cube] Could not rebuild {} - {}", day, e.getMessage());
+            }
+        }
+        log.info("[Report Cube] Rebuilt {} days ({} -> {}) in {} ms",
+                rebuilt, from, to, System.currentTimeMillis() - startedAt);
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+    }
+}
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -66,4 +67,15 @@ public interface AiRoutePlanRouteRepository extends JpaRepository<AiRoutePlanRou
                      r.id DESC
             """)
     List<AiRoutePlanRoute> findActiveByShipmentId(@Param("shipmentId") Integer shipmentId);
+
+    // Vị trí gần nhất shipper gửi lên khi tối ưu lại tuyến: [shipperUserId, latitude, longitude], mới nhất trước
+    @Query("""
+            SELECT r.shipperUserId, r.currentLatitude, r.currentLongitude FROM AiRoutePlanRoute r
+            WHERE r.shipperUserId IN :userIds
+              AND r.isActive = true
+              AND r.currentLatitude IS NOT NULL
+              AND r.currentLongitude IS NOT NULL
+            ORDER BY r.id DESC
+            """)
+    List<Object[]> findLastKnownPositions(@Param("userIds") Collection<Integer> userIds);
 }
@@ -2,7 +2,10 @@ package com.logistics.repository;
 
 import com.logistics.entity.DeliveryAttempt;
 import com.logistics.enums.DeliveryAttemptStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
@@ -10,4 +13,16 @@ public interface DeliveryAttemptRepository extends JpaRepository<DeliveryAttempt
     List<DeliveryAttempt> findByOrderIdOrderByAttemptNumberDesc(Integer orderId);
     long countByOrderIdAndStatus(Integer orderId, DeliveryAttemptStatus status);
     long countByOrderId(Integer orderId);
+
+    // Lần giao thất bại của shipper với đơn thuộc bưu cục đích, mới nhất trước
+    @Query("""
+            SELECT a FROM DeliveryAttempt a
+            JOIN FETCH a.order o
+            WHERE a.shipper.id = :shipperId AND a.status = :status AND o.toOffice.id = :officeId
+            ORDER BY a.attemptedAt DESC
+            """)
+    List<DeliveryAttempt> findByShipperAndStatusForOffice(@Param("shipperId") Integer shipperId,
+            @Param("status") DeliveryAttemptStatus status,
+            @Param("officeId") Integer officeId,
+            Pageable pageable);
 }
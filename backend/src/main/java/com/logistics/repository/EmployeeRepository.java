@@ -13,6 +13,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -181,4 +182,36 @@ public interface EmployeeRepository extends JpaRepository<Employee, Integer>, Jp
                   AND r.userOwner IS NULL
             """)
     List<Employee> findActiveShippersByCityCode(@Param("cityCode") Integer cityCode);
-}
\ No newline at end of file
+
+    @Query("""
+                SELECT e FROM Employee e
+                JOIN FETCH e.user u
+                JOIN e.accountRole ar
+                JOIN ar.role r
+                WHERE e.office.id = :officeId
+                  AND e.status = com.logistics.enums.EmployeeStatus.ACTIVE
+                  AND LOWER(r.name) = 'shipper'
+                ORDER BY e.id
+            """)
+    List<Employee> findActiveShippersByOfficeId(@Param("officeId") Integer officeId);
+
+    // Nhân viên + bưu cục của các user shipper: [userId, employeeId, officeId, officeLatitude, officeLongitude]
+    @Query("""
+            SELECT e.user.id, e.id, o.id, o.latitude, o.longitude
+            FROM Employee e
+            LEFT JOIN e.office o
+            WHERE e.user.id IN :userIds
+            ORDER BY e.id
+            """)
+    List<Object[]> findOfficesByUserIds(@Param("userIds") Collection<Integer> userIds);
+
+    // [userId, officeId] của nhân viên theo trạng thái
+    @Query("""
+            SELECT e.user.id, e.office.id
+            FROM Employee e
+            WHERE e.user.id IN :userIds AND e.status = :status
+            ORDER BY e.id
+            """)
+    List<Object[]> findOfficeIdsByUserIdsAndStatus(@Param("userIds") Collection<Integer> userIds,
+            @Param("status") EmployeeStatus status);
+}
@@ -18,4 +18,8 @@ public interface FeeConfigurationRepository extends JpaRepository<FeeConfigurati
     @Query("SELECT f FROM FeeConfiguration f WHERE (f.serviceType.id = :serviceTypeId OR f.serviceType IS NULL) AND f.active = true")
     List<FeeConfiguration> findActiveByServiceTypeIdIncludingNull(@Param("serviceTypeId") Integer serviceTypeId);
 
+    // Lấy toàn bộ phí đang active để biên dịch TariffSnapshot
+    @Query("SELECT f FROM FeeConfiguration f LEFT JOIN FETCH f.serviceType WHERE f.active = true ORDER BY f.id ASC")
+    List<FeeConfiguration> findActiveWithServiceType();
+
 }
@@ -2,12 +2,15 @@ package com.logistics.repository;
 
 import com.logistics.dto.manager.dashboard.ManagerIncidentStatsDTO;
 import com.logistics.entity.IncidentReport;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface IncidentReportRepository
                 extends JpaRepository<IncidentReport, Integer>, JpaSpecificationExecutor<IncidentReport> {
@@ -30,4 +33,6 @@ public interface IncidentReportRepository
                         +
                         "FROM IncidentReport i WHERE i.office.id = :officeId")
         ManagerIncidentStatsDTO getIncidentStatsByOffice(@Param("officeId") Integer officeId);
+
+        List<IncidentReport> findByShipperIdOrderByCreatedAtDesc(Integer shipperId, Pageable pageable);
 }
@@ -1,6 +1,7 @@
 package com.logistics.repository;
 
 import com.logistics.entity.InternalChatRoom;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -22,6 +23,9 @@ public interface InternalChatRoomRepository extends JpaRepository<InternalChatRo
     @Query("SELECT r FROM InternalChatRoom r WHERE r.officeId = :officeId ORDER BY r.lastMessageAt DESC NULLS LAST")
     List<InternalChatRoom> findOfficeRoomsOrderByLastMessage(@Param("officeId") Integer officeId);
 
+    @Query("SELECT r FROM InternalChatRoom r ORDER BY r.lastMessageAt DESC NULLS LAST, r.id DESC")
+    List<InternalChatRoom> findRecentRooms(Pageable pageable);
+
     @Modifying
     @Query("UPDATE InternalChatRoom r SET r.lastMessage = :message, r.lastMessageAt = :lastMessageAt, " +
            "r.lastSenderAccountId = :senderAccountId WHERE r.id = :roomId")
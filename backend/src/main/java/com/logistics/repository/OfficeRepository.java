@@ -6,8 +6,10 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -26,4 +28,17 @@ public interface OfficeRepository extends JpaRepository<Office, Integer>, JpaSpe
 
     @Query("SELECT o.cityCode FROM Office o WHERE o.id = :id")
     Integer findCityCodeById(int id);
-}
\ No newline at end of file
+
+    // [id, name] các bưu cục có tên, sắp theo tên
+    @Query("SELECT o.id, o.name FROM Office o WHERE o.name IS NOT NULL ORDER BY o.name")
+    List<Object[]> findIdAndNameOrderByName();
+
+    // User có đang là trưởng bưu cục (không nghỉ) của bưu cục này không
+    @Query("""
+            SELECT COUNT(o) > 0 FROM Office o
+            WHERE o.id = :officeId
+              AND o.manager.user.id = :userId
+              AND o.manager.status <> com.logistics.enums.EmployeeStatus.LEAVE
+            """)
+    boolean isManagedByUser(@Param("officeId") Integer officeId, @Param("userId") Integer userId);
+}
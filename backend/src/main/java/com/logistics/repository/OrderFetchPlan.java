@@ -0,0 +1,19 @@
+package com.logistics.repository;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Các fetch plan của đơn hàng, ánh xạ tới @NamedEntityGraph khai báo trên Order.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum OrderFetchPlan {
+    LIST("Order.list"),
+    DETAIL("Order.detail"),
+    PRINT("Order.print"),
+    SETTLEMENT("Order.settlement"),
+    ROUTE("Order.route");
+
+    private final String graphName;
+}
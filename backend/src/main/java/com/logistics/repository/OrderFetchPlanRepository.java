@@ -0,0 +1,25 @@
+package com.logistics.repository;
+
+import com.logistics.entity.Order;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/**
+ * Truy vấn đơn hàng theo Specification kèm fetch plan, để mỗi màn hình chỉ join đúng các quan hệ
+ * nó hiển thị (Spring Data không cho gắn @EntityGraph theo từng lời gọi findAll(spec, ...)).
+ */
+public interface OrderFetchPlanRepository {
+
+    Page<Order> findAll(Specification<Order> spec, Pageable pageable, OrderFetchPlan plan);
+
+    List<Order> findAll(Specification<Order> spec, Sort sort, OrderFetchPlan plan);
+
+    List<Order> findAll(Specification<Order> spec, Sort sort, int limit, OrderFetchPlan plan);
+
+    // Chỉ cột id, không nạp entity
+    List<Integer> findIds(Specification<Order> spec, Sort sort);
+}
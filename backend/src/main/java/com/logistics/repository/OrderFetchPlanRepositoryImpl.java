@@ -0,0 +1,104 @@
+package com.logistics.repository;
+
+import com.logistics.entity.Order;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.List;
+
+public class OrderFetchPlanRepositoryImpl implements OrderFetchPlanRepository {
+
+    // Fetch graph: quan hệ không có trong graph giữ nguyên LAZY
+    private static final String FETCH_GRAPH_HINT = "jakarta.persistence.fetchgraph";
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Override
+    public Page<Order> findAll(Specification<Order> spec, Pageable pageable, OrderFetchPlan plan) {
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(findAll(spec, pageable.getSort(), plan));
+        }
+        List<Order> content = createQuery(spec, pageable.getSort(), plan)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(spec));
+    }
+
+    @Override
+    public List<Order> findAll(Specification<Order> spec, Sort sort, OrderFetchPlan plan) {
+        return createQuery(spec, sort, plan).getResultList();
+    }
+
+    @Override
+    public List<Order> findAll(Specification<Order> spec, Sort sort, int limit, OrderFetchPlan plan) {
+        return createQuery(spec, sort, plan)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public List<Integer> findIds(Specification<Order> spec, Sort sort) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<Integer> query = cb.createQuery(Integer.class);
+        Root<Order> root = query.from(Order.class);
+
+        Predicate predicate = spec != null ? spec.toPredicate(root, query, cb) : null;
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.select(root.get("id"));
+        if (sort.isSorted()) {
+            query.orderBy(QueryUtils.toOrders(sort, root, cb));
+        }
+
+        return em.createQuery(query).getResultList();
+    }
+
+    private TypedQuery<Order> createQuery(Specification<Order> spec, Sort sort, OrderFetchPlan plan) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<Order> query = cb.createQuery(Order.class);
+        Root<Order> root = query.from(Order.class);
+
+        Predicate predicate = spec != null ? spec.toPredicate(root, query, cb) : null;
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.select(root);
+        if (sort.isSorted()) {
+            query.orderBy(QueryUtils.toOrders(sort, root, cb));
+        }
+
+        return em.createQuery(query)
+                .setHint(FETCH_GRAPH_HINT, em.getEntityGraph(plan.getGraphName()));
+    }
+
+    private long count(Specification<Order> spec) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Order> root = query.from(Order.class);
+
+        Predicate predicate = spec != null ? spec.toPredicate(root, query, cb) : null;
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.select(query.isDistinct() ? cb.countDistinct(root) : cb.count(root));
+        // Specification có thể đặt orderBy, câu đếm không cần
+        query.orderBy(List.of());
+
+        return em.createQuery(query).getSingleResult();
+    }
+}
@@ -1,8 +1,11 @@
 package com.logistics.repository;
 
 import com.logistics.entity.OrderHistory;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -11,5 +14,18 @@ import java.util.List;
 public interface OrderHistoryRepository extends JpaRepository<OrderHistory, Integer>, JpaSpecificationExecutor<OrderHistory> {
     List<OrderHistory> findByOrderId(Integer orderId);
 
+    // Trang chi tiết đơn hiển thị tên bưu cục của từng chặng
+    @EntityGraph(attributePaths = {"fromOffice", "toOffice"})
     List<OrderHistory> findByOrderIdOrderByActionTimeDesc(Integer orderId);
+
+    // Hành trình công khai theo mã vận đơn: id, tên bưu cục đi, tên bưu cục đến, hành động, ghi chú, thời điểm
+    @Query("""
+            SELECT h.id, fo.name, tof.name, h.action, h.note, h.actionTime
+            FROM OrderHistory h
+            LEFT JOIN h.fromOffice fo
+            LEFT JOIN h.toOffice tof
+            WHERE h.order.trackingNumber = :trackingNumber
+            ORDER BY h.actionTime DESC, h.id DESC
+            """)
+    List<Object[]> findTimelineByTrackingNumber(@Param("trackingNumber") String trackingNumber);
 }
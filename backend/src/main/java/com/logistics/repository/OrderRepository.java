@@ -6,28 +6,33 @@ import com.logistics.dto.user.dashboard.UserDeliveredOrderCountDTO;
 import com.logistics.dto.user.dashboard.UserOrderStatsDTO;
 import com.logistics.entity.Office;
 import com.logistics.entity.Order;
+import com.logistics.entity.SettlementBatch;
 import com.logistics.entity.User;
+import com.logistics.enums.OrderCreatorType;
 import com.logistics.enums.OrderStatus;
 import com.logistics.enums.PickupNotificationStage;
 import com.logistics.enums.ShipmentStatus;
 import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface OrderRepository
-        extends JpaRepository<Order, Integer>, JpaSpecificationExecutor<Order> {
+        extends JpaRepository<Order, Integer>, JpaSpecificationExecutor<Order>, OrderFetchPlanRepository {
 
     Optional<Order> findByTrackingNumber(String trackingNumber);
 
@@ -58,12 +63,124 @@ public interface OrderRepository
 
     Optional<Order> findTopByUserIdOrderByCreatedAtDesc(Integer userId);
 
+    // ------------------- Theo fetch plan (xem @NamedEntityGraph trên Order) -------------------
+    @EntityGraph("Order.detail")
+    Optional<Order> findDetailById(Integer id);
+
+    @EntityGraph("Order.detail")
+    Optional<Order> findDetailByIdAndUserId(Integer id, int userId);
+
+    @EntityGraph("Order.detail")
+    Optional<Order> findDetailByTrackingNumber(String trackingNumber);
+
+    @EntityGraph("Order.detail")
+    Optional<Order> findDetailByTrackingNumberAndUserId(String trackingNumber, int userId);
+
+    @EntityGraph("Order.print")
+    List<Order> findPrintByIdIn(List<Integer> orderIds);
+
+    @EntityGraph("Order.print")
+    List<Order> findPrintByUserIdAndIdIn(Integer userId, List<Integer> orderIds);
+
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT o FROM Order o WHERE o.id = :id")
     Optional<Order> findByIdForUpdate(@Param("id") Integer id);
 
+    // Các đơn AT_DEST_OFFICE (trong danh sách id) chờ phân công tại một bưu cục, khóa trong một truy vấn
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+            SELECT o FROM Order o
+            LEFT JOIN FETCH o.recipientAddress
+            WHERE o.toOffice.id = :officeId
+              AND o.id IN :orderIds
+              AND o.status = com.logistics.enums.OrderStatus.AT_DEST_OFFICE
+            ORDER BY o.id
+            """)
+    List<Order> findAutoAssignBacklogForUpdate(@Param("officeId") Integer officeId,
+            @Param("orderIds") Collection<Integer> orderIds);
+
     List<Order> findByUserAndSettlementBatchIsNullAndStatusIn(User user, List<OrderStatus> statuses);
 
+    boolean existsByUserIdAndSettlementBatchIsNullAndStatusIn(Integer userId, List<OrderStatus> statuses);
+
+    // Đối soát: id các đơn đủ điều kiện đưa vào phiên, phân trang theo id (keyset).
+    // Đủ điều kiện = có submission MATCHED/ADJUSTED, hoặc chưa có submission nào
+    // và không phải đơn COD = 0 do shop trả phí
+    @Query("""
+                SELECT o.id
+                FROM Order o
+                WHERE o.user.id = :userId
+                  AND o.status IN :statuses
+                  AND o.settlementBatch IS NULL
+                  AND o.id > :afterId
+                  AND (
+                        EXISTS (
+                            SELECT 1 FROM PaymentSubmission ps
+                            WHERE ps.order = o
+                              AND ps.status IN (com.logistics.enums.PaymentSubmissionStatus.MATCHED,
+                                                com.logistics.enums.PaymentSubmissionStatus.ADJUSTED)
+                        )
+                        OR (
+                            NOT EXISTS (SELECT 1 FROM PaymentSubmission ps2 WHERE ps2.order = o)
+                            AND NOT (o.cod = 0 AND o.payer = com.logistics.enums.OrderPayerType.SHOP)
+                        )
+                  )
+                ORDER BY o.id ASC
+            """)
+    List<Integer> findSettleableOrderIds(Integer userId, List<OrderStatus> statuses, Integer afterId,
+            Pageable pageable);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+                UPDATE Order o
+                SET o.settlementBatch = :batch,
+                    o.updatedAt = :now,
+                    o.version = o.version + 1
+                WHERE o.id IN :orderIds
+                  AND o.settlementBatch IS NULL
+            """)
+    int attachToSettlementBatch(SettlementBatch batch, List<Integer> orderIds, LocalDateTime now);
+
+    // Tổng tiền shop nhận của một phiên đối soát (cùng công thức với sumPendingCODNow)
+    @Query("""
+                SELECT COALESCE(SUM(
+                    CASE
+                        WHEN o.status = com.logistics.enums.OrderStatus.RETURNED
+                             AND o.paymentStatus = com.logistics.enums.OrderPaymentStatus.UNPAID
+                            THEN -o.totalFee
+                        WHEN o.status = com.logistics.enums.OrderStatus.RETURNED
+                             AND o.paymentStatus = com.logistics.enums.OrderPaymentStatus.PAID
+                             AND o.payer = com.logistics.enums.OrderPayerType.CUSTOMER
+                            THEN 0
+                        WHEN o.status = com.logistics.enums.OrderStatus.DELIVERED
+                             AND o.paymentStatus = com.logistics.enums.OrderPaymentStatus.PAID
+                             AND o.payer = com.logistics.enums.OrderPayerType.CUSTOMER
+                            THEN o.cod
+                        ELSE o.cod - o.totalFee
+                    END
+                ), 0)
+                FROM Order o
+                WHERE o.settlementBatch.id = :batchId
+            """)
+    BigDecimal sumSettlementAmountByBatchId(Integer batchId);
+
+    // Đánh dấu toàn bộ đơn của các phiên đã hoàn tất: COD đã chuyển, đơn đã thanh toán.
+    // paidAt phải gán trước paymentStatus vì MySQL áp dụng SET theo thứ tự
+    @Modifying(flushAutomatically = true)
+    @Query("""
+                UPDATE Order o
+                SET o.paidAt = CASE
+                        WHEN o.paymentStatus <> com.logistics.enums.OrderPaymentStatus.PAID THEN :now
+                        ELSE o.paidAt
+                    END,
+                    o.paymentStatus = com.logistics.enums.OrderPaymentStatus.PAID,
+                    o.codStatus = com.logistics.enums.OrderCodStatus.TRANSFERRED,
+                    o.updatedAt = :now,
+                    o.version = o.version + 1
+                WHERE o.settlementBatch.id IN :batchIds
+            """)
+    int markSettlementBatchesTransferred(List<Integer> batchIds, LocalDateTime now);
+
     // Dashboard của user
     @Query("SELECT new com.logistics.dto.user.dashboard.UserOrderStatsDTO(" +
             "COUNT(o), " +
@@ -223,6 +340,17 @@ public interface OrderRepository
             nativeQuery = true)
     List<Object[]> countByStatusForOffice(@Param("officeId") Integer officeId);
 
+    @Query("""
+            SELECT o.status, COUNT(o) FROM Order o
+            WHERE o.employee.id = :employeeId AND o.toOffice.id = :officeId AND o.createdByType = :createdByType
+              AND o.status IN :statuses
+            GROUP BY o.status
+            """)
+    List<Object[]> countByStatusForShipper(@Param("employeeId") Integer employeeId,
+            @Param("officeId") Integer officeId,
+            @Param("createdByType") OrderCreatorType createdByType,
+            @Param("statuses") List<OrderStatus> statuses);
+
     long countByUserIdAndRecipientPhoneAndRecipientFullAddress(
             int userId, String phone, String fullAddress);
 
@@ -254,6 +382,15 @@ public interface OrderRepository
             @Param("before") LocalDateTime before
     );
 
+    // Dựng lại timer leo thang lấy hàng: [id, readyForPickupAt, pickupNotificationStage]
+    @Query("""
+                SELECT o.id, o.readyForPickupAt, o.pickupNotificationStage FROM Order o
+                WHERE o.status = com.logistics.enums.OrderStatus.READY_FOR_PICKUP
+                  AND o.pickupNotificationStage <> com.logistics.enums.PickupNotificationStage.URGENT
+                  AND o.readyForPickupAt IS NOT NULL
+            """)
+    List<Object[]> findPickupEscalationTimers();
+
     // Manager xem danh sách URGENT theo cityCode của office
     @Query("""
                 SELECT o FROM Order o
@@ -3,6 +3,8 @@ package com.logistics.repository;
 import com.logistics.entity.Order;
 import com.logistics.entity.PaymentSubmission;
 import com.logistics.enums.PaymentSubmissionStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Lock;
@@ -21,11 +23,17 @@ public interface PaymentSubmissionRepository extends JpaRepository<PaymentSubmis
     @Query("SELECT DISTINCT p FROM PaymentSubmission p LEFT JOIN FETCH p.items it WHERE p.order.id = :orderId")
     List<PaymentSubmission> findByOrderIdWithItems(@Param("orderId") Integer orderId);
     List<PaymentSubmission> findByStatus(PaymentSubmissionStatus status);
+
+    Page<PaymentSubmission> findByStatus(PaymentSubmissionStatus status, Pageable pageable);
     
     List<PaymentSubmission> findByBatchIsNullAndStatusIn(List<PaymentSubmissionStatus> statuses);
 
     List<PaymentSubmission> findByShipperIdAndStatusIn(Integer shipperId, List<PaymentSubmissionStatus> statuses);
 
+    @Query("SELECT COALESCE(SUM(p.actualAmount), 0) FROM PaymentSubmission p WHERE p.shipper.id = :shipperId AND p.status IN :statuses")
+    BigDecimal sumActualAmountByShipperIdAndStatusIn(@Param("shipperId") Integer shipperId,
+            @Param("statuses") List<PaymentSubmissionStatus> statuses);
+
     @Lock(jakarta.persistence.LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT p FROM PaymentSubmission p WHERE p.id IN :ids")
     List<PaymentSubmission> findByIdInForUpdate(@Param("ids") List<Integer> ids);
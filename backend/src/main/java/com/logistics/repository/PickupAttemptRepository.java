@@ -2,11 +2,15 @@ package com.logistics.repository;
 
 import com.logistics.entity.PickupAttempt;
 import com.logistics.enums.PickupAttemptStatus;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.List;
 
 public interface PickupAttemptRepository extends JpaRepository<PickupAttempt, Long> {
     long countByOrderIdAndStatus(Integer orderId, PickupAttemptStatus status);
+
+    // Trang chi tiết đơn hiển thị tên shipper của từng lần lấy hàng
+    @EntityGraph(attributePaths = {"shipper"})
     List<PickupAttempt> findByOrderIdOrderByAttemptedAtDesc(Integer orderId);
 }
@@ -14,10 +14,10 @@ public interface PromotionRepository extends JpaRepository<Promotion, Integer>,
 
     boolean existsByCode(String code);
 
-    @Query("SELECT COUNT(o) FROM Order o WHERE o.promotion.id = :promotionId AND DATE(o.createdAt) = CURRENT_DATE")
+    @Query("SELECT COUNT(o) FROM Order o WHERE o.promotion.id = :promotionId AND CAST(o.createdAt AS LocalDate) = CURRENT_DATE")
     int countTodayUsageGlobal(Integer promotionId);
 
-    @Query("SELECT COUNT(o) FROM Order o WHERE o.promotion.id = :promotionId AND o.user.id = :userId AND DATE(o.createdAt) = CURRENT_DATE")
+    @Query("SELECT COUNT(o) FROM Order o WHERE o.promotion.id = :promotionId AND o.user.id = :userId AND CAST(o.createdAt AS LocalDate) = CURRENT_DATE")
     int countTodayUsageByUser(Integer userId, Integer promotionId);
 
     
@@ -0,0 +1,304 @@
+package com.logistics.repository;
+
+import com.logistics.dto.admin.AdminOfficeReportDto;
+import com.logistics.dto.admin.AdminShopReportDto;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Bảng tổng hợp báo cáo theo ngày (report_order_daily, report_finance_daily).
+ * Các hàm rebuild dựng lại đúng một ngày từ bảng gốc; các hàm đọc trả về dòng cùng thứ tự cột
+ * với truy vấn tương ứng trong {@link ReportRepository} nhưng chỉ quét bảng tổng hợp.
+ */
+@Repository
+public class ReportCubeRepository {
+
+    private static final String FAILED_STATUSES = "('DELIVERY_FAILED_FINAL', 'RETURN_FAILED_FINAL', 'PICKUP_FAILED_FINAL')";
+    private static final String SHIPPER_FAILED_STATUSES = "('FAILED_DELIVERY', 'DELIVERY_FAILED_FINAL', 'PICKUP_FAILED_FINAL')";
+
+    private static final String REBUILD_ORDER_DAY_SQL = """
+            insert into report_order_daily
+                (day, office_id, shop_id, shipper_id, status, order_count, order_value, cod_amount, shipping_fee,
+                 returning_count, returned_count, timed_count, pickup_delivery_seconds)
+            select :day, coalesce(o.from_office_id, 0), coalesce(o.user_id, 0), coalesce(o.employee_id, 0), o.status,
+                count(*),
+                coalesce(sum(o.order_value), 0),
+                coalesce(sum(o.cod), 0),
+                coalesce(sum(o.shipping_fee), 0),
+                coalesce(sum(h.has_returning), 0),
+                coalesce(sum(h.has_returned), 0),
+                coalesce(sum(case when h.delivered_at >= h.picked_up_at then 1 else 0 end), 0),
+                coalesce(sum(case when h.delivered_at >= h.picked_up_at
+                    then timestampdiff(second, h.picked_up_at, h.delivered_at) else 0 end), 0)
+            from orders o
+            left join (
+                select oh.order_id,
+                    min(case when oh.action = 'PICKED_UP' then oh.action_time end) as picked_up_at,
+                    max(case when oh.action = 'DELIVERED' then oh.action_time end) as delivered_at,
+                    max(case when oh.action = 'RETURNING' then 1 else 0 end) as has_returning,
+                    max(case when oh.action = 'RETURNED' then 1 else 0 end) as has_returned
+                from order_histories oh
+                join orders ho on ho.id = oh.order_id
+                where ho.created_at >= :start and ho.created_at < :end
+                  and oh.action in ('PICKED_UP', 'DELIVERED', 'RETURNING', 'RETURNED')
+                group by oh.order_id
+            ) h on h.order_id = o.id
+            where o.created_at >= :start and o.created_at < :end
+            group by coalesce(o.from_office_id, 0), coalesce(o.user_id, 0), coalesce(o.employee_id, 0), o.status
+            """;
+
+    private static final String REBUILD_FINANCE_DAY_SQL = """
+            insert into report_finance_daily (day, office_id, cod_collected, cod_submitted, cod_transferred)
+            select :day, x.office_id, sum(x.cod_collected), sum(x.cod_submitted), sum(x.cod_transferred)
+            from (
+                select coalesce(o.from_office_id, 0) as office_id, ps.system_amount as cod_collected,
+                    0 as cod_submitted, 0 as cod_transferred
+                from payment_submissions ps
+                left join orders o on o.id = ps.order_id
+                where ps.paid_at >= :start and ps.paid_at < :end
+                union all
+                select coalesce(b.office_id, 0), 0, b.total_actual_amount, 0
+                from payment_submission_batches b
+                where b.status = 'COMPLETED' and b.created_at >= :start and b.created_at < :end
+                union all
+                select 0, 0, 0, st.amount
+                from settlement_transactions st
+                where st.type = 'SYSTEM_TO_SHOP' and st.status = 'SUCCESS'
+                  and st.paid_at >= :start and st.paid_at < :end
+            ) x
+            group by x.office_id
+            """;
+
+    @PersistenceContext
+    private EntityManager em;
+
+    /**
+     * Dựng lại dữ liệu tổng hợp của một ngày trong cùng một transaction để người đọc không thấy
+     * ngày đó rỗng giữa chừng.
+     */
+    @Transactional
+    public void rebuildDay(LocalDate day) {
+        LocalDateTime start = day.atStartOfDay();
+        LocalDateTime end = day.plusDays(1).atStartOfDay();
+
+        em.createNativeQuery("delete from report_order_daily where day = :day")
+                .setParameter("day", day)
+                .executeUpdate();
+        em.createNativeQuery(REBUILD_ORDER_DAY_SQL)
+                .setParameter("day", day)
+                .setParameter("start", start)
+                .setParameter("end", end)
+                .executeUpdate();
+
+        em.createNativeQuery("delete from report_finance_daily where day = :day")
+                .setParameter("day", day)
+                .executeUpdate();
+        em.createNativeQuery(REBUILD_FINANCE_DAY_SQL)
+                .setParameter("day", day)
+                .setParameter("start", start)
+                .setParameter("end", end)
+                .executeUpdate();
+    }
+
+    @Transactional(readOnly = true)
+    public boolean isEmpty() {
+        List<?> rows = em.createNativeQuery("select 1 from report_order_daily limit 1").getResultList();
+        return rows.isEmpty();
+    }
+
+    /**
+     * Ngày tạo đơn sớm nhất, null nếu chưa có đơn.
+     */
+    @Transactional(readOnly = true)
+    public LocalDate findFirstOrderDay() {
+        Object value = em.createNativeQuery("select min(created_at) from orders").getSingleResult();
+        return ReportRepository.toLocalDate(value);
+    }
+
+    /**
+     * Cùng cột với {@link ReportRepository#orderOperationSummary}: day, total_orders, delivered,
+     * failed, avg_seconds, returning, returned.
+     */
+    @Transactional(readOnly = true)
+    public List<Object[]> orderOperationSummary(LocalDateTime start, LocalDateTime end) {
+        String sql = "SELECT r.day, "
+            + "SUM(r.order_count) as total_orders, "
+            + "SUM(CASE WHEN r.status = 'DELIVERED' THEN r.order_count ELSE 0 END) as delivered, "
+            + "SUM(CASE WHEN r.status IN " + FAILED_STATUSES + " THEN r.order_count ELSE 0 END) as failed, "
+            + "COALESCE(SUM(r.pickup_delivery_seconds) / NULLIF(SUM(r.timed_count), 0), 0) as avg_seconds, "
+            + "SUM(r.returning_count) as returning, "
+            + "SUM(r.returned_count) as returned "
+            + "FROM report_order_daily r "
+            + "WHERE r.day BETWEEN :start AND :end "
+            + "GROUP BY r.day "
+            + "ORDER BY r.day";
+        return list(sql, start, end);
+    }
+
+    @Transactional(readOnly = true)
+    public List<AdminOfficeReportDto> reportByOffice(LocalDateTime start, LocalDateTime end) {
+        String sql = "SELECT o.id, o.name, t.cnt "
+            + "FROM (SELECT r.office_id, SUM(r.order_count) as cnt FROM report_order_daily r "
+            + "WHERE r.day BETWEEN :start AND :end GROUP BY r.office_id) t "
+            + "LEFT JOIN offices o ON o.id = t.office_id "
+            + "ORDER BY t.cnt DESC";
+        return list(sql, start, end).stream().map(r -> new AdminOfficeReportDto(
+            r[0] == null ? null : ((Number) r[0]).intValue(),
+            r[1] == null ? "" : r[1].toString(),
+            ReportRepository.safeLong(r[2])
+        )).toList();
+    }
+
+    @Transactional(readOnly = true)
+    public List<AdminShopReportDto> reportByShop(LocalDateTime start, LocalDateTime end) {
+        String sql = "SELECT u.id, CONCAT(u.last_name, ' ', u.first_name) as name, t.cnt, t.total_value, t.total_fee "
+            + "FROM (SELECT r.shop_id, SUM(r.order_count) as cnt, SUM(r.order_value) as total_value, SUM(r.shipping_fee) as total_fee "
+            + "FROM report_order_daily r WHERE r.day BETWEEN :start AND :end GROUP BY r.shop_id) t "
+            + "LEFT JOIN users u ON u.id = t.shop_id "
+            + "ORDER BY t.cnt DESC";
+        return list(sql, start, end).stream().map(r -> new AdminShopReportDto(
+            r[0] == null ? null : ((Number) r[0]).intValue(),
+            r[1] == null ? "" : r[1].toString(),
+            ReportRepository.safeLong(r[2]),
+            ReportRepository.safeBigDecimal(r[3]),
+            ReportRepository.safeBigDecimal(r[4])
+        )).toList();
+    }
+
+    /**
+     * Cùng cột với {@link ReportRepository#reportByOfficeDetailed}.
+     */
+    @Transactional(readOnly = true)
+    public List<Object[]> reportByOfficeDetailed(LocalDateTime start, LocalDateTime end) {
+        String sql = "SELECT o.id as office_id, o.name as office_name, "
+            + "COALESCE(t.total_orders,0) as total_orders, "
+            + "COALESCE(t.delivered,0) as delivered, "
+            + "COALESCE(t.failed,0) as failed, "
+            + "COALESCE(t.returned,0) as returned_orders, "
+            + "COALESCE(t.delivered,0) as dummy, "
+            + "COALESCE(t.shipping_revenue,0) as shipping_revenue, "
+            + "COALESCE(f.total_cod,0) as total_cod_collected, "
+            + "COALESCE(f.total_submitted,0) as cod_submitted_to_company, "
+            + "COALESCE(emp.cnt_emp,0) as total_employees, "
+            + "COALESCE(ship.cnt_shipper,0) as total_shippers "
+            + "FROM offices o "
+            + "LEFT JOIN (SELECT r.office_id, SUM(r.order_count) as total_orders, "
+            + "SUM(CASE WHEN r.status = 'DELIVERED' THEN r.order_count ELSE 0 END) as delivered, "
+            + "SUM(CASE WHEN r.status IN " + FAILED_STATUSES + " THEN r.order_count ELSE 0 END) as failed, "
+            + "SUM(CASE WHEN r.status = 'RETURNED' THEN r.order_count ELSE 0 END) as returned, "
+            + "SUM(r.shipping_fee) as shipping_revenue "
+            + "FROM report_order_daily r WHERE r.day BETWEEN :start AND :end GROUP BY r.office_id) t ON t.office_id = o.id "
+            + "LEFT JOIN (SELECT f.office_id, SUM(f.cod_collected) as total_cod, SUM(f.cod_submitted) as total_submitted "
+            + "FROM report_finance_daily f WHERE f.day BETWEEN :start AND :end GROUP BY f.office_id) f ON f.office_id = o.id "
+            + "LEFT JOIN (SELECT e.office_id, COUNT(*) as cnt_emp FROM employees e GROUP BY e.office_id) emp ON emp.office_id = o.id "
+            + "LEFT JOIN (SELECT e.office_id, COUNT(DISTINCT u.id) as cnt_shipper FROM employees e JOIN users u ON u.id = e.user_id JOIN account_roles ar ON ar.account_id = u.account_id JOIN roles r ON r.id = ar.role_id WHERE r.name = 'SHIPPER' GROUP BY e.office_id) ship ON ship.office_id = o.id "
+            + "ORDER BY o.name";
+        return list(sql, start, end);
+    }
+
+    /**
+     * Cùng cột với {@link ReportRepository#reportByShipperDetailed}.
+     */
+    @Transactional(readOnly = true)
+    public List<Object[]> reportByShipperDetailed(LocalDateTime start, LocalDateTime end) {
+        String sql = """
+            SELECT
+                e.id AS employee_id,
+                u.id AS user_id,
+                CONCAT(u.last_name, ' ', u.first_name) AS shipper_name,
+                u.phone_number,
+                ofc.id AS office_id,
+                ofc.name AS office_name,
+                COALESCE(c.total_orders, 0) AS total_orders,
+                COALESCE(c.delivered, 0) AS delivered,
+                COALESCE(c.failed, 0) AS failed,
+                COALESCE(c.return_count, 0) AS return_count,
+                COALESCE(c.total_orders - c.delivered - c.failed - c.return_count, 0) AS processing,
+                CASE
+                    WHEN COALESCE(c.total_orders, 0) = 0 THEN 0.0
+                    ELSE ROUND(c.delivered * 100.0 / c.total_orders, 2)
+                END AS success_rate,
+                COALESCE(c.cod_collected, 0) AS cod_collected
+            FROM employees e
+            JOIN users u ON u.id = e.user_id
+            JOIN offices ofc ON ofc.id = e.office_id
+            JOIN account_roles ar ON ar.id = e.account_role_id
+            JOIN roles r ON r.id = ar.role_id
+            LEFT JOIN (
+                SELECT
+                    d.shipper_id,
+                    SUM(d.order_count) AS total_orders,
+                    SUM(CASE WHEN d.status = 'DELIVERED' THEN d.order_count ELSE 0 END) AS delivered,
+                    SUM(CASE WHEN d.status IN %s THEN d.order_count ELSE 0 END) AS failed,
+                    SUM(CASE WHEN d.status IN ('RETURNING', 'RETURNED') THEN d.order_count ELSE 0 END) AS return_count,
+                    SUM(CASE WHEN d.status = 'DELIVERED' THEN d.cod_amount ELSE 0 END) AS cod_collected
+                FROM report_order_daily d
+                WHERE d.day BETWEEN :start AND :end AND d.shipper_id <> 0
+                GROUP BY d.shipper_id
+            ) c ON c.shipper_id = e.id
+            WHERE UPPER(r.name) = 'SHIPPER'
+            ORDER BY total_orders DESC
+            """.formatted(SHIPPER_FAILED_STATUSES);
+        return list(sql, start, end);
+    }
+
+    /**
+     * Cùng cột với {@link ReportRepository#financeReportByDay}.
+     */
+    @Transactional(readOnly = true)
+    public List<Object[]> financeReportByDay(LocalDateTime start, LocalDateTime end) {
+        String sql = "SELECT d.day, "
+            + "d.shipping_revenue, "
+            + "COALESCE(f.cod_collected,0) as cod_collected, "
+            + "COALESCE(f.cod_submitted,0) as cod_submitted, "
+            + "COALESCE(f.cod_transferred,0) as cod_transferred_to_shop "
+            + "FROM (SELECT r.day, SUM(r.shipping_fee) as shipping_revenue FROM report_order_daily r WHERE r.day BETWEEN :start AND :end GROUP BY r.day) d "
+            + "LEFT JOIN (SELECT f.day, SUM(f.cod_collected) as cod_collected, SUM(f.cod_submitted) as cod_submitted, SUM(f.cod_transferred) as cod_transferred "
+            + "FROM report_finance_daily f WHERE f.day BETWEEN :start AND :end GROUP BY f.day) f ON f.day = d.day "
+            + "ORDER BY d.day";
+        return list(sql, start, end);
+    }
+
+    /**
+     * Cùng 10 cột với {@link ReportRepository#overviewSummary}. Số bưu cục / nhân viên / shipper
+     * vẫn đếm trực tiếp vì các bảng này nhỏ.
+     */
+    @Transactional(readOnly = true)
+    public Object[] overviewSummary(LocalDateTime start, LocalDateTime end) {
+        String sql = "SELECT "
+            + "(SELECT COUNT(*) FROM offices) as total_offices, "
+            + "(SELECT COUNT(DISTINCT a.id) FROM accounts a JOIN account_roles ar ON ar.account_id = a.id JOIN roles r ON r.id = ar.role_id WHERE r.name = 'EMPLOYEE') as total_employees, "
+            + "(SELECT COUNT(DISTINCT a.id) FROM accounts a JOIN account_roles ar ON ar.account_id = a.id JOIN roles r ON r.id = ar.role_id WHERE r.name = 'SHIPPER') as total_shippers, "
+            + "t.total_orders, t.delivered, t.failed, t.returned, t.shipping_revenue, "
+            + "f.total_cod_collected, f.cod_transferred "
+            + "FROM (SELECT COALESCE(SUM(r.order_count),0) as total_orders, "
+            + "COALESCE(SUM(CASE WHEN r.status = 'DELIVERED' THEN r.order_count ELSE 0 END),0) as delivered, "
+            + "COALESCE(SUM(CASE WHEN r.status IN " + FAILED_STATUSES + " THEN r.order_count ELSE 0 END),0) as failed, "
+            + "COALESCE(SUM(CASE WHEN r.status = 'RETURNED' THEN r.order_count ELSE 0 END),0) as returned, "
+            + "COALESCE(SUM(r.shipping_fee),0) as shipping_revenue "
+            + "FROM report_order_daily r WHERE r.day BETWEEN :start AND :end) t "
+            + "CROSS JOIN (SELECT COALESCE(SUM(f.cod_collected),0) as total_cod_collected, "
+            + "COALESCE(SUM(f.cod_transferred),0) as cod_transferred "
+            + "FROM report_finance_daily f WHERE f.day BETWEEN :start AND :end) f";
+        Query q = em.createNativeQuery(sql);
+        q.setParameter("start", start.toLocalDate());
+        q.setParameter("end", end.toLocalDate());
+        return (Object[]) q.getSingleResult();
+    }
+
+    private List<Object[]> list(String sql, LocalDateTime start, LocalDateTime end) {
+        Query q = em.createNativeQuery(sql);
+        q.setParameter("start", start.toLocalDate());
+        q.setParameter("end", end.toLocalDate());
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = q.getResultList();
+        return rows;
+    }
+}
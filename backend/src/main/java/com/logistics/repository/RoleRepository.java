@@ -7,6 +7,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -28,4 +30,12 @@ public interface RoleRepository
             WHERE r.id = :id
             """)
     Optional<Role> findByIdWithPermissionGroups(@Param("id") Integer id);
+
+    // [roleId, name, ownerUserId] phục vụ phân loại role hệ thống / role của shop
+    @Query("""
+            SELECT r.id, r.name, o.id FROM Role r
+            LEFT JOIN r.userOwner o
+            WHERE r.id IN :ids
+            """)
+    List<Object[]> findOwnershipByIds(@Param("ids") Collection<Integer> ids);
 }
\ No newline at end of file
@@ -0,0 +1,49 @@
+package com.logistics.repository;
+
+import com.logistics.entity.SettlementCheckpoint;
+import com.logistics.enums.SettlementCheckpointStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface SettlementCheckpointRepository extends JpaRepository<SettlementCheckpoint, Integer> {
+
+    @Query("SELECT c.shop.id FROM SettlementCheckpoint c WHERE c.runDate = :runDate")
+    List<Integer> findShopIdsByRunDate(@Param("runDate") LocalDate runDate);
+
+    // Các checkpoint cần (chạy lại), sắp theo shop để chia partition ổn định giữa các lần resume
+    @Query("""
+                SELECT c.id FROM SettlementCheckpoint c
+                WHERE c.runDate = :runDate
+                  AND (c.status = com.logistics.enums.SettlementCheckpointStatus.PENDING
+                       OR (c.status = com.logistics.enums.SettlementCheckpointStatus.FAILED
+                           AND c.attempts < :maxAttempts))
+                ORDER BY c.shop.id ASC
+            """)
+    List<Integer> findRunnableIds(@Param("runDate") LocalDate runDate, @Param("maxAttempts") int maxAttempts);
+
+    @Query("""
+                SELECT DISTINCT c.runDate FROM SettlementCheckpoint c
+                WHERE c.runDate >= :fromDate
+                  AND (c.status = com.logistics.enums.SettlementCheckpointStatus.PENDING
+                       OR (c.status = com.logistics.enums.SettlementCheckpointStatus.FAILED
+                           AND c.attempts < :maxAttempts))
+                ORDER BY c.runDate ASC
+            """)
+    List<LocalDate> findUnfinishedRunDates(@Param("fromDate") LocalDate fromDate,
+            @Param("maxAttempts") int maxAttempts);
+
+    long countByRunDateAndStatus(LocalDate runDate, SettlementCheckpointStatus status);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM SettlementCheckpoint c WHERE c.id = :id")
+    Optional<SettlementCheckpoint> findByIdForUpdate(@Param("id") Integer id);
+}
@@ -3,12 +3,15 @@ package com.logistics.repository;
 import com.logistics.dto.manager.dashboard.ManagerShipmentStatsDTO;
 import com.logistics.entity.Shipment;
 import com.logistics.enums.ShipmentStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -73,4 +76,44 @@ public interface ShipmentRepository extends JpaRepository<Shipment, Integer>, Jp
     List<Shipment> findActiveDeliveryShipmentsByEmployee(@Param("employeeId") Integer employeeId);
 
     Optional<Shipment> findByEmployeeIdAndId(Integer employeeId, Integer id);
+
+    // [tài xế (user id), xe, bưu cục của xe] của chuyến, dùng cho đường nhận GPS
+    @Query("""
+                SELECT u.id, v.id, vo.id FROM Shipment s
+                LEFT JOIN s.employee e
+                LEFT JOIN e.user u
+                LEFT JOIN s.vehicle v
+                LEFT JOIN v.office vo
+                WHERE s.id = :shipmentId
+            """)
+    List<Object[]> findTelemetryAssignmentById(@Param("shipmentId") Integer shipmentId);
+
+    // [id, vehicleId, createdAt, endTime] của chuyến đã kết thúc, có xe, chưa có lộ trình nén, đứng sau
+    // con trỏ (afterEndTime, afterId) theo thứ tự (endTime, id)
+    @Query("""
+                SELECT s.id, s.vehicle.id, s.createdAt, s.endTime FROM Shipment s
+                WHERE s.status IN :statuses
+                  AND s.vehicle IS NOT NULL
+                  AND (s.endTime > :afterEndTime OR (s.endTime = :afterEndTime AND s.id > :afterId))
+                  AND s.endTime < :endedBefore
+                  AND NOT EXISTS (SELECT 1 FROM ShipmentTrajectory t WHERE t.shipmentId = s.id)
+                ORDER BY s.endTime, s.id
+            """)
+    List<Object[]> findFinishedWithoutTrajectory(@Param("statuses") Collection<ShipmentStatus> statuses,
+            @Param("afterEndTime") LocalDateTime afterEndTime,
+            @Param("afterId") Integer afterId,
+            @Param("endedBefore") LocalDateTime endedBefore,
+            Pageable pageable);
+
+    // Như trên, giới hạn trong các chuyến cho trước
+    @Query("""
+                SELECT s.id, s.vehicle.id, s.createdAt, s.endTime FROM Shipment s
+                WHERE s.id IN :ids
+                  AND s.status IN :statuses
+                  AND s.vehicle IS NOT NULL
+                  AND s.endTime IS NOT NULL
+                  AND NOT EXISTS (SELECT 1 FROM ShipmentTrajectory t WHERE t.shipmentId = s.id)
+            """)
+    List<Object[]> findFinishedWithoutTrajectoryByIdIn(@Param("ids") Collection<Integer> ids,
+            @Param("statuses") Collection<ShipmentStatus> statuses);
 }
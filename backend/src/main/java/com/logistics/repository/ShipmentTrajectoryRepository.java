@@ -0,0 +1,9 @@
+package com.logistics.repository;
+
+import com.logistics.entity.ShipmentTrajectory;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ShipmentTrajectoryRepository extends JpaRepository<ShipmentTrajectory, Integer> {
+}
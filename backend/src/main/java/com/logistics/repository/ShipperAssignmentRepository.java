@@ -78,4 +78,12 @@ public interface ShipperAssignmentRepository
             @Param("now") LocalDateTime now
     );
 
-}
\ No newline at end of file
+    // Nạp chỉ mục phủ sóng: [id, shipperId, cityCode, wardCode, startAt, endAt, createdAt]
+    @Query("""
+        SELECT sa.id, sa.shipper.id, sa.cityCode, sa.wardCode, sa.startAt, sa.endAt, sa.createdAt
+        FROM ShipperAssignment sa
+        WHERE sa.endAt IS NULL OR sa.endAt > :now
+    """)
+    List<Object[]> findCoverageRows(@Param("now") LocalDateTime now);
+
+}
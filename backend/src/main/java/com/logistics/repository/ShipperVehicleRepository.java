@@ -2,11 +2,24 @@ package com.logistics.repository;
 
 import com.logistics.entity.ShipperVehicle;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ShipperVehicleRepository extends JpaRepository<ShipperVehicle, Integer> {
     Optional<ShipperVehicle> findByShipperId(Integer shipperId);
+
+    // Tải hiện tại của xe theo user shipper: [userId, currentOrders, maxOrders, currentWeightKg, maxWeightKg, status]
+    @Query("""
+        SELECT e.user.id, sv.currentOrders, sv.maxOrders, sv.currentWeightKg, sv.maxWeightKg, sv.status
+        FROM ShipperVehicle sv
+        JOIN sv.shipper e
+        WHERE e.user.id IN :userIds
+    """)
+    List<Object[]> findWorkloadsByShipperUserIds(@Param("userIds") Collection<Integer> userIds);
 }
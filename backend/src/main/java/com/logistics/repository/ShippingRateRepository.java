@@ -4,6 +4,7 @@ import com.logistics.entity.ShippingRate;
 import com.logistics.enums.ShippingRateRegionType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -13,4 +14,8 @@ public interface ShippingRateRepository extends JpaRepository<ShippingRate, Inte
         JpaSpecificationExecutor<ShippingRate> {
     List<ShippingRate> findByServiceType_IdAndRegionTypeOrderByWeightFromAsc(Integer serviceTypeId,
             ShippingRateRegionType regionType);
+
+    // Nạp toàn bộ bảng giá để biên dịch TariffSnapshot
+    @Query("SELECT r FROM ShippingRate r JOIN FETCH r.serviceType ORDER BY r.weightFrom ASC")
+    List<ShippingRate> findAllWithServiceType();
 }
\ No newline at end of file
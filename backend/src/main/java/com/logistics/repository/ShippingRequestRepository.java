@@ -5,12 +5,14 @@ import com.logistics.entity.Order;
 import com.logistics.entity.ShippingRequest;
 import com.logistics.enums.ShippingRequestStatus;
 import com.logistics.enums.ShippingRequestType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -66,4 +68,28 @@ public interface ShippingRequestRepository
                         """)
         Optional<ShippingRequest> findByIdWithOrder(@Param("id") Integer id);
 
+        @Query("""
+                                SELECT r FROM ShippingRequest r
+                                JOIN FETCH r.order o
+                                WHERE o.id IN :orderIds AND r.requestType = com.logistics.enums.ShippingRequestType.DELIVERY_REMINDER
+                        """)
+        List<ShippingRequest> findDeliveryRemindersByOrderIds(@Param("orderIds") Collection<Integer> orderIds);
+
+        @Query("""
+                                SELECT r FROM ShippingRequest r
+                                JOIN FETCH r.order o
+                                WHERE r.requestType = :type AND r.status = :status
+                                ORDER BY r.id DESC
+                        """)
+        List<ShippingRequest> findWithOrderByTypeAndStatus(@Param("type") ShippingRequestType type,
+                        @Param("status") ShippingRequestStatus status, Pageable pageable);
+
+        @Query("""
+                                SELECT r FROM ShippingRequest r
+                                LEFT JOIN FETCH r.order
+                                LEFT JOIN FETCH r.office
+                                LEFT JOIN FETCH r.user
+                                ORDER BY r.id DESC
+                        """)
+        List<ShippingRequest> findLatest(Pageable pageable);
 }
@@ -10,6 +10,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,6 +27,18 @@ public interface UserRepository extends JpaRepository<User, Integer>, JpaSpecifi
          "WHERE u.id = :userId")
    Optional<User> findByIdWithRoles(@Param("userId") Integer userId);
 
+   // [roleId, isActive] của các account role thuộc user (rỗng nếu user / account không tồn tại)
+   @Query("SELECT r.id, ar.isActive FROM User u " +
+         "JOIN u.account a " +
+         "JOIN a.accountRoles ar " +
+         "LEFT JOIN ar.role r " +
+         "WHERE u.id = :userId")
+   List<Object[]> findAccountRoleStates(@Param("userId") Integer userId);
+
+   // [userId, currentShopId] của các user tồn tại
+   @Query("SELECT u.id, cs.id FROM User u LEFT JOIN u.currentShop cs WHERE u.id IN :ids")
+   List<Object[]> findShopIdsByIds(@Param("ids") Collection<Integer> ids);
+
     List<User> findByLockedTrue();
 
     @Query("SELECT DISTINCT u FROM User u " +
@@ -93,4 +106,18 @@ public interface UserRepository extends JpaRepository<User, Integer>, JpaSpecifi
             @Param("cityCode") Integer cityCode,
             @Param("now") LocalDateTime now
     );
-}
\ No newline at end of file
+
+    // Lọc các shipper ứng viên (từ chỉ mục phủ sóng) còn tài khoản và vai trò Shipper hoạt động
+    @Query("""
+        SELECT DISTINCT u FROM User u
+        JOIN u.account acc
+        JOIN acc.accountRoles ar
+        JOIN ar.role r
+        WHERE u.id IN :ids
+          AND acc.isActive = true
+          AND ar.isActive = true
+          AND r.name = 'Shipper'
+          AND r.userOwner IS NULL
+    """)
+    List<User> findActiveShippersByIds(@Param("ids") Collection<Integer> ids);
+}
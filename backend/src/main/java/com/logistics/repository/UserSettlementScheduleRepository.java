@@ -14,4 +14,7 @@ public interface UserSettlementScheduleRepository extends JpaRepository<UserSett
 
     @Query("SELECT s FROM UserSettlementSchedule s JOIN s.weekdays w WHERE w = :weekDay")
     List<UserSettlementSchedule> findAllWithScheduleToday(WeekDay weekDay);
+
+    @Query("SELECT DISTINCT s.user.id FROM UserSettlementSchedule s JOIN s.weekdays w WHERE w = :weekDay")
+    List<Integer> findShopIdsWithScheduleToday(WeekDay weekDay);
 }
\ No newline at end of file
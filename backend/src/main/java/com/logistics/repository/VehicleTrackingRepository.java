@@ -1,6 +1,7 @@
 package com.logistics.repository;
 
 import com.logistics.entity.VehicleTracking;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -11,13 +12,9 @@ import java.util.List;
 
 @Repository
 public interface VehicleTrackingRepository extends JpaRepository<VehicleTracking, Integer> {
-    List<VehicleTracking> findByShipmentId(Integer shipmentId);
-    List<VehicleTracking> findByVehicleId(Integer vehicleId);
-    
-    @Query("SELECT vt FROM VehicleTracking vt WHERE vt.shipment.id = :shipmentId ORDER BY vt.recordedAt DESC")
-    List<VehicleTracking> findByShipmentIdOrderByRecordedAtDesc(@Param("shipmentId") Integer shipmentId);
-    
-    @Query("SELECT vt FROM VehicleTracking vt WHERE vt.shipment.id = :shipmentId AND vt.recordedAt >= :startTime ORDER BY vt.recordedAt ASC")
-    List<VehicleTracking> findByShipmentIdAndRecordedAtAfter(@Param("shipmentId") Integer shipmentId, @Param("startTime") LocalDateTime startTime);
+    // Điểm GPS gần nhất của xe; mốc thời gian để MySQL chỉ quét các phân vùng ngày cần thiết
+    @Query("SELECT vt FROM VehicleTracking vt WHERE vt.vehicle.id = :vehicleId AND vt.recordedAt >= :since ORDER BY vt.recordedAt DESC")
+    List<VehicleTracking> findRecentByVehicleId(@Param("vehicleId") Integer vehicleId,
+            @Param("since") LocalDateTime since,
+            Pageable pageable);
 }
-
@@ -0,0 +1,18 @@
+package com.logistics.request.common.fee;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class FeeQuoteBatchRequest {
+    // true = cộng phí đóng gói (đơn tạo tại quầy bởi manager)
+    private Boolean includePackaging;
+    private List<FeeQuoteItemRequest> items;
+}
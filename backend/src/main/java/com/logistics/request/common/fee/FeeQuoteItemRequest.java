@@ -0,0 +1,23 @@
+package com.logistics.request.common.fee;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class FeeQuoteItemRequest {
+    // Mã tham chiếu phía client (vd: số dòng trong file import), trả lại nguyên vẹn trong kết quả
+    private String ref;
+    private BigDecimal weight;
+    private Integer serviceTypeId;
+    private Integer senderCodeCity;
+    private Integer recipientCodeCity;
+    private Integer orderValue;
+    private Integer cod;
+}
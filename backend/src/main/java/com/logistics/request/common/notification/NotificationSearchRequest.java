@@ -14,4 +14,6 @@ public class NotificationSearchRequest {
     private Integer limit;
     private String search;
     private Boolean isRead;
+    private String cursor;
+    private Boolean withTotal;
 }
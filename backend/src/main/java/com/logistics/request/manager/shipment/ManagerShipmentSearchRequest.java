@@ -19,4 +19,6 @@ public class ManagerShipmentSearchRequest {
     private String startDate;
     private String endDate;
     private String direction;
+    private String cursor;
+    private Boolean withTotal;
 }
@@ -22,4 +22,6 @@ public class UserOrderSearchRequest {
     private String sort;
     private String startDate;
     private String endDate;
+    private String cursor;
+    private Boolean withTotal;
 }
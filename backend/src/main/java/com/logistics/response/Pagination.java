@@ -14,4 +14,11 @@ public class Pagination {
     private int page;
     private int limit;
     private int totalPages;
-}
\ No newline at end of file
+
+    // Chế độ con trỏ: truyền lại ở tham số cursor để lấy trang kế tiếp, null khi đã hết dữ liệu
+    private String nextCursor;
+
+    public Pagination(int total, int page, int limit, int totalPages) {
+        this(total, page, limit, totalPages, null);
+    }
+}
@@ -0,0 +1,200 @@
+package com.logistics.scheduler.order;
+
+import com.logistics.enums.PickupNotificationStage;
+import com.logistics.repository.OrderRepository;
+import com.logistics.utils.TransactionUtils;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hàng đợi hẹn giờ cho các mốc leo thang lấy hàng (STAGE_1 → STAGE_2 → URGENT), tính từ
+ * readyForPickupAt của đơn. Thay cho việc quét bảng orders mỗi phút: timer được đặt khi đơn
+ * chuyển READY_FOR_PICKUP, hủy khi shipper nhận đơn và được dựng lại từ DB khi khởi động.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PickupEscalationQueue {
+
+    static final int STAGE_1_DELAY_MINUTES = 1;    // 15
+    static final int STAGE_2_DELAY_MINUTES = 2;    // 60
+    static final int URGENT_DELAY_MINUTES  = 3;    // 90
+
+    private final OrderRepository orderRepository;
+    private final PickupStageProcessor processor;
+
+    private final DelayQueue<PickupTimer> queue = new DelayQueue<>();
+    // Timer hiện hành của mỗi đơn; timer cũ còn trong queue sẽ bị bỏ qua khi tới hạn
+    private final Map<Integer, PickupTimer> timers = new ConcurrentHashMap<>();
+    // Thứ tự đặt timer; rebuild dùng để nhận ra timer được đặt sau khi đã đọc DB
+    private final AtomicLong armSequence = new AtomicLong();
+
+    private volatile Thread dispatcher;
+
+    /**
+     * Đặt timer cho mốc tiếp theo của đơn dựa trên stage hiện tại.
+     */
+    public void arm(Integer orderId, LocalDateTime readyForPickupAt, PickupNotificationStage currentStage) {
+        if (orderId == null || readyForPickupAt == null) {
+            return;
+        }
+        PickupNotificationStage nextStage = nextStage(currentStage);
+        if (nextStage == null) {
+            cancel(orderId);
+            return;
+        }
+
+        LocalDateTime dueAt = readyForPickupAt.plusMinutes(delayMinutes(nextStage));
+        PickupTimer timer = new PickupTimer(orderId, nextStage, readyForPickupAt,
+                dueAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli(), armSequence.incrementAndGet());
+        timers.put(orderId, timer);
+        queue.put(timer);
+    }
+
+    /**
+     * Đặt timer sau khi transaction hiện tại commit để không báo cho đơn bị rollback.
+     */
+    public void armAfterCommit(Integer orderId, LocalDateTime readyForPickupAt, PickupNotificationStage currentStage) {
+        TransactionUtils.runAfterCommit(() -> arm(orderId, readyForPickupAt, currentStage));
+    }
+
+    public void cancel(Integer orderId) {
+        if (orderId != null) {
+            timers.remove(orderId);
+        }
+    }
+
+    public void cancelAfterCommit(Integer orderId) {
+        TransactionUtils.runAfterCommit(() -> cancel(orderId));
+    }
+
+    /**
+     * Đồng bộ timer với các đơn READY_FOR_PICKUP chưa tới URGENT trong DB. Gộp thay vì xóa hết:
+     * timer được đặt (sau commit) trong lúc đang đọc DB mới hơn kết quả truy vấn nên được giữ nguyên.
+     */
+    public void rebuild() {
+        long readFrom = armSequence.get();
+        List<Object[]> rows = orderRepository.findPickupEscalationTimers();
+
+        Set<Integer> orderIds = new HashSet<>();
+        for (Object[] row : rows) {
+            Integer orderId = (Integer) row[0];
+            orderIds.add(orderId);
+            PickupTimer current = timers.get(orderId);
+            if (current == null || current.sequence() <= readFrom) {
+                arm(orderId, (LocalDateTime) row[1], (PickupNotificationStage) row[2]);
+            }
+        }
+        // Timer của đơn không còn chờ lấy hàng (và không được đặt lại sau khi đọc DB)
+        timers.values().removeIf(timer -> timer.sequence() <= readFrom && !orderIds.contains(timer.orderId()));
+        queue.removeIf(timer -> timers.get(timer.orderId()) != timer);
+        log.info("[Pickup Escalation] Rebuilt {} timers from DB", timers.size());
+    }
+
+    public int size() {
+        return timers.size();
+    }
+
+    public synchronized void start() {
+        if (dispatcher != null) {
+            return;
+        }
+        dispatcher = new Thread(this::dispatchLoop, "pickup-escalation");
+        dispatcher.setDaemon(true);
+        dispatcher.start();
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        if (dispatcher != null) {
+            dispatcher.interrupt();
+            dispatcher = null;
+        }
+    }
+
+    private void dispatchLoop() {
+        while (!Thread.currentThread().isInterrupted()) {
+            PickupTimer timer;
+            try {
+                timer = queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            // Timer đã bị hủy hoặc bị thay thế bởi timer mới hơn
+            if (timers.get(timer.orderId()) != timer) {
+                continue;
+            }
+
+            try {
+                PickupNotificationStage reached = processor.escalate(timer.orderId(), timer.stage(),
+                        LocalDateTime.now());
+                if (reached != null) {
+                    // Chỉ đặt mốc kế tiếp nếu timer không bị hủy trong lúc xử lý
+                    if (timers.get(timer.orderId()) == timer) {
+                        arm(timer.orderId(), timer.readyForPickupAt(), reached);
+                    }
+                } else {
+                    timers.remove(timer.orderId(), timer);
+                }
+            } catch (Exception e) {
+                timers.remove(timer.orderId(), timer);
+                log.error("[Pickup Escalation] Error escalating order #{} to {}: {}",
+                        timer.orderId(), timer.stage(), e.getMessage());
+            }
+        }
+    }
+
+    static PickupNotificationStage nextStage(PickupNotificationStage stage) {
+        if (stage == null) {
+            return PickupNotificationStage.STAGE_1;
+        }
+        return switch (stage) {
+            case NONE -> PickupNotificationStage.STAGE_1;
+            case STAGE_1 -> PickupNotificationStage.STAGE_2;
+            case STAGE_2 -> PickupNotificationStage.URGENT;
+            case URGENT -> null;
+        };
+    }
+
+    static int delayMinutes(PickupNotificationStage stage) {
+        return switch (stage) {
+            case STAGE_1 -> STAGE_1_DELAY_MINUTES;
+            case STAGE_2 -> STAGE_2_DELAY_MINUTES;
+            case URGENT -> URGENT_DELAY_MINUTES;
+            case NONE -> 0;
+        };
+    }
+
+    private record PickupTimer(Integer orderId, PickupNotificationStage stage, LocalDateTime readyForPickupAt,
+            long dueAtMillis, long sequence) implements Delayed {
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(dueAtMillis - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            if (other instanceof PickupTimer timer) {
+                return Long.compare(dueAtMillis, timer.dueAtMillis);
+            }
+            return Long.compare(getDelay(TimeUnit.MILLISECONDS), other.getDelay(TimeUnit.MILLISECONDS));
+        }
+    }
+}
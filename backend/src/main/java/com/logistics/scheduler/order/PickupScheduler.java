@@ -2,27 +2,27 @@ package com.logistics.scheduler.order;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
-import java.time.LocalDateTime;
-
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class PickupScheduler {
 
-    private static final int STAGE_1_DELAY_MINUTES = 1;    // 15
-    private static final int STAGE_2_DELAY_MINUTES = 2;     // 60
-    private static final int URGENT_DELAY_MINUTES  = 3;    // 90
+    private final PickupEscalationQueue escalationQueue;
 
-    private final PickupStageProcessor processor;
+    @EventListener(ApplicationReadyEvent.class)
+    public void startEscalationQueue() {
+        escalationQueue.rebuild();
+        escalationQueue.start();
+    }
 
-    @Scheduled(fixedDelay = 60 * 1000)      // 5 phút 5*60 * 1000
-    public void processPickupNotifications() {
-        LocalDateTime now = LocalDateTime.now();
-        processor.processStage1(now, STAGE_1_DELAY_MINUTES);
-        processor.processStage2(now, STAGE_2_DELAY_MINUTES);
-        processor.processUrgent(now, URGENT_DELAY_MINUTES);
+    // Đồng bộ lại với DB định kỳ cho các đơn chuyển READY_FOR_PICKUP ngoài luồng có đặt timer
+    @Scheduled(fixedDelay = 30 * 60 * 1000, initialDelay = 30 * 60 * 1000)
+    public void resyncEscalationTimers() {
+        escalationQueue.rebuild();
     }
-}
\ No newline at end of file
+}
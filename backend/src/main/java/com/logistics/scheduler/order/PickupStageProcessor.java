@@ -6,6 +6,7 @@ import com.logistics.enums.OrderStatus;
 import com.logistics.enums.PickupNotificationStage;
 import com.logistics.repository.OrderRepository;
 import com.logistics.repository.UserRepository;
+import com.logistics.service.assignment.ShipperCoverageIndex;
 import com.logistics.service.common.NotificationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -15,8 +16,11 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @Component
@@ -26,91 +30,107 @@ public class PickupStageProcessor {
     private final OrderRepository orderRepository;
     private final UserRepository userRepository;
     private final NotificationService notificationService;
-
+    private final ShipperCoverageIndex coverageIndex;
+
+    /**
+     * Leo thang một đơn lên {@code targetStage} khi timer tới hạn. Đơn được đọc lại và kiểm tra
+     * điều kiện như truy vấn quét cũ (READY_FOR_PICKUP, đúng stage trước đó, đã quá hạn).
+     *
+     * @return stage mới của đơn, hoặc null nếu đơn không còn cần leo thang
+     */
     @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public void processStage1(LocalDateTime now, int delayMinutes) {
-        List<Order> orders = orderRepository.findReadyOrdersForNotification(
-                OrderStatus.READY_FOR_PICKUP,
-                PickupNotificationStage.NONE,
-                now.minusMinutes(delayMinutes)
-        );
-
-        for (Order order : orders) {
-            try {
-                List<User> wardShippers = userRepository.findActiveShippersByWard(
-                        order.getSenderCityCode(), order.getSenderWardCode(), now);
-
-                List<User> cityShippers = userRepository.findActiveShippersByCity(
-                        order.getSenderCityCode(), now);
-
-                LinkedHashSet<User> merged = new LinkedHashSet<>(wardShippers);
-                merged.addAll(cityShippers);
-                List<User> shippers = new ArrayList<>(merged);
+    public PickupNotificationStage escalate(Integer orderId, PickupNotificationStage targetStage, LocalDateTime now) {
+        Order order = orderRepository.findById(orderId).orElse(null);
+        if (order == null
+                || order.getStatus() != OrderStatus.READY_FOR_PICKUP
+                || order.getReadyForPickupAt() == null) {
+            return null;
+        }
 
-                if (!shippers.isEmpty()) {
-                    pushPickupNotification(order, shippers, 1);
-                    log.info("[Pickup Stage 1] Order #{} → pinged {} shippers ({} ward-match, city {})",
-                            order.getId(), shippers.size(), wardShippers.size(), order.getSenderCityCode());
-                }
+        PickupNotificationStage currentStage = order.getPickupNotificationStage();
+        if (PickupEscalationQueue.nextStage(currentStage) != targetStage) {
+            // Stage đã thay đổi ở nơi khác, đặt lại timer theo stage hiện tại
+            return currentStage;
+        }
 
-                order.setPickupNotificationStage(PickupNotificationStage.STAGE_1);
-                orderRepository.save(order);
+        int delayMinutes = PickupEscalationQueue.delayMinutes(targetStage);
+        if (order.getReadyForPickupAt().isAfter(now.minusMinutes(delayMinutes))) {
+            return currentStage;
+        }
 
-            } catch (Exception e) {
-                log.error("[Pickup Stage 1] Error processing order #{}: {}", order.getId(), e.getMessage());
+        switch (targetStage) {
+            case STAGE_1 -> processStage1(order, now);
+            case STAGE_2 -> processStage2(order, now);
+            case URGENT -> processUrgent(order, delayMinutes);
+            default -> {
+                return null;
             }
         }
+        return order.getStatus() == OrderStatus.READY_FOR_PICKUP ? order.getPickupNotificationStage() : null;
     }
 
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public void processStage2(LocalDateTime now, int delayMinutes) {
-        List<Order> orders = orderRepository.findReadyOrdersForNotification(
-                OrderStatus.READY_FOR_PICKUP,
-                PickupNotificationStage.STAGE_1,
-                now.minusMinutes(delayMinutes)
-        );
-
-        for (Order order : orders) {
-            try {
-                List<User> shippers = userRepository.findActiveShippersByCity(
-                        order.getSenderCityCode(), now);
+    private void processStage1(Order order, LocalDateTime now) {
+        List<Integer> wardShipperIds = ShipperCoverageIndex.shipperIds(coverageIndex.wardCandidates(
+                order.getSenderCityCode(), order.getSenderWardCode(), now));
 
-                if (!shippers.isEmpty()) {
-                    pushPickupNotification(order, shippers, 2);
-                    log.info("[Pickup Stage 2] Order #{} → pinged {} shippers city-wide (city {})",
-                            order.getId(), shippers.size(), order.getSenderCityCode());
-                }
+        List<Integer> cityShipperIds = ShipperCoverageIndex.shipperIds(coverageIndex.cityCandidates(
+                order.getSenderCityCode(), now));
 
-                order.setPickupNotificationStage(PickupNotificationStage.STAGE_2);
-                orderRepository.save(order);
+        LinkedHashSet<Integer> merged = new LinkedHashSet<>(wardShipperIds);
+        merged.addAll(cityShipperIds);
+        List<User> shippers = loadActiveShippers(merged);
 
-            } catch (Exception e) {
-                log.error("[Pickup Stage 2] Error processing order #{}: {}", order.getId(), e.getMessage());
-            }
+        if (!shippers.isEmpty()) {
+            long wardMatched = shippers.stream().filter(u -> wardShipperIds.contains(u.getId())).count();
+            pushPickupNotification(order, shippers, 1);
+            log.info("[Pickup Stage 1] Order #{} → pinged {} shippers ({} ward-match, city {})",
+                    order.getId(), shippers.size(), wardMatched, order.getSenderCityCode());
         }
+
+        order.setPickupNotificationStage(PickupNotificationStage.STAGE_1);
+        orderRepository.save(order);
     }
 
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public void processUrgent(LocalDateTime now, int delayMinutes) {
-        List<Order> orders = orderRepository.findReadyOrdersForNotification(
-                OrderStatus.READY_FOR_PICKUP,
-                PickupNotificationStage.STAGE_2,
-                now.minusMinutes(delayMinutes)
-        );
+    private void processStage2(Order order, LocalDateTime now) {
+        List<User> shippers = loadActiveShippers(ShipperCoverageIndex.shipperIds(
+                coverageIndex.cityCandidates(order.getSenderCityCode(), now)));
 
-        for (Order order : orders) {
-            try {
-                order.setStatus(OrderStatus.URGENT_PICKUP);
-                order.setPickupNotificationStage(PickupNotificationStage.URGENT);
-                orderRepository.save(order);
+        if (!shippers.isEmpty()) {
+            pushPickupNotification(order, shippers, 2);
+            log.info("[Pickup Stage 2] Order #{} → pinged {} shippers city-wide (city {})",
+                    order.getId(), shippers.size(), order.getSenderCityCode());
+        }
 
-                log.warn("[Pickup URGENT] Order #{} → moved to URGENT_PICKUP after {}min unassigned",
-                        order.getId(), delayMinutes);
+        order.setPickupNotificationStage(PickupNotificationStage.STAGE_2);
+        orderRepository.save(order);
+    }
 
-            } catch (Exception e) {
-                log.error("[Pickup URGENT] Error processing order #{}: {}", order.getId(), e.getMessage());
+    // Ứng viên lấy từ chỉ mục phủ sóng, chỉ còn một truy vấn theo khóa chính để lọc tài khoản/vai trò
+    private List<User> loadActiveShippers(Collection<Integer> shipperIds) {
+        if (shipperIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Integer, User> byId = new HashMap<>();
+        for (User user : userRepository.findActiveShippersByIds(shipperIds)) {
+            byId.put(user.getId(), user);
+        }
+        List<User> shippers = new ArrayList<>(byId.size());
+        for (Integer id : shipperIds) {
+            User user = byId.get(id);
+            if (user != null) {
+                shippers.add(user);
             }
         }
+        return shippers;
+    }
+
+    private void processUrgent(Order order, int delayMinutes) {
+        order.setStatus(OrderStatus.URGENT_PICKUP);
+        order.setPickupNotificationStage(PickupNotificationStage.URGENT);
+        orderRepository.save(order);
+
+        log.warn("[Pickup URGENT] Order #{} → moved to URGENT_PICKUP after {}min unassigned",
+                order.getId(), delayMinutes);
     }
 
     private void pushPickupNotification(Order order, List<User> shippers, int stage) {
@@ -125,20 +145,19 @@ public class PickupStageProcessor {
                 order.getSenderCityName()
         );
 
-        for (User shipper : shippers) {
-            try {
-                notificationService.create(
-                        title,
-                        message,
-                        "PICKUP_REQUEST",
-                        shipper.getId(),
-                        null,
-                        "Order",
-                        order.getId().toString()
-                );
-            } catch (Exception e) {
-                log.warn("[Pickup Notify] Failed to notify shipper #{}: {}", shipper.getId(), e.getMessage());
-            }
+        try {
+            notificationService.createForUsers(
+                    title,
+                    message,
+                    "PICKUP_REQUEST",
+                    shippers.stream().map(User::getId).toList(),
+                    null,
+                    "Order",
+                    order.getId().toString()
+            );
+        } catch (Exception e) {
+            log.warn("[Pickup Notify] Failed to notify {} shippers for order #{}: {}",
+                    shippers.size(), order.getId(), e.getMessage());
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,245 @@
+package com.logistics.scheduler.settlement;
+
+import com.logistics.config.properties.SettlementProperties;
+import com.logistics.enums.WeekDay;
+import com.logistics.repository.SettlementCheckpointRepository;
+import com.logistics.repository.UserSettlementScheduleRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Chạy đối soát tự động theo partition shop trên một pool worker giới hạn.
+ * Tiến độ từng shop được lưu ở settlement_checkpoints; shop FAILED được chạy lại ngay trong lượt
+ * (tối đa {@code settlement.max-attempts} lần), lượt bị ngắt được tiếp tục khi ứng dụng khởi động lại.
+ * Các lượt chạy lần lượt trên một luồng riêng, không chiếm luồng @Scheduled chung.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SettlementJobRunner {
+
+    // Chỉ resume các lượt đối soát trong vòng N ngày gần nhất
+    private static final int RESUME_LOOKBACK_DAYS = 7;
+
+    private final UserSettlementScheduleRepository scheduleRepository;
+    private final SettlementCheckpointRepository checkpointRepository;
+    private final SettlementShopProcessor shopProcessor;
+    private final SettlementProperties settlementProperties;
+
+    // Ngày đã xếp hàng nhưng chưa bắt đầu chạy
+    private final Set<LocalDate> queuedRuns = ConcurrentHashMap.newKeySet();
+
+    private ExecutorService executor;
+
+    @PostConstruct
+    public void start() {
+        executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "settlement-job");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Xếp lượt đối soát của một ngày vào hàng đợi: lượt đang chạy (kể cả lượt resume) không làm mất
+     * ngày này, nó được chạy ngay sau đó. Ngày đã nằm trong hàng đợi thì không xếp thêm.
+     */
+    public void submit(LocalDate runDate) {
+        if (!queuedRuns.add(runDate)) {
+            log.info("Settlement run {} is already queued", runDate);
+            return;
+        }
+        executor.execute(() -> {
+            queuedRuns.remove(runDate);
+            try {
+                run(runDate);
+            } catch (Exception e) {
+                log.error("Settlement run {} failed, unfinished shops will be resumed later", runDate, e);
+            }
+        });
+    }
+
+    /**
+     * Tiếp tục các lượt đối soát còn dang dở sau khi ứng dụng khởi động lại.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeUnfinishedRuns() {
+        executor.execute(() -> {
+            try {
+                resume();
+            } catch (Exception e) {
+                log.error("Resuming unfinished settlement runs failed", e);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Lượt đối soát của một ngày: tạo checkpoint cho các shop có lịch hôm đó rồi xử lý.
+     */
+    private void run(LocalDate runDate) {
+        WeekDay weekDay = WeekDay.valueOf(runDate.getDayOfWeek().name());
+        List<Integer> shopIds = scheduleRepository.findShopIdsWithScheduleToday(weekDay);
+        int created = shopProcessor.prepareRun(runDate, shopIds);
+        log.info("Settlement run {}: {} scheduled shops, {} new checkpoints", runDate, shopIds.size(), created);
+
+        processWithRetries(runDate);
+    }
+
+    private void resume() {
+        List<LocalDate> runDates = checkpointRepository.findUnfinishedRunDates(
+                LocalDate.now().minusDays(RESUME_LOOKBACK_DAYS),
+                settlementProperties.getMaxAttempts());
+        for (LocalDate runDate : runDates) {
+            log.info("Resuming unfinished settlement run {}", runDate);
+            processWithRetries(runDate);
+        }
+    }
+
+    /**
+     * Xử lý lượt đối soát rồi chạy lại các shop FAILED ngay trong lượt (sau một khoảng chờ) cho tới
+     * khi hết shop lỗi hoặc các shop lỗi đã dùng hết {@code settlement.max-attempts} lần thử.
+     */
+    private void processWithRetries(LocalDate runDate) {
+        int maxAttempts = Math.max(1, settlementProperties.getMaxAttempts());
+        int failedShops = process(runDate);
+        for (int pass = 1; failedShops > 0 && pass < maxAttempts; pass++) {
+            log.info("Settlement run {}: retrying {} failed shops (pass {}/{})", runDate, failedShops, pass + 1,
+                    maxAttempts);
+            try {
+                Thread.sleep(Math.max(0, settlementProperties.getRetryBackoffMs()));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.warn("Settlement run {} interrupted before retry, failed shops will be resumed later", runDate);
+                return;
+            }
+            failedShops = process(runDate);
+        }
+    }
+
+    /**
+     * Một lượt xử lý các checkpoint còn PENDING / FAILED (chưa hết lượt thử) của ngày; trả về số shop lỗi.
+     */
+    private int process(LocalDate runDate) {
+        List<Integer> checkpointIds = checkpointRepository.findRunnableIds(runDate,
+                settlementProperties.getMaxAttempts());
+        if (checkpointIds.isEmpty()) {
+            log.info("Settlement run {}: nothing to process", runDate);
+            return 0;
+        }
+
+        int partitionSize = Math.max(1, settlementProperties.getPartitionSize());
+        List<List<Integer>> partitions = new ArrayList<>();
+        for (int i = 0; i < checkpointIds.size(); i += partitionSize) {
+            partitions.add(checkpointIds.subList(i, Math.min(i + partitionSize, checkpointIds.size())));
+        }
+
+        int workers = Math.max(1, Math.min(settlementProperties.getWorkerThreads(), partitions.size()));
+        ExecutorService executor = Executors.newFixedThreadPool(workers, workerThreadFactory());
+        ExecutorCompletionService<PartitionResult> completion = new ExecutorCompletionService<>(executor);
+
+        long start = System.nanoTime();
+        int failedShops = 0;
+        try {
+            for (List<Integer> partition : partitions) {
+                completion.submit(() -> processPartition(partition));
+            }
+
+            int shops = 0;
+            long orders = 0;
+            long[] latenciesMs = new long[partitions.size()];
+
+            for (int i = 0; i < partitions.size(); i++) {
+                try {
+                    PartitionResult result = completion.take().get();
+                    shops += result.shops();
+                    failedShops += result.failedShops();
+                    orders += result.orders();
+                    latenciesMs[i] = result.elapsedMs();
+                } catch (ExecutionException e) {
+                    log.error("Settlement partition crashed", e.getCause());
+                }
+            }
+
+            double elapsedSec = Math.max((System.nanoTime() - start) / 1_000_000_000.0, 0.001);
+            Arrays.sort(latenciesMs);
+            log.info("Settlement run {} finished in {}s with {} workers: {} shops ({} failed), {} orders, "
+                            + "{} shops/s, {} orders/s, partition latency avg={}ms p95={}ms max={}ms",
+                    runDate,
+                    String.format("%.2f", elapsedSec),
+                    workers,
+                    shops,
+                    failedShops,
+                    orders,
+                    String.format("%.1f", shops / elapsedSec),
+                    String.format("%.1f", orders / elapsedSec),
+                    Arrays.stream(latenciesMs).average().orElse(0),
+                    latenciesMs[(int) Math.ceil(latenciesMs.length * 0.95) - 1],
+                    latenciesMs[latenciesMs.length - 1]);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Settlement run {} interrupted, remaining shops will be resumed later", runDate);
+        } finally {
+            executor.shutdownNow();
+        }
+        return failedShops;
+    }
+
+    private PartitionResult processPartition(List<Integer> checkpointIds) {
+        long start = System.currentTimeMillis();
+        int shops = 0;
+        int failedShops = 0;
+        long orders = 0;
+
+        for (Integer checkpointId : checkpointIds) {
+            if (Thread.currentThread().isInterrupted())
+                break;
+            try {
+                int attached = shopProcessor.settleCheckpoint(checkpointId);
+                shops++;
+                if (attached > 0)
+                    orders += attached;
+            } catch (Exception e) {
+                failedShops++;
+                log.error("Settlement checkpoint {} failed", checkpointId, e);
+                shopProcessor.markFailed(checkpointId, e.getMessage());
+            }
+        }
+
+        return new PartitionResult(shops, failedShops, orders, System.currentTimeMillis() - start);
+    }
+
+    private ThreadFactory workerThreadFactory() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "settlement-worker-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private record PartitionResult(int shops, int failedShops, long orders, long elapsedMs) {
+    }
+}
@@ -0,0 +1,304 @@
+package com.logistics.scheduler.settlement;
+
+import com.logistics.entity.*;
+import com.logistics.enums.*;
+import com.logistics.repository.*;
+import com.logistics.service.common.NotificationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Đối soát cho một shop trong transaction riêng. Đơn hàng được gắn vào phiên bằng
+ * UPDATE hàng loạt theo từng chunk id, tổng tiền tính bằng một câu SUM, nên không
+ * cần nạp entity Order / PaymentSubmission vào bộ nhớ.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SettlementShopProcessor {
+
+    private static final int ORDER_CHUNK_SIZE = 1000;
+
+    private static final List<OrderStatus> SETTLEMENT_STATUSES = List.of(
+            OrderStatus.DELIVERED,
+            OrderStatus.RETURNED);
+
+    private final OrderRepository orderRepository;
+    private final SettlementBatchRepository batchRepository;
+    private final SettlementTransactionRepository transactionRepository;
+    private final BankAccountRepository bankAccountRepository;
+    private final NotificationService notificationService;
+    private final UserRepository userRepository;
+    private final SettlementCheckpointRepository checkpointRepository;
+
+    /**
+     * Tạo checkpoint PENDING cho các shop có lịch đối soát trong ngày mà chưa có checkpoint.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int prepareRun(LocalDate runDate, List<Integer> shopIds) {
+        Set<Integer> existing = new HashSet<>(checkpointRepository.findShopIdsByRunDate(runDate));
+
+        List<SettlementCheckpoint> checkpoints = new ArrayList<>();
+        for (Integer shopId : shopIds) {
+            if (!existing.add(shopId))
+                continue;
+
+            SettlementCheckpoint checkpoint = new SettlementCheckpoint();
+            checkpoint.setRunDate(runDate);
+            checkpoint.setShop(userRepository.getReferenceById(shopId));
+            checkpoint.setStatus(SettlementCheckpointStatus.PENDING);
+            checkpoints.add(checkpoint);
+        }
+        checkpointRepository.saveAll(checkpoints);
+        return checkpoints.size();
+    }
+
+    /**
+     * Đối soát shop của checkpoint. Checkpoint được khóa và cập nhật trong cùng transaction với
+     * phiên đối soát, nên sau khi crash / redeploy shop không bị đối soát hai lần hay bị bỏ sót.
+     *
+     * @return số đơn được gắn vào phiên mới, -1 nếu không có gì để xử lý
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int settleCheckpoint(Integer checkpointId) {
+        SettlementCheckpoint checkpoint = checkpointRepository.findByIdForUpdate(checkpointId).orElse(null);
+        if (checkpoint == null
+                || checkpoint.getStatus() == SettlementCheckpointStatus.COMPLETED
+                || checkpoint.getStatus() == SettlementCheckpointStatus.SKIPPED)
+            return -1;
+
+        long start = System.currentTimeMillis();
+        int attached = settleShop(checkpoint.getShop().getId());
+
+        checkpoint.setStatus(attached >= 0 ? SettlementCheckpointStatus.COMPLETED : SettlementCheckpointStatus.SKIPPED);
+        checkpoint.setOrderCount(Math.max(attached, 0));
+        checkpoint.setAttempts(checkpoint.getAttempts() + 1);
+        checkpoint.setDurationMs(System.currentTimeMillis() - start);
+        checkpoint.setErrorMessage(null);
+        checkpointRepository.save(checkpoint);
+
+        return attached;
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void markFailed(Integer checkpointId, String errorMessage) {
+        checkpointRepository.findById(checkpointId).ifPresent(checkpoint -> {
+            checkpoint.setStatus(SettlementCheckpointStatus.FAILED);
+            checkpoint.setAttempts(checkpoint.getAttempts() + 1);
+            checkpoint.setErrorMessage(errorMessage != null && errorMessage.length() > 500
+                    ? errorMessage.substring(0, 500)
+                    : errorMessage);
+            checkpointRepository.save(checkpoint);
+        });
+    }
+
+    private int settleShop(Integer shopId) {
+        User shop = userRepository.findById(shopId).orElse(null);
+        if (shop == null)
+            return -1;
+
+        // Chỉ tạo phiên khi shop có đơn DELIVERED / RETURNED chưa có settlementBatch
+        if (!orderRepository.existsByUserIdAndSettlementBatchIsNullAndStatusIn(shopId, SETTLEMENT_STATUSES))
+            return -1;
+
+        LocalDateTime now = LocalDateTime.now();
+
+        // Tạo settlement batch
+        SettlementBatch batch = new SettlementBatch();
+        batch.setShop(shop);
+        batch.setStatus(SettlementStatus.PENDING);
+        batch.setBalanceAmount(BigDecimal.ZERO);
+        batchRepository.save(batch);
+
+        int attached = attachSettleableOrders(shopId, batch, now);
+
+        BigDecimal totalCOD = orderRepository.sumSettlementAmountByBatchId(batch.getId());
+
+        batch.setBalanceAmount(totalCOD);
+        batchRepository.save(batch);
+
+        // Lấy tất cả batch PENDING/FAILED cũ của shop
+        List<SettlementBatch> oldDebtBatches = batchRepository.findByShopAndStatusInOrderByCreatedAtAsc(
+                shop,
+                List.of(
+                        SettlementStatus.PENDING,
+                        SettlementStatus.FAILED
+                ));
+
+        // Tính tổng nợ cũ còn lại (đã trừ paidAmount)
+        BigDecimal totalOldDebt = oldDebtBatches.stream()
+                .map(b -> b.getBalanceAmount().abs().subtract(b.getPaidAmount()))
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+
+        // Net = batch mới + khấu trừ nợ cũ
+        BigDecimal net = totalCOD.subtract(totalOldDebt);
+
+        // Các batch có toàn bộ đơn cần chuyển sang PAID / TRANSFERRED
+        List<Integer> completedBatchIds = new ArrayList<>();
+
+        if (net.compareTo(BigDecimal.ZERO) > 0) {
+            // Hệ thống chuyển tiền cho shop phần chênh lệch
+            BankAccount defaultBank = bankAccountRepository.findDefaultByUser(shop);
+
+            SettlementTransaction transaction = new SettlementTransaction();
+            transaction.setSettlementBatch(batch);
+            transaction.setAmount(totalCOD);
+            transaction.setType(SettlementTransactionType.SYSTEM_TO_SHOP);
+            transaction.setStatus(SettlementTransactionStatus.SUCCESS);
+            transaction.setBankName(defaultBank.getBankName());
+            transaction.setAccountNumber(defaultBank.getAccountNumber());
+            transaction.setAccountName(defaultBank.getAccountName());
+            transaction.setPaidAt(now);
+            transactionRepository.save(transaction);
+
+            // Batch mới COMPLETED
+            batch.setPaidAmount(totalCOD);
+            batch.setStatus(SettlementStatus.COMPLETED);
+            batchRepository.save(batch);
+            completedBatchIds.add(batch.getId());
+
+            // Mark tất cả batch nợ cũ COMPLETED vì đã khấu trừ hết
+            for (SettlementBatch old : oldDebtBatches) {
+                old.setPaidAmount(old.getBalanceAmount().abs());
+                old.setStatus(SettlementStatus.COMPLETED);
+                batchRepository.save(old);
+                completedBatchIds.add(old.getId());
+            }
+        } else if (net.compareTo(BigDecimal.ZERO) < 0) {
+            // Shop vẫn còn nợ sau khi khấu trừ
+            // Batch mới dùng để khấu trừ nợ cũ trước
+            BigDecimal remaining = totalCOD; // phần batch mới dùng để khấu trừ
+            for (SettlementBatch old : oldDebtBatches) {
+                if (remaining.compareTo(BigDecimal.ZERO) <= 0) break;
+
+                BigDecimal oldRemain = old.getBalanceAmount().abs().subtract(old.getPaidAmount());
+                if (oldRemain.compareTo(BigDecimal.ZERO) <= 0) continue;
+
+                if (remaining.compareTo(oldRemain) >= 0) {
+                    // Khấu trừ hết batch này
+                    old.setPaidAmount(old.getBalanceAmount().abs());
+                    old.setStatus(SettlementStatus.COMPLETED);
+                    remaining = remaining.subtract(oldRemain);
+
+                    // Đơn của batch mới chưa được chuyển PAID khi shop còn nợ
+                    if (!old.getId().equals(batch.getId())) {
+                        completedBatchIds.add(old.getId());
+                    }
+                } else {
+                    // Khấu trừ 1 phần
+                    old.setPaidAmount(old.getPaidAmount()
+                            .add(remaining));
+                    remaining = BigDecimal.ZERO;
+                }
+                batchRepository.save(old);
+            }
+            // Batch mới PENDING — shop còn nợ |net|
+            batch.setPaidAmount(BigDecimal.ZERO);
+            batch.setStatus(SettlementStatus.PENDING);
+            batchRepository.save(batch);
+        } else {
+            batch.setPaidAmount(totalCOD);
+            batch.setStatus(SettlementStatus.COMPLETED);
+            batchRepository.save(batch);
+            completedBatchIds.add(batch.getId());
+
+            for (SettlementBatch old : oldDebtBatches) {
+                old.setPaidAmount(old.getBalanceAmount().abs());
+                old.setStatus(SettlementStatus.COMPLETED);
+                batchRepository.save(old);
+                completedBatchIds.add(old.getId());
+            }
+        }
+
+        // Cập nhật order của các batch đã hoàn tất → PAID
+        if (!completedBatchIds.isEmpty()) {
+            orderRepository.markSettlementBatchesTransferred(completedBatchIds, now);
+        }
+
+        String notifMessage = net.compareTo(BigDecimal.ZERO) > 0
+                ? String.format(
+                        "Phiên đối soát #%s đã hoàn thành. Hệ thống đã chuyển %s₫ vào tài khoản của bạn.",
+                        batch.getCode(),
+                        net.toPlainString())
+                : net.compareTo(BigDecimal.ZERO) < 0
+                        ? String.format(
+                                "Phiên đối soát #%s đã được tạo. Bạn còn nợ %s₫ sau khi khấu trừ. Vui lòng thanh toán sớm.",
+                                batch.getCode(),
+                                net.abs().toPlainString())
+                        : String.format(
+                                "Phiên đối soát #%s đã được bù trừ hoàn toàn.",
+                                batch.getCode());
+
+        notificationService.create(
+                "Phiên đối soát theo lịch đã được tạo",
+                notifMessage,
+                "settlement_batch",
+                shop.getId(),
+                null,
+                "settlements",
+                batch.getId().toString());
+
+        tryUnlockShop(shop);
+
+        log.info("Settlement batch {} for shop {}: {} orders", batch.getId(), shop.getId(), attached);
+        return attached;
+    }
+
+    private int attachSettleableOrders(Integer shopId, SettlementBatch batch, LocalDateTime now) {
+        int attached = 0;
+        int afterId = 0;
+        while (true) {
+            List<Integer> orderIds = orderRepository.findSettleableOrderIds(
+                    shopId,
+                    SETTLEMENT_STATUSES,
+                    afterId,
+                    PageRequest.of(0, ORDER_CHUNK_SIZE));
+            if (orderIds.isEmpty())
+                break;
+
+            attached += orderRepository.attachToSettlementBatch(batch, orderIds, now);
+            afterId = orderIds.get(orderIds.size() - 1);
+
+            if (orderIds.size() < ORDER_CHUNK_SIZE)
+                break;
+        }
+        return attached;
+    }
+
+    private void tryUnlockShop(User shop) {
+        if (!shop.getLocked()) return;
+
+        // Chỉ xét các batch đã từng trigger lock
+        List<SettlementBatch> lockedBatches = batchRepository.findByShopAndLockedSentTrue(shop);
+        if (lockedBatches.isEmpty()) return;
+
+        boolean allResolved = lockedBatches.stream()
+                .allMatch(b -> b.getStatus() == SettlementStatus.COMPLETED);
+
+        if (allResolved) {
+            shop.setLocked(false);
+            userRepository.save(shop);
+
+            notificationService.create(
+                    "Tài khoản đã được mở khóa",
+                    "Các khoản nợ gây khóa tài khoản đã được xử lý. Tài khoản của bạn đã được mở khóa.",
+                    "settlement_unlocked",
+                    shop.getId(),
+                    null,
+                    "settlements",
+                    null);
+        }
+    }
+}
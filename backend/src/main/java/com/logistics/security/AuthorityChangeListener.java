@@ -0,0 +1,19 @@
+package com.logistics.security;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * Entity listener cho Role, PermissionGroup, PermissionGroupApi, PermissionApi và AccountRole:
+ * mọi thay đổi đều làm mới PermissionAuthorityCache sau khi transaction commit.
+ */
+public class AuthorityChangeListener {
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        PermissionAuthorityCache.invalidateAfterCommit();
+    }
+}
@@ -0,0 +1,226 @@
+package com.logistics.security;
+
+import com.logistics.entity.PermissionGroupApi;
+import com.logistics.entity.Role;
+import com.logistics.repository.UserRepository;
+import com.logistics.service.common.RoleService;
+import com.logistics.utils.TransactionUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cache quyền theo role cho JwtAuthenticationFilter / RoleCheckFilter.
+ * Mỗi role được biên dịch một lần thành danh sách authority và chỉ mục đường dẫn theo HTTP method
+ * (tập URL tĩnh + cây tiền tố theo các segment cố định của pattern). Danh sách role đang active
+ * của từng user cũng được cache. Mọi thay đổi role / nhóm quyền / API / account role tăng version
+ * chung (xem {@link AuthorityChangeListener}) nên các entry cũ tự nạp lại ở lần dùng kế tiếp.
+ */
+@Component
+@RequiredArgsConstructor
+public class PermissionAuthorityCache {
+
+    private static final AtomicLong VERSION = new AtomicLong();
+
+    private static final int MAX_MEMBERSHIP_ENTRIES = 50_000;
+
+    // AntPathMatcher dùng chung, cache sẵn pattern đã tách token
+    private static final AntPathMatcher MATCHER = new AntPathMatcher();
+
+    static {
+        MATCHER.setCachePatterns(true);
+    }
+
+    private final RoleService roleService;
+    private final UserRepository userRepository;
+
+    // Giới hạn tuổi entry để các node khác cũng thấy thay đổi quyền
+    @Value("${logistics.auth-cache.ttl-ms:300000}")
+    private long ttlMs;
+
+    private final Map<Integer, CompiledRole> roles = new ConcurrentHashMap<>();
+    private final Map<Integer, Membership> memberships = new ConcurrentHashMap<>();
+
+    /**
+     * Làm mới toàn bộ cache sau khi transaction hiện tại commit.
+     */
+    public static void invalidateAfterCommit() {
+        TransactionUtils.runAfterCommit(() -> VERSION.incrementAndGet());
+    }
+
+    /**
+     * Authority "METHOD::url" của các API đang active thuộc role.
+     */
+    public List<SimpleGrantedAuthority> authorities(Integer roleId) {
+        return role(roleId).authorities();
+    }
+
+    public boolean hasPermission(Integer roleId, String method, String path) {
+        PathIndex index = role(roleId).byMethod().get(method.toUpperCase(Locale.ROOT));
+        return index != null && index.matches(normalize(path));
+    }
+
+    /**
+     * Id các role đang active của user, hoặc null nếu user / account / account role không tồn tại.
+     */
+    public Set<Integer> activeRoleIds(Integer userId) {
+        long version = VERSION.get();
+        Membership membership = memberships.get(userId);
+        if (membership == null || !membership.isFresh(version, ttlMs)) {
+            if (memberships.size() > MAX_MEMBERSHIP_ENTRIES) {
+                memberships.clear();
+            }
+            membership = loadMembership(userId, version);
+            memberships.put(userId, membership);
+        }
+        return membership.activeRoleIds();
+    }
+
+    private CompiledRole role(Integer roleId) {
+        long version = VERSION.get();
+        CompiledRole compiled = roles.get(roleId);
+        if (compiled == null || !compiled.isFresh(version, ttlMs)) {
+            compiled = compile(roleService.findByIdWithPermissionGroups(roleId), version);
+            roles.put(roleId, compiled);
+        }
+        return compiled;
+    }
+
+    private Membership loadMembership(Integer userId, long version) {
+        List<Object[]> rows = userRepository.findAccountRoleStates(userId);
+        if (rows.isEmpty()) {
+            return new Membership(null, version, System.currentTimeMillis());
+        }
+        Set<Integer> active = new HashSet<>();
+        for (Object[] row : rows) {
+            if (row[0] != null && Boolean.TRUE.equals(row[1])) {
+                active.add((Integer) row[0]);
+            }
+        }
+        return new Membership(Set.copyOf(active), version, System.currentTimeMillis());
+    }
+
+    private CompiledRole compile(Role role, long version) {
+        List<SimpleGrantedAuthority> authorities = new ArrayList<>();
+        Map<String, PathIndex> byMethod = new HashMap<>();
+
+        role.getPermissionGroups().stream()
+                .flatMap(group -> group.getPermissionGroupApis().stream())
+                .map(PermissionGroupApi::getPermissionApi)
+                .filter(api -> api != null
+                        && api.getUrl() != null
+                        && api.getMethod() != null
+                        && Boolean.TRUE.equals(api.getIsActive()))
+                .forEach(api -> {
+                    String method = api.getMethod().toUpperCase();
+                    authorities.add(new SimpleGrantedAuthority(method + "::" + api.getUrl()));
+                    byMethod.computeIfAbsent(method, k -> new PathIndex()).add(normalize(api.getUrl().trim()));
+                });
+
+        return new CompiledRole(List.copyOf(authorities), Map.copyOf(byMethod), version, System.currentTimeMillis());
+    }
+
+    // Bỏ tiền tố /api để URL quyền khai báo có hoặc không có /api đều khớp như nhau
+    static String normalize(String path) {
+        if (path.startsWith("/api/")) {
+            return path.substring(4);
+        }
+        return "/api".equals(path) ? "/" : path;
+    }
+
+    private record CompiledRole(List<SimpleGrantedAuthority> authorities, Map<String, PathIndex> byMethod,
+            long version, long loadedAt) {
+
+        boolean isFresh(long currentVersion, long ttlMs) {
+            return version == currentVersion && System.currentTimeMillis() - loadedAt < ttlMs;
+        }
+    }
+
+    private record Membership(Set<Integer> activeRoleIds, long version, long loadedAt) {
+
+        boolean isFresh(long currentVersion, long ttlMs) {
+            return version == currentVersion && System.currentTimeMillis() - loadedAt < ttlMs;
+        }
+    }
+
+    /**
+     * Chỉ mục pattern của một method: URL không có wildcard tra trong HashSet, các pattern còn lại
+     * được treo ở nút cây ứng với các segment cố định đứng đầu, nên chỉ pattern cùng tiền tố mới
+     * phải so khớp.
+     */
+    static final class PathIndex {
+        private final Set<String> exact = new HashSet<>();
+        private final Node root = new Node();
+
+        void add(String pattern) {
+            if (!MATCHER.isPattern(pattern)) {
+                exact.add(pattern);
+                return;
+            }
+            Node node = root;
+            for (String segment : segments(pattern)) {
+                if (MATCHER.isPattern(segment)) {
+                    break;
+                }
+                node = node.children.computeIfAbsent(segment, k -> new Node());
+            }
+            node.patterns.add(pattern);
+        }
+
+        boolean matches(String path) {
+            if (exact.contains(path)) {
+                return true;
+            }
+            Node node = root;
+            if (node.matches(path)) {
+                return true;
+            }
+            for (String segment : segments(path)) {
+                node = node.children.get(segment);
+                if (node == null) {
+                    return false;
+                }
+                if (node.matches(path)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static List<String> segments(String path) {
+            List<String> segments = new ArrayList<>();
+            for (String segment : path.split("/")) {
+                if (!segment.isEmpty()) {
+                    segments.add(segment);
+                }
+            }
+            return segments;
+        }
+    }
+
+    private static final class Node {
+        private final Map<String, Node> children = new HashMap<>();
+        private final List<String> patterns = new ArrayList<>();
+
+        boolean matches(String path) {
+            for (String pattern : patterns) {
+                if (MATCHER.match(pattern, path)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.logistics.security;
+
+import java.security.Principal;
+
+/**
+ * Người dùng của một phiên STOMP, lấy từ JWT gửi kèm frame CONNECT. Tên là userId để
+ * {@code convertAndSendToUser(userId, ...)} tới đúng phiên; kênh chat dùng {@link #accountId()}.
+ */
+public record StompPrincipal(Integer userId, Integer accountId) implements Principal {
+
+    @Override
+    public String getName() {
+        return String.valueOf(userId);
+    }
+}
@@ -12,6 +12,7 @@ import com.logistics.repository.ServiceTypeRepository;
 import com.logistics.request.admin.CreateFeeConfigurationRequest;
 import com.logistics.request.admin.UpdateFeeConfigurationRequest;
 import com.logistics.response.Pagination;
+import com.logistics.service.common.TariffCatalog;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -35,6 +36,9 @@ public class FeeConfigurationAdminService {
     @Autowired
     private ServiceTypeRepository serviceTypeRepository;
 
+    @Autowired
+    private TariffCatalog tariffCatalog;
+
     public Map<String, Object> listFeeConfigurations(int page, int limit, String search, String feeType, Integer serviceTypeId, Boolean active) {
         Pageable pageable = PageRequest.of(page - 1, limit, Sort.by("createdAt").descending());
 
@@ -120,6 +124,7 @@ public class FeeConfigurationAdminService {
         }
 
         feeConfig = feeConfigurationRepository.save(feeConfig);
+        tariffCatalog.reloadAfterCommit();
     }
 
     @Transactional
@@ -156,6 +161,7 @@ public class FeeConfigurationAdminService {
         }
         
         feeConfig = feeConfigurationRepository.save(feeConfig);
+        tariffCatalog.reloadAfterCommit();
     }
 
     @Transactional
@@ -163,6 +169,7 @@ public class FeeConfigurationAdminService {
         FeeConfiguration feeConfig = feeConfigurationRepository.findById(id)
                 .orElseThrow(() -> new AppException(FeeConfigurationErrorCode.FEE_CONFIG_NOT_FOUND));
         feeConfigurationRepository.delete(feeConfig);
+        tariffCatalog.reloadAfterCommit();
     }
 
     private Map<String, Object> mapFeeConfiguration(FeeConfiguration feeConfig) {
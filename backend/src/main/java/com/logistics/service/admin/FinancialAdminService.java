@@ -17,15 +17,13 @@ import com.logistics.repository.UserRepository;
 import com.logistics.request.admin.CreatePaymentSubmissionRequest;
 import com.logistics.response.ListResponse;
 import com.logistics.response.Pagination;
+import com.logistics.service.common.excel.ExcelColumn;
+import com.logistics.service.common.excel.ExcelExporter;
+import com.logistics.service.common.excel.SpecificationScroller;
 import com.logistics.service.financial.FinancialValidationService;
 import com.logistics.specification.PaymentSubmissonBatchSpecification;
 import com.logistics.specification.PaymentSubmissonSpecification;
 import lombok.RequiredArgsConstructor;
-import org.apache.poi.ss.usermodel.Cell;
-import org.apache.poi.ss.usermodel.Row;
-import org.apache.poi.ss.usermodel.Sheet;
-import org.apache.poi.ss.usermodel.Workbook;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -34,7 +32,7 @@ import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
@@ -51,23 +49,26 @@ public class FinancialAdminService {
     private final OrderRepository orderRepository;
     private final UserRepository userRepository;
     private final FinancialValidationService financialValidationService;
+    private final ExcelExporter excelExporter;
+    private final SpecificationScroller specificationScroller;
 
-    public ListResponse<AdminPaymentSubmissionListDto> listSubmissions(String status) {
-        List<PaymentSubmission> subs;
+    public ListResponse<AdminPaymentSubmissionListDto> listSubmissions(String status, int page, int limit) {
+        Pageable pageable = PageRequest.of(Math.max(0, page - 1), limit, Sort.by("paidAt").descending());
+        Page<PaymentSubmission> subs;
         if (status == null || status.isBlank()) {
-            subs = submissionRepository.findAll();
+            subs = submissionRepository.findAll(pageable);
         } else {
             PaymentSubmissionStatus s = PaymentSubmissionStatus.valueOf(status);
-            subs = submissionRepository.findByStatus(s);
+            subs = submissionRepository.findByStatus(s, pageable);
         }
 
-            List<AdminPaymentSubmissionListDto> list = subs.stream()
+            List<AdminPaymentSubmissionListDto> list = subs.getContent().stream()
                 .map(PaymentSubmissionMapper::toAdminDto)
                 .collect(Collectors.toList());
 
         ListResponse<AdminPaymentSubmissionListDto> data = new ListResponse<>();
         data.setList(list);
-        data.setPagination(null);
+        data.setPagination(new Pagination((int) subs.getTotalElements(), page, limit, subs.getTotalPages()));
 
         return data;
     }
@@ -136,97 +137,59 @@ public class FinancialAdminService {
         return batch;
     }
 
-    public byte[] exportBatches(int page, int limit, String search, String status, Integer shipperId) {
-        try (Workbook workbook = new XSSFWorkbook()) {
-            Sheet sheet = workbook.createSheet("Batches");
-
-            DateTimeFormatter dtf = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
-
-            Row header = sheet.createRow(0);
-            String[] headers = new String[] { "Mã phiên", "Shipper", "Created At", "Total System Amount", "Total Actual Amount", "Status", "Notes" };
-            for (int i = 0; i < headers.length; i++) {
-                header.createCell(i).setCellValue(headers[i]);
-            }
-
-                Specification<PaymentSubmissionBatch> spec = PaymentSubmissonBatchSpecification.unrestricted()
-                    .and(PaymentSubmissonBatchSpecification.search(search))
-                    .and(PaymentSubmissonBatchSpecification.status(status))
-                    .and(PaymentSubmissonBatchSpecification.officeId(null));
-
-                List<PaymentSubmissionBatch> batches = batchRepository.findAll(spec, Sort.by("createdAt").descending());
-
-            int rowIdx = 1;
-            for (PaymentSubmissionBatch b : batches) {
-                Row row = sheet.createRow(rowIdx++);
-                String shipper = b.getShipper() != null ? (b.getShipper().getLastName() + " " + b.getShipper().getFirstName()) : "";
-                String created = b.getCreatedAt() != null ? dtf.format(b.getCreatedAt()) : "";
-
-                row.createCell(0).setCellValue(b.getCode() != null ? b.getCode() : "");
-                row.createCell(1).setCellValue(shipper);
-                row.createCell(2).setCellValue(created);
-                row.createCell(3).setCellValue(b.getTotalSystemAmount() != null ? b.getTotalSystemAmount().doubleValue() : 0);
-                row.createCell(4).setCellValue(b.getTotalActualAmount() != null ? b.getTotalActualAmount().doubleValue() : 0);
-                row.createCell(5).setCellValue(b.getStatus() != null ? b.getStatus().name() : "");
-                row.createCell(6).setCellValue(b.getNotes() != null ? b.getNotes() : "");
-            }
-
-            for (int i = 0; i < headers.length; i++) sheet.autoSizeColumn(i);
+    public void exportBatches(int page, int limit, String search, String status, Integer shipperId, OutputStream out) {
+        Specification<PaymentSubmissionBatch> spec = PaymentSubmissonBatchSpecification.unrestricted()
+                .and(PaymentSubmissonBatchSpecification.search(search))
+                .and(PaymentSubmissonBatchSpecification.status(status))
+                .and(PaymentSubmissonBatchSpecification.officeId(null));
 
-            try (ByteArrayOutputStream out = new ByteArrayOutputStream()) {
-                workbook.write(out);
-                return out.toByteArray();
-            }
-        } catch (Exception e) {
-            throw new AppException(PaymentErrorCode.PAYMENT_BATCH_EXPORT_ERROR);
+        try {
+            excelExporter.write(out, "Batches", BATCH_EXPORT_COLUMNS,
+                    specificationScroller.scroll(PaymentSubmissionBatch.class, spec, Sort.by("createdAt").descending(),
+                            "shipper"));
+        } catch (AppException e) {
+            throw new AppException(PaymentErrorCode.PAYMENT_BATCH_EXPORT_ERROR, e);
         }
     }
 
-    public byte[] exportSubmissions(String status, String search) {
-        try (Workbook workbook = new XSSFWorkbook()) {
-            Sheet sheet = workbook.createSheet("Submissions");
-            String[] headers = new String[] { "Code", "Order", "Shipper", "System Amount", "Actual Amount", "Status", "Paid At", "Checked At", "Notes" };
-            Row header = sheet.createRow(0);
-            for (int i = 0; i < headers.length; i++) header.createCell(i).setCellValue(headers[i]);
-
-            Specification<PaymentSubmission> spec = PaymentSubmissonSpecification.unrestricted()
-                    .and(PaymentSubmissonSpecification.status(status))
-                    .and(PaymentSubmissonSpecification.search(search));
-
-            List<PaymentSubmission> submissions = submissionRepository.findAll(spec, Sort.by("paidAt").descending());
-
-            DateTimeFormatter dtf = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
-            int rowIdx = 1;
-            for (PaymentSubmission s : submissions) {
-                Row row = sheet.createRow(rowIdx++);
-                String orderCode = s.getOrder() != null ? s.getOrder().getTrackingNumber() : "";
-                String shipper = s.getShipper() != null ? (s.getShipper().getLastName() + " " + s.getShipper().getFirstName()) : "";
-                String paid = s.getPaidAt() != null ? dtf.format(s.getPaidAt()) : "";
-                String checked = s.getCheckedAt() != null ? dtf.format(s.getCheckedAt()) : "";
-
-                row.createCell(0).setCellValue(s.getCode() != null ? s.getCode() : "");
-                row.createCell(1).setCellValue(orderCode);
-                row.createCell(2).setCellValue(shipper);
-                Cell cellSys = row.createCell(3);
-                Cell cellAct = row.createCell(4);
-                if (s.getSystemAmount() != null) cellSys.setCellValue(s.getSystemAmount().doubleValue()); else cellSys.setCellValue(0);
-                if (s.getActualAmount() != null) cellAct.setCellValue(s.getActualAmount().doubleValue()); else cellAct.setCellValue(0);
-                row.createCell(5).setCellValue(s.getStatus() != null ? s.getStatus().name() : "");
-                row.createCell(6).setCellValue(paid);
-                row.createCell(7).setCellValue(checked);
-                row.createCell(8).setCellValue(s.getNotes() != null ? s.getNotes() : "");
-            }
-
-            for (int i = 0; i < headers.length; i++) sheet.autoSizeColumn(i);
-
-            try (ByteArrayOutputStream out = new ByteArrayOutputStream()) {
-                workbook.write(out);
-                return out.toByteArray();
-            }
-        } catch (Exception e) {
-            throw new AppException(PaymentErrorCode.PAYMENT_SUBMISSION_EXPORT_ERROR);
+    public void exportSubmissions(String status, String search, OutputStream out) {
+        Specification<PaymentSubmission> spec = PaymentSubmissonSpecification.unrestricted()
+                .and(PaymentSubmissonSpecification.status(status))
+                .and(PaymentSubmissonSpecification.search(search));
+
+        try {
+            excelExporter.write(out, "Submissions", SUBMISSION_EXPORT_COLUMNS,
+                    specificationScroller.scroll(PaymentSubmission.class, spec, Sort.by("paidAt").descending(),
+                            "order", "shipper"));
+        } catch (AppException e) {
+            throw new AppException(PaymentErrorCode.PAYMENT_SUBMISSION_EXPORT_ERROR, e);
         }
     }
 
+    private static final DateTimeFormatter EXPORT_DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    private static final List<ExcelColumn<PaymentSubmissionBatch>> BATCH_EXPORT_COLUMNS = List.of(
+            ExcelColumn.of("Mã phiên", PaymentSubmissionBatch::getCode),
+            ExcelColumn.of("Shipper", b -> b.getShipper() != null
+                    ? b.getShipper().getLastName() + " " + b.getShipper().getFirstName() : ""),
+            ExcelColumn.of("Created At", b -> b.getCreatedAt() != null ? EXPORT_DATE_TIME.format(b.getCreatedAt()) : ""),
+            ExcelColumn.of("Total System Amount", b -> b.getTotalSystemAmount() != null ? b.getTotalSystemAmount() : 0),
+            ExcelColumn.of("Total Actual Amount", b -> b.getTotalActualAmount() != null ? b.getTotalActualAmount() : 0),
+            ExcelColumn.of("Status", b -> b.getStatus() != null ? b.getStatus().name() : ""),
+            ExcelColumn.of("Notes", PaymentSubmissionBatch::getNotes));
+
+    private static final List<ExcelColumn<PaymentSubmission>> SUBMISSION_EXPORT_COLUMNS = List.of(
+            ExcelColumn.of("Code", PaymentSubmission::getCode),
+            ExcelColumn.of("Order", s -> s.getOrder() != null ? s.getOrder().getTrackingNumber() : ""),
+            ExcelColumn.of("Shipper", s -> s.getShipper() != null
+                    ? s.getShipper().getLastName() + " " + s.getShipper().getFirstName() : ""),
+            ExcelColumn.of("System Amount", s -> s.getSystemAmount() != null ? s.getSystemAmount() : 0),
+            ExcelColumn.of("Actual Amount", s -> s.getActualAmount() != null ? s.getActualAmount() : 0),
+            ExcelColumn.of("Status", s -> s.getStatus() != null ? s.getStatus().name() : ""),
+            ExcelColumn.of("Paid At", s -> s.getPaidAt() != null ? EXPORT_DATE_TIME.format(s.getPaidAt()) : ""),
+            ExcelColumn.of("Checked At", s -> s.getCheckedAt() != null ? EXPORT_DATE_TIME.format(s.getCheckedAt()) : ""),
+            ExcelColumn.of("Notes", PaymentSubmission::getNotes));
+
     @Transactional
     public void completeBatch(Integer adminId, Integer batchId) {
         PaymentSubmissionBatch batch = batchRepository.findById(batchId)
@@ -69,11 +69,11 @@ public class OrderAdminService {
     }
 
     public ManagerOrderDetailDto getOrderById(Integer orderId) {
-        Order order = orderRepository.findById(orderId)
+        Order order = orderRepository.findDetailById(orderId)
                 .orElseThrow(() -> new AppException(OrderErrorCode.ORDER_NOT_FOUND));
 
         List<OrderHistory> orderHistories = orderHistoryRepository.findByOrderIdOrderByActionTimeDesc(order.getId());
-        List<OrderProduct> orderProducts = orderProductRepository.findByOrderId(order.getId());
+        List<OrderProduct> orderProducts = orderProductRepository.findByOrderIdWithProduct(order.getId());
         var pickupAttempts = pickupAttemptRepository.findByOrderIdOrderByAttemptedAtDesc(order.getId());
 
         return OrderMapper.toManagerOrderDetailDto(order, orderHistories, orderProducts, pickupAttempts);
@@ -1,17 +1,14 @@
 package com.logistics.service.admin;
 
 import com.logistics.dto.admin.*;
-import com.logistics.exception.AppException;
-import com.logistics.exception.enums.CommonErrorCode;
+import com.logistics.repository.ReportCubeRepository;
 import com.logistics.repository.ReportRepository;
-import org.apache.poi.ss.usermodel.Row;
-import org.apache.poi.ss.usermodel.Sheet;
-import org.apache.poi.ss.usermodel.Workbook;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import com.logistics.service.common.excel.ExcelColumn;
+import com.logistics.service.common.excel.ExcelExporter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -23,8 +20,15 @@ public class ReportAdminService {
 
     private final ReportRepository reportRepo;
 
-    public ReportAdminService(ReportRepository reportRepo) {
+    // Báo cáo vận hành / tổng quan / tài chính đọc từ bảng tổng hợp theo ngày
+    private final ReportCubeRepository cubeRepo;
+
+    private final ExcelExporter excelExporter;
+
+    public ReportAdminService(ReportRepository reportRepo, ReportCubeRepository cubeRepo, ExcelExporter excelExporter) {
         this.reportRepo = reportRepo;
+        this.cubeRepo = cubeRepo;
+        this.excelExporter = excelExporter;
     }
 
     public List<AdminFinancialPoint> getFinancialByDate(LocalDateTime start, LocalDateTime end) {
@@ -45,7 +49,7 @@ public class ReportAdminService {
 
     public List<Object[]> getOrderOperationSummary(LocalDateTime start, LocalDateTime end) {
         try {
-            List<Object[]> result = reportRepo.orderOperationSummary(start, end);
+            List<Object[]> result = cubeRepo.orderOperationSummary(start, end);
             return result;
         } catch (Exception ex) {
             log.error("[REPORT] getOrderOperationSummary ERROR start={} end={}", start, end, ex);
@@ -54,16 +58,16 @@ public class ReportAdminService {
     }
 
     public List<AdminOfficeReportDto> getOfficeReport(LocalDateTime start, LocalDateTime end) {
-        return reportRepo.reportByOffice(start, end);
+        return cubeRepo.reportByOffice(start, end);
     }
 
     public List<AdminShopReportDto> getShopReport(LocalDateTime start, LocalDateTime end) {
-        return reportRepo.reportByShop(start, end);
+        return cubeRepo.reportByShop(start, end);
     }
 
     public AdminOverviewDto getOverview(LocalDateTime start, LocalDateTime end) {
         try {
-            Object[] r = reportRepo.overviewSummary(start, end);
+            Object[] r = cubeRepo.overviewSummary(start, end);
             if (r == null) {
                 r = new Object[10];
             }
@@ -144,282 +148,155 @@ public class ReportAdminService {
         }
     }
 
-    public byte[] exportOperationsXlsx(LocalDateTime start, LocalDateTime end) {
-        List<Object[]> rows = reportRepo.orderOperationSummary(start, end);
-        try (Workbook workbook = new XSSFWorkbook()) {
-            Sheet sheet = workbook.createSheet("Operations");
-            String[] headers = new String[] {"Ngày", "Tổng đơn", "Giao thành công", "Thất bại", "Trả về", "Tỉ lệ thành công (%)"};
-            Row h = sheet.createRow(0);
-            for (int i = 0; i < headers.length; i++) h.createCell(i).setCellValue(headers[i]);
-
-            int rIdx = 1;
-            for (Object[] r : rows) {
-                Row row = sheet.createRow(rIdx++);
-                LocalDate d = ReportRepository.toLocalDate(r[0]);
-                long totalOrders = ReportRepository.safeLong(r[1]);
-                long delivered = ReportRepository.safeLong(r[2]);
-                long failed = ReportRepository.safeLong(r[3]);
-                long returning = ReportRepository.safeLong(r[5]);
-                long returned = ReportRepository.safeLong(r[6]);
-                long returnCount = returning + returned;
-                double successRate = totalOrders > 0 ? ((double) delivered / (double) totalOrders) * 100.0 : 0.0;
-
-                row.createCell(0).setCellValue(d != null ? d.toString() : "");
-                row.createCell(1).setCellValue(totalOrders);
-                row.createCell(2).setCellValue(delivered);
-                row.createCell(3).setCellValue(failed);
-                row.createCell(4).setCellValue(returnCount);
-                row.createCell(5).setCellValue(Math.round(successRate * 100.0) / 100.0);
-            }
-
-            for (int i = 0; i < headers.length; i++) sheet.autoSizeColumn(i);
-            try (ByteArrayOutputStream out = new ByteArrayOutputStream()) {
-                workbook.write(out);
-                return out.toByteArray();
-            }
-        } catch (Exception e) {
-            throw new AppException(CommonErrorCode.EXPORT_EXCEL_ERROR);
-        }
+    public void exportOperationsXlsx(LocalDateTime start, LocalDateTime end, OutputStream out) {
+        excelExporter.write(out, "Operations", OPERATIONS_EXPORT_COLUMNS,
+                ExcelExporter.RowSource.of(cubeRepo.orderOperationSummary(start, end)));
     }
 
-    public byte[] exportOfficeXlsx(LocalDateTime start, LocalDateTime end) {
-        List<AdminOfficeReportDto> rows = reportRepo.reportByOffice(start, end);
-        try (Workbook workbook = new XSSFWorkbook()) {
-            Sheet sheet = workbook.createSheet("Offices");
-            String[] headers = new String[] {"OfficeId", "OfficeName", "TotalOrders"};
-            Row h = sheet.createRow(0);
-            for (int i = 0; i < headers.length; i++) h.createCell(i).setCellValue(headers[i]);
-
-            int rIdx = 1;
-            for (AdminOfficeReportDto r : rows) {
-                Row row = sheet.createRow(rIdx++);
-                row.createCell(0).setCellValue(r.getOfficeId() == null ? "" : r.getOfficeId().toString());
-                row.createCell(1).setCellValue(r.getOfficeName() == null ? "" : r.getOfficeName());
-                row.createCell(2).setCellValue(r.getTotalOrders() == null ? 0.0 : r.getTotalOrders().doubleValue());
-            }
-
-            for (int i = 0; i < headers.length; i++) sheet.autoSizeColumn(i);
-            try (ByteArrayOutputStream out = new ByteArrayOutputStream()) {
-                workbook.write(out);
-                return out.toByteArray();
-            }
-        } catch (Exception e) {
-            throw new AppException(CommonErrorCode.EXPORT_EXCEL_ERROR);
-        }
+    public void exportOfficeXlsx(LocalDateTime start, LocalDateTime end, OutputStream out) {
+        excelExporter.write(out, "Offices", OFFICE_EXPORT_COLUMNS,
+                ExcelExporter.RowSource.of(cubeRepo.reportByOffice(start, end)));
     }
 
-    public byte[] exportShopXlsx(LocalDateTime start, LocalDateTime end) {
-        List<AdminShopReportDto> rows = reportRepo.reportByShop(start, end);
-        try (Workbook workbook = new XSSFWorkbook()) {
-            Sheet sheet = workbook.createSheet("Shops");
-            String[] headers = new String[] {"ShopId", "ShopName", "OrdersCount", "TotalOrderValue", "TotalShippingFee"};
-            Row h = sheet.createRow(0);
-            for (int i = 0; i < headers.length; i++) h.createCell(i).setCellValue(headers[i]);
-
-            int rIdx = 1;
-            for (AdminShopReportDto r : rows) {
-                Row row = sheet.createRow(rIdx++);
-                row.createCell(0).setCellValue(r.getShopId() == null ? "" : r.getShopId().toString());
-                row.createCell(1).setCellValue(r.getShopName() == null ? "" : r.getShopName());
-                row.createCell(2).setCellValue(r.getOrdersCount() == null ? 0.0 : r.getOrdersCount().doubleValue());
-                row.createCell(3).setCellValue(r.getTotalOrderValue() == null ? 0.0 : r.getTotalOrderValue().doubleValue());
-                row.createCell(4).setCellValue(r.getTotalShippingFee() == null ? 0.0 : r.getTotalShippingFee().doubleValue());
-            }
-
-            for (int i = 0; i < headers.length; i++) sheet.autoSizeColumn(i);
-            try (ByteArrayOutputStream out = new ByteArrayOutputStream()) {
-                workbook.write(out);
-                return out.toByteArray();
-            }
-        } catch (Exception e) {
-            throw new AppException(CommonErrorCode.EXPORT_EXCEL_ERROR);
-        }
+    public void exportShopXlsx(LocalDateTime start, LocalDateTime end, OutputStream out) {
+        excelExporter.write(out, "Shops", SHOP_EXPORT_COLUMNS,
+                ExcelExporter.RowSource.of(cubeRepo.reportByShop(start, end)));
     }
 
-    public byte[] exportOverviewXlsx(LocalDateTime start, LocalDateTime end) {
+    public void exportOverviewXlsx(LocalDateTime start, LocalDateTime end, OutputStream out) {
         AdminOverviewDto dto = getOverview(start, end);
-        try (Workbook workbook = new XSSFWorkbook()) {
-            Sheet sheet = workbook.createSheet("Overview");
-            int rIdx = 0;
-            Row title = sheet.createRow(rIdx++);
-            title.createCell(0).setCellValue("Báo cáo tổng quan");
-            Row rangeRow = sheet.createRow(rIdx++);
-            rangeRow.createCell(0).setCellValue("Từ ngày");
-            rangeRow.createCell(1).setCellValue(start.toLocalDate().toString());
-            rangeRow.createCell(2).setCellValue("Đến ngày");
-            rangeRow.createCell(3).setCellValue(end.toLocalDate().toString());
-
-            Row h = sheet.createRow(rIdx++);
-            String[] headers = new String[] {"Key", "Value"};
-            for (int i = 0; i < headers.length; i++) h.createCell(i).setCellValue(headers[i]);
-
-            Map<String, Object> map = new LinkedHashMap<>();
-            map.put("Total Offices", dto.getTotalOffices());
-            map.put("Total Employees", dto.getTotalEmployees());
-            map.put("Total Shippers", dto.getTotalShippers());
-            map.put("Total Orders", dto.getTotalOrders());
-            map.put("Delivered", dto.getDelivered());
-            map.put("Failed", dto.getFailed());
-            map.put("Returned", dto.getReturnedOrders());
-            map.put("Success Rate (%)", dto.getSuccessRate());
-            map.put("Shipping Revenue (VND)", dto.getShippingRevenue());
-            map.put("Total COD Collected (VND)", dto.getTotalCodCollected());
-            map.put("COD Transferred To Shop (VND)", dto.getCodTransferred());
-            map.put("COD Held (VND)", dto.getCodHeld());
-
-            for (Map.Entry<String, Object> e : map.entrySet()) {
-                Row row = sheet.createRow(rIdx++);
-                row.createCell(0).setCellValue(e.getKey());
-                Object v = e.getValue();
-                if (v instanceof BigDecimal) row.createCell(1).setCellValue(((BigDecimal) v).doubleValue());
-                else if (v instanceof Number) row.createCell(1).setCellValue(((Number) v).doubleValue());
-                else row.createCell(1).setCellValue(v == null ? "" : v.toString());
-            }
 
-            for (int i = 0; i < headers.length; i++) sheet.autoSizeColumn(i);
-            try (ByteArrayOutputStream out = new ByteArrayOutputStream()) {
-                workbook.write(out);
-                return out.toByteArray();
-            }
-        } catch (Exception e) {
-            throw new AppException(CommonErrorCode.EXPORT_EXCEL_ERROR);
-        }
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("Total Offices", dto.getTotalOffices());
+        map.put("Total Employees", dto.getTotalEmployees());
+        map.put("Total Shippers", dto.getTotalShippers());
+        map.put("Total Orders", dto.getTotalOrders());
+        map.put("Delivered", dto.getDelivered());
+        map.put("Failed", dto.getFailed());
+        map.put("Returned", dto.getReturnedOrders());
+        map.put("Success Rate (%)", dto.getSuccessRate());
+        map.put("Shipping Revenue (VND)", dto.getShippingRevenue());
+        map.put("Total COD Collected (VND)", dto.getTotalCodCollected());
+        map.put("COD Transferred To Shop (VND)", dto.getCodTransferred());
+        map.put("COD Held (VND)", dto.getCodHeld());
+
+        excelExporter.write(out, "Overview", 4, rows -> {
+            rows.row("Báo cáo tổng quan");
+            rows.row("Từ ngày", start.toLocalDate().toString(), "Đến ngày", end.toLocalDate().toString());
+            rows.header("Key", "Value");
+            map.forEach((key, value) -> rows.row(key, value));
+        });
     }
 
-    public byte[] exportOfficesDetailedXlsx(LocalDateTime start, LocalDateTime end) {
-        List<Map<String, Object>> rows = getOfficeReportDetailed(start, end);
-        try (Workbook workbook = new XSSFWorkbook()) {
-            Sheet sheet = workbook.createSheet("Offices Detailed");
-            String[] headers = new String[] {"OfficeId","OfficeName","TotalOrders","Delivered","Failed","Returned","InProgress","SuccessRate(%)","ShippingRevenue(VND)","TotalCodCollected(VND)","CodSubmittedToCompany(VND)","TotalEmployees","TotalShippers"};
-            Row h = sheet.createRow(0);
-            for (int i = 0; i < headers.length; i++) h.createCell(i).setCellValue(headers[i]);
-            int rIdx = 1;
-            for (Map<String, Object> r : rows) {
-                Row row = sheet.createRow(rIdx++);
-                row.createCell(0).setCellValue(r.get("officeId") == null ? "" : r.get("officeId").toString());
-                row.createCell(1).setCellValue(r.get("officeName") == null ? "" : r.get("officeName").toString());
-                row.createCell(2).setCellValue(((Number) (r.get("totalOrders") == null ? 0 : r.get("totalOrders"))).doubleValue());
-                row.createCell(3).setCellValue(((Number) (r.get("delivered") == null ? 0 : r.get("delivered"))).doubleValue());
-                row.createCell(4).setCellValue(((Number) (r.get("failed") == null ? 0 : r.get("failed"))).doubleValue());
-                row.createCell(5).setCellValue(((Number) (r.get("returnedOrders") == null ? 0 : r.get("returnedOrders"))).doubleValue());
-                row.createCell(6).setCellValue(((Number) (r.get("inProgress") == null ? 0 : r.get("inProgress"))).doubleValue());
-                row.createCell(7).setCellValue(((Number) (r.get("successRate") == null ? 0 : r.get("successRate"))).doubleValue());
-                BigDecimal sr = (BigDecimal) r.getOrDefault("shippingRevenue", BigDecimal.ZERO);
-                BigDecimal tc = (BigDecimal) r.getOrDefault("totalCodCollected", BigDecimal.ZERO);
-                BigDecimal sub = (BigDecimal) r.getOrDefault("codSubmittedToCompany", BigDecimal.ZERO);
-                row.createCell(8).setCellValue(sr.doubleValue());
-                row.createCell(9).setCellValue(tc.doubleValue());
-                row.createCell(10).setCellValue(sub.doubleValue());
-                row.createCell(11).setCellValue(((Number) (r.get("totalEmployees") == null ? 0 : r.get("totalEmployees"))).doubleValue());
-                row.createCell(12).setCellValue(((Number) (r.get("totalShippers") == null ? 0 : r.get("totalShippers"))).doubleValue());
-            }
-            for (int i = 0; i < headers.length; i++) sheet.autoSizeColumn(i);
-            try (ByteArrayOutputStream out = new ByteArrayOutputStream()) {
-                workbook.write(out);
-                return out.toByteArray();
-            }
-        } catch (Exception e) {
-            throw new AppException(CommonErrorCode.EXPORT_EXCEL_ERROR);
-        }
+    public void exportOfficesDetailedXlsx(LocalDateTime start, LocalDateTime end, OutputStream out) {
+        excelExporter.write(out, "Offices Detailed", OFFICES_DETAILED_EXPORT_COLUMNS,
+                ExcelExporter.RowSource.of(getOfficeReportDetailed(start, end)));
     }
 
-    public byte[] exportShippersDetailedXlsx(LocalDateTime start, LocalDateTime end) {
-        List<Map<String, Object>> rows = getShipperReportDetailed(start, end);
-        try (Workbook workbook = new XSSFWorkbook()) {
-            Sheet sheet = workbook.createSheet("Shippers Detailed");
-            String[] headers = new String[] {"ShipperId","ShipperName","Phone","BranchName","TotalOrders","Delivered","Failed","Returned","InProgress","SuccessRate(%)","CodCollected(VND)","CodSubmittedToCompany(VND)","CodHeldByShipper(VND)"};
-            Row h = sheet.createRow(0);
-            for (int i = 0; i < headers.length; i++) h.createCell(i).setCellValue(headers[i]);
-            int rIdx = 1;
-            for (Map<String, Object> r : rows) {
-                Row row = sheet.createRow(rIdx++);
-                row.createCell(0).setCellValue(r.get("shipperId") == null ? "" : r.get("shipperId").toString());
-                row.createCell(1).setCellValue(r.get("shipperName") == null ? "" : r.get("shipperName").toString());
-                row.createCell(2).setCellValue(r.get("phone") == null ? "" : r.get("phone").toString());
-                row.createCell(3).setCellValue(r.get("branchName") == null ? "" : r.get("branchName").toString());
-                row.createCell(4).setCellValue(((Number) (r.get("totalOrders") == null ? 0 : r.get("totalOrders"))).doubleValue());
-                row.createCell(5).setCellValue(((Number) (r.get("delivered") == null ? 0 : r.get("delivered"))).doubleValue());
-                row.createCell(6).setCellValue(((Number) (r.get("failed") == null ? 0 : r.get("failed"))).doubleValue());
-                row.createCell(7).setCellValue(((Number) (r.get("returnedOrders") == null ? 0 : r.get("returnedOrders"))).doubleValue());
-                row.createCell(8).setCellValue(((Number) (r.get("inProgress") == null ? 0 : r.get("inProgress"))).doubleValue());
-                row.createCell(9).setCellValue(((Number) (r.get("successRate") == null ? 0 : r.get("successRate"))).doubleValue());
-                BigDecimal cc = (BigDecimal) r.getOrDefault("codCollected", BigDecimal.ZERO);
-                BigDecimal cs = (BigDecimal) r.getOrDefault("codSubmittedToCompany", BigDecimal.ZERO);
-                BigDecimal ch = (BigDecimal) r.getOrDefault("codHeldByShipper", BigDecimal.ZERO);
-                row.createCell(10).setCellValue(cc.doubleValue());
-                row.createCell(11).setCellValue(cs.doubleValue());
-                row.createCell(12).setCellValue(ch.doubleValue());
-            }
-            for (int i = 0; i < headers.length; i++) sheet.autoSizeColumn(i);
-            try (ByteArrayOutputStream out = new ByteArrayOutputStream()) {
-                workbook.write(out);
-                return out.toByteArray();
-            }
-        } catch (Exception e) {
-            throw new AppException(CommonErrorCode.EXPORT_EXCEL_ERROR);
-        }
+    public void exportShippersDetailedXlsx(LocalDateTime start, LocalDateTime end, OutputStream out) {
+        excelExporter.write(out, "Shippers Detailed", SHIPPERS_DETAILED_EXPORT_COLUMNS,
+                ExcelExporter.RowSource.of(getShipperReportDetailed(start, end)));
     }
 
     @SuppressWarnings("unchecked")
-    public byte[] exportFinanceXlsx(LocalDateTime start, LocalDateTime end) {
+    public void exportFinanceXlsx(LocalDateTime start, LocalDateTime end, OutputStream out) {
         Map<String, Object> report = getFinanceReport(start, end);
-        try (Workbook workbook = new XSSFWorkbook()) {
-            Sheet sheet = workbook.createSheet("Finance");
-            int rIdx = 0;
-            Row title = sheet.createRow(rIdx++);
-            title.createCell(0).setCellValue("Báo cáo tài chính");
-            Row rangeRow = sheet.createRow(rIdx++);
-            rangeRow.createCell(0).setCellValue("Từ ngày");
-            rangeRow.createCell(1).setCellValue(start.toLocalDate().toString());
-            rangeRow.createCell(2).setCellValue("Đến ngày");
-            rangeRow.createCell(3).setCellValue(end.toLocalDate().toString());
-
-            Row h = sheet.createRow(rIdx++);
-            h.createCell(0).setCellValue("Key"); h.createCell(1).setCellValue("Value");
-            Map<String, Object> codSummary = (Map<String, Object>) report.getOrDefault("codSummary", new HashMap<>());
-            Map<String, Object> summary = new LinkedHashMap<>();
-            summary.put("Total Shipping Revenue (VND)", report.getOrDefault("shippingRevenue", BigDecimal.ZERO));
-            summary.put("Total COD Collected (VND)", codSummary.getOrDefault("totalCodCollected", BigDecimal.ZERO));
-            summary.put("COD Submitted To Company (VND)", codSummary.getOrDefault("codSubmittedToCompany", BigDecimal.ZERO));
-            summary.put("COD Transferred To Shop (VND)", codSummary.getOrDefault("codTransferredToShop", BigDecimal.ZERO));
-            summary.put("COD Held By Company (VND)", codSummary.getOrDefault("codHeldByCompany", BigDecimal.ZERO));
-
-            for (Map.Entry<String, Object> e : summary.entrySet()) {
-                Row row = sheet.createRow(rIdx++);
-                row.createCell(0).setCellValue(e.getKey());
-                Object v = e.getValue();
-                if (v instanceof BigDecimal) row.createCell(1).setCellValue(((BigDecimal) v).doubleValue());
-                else row.createCell(1).setCellValue(v == null ? "" : v.toString());
-            }
-
-            rIdx++;
-            Row cdh = sheet.createRow(rIdx++);
-            String[] dayHeaders = new String[] {"Date","ShippingRevenue","CODCollected","CODSubmittedToCompany","CODTransferredToShop","CODHeldByCompany"};
-            for (int i = 0; i < dayHeaders.length; i++) cdh.createCell(i).setCellValue(dayHeaders[i]);
-            List<Map<String, Object>> codByDay = (List<Map<String, Object>>) report.getOrDefault("codByDay", Collections.emptyList());
+        Map<String, Object> codSummary = (Map<String, Object>) report.getOrDefault("codSummary", new HashMap<>());
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("Total Shipping Revenue (VND)", report.getOrDefault("shippingRevenue", BigDecimal.ZERO));
+        summary.put("Total COD Collected (VND)", codSummary.getOrDefault("totalCodCollected", BigDecimal.ZERO));
+        summary.put("COD Submitted To Company (VND)", codSummary.getOrDefault("codSubmittedToCompany", BigDecimal.ZERO));
+        summary.put("COD Transferred To Shop (VND)", codSummary.getOrDefault("codTransferredToShop", BigDecimal.ZERO));
+        summary.put("COD Held By Company (VND)", codSummary.getOrDefault("codHeldByCompany", BigDecimal.ZERO));
+        List<Map<String, Object>> codByDay = (List<Map<String, Object>>) report.getOrDefault("codByDay", Collections.emptyList());
+
+        excelExporter.write(out, "Finance", 6, rows -> {
+            rows.row("Báo cáo tài chính");
+            rows.row("Từ ngày", start.toLocalDate().toString(), "Đến ngày", end.toLocalDate().toString());
+            rows.header("Key", "Value");
+            summary.forEach((key, value) -> rows.row(key, value));
+
+            rows.skip();
+            rows.header("Date", "ShippingRevenue", "CODCollected", "CODSubmittedToCompany", "CODTransferredToShop",
+                    "CODHeldByCompany");
             for (Map<String, Object> d : codByDay) {
-                Row row = sheet.createRow(rIdx++);
-                row.createCell(0).setCellValue(d.getOrDefault("date", "").toString());
-                row.createCell(1).setCellValue(((BigDecimal) d.getOrDefault("shippingRevenue", BigDecimal.ZERO)).doubleValue());
-                row.createCell(2).setCellValue(((BigDecimal) d.getOrDefault("codCollected", BigDecimal.ZERO)).doubleValue());
-                row.createCell(3).setCellValue(((BigDecimal) d.getOrDefault("codSubmittedToCompany", BigDecimal.ZERO)).doubleValue());
-                row.createCell(4).setCellValue(((BigDecimal) d.getOrDefault("codTransferredToShop", BigDecimal.ZERO)).doubleValue());
-                row.createCell(5).setCellValue(((BigDecimal) d.getOrDefault("codHeldByCompany", BigDecimal.ZERO)).doubleValue());
+                rows.row(d.getOrDefault("date", "").toString(),
+                        d.getOrDefault("shippingRevenue", BigDecimal.ZERO),
+                        d.getOrDefault("codCollected", BigDecimal.ZERO),
+                        d.getOrDefault("codSubmittedToCompany", BigDecimal.ZERO),
+                        d.getOrDefault("codTransferredToShop", BigDecimal.ZERO),
+                        d.getOrDefault("codHeldByCompany", BigDecimal.ZERO));
             }
+        });
+    }
 
-            for (int i = 0; i < dayHeaders.length; i++) sheet.autoSizeColumn(i);
-            try (ByteArrayOutputStream out = new ByteArrayOutputStream()) {
-                workbook.write(out);
-                return out.toByteArray();
-            }
-        } catch (Exception e) {
-            throw new AppException(CommonErrorCode.EXPORT_EXCEL_ERROR);
-        }
+    private static final List<ExcelColumn<Object[]>> OPERATIONS_EXPORT_COLUMNS = List.of(
+            ExcelColumn.of("Ngày", r -> {
+                LocalDate d = ReportRepository.toLocalDate(r[0]);
+                return d != null ? d.toString() : "";
+            }),
+            ExcelColumn.of("Tổng đơn", r -> ReportRepository.safeLong(r[1])),
+            ExcelColumn.of("Giao thành công", r -> ReportRepository.safeLong(r[2])),
+            ExcelColumn.of("Thất bại", r -> ReportRepository.safeLong(r[3])),
+            ExcelColumn.of("Trả về", r -> ReportRepository.safeLong(r[5]) + ReportRepository.safeLong(r[6])),
+            ExcelColumn.of("Tỉ lệ thành công (%)", r -> {
+                long totalOrders = ReportRepository.safeLong(r[1]);
+                double successRate = totalOrders > 0
+                        ? ((double) ReportRepository.safeLong(r[2]) / (double) totalOrders) * 100.0
+                        : 0.0;
+                return Math.round(successRate * 100.0) / 100.0;
+            }));
+
+    private static final List<ExcelColumn<AdminOfficeReportDto>> OFFICE_EXPORT_COLUMNS = List.of(
+            ExcelColumn.of("OfficeId", r -> r.getOfficeId() == null ? "" : r.getOfficeId().toString()),
+            ExcelColumn.of("OfficeName", AdminOfficeReportDto::getOfficeName),
+            ExcelColumn.of("TotalOrders", r -> orZero(r.getTotalOrders())));
+
+    private static final List<ExcelColumn<AdminShopReportDto>> SHOP_EXPORT_COLUMNS = List.of(
+            ExcelColumn.of("ShopId", r -> r.getShopId() == null ? "" : r.getShopId().toString()),
+            ExcelColumn.of("ShopName", AdminShopReportDto::getShopName),
+            ExcelColumn.of("OrdersCount", r -> orZero(r.getOrdersCount())),
+            ExcelColumn.of("TotalOrderValue", r -> orZero(r.getTotalOrderValue())),
+            ExcelColumn.of("TotalShippingFee", r -> orZero(r.getTotalShippingFee())));
+
+    private static final List<ExcelColumn<Map<String, Object>>> OFFICES_DETAILED_EXPORT_COLUMNS = List.of(
+            ExcelColumn.of("OfficeId", r -> r.get("officeId") == null ? "" : r.get("officeId").toString()),
+            ExcelColumn.of("OfficeName", r -> r.get("officeName")),
+            ExcelColumn.of("TotalOrders", r -> orZero(r.get("totalOrders"))),
+            ExcelColumn.of("Delivered", r -> orZero(r.get("delivered"))),
+            ExcelColumn.of("Failed", r -> orZero(r.get("failed"))),
+            ExcelColumn.of("Returned", r -> orZero(r.get("returnedOrders"))),
+            ExcelColumn.of("InProgress", r -> orZero(r.get("inProgress"))),
+            ExcelColumn.of("SuccessRate(%)", r -> orZero(r.get("successRate"))),
+            ExcelColumn.of("ShippingRevenue(VND)", r -> r.getOrDefault("shippingRevenue", BigDecimal.ZERO)),
+            ExcelColumn.of("TotalCodCollected(VND)", r -> r.getOrDefault("totalCodCollected", BigDecimal.ZERO)),
+            ExcelColumn.of("CodSubmittedToCompany(VND)", r -> r.getOrDefault("codSubmittedToCompany", BigDecimal.ZERO)),
+            ExcelColumn.of("TotalEmployees", r -> orZero(r.get("totalEmployees"))),
+            ExcelColumn.of("TotalShippers", r -> orZero(r.get("totalShippers"))));
+
+    private static final List<ExcelColumn<Map<String, Object>>> SHIPPERS_DETAILED_EXPORT_COLUMNS = List.of(
+            ExcelColumn.of("ShipperId", r -> r.get("shipperId") == null ? "" : r.get("shipperId").toString()),
+            ExcelColumn.of("ShipperName", r -> r.get("shipperName")),
+            ExcelColumn.of("Phone", r -> r.get("phone")),
+            ExcelColumn.of("BranchName", r -> r.get("branchName")),
+            ExcelColumn.of("TotalOrders", r -> orZero(r.get("totalOrders"))),
+            ExcelColumn.of("Delivered", r -> orZero(r.get("delivered"))),
+            ExcelColumn.of("Failed", r -> orZero(r.get("failed"))),
+            ExcelColumn.of("Returned", r -> orZero(r.get("returnedOrders"))),
+            ExcelColumn.of("InProgress", r -> orZero(r.get("inProgress"))),
+            ExcelColumn.of("SuccessRate(%)", r -> orZero(r.get("successRate"))),
+            ExcelColumn.of("CodCollected(VND)", r -> r.getOrDefault("codCollected", BigDecimal.ZERO)),
+            ExcelColumn.of("CodSubmittedToCompany(VND)", r -> r.getOrDefault("codSubmittedToCompany", BigDecimal.ZERO)),
+            ExcelColumn.of("CodHeldByShipper(VND)", r -> r.getOrDefault("codHeldByShipper", BigDecimal.ZERO)));
+
+    // Ô số trống được ghi là 0 như các file báo cáo trước đây
+    private static Object orZero(Object value) {
+        return value == null ? 0 : value;
     }
 
     public List<Map<String, Object>> getOfficeReportDetailed(LocalDateTime start, LocalDateTime end) {
         try {
-            List<Object[]> rows = reportRepo.reportByOfficeDetailed(start, end);
+            List<Object[]> rows = cubeRepo.reportByOfficeDetailed(start, end);
             List<Map<String, Object>> out = rows.stream().map(r -> {
                 Map<String, Object> m = new HashMap<>();
                 m.put("officeId", r[0] == null ? null : ((Number) r[0]).intValue());
@@ -452,7 +329,7 @@ public class ReportAdminService {
 
     public List<Map<String, Object>> getShipperReportDetailed(LocalDateTime start, LocalDateTime end) {
         try {
-            List<Object[]> rows = reportRepo.reportByShipperDetailed(start, end);
+            List<Object[]> rows = cubeRepo.reportByShipperDetailed(start, end);
             List<Map<String, Object>> out = rows.stream().map(r -> {
                 Map<String, Object> m = new HashMap<>();
                 // r[0]: employee_id, r[1]: user_id, r[2]: shipper_name, r[3]: phone_number
@@ -501,7 +378,7 @@ public class ReportAdminService {
     @SuppressWarnings("unchecked")
     public Map<String, Object> getFinanceReport(LocalDateTime start, LocalDateTime end) {
         Map<String, Object> out = new HashMap<>();
-        List<Object[]> byDay = reportRepo.financeReportByDay(start, end);
+        List<Object[]> byDay = cubeRepo.financeReportByDay(start, end);
         List<Map<String, Object>> codByDay = byDay.stream().map(r -> {
             Map<String, Object> m = new HashMap<>();
             LocalDate d = ReportRepository.toLocalDate(r[0]);
@@ -8,6 +8,7 @@ import com.logistics.repository.ServiceTypeRepository;
 import com.logistics.request.admin.CreateServiceTypeRequest;
 import com.logistics.request.admin.UpdateServiceTypeRequest;
 import com.logistics.response.Pagination;
+import com.logistics.service.common.TariffCatalog;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -27,6 +28,9 @@ public class ServiceTypeAdminService {
     @Autowired
     private ServiceTypeRepository serviceTypeRepository;
 
+    @Autowired
+    private TariffCatalog tariffCatalog;
+
     public Map<String, Object> listServiceTypes(int page, int limit, String search) {
         Pageable pageable = PageRequest.of(page - 1, limit, Sort.by("createdAt").descending());
         Page<ServiceType> serviceTypePage;
@@ -73,6 +77,7 @@ public class ServiceTypeAdminService {
         serviceType.setStatus(resolveStatus(request.getStatus()));
         serviceType.setDeliveryTime(buildDeliveryTime(request));
         serviceType = serviceTypeRepository.save(serviceType);
+        tariffCatalog.reloadAfterCommit();
     }
 
     @Transactional
@@ -90,6 +95,7 @@ public class ServiceTypeAdminService {
         }
 
         serviceType = serviceTypeRepository.save(serviceType);
+        tariffCatalog.reloadAfterCommit();
     }
 
     @Transactional
@@ -97,6 +103,7 @@ public class ServiceTypeAdminService {
         ServiceType serviceType = serviceTypeRepository.findById(id)
                 .orElseThrow(() -> new AppException(ServiceTypeErrorCode.SERVICE_TYPE_NOT_FOUND));
         serviceTypeRepository.delete(serviceType);
+        tariffCatalog.reloadAfterCommit();
     }
 
     private ServiceTypeStatus resolveStatus(String status) {
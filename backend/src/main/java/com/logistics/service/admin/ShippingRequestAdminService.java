@@ -10,6 +10,7 @@ import com.logistics.repository.OfficeRepository;
 import com.logistics.repository.ShippingRequestRepository;
 import com.logistics.service.common.NotificationService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
@@ -24,8 +25,8 @@ public class ShippingRequestAdminService {
     @Autowired
     private NotificationService notificationService;
 
-    public List<Map<String, Object>> listAll() {
-        List<ShippingRequest> list = shippingRequestRepository.findAll();
+    public List<Map<String, Object>> listAll(int page, int limit) {
+        List<ShippingRequest> list = shippingRequestRepository.findLatest(PageRequest.of(Math.max(0, page - 1), limit));
 
         List<Map<String, Object>> out = new ArrayList<>();
         if (list != null) {
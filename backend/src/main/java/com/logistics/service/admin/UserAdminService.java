@@ -7,7 +7,6 @@ import com.logistics.enums.AuditLogStatus;
 import com.logistics.enums.EntityType;
 import com.logistics.exception.AppException;
 import com.logistics.exception.enums.AccountErrorCode;
-import com.logistics.exception.enums.CommonErrorCode;
 import com.logistics.exception.enums.UserErrorCode;
 import com.logistics.mapper.AuditLogMapper;
 import com.logistics.repository.AccountRepository;
@@ -19,13 +18,11 @@ import com.logistics.request.admin.UpdateUserRequest;
 import com.logistics.request.manager.audit.AuditLogSearchRequest;
 import com.logistics.response.ListResponse;
 import com.logistics.response.Pagination;
+import com.logistics.service.common.excel.ExcelColumn;
+import com.logistics.service.common.excel.ExcelExporter;
+import com.logistics.service.common.excel.SpecificationScroller;
 import com.logistics.specification.AuditLogSpecification;
 import com.logistics.utils.PasswordUtils;
-import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.xssf.usermodel.XSSFCellStyle;
-import org.apache.poi.xssf.usermodel.XSSFColor;
-import org.apache.poi.xssf.usermodel.XSSFFont;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -35,9 +32,8 @@ import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -63,6 +59,12 @@ public class UserAdminService {
     @Autowired
     private AuditLogRepository auditLogRepository;
 
+    @Autowired
+    private ExcelExporter excelExporter;
+
+    @Autowired
+    private SpecificationScroller specificationScroller;
+
     public Map<String, Object> listUsers(int page, int limit, String search, String status, String roleName) {
         Pageable pageable = PageRequest.of(page - 1, limit, Sort.by("createdAt").descending());
         Page<Account> accountPage;
@@ -332,7 +334,7 @@ public class UserAdminService {
         return data;
     }
 
-    public byte[] export(Integer userId, AuditLogSearchRequest request) {
+    public void export(Integer userId, AuditLogSearchRequest request, OutputStream out) {
 
         LocalDateTime startDate = request.getStartDate() != null && !request.getStartDate().isBlank()
                 ? LocalDateTime.parse(request.getStartDate()) : null;
@@ -347,60 +349,15 @@ public class UserAdminService {
                 .and(AuditLogSpecification.action(request.getAction()))
                 .and(AuditLogSpecification.createdAtBetween(startDate, endDate));
 
-        List<AuditLog> logs = auditLogRepository.findAll(spec, Sort.by("createdAt").descending());
-
-        try (Workbook workbook = new XSSFWorkbook()) {
-            Sheet sheet = workbook.createSheet("Audit Logs");
-
-            XSSFCellStyle headerStyle = (XSSFCellStyle) workbook.createCellStyle();
-            XSSFFont font = (XSSFFont) workbook.createFont();
-            font.setBold(true);
-            font.setColor(new XSSFColor(new byte[]{(byte) 0xFF, (byte) 0xFF, (byte) 0xFF}, null));
-            headerStyle.setFont(font);
-            headerStyle.setAlignment(HorizontalAlignment.CENTER);
-            headerStyle.setFillForegroundColor(
-                    new XSSFColor(new byte[]{(byte) 0x1C, (byte) 0x3D, (byte) 0x90}, null));
-            headerStyle.setFillPattern(FillPatternType.SOLID_FOREGROUND);
-
-            String[] headers = {
-                    "Thời gian",
-                    "Đối tượng",
-                    "Mã ĐT",
-                    "Hành động",
-                    "Mô tả",
-                    "Trạng thái"};
-
-            Row headerRow = sheet.createRow(0);
-            for (int i = 0; i < headers.length; i++) {
-                Cell cell = headerRow.createCell(i);
-                cell.setCellValue(headers[i]);
-                cell.setCellStyle(headerStyle);
-            }
-
-            DateTimeFormatter dtf = DateTimeFormatter.ofPattern("HH:mm:ss dd/MM/yyyy");
-
-            int rowIdx = 1;
-            for (AuditLog log : logs) {
-                Row row = sheet.createRow(rowIdx++);
-
-                row.createCell(0).setCellValue(log.getCreatedAt() != null ? log.getCreatedAt().format(dtf) : "");
-                row.createCell(1).setCellValue(translateEntityType(log.getEntity()));
-                row.createCell(2).setCellValue(log.getId() != null ? log.getId().toString() : "");
-                row.createCell(3).setCellValue(translateAuditLogAction(log.getAction()));
-                row.createCell(4).setCellValue(log.getDescription() != null ? log.getDescription() : "");
-                row.createCell(5).setCellValue(translateAuditLogStatus(log.getStatus()));
-            }
-
-            for (int i = 0; i < headers.length; i++) {
-                sheet.autoSizeColumn(i);
-            }
-
-            ByteArrayOutputStream out = new ByteArrayOutputStream();
-            workbook.write(out);
-            return out.toByteArray();
-
-        } catch (Exception e) {
-            throw new AppException(CommonErrorCode.EXPORT_EXCEL_ERROR, e);
-        }
+        excelExporter.write(out, "Audit Logs", AUDIT_LOG_EXPORT_COLUMNS,
+                specificationScroller.scroll(AuditLog.class, spec, Sort.by("createdAt").descending()));
     }
+
+    private static final List<ExcelColumn<AuditLog>> AUDIT_LOG_EXPORT_COLUMNS = List.of(
+            ExcelColumn.of("Thời gian", AuditLog::getCreatedAt),
+            ExcelColumn.of("Đối tượng", log -> translateEntityType(log.getEntity())),
+            ExcelColumn.of("Mã ĐT", log -> log.getId() != null ? log.getId().toString() : ""),
+            ExcelColumn.of("Hành động", log -> translateAuditLogAction(log.getAction())),
+            ExcelColumn.of("Mô tả", AuditLog::getDescription),
+            ExcelColumn.of("Trạng thái", log -> translateAuditLogStatus(log.getStatus())));
 }
@@ -13,6 +13,8 @@ import com.logistics.repository.VehicleTrackingRepository;
 import com.logistics.request.admin.CreateVehicleRequest;
 import com.logistics.request.admin.UpdateVehicleRequest;
 import com.logistics.response.Pagination;
+import com.logistics.telemetry.GpsPing;
+import com.logistics.telemetry.LiveFleetPositionStore;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -22,6 +24,8 @@ import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -30,6 +34,9 @@ import java.util.stream.Collectors;
 @Service
 public class VehicleAdminService {
 
+    private static final int RECENT_TRACKING_LIMIT = 500;
+    private static final int RECENT_TRACKING_DAYS = 7;
+
     @Autowired
     private VehicleRepository vehicleRepository;
 
@@ -39,6 +46,9 @@ public class VehicleAdminService {
     @Autowired
     private VehicleTrackingRepository vehicleTrackingRepository;
 
+    @Autowired
+    private LiveFleetPositionStore liveFleetPositionStore;
+
     public Map<String, Object> listVehicles(int page, int limit, String search, String type, String status) {
         Pageable pageable = PageRequest.of(page - 1, limit, Sort.by("createdAt").descending());
         Specification<Vehicle> spec = Specification.where(null);
@@ -159,8 +169,12 @@ public class VehicleAdminService {
         vehicleMap.put("gpsDeviceId", vehicle.getGpsDeviceId());
         vehicleMap.put("lastMaintenanceAt", vehicle.getLastMaintenanceAt());
         vehicleMap.put("nextMaintenanceDue", vehicle.getNextMaintenanceDue());
-        vehicleMap.put("latitude", vehicle.getLatitude());
-        vehicleMap.put("longitude", vehicle.getLongitude());
+        // Vị trí GPS mới nhất trong bộ nhớ đi trước bản đã ghi xuống vehicles
+        GpsPing position = liveFleetPositionStore.get(vehicle.getId());
+        vehicleMap.put("latitude", position != null
+                ? BigDecimal.valueOf(position.latitudeE6(), 6) : vehicle.getLatitude());
+        vehicleMap.put("longitude", position != null
+                ? BigDecimal.valueOf(position.longitudeE6(), 6) : vehicle.getLongitude());
 
         vehicleMap.put("createdAt", vehicle.getCreatedAt());
         vehicleMap.put("updatedAt", vehicle.getUpdatedAt());
@@ -173,8 +187,15 @@ public class VehicleAdminService {
         return mapVehicle(vehicle);
     }
 
+    /**
+     * Các điểm GPS gần nhất của xe (tối đa {@value #RECENT_TRACKING_LIMIT} điểm trong
+     * {@value #RECENT_TRACKING_DAYS} ngày), mới nhất trước.
+     */
     public Map<String, Object> getVehicleTrackings(Integer vehicleId) {
-        java.util.List<com.logistics.entity.VehicleTracking> trackings = vehicleTrackingRepository.findByVehicleId(vehicleId);
+        java.util.List<com.logistics.entity.VehicleTracking> trackings = vehicleTrackingRepository.findRecentByVehicleId(
+                vehicleId,
+                LocalDateTime.now().minusDays(RECENT_TRACKING_DAYS),
+                PageRequest.of(0, RECENT_TRACKING_LIMIT));
         java.util.List<Map<String, Object>> list = trackings.stream().map(t -> {
             Map<String, Object> m = new HashMap<>();
             m.put("id", t.getId());
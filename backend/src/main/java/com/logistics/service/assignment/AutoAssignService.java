@@ -1,31 +1,51 @@
 package com.logistics.service.assignment;
 
+import com.logistics.config.properties.AutoAssignProperties;
 import com.logistics.entity.*;
 import com.logistics.enums.OrderStatus;
+import com.logistics.enums.ShipperVehicleStatus;
 import com.logistics.enums.ShippingRequestStatus;
 import com.logistics.exception.AppException;
 import com.logistics.exception.enums.OrderErrorCode;
 import com.logistics.repository.*;
+import com.logistics.response.BulkResponse;
 import com.logistics.service.common.NotificationService;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
-import java.util.Comparator;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Service
 public class AutoAssignService {
 
+    // Không báo lại "không tìm được shipper" cho cùng một đơn trong khoảng này
+    private static final long FAILURE_RENOTIFY_MS = 24 * 60 * 60 * 1000L;
+
+    // Đơn đã báo phân công thất bại -> thời điểm báo
+    private final Map<Integer, Long> reportedFailures = new ConcurrentHashMap<>();
+
     @Autowired
     private OrderRepository orderRepository;
 
     @Autowired
-    private ShipperAssignmentRepository shipperAssignmentRepo;
+    private ShipperCoverageIndex coverageIndex;
+
+    @Autowired
+    private ShipperScoringEngine scoringEngine;
 
     @Autowired
     private ShippingRequestRepository shippingRequestRepo;
@@ -36,121 +56,124 @@ public class AutoAssignService {
     @Autowired
     private EmployeeRepository employeeRepository;
 
+    @Autowired
+    private ShipperVehicleRepository shipperVehicleRepository;
+
+    @Autowired
+    private AiRoutePlanRouteRepository aiRoutePlanRouteRepository;
+
     @Autowired
     private NotificationService notificationService;
 
-    @Value("${logistics.auto-assign.enabled:true}")
-    private boolean autoAssignEnabled;
+    @Autowired
+    private AutoAssignProperties autoAssignProperties;
 
     @Transactional
     public Optional<User> autoAssignOnArrival(Integer orderId) {
-        if (!autoAssignEnabled) return Optional.empty();
+        if (!autoAssignProperties.isEnabled()) return Optional.empty();
         Order order = orderRepository.findByIdForUpdate(orderId)
                 .orElseThrow(() -> new AppException(OrderErrorCode.ORDER_NOT_FOUND));
 
         if (order.getStatus() != OrderStatus.AT_DEST_OFFICE) return Optional.empty();
 
-        LocalDateTime now = LocalDateTime.now();
+        List<ShipperCoverageIndex.Coverage> candidates = deliveryCandidates(order, LocalDateTime.now());
+        ShipperWorkloads workloads = loadWorkloads(ShipperCoverageIndex.shipperIds(candidates));
+        Optional<ShipperScoringEngine.ShipperLoad> best = pickForDelivery(order, candidates, workloads);
+        Optional<User> chosenShipper = best.flatMap(load -> userRepository.findById(load.getUserId()));
 
-        Integer cityCode = null;
-        Integer wardCode = null;
-        if (order.getRecipientAddress() != null) {
-            cityCode = order.getRecipientAddress().getCityCode();
-            wardCode = order.getRecipientAddress().getWardCode();
-        } else if (order.getToOffice() != null) {
-            cityCode = order.getToOffice().getCityCode();
-            wardCode = order.getToOffice().getWardCode();
+        if (chosenShipper.isEmpty()) {
+            notifyAssignFailure(order);
+            return Optional.empty();
         }
 
-        List<ShipperAssignment> candidates = List.of();
-        if (cityCode != null && wardCode != null) {
-            candidates = shipperAssignmentRepo.findActiveByCityAndWard(cityCode, wardCode, now);
+        User chosen = chosenShipper.get();
+        assignForDelivery(order, chosen, workloads,
+                shippingRequestRepo.findDeliveryReminderByOrderId(order.getId()).orElse(null));
+        reportedFailures.remove(order.getId());
+        orderRepository.save(order);
+
+        return Optional.of(chosen);
+    }
+
+    /**
+     * Phân công trong một lượt các đơn vừa về bưu cục ({@code orderIds}, chỉ những đơn còn
+     * AT_DEST_OFFICE): khóa các đơn bằng một truy vấn, nạp tải / vị trí của mọi shipper ứng viên một
+     * lần rồi chấm điểm tuần tự, cộng dồn tải sau mỗi đơn để các shipper được chia đều.
+     */
+    @Transactional
+    public BulkResponse<String> autoAssignBacklog(Integer officeId, Collection<Integer> orderIds) {
+        List<BulkResponse.BulkResult<String>> results = new ArrayList<>();
+        if (!autoAssignProperties.isEnabled() || officeId == null) {
+            return new BulkResponse<>(true, "Tự động phân công đang tắt", 0, 0, results);
+        }
+        if (orderIds == null || orderIds.isEmpty()) {
+            return new BulkResponse<>(true, "Không có đơn chờ phân công", 0, 0, results);
         }
 
-        if (candidates == null || candidates.isEmpty()) {
-            if (cityCode != null) {
-                candidates = shipperAssignmentRepo.findActiveByCity(cityCode, now);
-            }
+        List<Order> orders = orderRepository.findAutoAssignBacklogForUpdate(officeId, orderIds);
+        if (orders.isEmpty()) {
+            return new BulkResponse<>(true, "Không có đơn chờ phân công", 0, 0, results);
         }
 
-        if (candidates == null || candidates.isEmpty()) {
-            notificationService.create(
-                    "Auto-assign failed",
-                    "Không tìm thấy shipper phù hợp cho đơn " + order.getTrackingNumber(),
-                    "assign_failure",
-                    null,
-                    null,
-                    "recipientaddress",
-                    order.getTrackingNumber()
-            );
-            return Optional.empty();
+        LocalDateTime now = LocalDateTime.now();
+        Map<Integer, List<ShipperCoverageIndex.Coverage>> candidatesByOrder = new HashMap<>();
+        Set<Integer> candidateIds = new HashSet<>();
+        for (Order order : orders) {
+            List<ShipperCoverageIndex.Coverage> candidates = deliveryCandidates(order, now);
+            candidatesByOrder.put(order.getId(), candidates);
+            candidateIds.addAll(ShipperCoverageIndex.shipperIds(candidates));
         }
 
-        // Chọn đơn giản: lấy shipper có ít phân công nhất (theo trường createdAt của ShipperAssignment)
-        final List<ShipperAssignment> finalCandidates = candidates;
-        ShipperAssignment chosenAssignment = finalCandidates.stream()
-            .min(Comparator.comparing(ShipperAssignment::getCreatedAt))
-            .orElseGet(() -> finalCandidates.isEmpty() ? null : finalCandidates.get(0));
-
-        User chosen = chosenAssignment.getShipper();
-
-        // Thử ánh xạ shipper được chọn (User) sang một Employee và đặt orders.employee_id
-        List<Employee> empList = employeeRepository.findByUserId(chosen.getId());
-        if (empList != null && !empList.isEmpty()) {
-            Employee selected = null;
-            if (order.getToOffice() != null) {
-                Integer toOfficeId = order.getToOffice().getId();
-                selected = empList.stream()
-                        .filter(e -> e.getOffice() != null && Objects.equals(e.getOffice().getId(), toOfficeId))
-                        .findFirst()
-                        .orElse(null);
+        ShipperWorkloads workloads = loadWorkloads(candidateIds);
+
+        Map<Order, Integer> chosenByOrder = new LinkedHashMap<>();
+        for (Order order : orders) {
+            Optional<ShipperScoringEngine.ShipperLoad> best = pickForDelivery(order,
+                    candidatesByOrder.get(order.getId()), workloads);
+            if (best.isEmpty()) {
+                notifyAssignFailure(order);
+                results.add(new BulkResponse.BulkResult<>(order.getTrackingNumber(), false,
+                        "Không tìm thấy shipper phù hợp", null));
+                continue;
             }
-            if (selected == null) selected = empList.get(0);
-            order.setEmployee(selected);
+            best.get().reserve(weightKg(order));
+            chosenByOrder.put(order, best.get().getUserId());
         }
 
-        // Tái sử dụng hoặc tạo mới một ShippingRequest loại DELIVERY_REMINDER
-        Optional<ShippingRequest> existing = shippingRequestRepo.findDeliveryReminderByOrderId(order.getId());
-        ShippingRequest sr = existing.orElseGet(() -> {
-            ShippingRequest s = new ShippingRequest();
-            s.setOrder(order);
-            s.setRequestType(com.logistics.enums.ShippingRequestType.DELIVERY_REMINDER);
-            s.setRequestContent("Auto-assign for delivery");
-            return s;
-        });
-
-        sr.setHandler(chosen);
-        sr.setStatus(ShippingRequestStatus.PROCESSING);
-        shippingRequestRepo.save(sr);
-
-        // Đánh dấu đơn là READY_FOR_PICKUP để nó xuất hiện trong danh sách 'đơn cần giao' của shipper
-        order.setStatus(OrderStatus.READY_FOR_PICKUP);
-        orderRepository.save(order);
-
-        notificationService.create(
-                "Bạn được phân công giao hàng",
-                "Bạn được phân công giao đơn " + order.getTrackingNumber(),
-                "assignment",
-                chosen.getId(),
-                null,
-                "recipientaddress",
-                order.getTrackingNumber()
-        );
+        Map<Integer, User> users = new HashMap<>();
+        for (User user : userRepository.findAllById(new HashSet<>(chosenByOrder.values()))) {
+            users.put(user.getId(), user);
+        }
+        Map<Integer, ShippingRequest> reminders = new HashMap<>();
+        if (!chosenByOrder.isEmpty()) {
+            for (ShippingRequest sr : shippingRequestRepo.findDeliveryRemindersByOrderIds(
+                    chosenByOrder.keySet().stream().map(Order::getId).toList())) {
+                reminders.putIfAbsent(sr.getOrder().getId(), sr);
+            }
+        }
 
-        // Thông báo cho chủ đơn nếu có
-        if (order.getUser() != null && order.getUser().getId() != null) {
-            notificationService.create(
-                "Đã phân công shipper",
-                "Đơn của bạn đã được phân công shipper: " + chosen.getFullName(),
-                "assignment",
-                order.getUser().getId(),
-                null,
-                "recipientaddress",
-                order.getTrackingNumber()
-            );
+        List<Order> assigned = new ArrayList<>();
+        for (Map.Entry<Order, Integer> entry : chosenByOrder.entrySet()) {
+            Order order = entry.getKey();
+            User chosen = users.get(entry.getValue());
+            if (chosen == null) {
+                results.add(new BulkResponse.BulkResult<>(order.getTrackingNumber(), false,
+                        "Không tìm thấy shipper phù hợp", null));
+                continue;
+            }
+            assignForDelivery(order, chosen, workloads, reminders.get(order.getId()));
+            reportedFailures.remove(order.getId());
+            assigned.add(order);
+            results.add(new BulkResponse.BulkResult<>(order.getTrackingNumber(), true,
+                    "Đã phân công shipper", chosen.getFullName()));
         }
+        orderRepository.saveAll(assigned);
 
-        return Optional.of(chosen);
+        int totalFailed = orders.size() - assigned.size();
+        return new BulkResponse<>(
+                totalFailed == 0,
+                "Đã phân công " + assigned.size() + "/" + orders.size() + " đơn",
+                assigned.size(), totalFailed, results);
     }
 
     @Transactional
@@ -171,41 +194,23 @@ public class AutoAssignService {
             wardCode = order.getFromOffice().getWardCode();
         }
 
-        List<ShipperAssignment> candidates = List.of();
-        if (cityCode != null && wardCode != null) {
-            candidates = shipperAssignmentRepo.findActiveByCityAndWard(cityCode, wardCode, LocalDateTime.now());
-        }
+        List<ShipperCoverageIndex.Coverage> candidates = findCandidates(cityCode, wardCode, LocalDateTime.now());
+        ShipperWorkloads workloads = loadWorkloads(ShipperCoverageIndex.shipperIds(candidates));
+        Optional<User> chosenShipper = scoringEngine.pick(workloads.loadsOf(candidates),
+                        order.getSenderLatitude(), order.getSenderLongitude(), weightKg(order))
+                .flatMap(load -> userRepository.findById(load.getUserId()));
 
-        if (candidates == null || candidates.isEmpty()) {
-            if (cityCode != null) {
-                candidates = shipperAssignmentRepo.findActiveByCity(cityCode, LocalDateTime.now());
-            }
-        }
-
-        if (candidates == null || candidates.isEmpty()) {
+        if (chosenShipper.isEmpty()) {
             // không có shipper gần đó -> để nguyên chưa gán để shipper trong bưu cục có thể nhận
             return Optional.empty();
         }
 
-        final List<ShipperAssignment> finalCandidates2 = candidates;
-        ShipperAssignment chosenAssignment = finalCandidates2.stream()
-            .min(Comparator.comparing(ShipperAssignment::getCreatedAt))
-            .orElseGet(() -> finalCandidates2.isEmpty() ? null : finalCandidates2.get(0));
+        User chosen = chosenShipper.get();
 
-        User chosen = chosenAssignment.getShipper();
-
-        List<Employee> empList = employeeRepository.findByUserId(chosen.getId());
-        if (empList != null && !empList.isEmpty()) {
-            Employee selected = null;
-            if (order.getFromOffice() != null) {
-                Integer fromOfficeId = order.getFromOffice().getId();
-                selected = empList.stream()
-                        .filter(e -> e.getOffice() != null && Objects.equals(e.getOffice().getId(), fromOfficeId))
-                        .findFirst()
-                        .orElse(null);
-            }
-            if (selected == null) selected = empList.get(0);
-            order.setEmployee(selected);
+        Integer fromOfficeId = order.getFromOffice() != null ? order.getFromOffice().getId() : null;
+        Integer employeeId = workloads.employeeFor(chosen.getId(), fromOfficeId);
+        if (employeeId != null) {
+            order.setEmployee(employeeRepository.getReferenceById(employeeId));
         }
 
         Optional<ShippingRequest> existing = shippingRequestRepo.findDeliveryReminderByOrderId(order.getId());
@@ -248,4 +253,198 @@ public class AutoAssignService {
 
         return Optional.of(chosen);
     }
+
+    private List<ShipperCoverageIndex.Coverage> deliveryCandidates(Order order, LocalDateTime now) {
+        Integer cityCode = null;
+        Integer wardCode = null;
+        if (order.getRecipientAddress() != null) {
+            cityCode = order.getRecipientAddress().getCityCode();
+            wardCode = order.getRecipientAddress().getWardCode();
+        } else if (order.getToOffice() != null) {
+            cityCode = order.getToOffice().getCityCode();
+            wardCode = order.getToOffice().getWardCode();
+        }
+        return findCandidates(cityCode, wardCode, now);
+    }
+
+    private Optional<ShipperScoringEngine.ShipperLoad> pickForDelivery(Order order,
+            List<ShipperCoverageIndex.Coverage> candidates, ShipperWorkloads workloads) {
+        Double latitude = order.getRecipientLatitude();
+        Double longitude = order.getRecipientLongitude();
+        if ((latitude == null || longitude == null) && order.getRecipientAddress() != null) {
+            latitude = order.getRecipientAddress().getLatitude();
+            longitude = order.getRecipientAddress().getLongitude();
+        }
+        return scoringEngine.pick(workloads.loadsOf(candidates), latitude, longitude, weightKg(order));
+    }
+
+    // Gán shipper cho đơn giao: employee theo bưu cục đích, ShippingRequest DELIVERY_REMINDER, READY_FOR_PICKUP
+    private void assignForDelivery(Order order, User chosen, ShipperWorkloads workloads, ShippingRequest existing) {
+        Integer toOfficeId = order.getToOffice() != null ? order.getToOffice().getId() : null;
+        Integer employeeId = workloads.employeeFor(chosen.getId(), toOfficeId);
+        if (employeeId != null) {
+            order.setEmployee(employeeRepository.getReferenceById(employeeId));
+        }
+
+        // Tái sử dụng hoặc tạo mới một ShippingRequest loại DELIVERY_REMINDER
+        ShippingRequest sr = existing;
+        if (sr == null) {
+            sr = new ShippingRequest();
+            sr.setOrder(order);
+            sr.setRequestType(com.logistics.enums.ShippingRequestType.DELIVERY_REMINDER);
+            sr.setRequestContent("Auto-assign for delivery");
+        }
+
+        sr.setHandler(chosen);
+        sr.setStatus(ShippingRequestStatus.PROCESSING);
+        shippingRequestRepo.save(sr);
+
+        // Đánh dấu đơn là READY_FOR_PICKUP để nó xuất hiện trong danh sách 'đơn cần giao' của shipper
+        order.setStatus(OrderStatus.READY_FOR_PICKUP);
+
+        notificationService.create(
+                "Bạn được phân công giao hàng",
+                "Bạn được phân công giao đơn " + order.getTrackingNumber(),
+                "assignment",
+                chosen.getId(),
+                null,
+                "recipientaddress",
+                order.getTrackingNumber()
+        );
+
+        // Thông báo cho chủ đơn nếu có
+        if (order.getUser() != null && order.getUser().getId() != null) {
+            notificationService.create(
+                "Đã phân công shipper",
+                "Đơn của bạn đã được phân công shipper: " + chosen.getFullName(),
+                "assignment",
+                order.getUser().getId(),
+                null,
+                "recipientaddress",
+                order.getTrackingNumber()
+            );
+        }
+    }
+
+    // Mỗi đơn chỉ được báo một lần (trong FAILURE_RENOTIFY_MS) dù được thử phân công lại nhiều lần
+    private void notifyAssignFailure(Order order) {
+        long now = System.currentTimeMillis();
+        Long reportedAt = reportedFailures.putIfAbsent(order.getId(), now);
+        if (reportedAt != null) {
+            if (now - reportedAt < FAILURE_RENOTIFY_MS || !reportedFailures.replace(order.getId(), reportedAt, now)) {
+                return;
+            }
+        }
+        notificationService.create(
+                "Auto-assign failed",
+                "Không tìm thấy shipper phù hợp cho đơn " + order.getTrackingNumber(),
+                "assign_failure",
+                null,
+                null,
+                "recipientaddress",
+                order.getTrackingNumber()
+        );
+    }
+
+    @Scheduled(fixedDelay = 60 * 60 * 1000, initialDelay = 60 * 60 * 1000)
+    public void evictReportedFailures() {
+        long now = System.currentTimeMillis();
+        reportedFailures.values().removeIf(reportedAt -> now - reportedAt >= FAILURE_RENOTIFY_MS);
+    }
+
+    // Ưu tiên phân công đúng phường, không có thì lấy phân công toàn tỉnh/thành
+    private List<ShipperCoverageIndex.Coverage> findCandidates(Integer cityCode, Integer wardCode, LocalDateTime now) {
+        List<ShipperCoverageIndex.Coverage> candidates = coverageIndex.wardCandidates(cityCode, wardCode, now);
+        if (candidates.isEmpty()) {
+            candidates = coverageIndex.cityWideCandidates(cityCode, now);
+        }
+        return candidates;
+    }
+
+    /**
+     * Nạp tải xe, vị trí gần nhất và nhân viên/bưu cục của các shipper ứng viên bằng 3 truy vấn gộp.
+     * Vị trí lấy từ lần tối ưu lại tuyến gần nhất, không có thì dùng tọa độ bưu cục của shipper.
+     */
+    private ShipperWorkloads loadWorkloads(Collection<Integer> userIds) {
+        ShipperWorkloads workloads = new ShipperWorkloads();
+        if (userIds.isEmpty()) {
+            return workloads;
+        }
+
+        for (Object[] row : shipperVehicleRepository.findWorkloadsByShipperUserIds(userIds)) {
+            Integer userId = (Integer) row[0];
+            if (workloads.loads.containsKey(userId)) {
+                continue;
+            }
+            BigDecimal currentWeight = (BigDecimal) row[3];
+            workloads.loads.put(userId, new ShipperScoringEngine.ShipperLoad(
+                    userId,
+                    row[1] != null ? (Integer) row[1] : 0,
+                    row[2] != null ? (Integer) row[2] : ShipperScoringEngine.DEFAULT_MAX_ORDERS,
+                    currentWeight != null ? currentWeight.doubleValue() : 0,
+                    row[4] != null ? ((Integer) row[4]).doubleValue() : ShipperScoringEngine.DEFAULT_MAX_WEIGHT_KG,
+                    row[5] == ShipperVehicleStatus.ACTIVE));
+        }
+        for (Integer userId : userIds) {
+            workloads.loads.computeIfAbsent(userId, ShipperScoringEngine.ShipperLoad::idle);
+        }
+
+        for (Object[] row : aiRoutePlanRouteRepository.findLastKnownPositions(userIds)) {
+            ShipperScoringEngine.ShipperLoad load = workloads.loads.get((Integer) row[0]);
+            if (load != null && load.getLatitude() == null) {
+                load.locate((Double) row[1], (Double) row[2]);
+            }
+        }
+
+        for (Object[] row : employeeRepository.findOfficesByUserIds(userIds)) {
+            Integer userId = (Integer) row[0];
+            workloads.employees.computeIfAbsent(userId, k -> new ArrayList<>())
+                    .add(new EmployeeOffice((Integer) row[1], (Integer) row[2]));
+
+            ShipperScoringEngine.ShipperLoad load = workloads.loads.get(userId);
+            if (load != null && load.getLatitude() == null && row[3] != null && row[4] != null) {
+                load.locate(((BigDecimal) row[3]).doubleValue(), ((BigDecimal) row[4]).doubleValue());
+            }
+        }
+        return workloads;
+    }
+
+    private static double weightKg(Order order) {
+        return order.getWeight() != null ? Math.max(order.getWeight().doubleValue(), 0) : 0;
+    }
+
+    private static class ShipperWorkloads {
+        private final Map<Integer, ShipperScoringEngine.ShipperLoad> loads = new HashMap<>();
+        private final Map<Integer, List<EmployeeOffice>> employees = new HashMap<>();
+
+        List<ShipperScoringEngine.ShipperLoad> loadsOf(List<ShipperCoverageIndex.Coverage> candidates) {
+            List<ShipperScoringEngine.ShipperLoad> result = new ArrayList<>();
+            for (Integer userId : ShipperCoverageIndex.shipperIds(candidates)) {
+                ShipperScoringEngine.ShipperLoad load = loads.get(userId);
+                if (load != null) {
+                    result.add(load);
+                }
+            }
+            return result;
+        }
+
+        // Ưu tiên employee thuộc đúng bưu cục của đơn, không có thì lấy employee đầu tiên
+        Integer employeeFor(Integer userId, Integer officeId) {
+            List<EmployeeOffice> list = employees.get(userId);
+            if (list == null || list.isEmpty()) {
+                return null;
+            }
+            if (officeId != null) {
+                for (EmployeeOffice employee : list) {
+                    if (Objects.equals(employee.officeId(), officeId)) {
+                        return employee.employeeId();
+                    }
+                }
+            }
+            return list.get(0).employeeId();
+        }
+    }
+
+    private record EmployeeOffice(Integer employeeId, Integer officeId) {
+    }
 }
@@ -0,0 +1,256 @@
+package com.logistics.service.assignment;
+
+import com.logistics.entity.ShipperAssignment;
+import com.logistics.repository.ShipperAssignmentRepository;
+import com.logistics.utils.TransactionUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Chỉ mục in-memory các phân công shipper theo (cityCode, wardCode) kèm khoảng hiệu lực.
+ * Dùng để tìm shipper ứng viên cho đơn mà không phải join lại shipper_assignments mỗi lần.
+ * Được cập nhật từng phần khi manager tạo / sửa / xóa phân công và nạp lại định kỳ từ DB
+ * để loại các phân công đã hết hạn.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ShipperCoverageIndex {
+
+    private static final Comparator<Coverage> OLDEST_FIRST = Comparator.comparing(Coverage::createdAt,
+            Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private final ShipperAssignmentRepository shipperAssignmentRepository;
+
+    private volatile Buckets buckets = new Buckets();
+
+    // Thay đổi nhận được trong lúc reload đang đọc DB (null khi không reload); được áp lại lên bản mới
+    // khi thay vào để put/remove sau lúc đọc không bị mất tới lần nạp sau
+    private List<Change> changesDuringReload;
+
+    private final Object reloadLock = new Object();
+
+    /**
+     * Phân công đang hiệu lực đúng (cityCode, wardCode), phân công tạo sớm nhất đứng đầu.
+     */
+    public List<Coverage> wardCandidates(Integer cityCode, Integer wardCode, LocalDateTime now) {
+        if (cityCode == null || wardCode == null) {
+            return List.of();
+        }
+        return active(buckets.byWard.get(wardKey(cityCode, wardCode)), now, false);
+    }
+
+    /**
+     * Phân công đang hiệu lực cho cả tỉnh/thành (không gắn phường cụ thể).
+     */
+    public List<Coverage> cityWideCandidates(Integer cityCode, LocalDateTime now) {
+        if (cityCode == null) {
+            return List.of();
+        }
+        return active(buckets.byCity.get(cityCode), now, true);
+    }
+
+    /**
+     * Mọi phân công đang hiệu lực trong tỉnh/thành, kể cả phân công theo phường.
+     */
+    public List<Coverage> cityCandidates(Integer cityCode, LocalDateTime now) {
+        if (cityCode == null) {
+            return List.of();
+        }
+        return active(buckets.byCity.get(cityCode), now, false);
+    }
+
+    /**
+     * Id shipper (không trùng, giữ thứ tự) từ danh sách phân công.
+     */
+    public static List<Integer> shipperIds(List<Coverage> coverages) {
+        LinkedHashSet<Integer> ids = new LinkedHashSet<>();
+        for (Coverage coverage : coverages) {
+            ids.add(coverage.shipperId());
+        }
+        return new ArrayList<>(ids);
+    }
+
+    public void putAfterCommit(ShipperAssignment assignment) {
+        Coverage coverage = Coverage.of(assignment);
+        TransactionUtils.runAfterCommit(() -> put(coverage));
+    }
+
+    public void removeAfterCommit(Long assignmentId) {
+        TransactionUtils.runAfterCommit(() -> remove(assignmentId));
+    }
+
+    public synchronized void put(Coverage coverage) {
+        Buckets current = buckets;
+        current.remove(coverage.assignmentId());
+        current.add(coverage);
+        if (changesDuringReload != null) {
+            changesDuringReload.add(new Change(coverage.assignmentId(), coverage));
+        }
+    }
+
+    public synchronized void remove(Long assignmentId) {
+        if (assignmentId != null) {
+            buckets.remove(assignmentId);
+            if (changesDuringReload != null) {
+                changesDuringReload.add(new Change(assignmentId, null));
+            }
+        }
+    }
+
+    public int size() {
+        return buckets.byId.size();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        reload();
+    }
+
+    // Nạp lại toàn bộ để bỏ phân công hết hạn và đồng bộ các thay đổi ngoài service quản lý
+    @Scheduled(fixedDelayString = "${logistics.shipper-coverage.refresh-interval-ms:600000}",
+            initialDelayString = "${logistics.shipper-coverage.refresh-interval-ms:600000}")
+    public void reload() {
+        synchronized (reloadLock) {
+            synchronized (this) {
+                changesDuringReload = new ArrayList<>();
+            }
+            try {
+                List<Object[]> rows = shipperAssignmentRepository.findCoverageRows(LocalDateTime.now());
+
+                Buckets fresh = new Buckets();
+                for (Object[] row : rows) {
+                    fresh.add(new Coverage(
+                            (Long) row[0],
+                            (Integer) row[1],
+                            (Integer) row[2],
+                            (Integer) row[3],
+                            (LocalDateTime) row[4],
+                            (LocalDateTime) row[5],
+                            (LocalDateTime) row[6]));
+                }
+
+                synchronized (this) {
+                    for (Change change : changesDuringReload) {
+                        fresh.remove(change.assignmentId());
+                        if (change.coverage() != null) {
+                            fresh.add(change.coverage());
+                        }
+                    }
+                    buckets = fresh;
+                }
+                log.info("[Shipper Coverage] Loaded {} assignments", fresh.byId.size());
+            } finally {
+                synchronized (this) {
+                    changesDuringReload = null;
+                }
+            }
+        }
+    }
+
+    private List<Coverage> active(List<Coverage> bucket, LocalDateTime now, boolean cityWideOnly) {
+        if (bucket == null || bucket.isEmpty()) {
+            return List.of();
+        }
+        List<Coverage> result = new ArrayList<>();
+        for (Coverage coverage : bucket) {
+            if (coverage.isActive(now) && (!cityWideOnly || coverage.isCityWide())) {
+                result.add(coverage);
+            }
+        }
+        return result;
+    }
+
+    private static long wardKey(Integer cityCode, Integer wardCode) {
+        return ((long) cityCode << 32) | (wardCode & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Một phân công trong chỉ mục.
+     */
+    public record Coverage(Long assignmentId, Integer shipperId, Integer cityCode, Integer wardCode,
+            LocalDateTime startAt, LocalDateTime endAt, LocalDateTime createdAt) {
+
+        static Coverage of(ShipperAssignment assignment) {
+            return new Coverage(
+                    assignment.getId(),
+                    assignment.getShipper().getId(),
+                    assignment.getCityCode(),
+                    assignment.getWardCode(),
+                    assignment.getStartAt(),
+                    assignment.getEndAt(),
+                    assignment.getCreatedAt() != null ? assignment.getCreatedAt() : LocalDateTime.now());
+        }
+
+        // startAt <= now < endAt, như truy vấn ứng viên cũ
+        public boolean isActive(LocalDateTime now) {
+            return !startAt.isAfter(now) && (endAt == null || endAt.isAfter(now));
+        }
+
+        public boolean isCityWide() {
+            return wardCode == null || wardCode == 0;
+        }
+    }
+
+    // coverage = null: phân công bị xóa
+    private record Change(Long assignmentId, Coverage coverage) {
+    }
+
+    // Danh sách trong bucket là copy-on-write, đã sắp theo createdAt để đọc không cần khóa
+    private static final class Buckets {
+        private final Map<Long, Coverage> byId = new ConcurrentHashMap<>();
+        private final Map<Long, List<Coverage>> byWard = new ConcurrentHashMap<>();
+        private final Map<Integer, List<Coverage>> byCity = new ConcurrentHashMap<>();
+
+        void add(Coverage coverage) {
+            if (coverage.assignmentId() == null || coverage.cityCode() == null) {
+                return;
+            }
+            byId.put(coverage.assignmentId(), coverage);
+            byCity.compute(coverage.cityCode(), (k, list) -> with(list, coverage));
+            if (!coverage.isCityWide()) {
+                byWard.compute(wardKey(coverage.cityCode(), coverage.wardCode()), (k, list) -> with(list, coverage));
+            }
+        }
+
+        void remove(Long assignmentId) {
+            Coverage old = byId.remove(assignmentId);
+            if (old == null) {
+                return;
+            }
+            byCity.computeIfPresent(old.cityCode(), (k, list) -> without(list, assignmentId));
+            if (!old.isCityWide()) {
+                byWard.computeIfPresent(wardKey(old.cityCode(), old.wardCode()), (k, list) -> without(list, assignmentId));
+            }
+        }
+
+        private static List<Coverage> with(List<Coverage> list, Coverage coverage) {
+            List<Coverage> copy = list != null ? new ArrayList<>(list) : new ArrayList<>();
+            copy.add(coverage);
+            copy.sort(OLDEST_FIRST);
+            return List.copyOf(copy);
+        }
+
+        private static List<Coverage> without(List<Coverage> list, Long assignmentId) {
+            List<Coverage> copy = new ArrayList<>(list.size());
+            for (Coverage coverage : list) {
+                if (!coverage.assignmentId().equals(assignmentId)) {
+                    copy.add(coverage);
+                }
+            }
+            return copy.isEmpty() ? null : List.copyOf(copy);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.logistics.service.assignment;
+
+import com.logistics.config.properties.AutoAssignProperties;
+import com.logistics.utils.GeoUtils;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Chấm điểm shipper ứng viên theo tải hiện tại, sức chứa còn lại của xe và khoảng cách
+ * Haversine tới điểm giao/lấy. Điểm càng thấp càng ưu tiên; hòa điểm thì giữ thứ tự ứng viên
+ * (phân công tạo sớm nhất trước) để kết quả ổn định.
+ */
+@Component
+@RequiredArgsConstructor
+public class ShipperScoringEngine {
+
+    // Mặc định giống xe tạo tự động trong OrderShipperService.getOrCreateVehicle
+    static final int DEFAULT_MAX_ORDERS = 20;
+    static final double DEFAULT_MAX_WEIGHT_KG = 35;
+
+    // Điểm khoảng cách trung tính khi chưa biết vị trí shipper hoặc đơn
+    private static final double UNKNOWN_DISTANCE_SCORE = 0.5;
+
+    private final AutoAssignProperties properties;
+
+    /**
+     * Chọn shipper có điểm thấp nhất. Ưu tiên shipper còn đủ sức chứa; nếu không ai còn chỗ
+     * thì vẫn chọn người ít tải nhất để đơn không bị bỏ trống.
+     */
+    public Optional<ShipperLoad> pick(List<ShipperLoad> candidates, Double latitude, Double longitude,
+            double weightKg) {
+        ShipperLoad bestFeasible = null;
+        double bestFeasibleScore = Double.MAX_VALUE;
+        ShipperLoad bestAny = null;
+        double bestAnyScore = Double.MAX_VALUE;
+
+        for (ShipperLoad candidate : candidates) {
+            double score = score(candidate, latitude, longitude, weightKg);
+            if (score < bestAnyScore) {
+                bestAny = candidate;
+                bestAnyScore = score;
+            }
+            if (candidate.canTake(weightKg) && score < bestFeasibleScore) {
+                bestFeasible = candidate;
+                bestFeasibleScore = score;
+            }
+        }
+        return Optional.ofNullable(bestFeasible != null ? bestFeasible : bestAny);
+    }
+
+    public double score(ShipperLoad load, Double latitude, Double longitude, double weightKg) {
+        double loadRatio = ratio(load.getCurrentOrders() + 1, load.getMaxOrders());
+        double capacityRatio = ratio(load.getCurrentWeightKg() + weightKg, load.getMaxWeightKg());
+
+        double distanceScore = UNKNOWN_DISTANCE_SCORE;
+        if (latitude != null && longitude != null && load.getLatitude() != null && load.getLongitude() != null) {
+            double distanceKm = GeoUtils.haversineKm(load.getLatitude(), load.getLongitude(), latitude, longitude);
+            distanceScore = Math.min(distanceKm / Math.max(properties.getDistanceCapKm(), 0.1), 1.0);
+        }
+
+        return properties.getLoadWeight() * loadRatio
+                + properties.getCapacityWeight() * capacityRatio
+                + properties.getDistanceWeight() * distanceScore;
+    }
+
+    private static double ratio(double value, double max) {
+        if (max <= 0) {
+            return 1.0;
+        }
+        return Math.min(value / max, 1.5);
+    }
+
+    /**
+     * Tải của một shipper trong một lượt phân công. Được cộng dồn ngay khi nhận đơn để các đơn
+     * sau trong cùng lô thấy tải mới, tránh dồn hết cho một người.
+     */
+    @Getter
+    public static class ShipperLoad {
+        private final Integer userId;
+        private int currentOrders;
+        private final int maxOrders;
+        private double currentWeightKg;
+        private final double maxWeightKg;
+        private final boolean vehicleActive;
+        private Double latitude;
+        private Double longitude;
+
+        public ShipperLoad(Integer userId, int currentOrders, int maxOrders, double currentWeightKg,
+                double maxWeightKg, boolean vehicleActive) {
+            this.userId = userId;
+            this.currentOrders = currentOrders;
+            this.maxOrders = maxOrders;
+            this.currentWeightKg = currentWeightKg;
+            this.maxWeightKg = maxWeightKg;
+            this.vehicleActive = vehicleActive;
+        }
+
+        public static ShipperLoad idle(Integer userId) {
+            return new ShipperLoad(userId, 0, DEFAULT_MAX_ORDERS, 0, DEFAULT_MAX_WEIGHT_KG, true);
+        }
+
+        public void locate(Double latitude, Double longitude) {
+            this.latitude = latitude;
+            this.longitude = longitude;
+        }
+
+        public boolean canTake(double weightKg) {
+            return vehicleActive
+                    && currentOrders + 1 <= maxOrders
+                    && currentWeightKg + weightKg <= maxWeightKg;
+        }
+
+        public void reserve(double weightKg) {
+            currentOrders += 1;
+            currentWeightKg += weightKg;
+        }
+    }
+}
@@ -14,6 +14,7 @@ import com.logistics.repository.UserRepository;
 import com.logistics.request.chat.SendInternalChatMessageRequest;
 import com.logistics.utils.SecurityUtils;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -108,14 +109,17 @@ public class InternalChatService {
         throw new AppException(InternalChatErrorCode.INTERNAL_CHAT_MANAGER_NOT_FOUND);
     }
 
-    public List<InternalChatRoomDto> getOfficeRooms() {
+    /**
+     * page / limit chỉ áp dụng cho admin (xem toàn hệ thống); manager luôn nhận đủ phòng của bưu cục.
+     */
+    public List<InternalChatRoomDto> getOfficeRooms(int page, int limit) {
         Integer accountId = SecurityUtils.getAuthenticatedAccountId();
         String roleName = getCurrentRoleName();
 
         List<InternalChatRoomDto> rooms;
         if (ROLE_ADMIN.equalsIgnoreCase(roleName)) {
-            // Admin: lấy tất cả phòng chat
-            rooms = roomRepository.findAll().stream()
+            // Admin: các phòng có tin nhắn gần nhất
+            rooms = roomRepository.findRecentRooms(PageRequest.of(Math.max(0, page - 1), limit)).stream()
                     .map(this::toRoomDto)
                     .collect(Collectors.toList());
         } else if (ROLE_MANAGER.equalsIgnoreCase(roleName)) {
@@ -64,12 +64,10 @@ public class SupportAssignService {
 
     private List<SupportAssignOfficeOption> getActiveOffices() {
         try {
-            return officeRepository.findAll().stream()
-                    .filter(office -> office.getName() != null)
-                    .sorted((a, b) -> a.getName().compareToIgnoreCase(Objects.toString(b.getName(), "")))
-                    .map(office -> SupportAssignOfficeOption.builder()
-                            .id(office.getId())
-                            .name(office.getName())
+            return officeRepository.findIdAndNameOrderByName().stream()
+                    .map(row -> SupportAssignOfficeOption.builder()
+                            .id((Integer) row[0])
+                            .name((String) row[1])
                             .build())
                     .collect(Collectors.toList());
         } catch (Exception e) {
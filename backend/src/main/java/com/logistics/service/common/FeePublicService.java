@@ -1,185 +1,143 @@
 package com.logistics.service.common;
 
-import com.logistics.entity.FeeConfiguration;
-import com.logistics.entity.Region;
-import com.logistics.entity.ShippingRate;
-import com.logistics.enums.CodFeeType;
-import com.logistics.enums.FeeType;
-import com.logistics.enums.RegionName;
+import com.logistics.dto.common.FeeQuoteDto;
 import com.logistics.enums.ShippingRateRegionType;
-import com.logistics.repository.FeeConfigurationRepository;
-import com.logistics.repository.RegionRepository;
-import com.logistics.repository.ShippingRateRepository;
+import com.logistics.exception.AppException;
+import com.logistics.exception.enums.CommonErrorCode;
+import com.logistics.exception.enums.FeeErrorCode;
+import com.logistics.request.common.fee.FeeQuoteBatchRequest;
+import com.logistics.request.common.fee.FeeQuoteItemRequest;
+import com.logistics.response.BulkResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 public class FeePublicService {
 
-    private final RegionRepository regionRepository;
-    private final ShippingRateRepository shippingRateRepository;
-    private final FeeConfigurationRepository feeConfigRepository;
+    private static final int MAX_QUOTE_ITEMS = 5000;
+
+    private final TariffCatalog tariffCatalog;
 
     public Integer calculateShippingFee(BigDecimal weight, Integer serviceTypeId, Integer senderCodeCity,
             Integer recipientCodeCity) {
-        Optional<Region> senderOpt = regionRepository.findByCodeCity(senderCodeCity);
-        Optional<Region> recipientOpt = regionRepository.findByCodeCity(recipientCodeCity);
-
-        if (senderOpt.isEmpty() || recipientOpt.isEmpty()) {
-            throw new IllegalArgumentException("Không tìm thấy thông tin vùng của người gửi hoặc người nhận");
-        }
-
-        Region senderRegion = senderOpt.get();
-        Region recipientRegion = recipientOpt.get();
-
-        ShippingRateRegionType regionType = determineRegionType(senderRegion, recipientRegion, senderCodeCity,
-                recipientCodeCity);
-        List<ShippingRate> rates = shippingRateRepository
-                .findByServiceType_IdAndRegionTypeOrderByWeightFromAsc(serviceTypeId, regionType);
-
-        if (rates.isEmpty()) {
-            throw new IllegalArgumentException("Không tìm thấy bảng giá cho loại dịch vụ này");
-        }
-
-        ShippingRate selectedRate = null;
-        for (ShippingRate rate : rates) {
-            if (rate.getWeightTo() != null) {
-                if (weight.compareTo(rate.getWeightFrom()) > 0 && weight.compareTo(rate.getWeightTo()) <= 0) {
-                    selectedRate = rate;
-                    break;
-                }
-            } else {
-                if (weight.compareTo(rate.getWeightFrom()) > 0) {
-                    selectedRate = rate;
-                    break;
-                }
-            }
-        }
-
-        if (selectedRate == null) {
-            throw new IllegalArgumentException("Không tìm thấy mức giá phù hợp cho cân nặng");
-        }
-
-        BigDecimal shippingFee = selectedRate.getPrice();
-
-        if (selectedRate.getWeightTo() == null && selectedRate.getExtraPrice() != null) {
-            BigDecimal extraWeight = weight.subtract(selectedRate.getWeightFrom());
-            BigDecimal unit = selectedRate.getUnit() != null ? selectedRate.getUnit() : new BigDecimal("0.5");
-            BigDecimal extraSteps = extraWeight.divide(unit, 0, RoundingMode.UP);
-            shippingFee = shippingFee.add(extraSteps.multiply(selectedRate.getExtraPrice()));
-        }
-
-        return shippingFee.setScale(0, RoundingMode.HALF_UP).intValue();
+        return tariffCatalog.current().shippingFee(weight, serviceTypeId, senderCodeCity, recipientCodeCity);
     }
 
     public Integer calculateTotalFee(BigDecimal weight, Integer serviceTypeId,
             Integer senderCodeCity, Integer recipientCodeCity,
             Integer orderValueInt, Integer codAmountInt) {
+        return quote(weight, serviceTypeId, senderCodeCity, recipientCodeCity, orderValueInt, codAmountInt)
+                .getTotalFee();
+    }
 
-        BigDecimal codAmount = codAmountInt != null ? BigDecimal.valueOf(codAmountInt) : BigDecimal.ZERO;
-        BigDecimal orderValue = orderValueInt != null ? BigDecimal.valueOf(orderValueInt) : BigDecimal.ZERO;
-
-        Integer shippingFeeInt = calculateShippingFee(weight, serviceTypeId, senderCodeCity, recipientCodeCity);
-        BigDecimal shippingFee = BigDecimal.valueOf(shippingFeeInt);
-
-        List<FeeConfiguration> fees = feeConfigRepository.findActiveByServiceTypeIdIncludingNull(serviceTypeId);
-
-        BigDecimal codFee = BigDecimal.ZERO;
-        BigDecimal insuranceFee = BigDecimal.ZERO;
-        BigDecimal vatFee = BigDecimal.ZERO;
-
-        for (FeeConfiguration f : fees) {
-            switch (f.getFeeType()) {
-                case COD:
-                    if (codAmount.compareTo(BigDecimal.ZERO) > 0) {
-                        codFee = calculateFee(f, codAmount);
-                    }
-                    break;
-                case INSURANCE:
-                    if (orderValue.compareTo(BigDecimal.ZERO) > 0) {
-                        insuranceFee = calculateFee(f, orderValue);
-                    }
-                    break;
-                case VAT:
-                    break;
-                case PACKAGING:
-                    break;
-            }
-        }
-
-        BigDecimal subtotal = shippingFee.add(codFee).add(insuranceFee);
-        if (subtotal.compareTo(BigDecimal.ZERO) < 0)
-            subtotal = BigDecimal.ZERO;
-
-        Optional<FeeConfiguration> vatConfigOpt = fees.stream()
-                .filter(f -> f.getFeeType() == FeeType.VAT)
-                .findFirst();
-        if (vatConfigOpt.isPresent()) {
-            vatFee = calculateFee(vatConfigOpt.get(), subtotal);
-        }
-
-        BigDecimal totalFee = subtotal.add(vatFee);
+    public Integer calculateTotalFeeManager(BigDecimal weight, Integer serviceTypeId,
+            Integer senderCodeCity, Integer recipientCodeCity,
+            Integer orderValueInt, Integer codAmountInt) {
+        return quoteManager(weight, serviceTypeId, senderCodeCity, recipientCodeCity, orderValueInt, codAmountInt)
+                .getTotalFee();
+    }
 
-        return totalFee.setScale(0, RoundingMode.HALF_UP).intValue();
+    /**
+     * Tính cước vận chuyển và tổng phí trong một lần tra bảng cước (không tính phí đóng gói).
+     */
+    public FeeQuoteDto quote(BigDecimal weight, Integer serviceTypeId,
+            Integer senderCodeCity, Integer recipientCodeCity,
+            Integer orderValueInt, Integer codAmountInt) {
+        return quote(tariffCatalog.current(), weight, serviceTypeId, senderCodeCity, recipientCodeCity,
+                orderValueInt, codAmountInt, false);
     }
 
-    public Integer calculateTotalFeeManager(BigDecimal weight, Integer serviceTypeId,
+    /**
+     * Giống {@link #quote} nhưng cộng thêm phí đóng gói cho đơn tạo tại quầy.
+     */
+    public FeeQuoteDto quoteManager(BigDecimal weight, Integer serviceTypeId,
             Integer senderCodeCity, Integer recipientCodeCity,
             Integer orderValueInt, Integer codAmountInt) {
+        return quote(tariffCatalog.current(), weight, serviceTypeId, senderCodeCity, recipientCodeCity,
+                orderValueInt, codAmountInt, true);
+    }
 
-        BigDecimal codAmount = codAmountInt != null ? BigDecimal.valueOf(codAmountInt) : BigDecimal.ZERO;
-        BigDecimal orderValue = orderValueInt != null ? BigDecimal.valueOf(orderValueInt) : BigDecimal.ZERO;
+    /**
+     * Báo giá hàng loạt: các dòng được gom theo (serviceType, regionType) để mỗi nhóm chỉ tra
+     * bảng giá và cấu hình phí một lần. Dòng lỗi không làm hỏng cả lô, kết quả giữ đúng thứ tự gửi lên.
+     */
+    public BulkResponse<FeeQuoteDto> quoteBatch(FeeQuoteBatchRequest request) {
+        List<FeeQuoteItemRequest> items = request != null ? request.getItems() : null;
+        if (items == null || items.isEmpty()) {
+            throw new AppException(FeeErrorCode.FEE_QUOTE_ITEMS_REQUIRED);
+        }
+        if (items.size() > MAX_QUOTE_ITEMS) {
+            throw new AppException(FeeErrorCode.FEE_QUOTE_ITEMS_TOO_MANY, MAX_QUOTE_ITEMS);
+        }
 
-        Integer shippingFeeInt = calculateShippingFee(weight, serviceTypeId, senderCodeCity, recipientCodeCity);
-        BigDecimal shippingFee = BigDecimal.valueOf(shippingFeeInt);
+        boolean includePackaging = Boolean.TRUE.equals(request.getIncludePackaging());
+        TariffSnapshot tariff = tariffCatalog.current();
+
+        @SuppressWarnings("unchecked")
+        BulkResponse.BulkResult<FeeQuoteDto>[] results = new BulkResponse.BulkResult[items.size()];
+        Map<QuoteGroupKey, List<Integer>> groups = new LinkedHashMap<>();
 
-        List<FeeConfiguration> fees = feeConfigRepository.findActiveByServiceTypeIdIncludingNull(serviceTypeId);
-
-        BigDecimal codFee = BigDecimal.ZERO;
-        BigDecimal insuranceFee = BigDecimal.ZERO;
-        BigDecimal packaging = BigDecimal.ZERO;
-        BigDecimal vatFee = BigDecimal.ZERO;
-
-        for (FeeConfiguration f : fees) {
-            switch (f.getFeeType()) {
-                case COD:
-                    if (codAmount.compareTo(BigDecimal.ZERO) > 0) {
-                        codFee = calculateFee(f, codAmount);
-                    }
-                    break;
-                case INSURANCE:
-                    if (orderValue.compareTo(BigDecimal.ZERO) > 0) {
-                        insuranceFee = calculateFee(f, orderValue);
-                    }
-                    break;
-                case VAT:
-                    break;
-                case PACKAGING:
-                    packaging = f.getFeeValue() != null ? f.getFeeValue() : BigDecimal.ZERO;
-                    break;
+        for (int i = 0; i < items.size(); i++) {
+            FeeQuoteItemRequest item = items.get(i);
+            if (item == null || item.getWeight() == null || item.getServiceTypeId() == null
+                    || item.getSenderCodeCity() == null || item.getRecipientCodeCity() == null) {
+                results[i] = quoteFailure(item, i, CommonErrorCode.MISSING_REQUIRED_FIELD.getMessage());
+                continue;
+            }
+            try {
+                ShippingRateRegionType regionType = tariff.resolveRegionType(item.getSenderCodeCity(),
+                        item.getRecipientCodeCity());
+                groups.computeIfAbsent(new QuoteGroupKey(item.getServiceTypeId(), regionType),
+                        k -> new ArrayList<>()).add(i);
+            } catch (IllegalArgumentException e) {
+                results[i] = quoteFailure(item, i, e.getMessage());
             }
         }
 
-        BigDecimal subtotal = shippingFee.add(codFee).add(insuranceFee).add(packaging);
-        if (subtotal.compareTo(BigDecimal.ZERO) < 0)
-            subtotal = BigDecimal.ZERO;
-
-        Optional<FeeConfiguration> vatConfigOpt = fees.stream()
-                .filter(f -> f.getFeeType() == FeeType.VAT)
-                .findFirst();
-        if (vatConfigOpt.isPresent()) {
-            vatFee = calculateFee(vatConfigOpt.get(), subtotal);
+        for (Map.Entry<QuoteGroupKey, List<Integer>> group : groups.entrySet()) {
+            QuoteGroupKey key = group.getKey();
+            TariffSnapshot.RateTable rateTable;
+            try {
+                rateTable = tariff.rateTable(key.serviceTypeId(), key.regionType());
+            } catch (IllegalArgumentException e) {
+                for (Integer index : group.getValue()) {
+                    results[index] = quoteFailure(items.get(index), index, e.getMessage());
+                }
+                continue;
+            }
+            TariffSnapshot.FeeRules fees = tariff.feeRules(key.serviceTypeId());
+
+            for (Integer index : group.getValue()) {
+                FeeQuoteItemRequest item = items.get(index);
+                try {
+                    FeeQuoteDto quote = quote(rateTable, fees, item.getWeight(), item.getOrderValue(),
+                            item.getCod(), includePackaging);
+                    results[index] = new BulkResponse.BulkResult<>(quoteName(item, index), true,
+                            "Báo giá thành công", quote);
+                } catch (IllegalArgumentException | ArithmeticException e) {
+                    results[index] = quoteFailure(item, index, e.getMessage());
+                }
+            }
         }
 
-        BigDecimal totalFee = subtotal.add(vatFee);
+        int totalSuccess = (int) Arrays.stream(results).filter(BulkResponse.BulkResult::isSuccess).count();
+        BulkResponse<FeeQuoteDto> response = new BulkResponse<>();
+        response.setSuccess(true);
+        response.setMessage("Báo giá hoàn tất: " + totalSuccess + " thành công, " + (results.length - totalSuccess) + " lỗi");
+        response.setTotalImported(totalSuccess);
+        response.setTotalFailed(results.length - totalSuccess);
+        response.setResults(Arrays.asList(results));
 
-        return totalFee.setScale(0, RoundingMode.HALF_UP).intValue();
+        return response;
     }
 
     public BigDecimal calculateWeight(
@@ -193,13 +151,7 @@ public class FeePublicService {
         if (length == null) length = BigDecimal.ZERO;
         if (width == null) width = BigDecimal.ZERO;
 
-        BigDecimal volumetricDivisor = feeConfigRepository
-                .findActiveByServiceTypeIdIncludingNull(null)
-                .stream()
-                .filter(f -> f.getFeeType() == FeeType.VOLUMETRIC_DIVISOR)
-                .map(FeeConfiguration::getFeeValue)
-                .findFirst()
-                .orElse(BigDecimal.valueOf(5000));
+        BigDecimal volumetricDivisor = tariffCatalog.current().volumetricDivisor();
 
         BigDecimal volumetricWeight = length
                 .multiply(width)
@@ -209,37 +161,52 @@ public class FeePublicService {
         return originalWeight.max(volumetricWeight);
     }
 
-    private BigDecimal calculateFee(FeeConfiguration f, BigDecimal base) {
-        BigDecimal result;
-        if (f.getCalculationType() == CodFeeType.FIXED) {
-            result = f.getFeeValue();
-        } else {
-            result = base.multiply(f.getFeeValue()).divide(BigDecimal.valueOf(100), 10, RoundingMode.HALF_UP);
-        }
-        if (f.getMinOrderFee() != null)
-            result = result.max(f.getMinOrderFee());
-        if (f.getMaxOrderFee() != null)
-            result = result.min(f.getMaxOrderFee());
-        return result.setScale(0, RoundingMode.HALF_UP);
+    private FeeQuoteDto quote(TariffSnapshot tariff, BigDecimal weight, Integer serviceTypeId,
+            Integer senderCodeCity, Integer recipientCodeCity,
+            Integer orderValueInt, Integer codAmountInt, boolean includePackaging) {
+        ShippingRateRegionType regionType = tariff.resolveRegionType(senderCodeCity, recipientCodeCity);
+        return quote(tariff.rateTable(serviceTypeId, regionType), tariff.feeRules(serviceTypeId),
+                weight, orderValueInt, codAmountInt, includePackaging);
     }
 
-    private ShippingRateRegionType determineRegionType(Region sender, Region recipient, Integer senderCode,
-            Integer recipientCode) {
-        if (senderCode.equals(recipientCode)) {
-            return ShippingRateRegionType.INTRA_CITY;
-        } else if (sender.getRegionName() == recipient.getRegionName()) {
-            return ShippingRateRegionType.INTRA_REGION;
-        } else if (isNearRegion(sender.getRegionName(), recipient.getRegionName())) {
-            return ShippingRateRegionType.NEAR_REGION;
-        } else {
-            return ShippingRateRegionType.INTER_REGION;
-        }
+    private FeeQuoteDto quote(TariffSnapshot.RateTable rateTable, TariffSnapshot.FeeRules fees,
+            BigDecimal weight, Integer orderValueInt, Integer codAmountInt, boolean includePackaging) {
+
+        BigDecimal codAmount = codAmountInt != null ? BigDecimal.valueOf(codAmountInt) : BigDecimal.ZERO;
+        BigDecimal orderValue = orderValueInt != null ? BigDecimal.valueOf(orderValueInt) : BigDecimal.ZERO;
+
+        int shippingFeeInt = rateTable.price(weight);
+        BigDecimal shippingFee = BigDecimal.valueOf(shippingFeeInt);
+
+        BigDecimal codFee = fees.codFee(codAmount);
+        BigDecimal insuranceFee = fees.insuranceFee(orderValue);
+        BigDecimal packaging = includePackaging ? fees.packagingFee() : BigDecimal.ZERO;
+
+        BigDecimal subtotal = shippingFee.add(codFee).add(insuranceFee).add(packaging);
+        if (subtotal.compareTo(BigDecimal.ZERO) < 0)
+            subtotal = BigDecimal.ZERO;
+
+        BigDecimal vatFee = fees.vatFee(subtotal);
+
+        BigDecimal totalFee = subtotal.add(vatFee);
+
+        return new FeeQuoteDto(
+                shippingFeeInt,
+                codFee.intValue(),
+                insuranceFee.intValue(),
+                packaging.setScale(0, RoundingMode.HALF_UP).intValue(),
+                vatFee.intValue(),
+                totalFee.setScale(0, RoundingMode.HALF_UP).intValue());
+    }
+
+    private BulkResponse.BulkResult<FeeQuoteDto> quoteFailure(FeeQuoteItemRequest item, int index, String message) {
+        return new BulkResponse.BulkResult<>(quoteName(item, index), false, message, null);
+    }
+
+    private String quoteName(FeeQuoteItemRequest item, int index) {
+        return item != null && item.getRef() != null ? item.getRef() : String.valueOf(index);
     }
 
-    private boolean isNearRegion(RegionName sender, RegionName recipient) {
-        return (sender == RegionName.NORTH && recipient == RegionName.CENTRAL)
-                || (sender == RegionName.CENTRAL && recipient == RegionName.NORTH)
-                || (sender == RegionName.CENTRAL && recipient == RegionName.SOUTH)
-                || (sender == RegionName.SOUTH && recipient == RegionName.CENTRAL);
+    private record QuoteGroupKey(Integer serviceTypeId, ShippingRateRegionType regionType) {
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,249 @@
+package com.logistics.service.common;
+
+import com.logistics.config.properties.NotificationProperties;
+import com.logistics.dto.NotificationDto;
+import com.logistics.entity.User;
+import com.logistics.monitoring.StatsSource;
+import com.logistics.repository.UserRepository;
+import com.logistics.utils.TransactionUtils;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Gửi một mẫu thông báo tới nhiều người nhận: ghi toàn bộ dòng notifications bằng một JDBC batch
+ * (trong transaction hiện tại), sau khi commit mới đẩy STOMP qua pool riêng có giới hạn.
+ * Khi hàng đợi đẩy đầy, luồng gọi tự đẩy (backpressure) thay vì bỏ thông báo.
+ */
+@Slf4j
+@Component
+public class NotificationFanout implements StatsSource {
+
+    private static final String INSERT_SQL = """
+            insert into notifications
+                (user_id, creator_id, title, message, type, is_read, related_id, related_type, created_at, updated_at)
+            values (?, ?, ?, ?, ?, false, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final UserRepository userRepository;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final NotificationProperties properties;
+    private final ThreadPoolExecutor pushExecutor;
+
+    private final AtomicLong rowsInserted = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicLong insertNanos = new AtomicLong();
+    private final AtomicLong pushed = new AtomicLong();
+    private final AtomicLong pushFailed = new AtomicLong();
+    private final AtomicLong callerRuns = new AtomicLong();
+
+    public NotificationFanout(JdbcTemplate jdbcTemplate, UserRepository userRepository,
+            SimpMessagingTemplate messagingTemplate, NotificationProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.userRepository = userRepository;
+        this.messagingTemplate = messagingTemplate;
+        this.properties = properties;
+
+        AtomicInteger counter = new AtomicInteger();
+        int threads = Math.max(1, properties.getPushThreads());
+        this.pushExecutor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, properties.getPushQueueCapacity())),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "notification-push-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                (runnable, executor) -> {
+                    callerRuns.incrementAndGet();
+                    if (!executor.isShutdown()) {
+                        runnable.run();
+                    }
+                });
+    }
+
+    /**
+     * Mẫu nội dung chung cho mọi người nhận của một lần gửi.
+     */
+    public record Template(String title, String message, String type, Integer creatorId,
+            String relatedType, String relatedId) {
+    }
+
+    /**
+     * Ghi thông báo cho tất cả người nhận (bỏ trùng, bỏ null) và lên lịch đẩy realtime sau commit.
+     *
+     * @return số thông báo đã ghi
+     */
+    public int publish(Template template, Collection<Integer> recipientIds) {
+        Objects.requireNonNull(template.title(), "title");
+        Objects.requireNonNull(template.message(), "message");
+        Objects.requireNonNull(template.type(), "type");
+
+        LinkedHashSet<Integer> recipients = new LinkedHashSet<>();
+        for (Integer id : recipientIds) {
+            if (id != null) {
+                recipients.add(id);
+            }
+        }
+        if (recipients.isEmpty()) {
+            return 0;
+        }
+
+        // Người tạo chỉ tra một lần cho cả lượt gửi
+        Integer creatorId = null;
+        String creatorName = null;
+        if (template.creatorId() != null) {
+            User creator = userRepository.findById(template.creatorId()).orElse(null);
+            if (creator != null) {
+                creatorId = creator.getId();
+                creatorName = creator.getFullName();
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Integer> recipientList = new ArrayList<>(recipients);
+        List<Integer> ids = insert(template, creatorId, recipientList, now);
+
+        List<Map.Entry<Integer, NotificationDto>> messages = new ArrayList<>(recipientList.size());
+        for (int i = 0; i < recipientList.size(); i++) {
+            NotificationDto dto = new NotificationDto(
+                    i < ids.size() ? ids.get(i) : null,
+                    template.title(),
+                    template.message(),
+                    template.type(),
+                    false,
+                    template.relatedId(),
+                    template.relatedType(),
+                    now,
+                    now,
+                    creatorName);
+            messages.add(Map.entry(recipientList.get(i), dto));
+        }
+
+        TransactionUtils.runAfterCommit(() -> schedulePush(messages));
+        return recipientList.size();
+    }
+
+    /**
+     * Chỉ đẩy realtime, không ghi bảng notifications (vd: tiến độ xuất file).
+     */
+    public void pushTransient(Integer userId, NotificationDto dto) {
+        if (userId != null) {
+            pushExecutor.execute(() -> push(userId, dto));
+        }
+    }
+
+    private List<Integer> insert(Template template, Integer creatorId, List<Integer> recipients, LocalDateTime now) {
+        long start = System.nanoTime();
+        int batchSize = Math.max(1, properties.getBatchSize());
+        Timestamp timestamp = Timestamp.valueOf(now);
+
+        List<Integer> ids = jdbcTemplate.execute((ConnectionCallback<List<Integer>>) connection -> {
+            List<Integer> generated = new ArrayList<>(recipients.size());
+            try (PreparedStatement ps = connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+                for (int from = 0; from < recipients.size(); from += batchSize) {
+                    int to = Math.min(from + batchSize, recipients.size());
+                    for (int i = from; i < to; i++) {
+                        ps.setInt(1, recipients.get(i));
+                        if (creatorId != null) {
+                            ps.setInt(2, creatorId);
+                        } else {
+                            ps.setNull(2, Types.INTEGER);
+                        }
+                        ps.setString(3, template.title());
+                        ps.setString(4, template.message());
+                        ps.setString(5, template.type());
+                        ps.setString(6, template.relatedId());
+                        ps.setString(7, template.relatedType());
+                        ps.setTimestamp(8, timestamp);
+                        ps.setTimestamp(9, timestamp);
+                        ps.addBatch();
+                    }
+                    ps.executeBatch();
+                    try (ResultSet keys = ps.getGeneratedKeys()) {
+                        while (keys.next()) {
+                            generated.add(keys.getInt(1));
+                        }
+                    }
+                    batches.incrementAndGet();
+                }
+            }
+            return generated;
+        });
+
+        rowsInserted.addAndGet(recipients.size());
+        insertNanos.addAndGet(System.nanoTime() - start);
+        return ids != null ? ids : List.of();
+    }
+
+    private void schedulePush(List<Map.Entry<Integer, NotificationDto>> messages) {
+        for (Map.Entry<Integer, NotificationDto> message : messages) {
+            pushExecutor.execute(() -> push(message.getKey(), message.getValue()));
+        }
+    }
+
+    private void push(Integer userId, NotificationDto dto) {
+        try {
+            messagingTemplate.convertAndSendToUser(userId.toString(), "/queue/notifications", dto);
+            pushed.incrementAndGet();
+        } catch (Exception e) {
+            pushFailed.incrementAndGet();
+            log.warn("[Notification] Push to user #{} failed: {}", userId, e.getMessage());
+        }
+    }
+
+    @Override
+    public String statsName() {
+        return "Notification";
+    }
+
+    /**
+     * Số liệu vận hành của pipeline (đếm tích lũy từ lúc khởi động).
+     */
+    @Override
+    public Map<String, Object> stats() {
+        long batchCount = batches.get();
+        return Map.of(
+                "rowsInserted", rowsInserted.get(),
+                "batches", batchCount,
+                "avgBatchMs", batchCount == 0 ? 0.0 : insertNanos.get() / 1_000_000.0 / batchCount,
+                "pushed", pushed.get(),
+                "pushFailed", pushFailed.get(),
+                "pushQueueSize", pushExecutor.getQueue().size(),
+                "callerRuns", callerRuns.get());
+    }
+
+    @Override
+    public boolean hasActivity() {
+        return rowsInserted.get() > 0;
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        pushExecutor.shutdown();
+        if (!pushExecutor.awaitTermination(10, TimeUnit.SECONDS)) {
+            pushExecutor.shutdownNow();
+        }
+    }
+}
@@ -9,11 +9,12 @@ import com.logistics.exception.AppException;
 import com.logistics.exception.enums.NotificationErrorCode;
 import com.logistics.mapper.NotificationMapper;
 import com.logistics.repository.NotificationRepository;
-import com.logistics.repository.UserRepository;
 import com.logistics.request.common.notification.NotificationSearchRequest;
 import com.logistics.response.NotificationResponse;
 import com.logistics.response.Pagination;
 import com.logistics.specification.NotificationSpecification;
+import com.logistics.utils.KeysetPaginationUtils;
+import com.logistics.utils.KeysetPaginationUtils.KeysetPage;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -21,11 +22,11 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Service
@@ -33,8 +34,7 @@ import java.util.List;
 public class NotificationService {
 
     private final NotificationRepository notificationRepository;
-    private final UserRepository userRepository;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final NotificationFanout notificationFanout;
 
     public void create(@NonNull String title, @NonNull String message, @NonNull String type,
             Integer userId, Integer creatorId, String relatedType, String relatedId) {
@@ -42,39 +42,38 @@ public class NotificationService {
             return;
         } 
 
-        Notification notification = new Notification();
-
-        User user = new User();
-        user.setId(userId);
-
-        notification.setUser(user);
-        notification.setTitle(title);
-        notification.setMessage(message);
-        notification.setType(type);
-        notification.setRelatedId(relatedId);
-        notification.setRelatedType(relatedType);
-        notification.setIsRead(false);
-        notification.setCreatedAt(LocalDateTime.now());
+        notificationFanout.publish(
+                new NotificationFanout.Template(title, message, type, creatorId, relatedType, relatedId),
+                List.of(userId));
+    }
 
-        User creator = null;
-        if (creatorId != null) {
-            creator = userRepository.findById(creatorId).orElse(null);
+    /**
+     * Gửi cùng một thông báo cho nhiều người nhận trong một lần batch insert.
+     */
+    public int createForUsers(@NonNull String title, @NonNull String message, @NonNull String type,
+            Collection<Integer> userIds, Integer creatorId, String relatedType, String relatedId) {
+        if (userIds == null || userIds.isEmpty()) {
+            return 0;
         }
-        notification.setCreator(creator);
-
-        notificationRepository.save(notification);
 
-        NotificationDto dto = NotificationMapper.toDto(notification);
+        return notificationFanout.publish(
+                new NotificationFanout.Template(title, message, type, creatorId, relatedType, relatedId),
+                userIds);
+    }
 
-        messagingTemplate.convertAndSendToUser(
-                user.getId().toString(),
-                "/queue/notifications",
-                dto);
+    /**
+     * Đẩy thông báo tạm thời qua /user/queue/notifications mà không lưu DB (không có id).
+     */
+    public void push(@NonNull String title, @NonNull String message, @NonNull String type,
+            Integer userId, String relatedType, String relatedId) {
+        LocalDateTime now = LocalDateTime.now();
+        notificationFanout.pushTransient(userId,
+                new NotificationDto(null, title, message, type, false, relatedId, relatedType, now, now, null));
     }
 
     @Transactional
     public NotificationResponse getNotifications(Integer userId, NotificationSearchRequest request) {
-            int page = request.getPage();
+            int page = request.getPage() != null ? request.getPage() : 1;
             int limit = request.getLimit();
             String search = request.getSearch();
             Boolean isRead = request.getIsRead();
@@ -87,18 +86,31 @@ public class NotificationService {
                     .and(NotificationSpecification.search(search))
                     .and(NotificationSpecification.fetchCreator());
 
-            Page<Notification> pageData = notificationRepository.findAll(spec, pageable);
-
-            List<NotificationDto> notifications = pageData.getContent()
-                    .stream()
-                    .map(NotificationMapper::toDto)
-                    .toList();
+            List<NotificationDto> notifications;
+            Pagination pagination;
+            if (request.getCursor() != null) {
+                KeysetPage<Notification> keysetPage = KeysetPaginationUtils.fetch(notificationRepository, spec,
+                        request.getCursor(), true, limit, Notification::getCreatedAt, Notification::getId);
+                notifications = keysetPage.items()
+                        .stream()
+                        .map(NotificationMapper::toDto)
+                        .toList();
+                pagination = KeysetPaginationUtils.pagination(limit, request.getCursor(), keysetPage,
+                        request.getWithTotal(), () -> notificationRepository.count(spec));
+            } else {
+                Page<Notification> pageData = notificationRepository.findAll(spec, pageable);
+
+                notifications = pageData.getContent()
+                        .stream()
+                        .map(NotificationMapper::toDto)
+                        .toList();
+
+                int total = (int) pageData.getTotalElements();
+                pagination = new Pagination(total, page, limit, pageData.getTotalPages());
+            }
 
-            int total = (int) pageData.getTotalElements();
             int unreadCount = notificationRepository.countUnreadByUserId(userId);
 
-            Pagination pagination = new Pagination(total, page, limit, pageData.getTotalPages());
-
             NotificationResponse data = new NotificationResponse();
             data.setNotifications(notifications);
             data.setPagination(pagination);
@@ -1,18 +1,21 @@
 package com.logistics.service.common;
 
+import com.logistics.cache.TrackingTimelineCache;
+import com.logistics.cache.TrackingTimelineCache.Timeline;
 import com.logistics.dto.OrderHistoryDto;
-import com.logistics.entity.Order;
-import com.logistics.entity.OrderHistory;
+import com.logistics.enums.OrderHistoryActionType;
 import com.logistics.exception.AppException;
 import com.logistics.exception.enums.OrderErrorCode;
-import com.logistics.mapper.OrderHistoryMapper;
 import com.logistics.repository.OrderHistoryRepository;
 import com.logistics.repository.OrderRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.web.bind.annotation.PathVariable;
 
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 @Service
 @RequiredArgsConstructor
@@ -20,15 +23,53 @@ public class OrderPublicService {
 
     private final OrderRepository repository;
     private final OrderHistoryRepository historyRepository;
+    private final TrackingTimelineCache timelineCache;
 
-    public List<OrderHistoryDto> getOrderHistoriesByTrackingNumber(
-            @PathVariable String trackingNumber) {
-        Order order = repository.findByTrackingNumber(trackingNumber)
-                .orElseThrow(() -> new AppException(OrderErrorCode.ORDER_NOT_FOUND));
+    /**
+     * Hành trình công khai của đơn kèm ETag / Last-Modified, đọc qua cache theo mã vận đơn.
+     */
+    public Timeline getTrackingTimeline(String trackingNumber) {
+        Timeline timeline = timelineCache.get(trackingNumber,
+                () -> loadTimeline(TrackingTimelineCache.key(trackingNumber)));
+        if (timeline == null) {
+            throw new AppException(OrderErrorCode.ORDER_NOT_FOUND);
+        }
+        return timeline;
+    }
+
+    /**
+     * Hành trình đọc từ DB, null nếu mã vận đơn không tồn tại (cache nhớ cả kết quả này).
+     */
+    private Timeline loadTimeline(String trackingNumber) {
+        List<Object[]> rows = historyRepository.findTimelineByTrackingNumber(trackingNumber);
+        // Không có lịch sử: phân biệt đơn chưa có hành trình với mã vận đơn không tồn tại
+        if (rows.isEmpty() && !repository.existsByTrackingNumber(trackingNumber)) {
+            return null;
+        }
+
+        List<OrderHistoryDto> histories = new ArrayList<>(rows.size());
+        int latestId = 0;
+        int contentHash = 1;
+        LocalDateTime lastModified = null;
+        for (Object[] row : rows) {
+            OrderHistoryDto dto = new OrderHistoryDto(
+                    (String) row[1],
+                    (String) row[2],
+                    ((OrderHistoryActionType) row[3]).name(),
+                    (String) row[4],
+                    (LocalDateTime) row[5]);
+            histories.add(dto);
 
-        List<OrderHistory> orderHistories = historyRepository
-                .findByOrderIdOrderByActionTimeDesc(order.getId());
+            latestId = Math.max(latestId, (Integer) row[0]);
+            contentHash = 31 * contentHash + Objects.hash(dto.getFromOfficeName(), dto.getToOfficeName(),
+                    dto.getAction(), dto.getNote(), dto.getActionTime());
+            if (dto.getActionTime() != null && (lastModified == null || dto.getActionTime().isAfter(lastModified))) {
+                lastModified = dto.getActionTime();
+            }
+        }
 
-        return OrderHistoryMapper.toDtoList(orderHistories);
+        String etag = String.format("\"%x-%d-%08x\"", latestId, histories.size(), contentHash);
+        return new Timeline(List.copyOf(histories), etag,
+                lastModified != null ? lastModified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : -1);
     }
-}
\ No newline at end of file
+}
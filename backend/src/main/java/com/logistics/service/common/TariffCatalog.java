@@ -0,0 +1,68 @@
+package com.logistics.service.common;
+
+import com.logistics.repository.FeeConfigurationRepository;
+import com.logistics.repository.RegionRepository;
+import com.logistics.repository.ShippingRateRepository;
+import com.logistics.utils.TransactionUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Giữ bảng cước đã biên dịch ({@link TariffSnapshot}) trong bộ nhớ.
+ * Snapshot được thay thế nguyên khối khi admin thay đổi cấu hình phí / loại dịch vụ,
+ * và được làm mới định kỳ để đồng bộ giữa các node.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TariffCatalog {
+
+    private final RegionRepository regionRepository;
+    private final ShippingRateRepository shippingRateRepository;
+    private final FeeConfigurationRepository feeConfigRepository;
+
+    private final AtomicReference<TariffSnapshot> snapshot = new AtomicReference<>();
+
+    public TariffSnapshot current() {
+        TariffSnapshot current = snapshot.get();
+        return current != null ? current : loadIfAbsent();
+    }
+
+    public TariffSnapshot reload() {
+        long start = System.currentTimeMillis();
+        TariffSnapshot compiled = TariffSnapshot.compile(
+                regionRepository.findAll(),
+                shippingRateRepository.findAllWithServiceType(),
+                feeConfigRepository.findActiveWithServiceType());
+        snapshot.set(compiled);
+        log.debug("Tariff snapshot rebuilt in {} ms", System.currentTimeMillis() - start);
+        return compiled;
+    }
+
+    /**
+     * Dựng lại snapshot sau khi transaction hiện tại commit, tránh nạp dữ liệu chưa commit
+     * hoặc bị rollback.
+     */
+    public void reloadAfterCommit() {
+        TransactionUtils.runAfterCommit(() -> reload());
+    }
+
+    @Scheduled(fixedDelayString = "${logistics.tariff.refresh-interval-ms:300000}",
+            initialDelayString = "${logistics.tariff.refresh-interval-ms:300000}")
+    public void scheduledReload() {
+        try {
+            reload();
+        } catch (Exception e) {
+            log.error("Failed to refresh tariff snapshot, keeping previous one", e);
+        }
+    }
+
+    private synchronized TariffSnapshot loadIfAbsent() {
+        TariffSnapshot current = snapshot.get();
+        return current != null ? current : reload();
+    }
+}
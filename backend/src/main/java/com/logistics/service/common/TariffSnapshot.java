@@ -0,0 +1,351 @@
+package com.logistics.service.common;
+
+import com.logistics.entity.FeeConfiguration;
+import com.logistics.entity.Region;
+import com.logistics.entity.ShippingRate;
+import com.logistics.enums.CodFeeType;
+import com.logistics.enums.FeeType;
+import com.logistics.enums.RegionName;
+import com.logistics.enums.ShippingRateRegionType;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bảng cước đã biên dịch, bất biến. Được dựng một lần từ regions, shipping_rates và
+ * fee_configurations rồi dùng chung cho mọi luồng tính phí, không cần truy vấn DB.
+ */
+public final class TariffSnapshot {
+
+    private static final BigDecimal DEFAULT_UNIT = new BigDecimal("0.5");
+    private static final BigDecimal DEFAULT_VOLUMETRIC_DIVISOR = BigDecimal.valueOf(5000);
+
+    private final Map<Integer, RegionName> regionByCity;
+    private final Map<Long, RateTable> rateTables;
+    private final Map<Integer, FeeRules> feeRulesByServiceType;
+    private final FeeRules globalFeeRules;
+
+    private TariffSnapshot(Map<Integer, RegionName> regionByCity,
+            Map<Long, RateTable> rateTables,
+            Map<Integer, FeeRules> feeRulesByServiceType,
+            FeeRules globalFeeRules) {
+        this.regionByCity = regionByCity;
+        this.rateTables = rateTables;
+        this.feeRulesByServiceType = feeRulesByServiceType;
+        this.globalFeeRules = globalFeeRules;
+    }
+
+    public static TariffSnapshot compile(List<Region> regions, List<ShippingRate> rates,
+            List<FeeConfiguration> activeFees) {
+        Map<Integer, RegionName> regionByCity = new HashMap<>();
+        for (Region region : regions) {
+            regionByCity.put(region.getCodeCity(), region.getRegionName());
+        }
+
+        // Gom bảng giá theo (serviceType, regionType), giữ thứ tự weightFrom tăng dần
+        Map<Long, List<ShippingRate>> groupedRates = new HashMap<>();
+        rates.stream()
+                .sorted(Comparator.comparing(ShippingRate::getWeightFrom))
+                .forEach(rate -> groupedRates
+                        .computeIfAbsent(rateKey(rate.getServiceType().getId(), rate.getRegionType()),
+                                k -> new ArrayList<>())
+                        .add(rate));
+
+        Map<Long, RateTable> rateTables = new HashMap<>();
+        groupedRates.forEach((key, list) -> rateTables.put(key, RateTable.compile(list)));
+
+        // Giữ thứ tự id để kết quả trùng với thứ tự trả về từ findActiveByServiceTypeIdIncludingNull
+        List<FeeConfiguration> sortedFees = new ArrayList<>(activeFees);
+        sortedFees.sort(Comparator.comparing(FeeConfiguration::getId,
+                Comparator.nullsLast(Comparator.naturalOrder())));
+
+        List<FeeConfiguration> globalFees = new ArrayList<>();
+        Map<Integer, List<FeeConfiguration>> feesByServiceType = new LinkedHashMap<>();
+        for (FeeConfiguration fee : sortedFees) {
+            if (fee.getServiceType() == null) {
+                globalFees.add(fee);
+            } else {
+                feesByServiceType.computeIfAbsent(fee.getServiceType().getId(), k -> new ArrayList<>());
+            }
+        }
+        for (FeeConfiguration fee : sortedFees) {
+            if (fee.getServiceType() == null) {
+                feesByServiceType.values().forEach(list -> list.add(fee));
+            } else {
+                feesByServiceType.get(fee.getServiceType().getId()).add(fee);
+            }
+        }
+
+        Map<Integer, FeeRules> feeRulesByServiceType = new HashMap<>();
+        feesByServiceType.forEach((serviceTypeId, list) -> feeRulesByServiceType.put(serviceTypeId,
+                FeeRules.compile(list)));
+
+        return new TariffSnapshot(regionByCity, rateTables, feeRulesByServiceType, FeeRules.compile(globalFees));
+    }
+
+    public ShippingRateRegionType resolveRegionType(Integer senderCodeCity, Integer recipientCodeCity) {
+        RegionName sender = regionByCity.get(senderCodeCity);
+        RegionName recipient = regionByCity.get(recipientCodeCity);
+
+        if (sender == null || recipient == null) {
+            throw new IllegalArgumentException("Không tìm thấy thông tin vùng của người gửi hoặc người nhận");
+        }
+
+        if (senderCodeCity.equals(recipientCodeCity)) {
+            return ShippingRateRegionType.INTRA_CITY;
+        } else if (sender == recipient) {
+            return ShippingRateRegionType.INTRA_REGION;
+        } else if (isNearRegion(sender, recipient)) {
+            return ShippingRateRegionType.NEAR_REGION;
+        } else {
+            return ShippingRateRegionType.INTER_REGION;
+        }
+    }
+
+    public RateTable rateTable(Integer serviceTypeId, ShippingRateRegionType regionType) {
+        RateTable table = serviceTypeId != null ? rateTables.get(rateKey(serviceTypeId, regionType)) : null;
+        if (table == null) {
+            throw new IllegalArgumentException("Không tìm thấy bảng giá cho loại dịch vụ này");
+        }
+        return table;
+    }
+
+    public FeeRules feeRules(Integer serviceTypeId) {
+        if (serviceTypeId == null) {
+            return globalFeeRules;
+        }
+        return feeRulesByServiceType.getOrDefault(serviceTypeId, globalFeeRules);
+    }
+
+    public BigDecimal volumetricDivisor() {
+        return globalFeeRules.volumetricDivisor;
+    }
+
+    public int shippingFee(BigDecimal weight, Integer serviceTypeId, Integer senderCodeCity,
+            Integer recipientCodeCity) {
+        ShippingRateRegionType regionType = resolveRegionType(senderCodeCity, recipientCodeCity);
+        return rateTable(serviceTypeId, regionType).price(weight);
+    }
+
+    private static long rateKey(Integer serviceTypeId, ShippingRateRegionType regionType) {
+        return ((long) serviceTypeId << 3) | regionType.ordinal();
+    }
+
+    /**
+     * Đổi khối lượng (kg) sang đơn vị 0.01 kg, làm tròn lên. Vì các mốc trong bảng giá có
+     * scale = 2 nên so sánh trên khóa này cho kết quả giống hệt so sánh BigDecimal.
+     */
+    private static long weightKey(BigDecimal weight) {
+        return weight.movePointRight(2).setScale(0, RoundingMode.CEILING).longValueExact();
+    }
+
+    private static boolean isNearRegion(RegionName sender, RegionName recipient) {
+        return (sender == RegionName.NORTH && recipient == RegionName.CENTRAL)
+                || (sender == RegionName.CENTRAL && recipient == RegionName.NORTH)
+                || (sender == RegionName.CENTRAL && recipient == RegionName.SOUTH)
+                || (sender == RegionName.SOUTH && recipient == RegionName.CENTRAL);
+    }
+
+    /**
+     * Các nấc khối lượng của một (serviceType, regionType). Mốc được lưu dạng long[] để
+     * tìm nhị phân; nếu các nấc chồng lấn nhau thì quay về quét tuần tự như cũ.
+     */
+    public static final class RateTable {
+
+        private final long[] fromKeys;
+        private final long[] toKeys;
+        private final ShippingBand[] bands;
+        private final boolean disjoint;
+
+        private RateTable(long[] fromKeys, long[] toKeys, ShippingBand[] bands, boolean disjoint) {
+            this.fromKeys = fromKeys;
+            this.toKeys = toKeys;
+            this.bands = bands;
+            this.disjoint = disjoint;
+        }
+
+        private static RateTable compile(List<ShippingRate> rates) {
+            int size = rates.size();
+            long[] fromKeys = new long[size];
+            long[] toKeys = new long[size];
+            ShippingBand[] bands = new ShippingBand[size];
+
+            for (int i = 0; i < size; i++) {
+                ShippingRate rate = rates.get(i);
+                fromKeys[i] = weightKey(rate.getWeightFrom());
+                toKeys[i] = rate.getWeightTo() != null ? weightKey(rate.getWeightTo()) : Long.MAX_VALUE;
+                bands[i] = new ShippingBand(rate.getWeightFrom(), rate.getWeightTo(), rate.getPrice(),
+                        rate.getUnit() != null ? rate.getUnit() : DEFAULT_UNIT, rate.getExtraPrice());
+            }
+
+            boolean disjoint = true;
+            for (int i = 0; i + 1 < size; i++) {
+                if (toKeys[i] > fromKeys[i + 1]) {
+                    disjoint = false;
+                    break;
+                }
+            }
+
+            return new RateTable(fromKeys, toKeys, bands, disjoint);
+        }
+
+        public ShippingBand find(BigDecimal weight) {
+            long key = weightKey(weight);
+
+            if (disjoint) {
+                // Nấc cuối cùng có weightFrom < key
+                int low = 0;
+                int high = fromKeys.length - 1;
+                int idx = -1;
+                while (low <= high) {
+                    int mid = (low + high) >>> 1;
+                    if (fromKeys[mid] < key) {
+                        idx = mid;
+                        low = mid + 1;
+                    } else {
+                        high = mid - 1;
+                    }
+                }
+                return idx >= 0 && key <= toKeys[idx] ? bands[idx] : null;
+            }
+
+            for (int i = 0; i < fromKeys.length; i++) {
+                if (key > fromKeys[i] && key <= toKeys[i]) {
+                    return bands[i];
+                }
+            }
+            return null;
+        }
+
+        public int price(BigDecimal weight) {
+            ShippingBand band = find(weight);
+            if (band == null) {
+                throw new IllegalArgumentException("Không tìm thấy mức giá phù hợp cho cân nặng");
+            }
+            return band.price(weight);
+        }
+    }
+
+    public record ShippingBand(BigDecimal weightFrom, BigDecimal weightTo, BigDecimal basePrice,
+            BigDecimal unit, BigDecimal extraPrice) {
+
+        public int price(BigDecimal weight) {
+            BigDecimal shippingFee = basePrice;
+
+            if (weightTo == null && extraPrice != null) {
+                BigDecimal extraWeight = weight.subtract(weightFrom);
+                BigDecimal extraSteps = extraWeight.divide(unit, 0, RoundingMode.UP);
+                shippingFee = shippingFee.add(extraSteps.multiply(extraPrice));
+            }
+
+            return shippingFee.setScale(0, RoundingMode.HALF_UP).intValue();
+        }
+    }
+
+    /**
+     * Cấu hình phí đã gom theo loại cho một serviceType (bao gồm cấu hình dùng chung).
+     * COD, INSURANCE, PACKAGING lấy cấu hình cuối cùng; VAT và VOLUMETRIC_DIVISOR lấy cấu hình đầu tiên.
+     */
+    public static final class FeeRules {
+
+        private final FeeRule cod;
+        private final FeeRule insurance;
+        private final FeeRule vat;
+        private final BigDecimal packaging;
+        private final BigDecimal volumetricDivisor;
+
+        private FeeRules(FeeRule cod, FeeRule insurance, FeeRule vat, BigDecimal packaging,
+                BigDecimal volumetricDivisor) {
+            this.cod = cod;
+            this.insurance = insurance;
+            this.vat = vat;
+            this.packaging = packaging;
+            this.volumetricDivisor = volumetricDivisor;
+        }
+
+        private static FeeRules compile(List<FeeConfiguration> fees) {
+            FeeRule cod = null;
+            FeeRule insurance = null;
+            FeeRule vat = null;
+            BigDecimal packaging = BigDecimal.ZERO;
+            BigDecimal volumetricDivisor = null;
+
+            for (FeeConfiguration f : fees) {
+                FeeType type = f.getFeeType();
+                if (type == null) {
+                    continue;
+                }
+                switch (type) {
+                    case COD:
+                        cod = FeeRule.of(f);
+                        break;
+                    case INSURANCE:
+                        insurance = FeeRule.of(f);
+                        break;
+                    case VAT:
+                        if (vat == null) {
+                            vat = FeeRule.of(f);
+                        }
+                        break;
+                    case PACKAGING:
+                        packaging = f.getFeeValue() != null ? f.getFeeValue() : BigDecimal.ZERO;
+                        break;
+                    case VOLUMETRIC_DIVISOR:
+                        if (volumetricDivisor == null) {
+                            volumetricDivisor = f.getFeeValue();
+                        }
+                        break;
+                }
+            }
+
+            return new FeeRules(cod, insurance, vat, packaging,
+                    volumetricDivisor != null ? volumetricDivisor : DEFAULT_VOLUMETRIC_DIVISOR);
+        }
+
+        public BigDecimal codFee(BigDecimal codAmount) {
+            return cod != null && codAmount.compareTo(BigDecimal.ZERO) > 0 ? cod.apply(codAmount) : BigDecimal.ZERO;
+        }
+
+        public BigDecimal insuranceFee(BigDecimal orderValue) {
+            return insurance != null && orderValue.compareTo(BigDecimal.ZERO) > 0
+                    ? insurance.apply(orderValue)
+                    : BigDecimal.ZERO;
+        }
+
+        public BigDecimal vatFee(BigDecimal subtotal) {
+            return vat != null ? vat.apply(subtotal) : BigDecimal.ZERO;
+        }
+
+        public BigDecimal packagingFee() {
+            return packaging;
+        }
+    }
+
+    public record FeeRule(CodFeeType calculationType, BigDecimal feeValue, BigDecimal minOrderFee,
+            BigDecimal maxOrderFee) {
+
+        static FeeRule of(FeeConfiguration f) {
+            return new FeeRule(f.getCalculationType(), f.getFeeValue(), f.getMinOrderFee(), f.getMaxOrderFee());
+        }
+
+        public BigDecimal apply(BigDecimal base) {
+            BigDecimal result;
+            if (calculationType == CodFeeType.FIXED) {
+                result = feeValue;
+            } else {
+                result = base.multiply(feeValue).divide(BigDecimal.valueOf(100), 10, RoundingMode.HALF_UP);
+            }
+            if (minOrderFee != null)
+                result = result.max(minOrderFee);
+            if (maxOrderFee != null)
+                result = result.min(maxOrderFee);
+            return result.setScale(0, RoundingMode.HALF_UP);
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.logistics.service.common;
+
+import com.logistics.config.properties.TrackingNumberProperties;
+import com.logistics.exception.AppException;
+import com.logistics.exception.enums.OrderErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Cấp mã vận đơn dạng UTE + yyMMdd + 5 ký tự base36 của số thứ tự trong ngày + 2 ký tự kiểm tra.
+ * Số thứ tự được thuê theo khối từ bảng tracking_number_sequences rồi cấp trong bộ nhớ không khóa,
+ * nên các mã khác nhau ngay từ cách sinh, không cần hỏi DB mã đã tồn tại hay chưa. Ký tự kiểm tra
+ * nằm trong G..Y, ngoài dải hex của các mã sinh ngẫu nhiên trước đây, nên cũng không trùng mã cũ.
+ */
+@Slf4j
+@Service
+public class TrackingNumberService {
+
+    private static final String PREFIX = "UTE";
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyMMdd");
+    private static final int SEQUENCE_LENGTH = 5;
+    private static final int SEQUENCE_RADIX = 36;
+    // 36^5 mã mỗi ngày
+    private static final long SEQUENCE_LIMIT = 60_466_176L;
+    // Tổng có trọng số modulo 19^2, ghi thành 2 ký tự G..Y. Một ký tự lệch tối đa 35 < 361 và trọng số
+    // 1..11 nguyên tố cùng nhau với 19, nên gõ sai bất kỳ một ký tự nào cũng đổi phần kiểm tra
+    private static final int CHECK_RADIX = 19;
+    private static final int CHECK_MODULUS = CHECK_RADIX * CHECK_RADIX;
+    private static final int CHECK_LENGTH = 2;
+    private static final char CHECK_BASE = 'G';
+    private static final int PAYLOAD_LENGTH = 6 + SEQUENCE_LENGTH;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate leaseTransaction;
+    private final TrackingNumberProperties properties;
+
+    private final AtomicReference<Block> current = new AtomicReference<>(Block.EMPTY);
+
+    public TrackingNumberService(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+            TrackingNumberProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        // Transaction riêng: khối đã thuê được commit ngay, kể cả khi đơn đang tạo bị rollback
+        this.leaseTransaction = new TransactionTemplate(transactionManager);
+        this.leaseTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Mã vận đơn kế tiếp. Chỉ chạm DB khi khối hiện tại đã hết hoặc sang ngày mới.
+     */
+    public String next() {
+        LocalDate today = today();
+        while (true) {
+            Block block = current.get();
+            if (block.day().equals(today)) {
+                long value = block.next().getAndIncrement();
+                if (value < block.end()) {
+                    return format(today, value);
+                }
+            }
+            refill(block, today);
+        }
+    }
+
+    private synchronized void refill(Block exhausted, LocalDate today) {
+        // Luồng khác đã thuê khối mới trong lúc chờ
+        if (current.get() != exhausted) {
+            return;
+        }
+        current.set(lease(today));
+    }
+
+    private Block lease(LocalDate day) {
+        int blockSize = Math.max(1, properties.getBlockSize());
+        long start = reserve(day, blockSize);
+        long end = Math.min(start + blockSize, SEQUENCE_LIMIT);
+        if (start >= end) {
+            throw new AppException(OrderErrorCode.ORDER_TRACKING_NUMBER_EXHAUSTED);
+        }
+        log.debug("[Tracking Number] Leased block [{}, {}) for {}", start, end, day);
+        return new Block(day, new AtomicLong(start), end);
+    }
+
+    /**
+     * Thuê khối blockSize số thứ tự của ngày (không vượt giới hạn trong ngày), trả về số đầu khối.
+     */
+    protected long reserve(LocalDate day, int blockSize) {
+        return leaseTransaction.execute(status -> {
+            jdbcTemplate.update("""
+                    insert into tracking_number_sequences (seq_date, next_value) values (?, 0)
+                    on duplicate key update next_value = next_value
+                    """, day);
+            Long start = jdbcTemplate.queryForObject(
+                    "select next_value from tracking_number_sequences where seq_date = ? for update",
+                    Long.class, day);
+            jdbcTemplate.update("update tracking_number_sequences set next_value = ? where seq_date = ?",
+                    Math.min(start + blockSize, SEQUENCE_LIMIT), day);
+            return start;
+        });
+    }
+
+    protected LocalDate today() {
+        return LocalDate.now();
+    }
+
+    /**
+     * Mã có đúng định dạng hiện tại và khớp ký tự kiểm tra (mã sinh ngẫu nhiên trước đây luôn trả false).
+     */
+    public static boolean isValid(String trackingNumber) {
+        if (trackingNumber == null || trackingNumber.length() != PREFIX.length() + PAYLOAD_LENGTH + CHECK_LENGTH
+                || !trackingNumber.startsWith(PREFIX)) {
+            return false;
+        }
+        String payload = trackingNumber.substring(PREFIX.length(), PREFIX.length() + PAYLOAD_LENGTH);
+        for (int i = 0; i < payload.length(); i++) {
+            if (Character.digit(payload.charAt(i), SEQUENCE_RADIX) < 0) {
+                return false;
+            }
+        }
+        return trackingNumber.endsWith(checkChars(payload));
+    }
+
+    private static String format(LocalDate day, long value) {
+        char[] sequence = new char[SEQUENCE_LENGTH];
+        long remaining = value;
+        for (int i = SEQUENCE_LENGTH - 1; i >= 0; i--) {
+            sequence[i] = Character.toUpperCase(Character.forDigit((int) (remaining % SEQUENCE_RADIX), SEQUENCE_RADIX));
+            remaining /= SEQUENCE_RADIX;
+        }
+        String payload = day.format(DATE_FORMAT) + new String(sequence);
+        return PREFIX + payload + checkChars(payload);
+    }
+
+    private static String checkChars(String payload) {
+        int sum = 0;
+        for (int i = 0; i < payload.length(); i++) {
+            sum += (i + 1) * Character.digit(payload.charAt(i), SEQUENCE_RADIX);
+        }
+        int check = sum % CHECK_MODULUS;
+        return new String(new char[]{
+                (char) (CHECK_BASE + check / CHECK_RADIX),
+                (char) (CHECK_BASE + check % CHECK_RADIX)});
+    }
+
+    // Khối số [next, end) của một ngày; next tăng dần khi cấp mã
+    private record Block(LocalDate day, AtomicLong next, long end) {
+        static final Block EMPTY = new Block(LocalDate.MIN, new AtomicLong(), 0);
+    }
+}
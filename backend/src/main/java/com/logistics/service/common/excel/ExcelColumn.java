@@ -0,0 +1,14 @@
+package com.logistics.service.common.excel;
+
+import java.util.function.Function;
+
+/**
+ * Khai báo một cột khi xuất Excel: tiêu đề và cách lấy giá trị từ một dòng dữ liệu.
+ * Giá trị trả về có thể là String, Number, Boolean, LocalDateTime / LocalDate hoặc null (ô trống).
+ */
+public record ExcelColumn<T>(String header, Function<T, Object> value) {
+
+    public static <T> ExcelColumn<T> of(String header, Function<T, Object> value) {
+        return new ExcelColumn<>(header, value);
+    }
+}
@@ -0,0 +1,240 @@
+package com.logistics.service.common.excel;
+
+import com.logistics.exception.AppException;
+import com.logistics.exception.enums.CommonErrorCode;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.FillPatternType;
+import org.apache.poi.ss.usermodel.Font;
+import org.apache.poi.ss.usermodel.HorizontalAlignment;
+import org.apache.poi.ss.usermodel.IndexedColors;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.apache.poi.xssf.usermodel.XSSFCellStyle;
+import org.apache.poi.xssf.usermodel.XSSFColor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.OutputStream;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Bộ xuất Excel dùng chung: ghi từng dòng qua SXSSF (chỉ giữ một cửa sổ dòng trong heap, phần còn
+ * lại ghi ra file tạm nén), style tạo một lần cho cả workbook, kết quả ghi thẳng ra OutputStream
+ * của response. Độ rộng cột được tính từ các dòng đầu tiên thay vì autoSize toàn bộ sheet.
+ */
+@Slf4j
+@Component
+public class ExcelExporter {
+
+    public static final String DATE_TIME_PATTERN = "HH:mm:ss dd/MM/yyyy";
+    public static final String DATE_PATTERN = "dd/MM/yyyy";
+
+    // Số dòng giữ trong bộ nhớ trước khi SXSSF đẩy ra file tạm
+    private static final int ROW_WINDOW = 200;
+
+    // Số dòng đầu dùng để ước lượng độ rộng cột
+    private static final int AUTO_SIZE_SAMPLE = 200;
+
+    private static final int MAX_COLUMN_WIDTH = 80 * 256;
+
+    private static final int PROGRESS_STEP = 1000;
+
+    private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern(DATE_TIME_PATTERN);
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern(DATE_PATTERN);
+
+    /**
+     * Nguồn dữ liệu đẩy lần lượt từng dòng vào sink (vd: {@link SpecificationScroller}).
+     */
+    @FunctionalInterface
+    public interface RowSource<T> {
+        void forEach(Consumer<? super T> sink);
+
+        static <T> RowSource<T> of(Iterable<T> rows) {
+            return rows::forEach;
+        }
+    }
+
+    /**
+     * Đặt header tải file .xlsx cho response trước khi ghi nội dung.
+     */
+    public static void prepareDownload(HttpServletResponse response, String fileName) {
+        String encodedFileName = URLEncoder.encode(fileName, StandardCharsets.UTF_8).replaceAll("\\+", "%20");
+        response.setContentType(MediaType.APPLICATION_OCTET_STREAM_VALUE);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename*=UTF-8''" + encodedFileName);
+    }
+
+    /**
+     * Ghi một sheet gồm dòng tiêu đề và các dòng dữ liệu từ source.
+     *
+     * @return số dòng dữ liệu đã ghi
+     */
+    public <T> long write(OutputStream out, String sheetName, List<ExcelColumn<T>> columns, RowSource<T> source) {
+        return write(out, sheetName, columns, source, ExportProgress.NONE);
+    }
+
+    /**
+     * Như {@link #write(OutputStream, String, List, RowSource)}, báo số dòng đã ghi cho progress
+     * sau mỗi {@value #PROGRESS_STEP} dòng và khi kết thúc.
+     */
+    public <T> long write(OutputStream out, String sheetName, List<ExcelColumn<T>> columns, RowSource<T> source,
+            ExportProgress progress) {
+        long[] written = {0};
+        write(out, sheetName, columns.size(), rows -> {
+            rows.header(columns.stream().map(ExcelColumn::header).toArray(String[]::new));
+            source.forEach(item -> {
+                Object[] values = new Object[columns.size()];
+                for (int i = 0; i < values.length; i++) {
+                    values[i] = columns.get(i).value().apply(item);
+                }
+                rows.row(values);
+                if (++written[0] % PROGRESS_STEP == 0) {
+                    progress.onRows(written[0]);
+                }
+            });
+            progress.onRows(written[0]);
+        });
+        return written[0];
+    }
+
+    /**
+     * Ghi một sheet có bố cục tự do (dòng tiêu đề, khoảng trống, nhiều bảng nối tiếp) qua
+     * {@link SheetRows}; dùng cho các báo cáo dạng key / value không khớp một danh sách cột cố định.
+     */
+    public void write(OutputStream out, String sheetName, int columnCount, Consumer<SheetRows> body) {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(null, ROW_WINDOW, true, false);
+        try {
+            SXSSFSheet sheet = workbook.createSheet(sheetName);
+            sheet.trackAllColumnsForAutoSizing();
+
+            StreamingSheetRows rows = new StreamingSheetRows(sheet, headerStyle(workbook), columnCount);
+            body.accept(rows);
+            rows.finish();
+
+            workbook.write(out);
+            out.flush();
+        } catch (AppException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new AppException(CommonErrorCode.EXPORT_EXCEL_ERROR, e);
+        } finally {
+            try {
+                workbook.close();
+            } catch (Exception e) {
+                log.warn("[Excel Export] Could not clean up temp files: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Ghi nối tiếp các dòng của một sheet.
+     */
+    public interface SheetRows {
+
+        // Dòng tiêu đề (style chữ trắng đậm trên nền xanh đậm)
+        void header(String... titles);
+
+        // Dòng dữ liệu, cùng quy tắc định dạng giá trị với ExcelColumn
+        void row(Object... values);
+
+        // Bỏ trống một dòng
+        void skip();
+    }
+
+    private static final class StreamingSheetRows implements SheetRows {
+        private final SXSSFSheet sheet;
+        private final CellStyle headerStyle;
+        private final int columnCount;
+        private int nextRow;
+        private boolean sized;
+
+        private StreamingSheetRows(SXSSFSheet sheet, CellStyle headerStyle, int columnCount) {
+            this.sheet = sheet;
+            this.headerStyle = headerStyle;
+            this.columnCount = columnCount;
+        }
+
+        @Override
+        public void header(String... titles) {
+            Row row = sheet.createRow(nextRow++);
+            for (int i = 0; i < titles.length; i++) {
+                Cell cell = row.createCell(i);
+                cell.setCellValue(titles[i]);
+                cell.setCellStyle(headerStyle);
+            }
+        }
+
+        @Override
+        public void row(Object... values) {
+            Row row = sheet.createRow(nextRow++);
+            for (int i = 0; i < values.length; i++) {
+                setValue(row.createCell(i), values[i]);
+            }
+            if (!sized && nextRow > AUTO_SIZE_SAMPLE) {
+                autoSize(sheet, columnCount);
+                sized = true;
+            }
+        }
+
+        @Override
+        public void skip() {
+            nextRow++;
+        }
+
+        private void finish() {
+            if (!sized) {
+                autoSize(sheet, columnCount);
+            }
+        }
+    }
+
+    private static void setValue(Cell cell, Object value) {
+        if (value == null) {
+            cell.setCellValue("");
+        } else if (value instanceof Number number) {
+            cell.setCellValue(number.doubleValue());
+        } else if (value instanceof Boolean bool) {
+            cell.setCellValue(bool);
+        } else if (value instanceof LocalDateTime dateTime) {
+            cell.setCellValue(dateTime.format(DATE_TIME_FORMAT));
+        } else if (value instanceof LocalDate date) {
+            cell.setCellValue(date.format(DATE_FORMAT));
+        } else {
+            cell.setCellValue(value.toString());
+        }
+    }
+
+    // Đo độ rộng trên các dòng mẫu rồi ngừng theo dõi để các dòng sau không tốn chi phí đo font
+    private static void autoSize(SXSSFSheet sheet, int columnCount) {
+        for (int i = 0; i < columnCount; i++) {
+            sheet.autoSizeColumn(i);
+            if (sheet.getColumnWidth(i) > MAX_COLUMN_WIDTH) {
+                sheet.setColumnWidth(i, MAX_COLUMN_WIDTH);
+            }
+        }
+        sheet.untrackAllColumnsForAutoSizing();
+    }
+
+    // Cùng style tiêu đề với các file export hiện có: chữ trắng đậm trên nền xanh đậm
+    private static CellStyle headerStyle(SXSSFWorkbook workbook) {
+        XSSFCellStyle style = (XSSFCellStyle) workbook.createCellStyle();
+        Font font = workbook.createFont();
+        font.setBold(true);
+        font.setColor(IndexedColors.WHITE.getIndex());
+        style.setFont(font);
+        style.setAlignment(HorizontalAlignment.CENTER);
+        style.setFillForegroundColor(new XSSFColor(new byte[]{(byte) 0x1C, (byte) 0x3D, (byte) 0x90}, null));
+        style.setFillPattern(FillPatternType.SOLID_FOREGROUND);
+        return style;
+    }
+}
@@ -0,0 +1,16 @@
+package com.logistics.service.common.excel;
+
+/**
+ * Nhận tiến độ khi xuất file: tổng số dòng (nếu biết trước) và số dòng đã ghi.
+ */
+public interface ExportProgress {
+
+    ExportProgress NONE = new ExportProgress() {
+    };
+
+    default void onTotal(long totalRows) {
+    }
+
+    default void onRows(long rowsWritten) {
+    }
+}
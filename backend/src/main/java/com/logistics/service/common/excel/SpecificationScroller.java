@@ -0,0 +1,136 @@
+package com.logistics.service.common.excel;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.PersistenceUnitUtil;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.FetchParent;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Duyệt kết quả của một Specification theo từng khối để xuất file mà không nạp hết vào heap.
+ * Bước 1 lấy danh sách id đã sắp xếp (id kèm cột sắp xếp, không OFFSET sâu); bước 2 nạp entity theo
+ * từng khối id kèm các quan hệ cần fetch, đẩy vào sink đúng thứ tự rồi clear persistence context.
+ */
+@Component
+public class SpecificationScroller {
+
+    public static final int DEFAULT_CHUNK_SIZE = 500;
+
+    @PersistenceContext
+    private EntityManager em;
+
+    private final TransactionTemplate readOnlyTransaction;
+
+    public SpecificationScroller(PlatformTransactionManager transactionManager) {
+        // Transaction riêng để clear() không tách entity của transaction bên ngoài
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.readOnlyTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Nguồn dòng cho ExcelExporter.
+     *
+     * @param fetches các quan hệ ManyToOne / OneToOne được fetch cùng entity để tránh N+1, cho phép
+     *                đường dẫn lồng nhau dạng "employee.user"
+     */
+    public <T> ExcelExporter.RowSource<T> scroll(Class<T> type, Specification<T> spec, Sort sort, String... fetches) {
+        return scroll(type, spec, sort, ExportProgress.NONE, fetches);
+    }
+
+    /**
+     * Như {@link #scroll(Class, Specification, Sort, String...)}, báo tổng số dòng cho progress
+     * ngay khi biết danh sách id.
+     */
+    public <T> ExcelExporter.RowSource<T> scroll(Class<T> type, Specification<T> spec, Sort sort,
+            ExportProgress progress, String... fetches) {
+        return sink -> readOnlyTransaction.executeWithoutResult(status -> {
+            List<Object> ids = findIds(type, spec, sort);
+            progress.onTotal(ids.size());
+            PersistenceUnitUtil unitUtil = em.getEntityManagerFactory().getPersistenceUnitUtil();
+
+            for (int from = 0; from < ids.size(); from += DEFAULT_CHUNK_SIZE) {
+                List<Object> chunk = ids.subList(from, Math.min(from + DEFAULT_CHUNK_SIZE, ids.size()));
+
+                Map<Object, T> byId = new HashMap<>();
+                for (T entity : findByIds(type, chunk, fetches)) {
+                    byId.put(unitUtil.getIdentifier(entity), entity);
+                }
+                for (Object id : chunk) {
+                    T entity = byId.get(id);
+                    if (entity != null) {
+                        sink.accept(entity);
+                    }
+                }
+                em.clear();
+            }
+        });
+    }
+
+    private <T> List<Object> findIds(Class<T> type, Specification<T> spec, Sort sort) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<Object[]> query = cb.createQuery(Object[].class);
+        Root<T> root = query.from(type);
+
+        Predicate predicate = spec != null ? spec.toPredicate(root, query, cb) : null;
+        if (predicate != null) {
+            query.where(predicate);
+        }
+
+        // Thêm id làm khóa phụ để thứ tự ổn định khi nhiều dòng trùng giá trị sắp xếp
+        Sort stable = sort.getOrderFor("id") != null ? sort : sort.and(Sort.by("id"));
+        List<Order> orders = QueryUtils.toOrders(stable, root, cb);
+
+        // Spec có thể bật distinct (khi join quan hệ một-nhiều để tìm kiếm): cột sắp xếp phải nằm trong
+        // danh sách select, nếu không MySQL / H2 từ chối "SELECT DISTINCT id ... ORDER BY created_at"
+        List<Selection<?>> selections = new ArrayList<>();
+        selections.add(root.get("id"));
+        for (Order order : orders) {
+            selections.add(order.getExpression());
+        }
+        query.multiselect(selections).orderBy(orders);
+
+        List<Object> ids = new ArrayList<>();
+        for (Object[] row : em.createQuery(query).getResultList()) {
+            ids.add(row[0]);
+        }
+        return ids;
+    }
+
+    private <T> List<T> findByIds(Class<T> type, List<Object> ids, String... fetches) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<T> query = cb.createQuery(type);
+        Root<T> root = query.from(type);
+        // Đường dẫn lồng nhau ("employee.user.account") dùng lại fetch của tiền tố đã khai báo
+        Map<String, FetchParent<?, ?>> fetched = new HashMap<>();
+        for (String fetch : fetches) {
+            FetchParent<?, ?> parent = root;
+            String path = "";
+            for (String attribute : fetch.split("\\.")) {
+                path = path.isEmpty() ? attribute : path + "." + attribute;
+                FetchParent<?, ?> from = parent;
+                parent = fetched.computeIfAbsent(path, key -> from.fetch(attribute, JoinType.LEFT));
+            }
+        }
+        query.select(root).where(root.get("id").in(ids));
+        return em.createQuery(query).getResultList();
+    }
+}
@@ -0,0 +1,78 @@
+package com.logistics.service.common.export;
+
+import com.logistics.enums.ExportJobStatus;
+import lombok.Getter;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+
+/**
+ * Trạng thái của một yêu cầu xuất file chạy nền. Các trường thay đổi được ghi bởi luồng sinh file
+ * và đọc bởi luồng request (poll tiến độ), nên đều là volatile.
+ */
+@Getter
+public class ExportJob {
+    private final String id;
+    private final Integer ownerUserId;
+    private final String scope;
+    private final String fileName;
+    private final Path file;
+    private final LocalDateTime createdAt = LocalDateTime.now();
+
+    private volatile ExportJobStatus status = ExportJobStatus.PENDING;
+    private volatile long rowsWritten;
+    private volatile long totalRows = -1;
+    private volatile LocalDateTime finishedAt;
+    private volatile LocalDateTime expiresAt;
+    private volatile String errorMessage;
+
+    ExportJob(String id, Integer ownerUserId, String scope, String fileName, Path file) {
+        this.id = id;
+        this.ownerUserId = ownerUserId;
+        this.scope = scope;
+        this.fileName = fileName;
+        this.file = file;
+    }
+
+    /**
+     * Phần trăm hoàn thành, null khi chưa biết tổng số dòng.
+     */
+    public Integer getPercent() {
+        if (status == ExportJobStatus.DONE) {
+            return 100;
+        }
+        if (totalRows <= 0) {
+            return totalRows == 0 ? 100 : null;
+        }
+        return (int) Math.min(99, rowsWritten * 100 / totalRows);
+    }
+
+    void running() {
+        status = ExportJobStatus.RUNNING;
+    }
+
+    void total(long totalRows) {
+        this.totalRows = totalRows;
+    }
+
+    void rows(long rowsWritten) {
+        this.rowsWritten = rowsWritten;
+    }
+
+    void done(LocalDateTime expiresAt) {
+        this.finishedAt = LocalDateTime.now();
+        this.expiresAt = expiresAt;
+        this.status = ExportJobStatus.DONE;
+    }
+
+    void failed(String errorMessage, LocalDateTime expiresAt) {
+        this.finishedAt = LocalDateTime.now();
+        this.expiresAt = expiresAt;
+        this.errorMessage = errorMessage;
+        this.status = ExportJobStatus.FAILED;
+    }
+
+    boolean isActive() {
+        return status == ExportJobStatus.PENDING || status == ExportJobStatus.RUNNING;
+    }
+}
@@ -0,0 +1,248 @@
+package com.logistics.service.common.export;
+
+import com.logistics.config.properties.ExportJobProperties;
+import com.logistics.enums.ExportJobStatus;
+import com.logistics.exception.AppException;
+import com.logistics.exception.enums.ExportJobErrorCode;
+import com.logistics.service.common.NotificationService;
+import com.logistics.service.common.excel.ExportProgress;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Xuất file chạy nền: nhận yêu cầu, trả id job ngay, sinh file trên pool có giới hạn ra thư mục
+ * cục bộ. Tiến độ được poll qua {@link #get} và đẩy qua kênh /user/queue/notifications; file giữ
+ * trong {@code retentionHours} rồi bị dọn. Mỗi shop / bưu cục chỉ có tối đa
+ * {@code maxActivePerScope} job đang chờ hoặc đang chạy.
+ */
+@Slf4j
+@Service
+public class ExportJobService {
+
+    public static final String NOTIFICATION_TYPE = "export";
+    public static final String RELATED_TYPE = "export-jobs";
+
+    // Chỉ đẩy tiến độ khi tăng ít nhất bấy nhiêu phần trăm
+    private static final int PUSH_STEP_PERCENT = 10;
+
+    /**
+     * Công việc sinh file: ghi vào out và báo tiến độ.
+     */
+    @FunctionalInterface
+    public interface ExportTask {
+        void run(OutputStream out, ExportProgress progress) throws Exception;
+    }
+
+    private final ExportJobProperties properties;
+    private final NotificationService notificationService;
+    private final ThreadPoolExecutor workers;
+    private final Path directory;
+
+    private final Map<String, ExportJob> jobs = new ConcurrentHashMap<>();
+    private final Map<String, Integer> activeByScope = new ConcurrentHashMap<>();
+
+    public ExportJobService(ExportJobProperties properties, NotificationService notificationService) {
+        this.properties = properties;
+        this.notificationService = notificationService;
+        this.directory = Paths.get(properties.getDirectory()).toAbsolutePath();
+
+        AtomicInteger counter = new AtomicInteger();
+        int threads = Math.max(1, properties.getWorkerThreads());
+        this.workers = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, properties.getQueueCapacity())),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "export-job-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * Job chỉ nằm trong bộ nhớ nên file còn sót từ lần chạy trước không còn ai tải được.
+     */
+    @PostConstruct
+    public void init() throws IOException {
+        Files.createDirectories(directory);
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*.xlsx*")) {
+            for (Path file : files) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    /**
+     * Tạo job và đưa vào hàng đợi.
+     *
+     * @param scope khóa giới hạn đồng thời, vd "shop:12" hoặc "office:3"
+     */
+    public ExportJob submit(Integer ownerUserId, String scope, String fileName, ExportTask task) {
+        acquire(scope);
+
+        String id = UUID.randomUUID().toString();
+        ExportJob job = new ExportJob(id, ownerUserId, scope, fileName, directory.resolve(id + ".xlsx"));
+        jobs.put(id, job);
+
+        try {
+            workers.execute(() -> run(job, task));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(id);
+            release(scope);
+            throw new AppException(ExportJobErrorCode.EXPORT_JOB_QUEUE_FULL);
+        }
+        return job;
+    }
+
+    public ExportJob get(Integer userId, String jobId) {
+        ExportJob job = jobs.get(jobId);
+        if (job == null || !job.getOwnerUserId().equals(userId)) {
+            throw new AppException(ExportJobErrorCode.EXPORT_JOB_NOT_FOUND);
+        }
+        return job;
+    }
+
+    /**
+     * Job đã xong và còn hạn tải.
+     */
+    public ExportJob getDownloadable(Integer userId, String jobId) {
+        ExportJob job = get(userId, jobId);
+        if (job.getStatus() != ExportJobStatus.DONE) {
+            throw new AppException(ExportJobErrorCode.EXPORT_JOB_NOT_READY);
+        }
+        if (!Files.exists(job.getFile())) {
+            throw new AppException(ExportJobErrorCode.EXPORT_JOB_NOT_FOUND);
+        }
+        return job;
+    }
+
+    private void run(ExportJob job, ExportTask task) {
+        job.running();
+        Path partial = job.getFile().resolveSibling(job.getId() + ".xlsx.part");
+
+        try {
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(partial))) {
+                task.run(out, progressOf(job));
+            }
+            Files.move(partial, job.getFile(), StandardCopyOption.REPLACE_EXISTING);
+            job.done(LocalDateTime.now().plusHours(properties.getRetentionHours()));
+
+            notificationService.create(
+                    "Xuất file hoàn tất",
+                    String.format("File %s (%d dòng) đã sẵn sàng để tải.", job.getFileName(), job.getRowsWritten()),
+                    NOTIFICATION_TYPE,
+                    job.getOwnerUserId(),
+                    null,
+                    RELATED_TYPE,
+                    job.getId());
+        } catch (Exception e) {
+            log.error("[Export Job] Job {} failed: {}", job.getId(), e.getMessage(), e);
+            deleteQuietly(partial);
+            job.failed(e.getMessage(), LocalDateTime.now().plusHours(properties.getRetentionHours()));
+
+            notificationService.create(
+                    "Xuất file thất bại",
+                    String.format("Không thể xuất file %s, vui lòng thử lại.", job.getFileName()),
+                    NOTIFICATION_TYPE,
+                    job.getOwnerUserId(),
+                    null,
+                    RELATED_TYPE,
+                    job.getId());
+        } finally {
+            release(job.getScope());
+        }
+    }
+
+    private ExportProgress progressOf(ExportJob job) {
+        int[] lastPushed = {-PUSH_STEP_PERCENT};
+        return new ExportProgress() {
+            @Override
+            public void onTotal(long totalRows) {
+                job.total(totalRows);
+            }
+
+            @Override
+            public void onRows(long rowsWritten) {
+                job.rows(rowsWritten);
+                Integer percent = job.getPercent();
+                if (percent != null && percent - lastPushed[0] >= PUSH_STEP_PERCENT) {
+                    lastPushed[0] = percent;
+                    notificationService.push(
+                            "Đang xuất file",
+                            String.format("%s: %d%%", job.getFileName(), percent),
+                            NOTIFICATION_TYPE,
+                            job.getOwnerUserId(),
+                            RELATED_TYPE,
+                            job.getId());
+                }
+            }
+        };
+    }
+
+    private void acquire(String scope) {
+        boolean[] accepted = {false};
+        activeByScope.compute(scope, (key, active) -> {
+            int current = active != null ? active : 0;
+            if (current >= Math.max(1, properties.getMaxActivePerScope())) {
+                return active;
+            }
+            accepted[0] = true;
+            return current + 1;
+        });
+        if (!accepted[0]) {
+            throw new AppException(ExportJobErrorCode.EXPORT_JOB_LIMIT_REACHED);
+        }
+    }
+
+    private void release(String scope) {
+        activeByScope.computeIfPresent(scope, (key, active) -> active > 1 ? active - 1 : null);
+    }
+
+    @Scheduled(fixedDelay = 15 * 60 * 1000, initialDelay = 15 * 60 * 1000)
+    public void cleanup() {
+        LocalDateTime now = LocalDateTime.now();
+        int removed = 0;
+        for (ExportJob job : jobs.values()) {
+            if (!job.isActive() && job.getExpiresAt() != null && job.getExpiresAt().isBefore(now)) {
+                jobs.remove(job.getId());
+                deleteQuietly(job.getFile());
+                removed++;
+            }
+        }
+        if (removed > 0) {
+            log.info("[Export Job] Cleaned up {} expired jobs", removed);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("[Export Job] Could not delete {}: {}", file, e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+}
@@ -12,6 +12,13 @@ import com.logistics.request.driver.UpdateVehicleTrackingRequest;
 import com.logistics.service.common.NotificationService;
 import com.logistics.service.common.OrderDestinationService;
 import com.logistics.service.common.OrderOriginService;
+import com.logistics.telemetry.GpsPing;
+import com.logistics.telemetry.LiveFleetPositionStore;
+import com.logistics.telemetry.ShipmentAssignmentCache;
+import com.logistics.telemetry.TrajectoryPoint;
+import com.logistics.telemetry.TrajectoryService;
+import com.logistics.telemetry.VehicleTelemetryWriter;
+import com.logistics.utils.GeoUtils;
 import com.logistics.utils.SecurityUtils;
 import jakarta.persistence.criteria.Predicate;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -23,7 +30,7 @@ import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -46,9 +53,6 @@ public class ShipmentDriverService {
     @Autowired
     private VehicleRepository vehicleRepository;
 
-    @Autowired
-    private VehicleTrackingRepository vehicleTrackingRepository;
-
     @Autowired
     private EmployeeRepository employeeRepository;
 
@@ -64,6 +68,18 @@ public class ShipmentDriverService {
     @Autowired
     private OrderOriginService orderOriginService;
 
+    @Autowired
+    private ShipmentAssignmentCache shipmentAssignmentCache;
+
+    @Autowired
+    private VehicleTelemetryWriter vehicleTelemetryWriter;
+
+    @Autowired
+    private LiveFleetPositionStore liveFleetPositionStore;
+
+    @Autowired
+    private TrajectoryService trajectoryService;
+
     private Employee getCurrentEmployee() {
         Integer userId = SecurityUtils.getAuthenticatedUserId();
         List<Employee> employees = employeeRepository.findByUserId(userId);
@@ -569,49 +585,47 @@ public class ShipmentDriverService {
         return data;
     }
 
-    @Transactional
+    /**
+     * Nhận một điểm GPS: chỉ kiểm tra quyền (qua cache), cập nhật vị trí trực tiếp rồi đưa vào bộ đệm
+     * telemetry, việc ghi vehicle_trackings và vị trí xe do {@link VehicleTelemetryWriter} làm theo lô.
+     */
     public void updateVehicleTracking(UpdateVehicleTrackingRequest request) {
-        Employee employee = getCurrentEmployee();
+        if (request.getShipmentId() == null || request.getLatitude() == null || request.getLongitude() == null
+                || !GeoUtils.isValidCoordinate(request.getLatitude(), request.getLongitude())) {
+            throw new AppException(VehicleErrorCode.VEHICLE_TRACKING_INVALID);
+        }
 
-        Shipment shipment = shipmentRepository.findById(request.getShipmentId())
-                .orElseThrow(() -> new AppException(ShipmentErrorCode.SHIPMENT_NOT_FOUND));
+        ShipmentAssignmentCache.Assignment assignment = shipmentAssignmentCache.get(request.getShipmentId());
+        if (assignment == null) {
+            throw new AppException(ShipmentErrorCode.SHIPMENT_NOT_FOUND);
+        }
 
-        if (shipment.getEmployee() == null || !shipment.getEmployee().getId().equals(employee.getId())) {
+        Integer userId = SecurityUtils.getAuthenticatedUserId();
+        if (assignment.driverUserId() == null || !assignment.driverUserId().equals(userId)) {
             throw new AppException(EmployeeErrorCode.EMPLOYEE_PERMISSION_DENIED);
         }
 
-        if (shipment.getVehicle() == null) {
+        if (assignment.vehicleId() == null) {
             throw new AppException(ShipmentErrorCode.SHIPMENT_NOT_FOUND, "Chuyến hàng không có phương tiện");
         }
 
-        // Cập nhật bản ghi tracking gần nhất cho shipment này (nếu có)
-        List<VehicleTracking> existing = vehicleTrackingRepository.findByShipmentIdOrderByRecordedAtDesc(shipment.getId());
-        if (existing != null && !existing.isEmpty()) {
-            VehicleTracking t = existing.get(0);
-            t.setLatitude(BigDecimal.valueOf(request.getLatitude()));
-            t.setLongitude(BigDecimal.valueOf(request.getLongitude()));
-            t.setSpeed(BigDecimal.valueOf(request.getSpeed()));
-            t.setRecordedAt(LocalDateTime.now());
-            vehicleTrackingRepository.save(t);
-        } else {
-            VehicleTracking tracking = new VehicleTracking();
-            tracking.setVehicle(shipment.getVehicle());
-            tracking.setShipment(shipment);
-            tracking.setLatitude(BigDecimal.valueOf(request.getLatitude()));
-            tracking.setLongitude(BigDecimal.valueOf(request.getLongitude()));
-            tracking.setSpeed(BigDecimal.valueOf(request.getSpeed()));
-            tracking.setRecordedAt(LocalDateTime.now());
-            vehicleTrackingRepository.save(tracking);
-        }
-
-        // Cập nhật vị trí hiện tại của xe
-        Vehicle vehicle = shipment.getVehicle();
-        vehicle.setLatitude(BigDecimal.valueOf(request.getLatitude()));
-        vehicle.setLongitude(BigDecimal.valueOf(request.getLongitude()));
-        vehicleRepository.save(vehicle);
+        double speed = request.getSpeed() != null ? Math.max(0, request.getSpeed()) : 0;
+        GpsPing ping = new GpsPing(
+                assignment.vehicleId(),
+                request.getShipmentId(),
+                GeoUtils.toE6(request.getLatitude()),
+                GeoUtils.toE6(request.getLongitude()),
+                (int) Math.round(speed * 100),
+                System.currentTimeMillis());
+        liveFleetPositionStore.update(ping, assignment.officeId());
+        vehicleTelemetryWriter.submit(ping);
     }
 
-    public Map<String, Object> getVehicleTracking(Integer shipmentId) {
+    /**
+     * Lộ trình của chuyến (mới nhất trước) ở độ phân giải yêu cầu, đọc từ lộ trình đã nén hoặc từ
+     * điểm gốc nếu chuyến chưa kết thúc.
+     */
+    public Map<String, Object> getVehicleTracking(Integer shipmentId, Double toleranceMeters, Integer maxPoints) {
         Employee employee = getCurrentEmployee();
 
         Shipment shipment = shipmentRepository.findById(shipmentId)
@@ -621,20 +635,20 @@ public class ShipmentDriverService {
             throw new AppException(EmployeeErrorCode.EMPLOYEE_PERMISSION_DENIED);
         }
 
-        List<VehicleTracking> trackings = vehicleTrackingRepository.findByShipmentIdOrderByRecordedAtDesc(shipmentId);
-
-        List<Map<String, Object>> trackingList = trackings.stream()
-            .map(t -> {
-                Map<String, Object> map = new HashMap<>();
-                map.put("id", t.getId());
-                map.put("latitude", t.getLatitude().doubleValue());
-                map.put("longitude", t.getLongitude().doubleValue());
-                map.put("speed", t.getSpeed().doubleValue());
-                map.put("recordedAt", t.getRecordedAt());
-                return map;
-            })
-            .collect(Collectors.toList());
-
+        List<TrajectoryPoint> path = trajectoryService.getPath(shipment, toleranceMeters, maxPoints);
+
+        List<Map<String, Object>> trackingList = new ArrayList<>(path.size());
+        for (int i = path.size() - 1; i >= 0; i--) {
+            TrajectoryPoint point = path.get(i);
+            Map<String, Object> map = new HashMap<>();
+            // Điểm của lộ trình nén không còn id dòng: dùng thứ tự điểm làm khóa
+            map.put("id", i + 1);
+            map.put("latitude", GeoUtils.fromE6(point.latitudeE6()));
+            map.put("longitude", GeoUtils.fromE6(point.longitudeE6()));
+            map.put("speed", point.speedE2() / 100.0);
+            map.put("recordedAt", new Timestamp(point.recordedAt()).toLocalDateTime());
+            trackingList.add(map);
+        }
 
         Map<String, Object> data = new HashMap<>();
         data.put("trackings", trackingList);
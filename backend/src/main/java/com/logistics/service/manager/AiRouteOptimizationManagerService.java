@@ -15,6 +15,7 @@ import jakarta.persistence.criteria.Predicate;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -389,31 +390,22 @@ public class AiRouteOptimizationManagerService {
             predicates.add(cb.notEqual(root.get("recipientLongitude"), 0));
             return cb.and(predicates.toArray(new Predicate[0]));
         };
-        return orderRepository.findAll(spec);
+        return orderRepository.findAll(spec, Sort.unsorted(), OrderFetchPlan.ROUTE);
     }
 
     private List<AiShipperInputDto> buildAvailableShippers(Office office, int capacity, String startTime) {
         LocalDateTime now = LocalDateTime.now();
         LocalDate today = LocalDate.now();
 
-        List<User> shipperUsers = employeeRepository.findAll().stream()
-                .filter(e -> e.getOffice() != null && Objects.equals(e.getOffice().getId(), office.getId()))
-                .filter(e -> e.getStatus() == EmployeeStatus.ACTIVE)
-                .filter(e -> e.getUser() != null)
-                .filter(e -> e.getAccountRole() != null
-                        && e.getAccountRole().getRole() != null
-                        && "Shipper".equalsIgnoreCase(e.getAccountRole().getRole().getName()))
-                .map(Employee::getUser)
-                .distinct()
-                .toList();
+        // Mỗi user một nhân viên (bản ghi đầu tiên tại bưu cục)
+        Map<Integer, Employee> shipperEmployees = new LinkedHashMap<>();
+        for (Employee e : employeeRepository.findActiveShippersByOfficeId(office.getId())) {
+            shipperEmployees.putIfAbsent(e.getUser().getId(), e);
+        }
 
         List<AiShipperInputDto> result = new ArrayList<>();
-        for (User user : shipperUsers) {
-            List<Employee> emps = employeeRepository.findByUserId(user.getId());
-            Employee employee = emps.stream()
-                    .filter(e -> e.getOffice() != null && Objects.equals(e.getOffice().getId(), office.getId()))
-                    .findFirst().orElse(null);
-            if (employee == null || employee.getStatus() != EmployeeStatus.ACTIVE) continue;
+        for (Employee employee : shipperEmployees.values()) {
+            User user = employee.getUser();
             if (leaveRequestRepository.existsApprovedLeaveOnDate(employee.getId(), today, LeaveRequestStatus.APPROVED)) continue;
 
             ShipperVehicle vehicle = shipperVehicleRepository.findByShipperId(employee.getId())
@@ -6,20 +6,16 @@ import com.logistics.entity.Office;
 import com.logistics.enums.AuditLogAction;
 import com.logistics.enums.AuditLogStatus;
 import com.logistics.enums.EntityType;
-import com.logistics.exception.AppException;
-import com.logistics.exception.enums.CommonErrorCode;
 import com.logistics.mapper.AuditLogMapper;
 import com.logistics.repository.AuditLogRepository;
 import com.logistics.request.manager.audit.AuditLogSearchRequest;
 import com.logistics.response.ListResponse;
 import com.logistics.response.Pagination;
+import com.logistics.service.common.excel.ExcelColumn;
+import com.logistics.service.common.excel.ExcelExporter;
+import com.logistics.service.common.excel.SpecificationScroller;
 import com.logistics.specification.AuditLogSpecification;
 import lombok.RequiredArgsConstructor;
-import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.xssf.usermodel.XSSFCellStyle;
-import org.apache.poi.xssf.usermodel.XSSFColor;
-import org.apache.poi.xssf.usermodel.XSSFFont;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -27,9 +23,8 @@ import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 
-import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.List;
 
 import static com.logistics.utils.AuditLogUtils.translateAuditLogAction;
@@ -41,6 +36,8 @@ import static com.logistics.utils.EntityTypeUtils.translateEntityType;
 public class AuditLogManagerService {
 
     private final AuditLogRepository repository;
+    private final ExcelExporter excelExporter;
+    private final SpecificationScroller specificationScroller;
     private final EmployeeManagerService employeeManagerService;
 
     public ListResponse<ManagerAuditLogDto> list(int userId, AuditLogSearchRequest request) {
@@ -91,8 +88,8 @@ public class AuditLogManagerService {
         return data;
     }
 
-    public byte[] export(Integer userId, AuditLogSearchRequest request) {
-        // 1. Lấy thông tin Office và xây dựng Specification giống hệt hàm list
+    public void export(Integer userId, AuditLogSearchRequest request, OutputStream out) {
+        // Lấy thông tin Office và xây dựng Specification giống hệt hàm list
         Office userOffice = employeeManagerService.getManagedOfficeByUserId(userId);
 
         LocalDateTime startDate = request.getStartDate() != null && !request.getStartDate().isBlank()
@@ -108,61 +105,17 @@ public class AuditLogManagerService {
                 .and(AuditLogSpecification.action(request.getAction()))
                 .and(AuditLogSpecification.createdAtBetween(startDate, endDate));
 
-        // 2. Lấy toàn bộ dữ liệu (không phân trang)
-        List<AuditLog> logs = repository.findAll(spec, Sort.by("createdAt").descending());
-
-        // 3. Tạo file Excel
-        try (Workbook workbook = new XSSFWorkbook()) {
-            Sheet sheet = workbook.createSheet("Audit Logs");
-
-            // Style cho Header
-            XSSFCellStyle headerStyle = (XSSFCellStyle) workbook.createCellStyle();
-            XSSFFont font = (XSSFFont) workbook.createFont();
-            font.setBold(true);
-            font.setColor(new XSSFColor(new byte[]{(byte) 0xFF, (byte) 0xFF, (byte) 0xFF}, null));
-            headerStyle.setFont(font);
-            headerStyle.setAlignment(HorizontalAlignment.CENTER);
-            headerStyle.setFillForegroundColor(
-                    new XSSFColor(new byte[]{(byte) 0x1C, (byte) 0x3D, (byte) 0x90}, null));
-            headerStyle.setFillPattern(FillPatternType.SOLID_FOREGROUND);
-
-            // Định nghĩa Headers khớp với cột trên FE
-            String[] headers = {"Thời gian", "Họ tên NV", "SĐT NV", "Đối tượng", "Mã ĐT", "Hành động", "Mô tả", "Trạng thái"};
-
-            Row headerRow = sheet.createRow(0);
-            for (int i = 0; i < headers.length; i++) {
-                Cell cell = headerRow.createCell(i);
-                cell.setCellValue(headers[i]);
-                cell.setCellStyle(headerStyle);
-            }
-
-            DateTimeFormatter dtf = DateTimeFormatter.ofPattern("HH:mm:ss dd/MM/yyyy");
-
-            // 4. Fill dữ liệu vào các dòng
-            int rowIdx = 1;
-            for (AuditLog log : logs) {
-                Row row = sheet.createRow(rowIdx++);
-
-                row.createCell(0).setCellValue(log.getCreatedAt() != null ? log.getCreatedAt().format(dtf) : "");
-                row.createCell(1).setCellValue(log.getUser() != null ? log.getUser().getFullName() : "");
-                row.createCell(2).setCellValue(log.getUser() != null ? log.getUser().getPhoneNumber() : "");
-                row.createCell(3).setCellValue(translateEntityType(log.getEntity()));
-                row.createCell(4).setCellValue(log.getId() != null ? log.getId().toString() : "");
-                row.createCell(5).setCellValue(translateAuditLogAction(log.getAction()));
-                row.createCell(6).setCellValue(log.getDescription() != null ? log.getDescription() : "");
-                row.createCell(7).setCellValue(translateAuditLogStatus(log.getStatus()));
-            }
-
-            for (int i = 0; i < headers.length; i++) {
-                sheet.autoSizeColumn(i);
-            }
-
-            ByteArrayOutputStream out = new ByteArrayOutputStream();
-            workbook.write(out);
-            return out.toByteArray();
-
-        } catch (Exception e) {
-            throw new AppException(CommonErrorCode.EXPORT_EXCEL_ERROR, e);
-        }
+        excelExporter.write(out, "Audit Logs", EXPORT_COLUMNS,
+                specificationScroller.scroll(AuditLog.class, spec, Sort.by("createdAt").descending(), "user"));
     }
-}
\ No newline at end of file
+
+    private static final List<ExcelColumn<AuditLog>> EXPORT_COLUMNS = List.of(
+            ExcelColumn.of("Thời gian", AuditLog::getCreatedAt),
+            ExcelColumn.of("Họ tên NV", log -> log.getUser() != null ? log.getUser().getFullName() : ""),
+            ExcelColumn.of("SĐT NV", log -> log.getUser() != null ? log.getUser().getPhoneNumber() : ""),
+            ExcelColumn.of("Đối tượng", log -> translateEntityType(log.getEntity())),
+            ExcelColumn.of("Mã ĐT", log -> log.getId() != null ? log.getId().toString() : ""),
+            ExcelColumn.of("Hành động", log -> translateAuditLogAction(log.getAction())),
+            ExcelColumn.of("Mô tả", AuditLog::getDescription),
+            ExcelColumn.of("Trạng thái", log -> translateAuditLogStatus(log.getStatus())));
+}
@@ -1,5 +1,7 @@
 package com.logistics.service.manager;
 
+import com.logistics.cache.DashboardCache;
+import com.logistics.cache.DashboardCache.Scope;
 import com.logistics.dto.manager.dashboard.*;
 import com.logistics.entity.Office;
 import com.logistics.enums.EmployeeShift;
@@ -27,11 +29,15 @@ public class DashboardManagerService {
     private final OrderRepository orderRepository;
 
     private final EmployeeManagerService employeeManagerService;
+    private final DashboardCache dashboardCache;
 
     public ManagerDashboardOverviewResponseDTO getOverview(Integer userId) {
             Office userOffice = employeeManagerService.getManagedOfficeByUserId(userId);
             Integer officeId = userOffice.getId();
+            return dashboardCache.get(Scope.OFFICE, officeId, "overview", () -> loadOverview(officeId));
+    }
 
+    private ManagerDashboardOverviewResponseDTO loadOverview(Integer officeId) {
             List<Object[]> rows = vehicleRepository.countVehiclesByTypeForOffice(officeId);
             Map<VehicleType, Long> vehicleCounts = new EnumMap<>(VehicleType.class);
 
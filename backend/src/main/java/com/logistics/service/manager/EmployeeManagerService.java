@@ -22,6 +22,8 @@ import com.logistics.request.manager.employee.ManagerEmployeeSearchRequest;
 import com.logistics.response.ListResponse;
 import com.logistics.response.Pagination;
 import com.logistics.service.common.NotificationService;
+import com.logistics.service.common.excel.ExcelColumn;
+import com.logistics.service.common.excel.ExcelExporter;
 import com.logistics.service.email.EmailService;
 import com.logistics.specification.AuditLogSpecification;
 import com.logistics.specification.EmployeeSpecification;
@@ -43,6 +45,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
 import java.text.DecimalFormat;
 import java.time.Instant;
 import java.time.LocalDateTime;
@@ -81,6 +84,8 @@ public class EmployeeManagerService {
 
     private final AuditLogRepository auditLogRepository;
 
+    private final ExcelExporter excelExporter;
+
     public Office getManagedOfficeByUserId(Integer userId) {
         List<Employee> employees = employeeRepository.findByUserId(userId);
 
@@ -1059,84 +1064,29 @@ public class EmployeeManagerService {
             return data;
     }
 
-    public byte[] exportPerformance(Integer userId, SearchRequest request) {
+    public void exportPerformance(Integer userId, SearchRequest request, OutputStream out) {
+        // Số liệu tổng hợp sẵn theo từng nhân viên của bưu cục, danh sách nhỏ nên chỉ cần ghi streaming
         List<ManagerEmployeePerformanceDto> datas = getEmployeePerformanceForExport(userId, request);
 
-        try (Workbook workbook = new XSSFWorkbook()) {
-            Sheet sheet = workbook.createSheet("EmployeePerformance");
-
-            // Header style
-            XSSFCellStyle headerStyle = (XSSFCellStyle) workbook.createCellStyle();
-            XSSFFont font = (XSSFFont) workbook.createFont();
-            font.setBold(true);
-            font.setColor(new XSSFColor(new byte[]{(byte) 0xFF, (byte) 0xFF, (byte) 0xFF}, null));
-            headerStyle.setFont(font);
-            headerStyle.setAlignment(HorizontalAlignment.CENTER);
-            headerStyle.setFillForegroundColor(
-                    new XSSFColor(new byte[]{(byte) 0x1C, (byte) 0x3D, (byte) 0x90}, null));
-            headerStyle.setFillPattern(FillPatternType.SOLID_FOREGROUND);
-
-            // Header row
-            Row header = sheet.createRow(0);
-            String[] headers = {"Tên nhân viên", "Mã nhân viên",
-                    "Số điện thoại", "Chức vụ",
-                    "Ca làm việc", "Trạng thái làm việc", "Số chuyến",
-                    "Tổng đơn", "Đơn thành công", "Tỉ lệ giao thành công",
-                    "Thời gian giao TB"};
-            for (int i = 0; i < headers.length; i++) {
-                Cell cell = header.createCell(i);
-                cell.setCellValue(headers[i]);
-                cell.setCellStyle(headerStyle);
-            }
-
-            DecimalFormat df = new DecimalFormat("#,###");
-            df.setGroupingUsed(true);
-            df.setGroupingSize(3);
-
-            int rowIdx = 1;
-            for (ManagerEmployeePerformanceDto data : datas) {
-                Row row = sheet.createRow(rowIdx++);
-
-                row.createCell(0)
-                        .setCellValue(data.getEmployeeName() != null ? data.getEmployeeName() : "");
-                row.createCell(1)
-                        .setCellValue(data.getEmployeeCode() != null ? data.getEmployeeCode() : "");
-                row.createCell(2)
-                        .setCellValue(data.getEmployeePhone() != null ? data.getEmployeePhone() : "");
-                row.createCell(3)
-                        .setCellValue(data.getEmployeeRole() != null ? data.getEmployeeRole() : "");
-
-                // Ca làm việc (string)
-                row.createCell(4)
-                        .setCellValue(translateEmployeeShift(data.getEmployeeShift()));
-                // Trạng thái làm việc
-                row.createCell(5)
-                        .setCellValue(translateEmployeeStatus(data.getEmployeeStatus()));
-
-                row.createCell(6)
-                        .setCellValue(data.getTotalShipments() != null ? df.format(data.getTotalShipments()) : "");
-                row.createCell(7)
-                        .setCellValue(data.getTotalOrders() != null ? df.format(data.getTotalOrders()) : "");
-                row.createCell(8)
-                        .setCellValue(
-                                data.getCompletedOrders() != null ? df.format(data.getCompletedOrders()) : "");
-                row.createCell(9)
-                        .setCellValue(data.getCompletionRate() != null ? data.getCompletionRate() : 0);
-                row.createCell(10)
-                        .setCellValue(
-                                data.getAvgTimePerOrder() != null ? df.format(data.getAvgTimePerOrder()) : "");
-            }
-
-            for (int i = 0; i < headers.length; i++) {
-                sheet.autoSizeColumn(i);
-            }
+        excelExporter.write(out, "EmployeePerformance", PERFORMANCE_EXPORT_COLUMNS, ExcelExporter.RowSource.of(datas));
+    }
 
-            ByteArrayOutputStream out = new ByteArrayOutputStream();
-            workbook.write(out);
-            return out.toByteArray();
-        } catch (Exception e) {
-            throw new AppException(CommonErrorCode.EXPORT_EXCEL_ERROR);
-        }
+    private static final List<ExcelColumn<ManagerEmployeePerformanceDto>> PERFORMANCE_EXPORT_COLUMNS = List.of(
+            ExcelColumn.of("Tên nhân viên", d -> d.getEmployeeName() != null ? d.getEmployeeName() : ""),
+            ExcelColumn.of("Mã nhân viên", d -> d.getEmployeeCode() != null ? d.getEmployeeCode() : ""),
+            ExcelColumn.of("Số điện thoại", d -> d.getEmployeePhone() != null ? d.getEmployeePhone() : ""),
+            ExcelColumn.of("Chức vụ", d -> d.getEmployeeRole() != null ? d.getEmployeeRole() : ""),
+            ExcelColumn.of("Ca làm việc", d -> translateEmployeeShift(d.getEmployeeShift())),
+            ExcelColumn.of("Trạng thái làm việc", d -> translateEmployeeStatus(d.getEmployeeStatus())),
+            ExcelColumn.of("Số chuyến", d -> formatCount(d.getTotalShipments())),
+            ExcelColumn.of("Tổng đơn", d -> formatCount(d.getTotalOrders())),
+            ExcelColumn.of("Đơn thành công", d -> formatCount(d.getCompletedOrders())),
+            ExcelColumn.of("Tỉ lệ giao thành công", d -> d.getCompletionRate() != null ? d.getCompletionRate() : 0),
+            ExcelColumn.of("Thời gian giao TB", d -> formatCount(d.getAvgTimePerOrder()))
+    );
+
+    private static String formatCount(Number value) {
+        return value != null ? new DecimalFormat("#,###").format(value) : "";
     }
 
     public List<ManagerEmployeePerformanceDto> getEmployeePerformanceForExport(
@@ -1,6 +1,8 @@
 package com.logistics.service.manager;
 
+import com.logistics.counter.OrderStatusCounterService;
 import com.logistics.dto.OrderPrintDto;
+import com.logistics.dto.common.FeeQuoteDto;
 import com.logistics.dto.manager.order.ManagerOrderDetailDto;
 import com.logistics.dto.manager.order.ManagerOrderListDto;
 import com.logistics.dto.manager.order.ManagerOrderStatusCountResponse;
@@ -12,6 +14,7 @@ import com.logistics.exception.enums.OrderErrorCode;
 import com.logistics.exception.enums.ServiceTypeErrorCode;
 import com.logistics.mapper.OrderMapper;
 import com.logistics.mapper.OrderPrintMapper;
+import com.logistics.repository.OrderFetchPlan;
 import com.logistics.repository.OrderHistoryRepository;
 import com.logistics.repository.OrderProductRepository;
 import com.logistics.repository.OrderRepository;
@@ -23,24 +26,30 @@ import com.logistics.response.BulkResponse;
 import com.logistics.response.ListResponse;
 import com.logistics.response.Pagination;
 import com.logistics.response.manager.order.UrgentOrderResponse;
+import com.logistics.service.assignment.AutoAssignService;
 import com.logistics.service.common.FeePublicService;
 import com.logistics.service.common.NotificationService;
 import com.logistics.service.common.OrderDestinationService;
+import com.logistics.service.common.TrackingNumberService;
+import com.logistics.service.common.excel.ExcelColumn;
+import com.logistics.service.common.excel.ExcelExporter;
+import com.logistics.service.common.excel.ExportProgress;
+import com.logistics.service.common.excel.SpecificationScroller;
+import com.logistics.service.common.export.ExportJob;
+import com.logistics.service.common.export.ExportJobService;
 import com.logistics.service.user.OrderHistoryUserService;
 import com.logistics.service.user.ProductUserService;
 import com.logistics.service.user.PromotionUserService;
 import com.logistics.service.user.ServiceTypeUserService;
 import com.logistics.specification.OrderSpecification;
 import com.logistics.utils.AddressUtils;
+import com.logistics.utils.KeysetPaginationUtils;
+import com.logistics.utils.KeysetPaginationUtils.KeysetPage;
 import com.logistics.utils.ManagerOrderEditRuleUtils;
 import com.logistics.utils.OrderFieldUtils;
 import com.logistics.utils.OrderUtils;
 import lombok.RequiredArgsConstructor;
-import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.xssf.usermodel.XSSFCellStyle;
-import org.apache.poi.xssf.usermodel.XSSFColor;
-import org.apache.poi.xssf.usermodel.XSSFFont;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -49,10 +58,9 @@ import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
@@ -62,6 +70,7 @@ import java.util.stream.Collectors;
 
 import static com.logistics.utils.OrderUtils.*;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class OrderManagerService {
@@ -90,8 +99,20 @@ public class OrderManagerService {
 
     private final PickupAttemptRepository pickupAttemptRepository;
 
+    private final AutoAssignService autoAssignService;
+
+    private final ExcelExporter excelExporter;
+
+    private final SpecificationScroller specificationScroller;
+
+    private final ExportJobService exportJobService;
+
+    private final OrderStatusCounterService orderStatusCounterService;
+
+    private final TrackingNumberService trackingNumberService;
+
     public ListResponse<ManagerOrderListDto> list(int userId, UserOrderSearchRequest request) {
-        int page = request.getPage();
+        int page = request.getPage() != null ? request.getPage() : 1;
         int limit = request.getLimit();
         String search = request.getSearch();
         String payer = request.getPayer();
@@ -125,6 +146,24 @@ public class OrderManagerService {
                 .and(OrderSpecification.cod(cod))
                 .and(OrderSpecification.createdAtBetween(startDate, endDate));
 
+        if (KeysetPaginationUtils.isCursorMode(request.getCursor(), sort)) {
+            KeysetPage<Order> keysetPage = KeysetPaginationUtils.fetch(
+                    (keyset, keysetSort, max) -> repository.findAll(keyset, keysetSort, max, OrderFetchPlan.LIST),
+                    spec, request.getCursor(),
+                    KeysetPaginationUtils.isDescending(sort), limit, Order::getCreatedAt, Order::getId);
+            // Chỉ lọc theo trạng thái thì tổng lấy từ bộ đếm, khỏi COUNT(*) trên bảng orders
+            boolean statusOnly = isBlank(search) && isBlank(payer) && isBlank(pickupType) && serviceTypeId == null
+                    && isBlank(paymentStatus) && isBlank(cod) && startDate == null && endDate == null;
+            Pagination pagination = KeysetPaginationUtils.pagination(limit, request.getCursor(), keysetPage,
+                    request.getWithTotal(), () -> statusOnly
+                            ? countFromCounters(userOffice.getId(), status)
+                            : repository.count(spec));
+            return new ListResponse<>(keysetPage.items()
+                    .stream()
+                    .map(OrderMapper::toManagerOrderListDto)
+                    .toList(), pagination);
+        }
+
         Sort sortOpt = switch (sort.toLowerCase()) {
             case "newest" -> Sort.by("createdAt")
                     .descending();
@@ -150,7 +189,7 @@ public class OrderManagerService {
         };
 
         Pageable pageable = PageRequest.of(page - 1, limit, sortOpt);
-        Page<Order> pageData = repository.findAll(spec, pageable);
+        Page<Order> pageData = repository.findAll(spec, pageable, OrderFetchPlan.LIST);
 
         List<ManagerOrderListDto> list = pageData.getContent()
                 .stream()
@@ -168,10 +207,18 @@ public class OrderManagerService {
         return data;
     }
 
+    private long countFromCounters(Integer officeId, String status) {
+        return orderStatusCounterService.countByStatus(OrderCounterOwnerType.OFFICE, officeId)
+                .stream()
+                .filter(row -> isBlank(status) || status.equals(row[0]))
+                .mapToLong(row -> (Long) row[1])
+                .sum();
+    }
+
     public List<ManagerOrderStatusCountResponse> getStatusCounts(Integer userId) {
         Office userOffice = employeeManagerService.getManagedOfficeByUserId(userId);
 
-        List<Object[]> raw = repository.countByStatusForOffice(userOffice.getId());
+        List<Object[]> raw = orderStatusCounterService.countByStatus(OrderCounterOwnerType.OFFICE, userOffice.getId());
 
         List<ManagerOrderStatusCountResponse> counts = raw.stream()
                 .map(row -> new ManagerOrderStatusCountResponse(
@@ -217,18 +264,14 @@ public class OrderManagerService {
                 .and(OrderSpecification.serviceTypeId(serviceTypeId))
                 .and(OrderSpecification.paymentStatus(paymentStatus))
                 .and(OrderSpecification.cod(cod))
-                .and(OrderSpecification.createdAtBetween(startDate, endDate));
+                .and(OrderSpecification.createdAtBetween(startDate, endDate))
+                .and(OrderSpecification.hasTrackingNumber());
 
-        List<Order> orders = repository.findAll(spec);
-
-        return orders.stream()
-                .filter(order -> order.getTrackingNumber() != null)
-                .map(Order::getId)
-                .toList();
+        return repository.findIds(spec, Sort.by("createdAt").descending());
     }
 
     public ManagerOrderDetailDto getOrderByTrackingNumber(int userId, String trackingNumber) {
-        Order order = repository.findByTrackingNumber(trackingNumber)
+        Order order = repository.findDetailByTrackingNumber(trackingNumber)
                 .orElseThrow(() -> new AppException(OrderErrorCode.ORDER_NOT_FOUND));
 
         Office userOffice = employeeManagerService.getManagedOfficeByUserId(userId);
@@ -238,7 +281,7 @@ public class OrderManagerService {
         List<OrderHistory> orderHistories = orderHistoryRepository
                 .findByOrderIdOrderByActionTimeDesc(order.getId());
 
-        List<OrderProduct> orderProducts = orderProductRepository.findByOrderId(order.getId());
+        List<OrderProduct> orderProducts = orderProductRepository.findByOrderIdWithProduct(order.getId());
         var pickupAttempts = pickupAttemptRepository.findByOrderIdOrderByAttemptedAtDesc(order.getId());
 
         return OrderMapper.toManagerOrderDetailDto(order, orderHistories, orderProducts, pickupAttempts);
@@ -248,7 +291,7 @@ public class OrderManagerService {
     public List<OrderPrintDto> getOrdersForPrint(
             Integer userId,
             List<Integer> orderIds) {
-            List<Order> orders = repository.findByIdIn(orderIds);
+            List<Order> orders = repository.findPrintByIdIn(orderIds);
 
             if (orders.isEmpty()) {
                 throw new AppException(OrderErrorCode.ORDERS_NOT_FOUND_TO_PRINT);
@@ -369,14 +412,17 @@ public class OrderManagerService {
             Office userOffice = employeeManagerService.getManagedOfficeByUserId(userId);
 
             Integer totalFee = 0;
+            Integer shippingFee = null;
             if (userOffice.getCityCode() != null) {
-                totalFee = feeService.calculateTotalFeeManager(
+                FeeQuoteDto feeQuote = feeService.quoteManager(
                         request.getWeight(),
                         request.getServiceTypeId(),
                         userOffice.getCityCode(),
                         request.getRecipientCityCode(),
                         request.getOrderValue(),
                         0);
+                totalFee = feeQuote.getTotalFee();
+                shippingFee = feeQuote.getShippingFee();
             }
 
             Employee currentEmployee = userOffice.getManager();
@@ -384,11 +430,13 @@ public class OrderManagerService {
             ServiceType serviceType = serviceTypeUserService.findById(request.getServiceTypeId())
                     .orElseThrow(() -> new AppException(ServiceTypeErrorCode.SERVICE_TYPE_NOT_FOUND));
 
-            Integer shippingFee = feeService.calculateShippingFee(
-                    request.getWeight(),
-                    request.getServiceTypeId(),
-                    userOffice.getCityCode(),
-                    request.getRecipientCityCode());
+            if (shippingFee == null) {
+                shippingFee = feeService.calculateShippingFee(
+                        request.getWeight(),
+                        request.getServiceTypeId(),
+                        userOffice.getCityCode(),
+                        request.getRecipientCityCode());
+            }
 
             Order order = new Order();
             order.setStatus(OrderStatus.AT_ORIGIN_OFFICE);
@@ -693,15 +741,7 @@ public class OrderManagerService {
 
                 if (oldWeight == null || oldWeight.compareTo(request.getWeight()) != 0) {
 
-                    int calcShippingFee = feeService.calculateShippingFee(
-                            request.getWeight(),
-                            order.getServiceType()
-                                    .getId(),
-                            order.getSenderCityCode(),
-                            order.getRecipientCityCode());
-                    order.setShippingFee(calcShippingFee);
-
-                    int calcServiceFee = feeService.calculateTotalFee(
+                    FeeQuoteDto feeQuote = feeService.quote(
                             request.getWeight(),
                             order.getServiceType()
                                     .getId(),
@@ -710,6 +750,11 @@ public class OrderManagerService {
                             order.getOrderValue(),
                             order.getCod());
 
+                    int calcShippingFee = feeQuote.getShippingFee();
+                    order.setShippingFee(calcShippingFee);
+
+                    int calcServiceFee = feeQuote.getTotalFee();
+
                     int discountAmount = 0;
 
                     if (order.getPromotion() != null) {
@@ -752,7 +797,20 @@ public class OrderManagerService {
             repository.save(order);
     }
 
-    public byte[] export(Integer userId, UserOrderSearchRequest request) {
+    /**
+     * Xuất đơn hàng chạy nền, giới hạn số job đồng thời theo bưu cục.
+     */
+    public ExportJob submitExportJob(Integer userId, UserOrderSearchRequest request) {
+        String scope = "office:" + employeeManagerService.getManagedOfficeByUserId(userId).getId();
+        return exportJobService.submit(userId, scope, "UTE Logistics_Báo cáo đơn hàng bưu cục.xlsx",
+                (out, progress) -> export(userId, request, out, progress));
+    }
+
+    public void export(Integer userId, UserOrderSearchRequest request, OutputStream out) {
+        export(userId, request, out, ExportProgress.NONE);
+    }
+
+    public void export(Integer userId, UserOrderSearchRequest request, OutputStream out, ExportProgress progress) {
         String search = request.getSearch();
         String payer = request.getPayer();
         String status = request.getStatus();
@@ -795,108 +853,56 @@ public class OrderManagerService {
             default -> Sort.by("createdAt").descending();
         } : Sort.by("createdAt").descending();
 
-        List<Order> orders = repository.findAll(spec, sortOpt);
-
-        try (Workbook workbook = new XSSFWorkbook()) {
-            Sheet sheet = workbook.createSheet("Orders");
-
-            XSSFCellStyle headerStyle = (XSSFCellStyle) workbook.createCellStyle();
-            XSSFFont font = (XSSFFont) workbook.createFont();
-            font.setBold(true);
-            font.setColor(new XSSFColor(new byte[]{(byte) 0xFF, (byte) 0xFF, (byte) 0xFF}, null));
-            headerStyle.setFont(font);
-            headerStyle.setAlignment(HorizontalAlignment.CENTER);
-            headerStyle.setFillForegroundColor(
-                    new XSSFColor(new byte[]{(byte) 0x1C, (byte) 0x3D, (byte) 0x90}, null));
-            headerStyle.setFillPattern(FillPatternType.SOLID_FOREGROUND);
-
-            String[] headers = {
-                    "Mã đơn",
-                    "Trạng thái",
-                    "Tên người gửi", "SĐT người gửi", "Địa chỉ người gửi",
-                    "Tên người nhận", "SĐT người nhận", "Địa chỉ người nhận",
-                    "Giá trị đơn", "COD (chưa phí)", "Phí dịch vụ",
-                    "Hình thức lấy hàng", "Dịch vụ giao hàng",
-                    "Người thanh toán", "Trạng thái thanh toán",
-                    "Khối lượng (Kg)", "Khối lượng điều chỉnh (Kg)",
-                    "Người tạo đơn", "Mã nhân viên / người dùng",
-                    "Thời gian tạo đơn", "Thời gian giao hàng", "Thời gian thanh toán"
-            };
-
-            Row header = sheet.createRow(0);
-            for (int i = 0; i < headers.length; i++) {
-                Cell cell = header.createCell(i);
-                cell.setCellValue(headers[i]);
-                cell.setCellStyle(headerStyle);
-            }
-
-            DateTimeFormatter dtf = DateTimeFormatter.ofPattern("HH:mm:ss dd/MM/yyyy");
-
-            int rowIdx = 1;
-            for (Order o : orders) {
-                Row row = sheet.createRow(rowIdx++);
-
-                row.createCell(0).setCellValue(o.getTrackingNumber() != null ? o.getTrackingNumber() : "Chưa có mã");
-                row.createCell(1).setCellValue(OrderUtils.translateOrderStatus(o.getStatus()));
-
-                // Người gửi
-                row.createCell(2).setCellValue(o.getSenderName() != null ? o.getSenderName() : "");
-                row.createCell(3).setCellValue(o.getSenderPhone() != null ? o.getSenderPhone() : "");
-                row.createCell(4).setCellValue(o.getSenderFullAddress() != null ? o.getSenderFullAddress() : "");
-
-                // Người nhận
-                row.createCell(5).setCellValue(o.getRecipientName() != null ? o.getRecipientName() : "");
-                row.createCell(6).setCellValue(o.getRecipientPhone() != null ? o.getRecipientPhone() : "");
-                row.createCell(7).setCellValue(o.getRecipientFullAddress() != null ? o.getRecipientFullAddress() : "");
-
-                // Tiền
-                row.createCell(8).setCellValue(o.getOrderValue() != null ? o.getOrderValue().doubleValue() : 0);
-                row.createCell(9).setCellValue(o.getCod() != null ? o.getCod().doubleValue() : 0);
-                row.createCell(10).setCellValue(o.getTotalFee() != null ? o.getTotalFee().doubleValue() : 0);
-
-                // Giao hàng
-                row.createCell(11).setCellValue(translateOrderPickupType(o.getPickupType()));
-                row.createCell(12).setCellValue(
-                        o.getServiceType() != null && o.getServiceType().getName() != null
-                                ? o.getServiceType().getName()
-                                : "");
-
-                // Thanh toán
-                row.createCell(13).setCellValue(translateOrderPayerType(o.getPayer()));
-                row.createCell(14).setCellValue(translateOrderPaymentStatus(o.getPaymentStatus()));
-
-                // Khối lượng
-                row.createCell(15).setCellValue(o.getWeight() != null ? o.getWeight().doubleValue() : 0);
-                row.createCell(16).setCellValue(o.getAdjustedWeight() != null ? o.getAdjustedWeight().doubleValue() : 0);
-
-                // Người tạo
-                row.createCell(17).setCellValue(translateOrderCreatorType(o.getCreatedByType()));
-                String creatorCode = (
-                        o.getEmployee() != null && o.getEmployee().getCode() != null && o.getCreatedByType() != null
-                                && !OrderCreatorType.USER.equals(o.getCreatedByType()))
-                        ? o.getEmployee().getCode()
-                        : (o.getUser().getCode() != null ? o.getUser().getCode() : "");
-                row.createCell(18).setCellValue(creatorCode);
-
-                // Thời gian
-                row.createCell(19).setCellValue(o.getCreatedAt() != null ? o.getCreatedAt().format(dtf) : "");
-                row.createCell(20).setCellValue(o.getDeliveredAt() != null ? o.getDeliveredAt().format(dtf) : "N/A");
-                row.createCell(21).setCellValue(o.getPaidAt() != null ? o.getPaidAt().format(dtf) : "N/A");
-            }
-
-            for (int i = 0; i < headers.length; i++) {
-                sheet.autoSizeColumn(i);
-            }
-
-            ByteArrayOutputStream out = new ByteArrayOutputStream();
-            workbook.write(out);
-            return out.toByteArray();
-
-        } catch (Exception e) {
-            throw new AppException(CommonErrorCode.EXPORT_EXCEL_ERROR);
-        }
+        excelExporter.write(out, "Orders", EXPORT_COLUMNS,
+                specificationScroller.scroll(Order.class, spec, sortOpt, progress, "serviceType", "employee", "user"), progress);
     }
 
+    private static final List<ExcelColumn<Order>> EXPORT_COLUMNS = List.of(
+            ExcelColumn.of("Mã đơn", o -> o.getTrackingNumber() != null ? o.getTrackingNumber() : "Chưa có mã"),
+            ExcelColumn.of("Trạng thái", o -> OrderUtils.translateOrderStatus(o.getStatus())),
+
+            // Người gửi
+            ExcelColumn.of("Tên người gửi", o -> o.getSenderName() != null ? o.getSenderName() : ""),
+            ExcelColumn.of("SĐT người gửi", o -> o.getSenderPhone() != null ? o.getSenderPhone() : ""),
+            ExcelColumn.of("Địa chỉ người gửi", o -> o.getSenderFullAddress() != null ? o.getSenderFullAddress() : ""),
+
+            // Người nhận
+            ExcelColumn.of("Tên người nhận", o -> o.getRecipientName() != null ? o.getRecipientName() : ""),
+            ExcelColumn.of("SĐT người nhận", o -> o.getRecipientPhone() != null ? o.getRecipientPhone() : ""),
+            ExcelColumn.of("Địa chỉ người nhận", o -> o.getRecipientFullAddress() != null ? o.getRecipientFullAddress() : ""),
+
+            // Tiền
+            ExcelColumn.of("Giá trị đơn", o -> o.getOrderValue() != null ? o.getOrderValue() : 0),
+            ExcelColumn.of("COD (chưa phí)", o -> o.getCod() != null ? o.getCod() : 0),
+            ExcelColumn.of("Phí dịch vụ", o -> o.getTotalFee() != null ? o.getTotalFee() : 0),
+
+            // Giao hàng
+            ExcelColumn.of("Hình thức lấy hàng", o -> translateOrderPickupType(o.getPickupType())),
+            ExcelColumn.of("Dịch vụ giao hàng", o -> o.getServiceType() != null && o.getServiceType().getName() != null
+                    ? o.getServiceType().getName() : ""),
+
+            // Thanh toán
+            ExcelColumn.of("Người thanh toán", o -> translateOrderPayerType(o.getPayer())),
+            ExcelColumn.of("Trạng thái thanh toán", o -> translateOrderPaymentStatus(o.getPaymentStatus())),
+
+            // Khối lượng
+            ExcelColumn.of("Khối lượng (Kg)", o -> o.getWeight() != null ? o.getWeight() : 0),
+            ExcelColumn.of("Khối lượng điều chỉnh (Kg)", o -> o.getAdjustedWeight() != null ? o.getAdjustedWeight() : 0),
+
+            // Người tạo
+            ExcelColumn.of("Người tạo đơn", o -> translateOrderCreatorType(o.getCreatedByType())),
+            ExcelColumn.of("Mã nhân viên / người dùng", o ->
+                    o.getEmployee() != null && o.getEmployee().getCode() != null && o.getCreatedByType() != null
+                            && !OrderCreatorType.USER.equals(o.getCreatedByType())
+                            ? o.getEmployee().getCode()
+                            : (o.getUser().getCode() != null ? o.getUser().getCode() : "")),
+
+            // Thời gian
+            ExcelColumn.of("Thời gian tạo đơn", o -> o.getCreatedAt()),
+            ExcelColumn.of("Thời gian giao hàng", o -> o.getDeliveredAt() != null ? o.getDeliveredAt() : "N/A"),
+            ExcelColumn.of("Thời gian thanh toán", o -> o.getPaidAt() != null ? o.getPaidAt() : "N/A")
+    );
+
     public BulkResponse<String> confirmUrgentOrders(Integer userId, List<Integer> orderIds) {
         List<BulkResponse.BulkResult<String>> results = new ArrayList<>();
         int totalSuccess = 0, totalFailed = 0;
@@ -1092,32 +1098,11 @@ public class OrderManagerService {
         return s == null || s.isBlank();
     }
 
-    private String generateTrackingNumber() {
-        String prefix = "UTE";
-
-        String date = java.time.LocalDate.now()
-                .format(java.time.format.DateTimeFormatter.ofPattern("yyMMdd"));
-
-        String random = java.util.UUID.randomUUID()
-                .toString()
-                .replace("-", "")
-                .substring(0, 6)
-                .toUpperCase();
-
-        return prefix + date + random;
-    }
-
     private String generateUniqueTrackingNumber(OrderStatus status) {
         if (status == OrderStatus.DRAFT)
             return null;
 
-        String tracking;
-
-        do {
-            tracking = generateTrackingNumber();
-        } while (repository.existsByTrackingNumber(tracking));
-
-        return tracking;
+        return trackingNumberService.next();
     }
 
     public boolean setOrderAtOriginOffice(Integer userId, Integer orderId) {
@@ -1207,6 +1192,7 @@ public class OrderManagerService {
         int totalImported = 0, totalFailed = 0;
 
         Set<Integer> processed = new HashSet<>();
+        List<Integer> confirmedIds = new ArrayList<>();
 
         try {
             Office userOffice = employeeManagerService.getManagedOfficeByUserId(userId);
@@ -1245,11 +1231,22 @@ public class OrderManagerService {
 
                 if (result.isSuccess()) {
                     totalImported++;
+                    confirmedIds.add(orderId);
                 } else {
                     totalFailed++;
                 }
             }
 
+            // Phân công shipper cho các đơn vừa xác nhận trong một lượt thay vì từng đơn
+            if (confirmed && !confirmedIds.isEmpty()) {
+                try {
+                    autoAssignService.autoAssignBacklog(userOffice.getId(), confirmedIds);
+                } catch (Exception e) {
+                    log.error("Auto-assign failed for {} orders at office {}", confirmedIds.size(),
+                            userOffice.getId(), e);
+                }
+            }
+
             return new BulkResponse<>(
                     totalFailed == 0,
                     totalFailed == 0 ? "Tất cả đơn hàng đã được xác nhận" : "Một số đơn hàng không hợp lệ",
@@ -1433,7 +1430,7 @@ public class OrderManagerService {
     }
 
     @Transactional(readOnly = true)
-    public byte[] exportUrgent(Integer userId, UserUrgentOrderSearchRequest request) {
+    public void exportUrgent(Integer userId, UserUrgentOrderSearchRequest request, OutputStream out) {
         // 1. Lấy thông tin office quản lý
         Office office = employeeManagerService.getManagedOfficeByUserId(userId);
 
@@ -1451,50 +1448,15 @@ public class OrderManagerService {
                 endDate
         );
 
-        try (Workbook workbook = new XSSFWorkbook()) {
-            Sheet sheet = workbook.createSheet("UrgentOrders");
-
-            XSSFCellStyle headerStyle = (XSSFCellStyle) workbook.createCellStyle();
-            XSSFFont font = (XSSFFont) workbook.createFont();
-            font.setBold(true);
-            font.setColor(new XSSFColor(new byte[]{(byte) 0xFF, (byte) 0xFF, (byte) 0xFF}, null));
-            headerStyle.setFont(font);
-            headerStyle.setAlignment(HorizontalAlignment.CENTER);
-            headerStyle.setFillForegroundColor(
-                    new XSSFColor(new byte[]{(byte) 0x1C, (byte) 0x3D, (byte) 0x90}, null));
-            headerStyle.setFillPattern(FillPatternType.SOLID_FOREGROUND);
-
-            String[] headers = {
-                    "Mã đơn", "Địa chỉ lấy hàng", "Thời gian sẵn sàng"
-            };
-
-            Row header = sheet.createRow(0);
-            for (int i = 0; i < headers.length; i++) {
-                Cell cell = header.createCell(i);
-                cell.setCellValue(headers[i]);
-                cell.setCellStyle(headerStyle);
-            }
-
-            DateTimeFormatter dtf = DateTimeFormatter.ofPattern("HH:mm:ss dd/MM/yyyy");
-            int rowIdx = 1;
-            for (Order o : orders) {
-                Row row = sheet.createRow(rowIdx++);
-                row.createCell(0).setCellValue(o.getTrackingNumber() != null ? o.getTrackingNumber() : "N/A");
-                row.createCell(1).setCellValue(o.getSenderFullAddress() != null ? o.getSenderFullAddress() : "");
-                row.createCell(2).setCellValue(o.getReadyForPickupAt() != null ? o.getReadyForPickupAt().format(dtf) : "");
-            }
-
-            for (int i = 0; i < headers.length; i++) sheet.autoSizeColumn(i);
-
-            ByteArrayOutputStream out = new ByteArrayOutputStream();
-            workbook.write(out);
-            return out.toByteArray();
-
-        } catch (Exception e) {
-            throw new AppException(CommonErrorCode.EXPORT_EXCEL_ERROR);
-        }
+        excelExporter.write(out, "UrgentOrders", URGENT_EXPORT_COLUMNS, ExcelExporter.RowSource.of(orders));
     }
 
+    private static final List<ExcelColumn<Order>> URGENT_EXPORT_COLUMNS = List.of(
+            ExcelColumn.of("Mã đơn", o -> o.getTrackingNumber() != null ? o.getTrackingNumber() : "N/A"),
+            ExcelColumn.of("Địa chỉ lấy hàng", o -> o.getSenderFullAddress() != null ? o.getSenderFullAddress() : ""),
+            ExcelColumn.of("Thời gian sẵn sàng", o -> o.getReadyForPickupAt())
+    );
+
     public void confirmUrgentOrder(Integer userId, Integer orderId) {
         Order order = getOrderById(orderId);
 
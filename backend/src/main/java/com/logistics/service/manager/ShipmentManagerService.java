@@ -2,6 +2,7 @@ package com.logistics.service.manager;
 
 import com.logistics.dto.manager.shipment.ManagerShipmentDetailDto;
 import com.logistics.dto.manager.shipment.ManagerShipmentListDto;
+import com.logistics.dto.manager.shipment.ManagerShipmentPathDto;
 import com.logistics.dto.manager.shipment.ManagerShipmentPerformanceDto;
 import com.logistics.entity.*;
 import com.logistics.enums.*;
@@ -18,7 +19,14 @@ import com.logistics.response.ListResponse;
 import com.logistics.response.Pagination;
 import com.logistics.response.manager.GetOrdersByShipmentIdManagerResponse;
 import com.logistics.service.common.NotificationService;
+import com.logistics.service.common.excel.ExcelColumn;
+import com.logistics.service.common.excel.ExcelExporter;
+import com.logistics.service.common.excel.SpecificationScroller;
 import com.logistics.specification.ShipmentSpecification;
+import com.logistics.telemetry.ShipmentAssignmentCache;
+import com.logistics.telemetry.TrajectoryService;
+import com.logistics.utils.KeysetPaginationUtils;
+import com.logistics.utils.KeysetPaginationUtils.KeysetPage;
 import com.logistics.utils.ShipmentUtils;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.transaction.Transactional;
@@ -38,12 +46,14 @@ import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 
+import java.io.OutputStream;
 import java.math.BigDecimal;
 import java.text.DecimalFormat;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 import static com.logistics.utils.OrderUtils.*;
 import static com.logistics.utils.ShipmentUtils.translateShipmentStatus;
@@ -63,10 +73,14 @@ public class ShipmentManagerService {
     private final ShipperAssignmentRepository shipperAssignmentRepository;
     private final EmployeeManagerService employeeManagerService;
     private final NotificationService notificationService;
+    private final TrajectoryService trajectoryService;
+    private final ExcelExporter excelExporter;
+    private final SpecificationScroller specificationScroller;
+    private final ShipmentAssignmentCache shipmentAssignmentCache;
 
     public ListResponse<ManagerShipmentListDto> list(int userId,
                                                      ManagerShipmentSearchRequest request) {
-        int page = request.getPage();
+        int page = request.getPage() != null ? request.getPage() : 1;
         int limit = request.getLimit();
         String search = request.getSearch();
         String status = request.getStatus();
@@ -93,6 +107,17 @@ public class ShipmentManagerService {
                 .and(ShipmentSpecification.type(type))
                 .and(ShipmentSpecification.createdAtBetween(startDate, endDate));
 
+        if (KeysetPaginationUtils.isCursorMode(request.getCursor(), sort)) {
+            KeysetPage<Shipment> keysetPage = KeysetPaginationUtils.fetch(repository, spec, request.getCursor(),
+                    KeysetPaginationUtils.isDescending(sort), limit, Shipment::getCreatedAt, Shipment::getId);
+            Pagination pagination = KeysetPaginationUtils.pagination(limit, request.getCursor(), keysetPage,
+                    request.getWithTotal(), () -> repository.count(spec));
+            return new ListResponse<>(keysetPage.items()
+                    .stream()
+                    .map(ShipmentMapper::toManagerShipmentListDto)
+                    .toList(), pagination);
+        }
+
         Sort sortOpt = switch (sort.toLowerCase()) {
             case "newest" -> Sort.by("createdAt").descending();
             case "oldest" -> Sort.by("createdAt").ascending();
@@ -186,6 +211,26 @@ public class ShipmentManagerService {
                 .toList();
     }
 
+    /**
+     * Lộ trình của chuyến thuộc bưu cục ở độ phân giải yêu cầu (xem TrajectoryService.getPath).
+     */
+    public ManagerShipmentPathDto getPath(int userId, int shipmentId, Double toleranceMeters, Integer maxPoints) {
+        Office userOffice = employeeManagerService.getManagedOfficeByUserId(userId);
+
+        Shipment shipment = repository.findById(shipmentId)
+                .filter(s -> {
+                    boolean isFromOffice = s.getFromOffice() != null && s.getFromOffice().getId().equals(userOffice.getId());
+                    boolean isToOffice = s.getToOffice() != null && s.getToOffice().getId().equals(userOffice.getId());
+                    return isFromOffice || isToOffice;
+                })
+                .orElseThrow(() -> new AppException(ShipmentErrorCode.SHIPMENT_NOT_FOUND));
+
+        List<long[]> points = trajectoryService.getPath(shipment, toleranceMeters, maxPoints).stream()
+                .map(p -> new long[]{p.recordedAt(), p.latitudeE6(), p.longitudeE6(), p.speedE2()})
+                .toList();
+        return new ManagerShipmentPathDto(shipment.getId(), points);
+    }
+
     public void cancelShipment(Integer userId, Integer shipmentId) {
         Shipment shipment = repository.findById(shipmentId)
                 .orElseThrow(() -> new AppException(ShipmentErrorCode.SHIPMENT_NOT_FOUND));
@@ -378,6 +423,10 @@ public class ShipmentManagerService {
 
         shipment.setType(type);
 
+        // Tài xế / xe cũ: đổi thì kiểm tra quyền gửi GPS phải đọc lại chuyến
+        Integer previousVehicleId = shipment.getVehicle() != null ? shipment.getVehicle().getId() : null;
+        Integer previousEmployeeId = shipment.getEmployee() != null ? shipment.getEmployee().getId() : null;
+
         // Xử lý Vehicle
         Vehicle vehicle = null;
         if (request.getVehicleId() != null) {
@@ -417,6 +466,11 @@ public class ShipmentManagerService {
         }
         shipment.setEmployee(employee);
 
+        if (!Objects.equals(previousVehicleId, vehicle != null ? vehicle.getId() : null)
+                || !Objects.equals(previousEmployeeId, employee != null ? employee.getId() : null)) {
+            shipmentAssignmentCache.evictAfterCommit(shipmentId);
+        }
+
         // Xử lý bưu cục đích
         Office toOffice = null;
         if (request.getToOfficeId() != null) {
@@ -776,7 +830,7 @@ public class ShipmentManagerService {
         }).toList();
     }
 
-    public byte[] export(int userId, ManagerShipmentSearchRequest request) {
+    public void export(int userId, ManagerShipmentSearchRequest request, OutputStream out) {
         String search = request.getSearch();
         String status = request.getStatus();
         String type = request.getType();
@@ -806,133 +860,67 @@ public class ShipmentManagerService {
             default -> Sort.by("createdAt").descending();
         } : Sort.by("createdAt").descending();
 
-        List<Shipment> shipments = repository.findAll(spec, sortOpt);
-
-        try (Workbook workbook = new XSSFWorkbook()) {
-            Sheet sheet = workbook.createSheet("Shipments");
-
-            XSSFCellStyle headerStyle = (XSSFCellStyle) workbook.createCellStyle();
-            XSSFFont font = (XSSFFont) workbook.createFont();
-            font.setBold(true);
-            font.setColor(new XSSFColor(new byte[]{(byte) 0xFF, (byte) 0xFF, (byte) 0xFF}, null));
-            headerStyle.setFont(font);
-            headerStyle.setAlignment(HorizontalAlignment.CENTER);
-            headerStyle.setFillForegroundColor(
-                    new XSSFColor(new byte[]{(byte) 0x1C, (byte) 0x3D, (byte) 0x90}, null));
-            headerStyle.setFillPattern(FillPatternType.SOLID_FOREGROUND);
-
-            String[] headers = {
-                    "Mã chuyến",
-                    "Loại chuyến",
-                    "Trạng thái",
-                    "Biển số xe", "Tải trọng (Kg)",
-                    "Bưu cục đến", "Mã bưu cục đến",
-                    "Nhân viên phụ trách", "Mã NV phụ trách", "SĐT NV phụ trách", "Email NV phụ trách",
-                    "Nhân viên tạo chuyến", "Mã NV tạo", "SĐT NV tạo", "Email NV tạo",
-                    "Thời gian bắt đầu",
-                    "Thời gian kết thúc",
-                    "Thời gian tạo",
-                    "Thời gian cập nhật"
-            };
-
-            Row header = sheet.createRow(0);
-            for (int i = 0; i < headers.length; i++) {
-                Cell cell = header.createCell(i);
-                cell.setCellValue(headers[i]);
-                cell.setCellStyle(headerStyle);
-            }
-
-            DateTimeFormatter dtf = DateTimeFormatter.ofPattern("HH:mm:ss dd/MM/yyyy");
-
-            int rowIdx = 1;
-            for (Shipment s : shipments) {
-                Row row = sheet.createRow(rowIdx++);
-
-                row.createCell(0).setCellValue(s.getCode() != null ? s.getCode() : "");
-                row.createCell(1).setCellValue(translateShipmentType(s.getType()));
-                row.createCell(2).setCellValue(translateShipmentStatus(s.getStatus()));
-
-                // Phương tiện
-                row.createCell(3).setCellValue(s.getVehicle() != null ? s.getVehicle().getLicensePlate() : "N/A");
-                row.createCell(4).setCellValue(s.getVehicle() != null && s.getVehicle().getCapacity() != null
-                        ? s.getVehicle().getCapacity().doubleValue() : 0);
-
-                // Bưu cục đến
-                row.createCell(5).setCellValue(s.getToOffice() != null ? s.getToOffice().getName() : "N/A");
-                row.createCell(6).setCellValue(s.getToOffice() != null && s.getToOffice().getPostalCode() != null
-                        ? s.getToOffice().getPostalCode() : "N/A");
-
-                // Nhân viên phụ trách
-                if (s.getEmployee() != null) {
-                    if (s.getEmployee().getUser() != null) {
-                        String lastName = s.getEmployee().getUser().getLastName() != null ? s.getEmployee().getUser().getLastName() : "";
-                        String firstName = s.getEmployee().getUser().getFirstName() != null ? s.getEmployee().getUser().getFirstName() : "";
-                        row.createCell(7).setCellValue((lastName + " " + firstName).trim());
-
-                        row.createCell(9).setCellValue(s.getEmployee().getUser().getPhoneNumber() != null ? s.getEmployee().getUser().getPhoneNumber() : "");
-
-                        if (s.getEmployee().getUser().getAccount() != null) {
-                            row.createCell(10).setCellValue(s.getEmployee().getUser().getAccount().getEmail() != null ? s.getEmployee().getUser().getAccount().getEmail() : "");
-                        } else {
-                            row.createCell(10).setCellValue("");
-                        }
-                    } else {
-                        row.createCell(7).setCellValue("N/A");
-                        row.createCell(9).setCellValue("");
-                        row.createCell(10).setCellValue(""); // Thêm để đồng bộ
-                    }
-                    row.createCell(8).setCellValue(s.getEmployee().getCode() != null ? s.getEmployee().getCode() : "");
-                } else {
-                    row.createCell(7).setCellValue("N/A");
-                    row.createCell(8).setCellValue("");
-                    row.createCell(9).setCellValue("");
-                    row.createCell(10).setCellValue("");
-                }
-
-                // Nhân viên tạo chuyến
-                if (s.getCreatedBy() != null) {
-                    if (s.getCreatedBy().getUser() != null) {
-                        String lastName = s.getCreatedBy().getUser().getLastName() != null ? s.getCreatedBy().getUser().getLastName() : "";
-                        String firstName = s.getCreatedBy().getUser().getFirstName() != null ? s.getCreatedBy().getUser().getFirstName() : "";
-                        row.createCell(11).setCellValue((lastName + " " + firstName).trim());
-                        row.createCell(13).setCellValue(s.getCreatedBy().getUser().getPhoneNumber() != null ? s.getCreatedBy().getUser().getPhoneNumber() : "");
-
-                        if (s.getCreatedBy().getUser().getAccount() != null) {
-                            row.createCell(14).setCellValue(s.getCreatedBy().getUser().getAccount().getEmail() != null ? s.getCreatedBy().getUser().getAccount().getEmail() : "");
-                        } else {
-                            row.createCell(14).setCellValue("");
-                        }
-                    } else {
-                        row.createCell(11).setCellValue("N/A");
-                        row.createCell(13).setCellValue("");
-                        row.createCell(14).setCellValue("");
-                    }
-                    row.createCell(12).setCellValue(s.getCreatedBy().getCode() != null ? s.getCreatedBy().getCode() : "");
-                } else {
-                    row.createCell(11).setCellValue("N/A");
-                    row.createCell(12).setCellValue("");
-                    row.createCell(13).setCellValue("");
-                    row.createCell(14).setCellValue("");
-                }
+        excelExporter.write(out, "Shipments", EXPORT_COLUMNS,
+                specificationScroller.scroll(Shipment.class, spec, sortOpt,
+                        "vehicle", "toOffice", "employee.user.account", "createdBy.user.account"));
+    }
 
-                // Thời gian
-                row.createCell(15).setCellValue(s.getStartTime() != null ? s.getStartTime().format(dtf) : "N/A");
-                row.createCell(16).setCellValue(s.getEndTime() != null ? s.getEndTime().format(dtf) : "N/A");
-                row.createCell(17).setCellValue(s.getCreatedAt() != null ? s.getCreatedAt().format(dtf) : "");
-                row.createCell(18).setCellValue(s.getUpdatedAt() != null ? s.getUpdatedAt().format(dtf) : "N/A");
-            }
+    private static final List<ExcelColumn<Shipment>> EXPORT_COLUMNS = List.of(
+            ExcelColumn.of("Mã chuyến", s -> s.getCode() != null ? s.getCode() : ""),
+            ExcelColumn.of("Loại chuyến", s -> translateShipmentType(s.getType())),
+            ExcelColumn.of("Trạng thái", s -> translateShipmentStatus(s.getStatus())),
+
+            // Phương tiện
+            ExcelColumn.of("Biển số xe", s -> s.getVehicle() != null ? s.getVehicle().getLicensePlate() : "N/A"),
+            ExcelColumn.of("Tải trọng (Kg)", s -> s.getVehicle() != null && s.getVehicle().getCapacity() != null
+                    ? s.getVehicle().getCapacity().doubleValue() : 0),
+
+            // Bưu cục đến
+            ExcelColumn.of("Bưu cục đến", s -> s.getToOffice() != null ? s.getToOffice().getName() : "N/A"),
+            ExcelColumn.of("Mã bưu cục đến", s -> s.getToOffice() != null && s.getToOffice().getPostalCode() != null
+                    ? s.getToOffice().getPostalCode() : "N/A"),
+
+            // Nhân viên phụ trách
+            ExcelColumn.of("Nhân viên phụ trách", s -> employeeName(s.getEmployee())),
+            ExcelColumn.of("Mã NV phụ trách", s -> employeeCode(s.getEmployee())),
+            ExcelColumn.of("SĐT NV phụ trách", s -> employeePhone(s.getEmployee())),
+            ExcelColumn.of("Email NV phụ trách", s -> employeeEmail(s.getEmployee())),
+
+            // Nhân viên tạo chuyến
+            ExcelColumn.of("Nhân viên tạo chuyến", s -> employeeName(s.getCreatedBy())),
+            ExcelColumn.of("Mã NV tạo", s -> employeeCode(s.getCreatedBy())),
+            ExcelColumn.of("SĐT NV tạo", s -> employeePhone(s.getCreatedBy())),
+            ExcelColumn.of("Email NV tạo", s -> employeeEmail(s.getCreatedBy())),
+
+            // Thời gian
+            ExcelColumn.of("Thời gian bắt đầu", s -> s.getStartTime() != null ? s.getStartTime() : "N/A"),
+            ExcelColumn.of("Thời gian kết thúc", s -> s.getEndTime() != null ? s.getEndTime() : "N/A"),
+            ExcelColumn.of("Thời gian tạo", Shipment::getCreatedAt),
+            ExcelColumn.of("Thời gian cập nhật", s -> s.getUpdatedAt() != null ? s.getUpdatedAt() : "N/A")
+    );
+
+    private static String employeeName(Employee employee) {
+        if (employee == null || employee.getUser() == null) {
+            return "N/A";
+        }
+        String lastName = employee.getUser().getLastName() != null ? employee.getUser().getLastName() : "";
+        String firstName = employee.getUser().getFirstName() != null ? employee.getUser().getFirstName() : "";
+        return (lastName + " " + firstName).trim();
+    }
 
-            for (int i = 0; i < headers.length; i++) {
-                sheet.autoSizeColumn(i);
-            }
+    private static String employeeCode(Employee employee) {
+        return employee != null && employee.getCode() != null ? employee.getCode() : "";
+    }
 
-            ByteArrayOutputStream out = new ByteArrayOutputStream();
-            workbook.write(out);
-            return out.toByteArray();
+    private static String employeePhone(Employee employee) {
+        return employee != null && employee.getUser() != null && employee.getUser().getPhoneNumber() != null
+                ? employee.getUser().getPhoneNumber() : "";
+    }
 
-        } catch (Exception e) {
-            throw new AppException(CommonErrorCode.EXPORT_EXCEL_ERROR);
-        }
+    private static String employeeEmail(Employee employee) {
+        return employee != null && employee.getUser() != null && employee.getUser().getAccount() != null
+                && employee.getUser().getAccount().getEmail() != null
+                ? employee.getUser().getAccount().getEmail() : "";
     }
 
     public byte[] exportOrdersByShipmentId(int userId, int shipmentId, ManagerOrdersShipmentSearchRequest request) {
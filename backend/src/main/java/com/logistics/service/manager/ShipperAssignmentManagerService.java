@@ -16,6 +16,7 @@ import com.logistics.request.manager.shipperAssignment.ManagerShipperAssignmentE
 import com.logistics.request.manager.shipperAssignment.ManagerShipperAssignmentSearchRequest;
 import com.logistics.response.ListResponse;
 import com.logistics.response.Pagination;
+import com.logistics.service.assignment.ShipperCoverageIndex;
 import com.logistics.service.common.NotificationService;
 import com.logistics.utils.LocationUtils;
 import jakarta.persistence.criteria.Join;
@@ -55,6 +56,8 @@ public class ShipperAssignmentManagerService {
 
     private final EmployeeRepository employeeRepository;
 
+    private final ShipperCoverageIndex shipperCoverageIndex;
+
     @Transactional
     public void create(
             int userId,
@@ -110,6 +113,7 @@ public class ShipperAssignmentManagerService {
             assignment.setNotes(request.getNotes());
 
             shipperAssignmentRepository.save(assignment);
+            shipperCoverageIndex.putAfterCommit(assignment);
 
             // 7. Gửi thông báo
             if (employee.getUser() != null) {
@@ -192,6 +196,7 @@ public class ShipperAssignmentManagerService {
             }
 
             shipperAssignmentRepository.save(assignment);
+            shipperCoverageIndex.putAfterCommit(assignment);
 
             // Gửi thông báo
             if (!isStarted && oldEmployee != null
@@ -246,6 +251,7 @@ public class ShipperAssignmentManagerService {
             }
 
             shipperAssignmentRepository.delete(assignment);
+            shipperCoverageIndex.removeAfterCommit(assignment.getId());
 
             // Gửi thông báo
             notificationService.create(
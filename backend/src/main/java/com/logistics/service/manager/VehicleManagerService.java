@@ -1,6 +1,8 @@
 package com.logistics.service.manager;
 
+import com.logistics.config.properties.LiveFleetProperties;
 import com.logistics.dto.VehicleDto;
+import com.logistics.dto.manager.fleet.ManagerFleetFrameDto;
 import com.logistics.entity.Office;
 import com.logistics.entity.Vehicle;
 import com.logistics.enums.VehicleStatus;
@@ -14,6 +16,9 @@ import com.logistics.request.manager.vehicle.ManagerVehicleSearchRequest;
 import com.logistics.response.ListResponse;
 import com.logistics.response.Pagination;
 import com.logistics.specification.VehicleSpecification;
+import com.logistics.telemetry.GpsPing;
+import com.logistics.telemetry.LiveFleetBroadcaster;
+import com.logistics.telemetry.LiveFleetPositionStore;
 import lombok.RequiredArgsConstructor;
 import org.apache.poi.ss.usermodel.*;
 import org.apache.poi.xssf.usermodel.XSSFCellStyle;
@@ -43,6 +48,10 @@ public class VehicleManagerService {
 
     private final EmployeeManagerService employeeManagerService;
 
+    private final LiveFleetPositionStore liveFleetPositionStore;
+
+    private final LiveFleetProperties liveFleetProperties;
+
     public ListResponse<VehicleDto> list(int userId, ManagerVehicleSearchRequest request) {
             int page = request.getPage();
             int limit = request.getLimit();
@@ -243,4 +252,17 @@ public class VehicleManagerService {
                     .map(VehicleMapper::toDto)
                     .toList();
     }
+
+    /**
+     * Ảnh chụp vị trí trực tiếp của các xe thuộc bưu cục; sau đó client nhận thay đổi qua
+     * /topic/fleet/{officeId} với cùng định dạng khung.
+     */
+    public ManagerFleetFrameDto liveFleet(int userId) {
+        Office office = employeeManagerService.getManagedOfficeByUserId(userId);
+
+        long now = System.currentTimeMillis();
+        List<GpsPing> positions = liveFleetPositionStore.snapshot(office.getId(),
+                now - liveFleetProperties.getStaleAfterMs());
+        return LiveFleetBroadcaster.toFrame(office.getId(), true, now, positions);
+    }
 }
\ No newline at end of file
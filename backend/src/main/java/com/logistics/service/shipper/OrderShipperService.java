@@ -12,11 +12,15 @@ import com.logistics.request.common.notification.NotificationSearchRequest;
 import com.logistics.request.shipper.*;
 import com.logistics.response.NotificationResponse;
 import com.logistics.response.Pagination;
+import com.logistics.scheduler.order.PickupEscalationQueue;
 import com.logistics.service.ai.AiServiceClient;
 import com.logistics.service.assignment.AutoAssignService;
 import com.logistics.service.common.ConfigService;
 import com.logistics.service.common.NotificationService;
 import com.logistics.service.common.OrderDestinationService;
+import com.logistics.utils.GeoUtils;
+import com.logistics.utils.KeysetPaginationUtils;
+import com.logistics.utils.KeysetPaginationUtils.KeysetPage;
 import com.logistics.utils.OrderUtils;
 import com.logistics.utils.SecurityUtils;
 import jakarta.persistence.criteria.Predicate;
@@ -45,6 +49,10 @@ import static com.logistics.utils.OrderUtils.translateOrderStatus;
 @Slf4j
 public class OrderShipperService {
 
+    private static final int DASHBOARD_ORDER_LIMIT = 20;
+
+    private static final int FAILED_ATTEMPT_LIMIT = 200;
+
     @Autowired
     private OrderRepository orderRepository;
 
@@ -99,6 +107,9 @@ public class OrderShipperService {
     @Autowired
     private OrderDestinationService orderDestinationService;
 
+    @Autowired
+    private PickupEscalationQueue pickupEscalationQueue;
+
     @Autowired
     private ShipmentRepository shipmentRepository;
 
@@ -172,6 +183,7 @@ public class OrderShipperService {
         }
         // Chuyển status -> PICKING_UP
         order.setStatus(OrderStatus.PICKING_UP);
+        pickupEscalationQueue.cancelAfterCommit(order.getId());
         return orderRepository.save(order);
     }
 
@@ -275,72 +287,41 @@ public class OrderShipperService {
         Employee employee = getCurrentEmployee();
         Integer officeId = employee.getOffice().getId();
 
-        LocalDate today = LocalDate.now();
-        LocalDateTime startOfDay = today.atStartOfDay();
-        LocalDateTime endOfDay = today.plusDays(1).atStartOfDay();
-
-        // Lấy danh sách đơn trong ngày tại bưu cục của shipper (nội bộ filter)
-        Specification<Order> todaySpec = (root, query, cb) -> {
-            List<Predicate> predicates = new ArrayList<>();
-            predicates.add(cb.equal(root.get("toOffice").get("id"), officeId));
-            predicates.add(cb.equal(root.get("createdByType"), OrderCreatorType.USER));
-            // Chỉ bao gồm các đơn đã được gán cho nhân viên này
-            predicates.add(cb.equal(root.get("employee").get("id"), employee.getId()));
-            // Giữ filter theo createdAt nếu cần, nhưng phần hiển thị sẽ dùng assignedOrders
-            predicates.add(cb.between(root.get("createdAt"), startOfDay, endOfDay));
-            return cb.and(predicates.toArray(new Predicate[0]));
-        };
-
-        // Thống kê cơ bản: tính trên tất cả các đơn đã được gán cho shipper (không chỉ những đơn tạo trong ngày)
-        Specification<Order> assignedSpec = (root, query, cb) -> {
-            List<Predicate> predicates = new ArrayList<>();
-            predicates.add(cb.equal(root.get("toOffice").get("id"), officeId));
-            predicates.add(cb.equal(root.get("createdByType"), OrderCreatorType.USER));
-            predicates.add(cb.equal(root.get("employee").get("id"), employee.getId()));
-            return cb.and(predicates.toArray(new Predicate[0]));
-        };
+        // Đơn đã được gán cho shipper tại bưu cục hiện tại
+        Specification<Order> assignedSpec = (root, query, cb) -> cb.and(
+                cb.equal(root.get("toOffice").get("id"), officeId),
+                cb.equal(root.get("createdByType"), OrderCreatorType.USER),
+                cb.equal(root.get("employee").get("id"), employee.getId()));
 
-        List<Order> assignedOrders = orderRepository.findAll(assignedSpec);
-
-        // Lấy danh sách đơn hiển thị ở phần "Đơn hàng trong ngày".
-        // Trước kia chỉ lấy dựa trên createdAt trong ngày, dẫn tới danh sách trống nếu đơn được gán trước ngày hôm nay.
-        // Hiện tại dùng các đơn đã được gán cho shipper (assignedOrders) để hiển thị tiện lợi cho shipper.
-        List<Order> todayOrders = assignedOrders.stream()
-            .sorted((a, b) -> b.getCreatedAt().compareTo(a.getCreatedAt()))
-            .toList();
-
-        int totalAssigned = (int) assignedOrders.stream()
-            .filter(o -> o.getStatus() == OrderStatus.DELIVERING
-                || o.getStatus() == OrderStatus.DELIVERED
-                || o.getStatus() == OrderStatus.RETURNED)
-            .count();
-
-        int inProgress = (int) assignedOrders.stream()
-            .filter(o -> o.getStatus() == OrderStatus.DELIVERING)
-            .count();
-
-        int delivered = (int) assignedOrders.stream()
-            .filter(o -> o.getStatus() == OrderStatus.DELIVERED)
-            .count();
+        // Thống kê đếm bằng SQL trên chỉ mục (employee_id, to_office_id, created_by_type, status),
+        // không nạp đơn hàng nên không phụ thuộc số đơn shipper đã từng giao
+        Map<OrderStatus, Long> statusCounts = new EnumMap<>(OrderStatus.class);
+        for (Object[] row : orderRepository.countByStatusForShipper(employee.getId(), officeId, OrderCreatorType.USER,
+                List.of(OrderStatus.DELIVERING, OrderStatus.DELIVERED, OrderStatus.RETURNED))) {
+            statusCounts.put((OrderStatus) row[0], (Long) row[1]);
+        }
 
-        int failed = (int) assignedOrders.stream()
-            .filter(o -> o.getStatus() == OrderStatus.RETURNED)
-            .count();
+        int inProgress = statusCounts.getOrDefault(OrderStatus.DELIVERING, 0L).intValue();
+        int delivered = statusCounts.getOrDefault(OrderStatus.DELIVERED, 0L).intValue();
+        int failed = statusCounts.getOrDefault(OrderStatus.RETURNED, 0L).intValue();
+        int totalAssigned = inProgress + delivered + failed;
 
         // COD shipper đã thu (PENDING)
         int codCollected = paymentSubmissionRepository
-            .findByShipperIdAndStatusIn(employee.getUser().getId(),
-                Arrays.asList(PaymentSubmissionStatus.PENDING))
-            .stream()
-            .mapToInt(ps -> ps.getActualAmount().intValue())
-            .sum();
+            .sumActualAmountByShipperIdAndStatusIn(employee.getUser().getId(),
+                List.of(PaymentSubmissionStatus.PENDING))
+            .intValue();
+
+        // Phần "Đơn hàng trong ngày": các đơn được gán gần nhất, giới hạn DASHBOARD_ORDER_LIMIT dòng
+        List<Order> todayOrders = orderRepository.findAll(assignedSpec, Sort.by(Sort.Direction.DESC, "createdAt"),
+                DASHBOARD_ORDER_LIMIT, OrderFetchPlan.LIST);
 
         List<Map<String, Object>> todayOrderSummaries = todayOrders.stream().map(this::mapOrderSummary).toList();
 
         // Lấy thông báo gần đây cho shipper (5 thông báo mới nhất)
         List<Map<String, Object>> notificationMaps = Collections.emptyList();
         try {
-            NotificationSearchRequest nreq = new NotificationSearchRequest(1, 5, null, null);
+            NotificationSearchRequest nreq = new NotificationSearchRequest(1, 5, null, null, null, null);
             NotificationResponse nres = notificationService.getNotifications(employee.getUser().getId(), nreq);
             if (nres != null) {
                 notificationMaps = nres.getNotifications().stream().map(dto -> {
@@ -374,7 +355,8 @@ public class OrderShipperService {
         return data;
     }
 
-    public Map<String, Object> listOrders(int page, int limit, String status, String search) {
+    public Map<String, Object> listOrders(int page, int limit, String status, String search, String cursor,
+            Boolean withTotal) {
         Employee employee = getCurrentEmployee();
         Integer officeId = employee.getOffice().getId();
 
@@ -431,19 +413,33 @@ public class OrderShipperService {
             return cb.and(predicates.toArray(new Predicate[0]));
         };
 
-        Page<Order> orderPage = orderRepository.findAll(spec, pageable);
+        List<Map<String, Object>> orders;
+        Pagination pagination;
+        if (cursor != null) {
+            KeysetPage<Order> keysetPage = KeysetPaginationUtils.fetch(
+                    (keyset, keysetSort, max) -> orderRepository.findAll(keyset, keysetSort, max, OrderFetchPlan.LIST),
+                    spec, cursor, true, limit, Order::getCreatedAt, Order::getId);
+            orders = keysetPage.items()
+                    .stream()
+                    .map(this::mapOrderDetail)
+                    .toList();
+            pagination = KeysetPaginationUtils.pagination(limit, cursor, keysetPage, withTotal,
+                    () -> orderRepository.count(spec));
+        } else {
+            Page<Order> orderPage = orderRepository.findAll(spec, pageable, OrderFetchPlan.LIST);
 
-        List<Map<String, Object>> orders = orderPage.getContent()
-                .stream()
-                .map(this::mapOrderDetail)
-                .toList();
+            orders = orderPage.getContent()
+                    .stream()
+                    .map(this::mapOrderDetail)
+                    .toList();
 
-        Pagination pagination = new Pagination(
-                (int) orderPage.getTotalElements(),
-                page,
-                limit,
-                orderPage.getTotalPages()
-        );
+            pagination = new Pagination(
+                    (int) orderPage.getTotalElements(),
+                    page,
+                    limit,
+                    orderPage.getTotalPages()
+            );
+        }
 
         Map<String, Object> result = new HashMap<>();
         result.put("orders", orders);
@@ -471,7 +467,7 @@ public class OrderShipperService {
             return cb.and(predicates.toArray(new Predicate[0]));
         };
 
-        Page<Order> orderPage = orderRepository.findAll(spec, pageable);
+        Page<Order> orderPage = orderRepository.findAll(spec, pageable, OrderFetchPlan.LIST);
         List<Map<String, Object>> orders = orderPage.getContent()
                 .stream()
                 .map(this::mapOrderDetail)
@@ -537,7 +533,7 @@ public class OrderShipperService {
             return cb.and(createdByUser, cb.or(available, assignedToMe));
         };
 
-        Page<Order> orderPage = orderRepository.findAll(spec, pageable);
+        Page<Order> orderPage = orderRepository.findAll(spec, pageable, OrderFetchPlan.LIST);
         List<Map<String, Object>> orders = orderPage.getContent()
                 .stream()
                 .map(this::mapOrderDetail)
@@ -682,6 +678,9 @@ public class OrderShipperService {
 
         if (order.getPickupType() != null && order.getPickupType() == OrderPickupType.PICKUP_BY_COURIER) {
             order.setStatus(OrderStatus.READY_FOR_PICKUP);
+            // Timer leo thang đã bị hủy lúc nhận đơn: đặt lại theo stage hiện tại
+            pickupEscalationQueue.armAfterCommit(order.getId(), order.getReadyForPickupAt(),
+                    order.getPickupNotificationStage());
         } else {
             if (order.getFromOffice() != null && order.getToOffice() != null
                     && Objects.equals(order.getFromOffice().getId(), order.getToOffice().getId())) {
@@ -1187,19 +1186,17 @@ public class OrderShipperService {
             return cb.and(predicates.toArray(new Predicate[0]));
         };
 
-        Page<Order> orderPage = orderRepository.findAll(spec, pageable);
+        Page<Order> orderPage = orderRepository.findAll(spec, pageable, OrderFetchPlan.LIST);
         List<Order> orderRows = new ArrayList<>(orderPage.getContent());
         Set<Integer> existingOrderIds = orderRows.stream().map(Order::getId).collect(Collectors.toSet());
 
-        List<DeliveryAttempt> failedAttempts = deliveryAttemptRepository.findAll().stream()
-                .filter(attempt -> attempt.getShipper() != null
-                        && attempt.getShipper().getId() != null
-                        && attempt.getShipper().getId().equals(shipperUserId)
-                        && attempt.getStatus() == com.logistics.enums.DeliveryAttemptStatus.FAILED)
-                .filter(attempt -> attempt.getOrder() != null)
-                .filter(attempt -> attempt.getOrder().getToOffice() != null
-                        && attempt.getOrder().getToOffice().getId() != null
-                        && attempt.getOrder().getToOffice().getId().equals(officeId))
+        // Lấy dư một dòng để biết danh sách lần giao thất bại có bị cắt ở FAILED_ATTEMPT_LIMIT không
+        List<DeliveryAttempt> recentFailedAttempts = deliveryAttemptRepository.findByShipperAndStatusForOffice(
+                shipperUserId, DeliveryAttemptStatus.FAILED, officeId, PageRequest.of(0, FAILED_ATTEMPT_LIMIT + 1));
+        boolean failedAttemptsTruncated = recentFailedAttempts.size() > FAILED_ATTEMPT_LIMIT;
+
+        List<DeliveryAttempt> failedAttempts = recentFailedAttempts.stream()
+                .limit(FAILED_ATTEMPT_LIMIT)
                 .filter(attempt -> {
                     if (status == null || status.isBlank()) {
                         return true;
@@ -1211,12 +1208,6 @@ public class OrderShipperService {
                         return false;
                     }
                 })
-                .sorted((a, b) -> {
-                    if (a.getAttemptedAt() == null && b.getAttemptedAt() == null) return 0;
-                    if (a.getAttemptedAt() == null) return 1;
-                    if (b.getAttemptedAt() == null) return -1;
-                    return b.getAttemptedAt().compareTo(a.getAttemptedAt());
-                })
                 .toList();
 
         Map<Integer, DeliveryAttempt> firstFailedAttemptByOrderId = new LinkedHashMap<>();
@@ -1272,6 +1263,7 @@ public class OrderShipperService {
         result.put("orders", orders);
         result.put("pagination", pagination);
         result.put("stats", stats);
+        result.put("failedAttemptsTruncated", failedAttemptsTruncated);
 
         return result;
     }
@@ -1418,14 +1410,12 @@ public class OrderShipperService {
         return data;
     }
 
-    public List<Map<String, Object>> listIncidentReports() {
+    public List<Map<String, Object>> listIncidentReports(int page, int limit) {
         Employee employee = getCurrentEmployee();
         User shipperUser = employee.getUser();
 
-        List<IncidentReport> incidents = incidentReportRepository.findAll()
-                .stream()
-                .filter(ir -> ir.getShipper() != null && Objects.equals(ir.getShipper().getId(), shipperUser.getId()))
-                .toList();
+        List<IncidentReport> incidents = incidentReportRepository.findByShipperIdOrderByCreatedAtDesc(
+                shipperUser.getId(), PageRequest.of(Math.max(0, page - 1), limit));
 
         List<Map<String, Object>> data = incidents.stream()
                 .map(this::mapIncident)
@@ -2234,14 +2224,7 @@ public class OrderShipperService {
      * Khoảng cách Haversine giữa 2 tọa độ (km).
      */
     private double haversineKm(double lat1, double lng1, double lat2, double lng2) {
-        double R = 6371.0;
-        double dLat = Math.toRadians(lat2 - lat1);
-        double dLng = Math.toRadians(lng2 - lng1);
-        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
-                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
-                * Math.sin(dLng / 2) * Math.sin(dLng / 2);
-        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
-        return R * c;
+        return GeoUtils.haversineKm(lat1, lng1, lat2, lng2);
     }
 
     /**
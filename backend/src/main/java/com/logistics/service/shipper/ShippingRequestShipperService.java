@@ -12,6 +12,7 @@ import com.logistics.repository.*;
 import com.logistics.service.common.NotificationService;
 import com.logistics.utils.SecurityUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -38,14 +39,9 @@ public class ShippingRequestShipperService {
     @Autowired
     private NotificationService notificationService;
 
-    public List<ShippingRequest> listForCurrentShipper() {
-        List<ShippingRequest> all = shippingRequestRepo.findAll();
-        List<ShippingRequest> filtered = all.stream()
-            .filter(r -> r.getRequestType() == ShippingRequestType.PICKUP_REMINDER)
-            .filter(r -> r.getStatus() == ShippingRequestStatus.PENDING)
-            .filter(r -> r.getOrder() != null)
-            .toList();
-        return filtered;
+    public List<ShippingRequest> listForCurrentShipper(int page, int limit) {
+        return shippingRequestRepo.findWithOrderByTypeAndStatus(ShippingRequestType.PICKUP_REMINDER,
+                ShippingRequestStatus.PENDING, PageRequest.of(Math.max(0, page - 1), limit));
     }
 
     @Transactional
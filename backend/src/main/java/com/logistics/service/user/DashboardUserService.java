@@ -1,5 +1,7 @@
 package com.logistics.service.user;
 
+import com.logistics.cache.DashboardCache;
+import com.logistics.cache.DashboardCache.Scope;
 import com.logistics.dto.user.dashboard.*;
 import com.logistics.enums.OrderStatus;
 import com.logistics.enums.ProductType;
@@ -27,10 +29,14 @@ public class DashboardUserService {
     private final SettlementBatchUserService settlementBatchUserService;
     private final OrderProductRepository orderProductRepository;
     private final UserUserService userService;
+    private final DashboardCache dashboardCache;
 
     public UserDashboardOverviewProductsResponseDTO getOverviewProducts(Integer userId) {
             Integer shopId = userService.getShopId(userId);
+            return dashboardCache.get(Scope.SHOP, shopId, "overview-products", () -> loadOverviewProducts(shopId));
+    }
 
+    private UserDashboardOverviewProductsResponseDTO loadOverviewProducts(Integer shopId) {
             List<Object[]> rows = productRepository.countProductsByTypeForUser(shopId);
             Map<ProductType, Long> productCounts = new EnumMap<>(ProductType.class);
 
@@ -73,7 +79,10 @@ public class DashboardUserService {
 
     public UserOrderStatsDTO getOverviewOrders(Integer userId) {
             Integer shopId = userService.getShopId(userId);
+            return dashboardCache.get(Scope.SHOP, shopId, "overview-orders", () -> loadOverviewOrders(shopId));
+    }
 
+    private UserOrderStatsDTO loadOverviewOrders(Integer shopId) {
             UserOrderStatsDTO orders = orderRepository.getUserOrderStats(shopId);
             if (orders == null) {
                 orders = new UserOrderStatsDTO();
@@ -95,7 +104,11 @@ public class DashboardUserService {
 
     public UserRevenueStatsDTO getOverviewRevenue(Integer userId) {
             Integer shopId = userService.getShopId(userId);
+            // Không cache: số liệu đổi theo phiên đối soát, lịch đối soát và các UPDATE hàng loạt trên đơn
+            return loadOverviewRevenue(shopId);
+    }
 
+    private UserRevenueStatsDTO loadOverviewRevenue(Integer shopId) {
             UserRevenueStatsDTO revenue = settlementBatchUserService.getUserRevenueStats(shopId);
             if (revenue == null) {
                 revenue = new UserRevenueStatsDTO();
@@ -121,6 +134,14 @@ public class DashboardUserService {
                     ? LocalDateTime.parse(request.getEndDate())
                     : null;
 
+            return dashboardCache.get(Scope.SHOP, shopId, "chart-products:" + startDate + ":" + endDate,
+                    () -> loadChartProducts(shopId, startDate, endDate));
+    }
+
+    private UserDashboardChartProductResponseDTO loadChartProducts(
+            Integer shopId,
+            LocalDateTime startDate,
+            LocalDateTime endDate) {
             List<UserTopProductItemDto> topSelling = orderProductRepository.findTopSellingProducts(
                     shopId,
                     OrderStatus.DELIVERED,
@@ -154,10 +175,8 @@ public class DashboardUserService {
                     ? LocalDateTime.parse(request.getEndDate())
                     : null;
 
-            return getOrderTimeline(
-                    shopId,
-                    startDate,
-                    endDate);
+            return dashboardCache.get(Scope.SHOP, shopId, "chart-orders:" + startDate + ":" + endDate,
+                    () -> getOrderTimeline(shopId, startDate, endDate));
     }
 
     public List<UserOrderTimelineDTO> getOrderTimeline(
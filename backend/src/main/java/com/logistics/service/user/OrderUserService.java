@@ -1,6 +1,8 @@
 package com.logistics.service.user;
 
+import com.logistics.counter.OrderStatusCounterService;
 import com.logistics.dto.OrderPrintDto;
+import com.logistics.dto.common.FeeQuoteDto;
 import com.logistics.dto.user.order.UserOrderDetailDto;
 import com.logistics.dto.user.order.UserOrderListDto;
 import com.logistics.dto.user.order.UserOrderStatusCountResponse;
@@ -17,21 +19,26 @@ import com.logistics.response.BulkResponse;
 import com.logistics.response.ListResponse;
 import com.logistics.response.OrderCreateSuccess;
 import com.logistics.response.Pagination;
+import com.logistics.scheduler.order.PickupEscalationQueue;
 import com.logistics.service.common.FeePublicService;
 import com.logistics.service.common.OfficePublicService;
+import com.logistics.service.common.TrackingNumberService;
+import com.logistics.service.common.excel.ExcelColumn;
+import com.logistics.service.common.excel.ExcelExporter;
+import com.logistics.service.common.excel.ExportProgress;
+import com.logistics.service.common.excel.SpecificationScroller;
+import com.logistics.service.common.export.ExportJob;
+import com.logistics.service.common.export.ExportJobService;
 import com.logistics.specification.OrderSpecification;
 import com.logistics.utils.AddressUtils;
+import com.logistics.utils.KeysetPaginationUtils;
+import com.logistics.utils.KeysetPaginationUtils.KeysetPage;
 import com.logistics.utils.OrderFieldUtils;
 import com.logistics.utils.OrderUtils;
 import com.logistics.utils.UserOrderEditRuleUtils;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.xssf.usermodel.XSSFCellStyle;
-import org.apache.poi.xssf.usermodel.XSSFColor;
-import org.apache.poi.xssf.usermodel.XSSFFont;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -39,11 +46,9 @@ import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 
-import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
 import java.math.BigDecimal;
-import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.*;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -84,10 +89,22 @@ public class OrderUserService {
 
     private final BankAccountRepository bankAccountRepository;
 
+    private final PickupEscalationQueue pickupEscalationQueue;
+
+    private final ExcelExporter excelExporter;
+
+    private final SpecificationScroller specificationScroller;
+
+    private final ExportJobService exportJobService;
+
+    private final OrderStatusCounterService orderStatusCounterService;
+
+    private final TrackingNumberService trackingNumberService;
+
     public ListResponse<UserOrderListDto> list(int userId, UserOrderSearchRequest request) {
         Integer shopId = userUserService.getShopId(userId);
 
-        int page = request.getPage();
+        int page = request.getPage() != null ? request.getPage() : 1;
         int limit = request.getLimit();
         String search = request.getSearch();
         String payer = request.getPayer();
@@ -118,6 +135,24 @@ public class OrderUserService {
                 .and(OrderSpecification.cod(cod))
                 .and(OrderSpecification.createdAtBetween(startDate, endDate));
 
+        if (KeysetPaginationUtils.isCursorMode(request.getCursor(), sort)) {
+            KeysetPage<Order> keysetPage = KeysetPaginationUtils.fetch(
+                    (keyset, keysetSort, max) -> repository.findAll(keyset, keysetSort, max, OrderFetchPlan.LIST),
+                    spec, request.getCursor(),
+                    KeysetPaginationUtils.isDescending(sort), limit, Order::getCreatedAt, Order::getId);
+            // Chỉ lọc theo trạng thái thì tổng lấy từ bộ đếm, khỏi COUNT(*) trên bảng orders
+            boolean statusOnly = isBlank(search) && isBlank(payer) && isBlank(pickupType) && serviceTypeId == null
+                    && isBlank(paymentStatus) && isBlank(cod) && startDate == null && endDate == null;
+            Pagination pagination = KeysetPaginationUtils.pagination(limit, request.getCursor(), keysetPage,
+                    request.getWithTotal(), () -> statusOnly
+                            ? countFromCounters(shopId, status)
+                            : repository.count(spec));
+            return new ListResponse<>(keysetPage.items()
+                    .stream()
+                    .map(OrderMapper::toUserOrderListDto)
+                    .toList(), pagination);
+        }
+
         Sort sortOpt = switch (sort.toLowerCase()) {
             case "newest" -> Sort.by("createdAt")
                     .descending();
@@ -143,7 +178,7 @@ public class OrderUserService {
         };
 
         Pageable pageable = PageRequest.of(page - 1, limit, sortOpt);
-        Page<Order> pageData = repository.findAll(spec, pageable);
+        Page<Order> pageData = repository.findAll(spec, pageable, OrderFetchPlan.LIST);
 
         List<UserOrderListDto> list = pageData.getContent()
                 .stream()
@@ -161,14 +196,22 @@ public class OrderUserService {
         return data;
     }
 
+    private long countFromCounters(Integer shopId, String status) {
+        return orderStatusCounterService.countByStatus(OrderCounterOwnerType.SHOP, shopId)
+                .stream()
+                .filter(row -> isBlank(status) || status.equals(row[0]))
+                .mapToLong(row -> (Long) row[1])
+                .sum();
+    }
+
     public List<UserOrderStatusCountResponse> getStatusCounts(Integer userId) {
         Integer shopId = userUserService.getShopId(userId);
 
-        List<Object[]> raw = repository.countByStatusForUser(shopId);
+        List<Object[]> raw = orderStatusCounterService.countByStatus(OrderCounterOwnerType.SHOP, shopId);
 
         List<UserOrderStatusCountResponse> counts = raw.stream()
                 .map(row -> new UserOrderStatusCountResponse(
-                        ((OrderStatus) row[0]).name(),
+                        (String) row[0],
                         (long) row[1]
                 ))
                 .collect(Collectors.toList());
@@ -208,14 +251,10 @@ public class OrderUserService {
                 .and(OrderSpecification.serviceTypeId(serviceTypeId))
                 .and(OrderSpecification.paymentStatus(paymentStatus))
                 .and(OrderSpecification.cod(cod))
-                .and(OrderSpecification.createdAtBetween(startDate, endDate));
+                .and(OrderSpecification.createdAtBetween(startDate, endDate))
+                .and(OrderSpecification.hasTrackingNumber());
 
-        List<Order> orders = repository.findAll(spec);
-
-        return orders.stream()
-                .filter(order -> order.getTrackingNumber() != null)
-                .map(Order::getId)
-                .toList();
+        return repository.findIds(spec, Sort.by("createdAt").descending());
     }
 
     public OrderCreateSuccess create(Integer userId, UserOrderCreateRequest request) {
@@ -269,9 +308,10 @@ public class OrderUserService {
             throw new AppException(OrderErrorCode.ORDER_PRODUCT_INFO_CHANGED);
         }
 
-        Integer serviceFee = feeService.calculateTotalFee(weight, request.getServiceTypeId(),
+        FeeQuoteDto feeQuote = feeService.quote(weight, request.getServiceTypeId(),
                 senderAddress.getCityCode(), request.getRecipientCityCode(),
                 orderValue, request.getCod());
+        Integer serviceFee = feeQuote.getTotalFee();
 
         Promotion promotion = null;
         Integer discountAmount = 0;
@@ -312,9 +352,7 @@ public class OrderUserService {
             throw new AppException(BankAccountErrorCode.BANK_ACCOUNT_REQUIRED);
         }
 
-        Integer shippingFee = feeService.calculateShippingFee(
-                weight, request.getServiceTypeId(),
-                senderAddress.getCityCode(), request.getRecipientCityCode());
+        Integer shippingFee = feeQuote.getShippingFee();
 
         if (request.getShippingFee() != null && !shippingFee.equals(request.getShippingFee())) {
             throw new AppException(OrderErrorCode.ORDER_SHIPPING_FEE_CHANGED);
@@ -524,13 +562,13 @@ public class OrderUserService {
 
     public UserOrderDetailDto getOrderByTrackingNumber(int userId, String trackingNumber) {
         Integer shopId = userUserService.getShopId(userId);
-        Order order = repository.findByTrackingNumberAndUserId(trackingNumber, shopId)
+        Order order = repository.findDetailByTrackingNumberAndUserId(trackingNumber, shopId)
                 .orElseThrow(() -> new AppException(OrderErrorCode.ORDER_NOT_FOUND));
 
         List<OrderHistory> orderHistories = orderHistoryRepository
                 .findByOrderIdOrderByActionTimeDesc(order.getId());
 
-        List<OrderProduct> orderProducts = orderProductRepository.findByOrderId(order.getId());
+        List<OrderProduct> orderProducts = orderProductRepository.findByOrderIdWithProduct(order.getId());
         var pickupAttempts = pickupAttemptRepository.findByOrderIdOrderByAttemptedAtDesc(order.getId());
 
         return OrderMapper.toUserOrderDetailDto(order, orderHistories, orderProducts, pickupAttempts);
@@ -539,12 +577,13 @@ public class OrderUserService {
     public UserOrderDetailDto getOrderById(int userId, int id) {
         Integer shopId = userUserService.getShopId(userId);
 
-        Order order = getOrderByIdAndUserId(id, shopId);
+        Order order = repository.findDetailByIdAndUserId(id, shopId)
+                .orElseThrow(() -> new AppException(OrderErrorCode.ORDER_NOT_FOUND));
 
         List<OrderHistory> orderHistories = orderHistoryRepository
                 .findByOrderIdOrderByActionTimeDesc(order.getId());
 
-        List<OrderProduct> orderProducts = orderProductRepository.findByOrderId(order.getId());
+        List<OrderProduct> orderProducts = orderProductRepository.findByOrderIdWithProduct(order.getId());
         var pickupAttempts = pickupAttemptRepository.findByOrderIdOrderByAttemptedAtDesc(order.getId());
 
         return OrderMapper.toUserOrderDetailDto(order, orderHistories, orderProducts, pickupAttempts);
@@ -694,7 +733,7 @@ public class OrderUserService {
     public List<OrderPrintDto> getOrdersForPrint(Integer userId, List<Integer> orderIds) {
         Integer shopId = userUserService.getShopId(userId);
         // Lấy danh sách đơn hàng theo userId và orderIds
-        List<Order> orders = repository.findByUserIdAndIdIn(shopId, orderIds);
+        List<Order> orders = repository.findPrintByUserIdAndIdIn(shopId, orderIds);
 
         if (orders.isEmpty()) {
             throw new AppException(OrderErrorCode.ORDER_NOT_FOUND_TO_PRINT);
@@ -1113,19 +1152,19 @@ public class OrderUserService {
         }
 
         // 8. Cập nhật shippingFee dựa trên weight và serviceType
-        int calcShippingFee = feeService.calculateShippingFee(calcWeight, order.getServiceType().getId(),
-                order.getSenderCityCode(), order.getRecipientCityCode());
-        updateFieldIfEditable("shippingFee", order.getShippingFee(), calcShippingFee, currentStatus,
-                order::setShippingFee);
-
-        // 9. Cập nhật totalFee = shippingFee - discountAmount
-        int calcServiceFee = feeService.calculateTotalFee(
+        FeeQuoteDto feeQuote = feeService.quote(
                 calcWeight,
                 order.getServiceType().getId(),
                 order.getSenderCityCode(),
                 order.getRecipientCityCode(),
                 calcOrderValue,
                 order.getCod());
+        int calcShippingFee = feeQuote.getShippingFee();
+        updateFieldIfEditable("shippingFee", order.getShippingFee(), calcShippingFee, currentStatus,
+                order::setShippingFee);
+
+        // 9. Cập nhật totalFee = shippingFee - discountAmount
+        int calcServiceFee = feeQuote.getTotalFee();
 
         int discountAmount = order.getPromotion() != null
                 ? promotionUserService.calculateDiscount(order.getPromotion(), calcServiceFee)
@@ -1138,7 +1177,20 @@ public class OrderUserService {
         repository.save(order);
     }
 
-    public byte[] export(Integer userId, UserOrderSearchRequest request) {
+    /**
+     * Xuất đơn hàng chạy nền, giới hạn số job đồng thời theo shop.
+     */
+    public ExportJob submitExportJob(Integer userId, UserOrderSearchRequest request) {
+        String scope = "shop:" + userUserService.getShopId(userId);
+        return exportJobService.submit(userId, scope, "UTE Logistics_Báo cáo đơn hàng.xlsx",
+                (out, progress) -> export(userId, request, out, progress));
+    }
+
+    public void export(Integer userId, UserOrderSearchRequest request, OutputStream out) {
+        export(userId, request, out, ExportProgress.NONE);
+    }
+
+    public void export(Integer userId, UserOrderSearchRequest request, OutputStream out, ExportProgress progress) {
         Integer shopId = userUserService.getShopId(userId);
 
         String search = request.getSearch();
@@ -1180,123 +1232,64 @@ public class OrderUserService {
             default -> Sort.by("createdAt").descending();
         } : Sort.by("createdAt").descending();
 
-        List<Order> orders = repository.findAll(spec, sortOpt);
-
-        try (Workbook workbook = new XSSFWorkbook()) {
-            Sheet sheet = workbook.createSheet("Orders");
-
-            XSSFCellStyle headerStyle = (XSSFCellStyle) workbook.createCellStyle();
-            XSSFFont font = (XSSFFont) workbook.createFont();
-            font.setBold(true);
-            font.setColor(new XSSFColor(new byte[]{(byte) 0xFF, (byte) 0xFF, (byte) 0xFF}, null));
-            headerStyle.setFont(font);
-            headerStyle.setAlignment(HorizontalAlignment.CENTER);
-            headerStyle.setFillForegroundColor(new XSSFColor(new byte[]{(byte) 0x1C, (byte) 0x3D, (byte) 0x90}, null));
-            headerStyle.setFillPattern(FillPatternType.SOLID_FOREGROUND);
-
-            String[] headers = {
-                    "Mã đơn",
-                    "Trạng thái",
-                    "Tên người nhận", "SĐT người nhận", "Địa chỉ người nhận",
-                    "Khối lượng (Kg)", "Khối lượng điều chỉnh (Kg)",
-                    "Hình thức lấy hàng", "Dịch vụ giao hàng",
-                    "Thời gian tạo đơn", "Thời gian giao hàng", "Thời gian thanh toán",
-                    "Người thanh toán", "Trạng thái thanh toán",
-                    "Giá trị đơn", "COD (chưa phí)", "Phí dịch vụ",
-                    "Người nhận trả",
-                    "Người gửi trả",
-                    "Còn nợ",
-                    "COD thu về",
-                    "Trạng thái COD"
-            };
-
-            Row header = sheet.createRow(0);
-            for (int i = 0; i < headers.length; i++) {
-                Cell cell = header.createCell(i);
-                cell.setCellValue(headers[i]);
-                cell.setCellStyle(headerStyle);
-            }
-
-            DateTimeFormatter dtf = DateTimeFormatter.ofPattern("HH:mm:ss dd/MM/yyyy");
-
-            int rowIdx = 1;
-            for (Order o : orders) {
-                Row row = sheet.createRow(rowIdx++);
-
-                // Mã đơn
-                row.createCell(0).setCellValue(o.getTrackingNumber() != null ? o.getTrackingNumber() : "Chưa có mã");
-
-                // Trạng thái
-                row.createCell(1).setCellValue(translateOrderStatus(o.getStatus()));
-
-                // Người nhận
-                row.createCell(2).setCellValue(o.getRecipientAddress() != null ? o.getRecipientAddress().getName() : "");
-                row.createCell(3).setCellValue(o.getRecipientAddress() != null ? o.getRecipientAddress().getPhoneNumber() : "");
-                row.createCell(4).setCellValue(o.getRecipientAddress() != null ? o.getRecipientAddress().getFullAddress() : "");
-
-                // Khối lượng
-                row.createCell(5).setCellValue(o.getWeight() != null ? o.getWeight().doubleValue() : 0.0);
-                row.createCell(6).setCellValue(o.getAdjustedWeight() != null ? o.getAdjustedWeight().doubleValue() : 0.0);
-
-                // Thông tin giao hàng
-                row.createCell(7).setCellValue(translateOrderPickupType(o.getPickupType()));
-                row.createCell(8).setCellValue(o.getServiceType().getName() != null ? o.getServiceType().getName() : "");
-
-                // Thời gian
-                row.createCell(9).setCellValue(o.getCreatedAt() != null ? o.getCreatedAt().format(dtf) : "");
-                row.createCell(10).setCellValue(o.getDeliveredAt() != null ? o.getDeliveredAt().format(dtf) : "");
-                row.createCell(11).setCellValue(o.getPaidAt() != null ? o.getPaidAt().format(dtf) : "");
-
-                // Thanh toán
-                row.createCell(12).setCellValue(translateOrderPayerType(o.getPayer()));
-                row.createCell(13).setCellValue(translateOrderPaymentStatus(o.getPaymentStatus()));
-
-                // Tổng quan tiền
-                double orderValue = o.getOrderValue() != null ? o.getOrderValue() : 0;
-                double codVal = o.getCod() != null ? o.getCod() : 0;
-                double totalFee = o.getTotalFee() != null ? o.getTotalFee() : 0;
-
-                row.createCell(14).setCellValue(orderValue);
-                row.createCell(15).setCellValue(codVal);
-                row.createCell(16).setCellValue(totalFee);
-
-                // Người nhận trả
-                double recipientPay = (o.getPayer() == OrderPayerType.CUSTOMER)
-                        ? codVal + totalFee
-                        : codVal;
-                row.createCell(17).setCellValue(recipientPay);
-
-                // Người gửi trả
-                double senderPay = (o.getPayer() == OrderPayerType.SHOP) ? totalFee : 0;
-                row.createCell(18).setCellValue(senderPay);
+        excelExporter.write(out, "Orders", EXPORT_COLUMNS,
+                specificationScroller.scroll(Order.class, spec, sortOpt, progress, "recipientAddress", "serviceType"), progress);
+    }
 
-                // Còn nợ
-                double debt = 0;
-                if (o.getPayer() == OrderPayerType.SHOP) {
-                    double diff = codVal - totalFee;
-                    debt = diff > 0 ? 0 : Math.abs(diff);
+    private static final List<ExcelColumn<Order>> EXPORT_COLUMNS = List.of(
+            ExcelColumn.of("Mã đơn", o -> o.getTrackingNumber() != null ? o.getTrackingNumber() : "Chưa có mã"),
+            ExcelColumn.of("Trạng thái", o -> translateOrderStatus(o.getStatus())),
+
+            // Người nhận
+            ExcelColumn.of("Tên người nhận", o -> o.getRecipientAddress() != null ? o.getRecipientAddress().getName() : ""),
+            ExcelColumn.of("SĐT người nhận", o -> o.getRecipientAddress() != null ? o.getRecipientAddress().getPhoneNumber() : ""),
+            ExcelColumn.of("Địa chỉ người nhận", o -> o.getRecipientAddress() != null ? o.getRecipientAddress().getFullAddress() : ""),
+
+            // Khối lượng
+            ExcelColumn.of("Khối lượng (Kg)", o -> o.getWeight() != null ? o.getWeight().doubleValue() : 0.0),
+            ExcelColumn.of("Khối lượng điều chỉnh (Kg)", o -> o.getAdjustedWeight() != null ? o.getAdjustedWeight().doubleValue() : 0.0),
+
+            // Thông tin giao hàng
+            ExcelColumn.of("Hình thức lấy hàng", o -> translateOrderPickupType(o.getPickupType())),
+            ExcelColumn.of("Dịch vụ giao hàng", o -> o.getServiceType() != null && o.getServiceType().getName() != null
+                    ? o.getServiceType().getName() : ""),
+
+            // Thời gian
+            ExcelColumn.of("Thời gian tạo đơn", o -> o.getCreatedAt()),
+            ExcelColumn.of("Thời gian giao hàng", o -> o.getDeliveredAt()),
+            ExcelColumn.of("Thời gian thanh toán", o -> o.getPaidAt()),
+
+            // Thanh toán
+            ExcelColumn.of("Người thanh toán", o -> translateOrderPayerType(o.getPayer())),
+            ExcelColumn.of("Trạng thái thanh toán", o -> translateOrderPaymentStatus(o.getPaymentStatus())),
+
+            // Tổng quan tiền
+            ExcelColumn.of("Giá trị đơn", o -> o.getOrderValue() != null ? o.getOrderValue() : 0),
+            ExcelColumn.of("COD (chưa phí)", o -> o.getCod() != null ? o.getCod() : 0),
+            ExcelColumn.of("Phí dịch vụ", o -> o.getTotalFee() != null ? o.getTotalFee() : 0),
+            ExcelColumn.of("Người nhận trả", o -> o.getPayer() == OrderPayerType.CUSTOMER
+                    ? codOf(o) + feeOf(o)
+                    : codOf(o)),
+            ExcelColumn.of("Người gửi trả", o -> o.getPayer() == OrderPayerType.SHOP ? feeOf(o) : 0),
+            ExcelColumn.of("Còn nợ", o -> {
+                if (o.getPayer() != OrderPayerType.SHOP) {
+                    return 0;
                 }
-                row.createCell(19).setCellValue(debt);
-
-                // COD thu về
-                double codCollected = !(o.getPayer() == OrderPayerType.SHOP) ? codVal : Math.max(0, codVal - totalFee);
-                row.createCell(20).setCellValue(codCollected);
-
-                // Trạng thái COD
-                row.createCell(21).setCellValue(translateOrderCodStatus(o.getCodStatus()));
-            }
-
-            for (int i = 0; i < headers.length; i++) {
-                sheet.autoSizeColumn(i);
-            }
-
-            ByteArrayOutputStream out = new ByteArrayOutputStream();
-            workbook.write(out);
-            return out.toByteArray();
+                double diff = codOf(o) - feeOf(o);
+                return diff > 0 ? 0 : Math.abs(diff);
+            }),
+            ExcelColumn.of("COD thu về", o -> o.getPayer() != OrderPayerType.SHOP
+                    ? codOf(o)
+                    : Math.max(0, codOf(o) - feeOf(o))),
+            ExcelColumn.of("Trạng thái COD", o -> translateOrderCodStatus(o.getCodStatus()))
+    );
+
+    private static double codOf(Order o) {
+        return o.getCod() != null ? o.getCod() : 0;
+    }
 
-        } catch (Exception e) {
-            throw new AppException(CommonErrorCode.EXPORT_EXCEL_ERROR, e);
-        }
+    private static double feeOf(Order o) {
+        return o.getTotalFee() != null ? o.getTotalFee() : 0;
     }
 
     private void updateOrderProductsWithValidation(Integer userId, Order order,
@@ -1627,32 +1620,11 @@ public class OrderUserService {
         }
     }
 
-    private String generateTrackingNumber() {
-        String prefix = "UTE";
-
-        String date = LocalDate.now()
-                .format(DateTimeFormatter.ofPattern("yyMMdd"));
-
-        String random = UUID.randomUUID()
-                .toString()
-                .replace("-", "")
-                .substring(0, 6)
-                .toUpperCase();
-
-        return prefix + date + random;
-    }
-
     private String generateUniqueTrackingNumber(OrderStatus status) {
         if (status == OrderStatus.DRAFT)
             return null;
 
-        String tracking;
-
-        do {
-            tracking = generateTrackingNumber();
-        } while (repository.existsByTrackingNumber(tracking));
-
-        return tracking;
+        return trackingNumberService.next();
     }
 
     public BigDecimal calculateWeight(
@@ -1892,6 +1864,8 @@ public class OrderUserService {
         order.setReadyForPickupAt(LocalDateTime.now());
         order.setPickupNotificationStage(PickupNotificationStage.NONE);
         repository.save(order);
+        pickupEscalationQueue.armAfterCommit(order.getId(), order.getReadyForPickupAt(),
+                PickupNotificationStage.NONE);
 
         orderHistoryUserService.save(order, null, null, null, OrderHistoryActionType.READY_FOR_PICKUP, null);
     }
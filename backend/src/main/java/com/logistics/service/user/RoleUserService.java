@@ -14,6 +14,7 @@ import com.logistics.request.user.role.RoleSearchUserRequest;
 import com.logistics.request.user.role.RoleUserRequest;
 import com.logistics.response.ListResponse;
 import com.logistics.response.Pagination;
+import com.logistics.security.PermissionAuthorityCache;
 import com.logistics.specification.RoleSpecification;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -141,6 +142,8 @@ public class RoleUserService {
             role.setDescription(request.description());
             role.setPermissionGroups(new HashSet<>(groups));
             repository.save(role);
+            // Chỉ đổi nhóm quyền có thể không kích hoạt @PostUpdate của Role
+            PermissionAuthorityCache.invalidateAfterCommit();
     }
 
     public void delete(int userId, int roleId) {
@@ -16,6 +16,7 @@ import com.logistics.exception.enums.SettlementBatchErrorCode;
 import com.logistics.mapper.OrderMapper;
 import com.logistics.mapper.SettlementBatchMapper;
 import com.logistics.mapper.SettlementTransactionMapper;
+import com.logistics.repository.OrderFetchPlan;
 import com.logistics.repository.OrderRepository;
 import com.logistics.repository.SettlementBatchRepository;
 import com.logistics.repository.SettlementTransactionRepository;
@@ -176,7 +177,7 @@ public class SettlementBatchUserService {
         };
 
         Pageable pageable = PageRequest.of(page - 1, limit, sortOpt);
-        Page<Order> pageData = orderRepository.findAll(spec, pageable);
+        Page<Order> pageData = orderRepository.findAll(spec, pageable, OrderFetchPlan.SETTLEMENT);
 
         List<UserSettlementOrderDto> list = pageData.getContent()
                 .stream()
@@ -340,7 +341,8 @@ public class SettlementBatchUserService {
                 .and(OrderSpecification.settlementBatchId(settlementBatchId))
                 .and(OrderSpecification.userId(shopId));
 
-        List<Order> orders = orderRepository.findAll(orderSpec, Sort.by("createdAt").descending());
+        List<Order> orders = orderRepository.findAll(orderSpec, Sort.by("createdAt").descending(),
+                OrderFetchPlan.SETTLEMENT);
 
         // Lấy toàn bộ giao dịch thanh toán
         List<SettlementTransaction> transactions = transactionRepository
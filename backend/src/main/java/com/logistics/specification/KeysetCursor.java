@@ -0,0 +1,39 @@
+package com.logistics.specification;
+
+import com.logistics.exception.AppException;
+import com.logistics.exception.enums.CommonErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * Vị trí dòng cuối của một trang, gửi cho client dưới dạng chuỗi base64 không cần hiểu nội dung.
+ */
+public record KeysetCursor(LocalDateTime createdAt, Integer id) {
+
+    private static final String SEPARATOR = "_";
+
+    public String encode() {
+        String raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Chuỗi rỗng là trang đầu (trả về null).
+     */
+    public static KeysetCursor decode(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            return new KeysetCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Integer.parseInt(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new AppException(CommonErrorCode.INVALID_CURSOR);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.logistics.specification;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+
+/**
+ * Phân trang theo con trỏ (createdAt, id) cho mọi entity có hai cột này: trang kế tiếp lọc các dòng
+ * đứng sau dòng cuối của trang trước thay vì OFFSET, nên trang sâu tốn như trang đầu.
+ */
+public class KeysetSpecification {
+
+    /**
+     * Các dòng đứng sau cursor theo thứ tự {@link #sort(boolean)}; cursor null là trang đầu.
+     */
+    public static <T> Specification<T> after(KeysetCursor cursor, boolean descending) {
+        return (root, query, cb) -> {
+            if (cursor == null)
+                return null;
+            LocalDateTime createdAt = cursor.createdAt();
+            Integer id = cursor.id();
+            if (descending) {
+                return cb.or(
+                        cb.lessThan(root.get("createdAt"), createdAt),
+                        cb.and(cb.equal(root.get("createdAt"), createdAt), cb.lessThan(root.get("id"), id)));
+            }
+            return cb.or(
+                    cb.greaterThan(root.get("createdAt"), createdAt),
+                    cb.and(cb.equal(root.get("createdAt"), createdAt), cb.greaterThan(root.get("id"), id)));
+        };
+    }
+
+    // id làm khóa phụ để thứ tự ổn định khi nhiều dòng cùng createdAt
+    public static Sort sort(boolean descending) {
+        Sort.Direction direction = descending ? Sort.Direction.DESC : Sort.Direction.ASC;
+        return Sort.by(direction, "createdAt").and(Sort.by(direction, "id"));
+    }
+}
@@ -14,6 +14,10 @@ public class OrderSpecification {
         return (root, query, cb) -> cb.conjunction();
     }
 
+    public static Specification<Order> hasTrackingNumber() {
+        return (root, query, cb) -> cb.isNotNull(root.get("trackingNumber"));
+    }
+
     public static Specification<Order> userId(Integer userId) {
         return (root, query, cb) -> cb.equal(root.get("user").get("id"), userId);
     }
@@ -0,0 +1,9 @@
+package com.logistics.telemetry;
+
+/**
+ * Một điểm GPS của xe. Tọa độ là số nguyên nhân 10^6, tốc độ là km/h nhân 100, thời điểm
+ * tính bằng epoch millis để bộ đệm không giữ đối tượng BigDecimal / LocalDateTime.
+ */
+public record GpsPing(int vehicleId, int shipmentId, int latitudeE6, int longitudeE6, int speedE2,
+                      long recordedAt) {
+}
@@ -0,0 +1,120 @@
+package com.logistics.telemetry;
+
+import com.logistics.config.properties.LiveFleetProperties;
+import com.logistics.dto.manager.fleet.ManagerFleetFrameDto;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.user.SimpSubscription;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Đẩy thay đổi vị trí đội xe tới /topic/fleet/{officeId} theo nhịp {@code broadcastIntervalMs}: mỗi
+ * bưu cục đang có người theo dõi nhận một khung gồm các xe đã đổi vị trí kể từ khung trước, mỗi xe
+ * một dòng với vị trí mới nhất. Ảnh chụp ban đầu lấy qua REST (xem VehicleManagerService.liveFleet).
+ * Chạy trên luồng riêng để nhịp đẩy không bị trễ theo các job @Scheduled dùng chung một luồng.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LiveFleetBroadcaster {
+
+    public static final String TOPIC_PREFIX = "/topic/fleet/";
+
+    private final LiveFleetPositionStore liveFleetPositionStore;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final SimpUserRegistry simpUserRegistry;
+    private final LiveFleetProperties properties;
+
+    private ScheduledExecutorService executor;
+
+    // Tem của khung trước; chỉ luồng live-fleet đọc / ghi
+    private long lastStamp;
+
+    @PostConstruct
+    public void start() {
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "live-fleet");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = Math.max(100, properties.getBroadcastIntervalMs());
+        executor.scheduleAtFixedRate(this::broadcastSafely, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    // Lỗi lọt ra ngoài sẽ làm executor dừng hẳn các lượt sau
+    private void broadcastSafely() {
+        try {
+            broadcast();
+        } catch (Exception e) {
+            log.warn("[LiveFleet] Broadcast failed - {}", e.getMessage());
+        }
+    }
+
+    public void broadcast() {
+        long stamp = liveFleetPositionStore.clock();
+        if (stamp == lastStamp) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        for (Integer officeId : watchedOffices()) {
+            List<GpsPing> changed = liveFleetPositionStore.changedBetween(officeId, lastStamp, stamp);
+            if (changed.isEmpty()) {
+                continue;
+            }
+            try {
+                messagingTemplate.convertAndSend(TOPIC_PREFIX + officeId, toFrame(officeId, false, now, changed));
+            } catch (Exception e) {
+                log.warn("[LiveFleet] Failed to push frame for office {} - {}", officeId, e.getMessage());
+            }
+        }
+        // Xe ghi sau khi đọc đồng hồ có tem lớn hơn stamp nên sẽ nằm ở khung sau
+        lastStamp = stamp;
+    }
+
+    public static ManagerFleetFrameDto toFrame(Integer officeId, boolean snapshot, long at, List<GpsPing> positions) {
+        List<long[]> rows = new ArrayList<>(positions.size());
+        for (GpsPing position : positions) {
+            rows.add(new long[]{
+                    position.vehicleId(),
+                    position.shipmentId(),
+                    position.latitudeE6(),
+                    position.longitudeE6(),
+                    position.speedE2(),
+                    position.recordedAt()
+            });
+        }
+        return new ManagerFleetFrameDto(officeId, snapshot, at, rows);
+    }
+
+    // Bưu cục có ít nhất một phiên đang subscribe topic của nó
+    private Set<Integer> watchedOffices() {
+        Set<Integer> offices = new HashSet<>();
+        for (SimpSubscription subscription : simpUserRegistry.findSubscriptions(
+                s -> s.getDestination() != null && s.getDestination().startsWith(TOPIC_PREFIX))) {
+            try {
+                offices.add(Integer.parseInt(subscription.getDestination().substring(TOPIC_PREFIX.length())));
+            } catch (NumberFormatException ignored) {
+                // Interceptor đã chặn đích không hợp lệ
+            }
+        }
+        return offices;
+    }
+}
@@ -0,0 +1,229 @@
+package com.logistics.telemetry;
+
+import com.logistics.config.properties.LiveFleetProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Vị trí trực tiếp của đội xe. Mỗi xe giữ một slot cố định trong các mảng nguyên thủy (tọa độ,
+ * tốc độ, chuyến, bưu cục, thời điểm) thay vì một đối tượng, kèm chỉ mục bưu cục -> các slot.
+ * <p>
+ * Ghi: khóa theo dải slot. Đọc: không khóa, theo seqlock (số thứ tự lẻ = slot đang được ghi, đọc
+ * lại khi số thứ tự đổi giữa chừng). Mỗi lần ghi nhận một tem từ đồng hồ chung để bên phát sóng lấy
+ * được các xe đã đổi vị trí kể từ tem trước đó.
+ */
+@Slf4j
+@Component
+public class LiveFleetPositionStore {
+
+    private static final int STRIPES = 64;
+    private static final int NO_OFFICE = 0;
+
+    private final int capacity;
+    private final int[] vehicleIds;
+    private final int[] shipmentIds;
+    private final int[] officeIds;
+    private final int[] latitudes;
+    private final int[] longitudes;
+    private final int[] speeds;
+    private final long[] recordedAts;
+    private final long[] stamps;
+    private final AtomicLongArray sequences;
+    private final Object[] stripes = new Object[STRIPES];
+
+    private final Map<Integer, Integer> slotsByVehicle = new ConcurrentHashMap<>();
+    private final AtomicInteger nextSlot = new AtomicInteger();
+    private final AtomicBoolean overflowLogged = new AtomicBoolean();
+    private final AtomicLong clock = new AtomicLong();
+
+    // Bưu cục -> các slot, copy-on-write: chỉ đổi khi xe mới xuất hiện hoặc xe chuyển bưu cục
+    private final Map<Integer, int[]> slotsByOffice = new ConcurrentHashMap<>();
+
+    public LiveFleetPositionStore(LiveFleetProperties properties) {
+        capacity = Math.max(1, properties.getMaxVehicles());
+        vehicleIds = new int[capacity];
+        shipmentIds = new int[capacity];
+        officeIds = new int[capacity];
+        latitudes = new int[capacity];
+        longitudes = new int[capacity];
+        speeds = new int[capacity];
+        recordedAts = new long[capacity];
+        stamps = new long[capacity];
+        sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Object();
+        }
+    }
+
+    /**
+     * Ghi vị trí mới của xe. Điểm cũ hơn vị trí đang giữ (đến trễ) bị bỏ qua.
+     */
+    public void update(GpsPing ping, Integer officeId) {
+        int slot = slotOf(ping.vehicleId());
+        if (slot < 0) {
+            return;
+        }
+        int office = officeId != null ? officeId : NO_OFFICE;
+
+        synchronized (stripes[slot % STRIPES]) {
+            if (sequences.get(slot) != 0 && ping.recordedAt() < recordedAts[slot]) {
+                return;
+            }
+            int previousOffice = officeIds[slot];
+
+            sequences.incrementAndGet(slot);
+            VarHandle.storeStoreFence();
+            shipmentIds[slot] = ping.shipmentId();
+            officeIds[slot] = office;
+            latitudes[slot] = ping.latitudeE6();
+            longitudes[slot] = ping.longitudeE6();
+            speeds[slot] = ping.speedE2();
+            recordedAts[slot] = ping.recordedAt();
+            stamps[slot] = clock.incrementAndGet();
+            sequences.incrementAndGet(slot);
+
+            if (previousOffice != office) {
+                moveToOffice(slot, previousOffice, office);
+            }
+        }
+    }
+
+    /**
+     * Vị trí mới nhất của xe trên node này, hoặc null nếu chưa nhận điểm nào.
+     */
+    public GpsPing get(Integer vehicleId) {
+        Integer slot = vehicleId != null ? slotsByVehicle.get(vehicleId) : null;
+        if (slot == null) {
+            return null;
+        }
+        Entry entry = read(slot);
+        return entry != null ? entry.position() : null;
+    }
+
+    /**
+     * Tem của lần ghi gần nhất; dùng làm mốc cho {@link #changedBetween}.
+     */
+    public long clock() {
+        return clock.get();
+    }
+
+    /**
+     * Xe của bưu cục được ghi sau tem {@code fromStamp} và không muộn hơn tem {@code toStamp}.
+     * Mỗi xe chỉ có vị trí mới nhất, nên nhiều điểm trong cùng khoảng được gộp thành một.
+     */
+    public List<GpsPing> changedBetween(int officeId, long fromStamp, long toStamp) {
+        int[] slots = slotsByOffice.get(officeId);
+        if (slots == null) {
+            return List.of();
+        }
+        List<GpsPing> result = new ArrayList<>();
+        for (int slot : slots) {
+            Entry entry = read(slot);
+            if (entry != null && entry.officeId() == officeId
+                    && entry.stamp() > fromStamp && entry.stamp() <= toStamp) {
+                result.add(entry.position());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Vị trí hiện tại của mọi xe thuộc bưu cục có điểm GPS từ {@code notBefore} (epoch millis) trở đi.
+     */
+    public List<GpsPing> snapshot(int officeId, long notBefore) {
+        int[] slots = slotsByOffice.get(officeId);
+        if (slots == null) {
+            return List.of();
+        }
+        List<GpsPing> result = new ArrayList<>(slots.length);
+        for (int slot : slots) {
+            Entry entry = read(slot);
+            if (entry != null && entry.officeId() == officeId && entry.position().recordedAt() >= notBefore) {
+                result.add(entry.position());
+            }
+        }
+        return result;
+    }
+
+    public int size() {
+        return slotsByVehicle.size();
+    }
+
+    private int slotOf(int vehicleId) {
+        Integer slot = slotsByVehicle.get(vehicleId);
+        if (slot == null) {
+            slot = slotsByVehicle.computeIfAbsent(vehicleId, id -> {
+                int allocated = nextSlot.getAndIncrement();
+                if (allocated >= capacity) {
+                    return null;
+                }
+                vehicleIds[allocated] = id;
+                return allocated;
+            });
+        }
+        if (slot == null) {
+            if (overflowLogged.compareAndSet(false, true)) {
+                log.warn("[LiveFleet] Store is full ({} vehicles), new vehicles are not tracked live", capacity);
+            }
+            return -1;
+        }
+        return slot;
+    }
+
+    private Entry read(int slot) {
+        while (true) {
+            long sequence = sequences.get(slot);
+            if (sequence == 0) {
+                return null;
+            }
+            if ((sequence & 1) != 0) {
+                Thread.onSpinWait();
+                continue;
+            }
+            GpsPing position = new GpsPing(vehicleIds[slot], shipmentIds[slot], latitudes[slot], longitudes[slot],
+                    speeds[slot], recordedAts[slot]);
+            int office = officeIds[slot];
+            long stamp = stamps[slot];
+            VarHandle.acquireFence();
+            if (sequences.get(slot) == sequence) {
+                return new Entry(position, office, stamp);
+            }
+        }
+    }
+
+    private void moveToOffice(int slot, int fromOffice, int toOffice) {
+        synchronized (slotsByOffice) {
+            if (fromOffice != NO_OFFICE) {
+                int[] slots = slotsByOffice.get(fromOffice);
+                if (slots != null) {
+                    int[] remaining = Arrays.stream(slots).filter(s -> s != slot).toArray();
+                    if (remaining.length == 0) {
+                        slotsByOffice.remove(fromOffice);
+                    } else {
+                        slotsByOffice.put(fromOffice, remaining);
+                    }
+                }
+            }
+            if (toOffice != NO_OFFICE) {
+                int[] slots = slotsByOffice.getOrDefault(toOffice, new int[0]);
+                int[] grown = Arrays.copyOf(slots, slots.length + 1);
+                grown[slots.length] = slot;
+                slotsByOffice.put(toOffice, grown);
+            }
+        }
+    }
+
+    private record Entry(GpsPing position, int officeId, long stamp) {
+    }
+}
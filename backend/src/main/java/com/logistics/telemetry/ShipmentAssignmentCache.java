@@ -0,0 +1,71 @@
+package com.logistics.telemetry;
+
+import com.logistics.cache.BoundedTtlCache;
+import com.logistics.config.properties.TelemetryProperties;
+import com.logistics.repository.ShipmentRepository;
+import com.logistics.utils.TransactionUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Cache (tài xế, xe, bưu cục của xe) của chuyến hàng cho đường nhận GPS: mỗi tài xế gửi vị trí vài
+ * giây một lần nên việc kiểm tra quyền không được tốn một lượt nạp Shipment + Employee cho mỗi điểm.
+ * Manager đổi tài xế / xe của chuyến thì bỏ cache của chuyến sau commit; các thay đổi khác (vd xe
+ * chuyển bưu cục) có hiệu lực với GPS sau tối đa {@code assignmentTtlMs}.
+ */
+@Component
+@RequiredArgsConstructor
+public class ShipmentAssignmentCache extends BoundedTtlCache<Integer, ShipmentAssignmentCache.Assignment> {
+
+    private final ShipmentRepository shipmentRepository;
+    private final TelemetryProperties properties;
+
+    /**
+     * Tài xế, xe và bưu cục của xe, hoặc null nếu chuyến không tồn tại.
+     */
+    public Assignment get(Integer shipmentId) {
+        Assignment cached = lookup(shipmentId);
+        if (cached != null) {
+            recordHit();
+            return cached;
+        }
+
+        recordMiss();
+        List<Object[]> rows = shipmentRepository.findTelemetryAssignmentById(shipmentId);
+        if (rows.isEmpty()) {
+            remove(shipmentId);
+            return null;
+        }
+        Object[] row = rows.get(0);
+        Assignment assignment = new Assignment((Integer) row[0], (Integer) row[1], (Integer) row[2]);
+        put(shipmentId, assignment);
+        return assignment;
+    }
+
+    /**
+     * Bỏ (tài xế, xe) đã cache của chuyến sau khi transaction hiện tại commit.
+     */
+    public void evictAfterCommit(Integer shipmentId) {
+        TransactionUtils.runAfterCommit(() -> remove(shipmentId));
+    }
+
+    @Override
+    public String statsName() {
+        return "Shipment Assignment Cache";
+    }
+
+    @Override
+    protected int maxEntries() {
+        return properties.getAssignmentMaxEntries();
+    }
+
+    @Override
+    protected long ttlMs(Assignment assignment) {
+        return properties.getAssignmentTtlMs();
+    }
+
+    public record Assignment(Integer driverUserId, Integer vehicleId, Integer officeId) {
+    }
+}
@@ -0,0 +1,114 @@
+package com.logistics.telemetry;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Mã hóa lộ trình thành blob gọn: byte phiên bản, số điểm, rồi mỗi điểm là hiệu so với điểm trước
+ * (thời điểm, vĩ độ, kinh độ, tốc độ) dạng zigzag varint và độ quan trọng (cm) dạng varint. Hai điểm
+ * GPS liên tiếp chỉ lệch vài chục mét và vài giây nên mỗi điểm thường chiếm khoảng 8-10 byte.
+ */
+public final class TrajectoryCodec {
+
+    private static final int VERSION = 1;
+
+    private TrajectoryCodec() {
+    }
+
+    public static byte[] encode(List<TrajectoryPoint> points, int[] significanceCm) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(points.size() * 10 + 8);
+        out.write(VERSION);
+        writeUnsigned(out, points.size());
+
+        long previousTime = 0;
+        long previousLatitude = 0;
+        long previousLongitude = 0;
+        long previousSpeed = 0;
+        for (int i = 0; i < points.size(); i++) {
+            TrajectoryPoint point = points.get(i);
+            writeSigned(out, point.recordedAt() - previousTime);
+            writeSigned(out, point.latitudeE6() - previousLatitude);
+            writeSigned(out, point.longitudeE6() - previousLongitude);
+            writeSigned(out, point.speedE2() - previousSpeed);
+            writeUnsigned(out, significanceCm[i]);
+
+            previousTime = point.recordedAt();
+            previousLatitude = point.latitudeE6();
+            previousLongitude = point.longitudeE6();
+            previousSpeed = point.speedE2();
+        }
+        return out.toByteArray();
+    }
+
+    public static Decoded decode(byte[] data) {
+        Reader reader = new Reader(data);
+        int version = (int) reader.readUnsigned();
+        if (version != VERSION) {
+            throw new IllegalStateException("Unsupported trajectory format version " + version);
+        }
+
+        int count = (int) reader.readUnsigned();
+        List<TrajectoryPoint> points = new ArrayList<>(count);
+        int[] significanceCm = new int[count];
+
+        long time = 0;
+        long latitude = 0;
+        long longitude = 0;
+        long speed = 0;
+        for (int i = 0; i < count; i++) {
+            time += reader.readSigned();
+            latitude += reader.readSigned();
+            longitude += reader.readSigned();
+            speed += reader.readSigned();
+            significanceCm[i] = (int) reader.readUnsigned();
+            points.add(new TrajectoryPoint(time, (int) latitude, (int) longitude, (int) speed));
+        }
+        return new Decoded(points, significanceCm);
+    }
+
+    private static void writeSigned(ByteArrayOutputStream out, long value) {
+        writeUnsigned(out, (value << 1) ^ (value >> 63));
+    }
+
+    private static void writeUnsigned(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    public record Decoded(List<TrajectoryPoint> points, int[] significanceCm) {
+    }
+
+    private static final class Reader {
+        private final byte[] data;
+        private int position;
+
+        private Reader(byte[] data) {
+            this.data = data;
+        }
+
+        private long readUnsigned() {
+            long value = 0;
+            int shift = 0;
+            while (true) {
+                if (position >= data.length) {
+                    throw new IllegalStateException("Truncated trajectory data");
+                }
+                byte b = data[position++];
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+                shift += 7;
+            }
+        }
+
+        private long readSigned() {
+            long value = readUnsigned();
+            return (value >>> 1) ^ -(value & 1);
+        }
+    }
+}
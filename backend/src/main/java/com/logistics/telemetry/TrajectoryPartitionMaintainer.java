@@ -0,0 +1,178 @@
+package com.logistics.telemetry;
+
+import com.logistics.config.properties.TrajectoryProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.stream.Collectors;
+
+/**
+ * Quản lý phân vùng ngày của vehicle_trackings (PARTITION BY RANGE (TO_DAYS(recorded_at))): tách
+ * phân vùng p_max thành các ngày sắp tới và xóa nguyên phân vùng của các ngày quá
+ * {@code retentionDays}, thay cho DELETE từng dòng trên bảng hàng triệu dòng mỗi ngày. Phân vùng còn
+ * điểm của chuyến đã kết thúc mà chưa nén được lộ trình thì được giữ lại tới lần chạy sau.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TrajectoryPartitionMaintainer {
+
+    private static final String MAX_PARTITION = "p_max";
+
+    // TO_DAYS('1970-01-01') của MySQL
+    private static final long TO_DAYS_EPOCH = 719528;
+
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'p'yyyyMMdd");
+
+    private static final String PARTITIONS_SQL = """
+            select partition_name, partition_description
+            from information_schema.partitions
+            where table_schema = database() and table_name = 'vehicle_trackings' and partition_name is not null
+            order by partition_ordinal_position
+            """;
+
+    // Chuyến đã kết thúc, có điểm trong phân vùng nhưng chưa có lộ trình nén (cùng điều kiện với lúc nén)
+    private static final String UNCOMPRESSED_SHIPMENTS_SQL = """
+            select distinct vt.shipment_id
+            from vehicle_trackings partition (%s) vt
+            join shipments s on s.id = vt.shipment_id
+            where s.status in (%s) and s.vehicle_id is not null and s.end_time is not null
+              and not exists (select 1 from shipment_trajectories t where t.shipment_id = vt.shipment_id)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TrajectoryService trajectoryService;
+    private final TrajectoryProperties properties;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        if (!properties.isPartitionMaintenanceEnabled()) {
+            return;
+        }
+        try {
+            ensurePartitions();
+        } catch (Exception e) {
+            log.error("[Trajectory] Failed to prepare vehicle_trackings partitions - {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(cron = "0 15 0 * * ?")
+    public void maintain() {
+        if (!properties.isPartitionMaintenanceEnabled()) {
+            return;
+        }
+        try {
+            ensurePartitions();
+            // Nén nốt lộ trình các chuyến đã kết thúc trước khi điểm gốc của chúng bị xóa
+            trajectoryService.compressFinishedShipments();
+            dropExpiredPartitions();
+        } catch (Exception e) {
+            log.error("[Trajectory] Partition maintenance failed - {}", e.getMessage());
+        }
+    }
+
+    private void ensurePartitions() {
+        List<Partition> partitions = listPartitions();
+        if (partitions.stream().noneMatch(p -> MAX_PARTITION.equals(p.name()))) {
+            log.warn("[Trajectory] vehicle_trackings has no {} partition, skipping maintenance", MAX_PARTITION);
+            return;
+        }
+
+        // Phân vùng có cận trên B chứa các ngày < B: ngày còn thiếu đầu tiên chính là B
+        LocalDate today = LocalDate.now();
+        LocalDate firstDay = partitions.stream()
+                .filter(p -> p.upperBound() != null)
+                .map(p -> fromToDays(p.upperBound()))
+                .max(LocalDate::compareTo)
+                .orElse(today);
+        LocalDate lastDay = today.plusDays(Math.max(1, properties.getPartitionAheadDays()));
+        if (firstDay.isAfter(lastDay)) {
+            return;
+        }
+
+        StringJoiner definitions = new StringJoiner(", ");
+        for (LocalDate day = firstDay; !day.isAfter(lastDay); day = day.plusDays(1)) {
+            definitions.add("partition " + PARTITION_NAME.format(day)
+                    + " values less than (" + toDays(day.plusDays(1)) + ")");
+        }
+        definitions.add("partition " + MAX_PARTITION + " values less than maxvalue");
+
+        jdbcTemplate.execute("alter table vehicle_trackings reorganize partition " + MAX_PARTITION
+                + " into (" + definitions + ")");
+        log.info("[Trajectory] Added vehicle_trackings partitions {} .. {}", firstDay, lastDay);
+    }
+
+    private void dropExpiredPartitions() {
+        long cutoff = toDays(LocalDate.now().minusDays(Math.max(1, properties.getRetentionDays())));
+        List<String> expired = new ArrayList<>();
+        for (Partition partition : listPartitions()) {
+            if (partition.upperBound() != null && partition.upperBound() <= cutoff) {
+                expired.add(partition.name());
+            }
+        }
+        expired.removeIf(partition -> !isCompressed(partition));
+        if (expired.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.execute("alter table vehicle_trackings drop partition " + String.join(", ", expired));
+        log.info("[Trajectory] Dropped expired vehicle_trackings partitions {}", expired);
+    }
+
+    /**
+     * Mọi chuyến đã kết thúc có điểm trong phân vùng đều đã có lộ trình nén (nén bù nếu còn thiếu).
+     */
+    private boolean isCompressed(String partition) {
+        List<Integer> pending = uncompressedShipments(partition);
+        if (pending.isEmpty()) {
+            return true;
+        }
+        trajectoryService.compressShipments(pending);
+        pending = uncompressedShipments(partition);
+        if (pending.isEmpty()) {
+            return true;
+        }
+        log.warn("[Trajectory] Keeping partition {}: shipments {} have no compressed trajectory yet",
+                partition, pending);
+        return false;
+    }
+
+    private List<Integer> uncompressedShipments(String partition) {
+        String statuses = TrajectoryService.FINISHED_STATUSES.stream()
+                .map(status -> "'" + status.name() + "'")
+                .collect(Collectors.joining(", "));
+        return jdbcTemplate.queryForList(UNCOMPRESSED_SHIPMENTS_SQL.formatted(partition, statuses), Integer.class);
+    }
+
+    private List<Partition> listPartitions() {
+        return jdbcTemplate.query(PARTITIONS_SQL, (rs, rowNum) -> {
+            String description = rs.getString("partition_description");
+            Long upperBound = description == null || "MAXVALUE".equalsIgnoreCase(description)
+                    ? null
+                    : Long.parseLong(description.trim());
+            return new Partition(rs.getString("partition_name"), upperBound);
+        });
+    }
+
+    private static long toDays(LocalDate day) {
+        return day.toEpochDay() + TO_DAYS_EPOCH;
+    }
+
+    private static LocalDate fromToDays(long toDays) {
+        return LocalDate.ofEpochDay(toDays - TO_DAYS_EPOCH);
+    }
+
+    // Cận trên (TO_DAYS, không tính) của phân vùng; null với p_max
+    private record Partition(String name, Long upperBound) {
+    }
+}
@@ -0,0 +1,7 @@
+package com.logistics.telemetry;
+
+/**
+ * Một điểm của lộ trình: thời điểm (epoch millis), tọa độ nhân 10^6, tốc độ km/h nhân 100.
+ */
+public record TrajectoryPoint(long recordedAt, int latitudeE6, int longitudeE6, int speedE2) {
+}
@@ -0,0 +1,218 @@
+package com.logistics.telemetry;
+
+import com.logistics.config.properties.TrajectoryProperties;
+import com.logistics.entity.Shipment;
+import com.logistics.entity.ShipmentTrajectory;
+import com.logistics.enums.ShipmentStatus;
+import com.logistics.repository.ShipmentRepository;
+import com.logistics.repository.ShipmentTrajectoryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Lộ trình của chuyến hàng. Chuyến đã kết thúc được rút gọn (xem {@link TrajectorySimplifier}) và
+ * nén thành một blob trong shipment_trajectories; điểm gốc ở vehicle_trackings chỉ còn cần cho
+ * chuyến đang chạy và hết hạn theo phân vùng ngày (xem {@link TrajectoryPartitionMaintainer}).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TrajectoryService {
+
+    static final List<ShipmentStatus> FINISHED_STATUSES = List.of(ShipmentStatus.COMPLETED, ShipmentStatus.CANCELLED);
+
+    // Lấy các điểm mới nhất trước để chuyến đang chạy bị cắt ở phần cũ chứ không phải phần mới
+    private static final String RAW_POINTS_SQL = """
+            select latitude_e6, longitude_e6, speed_e2, recorded_at
+            from vehicle_trackings
+            where shipment_id = ? and recorded_at >= ? and recorded_at < ?
+            order by recorded_at desc
+            limit ?
+            """;
+
+    // Độ quan trọng của hai đầu mút: luôn được giữ ở mọi độ phân giải
+    private static final int ENDPOINT_SIGNIFICANCE = Integer.MAX_VALUE;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ShipmentRepository shipmentRepository;
+    private final ShipmentTrajectoryRepository shipmentTrajectoryRepository;
+    private final TrajectoryProperties properties;
+
+    /**
+     * Lộ trình của chuyến theo thời gian tăng dần. {@code toleranceMeters}: bỏ điểm lệch khỏi đường
+     * rút gọn ít hơn mức này (mặc định là sai số nền); {@code maxPoints}: tăng sai số cho tới khi còn
+     * không quá bấy nhiêu điểm.
+     */
+    public List<TrajectoryPoint> getPath(Shipment shipment, Double toleranceMeters, Integer maxPoints) {
+        List<TrajectoryPoint> points;
+        int[] significanceCm;
+
+        Optional<ShipmentTrajectory> stored = shipmentTrajectoryRepository.findById(shipment.getId());
+        if (stored.isPresent()) {
+            TrajectoryCodec.Decoded decoded = TrajectoryCodec.decode(stored.get().getData());
+            points = decoded.points();
+            significanceCm = decoded.significanceCm();
+        } else {
+            LocalDateTime to = shipment.getEndTime() != null
+                    ? shipment.getEndTime().plus(Duration.ofMillis(properties.getFinishGraceMs()))
+                    : LocalDateTime.now().plusMinutes(1);
+            points = loadRawPoints(shipment.getId(), shipment.getCreatedAt(), to, properties.getMaxRawPoints());
+            significanceCm = toCentimeters(TrajectorySimplifier.significance(points));
+        }
+
+        double tolerance = toleranceMeters != null ? Math.max(0, toleranceMeters) : properties.getToleranceMeters();
+        return select(points, significanceCm, Math.round(tolerance * 100), maxPoints);
+    }
+
+    @Scheduled(fixedDelayString = "${logistics.trajectory.compress-interval-ms:300000}",
+            initialDelayString = "${logistics.trajectory.compress-interval-ms:300000}")
+    public void compressFinishedShipments() {
+        int batchSize = Math.max(1, properties.getCompressBatchSize());
+        LocalDateTime now = LocalDateTime.now();
+        // Chuyến kết thúc trước mốc giữ dữ liệu không còn điểm gốc để nén
+        LocalDateTime endedAfter = now.minusDays(properties.getRetentionDays());
+        LocalDateTime endedBefore = now.minus(Duration.ofMillis(properties.getFinishGraceMs()));
+
+        int compressed = 0;
+        List<Integer> failed = new ArrayList<>();
+        // Con trỏ (endTime, id): chuyến nén lỗi vẫn chưa có lộ trình nhưng không bị đọc lại trong chu kỳ này
+        LocalDateTime afterEndTime = endedAfter;
+        Integer afterId = 0;
+        List<Object[]> rows;
+        do {
+            rows = shipmentRepository.findFinishedWithoutTrajectory(FINISHED_STATUSES, afterEndTime, afterId,
+                    endedBefore, PageRequest.of(0, batchSize));
+            for (Object[] row : rows) {
+                if (compress(row)) {
+                    compressed++;
+                } else {
+                    failed.add((Integer) row[0]);
+                }
+            }
+            if (!rows.isEmpty()) {
+                Object[] last = rows.get(rows.size() - 1);
+                afterEndTime = (LocalDateTime) last[3];
+                afterId = (Integer) last[0];
+            }
+        } while (rows.size() == batchSize);
+
+        if (compressed > 0) {
+            log.info("[Trajectory] Compressed {} shipment trajectories", compressed);
+        }
+        if (!failed.isEmpty()) {
+            log.warn("[Trajectory] Could not compress {} shipments, retrying next cycle: {}", failed.size(), failed);
+        }
+    }
+
+    /**
+     * Nén các chuyến đã kết thúc trong danh sách mà chưa có lộ trình nén; trả về số chuyến nén lỗi.
+     */
+    public int compressShipments(Collection<Integer> shipmentIds) {
+        if (shipmentIds.isEmpty()) {
+            return 0;
+        }
+        int failed = 0;
+        for (Object[] row : shipmentRepository.findFinishedWithoutTrajectoryByIdIn(shipmentIds, FINISHED_STATUSES)) {
+            if (!compress(row)) {
+                failed++;
+            }
+        }
+        return failed;
+    }
+
+    // row: [id, vehicleId, createdAt, endTime]
+    private boolean compress(Object[] row) {
+        Integer shipmentId = (Integer) row[0];
+        try {
+            compress(shipmentId, (Integer) row[1], (LocalDateTime) row[2], (LocalDateTime) row[3]);
+            return true;
+        } catch (Exception e) {
+            log.error("[Trajectory] Failed to compress shipment {} - {}", shipmentId, e.getMessage());
+            return false;
+        }
+    }
+
+    private void compress(Integer shipmentId, Integer vehicleId, LocalDateTime createdAt, LocalDateTime endTime) {
+        LocalDateTime to = endTime.plus(Duration.ofMillis(properties.getFinishGraceMs()));
+        List<TrajectoryPoint> raw = loadRawPoints(shipmentId, createdAt, to, Integer.MAX_VALUE);
+        int[] significanceCm = toCentimeters(TrajectorySimplifier.significance(raw));
+
+        // Chỉ lưu các điểm qua được sai số nền; độ quan trọng đi kèm vẫn dùng được cho sai số lớn hơn
+        long baseToleranceCm = Math.round(properties.getToleranceMeters() * 100);
+        List<TrajectoryPoint> kept = new ArrayList<>();
+        List<Integer> keptSignificance = new ArrayList<>();
+        for (int i = 0; i < raw.size(); i++) {
+            if (significanceCm[i] > baseToleranceCm) {
+                kept.add(raw.get(i));
+                keptSignificance.add(significanceCm[i]);
+            }
+        }
+
+        ShipmentTrajectory trajectory = new ShipmentTrajectory();
+        trajectory.setShipmentId(shipmentId);
+        trajectory.setVehicleId(vehicleId);
+        trajectory.setRawPointCount(raw.size());
+        trajectory.setPointCount(kept.size());
+        trajectory.setToleranceCm((int) baseToleranceCm);
+        if (!raw.isEmpty()) {
+            trajectory.setStartedAt(new Timestamp(raw.get(0).recordedAt()).toLocalDateTime());
+            trajectory.setEndedAt(new Timestamp(raw.get(raw.size() - 1).recordedAt()).toLocalDateTime());
+        }
+        trajectory.setData(TrajectoryCodec.encode(kept, keptSignificance.stream().mapToInt(Integer::intValue).toArray()));
+        shipmentTrajectoryRepository.save(trajectory);
+    }
+
+    private List<TrajectoryPoint> loadRawPoints(Integer shipmentId, LocalDateTime from, LocalDateTime to, int limit) {
+        List<TrajectoryPoint> points = jdbcTemplate.query(RAW_POINTS_SQL,
+                (rs, rowNum) -> new TrajectoryPoint(
+                        rs.getTimestamp("recorded_at").getTime(),
+                        rs.getInt("latitude_e6"),
+                        rs.getInt("longitude_e6"),
+                        rs.getInt("speed_e2")),
+                shipmentId, Timestamp.valueOf(from), Timestamp.valueOf(to), limit);
+        Collections.reverse(points);
+        return points;
+    }
+
+    private static int[] toCentimeters(double[] significance) {
+        int[] result = new int[significance.length];
+        for (int i = 0; i < significance.length; i++) {
+            result[i] = Double.isInfinite(significance[i])
+                    ? ENDPOINT_SIGNIFICANCE
+                    : (int) Math.min(ENDPOINT_SIGNIFICANCE - 1L, Math.round(significance[i] * 100));
+        }
+        return result;
+    }
+
+    private static List<TrajectoryPoint> select(List<TrajectoryPoint> points, int[] significanceCm,
+            long thresholdCm, Integer maxPoints) {
+        if (maxPoints != null && maxPoints >= 2 && maxPoints < points.size()) {
+            // Giữ các điểm lớn hơn giá trị thứ (maxPoints + 1) tính từ lớn nhất
+            int[] sorted = significanceCm.clone();
+            Arrays.sort(sorted);
+            thresholdCm = Math.max(thresholdCm, sorted[sorted.length - maxPoints - 1]);
+        }
+
+        List<TrajectoryPoint> result = new ArrayList<>();
+        for (int i = 0; i < points.size(); i++) {
+            if (significanceCm[i] == ENDPOINT_SIGNIFICANCE || significanceCm[i] > thresholdCm) {
+                result.add(points.get(i));
+            }
+        }
+        return result;
+    }
+}
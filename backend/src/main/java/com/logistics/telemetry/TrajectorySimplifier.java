@@ -0,0 +1,86 @@
+package com.logistics.telemetry;
+
+import com.logistics.utils.GeoUtils;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Rút gọn lộ trình theo Douglas-Peucker. Thay vì chạy lại thuật toán cho mỗi sai số, mỗi điểm nhận
+ * một độ quan trọng (m): khoảng cách tới đoạn nối khi điểm được chọn, chặn trên bởi độ quan trọng của
+ * điểm cha. Nhờ chặn trên, giữ các điểm có độ quan trọng lớn hơn ε cho đúng kết quả Douglas-Peucker
+ * với sai số ε, nên một lần tính phục vụ được mọi độ phân giải.
+ */
+public final class TrajectorySimplifier {
+
+    private static final double METERS_PER_DEGREE = 111_320.0;
+
+    private TrajectorySimplifier() {
+    }
+
+    /**
+     * Độ quan trọng (m) của từng điểm; hai đầu mút luôn là vô cùng.
+     */
+    public static double[] significance(List<TrajectoryPoint> points) {
+        int n = points.size();
+        double[] result = new double[n];
+        if (n == 0) {
+            return result;
+        }
+        result[0] = Double.POSITIVE_INFINITY;
+        result[n - 1] = Double.POSITIVE_INFINITY;
+        if (n < 3) {
+            return result;
+        }
+
+        // Chiếu phẳng quanh điểm đầu (đủ chính xác trong phạm vi một chuyến hàng)
+        double cosLat = Math.cos(Math.toRadians(GeoUtils.fromE6(points.get(0).latitudeE6())));
+        double[] x = new double[n];
+        double[] y = new double[n];
+        for (int i = 0; i < n; i++) {
+            TrajectoryPoint point = points.get(i);
+            x[i] = GeoUtils.fromE6(point.longitudeE6()) * METERS_PER_DEGREE * cosLat;
+            y[i] = GeoUtils.fromE6(point.latitudeE6()) * METERS_PER_DEGREE;
+        }
+
+        // Dùng stack thay cho đệ quy: lộ trình dài không làm tràn stack của luồng
+        Deque<double[]> ranges = new ArrayDeque<>();
+        ranges.push(new double[]{0, n - 1, Double.POSITIVE_INFINITY});
+        while (!ranges.isEmpty()) {
+            double[] range = ranges.pop();
+            int from = (int) range[0];
+            int to = (int) range[1];
+            if (to - from < 2) {
+                continue;
+            }
+
+            int farthest = from + 1;
+            double maxDistance = -1;
+            for (int i = from + 1; i < to; i++) {
+                double distance = distanceToSegment(x[i], y[i], x[from], y[from], x[to], y[to]);
+                if (distance > maxDistance) {
+                    maxDistance = distance;
+                    farthest = i;
+                }
+            }
+
+            double value = Math.min(maxDistance, range[2]);
+            result[farthest] = value;
+            ranges.push(new double[]{from, farthest, value});
+            ranges.push(new double[]{farthest, to, value});
+        }
+        return result;
+    }
+
+    private static double distanceToSegment(double px, double py, double ax, double ay, double bx, double by) {
+        double dx = bx - ax;
+        double dy = by - ay;
+        double lengthSquared = dx * dx + dy * dy;
+        if (lengthSquared == 0) {
+            return Math.hypot(px - ax, py - ay);
+        }
+        double t = Math.max(0, Math.min(1, ((px - ax) * dx + (py - ay) * dy) / lengthSquared));
+        return Math.hypot(px - (ax + t * dx), py - (ay + t * dy));
+    }
+}
@@ -0,0 +1,230 @@
+package com.logistics.telemetry;
+
+import com.logistics.config.properties.TelemetryProperties;
+import com.logistics.monitoring.StatsSource;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Ghi GPS theo kiểu chỉ nối thêm: luồng request đưa {@link GpsPing} vào hàng đợi không khóa; một
+ * luồng nền batch insert vehicle_trackings theo nhịp {@code flushIntervalMs} và ghi vị trí mới nhất
+ * (lấy từ {@link LiveFleetPositionStore}) xuống vehicles theo chu kỳ {@code positionWriteBackMs},
+ * mỗi xe một câu update dù nhận bao nhiêu điểm trong chu kỳ.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VehicleTelemetryWriter implements StatsSource {
+
+    private static final String INSERT_SQL = """
+            insert into vehicle_trackings
+                (vehicle_id, shipment_id, latitude_e6, longitude_e6, speed_e2, recorded_at)
+            values (?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final int[] INSERT_TYPES = {
+            Types.INTEGER, Types.INTEGER, Types.INTEGER, Types.INTEGER, Types.INTEGER, Types.TIMESTAMP
+    };
+
+    private static final String UPDATE_POSITION_SQL = "update vehicles set latitude = ?, longitude = ? where id = ?";
+
+    private static final int[] UPDATE_POSITION_TYPES = {Types.DECIMAL, Types.DECIMAL, Types.INTEGER};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TelemetryProperties properties;
+    private final LiveFleetPositionStore liveFleetPositionStore;
+
+    // Hàng đợi không khóa; giới hạn sức chứa bằng bộ đếm riêng vì size() của hàng đợi là O(n)
+    private final ConcurrentLinkedQueue<GpsPing> buffer = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger buffered = new AtomicInteger();
+
+    // Các xe có vị trí chưa ghi xuống vehicles
+    private final Set<Integer> dirtyVehicles = ConcurrentHashMap.newKeySet();
+
+    private final AtomicLong accepted = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicLong positionWrites = new AtomicLong();
+
+    private Thread worker;
+    private volatile boolean running;
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        worker = new Thread(this::run, "telemetry-writer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * Nhận một điểm GPS (vị trí trực tiếp đã được ghi vào store). Không truy cập database và không
+     * bao giờ chặn luồng request.
+     */
+    public void submit(GpsPing ping) {
+        dirtyVehicles.add(ping.vehicleId());
+
+        if (buffered.incrementAndGet() > Math.max(1, properties.getBufferCapacity())) {
+            buffered.decrementAndGet();
+            if (dropped.incrementAndGet() % 1000 == 1) {
+                log.warn("[Telemetry] Buffer full, dropped {} pings so far (vehicle {})",
+                        dropped.get(), ping.vehicleId());
+            }
+            return;
+        }
+        buffer.offer(ping);
+        accepted.incrementAndGet();
+    }
+
+    private void run() {
+        int batchSize = Math.max(1, properties.getBatchSize());
+        long flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(10, properties.getFlushIntervalMs()));
+        long writeBackNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1000, properties.getPositionWriteBackMs()));
+        long nextWriteBack = System.nanoTime() + writeBackNanos;
+        List<GpsPing> batch = new ArrayList<>(batchSize);
+
+        while (running || !buffer.isEmpty()) {
+            try {
+                GpsPing ping;
+                while (batch.size() < batchSize && (ping = buffer.poll()) != null) {
+                    batch.add(ping);
+                }
+                if (!batch.isEmpty()) {
+                    buffered.addAndGet(-batch.size());
+                    write(batch);
+                }
+                if (System.nanoTime() - nextWriteBack >= 0) {
+                    writeBackPositions();
+                    nextWriteBack = System.nanoTime() + writeBackNanos;
+                }
+            } catch (Exception e) {
+                failed.addAndGet(batch.size());
+                log.error("[Telemetry] Failed to write {} pings - {}", batch.size(), e.getMessage());
+            } finally {
+                batch.clear();
+            }
+            // Hàng đợi đã cạn: nghỉ một nhịp để gom điểm cho lô sau
+            if (running && buffer.isEmpty()) {
+                LockSupport.parkNanos(this, flushIntervalNanos);
+            }
+        }
+        writeBackPositions();
+    }
+
+    private void write(List<GpsPing> batch) {
+        List<Object[]> rows = new ArrayList<>(batch.size());
+        for (GpsPing ping : batch) {
+            rows.add(new Object[]{
+                    ping.vehicleId(),
+                    ping.shipmentId(),
+                    ping.latitudeE6(),
+                    ping.longitudeE6(),
+                    ping.speedE2(),
+                    new Timestamp(ping.recordedAt())
+            });
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, rows, INSERT_TYPES);
+            written.addAndGet(rows.size());
+        } catch (Exception e) {
+            // Một dòng lỗi (xe / chuyến đã bị xóa) không được kéo theo cả lô: ghi lại từng dòng
+            log.warn("[Telemetry] Batch insert failed, retrying row by row - {}", e.getMessage());
+            for (Object[] row : rows) {
+                try {
+                    jdbcTemplate.update(INSERT_SQL, row, INSERT_TYPES);
+                    written.incrementAndGet();
+                } catch (Exception rowError) {
+                    failed.incrementAndGet();
+                }
+            }
+        }
+        batches.incrementAndGet();
+    }
+
+    private void writeBackPositions() {
+        if (dirtyVehicles.isEmpty()) {
+            return;
+        }
+        List<Object[]> rows = new ArrayList<>(dirtyVehicles.size());
+        for (Integer vehicleId : dirtyVehicles) {
+            // Gỡ khỏi dirty trước khi đọc vị trí: điểm đến sau đó sẽ đánh dấu lại cho chu kỳ kế tiếp
+            dirtyVehicles.remove(vehicleId);
+            GpsPing position = liveFleetPositionStore.get(vehicleId);
+            if (position != null) {
+                rows.add(new Object[]{
+                        BigDecimal.valueOf(position.latitudeE6(), 6),
+                        BigDecimal.valueOf(position.longitudeE6(), 6),
+                        vehicleId
+                });
+            }
+        }
+        if (rows.isEmpty()) {
+            return;
+        }
+        try {
+            jdbcTemplate.batchUpdate(UPDATE_POSITION_SQL, rows, UPDATE_POSITION_TYPES);
+            positionWrites.addAndGet(rows.size());
+        } catch (Exception e) {
+            // Đánh dấu lại để thử ở chu kỳ sau
+            for (Object[] row : rows) {
+                dirtyVehicles.add((Integer) row[2]);
+            }
+            log.error("[Telemetry] Failed to write back {} vehicle positions - {}", rows.size(), e.getMessage());
+        }
+    }
+
+    @Override
+    public String statsName() {
+        return "Telemetry";
+    }
+
+    /**
+     * Số liệu vận hành của pipeline (đếm tích lũy từ lúc khởi động).
+     */
+    @Override
+    public Map<String, Object> stats() {
+        return Map.of(
+                "accepted", accepted.get(),
+                "dropped", dropped.get(),
+                "written", written.get(),
+                "failed", failed.get(),
+                "batches", batches.get(),
+                "positionWrites", positionWrites.get(),
+                "bufferSize", buffered.get(),
+                "trackedVehicles", liveFleetPositionStore.size());
+    }
+
+    @Override
+    public boolean hasActivity() {
+        return accepted.get() > 0 || dropped.get() > 0;
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        // Luồng ghi tự dừng sau khi đã ghi hết bộ đệm và vị trí chưa ghi
+        running = false;
+        LockSupport.unpark(worker);
+        worker.join(30_000);
+    }
+}
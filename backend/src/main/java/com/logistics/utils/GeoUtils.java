@@ -0,0 +1,37 @@
+package com.logistics.utils;
+
+public class GeoUtils {
+
+    private static final double EARTH_RADIUS_KM = 6371.0;
+
+    // Tọa độ dạng số nguyên: độ nhân 10^6 (~0,11 m), vừa kiểu int với mọi kinh / vĩ độ
+    public static final int COORDINATE_SCALE = 1_000_000;
+
+    /**
+     * Khoảng cách Haversine giữa 2 tọa độ (km).
+     */
+    public static double haversineKm(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+        return EARTH_RADIUS_KM * c;
+    }
+
+    /**
+     * Độ -> số nguyên nhân 10^6 (làm tròn).
+     */
+    public static int toE6(double degrees) {
+        return (int) Math.round(degrees * COORDINATE_SCALE);
+    }
+
+    public static double fromE6(int e6) {
+        return (double) e6 / COORDINATE_SCALE;
+    }
+
+    public static boolean isValidCoordinate(double latitude, double longitude) {
+        return latitude >= -90 && latitude <= 90 && longitude >= -180 && longitude <= 180;
+    }
+}
@@ -3,6 +3,7 @@ package com.logistics.utils;
 import com.logistics.entity.Account;
 import com.logistics.entity.Role;
 import com.logistics.entity.User;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
@@ -64,6 +65,17 @@ public class JwtUtils {
                 .compact();
     }
 
+    /**
+     * Claims của token đăng nhập; token sai chữ ký hoặc hết hạn thì ném JwtException.
+     */
+    public Claims parseClaims(String token) {
+        return Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+
     public Integer getAccountIdFromTempToken(String token) {
         return (Integer) Jwts.parserBuilder()
                 .setSigningKey(key)
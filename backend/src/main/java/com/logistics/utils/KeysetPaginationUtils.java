@@ -0,0 +1,84 @@
+package com.logistics.utils;
+
+import com.logistics.response.Pagination;
+import com.logistics.specification.KeysetCursor;
+import com.logistics.specification.KeysetSpecification;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Chế độ phân trang theo con trỏ cho các API danh sách: bật khi request có tham số cursor (chuỗi
+ * rỗng = trang đầu). Chỉ áp dụng cho sắp xếp theo thời gian tạo; không đếm tổng, trừ khi client
+ * yêu cầu withTotal ở trang đầu.
+ */
+public class KeysetPaginationUtils {
+
+    public record KeysetPage<T>(List<T> items, String nextCursor) {
+    }
+
+    /**
+     * Cursor được gửi lên và kiểu sắp xếp tương thích (mặc định / newest / oldest).
+     */
+    public static boolean isCursorMode(String cursor, String sort) {
+        return cursor != null && (sort == null || sort.isBlank()
+                || "newest".equalsIgnoreCase(sort) || "oldest".equalsIgnoreCase(sort));
+    }
+
+    public static boolean isDescending(String sort) {
+        return !"oldest".equalsIgnoreCase(sort);
+    }
+
+    /**
+     * Truy vấn một trang theo điều kiện, thứ tự và số dòng tối đa (vd: kèm fetch plan của repository).
+     */
+    @FunctionalInterface
+    public interface KeysetQuery<T> {
+        List<T> find(Specification<T> spec, Sort sort, int limit);
+    }
+
+    /**
+     * Lấy limit dòng sau cursor (lấy dư một dòng để biết còn trang sau hay không).
+     */
+    public static <T> KeysetPage<T> fetch(JpaSpecificationExecutor<T> repository, Specification<T> spec,
+            String cursor, boolean descending, int limit,
+            Function<T, LocalDateTime> createdAt, Function<T, Integer> id) {
+        return fetch((keyset, sort, max) -> repository.findBy(keyset, query -> query
+                .sortBy(sort)
+                .limit(max)
+                .all()), spec, cursor, descending, limit, createdAt, id);
+    }
+
+    public static <T> KeysetPage<T> fetch(KeysetQuery<T> finder, Specification<T> spec,
+            String cursor, boolean descending, int limit,
+            Function<T, LocalDateTime> createdAt, Function<T, Integer> id) {
+        Specification<T> keyset = spec.and(KeysetSpecification.after(KeysetCursor.decode(cursor), descending));
+        List<T> rows = finder.find(keyset, KeysetSpecification.sort(descending), limit + 1);
+
+        if (rows.size() <= limit) {
+            return new KeysetPage<>(rows, null);
+        }
+        List<T> items = rows.subList(0, limit);
+        T last = items.get(limit - 1);
+        return new KeysetPage<>(items, new KeysetCursor(createdAt.apply(last), id.apply(last)).encode());
+    }
+
+    /**
+     * Tổng chỉ tính ở trang đầu khi withTotal = true (client giữ lại cho các trang sau); còn lại -1.
+     */
+    public static Pagination pagination(int limit, String cursor, KeysetPage<?> page, Boolean withTotal,
+            LongSupplier total) {
+        int count = -1;
+        int totalPages = -1;
+        if (Boolean.TRUE.equals(withTotal) && (cursor == null || cursor.isBlank())) {
+            count = (int) total.getAsLong();
+            totalPages = limit > 0 ? (int) Math.ceil((double) count / limit) : 0;
+        }
+        return new Pagination(count, 0, limit, totalPages, page.nextCursor());
+    }
+}
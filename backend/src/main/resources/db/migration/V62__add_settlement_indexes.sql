@@ -0,0 +1,3 @@
+create index idx_orders_user_id_settlement_batch_id_status on orders (user_id, settlement_batch_id, status);
+
+create index idx_payment_submissions_order_id_status on payment_submissions (order_id, status);
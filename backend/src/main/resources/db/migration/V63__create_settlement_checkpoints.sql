@@ -0,0 +1,23 @@
+create table settlement_checkpoints (
+        attempts integer not null,
+        id integer not null auto_increment,
+        order_count integer not null,
+        shop_id integer not null,
+        run_date date not null,
+        duration_ms bigint,
+        created_at datetime(6) not null,
+        updated_at datetime(6),
+        error_message varchar(500),
+        status enum ('COMPLETED','FAILED','PENDING','SKIPPED') not null,
+        primary key (id)
+    ) engine=InnoDB;
+
+alter table settlement_checkpoints
+       add constraint uk_settlement_checkpoints_run_date_shop_id unique (run_date, shop_id);
+
+create index idx_settlement_checkpoints_run_date_status on settlement_checkpoints (run_date, status);
+
+alter table settlement_checkpoints
+       add constraint fk_settlement_checkpoints_shop_id
+       foreign key (shop_id)
+       references users (id);
@@ -0,0 +1,24 @@
+-- API tạo job xuất đơn hàng chạy nền, cấp cho các nhóm quyền đang có API export tương ứng
+
+insert ignore into permission_apis (is_active, is_ui_selectable, created_at, updated_at, method, name, url)
+values
+    (true, false, now(6), now(6), 'POST', 'Tạo job xuất đơn hàng (shop)', '/api/user/orders/export-jobs'),
+    (true, false, now(6), now(6), 'POST', 'Tạo job xuất đơn hàng (bưu cục)', '/api/manager/orders/export-jobs');
+
+insert ignore into permission_group_apis (api_id, group_id, created_at)
+select n.id, pga.group_id, now(6)
+from permission_apis n
+join permission_apis o
+    on o.method = 'GET'
+    and o.url in ('/api/user/orders/export', '/user/orders/export')
+join permission_group_apis pga on pga.api_id = o.id
+where n.method = 'POST' and n.url = '/api/user/orders/export-jobs';
+
+insert ignore into permission_group_apis (api_id, group_id, created_at)
+select n.id, pga.group_id, now(6)
+from permission_apis n
+join permission_apis o
+    on o.method = 'GET'
+    and o.url in ('/api/manager/orders/export', '/manager/orders/export')
+join permission_group_apis pga on pga.api_id = o.id
+where n.method = 'POST' and n.url = '/api/manager/orders/export-jobs';
@@ -0,0 +1,40 @@
+-- Bảng tổng hợp báo cáo theo ngày tạo đơn; 0 thay cho null ở các cột khóa
+create table report_order_daily (
+        day date not null,
+        office_id integer not null,
+        shop_id integer not null,
+        shipper_id integer not null,
+        status varchar(30) not null,
+        order_count integer not null,
+        order_value bigint not null,
+        cod_amount bigint not null,
+        shipping_fee bigint not null,
+        returning_count integer not null,
+        returned_count integer not null,
+        timed_count integer not null,
+        pickup_delivery_seconds bigint not null,
+        primary key (day, office_id, shop_id, shipper_id, status)
+    ) engine=InnoDB;
+
+create index idx_report_order_daily_office_id_day on report_order_daily (office_id, day);
+
+create index idx_report_order_daily_shipper_id_day on report_order_daily (shipper_id, day);
+
+-- Dòng tiền theo ngày phát sinh; office_id = 0 chứa phần không gắn bưu cục (vd: chuyển COD cho shop)
+create table report_finance_daily (
+        day date not null,
+        office_id integer not null,
+        cod_collected decimal(19,2) not null,
+        cod_submitted decimal(19,2) not null,
+        cod_transferred decimal(19,2) not null,
+        primary key (day, office_id)
+    ) engine=InnoDB;
+
+-- Dựng lại một ngày của bảng tổng hợp chỉ quét dữ liệu của ngày đó
+create index idx_orders_created_at on orders (created_at);
+
+create index idx_payment_submissions_paid_at on payment_submissions (paid_at);
+
+create index idx_payment_submission_batches_created_at on payment_submission_batches (created_at);
+
+create index idx_settlement_transactions_paid_at on settlement_transactions (paid_at);
@@ -0,0 +1,16 @@
+-- Số đơn theo trạng thái của từng shop / bưu cục, cập nhật cùng transaction với đơn hàng
+create table order_status_counters (
+        owner_type varchar(10) not null,
+        owner_id integer not null,
+        status varchar(30) not null,
+        order_count bigint not null,
+        primary key (owner_type, owner_id, status)
+    ) engine=InnoDB;
+
+-- Chủ sở hữu đã được đối soát ít nhất một lần (bộ đếm đáng tin)
+create table order_status_counter_owners (
+        owner_type varchar(10) not null,
+        owner_id integer not null,
+        reconciled_at datetime(6) not null,
+        primary key (owner_type, owner_id)
+    ) engine=InnoDB;
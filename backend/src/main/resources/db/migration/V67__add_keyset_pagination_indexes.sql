@@ -0,0 +1,13 @@
+-- Phân trang theo con trỏ (created_at, id): chỉ mục bắt đầu bằng cột lọc chủ sở hữu rồi tới created_at,
+-- InnoDB tự nối thêm khóa chính id vào cuối
+create index idx_orders_user_id_created_at on orders (user_id, created_at);
+
+create index idx_orders_from_office_id_created_at on orders (from_office_id, created_at);
+
+create index idx_orders_to_office_id_created_at on orders (to_office_id, created_at);
+
+create index idx_orders_current_office_id_created_at on orders (current_office_id, created_at);
+
+create index idx_shipments_from_office_id_created_at on shipments (from_office_id, created_at);
+
+create index idx_shipments_to_office_id_created_at on shipments (to_office_id, created_at);
@@ -0,0 +1,4 @@
+-- Dashboard shipper: đếm đơn theo trạng thái chỉ đọc chỉ mục, danh sách đơn gần nhất đọc theo created_at
+create index idx_orders_shipper_dashboard_status on orders (employee_id, to_office_id, created_by_type, status);
+
+create index idx_orders_shipper_dashboard_created_at on orders (employee_id, to_office_id, created_by_type, created_at);
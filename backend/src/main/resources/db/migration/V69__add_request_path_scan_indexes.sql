@@ -0,0 +1,14 @@
+-- Các truy vấn thay cho findAll() trên đường xử lý request; mỗi chỉ mục phục vụ đúng điều kiện lọc + sắp xếp
+create index idx_shipping_requests_request_type_status on shipping_requests (request_type, status);
+
+create index idx_delivery_attempts_shipper_id_status_attempted_at on delivery_attempts (shipper_id, status, attempted_at);
+
+create index idx_incident_reports_shipper_id_created_at on incident_reports (shipper_id, created_at);
+
+create index idx_internal_chat_rooms_last_message_at on internal_chat_rooms (last_message_at);
+
+create index idx_internal_chat_rooms_office_id_last_message_at on internal_chat_rooms (office_id, last_message_at);
+
+create index idx_employees_office_id_status on employees (office_id, status);
+
+create index idx_payment_submissions_status_paid_at on payment_submissions (status, paid_at);
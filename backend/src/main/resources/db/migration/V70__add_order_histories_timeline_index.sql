@@ -0,0 +1,2 @@
+-- Tra cứu hành trình công khai: lấy lịch sử của một đơn theo thời gian giảm dần chỉ đọc chỉ mục
+create index idx_order_histories_order_id_action_time on order_histories (order_id, action_time, id);
@@ -0,0 +1,6 @@
+-- Số thứ tự mã vận đơn đã cấp theo ngày; mỗi node thuê một khối số liên tiếp rồi cấp dần trong bộ nhớ
+create table tracking_number_sequences (
+        seq_date date not null,
+        next_value bigint not null,
+        primary key (seq_date)
+    ) engine=InnoDB;
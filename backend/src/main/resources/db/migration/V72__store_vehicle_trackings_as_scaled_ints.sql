@@ -0,0 +1,19 @@
+alter table vehicle_trackings
+    add column latitude_e6 integer,
+    add column longitude_e6 integer,
+    add column speed_e2 integer;
+
+update vehicle_trackings
+set latitude_e6  = round(latitude * 1000000),
+    longitude_e6 = round(longitude * 1000000),
+    speed_e2     = round(speed * 100);
+
+alter table vehicle_trackings
+    modify latitude_e6 integer not null,
+    modify longitude_e6 integer not null,
+    modify speed_e2 integer not null,
+    drop column latitude,
+    drop column longitude,
+    drop column speed;
+
+create index idx_vehicle_trackings_shipment_id_recorded_at on vehicle_trackings (shipment_id, recorded_at);
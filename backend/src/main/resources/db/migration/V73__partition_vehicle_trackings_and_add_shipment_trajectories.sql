@@ -0,0 +1,32 @@
+-- Bảng phân vùng của MySQL không hỗ trợ khóa ngoại và mọi khóa unique phải chứa cột phân vùng
+alter table vehicle_trackings drop foreign key FKok3b3ptjc18y334h3o3gh7wu9;
+
+alter table vehicle_trackings drop foreign key FKcabykswvn4h0lmbmx1k1heuny;
+
+alter table vehicle_trackings
+    drop primary key,
+    add primary key (id, recorded_at);
+
+-- Phân vùng theo ngày; TrajectoryPartitionMaintainer tách p_max thành các ngày sắp tới và xóa ngày quá hạn
+alter table vehicle_trackings
+    partition by range (to_days(recorded_at)) (
+        partition p_max values less than maxvalue
+    );
+
+create table shipment_trajectories (
+        shipment_id integer not null,
+        vehicle_id integer,
+        raw_point_count integer not null,
+        point_count integer not null,
+        tolerance_cm integer not null,
+        started_at datetime(6),
+        ended_at datetime(6),
+        data mediumblob not null,
+        created_at datetime(6) not null,
+        primary key (shipment_id)
+    ) engine=InnoDB;
+
+alter table shipment_trajectories
+       add constraint fk_shipment_trajectories_shipment_id
+       foreign key (shipment_id)
+       references shipments (id);
@@ -0,0 +1,216 @@
+package com.logistics.logistics.benchmark;
+
+import com.logistics.entity.Account;
+import com.logistics.entity.Role;
+import com.logistics.entity.User;
+import com.logistics.service.common.TariffCatalog;
+import com.logistics.utils.JwtUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.StringJoiner;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Đo thông lượng báo giá (dòng/giây) qua HTTP trên H2: {@value #LINES} dòng gửi bằng một request
+ * POST /api/fees/quotes so với {@value #LINES} request GET /api/public/fees/total. Bảng cước mẫu
+ * (3 miền, 6 tỉnh, 3 nấc khối lượng, phí COD / bảo hiểm / VAT) được nạp trước khi đo. Không chạy cùng
+ * build thường, bật bằng:
+ * <pre>mvn -B test -Dtest=FeeQuoteBenchmarkTest -Dbenchmark=true</pre>
+ */
+@Slf4j
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("querycount")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class FeeQuoteBenchmarkTest {
+
+    private static final int LINES = 500;
+    private static final int SERVICE_TYPE_ID = 1;
+    private static final int[] CITIES = {1, 2, 3, 4, 5, 6};
+    private static final int THREADS = Runtime.getRuntime().availableProcessors() * 2;
+    private static final Duration WARMUP = Duration.ofSeconds(3);
+    private static final Duration MEASURE = Duration.ofSeconds(10);
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TariffCatalog tariffCatalog;
+
+    @Autowired
+    private JwtUtils jwtUtils;
+
+    private List<Line> lines;
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        seedTariff();
+        tariffCatalog.reload();
+
+        Random random = new Random(11);
+        lines = new ArrayList<>(LINES);
+        for (int i = 0; i < LINES; i++) {
+            lines.add(new Line(String.format("%.2f", 0.1 + random.nextInt(3_000) / 100.0),
+                    CITIES[random.nextInt(CITIES.length)], CITIES[random.nextInt(CITIES.length)],
+                    random.nextInt(5) * 100_000, random.nextInt(20) * 100_000));
+        }
+
+        // Shop 1 của data.sql
+        Account account = new Account();
+        account.setId(1);
+        account.setEmail("user1@querycount.test");
+        User user = new User();
+        user.setId(1);
+        Role role = new Role();
+        role.setId(1);
+        role.setName("User");
+        token = jwtUtils.generateToken(account, user, role, List.of());
+    }
+
+    @Test
+    void batchQuoteOutrunsSingleQuotes() throws InterruptedException {
+        List<HttpRequest> singles = lines.stream().map(this::singleRequest).toList();
+        HttpRequest batch = batchRequest();
+
+        double single = measure("single", () -> singles.forEach(this::send));
+        double batched = measure("batch", () -> send(batch));
+
+        assertTrue(batched > single,
+                "batch quoting reached " + Math.round(batched) + " lines/s, single quotes " + Math.round(single));
+    }
+
+    private void seedTariff() {
+        if (jdbcTemplate.queryForObject("select count(*) from regions", Integer.class) > 0) {
+            return;
+        }
+        String[] regions = {"NORTH", "NORTH", "CENTRAL", "CENTRAL", "SOUTH", "SOUTH"};
+        for (int i = 0; i < CITIES.length; i++) {
+            jdbcTemplate.update("insert into regions (code_city, region_name, created_at) values (?, ?, CURRENT_TIMESTAMP)",
+                    CITIES[i], regions[i]);
+        }
+        String rateSql = """
+                insert into shipping_rates
+                    (service_type_id, region_type, weight_from, weight_to, price, unit, extra_price, created_at)
+                values (?, ?, ?, ?, ?, 0.5, ?, CURRENT_TIMESTAMP)
+                """;
+        String[] regionTypes = {"INTRA_CITY", "INTRA_REGION", "NEAR_REGION", "INTER_REGION"};
+        for (int i = 0; i < regionTypes.length; i++) {
+            int base = 20_000 + i * 5_000;
+            jdbcTemplate.update(rateSql, SERVICE_TYPE_ID, regionTypes[i], 0, 1, base, null);
+            jdbcTemplate.update(rateSql, SERVICE_TYPE_ID, regionTypes[i], 1, 3, base + 8_000, null);
+            jdbcTemplate.update(rateSql, SERVICE_TYPE_ID, regionTypes[i], 3, null, base + 15_000, 2_500);
+        }
+        String feeSql = """
+                insert into fee_configurations
+                    (service_type_id, fee_type, calculation_type, fee_value, min_order_fee, max_order_fee, active, created_at)
+                values (?, ?, ?, ?, ?, ?, TRUE, CURRENT_TIMESTAMP)
+                """;
+        jdbcTemplate.update(feeSql, null, "COD", "PERCENTAGE", 1, 10_000, 50_000);
+        jdbcTemplate.update(feeSql, null, "INSURANCE", "PERCENTAGE", 0.5, null, null);
+        jdbcTemplate.update(feeSql, null, "VAT", "PERCENTAGE", 8, null, null);
+    }
+
+    private HttpRequest singleRequest(Line line) {
+        String query = "weight=" + line.weight() + "&serviceTypeId=" + SERVICE_TYPE_ID
+                + "&senderCodeCity=" + line.senderCity() + "&recipientCodeCity=" + line.recipientCity()
+                + "&cod=" + line.cod() + "&orderValue=" + line.orderValue();
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/public/fees/total?" + query))
+                .GET().build();
+    }
+
+    private HttpRequest batchRequest() {
+        StringJoiner items = new StringJoiner(",", "{\"items\":[", "]}");
+        for (Line line : lines) {
+            items.add("{\"weight\":" + line.weight() + ",\"serviceTypeId\":" + SERVICE_TYPE_ID
+                    + ",\"senderCodeCity\":" + line.senderCity() + ",\"recipientCodeCity\":" + line.recipientCity()
+                    + ",\"cod\":" + line.cod() + ",\"orderValue\":" + line.orderValue() + "}");
+        }
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/fees/quotes"))
+                .header("Content-Type", "application/json")
+                .header("Authorization", "Bearer " + token)
+                .POST(HttpRequest.BodyPublishers.ofString(items.toString()))
+                .build();
+    }
+
+    private void send(HttpRequest request) {
+        try {
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200 || response.body().contains("\"success\":false")) {
+                throw new IllegalStateException(request.method() + " " + request.uri() + " returned "
+                        + response.statusCode() + " " + response.body());
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // Mỗi lượt báo giá đủ LINES dòng; kết quả tính theo dòng/giây
+    private double measure(String name, Runnable round) throws InterruptedException {
+        run(round, WARMUP);
+        long rounds = run(round, MEASURE);
+        double perSecond = rounds * LINES / (double) MEASURE.toSeconds();
+        log.info("[Fee quote benchmark] {}: {} threads, {} rounds of {} lines in {}s, {} lines/s",
+                name, THREADS, rounds, LINES, MEASURE.toSeconds(), Math.round(perSecond));
+        return perSecond;
+    }
+
+    private long run(Runnable round, Duration duration) throws InterruptedException {
+        LongAdder rounds = new LongAdder();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        long deadline = System.nanoTime() + duration.toNanos();
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        for (int i = 0; i < THREADS; i++) {
+            executor.execute(() -> {
+                try {
+                    while (System.nanoTime() < deadline) {
+                        round.run();
+                        rounds.increment();
+                    }
+                } catch (Throwable e) {
+                    failure.compareAndSet(null, e);
+                }
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(duration.toSeconds() + 60, TimeUnit.SECONDS);
+
+        assertNull(failure.get(), () -> "quote failed: " + failure.get());
+        return rounds.sum();
+    }
+
+    private record Line(String weight, int senderCity, int recipientCity, int cod, int orderValue) {
+    }
+}
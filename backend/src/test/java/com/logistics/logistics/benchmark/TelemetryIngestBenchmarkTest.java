@@ -0,0 +1,124 @@
+package com.logistics.logistics.benchmark;
+
+import com.logistics.entity.Vehicle;
+import com.logistics.enums.VehicleType;
+import com.logistics.repository.OfficeRepository;
+import com.logistics.repository.VehicleRepository;
+import com.logistics.telemetry.GpsPing;
+import com.logistics.telemetry.VehicleTelemetryWriter;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Đo thông lượng nhận GPS (điểm/giây) trên H2 với dữ liệu querycount/data.sql: đẩy một loạt điểm qua
+ * {@link VehicleTelemetryWriter#submit(GpsPing)} rồi chờ luồng ghi batch insert hết vào
+ * vehicle_trackings, so với insert từng điểm một như đường nhận GPS cũ. Không chạy cùng build
+ * thường, bật bằng:
+ * <pre>mvn -B test -Dtest=TelemetryIngestBenchmarkTest -Dbenchmark=true</pre>
+ */
+@Slf4j
+@SpringBootTest(properties = "logistics.telemetry.buffer-capacity=1000000")
+@ActiveProfiles("querycount")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class TelemetryIngestBenchmarkTest {
+
+    private static final int THREADS = Runtime.getRuntime().availableProcessors();
+    private static final int PINGS = 200_000;
+    private static final int ROW_BY_ROW_PINGS = 20_000;
+
+    private static final String INSERT_SQL = """
+            insert into vehicle_trackings
+                (vehicle_id, shipment_id, latitude_e6, longitude_e6, speed_e2, recorded_at)
+            values (?, ?, ?, ?, ?, ?)
+            """;
+
+    @Autowired
+    private VehicleTelemetryWriter vehicleTelemetryWriter;
+
+    @Autowired
+    private VehicleRepository vehicleRepository;
+
+    @Autowired
+    private OfficeRepository officeRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void batchedIngestOutrunsRowByRowInsert() throws InterruptedException {
+        Vehicle vehicle = new Vehicle();
+        vehicle.setLicensePlate("51C-GPS01");
+        vehicle.setType(VehicleType.TRUCK);
+        vehicle.setCapacity(BigDecimal.valueOf(1000));
+        vehicle.setOffice(officeRepository.getReferenceById(1));
+        int vehicleId = vehicleRepository.save(vehicle).getId();
+        jdbcTemplate.update("""
+                insert into shipments (id, code, vehicle_id, employee_id, type, status, from_office_id, to_office_id,
+                    created_by, created_at)
+                values (950, 'SHP-GPS-950', ?, 1, 'TRANSFER', 'IN_TRANSIT', 1, 2, 2, CURRENT_TIMESTAMP)
+                """, vehicleId);
+
+        double rowByRow = measure("row by row", ROW_BY_ROW_PINGS, ping -> jdbcTemplate.update(INSERT_SQL,
+                ping.vehicleId(), ping.shipmentId(), ping.latitudeE6(), ping.longitudeE6(), ping.speedE2(),
+                new Timestamp(ping.recordedAt())), vehicleId);
+
+        double batched = measure("batched", PINGS, vehicleTelemetryWriter::submit, vehicleId);
+
+        assertTrue(batched > rowByRow,
+                "batched ingest reached " + Math.round(batched) + " pings/s, row by row " + Math.round(rowByRow));
+    }
+
+    /**
+     * Gửi {@code pings} điểm từ {@link #THREADS} luồng và chờ tới khi tất cả đã nằm trong
+     * vehicle_trackings; trả về số điểm / giây tính cả thời gian ghi.
+     */
+    private double measure(String name, int pings, Consumer<GpsPing> sink, int vehicleId)
+            throws InterruptedException {
+        long before = trackingCount();
+        long start = System.nanoTime();
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        for (int t = 0; t < THREADS; t++) {
+            int thread = t;
+            executor.execute(() -> {
+                for (int i = thread; i < pings; i += THREADS) {
+                    sink.accept(new GpsPing(vehicleId, 950, 10_762_622 + i % 1000, 106_660_172 + i % 1000,
+                            4_000, System.currentTimeMillis()));
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.MINUTES));
+        long submittedNanos = System.nanoTime() - start;
+
+        while (trackingCount() < before + pings) {
+            Thread.sleep(20);
+            assertTrue(System.nanoTime() - start < TimeUnit.MINUTES.toNanos(5), "pings were not written in time");
+        }
+        long totalNanos = System.nanoTime() - start;
+
+        double perSecond = pings / (totalNanos / 1e9);
+        log.info("[Telemetry benchmark] {}: {} threads, {} pings submitted in {} ms, written in {} ms, {} pings/s",
+                name, THREADS, pings, TimeUnit.NANOSECONDS.toMillis(submittedNanos),
+                TimeUnit.NANOSECONDS.toMillis(totalNanos), Math.round(perSecond));
+        return perSecond;
+    }
+
+    private long trackingCount() {
+        return jdbcTemplate.queryForObject("select count(*) from vehicle_trackings", Long.class);
+    }
+}
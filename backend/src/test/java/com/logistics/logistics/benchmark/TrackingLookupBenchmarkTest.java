@@ -0,0 +1,111 @@
+package com.logistics.logistics.benchmark;
+
+import com.logistics.cache.TrackingTimelineCache;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Đo thông lượng tra cứu hành trình công khai (request/giây) qua HTTP tới GET /api/public/orders/{mã}
+ * trên H2 với dữ liệu querycount/data.sql: khi cache bị bỏ trước mỗi lượt (luôn đọc DB) và khi mọi
+ * lượt đều trúng cache. Không chạy cùng build thường, bật bằng:
+ * <pre>mvn -B test -Dtest=TrackingLookupBenchmarkTest -Dbenchmark=true</pre>
+ */
+@Slf4j
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "logistics.tracking-cache.ttl-ms=60000")
+@ActiveProfiles("querycount")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class TrackingLookupBenchmarkTest {
+
+    private static final String TRACKING_NUMBER = "QC00000001";
+    private static final int THREADS = Runtime.getRuntime().availableProcessors() * 2;
+    private static final Duration WARMUP = Duration.ofSeconds(3);
+    private static final Duration MEASURE = Duration.ofSeconds(10);
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @LocalServerPort
+    private int port;
+
+    @Test
+    void cachedLookupOutrunsDatabaseLookup() throws InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(
+                URI.create("http://localhost:" + port + "/api/public/orders/" + TRACKING_NUMBER)).GET().build();
+
+        double database = measure("database", () -> {
+            TrackingTimelineCache.invalidateAfterCommit(TRACKING_NUMBER);
+            send(request);
+        });
+        double cached = measure("cached", () -> send(request));
+
+        assertTrue(cached > database,
+                "cached lookup reached " + Math.round(cached) + " req/s, database lookup " + Math.round(database));
+    }
+
+    private void send(HttpRequest request) {
+        try {
+            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("GET " + request.uri() + " returned " + response.statusCode());
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private double measure(String name, Runnable lookup) throws InterruptedException {
+        run(lookup, WARMUP);
+        long requests = run(lookup, MEASURE);
+        double perSecond = requests / (double) MEASURE.toSeconds();
+        log.info("[Tracking benchmark] {}: {} threads, {} requests in {}s, {} req/s",
+                name, THREADS, requests, MEASURE.toSeconds(), Math.round(perSecond));
+        return perSecond;
+    }
+
+    private long run(Runnable lookup, Duration duration) throws InterruptedException {
+        LongAdder requests = new LongAdder();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        long deadline = System.nanoTime() + duration.toNanos();
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        for (int i = 0; i < THREADS; i++) {
+            executor.execute(() -> {
+                try {
+                    while (System.nanoTime() < deadline) {
+                        lookup.run();
+                        requests.increment();
+                    }
+                } catch (Throwable e) {
+                    failure.compareAndSet(null, e);
+                }
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(duration.toSeconds() + 30, TimeUnit.SECONDS);
+
+        assertNull(failure.get(), () -> "lookup failed: " + failure.get());
+        return requests.sum();
+    }
+}
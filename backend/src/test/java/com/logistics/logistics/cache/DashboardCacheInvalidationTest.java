@@ -0,0 +1,97 @@
+package com.logistics.logistics.cache;
+
+import com.logistics.entity.Product;
+import com.logistics.entity.Vehicle;
+import com.logistics.enums.ProductType;
+import com.logistics.enums.VehicleType;
+import com.logistics.repository.OfficeRepository;
+import com.logistics.repository.ProductRepository;
+import com.logistics.repository.UserRepository;
+import com.logistics.repository.VehicleRepository;
+import com.logistics.service.manager.DashboardManagerService;
+import com.logistics.service.user.DashboardUserService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Dashboard cache được làm mới bởi các bảng nguồn ngoài Order: sản phẩm của shop và phương tiện
+ * chuyển khỏi bưu cục.
+ */
+// Profile querycount tắt cache dashboard (ttl 0); bật lại để kết quả được giữ giữa hai lần đọc
+@SpringBootTest(properties = "logistics.dashboard-cache.ttl-ms=600000")
+@ActiveProfiles("querycount")
+class DashboardCacheInvalidationTest {
+
+    // Shop (user 1) và Manager của bưu cục 1 (user 3) trong data.sql
+    private static final int SHOP_USER_ID = 1;
+    private static final int MANAGER_USER_ID = 3;
+
+    @Autowired
+    private DashboardUserService dashboardUserService;
+
+    @Autowired
+    private DashboardManagerService dashboardManagerService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private VehicleRepository vehicleRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private OfficeRepository officeRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void newProductRefreshesShopOverview() {
+        long before = dashboardUserService.getOverviewProducts(SHOP_USER_ID).getProducts().getTotal();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Product product = new Product();
+            product.setUser(userRepository.getReferenceById(SHOP_USER_ID));
+            product.setName("Sản phẩm dashboard");
+            product.setWeight(BigDecimal.ONE);
+            product.setPrice(10000);
+            product.setType(ProductType.values()[0]);
+            productRepository.save(product);
+        });
+
+        assertEquals(before + 1, dashboardUserService.getOverviewProducts(SHOP_USER_ID).getProducts().getTotal());
+    }
+
+    @Test
+    void vehicleMovedOutRefreshesPreviousOffice() {
+        Integer vehicleId = transactionTemplate.execute(status -> {
+            Vehicle vehicle = new Vehicle();
+            vehicle.setLicensePlate("51C-QC999");
+            vehicle.setType(VehicleType.TRUCK);
+            vehicle.setCapacity(BigDecimal.valueOf(1000));
+            vehicle.setOffice(officeRepository.getReferenceById(1));
+            return vehicleRepository.save(vehicle).getId();
+        });
+        long before = truckCount();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Vehicle vehicle = vehicleRepository.findById(vehicleId).orElseThrow();
+            vehicle.setOffice(officeRepository.getReferenceById(2));
+        });
+
+        assertEquals(before - 1, truckCount());
+    }
+
+    private long truckCount() {
+        return dashboardManagerService.getOverview(MANAGER_USER_ID).getVehicleCounts().get(VehicleType.TRUCK);
+    }
+}
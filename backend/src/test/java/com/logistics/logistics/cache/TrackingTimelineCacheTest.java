@@ -0,0 +1,120 @@
+package com.logistics.logistics.cache;
+
+import com.logistics.cache.TrackingTimelineCache;
+import com.logistics.cache.TrackingTimelineCache.Timeline;
+import com.logistics.config.properties.TrackingCacheProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TrackingTimelineCacheTest {
+
+    private static final int THREADS = 8;
+
+    private TrackingTimelineCache cache;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        TrackingCacheProperties properties = new TrackingCacheProperties();
+        properties.setTtlMs(60000);
+        properties.setNotFoundTtlMs(60000);
+        cache = new TrackingTimelineCache(properties);
+        executor = Executors.newFixedThreadPool(THREADS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentMissesShareOneLoad() throws Exception {
+        Timeline timeline = new Timeline(List.of(), "\"1\"", -1);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<Timeline>> results = new ArrayList<>();
+        results.add(executor.submit(() -> cache.get("SF00000001", () -> {
+            loads.incrementAndGet();
+            loaderStarted.countDown();
+            await(release);
+            return timeline;
+        })));
+        assertTrue(loaderStarted.await(5, TimeUnit.SECONDS));
+
+        for (int i = 1; i < THREADS; i++) {
+            results.add(executor.submit(() -> cache.get("sf00000001", () -> {
+                loads.incrementAndGet();
+                return new Timeline(List.of(), "\"other\"", -1);
+            })));
+        }
+        // Các request sau được tính là hit ngay khi bắt đầu chờ lượt nạp đang chạy
+        waitForHits(THREADS - 1);
+        release.countDown();
+
+        for (Future<Timeline> result : results) {
+            assertSame(timeline, result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, loads.get());
+        assertSame(timeline, cache.get("SF00000001", () -> {
+            throw new AssertionError("timeline should be cached");
+        }));
+    }
+
+    @Test
+    void notFoundIsCachedUntilInvalidated() {
+        AtomicInteger loads = new AtomicInteger();
+
+        assertNull(cache.get("NF00000001", () -> {
+            loads.incrementAndGet();
+            return null;
+        }));
+        assertNull(cache.get("NF00000001", () -> {
+            loads.incrementAndGet();
+            return null;
+        }));
+        assertEquals(1, loads.get());
+
+        // Ngoài transaction thì bỏ ngay
+        TrackingTimelineCache.invalidateAfterCommit("NF00000001");
+        Timeline created = new Timeline(List.of(), "\"2\"", -1);
+        assertSame(created, cache.get("NF00000001", () -> {
+            loads.incrementAndGet();
+            return created;
+        }));
+        assertEquals(2, loads.get());
+    }
+
+    private void waitForHits(long expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while ((long) cache.stats().get("hits") < expected) {
+            assertTrue(System.nanoTime() < deadline, "waiters did not join the in-flight load");
+            Thread.sleep(5);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
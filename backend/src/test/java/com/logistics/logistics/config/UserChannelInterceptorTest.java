@@ -0,0 +1,129 @@
+package com.logistics.logistics.config;
+
+import com.logistics.config.UserChannelInterceptor;
+import com.logistics.entity.Account;
+import com.logistics.entity.Role;
+import com.logistics.entity.User;
+import com.logistics.repository.AccountRepository;
+import com.logistics.repository.OfficeRepository;
+import com.logistics.repository.SupportTicketRepository;
+import com.logistics.security.StompPrincipal;
+import com.logistics.telemetry.LiveFleetBroadcaster;
+import com.logistics.utils.JwtUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.security.Principal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Phiên STOMP chỉ có người dùng khi frame CONNECT mang JWT hợp lệ; kênh vị trí đội xe kiểm tra quyền
+ * theo userId trong JWT chứ không theo tham số do client tự khai.
+ */
+class UserChannelInterceptorTest {
+
+    private static final String SECRET = "c3RvbXAtdGVzdC1zZWNyZXQtc3RvbXAtdGVzdC1zZWNyZXQtc3RvbXAtdGVzdA==";
+    private static final int USER_ID = 7;
+    private static final int ACCOUNT_ID = 17;
+    private static final int OFFICE_ID = 3;
+
+    private final OfficeRepository officeRepository = mock(OfficeRepository.class);
+    private final JwtUtils jwtUtils = new JwtUtils(SECRET, 3600000);
+
+    private UserChannelInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        interceptor = new UserChannelInterceptor(mock(SupportTicketRepository.class), mock(AccountRepository.class),
+                officeRepository, jwtUtils);
+    }
+
+    @Test
+    void connectTakesUserFromToken() {
+        StompHeaderAccessor accessor = connect("Bearer " + token());
+
+        interceptor.preSend(message(accessor), null);
+
+        assertEquals(new StompPrincipal(USER_ID, ACCOUNT_ID), accessor.getUser());
+        assertEquals(String.valueOf(USER_ID), accessor.getUser().getName());
+    }
+
+    @Test
+    void connectWithoutValidTokenIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> interceptor.preSend(message(connect(null)), null));
+        assertThrows(IllegalArgumentException.class,
+                () -> interceptor.preSend(message(connect("Bearer " + token() + "x")), null));
+        String foreign = new JwtUtils("b3RoZXItc2VjcmV0LW90aGVyLXNlY3JldC1vdGhlci1zZWNyZXQtb3RoZXI=", 3600000)
+                .generateToken(account(), user(), role(), List.of());
+        assertThrows(IllegalArgumentException.class,
+                () -> interceptor.preSend(message(connect("Bearer " + foreign)), null));
+    }
+
+    @Test
+    void fleetSubscriptionChecksAuthenticatedUser() {
+        when(officeRepository.isManagedByUser(OFFICE_ID, USER_ID)).thenReturn(true);
+
+        Message<?> allowed = message(subscribe(new StompPrincipal(USER_ID, ACCOUNT_ID)));
+        assertSame(allowed, interceptor.preSend(allowed, null));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> interceptor.preSend(message(subscribe(new StompPrincipal(USER_ID + 1, ACCOUNT_ID))), null));
+        // Phiên chưa qua CONNECT có JWT (vd principal tự khai từ handshake) không được đăng ký
+        assertThrows(IllegalArgumentException.class,
+                () -> interceptor.preSend(message(subscribe(() -> String.valueOf(USER_ID))), null));
+    }
+
+    private String token() {
+        return jwtUtils.generateToken(account(), user(), role(), List.of());
+    }
+
+    private static StompHeaderAccessor connect(String authorization) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.CONNECT);
+        if (authorization != null) {
+            accessor.setNativeHeader("Authorization", authorization);
+        }
+        return accessor;
+    }
+
+    private static StompHeaderAccessor subscribe(Principal principal) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setDestination(LiveFleetBroadcaster.TOPIC_PREFIX + OFFICE_ID);
+        accessor.setUser(principal);
+        return accessor;
+    }
+
+    private static Message<?> message(StompHeaderAccessor accessor) {
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private static Account account() {
+        Account account = new Account();
+        account.setId(ACCOUNT_ID);
+        account.setEmail("stomp@test.local");
+        return account;
+    }
+
+    private static User user() {
+        User user = new User();
+        user.setId(USER_ID);
+        return user;
+    }
+
+    private static Role role() {
+        Role role = new Role();
+        role.setId(3);
+        role.setName("Manager");
+        return role;
+    }
+}
@@ -0,0 +1,68 @@
+package com.logistics.logistics.controller;
+
+import com.logistics.entity.Account;
+import com.logistics.entity.Role;
+import com.logistics.entity.User;
+import com.logistics.utils.JwtUtils;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Báo giá hàng loạt chỉ dành cho người đã đăng nhập.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("querycount")
+class FeeQuoteControllerTest {
+
+    private static final String BODY = """
+            {"items":[{"weight":1.5,"serviceTypeId":1,"senderCodeCity":1,"recipientCodeCity":2}]}
+            """;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtUtils jwtUtils;
+
+    @Test
+    void anonymousBatchQuoteIsRejected() throws Exception {
+        mockMvc.perform(post("/api/fees/quotes").contentType(MediaType.APPLICATION_JSON).content(BODY))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void signedInShopCanQuoteABatch() throws Exception {
+        mockMvc.perform(post("/api/fees/quotes")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + shopToken())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(BODY))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.results.length()").value(1));
+    }
+
+    // Shop 1 của data.sql
+    private String shopToken() {
+        Account account = new Account();
+        account.setId(1);
+        account.setEmail("user1@querycount.test");
+        User user = new User();
+        user.setId(1);
+        Role role = new Role();
+        role.setId(1);
+        role.setName("User");
+        return jwtUtils.generateToken(account, user, role, List.of());
+    }
+}
@@ -0,0 +1,97 @@
+package com.logistics.logistics.controller;
+
+import com.logistics.entity.OrderHistory;
+import com.logistics.enums.OrderHistoryActionType;
+import com.logistics.logistics.querycount.QueryCountInspector;
+import com.logistics.repository.OrderHistoryRepository;
+import com.logistics.repository.OrderRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Tra cứu hành trình công khai qua HTTP, chạy trên H2 với dữ liệu querycount/data.sql và cache bật.
+ */
+@SpringBootTest(properties = {
+        "logistics.tracking-cache.ttl-ms=60000",
+        "logistics.tracking-cache.not-found-ttl-ms=60000"})
+@AutoConfigureMockMvc
+@ActiveProfiles("querycount")
+class OrderPublicControllerTest {
+
+    // Đơn 3 chưa có lịch sử; test này ghi thêm lịch sử nên không dùng đơn của các test khác
+    private static final int ORDER_ID = 3;
+    private static final String TRACKING_NUMBER = "QC00000003";
+    private static final String UNKNOWN_TRACKING_NUMBER = "QC99999999";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderHistoryRepository orderHistoryRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void newHistoryChangesTheEtag() throws Exception {
+        String etag = mockMvc.perform(get("/api/public/orders/{trackingNumber}", TRACKING_NUMBER))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotNull(etag);
+
+        mockMvc.perform(get("/api/public/orders/{trackingNumber}", TRACKING_NUMBER)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                orderHistoryRepository.save(OrderHistory.builder()
+                        .order(orderRepository.findById(ORDER_ID).orElseThrow())
+                        .action(OrderHistoryActionType.PENDING)
+                        .note("Đơn hàng đã được tạo")
+                        .actionTime(LocalDateTime.now())
+                        .build()));
+
+        String newEtag = mockMvc.perform(get("/api/public/orders/{trackingNumber}", TRACKING_NUMBER)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotEquals(etag, newEtag);
+    }
+
+    @Test
+    void repeatedUnknownTrackingNumberIsServedFromCache() throws Exception {
+        mockMvc.perform(get("/api/public/orders/{trackingNumber}", UNKNOWN_TRACKING_NUMBER))
+                .andExpect(status().isNotFound());
+
+        int queries;
+        QueryCountInspector.start();
+        try {
+            mockMvc.perform(get("/api/public/orders/{trackingNumber}", UNKNOWN_TRACKING_NUMBER))
+                    .andExpect(status().isNotFound());
+        } finally {
+            queries = QueryCountInspector.stop();
+        }
+        assertEquals(0, queries, "repeated 404 should not reach the database");
+    }
+}
@@ -0,0 +1,193 @@
+package com.logistics.logistics.querycount;
+
+import com.logistics.entity.Account;
+import com.logistics.entity.Role;
+import com.logistics.entity.User;
+import com.logistics.request.SearchRequest;
+import com.logistics.request.manager.shipment.ManagerShipmentAddEditRequest;
+import com.logistics.request.user.order.UserOrderSearchRequest;
+import com.logistics.security.UserPrincipal;
+import com.logistics.service.manager.ShipmentManagerService;
+import com.logistics.service.shipper.OrderShipperService;
+import com.logistics.service.user.OrderUserService;
+import com.logistics.service.user.SettlementBatchUserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Budget số câu SQL cho các đường xử lý nóng, chạy trên H2 với dữ liệu ở querycount/data.sql.
+ * Budget là số câu đo được trên dữ liệu đó: thêm truy vấn làm vượt budget thì build đỏ; khi tối ưu
+ * được fetch plan thì hạ budget xuống theo số đo mới.
+ */
+@SpringBootTest
+@ActiveProfiles("querycount")
+class QueryBudgetTest {
+
+    // Shop 1 có 50 đơn, cùng một đợt đối soát
+    private static final int SHOP_USER_ID = 1;
+    private static final int SHIPPER_USER_ID = 2;
+    private static final int MANAGER_USER_ID = 3;
+    // Shipper B chỉ được gán 2 đơn, shipper A 12 đơn (xem querycount/data.sql)
+    private static final int SMALL_SHIPPER_USER_ID = 4;
+    // Đơn 1 có 10 dòng hành trình / sản phẩm / lần lấy hàng, đơn 2 mỗi loại một dòng
+    private static final int ORDER_ID = 1;
+    private static final int SMALL_ORDER_ID = 2;
+    private static final int SETTLEMENT_BATCH_ID = 1;
+    private static final int DEST_OFFICE_ID = 2;
+
+    private static final int PAGE_SIZE = 50;
+
+    // Người dùng, trang đơn, đếm tổng
+    private static final int ORDER_LIST_BUDGET = 3;
+    // Phân trang theo con trỏ không đếm tổng: người dùng và đúng một câu lấy trang
+    private static final int ORDER_KEYSET_PAGE_BUDGET = 2;
+    // Người dùng, đơn, hành trình kèm bưu cục, sản phẩm, lần lấy hàng kèm shipper
+    private static final int ORDER_DETAIL_BUDGET = 5;
+    // Nhân viên (4 câu do liên kết EAGER), đếm theo trạng thái, tổng COD, đơn, thông báo (2 câu)
+    private static final int SHIPPER_DASHBOARD_BUDGET = 9;
+    // Người dùng, trang đơn của đợt, đếm tổng
+    private static final int SETTLEMENT_ORDERS_BUDGET = 3;
+    private static final int SHIPMENT_CREATE_BUDGET = 6;
+
+    @Autowired
+    private OrderUserService orderUserService;
+
+    @Autowired
+    private OrderShipperService orderShipperService;
+
+    @Autowired
+    private SettlementBatchUserService settlementBatchUserService;
+
+    @Autowired
+    private ShipmentManagerService shipmentManagerService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private QueryCounter queryCounter;
+
+    @BeforeEach
+    void setUp() {
+        queryCounter = new QueryCounter(new TransactionTemplate(transactionManager));
+    }
+
+    @AfterEach
+    void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void orderListStaysWithinBudget() {
+        queryCounter.assertWithinBudget("OrderUserService.list", ORDER_LIST_BUDGET,
+                () -> orderUserService.list(SHOP_USER_ID, orderSearch(PAGE_SIZE)));
+    }
+
+    @Test
+    void orderKeysetPageStaysWithinBudget() {
+        UserOrderSearchRequest request = orderSearch(PAGE_SIZE);
+        request.setCursor("");
+        queryCounter.assertWithinBudget("OrderUserService.list (cursor)", ORDER_KEYSET_PAGE_BUDGET,
+                () -> orderUserService.list(SHOP_USER_ID, request));
+    }
+
+    @Test
+    void orderListHasNoPerRowQueries() {
+        queryCounter.assertNoPerRowQueries("OrderUserService.list",
+                () -> orderUserService.list(SHOP_USER_ID, orderSearch(2)),
+                () -> orderUserService.list(SHOP_USER_ID, orderSearch(PAGE_SIZE)));
+    }
+
+    @Test
+    void orderDetailStaysWithinBudget() {
+        queryCounter.assertWithinBudget("OrderUserService.getOrderById", ORDER_DETAIL_BUDGET,
+                () -> orderUserService.getOrderById(SHOP_USER_ID, ORDER_ID));
+    }
+
+    @Test
+    void orderDetailHasNoPerRowQueries() {
+        queryCounter.assertNoPerRowQueries("OrderUserService.getOrderById",
+                () -> orderUserService.getOrderById(SHOP_USER_ID, SMALL_ORDER_ID),
+                () -> orderUserService.getOrderById(SHOP_USER_ID, ORDER_ID));
+    }
+
+    @Test
+    void shipperDashboardStaysWithinBudget() {
+        authenticate(SHIPPER_USER_ID);
+        queryCounter.assertWithinBudget("OrderShipperService.getDashboard", SHIPPER_DASHBOARD_BUDGET,
+                () -> orderShipperService.getDashboard());
+    }
+
+    @Test
+    void shipperDashboardHasNoPerRowQueries() {
+        queryCounter.assertNoPerRowQueries("OrderShipperService.getDashboard",
+                () -> {
+                    authenticate(SMALL_SHIPPER_USER_ID);
+                    return orderShipperService.getDashboard();
+                },
+                () -> {
+                    authenticate(SHIPPER_USER_ID);
+                    return orderShipperService.getDashboard();
+                });
+    }
+
+    @Test
+    void settlementOrdersStayWithinBudget() {
+        queryCounter.assertWithinBudget("SettlementBatchUserService.getOrdersBySettlementBatchId",
+                SETTLEMENT_ORDERS_BUDGET,
+                () -> settlementBatchUserService.getOrdersBySettlementBatchId(SHOP_USER_ID, SETTLEMENT_BATCH_ID,
+                        settlementSearch(PAGE_SIZE)));
+    }
+
+    @Test
+    void settlementOrdersHaveNoPerRowQueries() {
+        queryCounter.assertNoPerRowQueries("SettlementBatchUserService.getOrdersBySettlementBatchId",
+                () -> settlementBatchUserService.getOrdersBySettlementBatchId(SHOP_USER_ID, SETTLEMENT_BATCH_ID,
+                        settlementSearch(2)),
+                () -> settlementBatchUserService.getOrdersBySettlementBatchId(SHOP_USER_ID, SETTLEMENT_BATCH_ID,
+                        settlementSearch(PAGE_SIZE)));
+    }
+
+    @Test
+    void shipmentCreateStaysWithinBudget() {
+        ManagerShipmentAddEditRequest request = new ManagerShipmentAddEditRequest("TRANSFER", null, DEST_OFFICE_ID, null);
+        queryCounter.assertWithinBudget("ShipmentManagerService.create", SHIPMENT_CREATE_BUDGET, () -> {
+            shipmentManagerService.create(MANAGER_USER_ID, request);
+            return null;
+        });
+    }
+
+    private static UserOrderSearchRequest orderSearch(int limit) {
+        UserOrderSearchRequest request = new UserOrderSearchRequest();
+        request.setPage(1);
+        request.setLimit(limit);
+        request.setSort("newest");
+        return request;
+    }
+
+    private static SearchRequest settlementSearch(int limit) {
+        SearchRequest request = new SearchRequest();
+        request.setPage(1);
+        request.setLimit(limit);
+        request.setSort("newest");
+        return request;
+    }
+
+    // Service chỉ đọc id người dùng từ principal
+    private static void authenticate(int userId) {
+        User user = new User();
+        user.setId(userId);
+        UserPrincipal principal = new UserPrincipal(new Account(), user, new Role(), List.of());
+        SecurityContextHolder.getContext()
+                .setAuthentication(new UsernamePasswordAuthenticationToken(principal, null, List.of()));
+    }
+}
@@ -0,0 +1,42 @@
+package com.logistics.logistics.querycount;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Đếm (và giữ lại) câu SQL Hibernate chuẩn bị trên luồng hiện tại. Đăng ký qua
+ * hibernate.session_factory.statement_inspector ở profile querycount; đếm theo luồng nên truy vấn
+ * của các luồng nền (scheduler, executor) không lẫn vào số đo.
+ */
+public class QueryCountInspector implements StatementInspector {
+
+    private static final ThreadLocal<List<String>> STATEMENTS = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        List<String> statements = STATEMENTS.get();
+        if (statements != null) {
+            statements.add(sql);
+        }
+        return sql;
+    }
+
+    public static void start() {
+        STATEMENTS.set(new ArrayList<>());
+    }
+
+    public static int stop() {
+        return stopCapture().size();
+    }
+
+    /**
+     * Dừng ghi nhận và trả về các câu SQL đã chuẩn bị từ lúc {@link #start()}.
+     */
+    public static List<String> stopCapture() {
+        List<String> statements = STATEMENTS.get();
+        STATEMENTS.remove();
+        return statements != null ? statements : List.of();
+    }
+}
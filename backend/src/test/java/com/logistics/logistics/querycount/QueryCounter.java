@@ -0,0 +1,63 @@
+package com.logistics.logistics.querycount;
+
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Đo số câu SQL của một lời gọi service. Lời gọi chạy trong một transaction (giống
+ * open-in-view của request thật) và số đo gồm cả câu lệnh lúc flush / commit.
+ */
+public class QueryCounter {
+
+    private final TransactionTemplate transactionTemplate;
+
+    public QueryCounter(TransactionTemplate transactionTemplate) {
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    public int count(Supplier<?> call) {
+        return capture(call).size();
+    }
+
+    /**
+     * Các câu SQL của lời gọi, theo thứ tự chuẩn bị.
+     */
+    public List<String> capture(Supplier<?> call) {
+        List<String> statements;
+        QueryCountInspector.start();
+        try {
+            transactionTemplate.execute(status -> call.get());
+        } finally {
+            statements = QueryCountInspector.stopCapture();
+        }
+        return statements;
+    }
+
+    /**
+     * Lời gọi không được vượt quá budget câu SQL.
+     */
+    public int assertWithinBudget(String name, int budget, Supplier<?> call) {
+        int queries = count(call);
+        assertTrue(queries <= budget,
+                name + " issued " + queries + " SQL statements, budget is " + budget);
+        return queries;
+    }
+
+    /**
+     * Số câu SQL không đổi khi trang có nhiều dòng hơn, tức là không có truy vấn theo từng dòng (N+1).
+     */
+    public void assertNoPerRowQueries(String name, Supplier<?> smallPage, Supplier<?> largePage) {
+        // Chạy nháp một lần để truy vấn chỉ có ở lần gọi đầu (nạp cache...) không làm lệch phép so sánh
+        count(largePage);
+        int small = count(smallPage);
+        int large = count(largePage);
+        assertEquals(small, large,
+                name + " issued " + small + " SQL statements for the small page but " + large
+                        + " for the large page (N+1)");
+    }
+}
@@ -0,0 +1,312 @@
+package com.logistics.logistics.querycount;
+
+import com.logistics.entity.Account;
+import com.logistics.entity.Role;
+import com.logistics.entity.User;
+import com.logistics.request.SearchRequest;
+import com.logistics.request.common.notification.NotificationSearchRequest;
+import com.logistics.request.manager.audit.AuditLogSearchRequest;
+import com.logistics.request.manager.shipment.ManagerShipmentSearchRequest;
+import com.logistics.request.user.order.UserOrderSearchRequest;
+import com.logistics.security.UserPrincipal;
+import com.logistics.service.admin.FinancialAdminService;
+import com.logistics.service.common.NotificationService;
+import com.logistics.service.common.OrderPublicService;
+import com.logistics.service.manager.AuditLogManagerService;
+import com.logistics.service.manager.DashboardManagerService;
+import com.logistics.service.manager.OrderManagerService;
+import com.logistics.service.manager.ShipmentManagerService;
+import com.logistics.service.shipper.OrderShipperService;
+import com.logistics.service.user.AuditLogUserService;
+import com.logistics.service.user.DashboardUserService;
+import com.logistics.service.user.OrderUserService;
+import com.logistics.service.user.SettlementBatchUserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Chặn quét toàn bảng trên đường xử lý request: gọi service phía sau các endpoint danh sách / chi tiết /
+ * dashboard trên H2 với dữ liệu ở querycount/data.sql, ghi lại mọi câu SELECT qua QueryCountInspector và
+ * yêu cầu mỗi câu đọc bảng lớn phải có LIMIT / FETCH FIRST hoặc điều kiện theo khóa (id, khóa ngoại,
+ * mã vận đơn) trên chính bảng đó.
+ */
+@SpringBootTest
+@ActiveProfiles("querycount")
+class UnboundedScanTest {
+
+    private static final int SHOP_USER_ID = 1;
+    private static final int SHIPPER_USER_ID = 2;
+    private static final int MANAGER_USER_ID = 3;
+    private static final int ORDER_ID = 1;
+    private static final int SETTLEMENT_BATCH_ID = 1;
+    private static final String TRACKING_NUMBER = "QC00000001";
+
+    private static final int PAGE_SIZE = 20;
+
+    // Bảng tăng theo số đơn / thời gian vận hành
+    private static final Set<String> LARGE_TABLES = Set.of(
+            "orders", "order_histories", "order_products", "shipments", "shipment_orders", "notifications",
+            "audit_logs", "vehicle_trackings", "shipment_trajectories", "payment_submissions",
+            "payment_submission_batches", "settlement_transactions", "delivery_attempts", "pickup_attempts");
+
+    // "from orders o1_0" / "join order_histories oh1_0"
+    private static final Pattern TABLE = Pattern.compile("\\b(?:from|join)\\s+(\\w+)\\s+(?:as\\s+)?(\\w+)");
+
+    private static final Set<String> SQL_KEYWORDS = Set.of(
+            "where", "join", "left", "right", "inner", "cross", "on", "group", "order", "limit", "union");
+
+    // Cột khóa so với tham số: "o1_0.user_id=?", "o1_0.tracking_number=?", "s1_0.id in (...)"
+    private static final Pattern KEY_PREDICATE = Pattern.compile(
+            "\\b(\\w+)\\.(?:id|\\w+_id|tracking_number)\\s*(?:=\\s*\\?|in\\s*\\()");
+
+    // Điều kiện join theo khóa: "oh1_0.order_id=o1_0.id"
+    private static final Pattern KEY_JOIN = Pattern.compile(
+            "\\b(\\w+)\\.(?:id|\\w+_id)\\s*=\\s*(\\w+)\\.(?:id|\\w+_id)\\b");
+
+    private static final Pattern BOUNDED = Pattern.compile("\\blimit\\b|\\bfetch\\s+(?:first|next)\\b");
+
+    @Autowired
+    private OrderUserService orderUserService;
+
+    @Autowired
+    private OrderManagerService orderManagerService;
+
+    @Autowired
+    private OrderShipperService orderShipperService;
+
+    @Autowired
+    private OrderPublicService orderPublicService;
+
+    @Autowired
+    private SettlementBatchUserService settlementBatchUserService;
+
+    @Autowired
+    private ShipmentManagerService shipmentManagerService;
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private AuditLogUserService auditLogUserService;
+
+    @Autowired
+    private AuditLogManagerService auditLogManagerService;
+
+    @Autowired
+    private DashboardUserService dashboardUserService;
+
+    @Autowired
+    private DashboardManagerService dashboardManagerService;
+
+    @Autowired
+    private FinancialAdminService financialAdminService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private QueryCounter queryCounter;
+
+    @BeforeEach
+    void setUp() {
+        queryCounter = new QueryCounter(new TransactionTemplate(transactionManager));
+    }
+
+    @AfterEach
+    void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void requestPathsDoNotScanLargeTables() {
+        Map<String, Supplier<?>> calls = new LinkedHashMap<>();
+        calls.put("OrderUserService.list", () -> orderUserService.list(SHOP_USER_ID, orderSearch()));
+        calls.put("OrderUserService.list (cursor)", () -> {
+            UserOrderSearchRequest request = orderSearch();
+            request.setCursor("");
+            return orderUserService.list(SHOP_USER_ID, request);
+        });
+        calls.put("OrderUserService.getOrderById", () -> orderUserService.getOrderById(SHOP_USER_ID, ORDER_ID));
+        calls.put("OrderManagerService.list", () -> orderManagerService.list(MANAGER_USER_ID, orderSearch()));
+        calls.put("OrderShipperService.getDashboard", () -> {
+            authenticate(SHIPPER_USER_ID);
+            return orderShipperService.getDashboard();
+        });
+        calls.put("OrderShipperService.listOrders", () -> {
+            authenticate(SHIPPER_USER_ID);
+            return orderShipperService.listOrders(1, PAGE_SIZE, null, null, null, null);
+        });
+        calls.put("OrderPublicService.getTrackingTimeline",
+                () -> orderPublicService.getTrackingTimeline(TRACKING_NUMBER));
+        calls.put("SettlementBatchUserService.list", () -> settlementBatchUserService.list(SHOP_USER_ID, search()));
+        calls.put("SettlementBatchUserService.getOrdersBySettlementBatchId",
+                () -> settlementBatchUserService.getOrdersBySettlementBatchId(SHOP_USER_ID, SETTLEMENT_BATCH_ID,
+                        search()));
+        calls.put("ShipmentManagerService.list", () -> shipmentManagerService.list(MANAGER_USER_ID, shipmentSearch()));
+        calls.put("NotificationService.getNotifications",
+                () -> notificationService.getNotifications(SHIPPER_USER_ID, notificationSearch()));
+        calls.put("AuditLogUserService.list", () -> auditLogUserService.list(SHOP_USER_ID, auditLogSearch()));
+        calls.put("AuditLogManagerService.list", () -> auditLogManagerService.list(MANAGER_USER_ID, auditLogSearch()));
+        calls.put("DashboardUserService.getOverviewOrders", () -> dashboardUserService.getOverviewOrders(SHOP_USER_ID));
+        calls.put("DashboardUserService.getOverviewRevenue",
+                () -> dashboardUserService.getOverviewRevenue(SHOP_USER_ID));
+        calls.put("DashboardManagerService.getOverview", () -> dashboardManagerService.getOverview(MANAGER_USER_ID));
+        calls.put("FinancialAdminService.listSubmissions",
+                () -> financialAdminService.listSubmissions(null, 1, PAGE_SIZE));
+        calls.put("FinancialAdminService.listBatches",
+                () -> financialAdminService.listBatches(1, PAGE_SIZE, null, null, null));
+
+        List<String> violations = new ArrayList<>();
+        calls.forEach((name, call) -> {
+            List<String> statements = queryCounter.capture(call);
+            assertFalse(statements.isEmpty(), name + " issued no SQL, the inspector is not capturing");
+            for (String sql : statements) {
+                String scanned = unboundedLargeTable(sql);
+                if (scanned != null) {
+                    violations.add(name + " scans " + scanned + ": " + sql);
+                }
+            }
+            SecurityContextHolder.clearContext();
+        });
+
+        assertTrue(violations.isEmpty(),
+                "SELECT on a large table without LIMIT or a keyed predicate:\n" + String.join("\n", violations));
+    }
+
+    @Test
+    void detectsScansOnLargeTables() {
+        assertEquals("orders", unboundedLargeTable("select o1_0.id from orders o1_0 where o1_0.status=?"));
+        assertEquals("order_histories", unboundedLargeTable(
+                "select oh1_0.id from order_histories oh1_0 join orders o1_0 on o1_0.id=oh1_0.order_id"
+                        + " where o1_0.status=?"));
+        assertEquals("audit_logs", unboundedLargeTable("SELECT count(*) FROM audit_logs WHERE action = ?"));
+
+        assertNull(unboundedLargeTable("select o1_0.id from orders o1_0 where o1_0.status=? fetch first ? rows only"));
+        assertNull(unboundedLargeTable("select o1_0.id from orders o1_0 where o1_0.user_id=?"));
+        assertNull(unboundedLargeTable(
+                "select oh1_0.id from order_histories oh1_0 join orders o1_0 on o1_0.id=oh1_0.order_id"
+                        + " where o1_0.tracking_number=?"));
+        assertNull(unboundedLargeTable("select r1_0.id from regions r1_0"));
+    }
+
+    /**
+     * Bảng lớn đầu tiên câu SELECT đọc mà không có LIMIT / FETCH FIRST và không bị giới hạn theo khóa, hoặc null.
+     * Một bảng bị giới hạn theo khóa khi cột khóa của nó so với tham số ({@code o1_0.user_id=?}) hoặc khi nó
+     * được join theo khóa với một bảng đã bị giới hạn ({@code oh1_0.order_id=o1_0.id} với {@code o1_0.id=?}).
+     */
+    private static String unboundedLargeTable(String sql) {
+        String lower = sql.toLowerCase(Locale.ROOT);
+        if (!lower.startsWith("select") && !lower.startsWith("with") || BOUNDED.matcher(lower).find()) {
+            return null;
+        }
+
+        Map<String, String> tables = new LinkedHashMap<>();
+        Matcher table = TABLE.matcher(lower);
+        while (table.find()) {
+            // Câu native không đặt alias: cột được gọi theo tên bảng
+            String alias = SQL_KEYWORDS.contains(table.group(2)) ? table.group(1) : table.group(2);
+            tables.put(alias, table.group(1));
+        }
+
+        Set<String> keyed = new HashSet<>();
+        Matcher predicate = KEY_PREDICATE.matcher(lower);
+        while (predicate.find()) {
+            keyed.add(predicate.group(1));
+        }
+        List<String[]> joins = new ArrayList<>();
+        Matcher join = KEY_JOIN.matcher(lower);
+        while (join.find()) {
+            joins.add(new String[]{join.group(1), join.group(2)});
+        }
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (String[] edge : joins) {
+                if (keyed.contains(edge[0]) != keyed.contains(edge[1])) {
+                    keyed.add(edge[0]);
+                    keyed.add(edge[1]);
+                    changed = true;
+                }
+            }
+        }
+
+        for (Map.Entry<String, String> entry : tables.entrySet()) {
+            if (LARGE_TABLES.contains(entry.getValue()) && !keyed.contains(entry.getKey())) {
+                return entry.getValue();
+            }
+        }
+        return null;
+    }
+
+    private static UserOrderSearchRequest orderSearch() {
+        UserOrderSearchRequest request = new UserOrderSearchRequest();
+        request.setPage(1);
+        request.setLimit(PAGE_SIZE);
+        request.setSort("newest");
+        return request;
+    }
+
+    private static SearchRequest search() {
+        SearchRequest request = new SearchRequest();
+        request.setPage(1);
+        request.setLimit(PAGE_SIZE);
+        request.setSort("newest");
+        return request;
+    }
+
+    private static ManagerShipmentSearchRequest shipmentSearch() {
+        ManagerShipmentSearchRequest request = new ManagerShipmentSearchRequest();
+        request.setPage(1);
+        request.setLimit(PAGE_SIZE);
+        request.setSort("newest");
+        request.setDirection("OUTBOUND");
+        return request;
+    }
+
+    private static NotificationSearchRequest notificationSearch() {
+        NotificationSearchRequest request = new NotificationSearchRequest();
+        request.setPage(1);
+        request.setLimit(PAGE_SIZE);
+        return request;
+    }
+
+    private static AuditLogSearchRequest auditLogSearch() {
+        AuditLogSearchRequest request = new AuditLogSearchRequest();
+        request.setPage(1);
+        request.setLimit(PAGE_SIZE);
+        request.setSort("newest");
+        return request;
+    }
+
+    // Service chỉ đọc id người dùng từ principal
+    private static void authenticate(int userId) {
+        User user = new User();
+        user.setId(userId);
+        UserPrincipal principal = new UserPrincipal(new Account(), user, new Role(), List.of());
+        SecurityContextHolder.getContext()
+                .setAuthentication(new UsernamePasswordAuthenticationToken(principal, null, List.of()));
+    }
+}
@@ -0,0 +1,90 @@
+package com.logistics.logistics.scheduler;
+
+import com.logistics.config.properties.SettlementProperties;
+import com.logistics.repository.SettlementCheckpointRepository;
+import com.logistics.repository.UserSettlementScheduleRepository;
+import com.logistics.scheduler.settlement.SettlementJobRunner;
+import com.logistics.scheduler.settlement.SettlementShopProcessor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SettlementJobRunnerTest {
+
+    private static final LocalDate RUN_DATE = LocalDate.of(2026, 10, 18);
+
+    private final UserSettlementScheduleRepository scheduleRepository = mock(UserSettlementScheduleRepository.class);
+    private final SettlementCheckpointRepository checkpointRepository = mock(SettlementCheckpointRepository.class);
+    private final SettlementShopProcessor shopProcessor = mock(SettlementShopProcessor.class);
+
+    private SettlementJobRunner runner;
+
+    @BeforeEach
+    void setUp() {
+        runner = new SettlementJobRunner(scheduleRepository, checkpointRepository, shopProcessor,
+                new SettlementProperties());
+        runner.start();
+        when(scheduleRepository.findShopIdsWithScheduleToday(any())).thenReturn(List.of(1, 2));
+        when(checkpointRepository.findRunnableIds(any(), anyInt())).thenReturn(List.of());
+    }
+
+    @AfterEach
+    void tearDown() {
+        runner.stop();
+    }
+
+    @Test
+    void runQueuedDuringResumeStillCreatesItsCheckpoints() throws InterruptedException {
+        CountDownLatch resumeStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(checkpointRepository.findUnfinishedRunDates(any(), anyInt())).thenAnswer(invocation -> {
+            resumeStarted.countDown();
+            assertTrue(release.await(5, TimeUnit.SECONDS));
+            return List.of();
+        });
+
+        runner.resumeUnfinishedRuns();
+        assertTrue(resumeStarted.await(5, TimeUnit.SECONDS));
+
+        // Lượt 20:00 tới khi resume còn chạy: được xếp hàng, không bị bỏ
+        runner.submit(RUN_DATE);
+        verify(shopProcessor, never()).prepareRun(any(), any());
+
+        release.countDown();
+        verify(shopProcessor, timeout(5_000)).prepareRun(eq(RUN_DATE), eq(List.of(1, 2)));
+    }
+
+    @Test
+    void submitDoesNotRunOnTheCallingThread() {
+        Thread caller = Thread.currentThread();
+        Thread[] worker = new Thread[1];
+        when(shopProcessor.prepareRun(any(), any())).thenAnswer(invocation -> {
+            worker[0] = Thread.currentThread();
+            return 2;
+        });
+
+        runner.submit(RUN_DATE);
+        runner.submit(RUN_DATE.plusDays(1));
+
+        verify(shopProcessor, timeout(5_000).times(2)).prepareRun(any(), any());
+        assertNotEquals(caller, worker[0]);
+        verify(shopProcessor, times(1)).prepareRun(eq(RUN_DATE), any());
+    }
+}
@@ -0,0 +1,92 @@
+package com.logistics.logistics.service;
+
+import com.logistics.service.admin.FinancialAdminService;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Xuất phiên nộp tiền / khoản nộp COD có từ khóa tìm kiếm: spec tìm kiếm bật distinct và join quan hệ
+ * một-nhiều, còn bản xuất sắp theo cột khác id.
+ */
+@SpringBootTest
+@ActiveProfiles("querycount")
+class FinancialExportSearchTest {
+
+    // Shipper A (user 2) của data.sql nộp tiền cho đơn 51 và 52 trong một phiên
+    private static final int BATCH_ID = 900;
+    private static final int SHIPPER_ID = 2;
+    private static final int CHECKER_ID = 3;
+    private static final int OFFICE_ID = 1051;
+
+    @Autowired
+    private FinancialAdminService financialAdminService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        if (jdbcTemplate.queryForObject("select count(*) from payment_submission_batches where id = ?",
+                Integer.class, BATCH_ID) > 0) {
+            return;
+        }
+        jdbcTemplate.update("""
+                insert into payment_submission_batches
+                    (id, code, shipper_id, office_id, total_system_amount, status, checked_by, created_at)
+                values (?, 'PSB-QC-900', ?, ?, 300000, 'PROCESSING', ?, CURRENT_TIMESTAMP)
+                """, BATCH_ID, SHIPPER_ID, OFFICE_ID, CHECKER_ID);
+        String submission = """
+                insert into payment_submissions
+                    (id, code, order_id, shipper_id, checked_by, batch_id, system_amount, actual_amount, status, paid_at)
+                values (?, ?, ?, ?, ?, ?, ?, ?, 'PENDING', ?)
+                """;
+        jdbcTemplate.update(submission, 901, "COD-QC-901", 51, SHIPPER_ID, CHECKER_ID, BATCH_ID, 100000, 100000,
+                Timestamp.valueOf("2026-10-17 08:00:00"));
+        jdbcTemplate.update(submission, 902, "COD-QC-902", 52, SHIPPER_ID, CHECKER_ID, BATCH_ID, 200000, 200000,
+                Timestamp.valueOf("2026-10-17 09:00:00"));
+    }
+
+    @Test
+    void submissionExportWithKeyword() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        // Khớp mã vận đơn QC00000051 / QC00000052 qua join order
+        financialAdminService.exportSubmissions(null, "qc000000", out);
+
+        assertEquals(List.of("COD-QC-902", "COD-QC-901"), firstColumn(out));
+    }
+
+    @Test
+    void batchExportWithKeywordListsEachBatchOnce() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        // Join submissions (một-nhiều): hai khoản nộp cùng khớp nhưng phiên chỉ xuất một lần
+        financialAdminService.exportBatches(1, 10, "qc000000", null, null, out);
+
+        assertEquals(List.of("PSB-QC-900"), firstColumn(out));
+    }
+
+    private static List<String> firstColumn(ByteArrayOutputStream out) throws IOException {
+        try (XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(out.toByteArray()))) {
+            Sheet sheet = workbook.getSheetAt(0);
+            List<String> values = new ArrayList<>();
+            for (int i = 1; i <= sheet.getLastRowNum(); i++) {
+                values.add(sheet.getRow(i).getCell(0).getStringCellValue());
+            }
+            return values;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.logistics.logistics.service;
+
+import com.logistics.request.manager.shipment.ManagerShipmentSearchRequest;
+import com.logistics.service.manager.ShipmentManagerService;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Xuất danh sách chuyến hàng đi của bưu cục qua SpecificationScroller: từ khóa tìm kiếm join nhân viên,
+ * thông tin nhân viên phụ trách / tạo chuyến lấy từ fetch lồng nhau employee.user.account.
+ */
+@SpringBootTest
+@ActiveProfiles("querycount")
+class ShipmentExportTest {
+
+    // Manager (user 3) quản lý bưu cục 1 trong data.sql; Shipper A (employee 1) phụ trách chuyến
+    private static final int MANAGER_USER_ID = 3;
+    private static final int SHIPMENT_ID = 900;
+
+    @Autowired
+    private ShipmentManagerService shipmentManagerService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        if (jdbcTemplate.queryForObject("select count(*) from shipments where id = ?",
+                Integer.class, SHIPMENT_ID) > 0) {
+            return;
+        }
+        jdbcTemplate.update("""
+                insert into shipments (id, code, employee_id, type, status, from_office_id, to_office_id, created_by,
+                    created_at)
+                values (?, 'SHP-QC-900', 1, 'TRANSFER', 'PENDING', 1, 2, 2, CURRENT_TIMESTAMP)
+                """, SHIPMENT_ID);
+    }
+
+    @Test
+    void outboundExportWithKeyword() throws IOException {
+        ManagerShipmentSearchRequest request = new ManagerShipmentSearchRequest();
+        request.setDirection("OUTBOUND");
+        request.setSearch("shp-qc");
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        shipmentManagerService.export(MANAGER_USER_ID, request, out);
+
+        try (XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(out.toByteArray()))) {
+            Sheet sheet = workbook.getSheetAt(0);
+            assertEquals(1, sheet.getLastRowNum());
+
+            Row row = sheet.getRow(1);
+            assertEquals("SHP-QC-900", row.getCell(0).getStringCellValue());
+            assertEquals("N/A", row.getCell(3).getStringCellValue());
+            assertEquals("Bưu cục nhận", row.getCell(5).getStringCellValue());
+            assertEquals("Query Count Shipper A", row.getCell(7).getStringCellValue());
+            assertEquals("user2@querycount.test", row.getCell(10).getStringCellValue());
+            assertEquals("Query Count Manager", row.getCell(11).getStringCellValue());
+            assertEquals("user3@querycount.test", row.getCell(14).getStringCellValue());
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.logistics.logistics.service;
+
+import com.logistics.repository.ShipperAssignmentRepository;
+import com.logistics.service.assignment.ShipperCoverageIndex;
+import com.logistics.service.assignment.ShipperCoverageIndex.Coverage;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ShipperCoverageIndexTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 18, 9, 0);
+    private static final int CITY = 79;
+    private static final int WARD = 26734;
+
+    @Test
+    void changesWhileReloadingAreKept() throws Exception {
+        ShipperAssignmentRepository repository = mock(ShipperAssignmentRepository.class);
+        ShipperCoverageIndex index = new ShipperCoverageIndex(repository);
+        index.put(coverage(1L, 10));
+        index.put(coverage(2L, 20));
+
+        CountDownLatch queryStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        // Kết quả DB đọc trước các thay đổi bên dưới: còn phân công 1 và 2, chưa có 3
+        when(repository.findCoverageRows(any())).thenAnswer(invocation -> {
+            queryStarted.countDown();
+            assertTrue(release.await(5, TimeUnit.SECONDS));
+            return List.<Object[]>of(row(coverage(1L, 10)), row(coverage(2L, 20)));
+        });
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> reload = executor.submit(index::reload);
+            assertTrue(queryStarted.await(5, TimeUnit.SECONDS));
+
+            index.put(coverage(3L, 30));
+            index.remove(2L);
+            release.countDown();
+            reload.get(5, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(List.of(10, 30), ShipperCoverageIndex.shipperIds(index.wardCandidates(CITY, WARD, NOW)));
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    void assignmentEndingNowIsNoLongerActive() {
+        Coverage coverage = new Coverage(1L, 10, CITY, WARD, NOW.minusDays(1), NOW, NOW.minusDays(2));
+
+        assertTrue(coverage.isActive(NOW.minusSeconds(1)));
+        assertFalse(coverage.isActive(NOW));
+        assertTrue(new Coverage(2L, 20, CITY, WARD, NOW, null, NOW).isActive(NOW));
+    }
+
+    private static Coverage coverage(Long assignmentId, int shipperId) {
+        return new Coverage(assignmentId, shipperId, CITY, WARD, NOW.minusDays(1), null,
+                NOW.minusDays(10).plusMinutes(assignmentId));
+    }
+
+    private static Object[] row(Coverage coverage) {
+        return new Object[]{coverage.assignmentId(), coverage.shipperId(), coverage.cityCode(), coverage.wardCode(),
+                coverage.startAt(), coverage.endAt(), coverage.createdAt()};
+    }
+}
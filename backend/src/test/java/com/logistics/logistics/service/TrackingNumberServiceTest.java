@@ -0,0 +1,174 @@
+package com.logistics.logistics.service;
+
+import com.logistics.config.properties.TrackingNumberProperties;
+import com.logistics.exception.AppException;
+import com.logistics.exception.enums.OrderErrorCode;
+import com.logistics.service.common.TrackingNumberService;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TrackingNumberServiceTest {
+
+    private static final LocalDate DAY = LocalDate.of(2026, 10, 18);
+    private static final long SEQUENCE_LIMIT = 36L * 36 * 36 * 36 * 36;
+    private static final String BASE36 = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ";
+
+    @Test
+    void sequenceIsFiveBase36Digits() {
+        StubbedLease service = new StubbedLease(10, 36L * 36 + 36 + 35);
+
+        assertEquals("UTE2610180011Z", service.next().substring(0, 14));
+        assertEquals("UTE26101800120", service.next().substring(0, 14));
+
+        StubbedLease last = new StubbedLease(10, SEQUENCE_LIMIT - 1);
+        assertEquals("UTE261018ZZZZZ", last.next().substring(0, 14));
+    }
+
+    @Test
+    void checkCharactersAreAlwaysInGToY() {
+        for (long start : new long[]{0, 12_345, 1_000_000, SEQUENCE_LIMIT - 2_000}) {
+            StubbedLease service = new StubbedLease(2_000, start);
+            for (int i = 0; i < 2_000; i++) {
+                String trackingNumber = service.next();
+                assertEquals(16, trackingNumber.length());
+                for (char check : trackingNumber.substring(14).toCharArray()) {
+                    assertTrue(check >= 'G' && check <= 'Y', trackingNumber);
+                }
+                assertTrue(TrackingNumberService.isValid(trackingNumber), trackingNumber);
+            }
+        }
+    }
+
+    @Test
+    void anySingleCharacterChangeIsDetected() {
+        StubbedLease service = new StubbedLease(500, 1_000_000);
+        for (int n = 0; n < 500; n++) {
+            String trackingNumber = service.next();
+            // Đổi từng ký tự ngày (chữ số) và số thứ tự (base36), giữ nguyên phần kiểm tra
+            for (int i = 3; i < 14; i++) {
+                String alphabet = i < 9 ? "0123456789" : BASE36;
+                for (char replacement : alphabet.toCharArray()) {
+                    if (replacement == trackingNumber.charAt(i)) {
+                        continue;
+                    }
+                    String typo = trackingNumber.substring(0, i) + replacement + trackingNumber.substring(i + 1);
+                    assertFalse(TrackingNumberService.isValid(typo), trackingNumber + " -> " + typo);
+                }
+            }
+        }
+    }
+
+    @Test
+    void exhaustedBlockLeasesTheNextOne() {
+        StubbedLease service = new StubbedLease(3, 0);
+
+        List<String> sequences = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            sequences.add(service.next().substring(9, 14));
+        }
+
+        assertEquals(List.of("00000", "00001", "00002", "00003", "00004", "00005", "00006"), sequences);
+        assertEquals(List.of(0L, 3L, 6L), service.leasedStarts);
+    }
+
+    @Test
+    void exhaustedDayFails() {
+        StubbedLease service = new StubbedLease(3, SEQUENCE_LIMIT - 2);
+
+        service.next();
+        service.next();
+        AppException e = assertThrows(AppException.class, service::next);
+        assertEquals(OrderErrorCode.ORDER_TRACKING_NUMBER_EXHAUSTED, e.getErrorCode());
+    }
+
+    @Test
+    void newDayLeasesFromThatDaysSequence() {
+        StubbedLease service = new StubbedLease(100, 0);
+        assertEquals("UTE26101800000", service.next().substring(0, 14));
+        assertEquals("UTE26101800001", service.next().substring(0, 14));
+
+        service.day = DAY.plusDays(1);
+        assertEquals("UTE26101900000", service.next().substring(0, 14));
+        assertEquals(List.of(DAY, DAY.plusDays(1)), service.leasedDays);
+    }
+
+    @Test
+    void concurrentCallsNeverRepeatANumber() throws Exception {
+        int threads = 8;
+        int perThread = 5_000;
+        StubbedLease service = new StubbedLease(100, 0);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<List<String>>> results = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                results.add(executor.submit(() -> {
+                    List<String> issued = new ArrayList<>(perThread);
+                    for (int i = 0; i < perThread; i++) {
+                        issued.add(service.next());
+                    }
+                    return issued;
+                }));
+            }
+
+            Set<String> distinct = new HashSet<>();
+            for (Future<List<String>> result : results) {
+                distinct.addAll(result.get(30, TimeUnit.SECONDS));
+            }
+            assertEquals(threads * perThread, distinct.size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // Thuê khối từ bộ đếm trong bộ nhớ thay cho bảng tracking_number_sequences, ngày do test điều khiển
+    private static class StubbedLease extends TrackingNumberService {
+
+        private final Map<LocalDate, Long> nextValues = new HashMap<>();
+        private final long firstValue;
+        private final List<Long> leasedStarts = new ArrayList<>();
+        private final List<LocalDate> leasedDays = new ArrayList<>();
+        private volatile LocalDate day = DAY;
+
+        StubbedLease(int blockSize, long firstValue) {
+            super(null, null, properties(blockSize));
+            this.firstValue = firstValue;
+        }
+
+        private static TrackingNumberProperties properties(int blockSize) {
+            TrackingNumberProperties properties = new TrackingNumberProperties();
+            properties.setBlockSize(blockSize);
+            return properties;
+        }
+
+        @Override
+        protected synchronized long reserve(LocalDate day, int blockSize) {
+            long start = nextValues.getOrDefault(day, day.equals(DAY) ? firstValue : 0L);
+            nextValues.put(day, Math.min(start + blockSize, SEQUENCE_LIMIT));
+            leasedStarts.add(start);
+            leasedDays.add(day);
+            return start;
+        }
+
+        @Override
+        protected LocalDate today() {
+            return day;
+        }
+    }
+}
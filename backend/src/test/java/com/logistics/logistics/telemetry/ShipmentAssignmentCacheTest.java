@@ -0,0 +1,68 @@
+package com.logistics.logistics.telemetry;
+
+import com.logistics.request.manager.shipment.ManagerShipmentAddEditRequest;
+import com.logistics.service.manager.ShipmentManagerService;
+import com.logistics.telemetry.ShipmentAssignmentCache;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Manager đổi tài xế của chuyến thì kiểm tra quyền gửi GPS thấy tài xế mới ngay, không chờ hết
+ * {@code assignmentTtlMs}.
+ */
+@SpringBootTest
+@ActiveProfiles("querycount")
+class ShipmentAssignmentCacheTest {
+
+    // Manager (user 3, employee 2) quản lý bưu cục 1 trong data.sql; shipper mới (user 900) được thêm ở bưu cục 1
+    private static final int MANAGER_USER_ID = 3;
+    private static final int MANAGER_EMPLOYEE_ID = 2;
+    private static final int SHIPPER_USER_ID = 900;
+    private static final int SHIPPER_EMPLOYEE_ID = 900;
+    private static final int SHIPMENT_ID = 901;
+
+    @Autowired
+    private ShipmentAssignmentCache shipmentAssignmentCache;
+
+    @Autowired
+    private ShipmentManagerService shipmentManagerService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void employeeChangeEvictsCachedAssignment() {
+        jdbcTemplate.update("""
+                insert into accounts (id, email, password, is_active, is_verified, created_at)
+                values (900, 'user900@querycount.test', 'x', TRUE, TRUE, CURRENT_TIMESTAMP)
+                """);
+        jdbcTemplate.update("insert into account_roles (id, account_id, role_id, is_active) values (900, 900, 2, TRUE)");
+        jdbcTemplate.update("""
+                insert into users (id, account_id, first_name, last_name, phone_number, locked, created_at)
+                values (900, 900, 'Shipper C', 'Query Count', '0900000900', FALSE, CURRENT_TIMESTAMP)
+                """);
+        jdbcTemplate.update("""
+                insert into employees (id, user_id, office_id, account_role_id, hire_date, shift, status, created_at)
+                values (900, 900, 1, 900, CURRENT_TIMESTAMP, 'FULL_DAY', 'ACTIVE', CURRENT_TIMESTAMP)
+                """);
+        jdbcTemplate.update("""
+                insert into shipments (id, code, employee_id, type, status, from_office_id, to_office_id, created_by,
+                    created_at)
+                values (?, 'SHP-QC-901', ?, 'DELIVERY', 'PENDING', 1, 1, ?, CURRENT_TIMESTAMP)
+                """, SHIPMENT_ID, MANAGER_EMPLOYEE_ID, MANAGER_EMPLOYEE_ID);
+
+        assertEquals(MANAGER_USER_ID, shipmentAssignmentCache.get(SHIPMENT_ID).driverUserId());
+
+        ManagerShipmentAddEditRequest request = new ManagerShipmentAddEditRequest();
+        request.setType("DELIVERY");
+        request.setEmployeeId(SHIPPER_EMPLOYEE_ID);
+        shipmentManagerService.update(MANAGER_USER_ID, SHIPMENT_ID, request);
+
+        assertEquals(SHIPPER_USER_ID, shipmentAssignmentCache.get(SHIPMENT_ID).driverUserId());
+    }
+}
@@ -0,0 +1,99 @@
+package com.logistics.logistics.telemetry;
+
+import com.logistics.telemetry.TrajectoryCodec;
+import com.logistics.telemetry.TrajectoryCodec.Decoded;
+import com.logistics.telemetry.TrajectoryPoint;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TrajectoryCodecTest {
+
+    private static final long START = 1_792_300_000_000L;
+
+    @Test
+    void roundTripKeepsEveryField() {
+        Random random = new Random(42);
+        List<TrajectoryPoint> points = new ArrayList<>();
+        int[] significanceCm = new int[1_000];
+        long time = START;
+        int latitude = 10_762_622;
+        int longitude = 106_660_172;
+        for (int i = 0; i < significanceCm.length; i++) {
+            time += 1_000 + random.nextInt(10_000);
+            latitude += random.nextInt(2_001) - 1_000;
+            longitude += random.nextInt(2_001) - 1_000;
+            points.add(new TrajectoryPoint(time, latitude, longitude, random.nextInt(12_000)));
+            significanceCm[i] = random.nextInt(1_000_000);
+        }
+        significanceCm[0] = Integer.MAX_VALUE;
+        significanceCm[significanceCm.length - 1] = Integer.MAX_VALUE;
+
+        byte[] data = TrajectoryCodec.encode(points, significanceCm);
+        Decoded decoded = TrajectoryCodec.decode(data);
+
+        assertEquals(points, decoded.points());
+        assertArrayEquals(significanceCm, decoded.significanceCm());
+        // Hiệu nhỏ giữa hai điểm liên tiếp: trung bình không quá 12 byte mỗi điểm
+        assertTrue(data.length < points.size() * 12, "encoded size " + data.length);
+    }
+
+    @Test
+    void negativeDeltasAndCoordinatesRoundTrip() {
+        // Thời gian, tọa độ và tốc độ đều có lúc giảm; tọa độ âm (Nam bán cầu / Tây bán cầu)
+        List<TrajectoryPoint> points = List.of(
+                new TrajectoryPoint(START, -33_868_820, -151_209_290, 6_000),
+                new TrajectoryPoint(START - 5_000, -33_869_500, -151_210_000, 0),
+                new TrajectoryPoint(START + 1_000, 33_868_820, 151_209_290, 12_000),
+                new TrajectoryPoint(START, -90_000_000, -180_000_000, 5),
+                new TrajectoryPoint(0, 90_000_000, 180_000_000, 0),
+                new TrajectoryPoint(-1, 0, 0, -1));
+        int[] significanceCm = {Integer.MAX_VALUE, 0, 17, 1, 0, Integer.MAX_VALUE};
+
+        Decoded decoded = TrajectoryCodec.decode(TrajectoryCodec.encode(points, significanceCm));
+
+        assertEquals(points, decoded.points());
+        assertArrayEquals(significanceCm, decoded.significanceCm());
+    }
+
+    @Test
+    void emptyTrajectoryRoundTrips() {
+        Decoded decoded = TrajectoryCodec.decode(TrajectoryCodec.encode(List.of(), new int[0]));
+
+        assertEquals(List.of(), decoded.points());
+        assertEquals(0, decoded.significanceCm().length);
+    }
+
+    @Test
+    void truncatedDataIsRejected() {
+        List<TrajectoryPoint> points = List.of(
+                new TrajectoryPoint(START, 10_762_622, 106_660_172, 4_500),
+                new TrajectoryPoint(START + 5_000, 10_762_900, 106_660_500, 4_800),
+                new TrajectoryPoint(START + 10_000, 10_763_100, 106_660_900, 5_100));
+        byte[] data = TrajectoryCodec.encode(points, new int[]{Integer.MAX_VALUE, 250, Integer.MAX_VALUE});
+
+        // Cắt ở mọi vị trí, kể cả giữa một varint nhiều byte
+        for (int length = 0; length < data.length; length++) {
+            byte[] truncated = Arrays.copyOf(data, length);
+            IllegalStateException e = assertThrows(IllegalStateException.class,
+                    () -> TrajectoryCodec.decode(truncated), "length " + length);
+            assertEquals("Truncated trajectory data", e.getMessage());
+        }
+    }
+
+    @Test
+    void unknownVersionIsRejected() {
+        byte[] data = TrajectoryCodec.encode(List.of(), new int[0]);
+        data[0] = 2;
+
+        assertThrows(IllegalStateException.class, () -> TrajectoryCodec.decode(data));
+    }
+}
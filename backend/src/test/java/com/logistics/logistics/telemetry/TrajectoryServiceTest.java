@@ -0,0 +1,63 @@
+package com.logistics.logistics.telemetry;
+
+import com.logistics.config.properties.TrajectoryProperties;
+import com.logistics.entity.ShipmentTrajectory;
+import com.logistics.repository.ShipmentRepository;
+import com.logistics.repository.ShipmentTrajectoryRepository;
+import com.logistics.telemetry.TrajectoryService;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TrajectoryServiceTest {
+
+    private static final LocalDateTime ENDED = LocalDateTime.of(2026, 10, 18, 8, 0);
+
+    @Test
+    void failingShipmentIsSkippedAndTheRestAreCompressed() {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        ShipmentRepository shipmentRepository = mock(ShipmentRepository.class);
+        ShipmentTrajectoryRepository trajectoryRepository = mock(ShipmentTrajectoryRepository.class);
+        TrajectoryProperties properties = new TrajectoryProperties();
+        properties.setCompressBatchSize(2);
+
+        // Chuyến 2 lỗi khi đọc điểm gốc; con trỏ vẫn đi qua nó nên trang sau bắt đầu sau (ENDED + 2, 2)
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), any(Object[].class))).thenAnswer(invocation -> {
+            if (Integer.valueOf(2).equals(invocation.getArgument(2))) {
+                throw new DataAccessResourceFailureException("connection reset");
+            }
+            return new ArrayList<>();
+        });
+        when(shipmentRepository.findFinishedWithoutTrajectory(any(), any(), eq(0), any(), any()))
+                .thenReturn(List.of(row(1, ENDED.plusMinutes(1)), row(2, ENDED.plusMinutes(2))));
+        when(shipmentRepository.findFinishedWithoutTrajectory(any(), eq(ENDED.plusMinutes(2)), eq(2), any(), any()))
+                .thenReturn(List.<Object[]>of(row(3, ENDED.plusMinutes(3))));
+
+        new TrajectoryService(jdbcTemplate, shipmentRepository, trajectoryRepository, properties)
+                .compressFinishedShipments();
+
+        ArgumentCaptor<ShipmentTrajectory> saved = ArgumentCaptor.forClass(ShipmentTrajectory.class);
+        verify(trajectoryRepository, times(2)).save(saved.capture());
+        assertEquals(List.of(1, 3), saved.getAllValues().stream().map(ShipmentTrajectory::getShipmentId).toList());
+        verify(shipmentRepository, times(2)).findFinishedWithoutTrajectory(any(), any(), any(), any(), any());
+    }
+
+    private static Object[] row(int shipmentId, LocalDateTime endTime) {
+        return new Object[]{shipmentId, 7, endTime.minusHours(2), endTime};
+    }
+}
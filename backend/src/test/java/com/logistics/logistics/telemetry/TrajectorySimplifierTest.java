@@ -0,0 +1,162 @@
+package com.logistics.logistics.telemetry;
+
+import com.logistics.telemetry.TrajectoryPoint;
+import com.logistics.telemetry.TrajectorySimplifier;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * So độ quan trọng với Douglas-Peucker đệ quy chạy lại cho từng sai số, cùng phép chiếu phẳng.
+ */
+class TrajectorySimplifierTest {
+
+    private static final double METERS_PER_DEGREE = 111_320.0;
+
+    @Test
+    void matchesDouglasPeuckerAtEveryTolerance() {
+        Random random = new Random(7);
+        for (int path = 0; path < 50; path++) {
+            List<TrajectoryPoint> points = randomPath(random, 2 + random.nextInt(400));
+            double[] significance = TrajectorySimplifier.significance(points);
+
+            // Các ngưỡng cố định, cộng đúng bằng và sát hai bên mọi độ quan trọng xuất hiện
+            TreeSet<Double> tolerances = new TreeSet<>(List.of(0.0, 0.5, 1.0, 5.0, 10.0, 25.0, 50.0, 100.0, 1e9));
+            for (double value : significance) {
+                if (Double.isFinite(value)) {
+                    tolerances.add(value);
+                    tolerances.add(Math.nextDown(value));
+                    tolerances.add(Math.nextUp(value));
+                }
+            }
+            for (double tolerance : tolerances) {
+                if (tolerance < 0) {
+                    continue;
+                }
+                assertArrayEquals(douglasPeucker(points, tolerance), keptAbove(significance, tolerance),
+                        "path " + path + ", tolerance " + tolerance);
+            }
+        }
+    }
+
+    @Test
+    void endpointsAreAlwaysKept() {
+        List<TrajectoryPoint> line = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            line.add(new TrajectoryPoint(i * 1_000L, 10_000_000 + i * 100, 106_000_000 + i * 100, 0));
+        }
+
+        double[] significance = TrajectorySimplifier.significance(line);
+
+        assertEquals(Double.POSITIVE_INFINITY, significance[0]);
+        assertEquals(Double.POSITIVE_INFINITY, significance[line.size() - 1]);
+        // Các điểm giữa nằm trên đường thẳng nên gần như không có độ quan trọng
+        for (int i = 1; i < line.size() - 1; i++) {
+            assertTrue(significance[i] < 0.01, "point " + i + ": " + significance[i]);
+        }
+        assertEquals(0, TrajectorySimplifier.significance(List.of()).length);
+        assertArrayEquals(new double[]{Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY},
+                TrajectorySimplifier.significance(line.subList(0, 2)));
+    }
+
+    @Test
+    void childIsNeverMoreSignificantThanItsParent() {
+        // Đường zigzag có điểm xa đoạn con hơn điểm cha: độ quan trọng phải bị chặn để không giữ lẻ điểm con
+        List<TrajectoryPoint> points = List.of(
+                point(0, 0), point(1_000, 5_000), point(1_100, -5_000), point(1_200, 5_000), point(2_000, 0));
+        double[] significance = TrajectorySimplifier.significance(points);
+
+        for (double tolerance : significance) {
+            if (Double.isFinite(tolerance)) {
+                assertArrayEquals(douglasPeucker(points, tolerance), keptAbove(significance, tolerance));
+            }
+        }
+    }
+
+    private static List<TrajectoryPoint> randomPath(Random random, int size) {
+        List<TrajectoryPoint> points = new ArrayList<>(size);
+        int latitude = 10_762_622;
+        int longitude = 106_660_172;
+        int heading = random.nextInt(360);
+        for (int i = 0; i < size; i++) {
+            // Đoạn thẳng dài xen lẫn rẽ gấp, đôi khi đứng yên (điểm trùng nhau)
+            if (random.nextInt(5) == 0) {
+                heading += random.nextInt(181) - 90;
+            }
+            int step = random.nextInt(10) == 0 ? 0 : random.nextInt(500);
+            latitude += (int) Math.round(step * Math.cos(Math.toRadians(heading))) + random.nextInt(21) - 10;
+            longitude += (int) Math.round(step * Math.sin(Math.toRadians(heading))) + random.nextInt(21) - 10;
+            points.add(new TrajectoryPoint(i * 5_000L, latitude, longitude, random.nextInt(8_000)));
+        }
+        return points;
+    }
+
+    private static TrajectoryPoint point(int latitudeOffset, int longitudeOffset) {
+        return new TrajectoryPoint(0, 10_000_000 + latitudeOffset, 106_000_000 + longitudeOffset, 0);
+    }
+
+    private static boolean[] keptAbove(double[] significance, double tolerance) {
+        boolean[] kept = new boolean[significance.length];
+        for (int i = 0; i < significance.length; i++) {
+            kept[i] = significance[i] > tolerance;
+        }
+        return kept;
+    }
+
+    private static boolean[] douglasPeucker(List<TrajectoryPoint> points, double tolerance) {
+        int n = points.size();
+        boolean[] kept = new boolean[n];
+        if (n == 0) {
+            return kept;
+        }
+        double cosLat = Math.cos(Math.toRadians(points.get(0).latitudeE6() / 1_000_000.0));
+        double[] x = new double[n];
+        double[] y = new double[n];
+        for (int i = 0; i < n; i++) {
+            x[i] = points.get(i).longitudeE6() / 1_000_000.0 * METERS_PER_DEGREE * cosLat;
+            y[i] = points.get(i).latitudeE6() / 1_000_000.0 * METERS_PER_DEGREE;
+        }
+        kept[0] = true;
+        kept[n - 1] = true;
+        simplify(x, y, 0, n - 1, tolerance, kept);
+        return kept;
+    }
+
+    private static void simplify(double[] x, double[] y, int from, int to, double tolerance, boolean[] kept) {
+        if (to - from < 2) {
+            return;
+        }
+        int farthest = from + 1;
+        double maxDistance = -1;
+        for (int i = from + 1; i < to; i++) {
+            double distance = distanceToSegment(x[i], y[i], x[from], y[from], x[to], y[to]);
+            if (distance > maxDistance) {
+                maxDistance = distance;
+                farthest = i;
+            }
+        }
+        if (maxDistance > tolerance) {
+            kept[farthest] = true;
+            simplify(x, y, from, farthest, tolerance, kept);
+            simplify(x, y, farthest, to, tolerance, kept);
+        }
+    }
+
+    private static double distanceToSegment(double px, double py, double ax, double ay, double bx, double by) {
+        double dx = bx - ax;
+        double dy = by - ay;
+        double lengthSquared = dx * dx + dy * dy;
+        if (lengthSquared == 0) {
+            return Math.hypot(px - ax, py - ay);
+        }
+        double t = Math.max(0, Math.min(1, ((px - ax) * dx + (py - ay) * dy) / lengthSquared));
+        return Math.hypot(px - (ax + t * dx), py - (ay + t * dy));
+    }
+}
@@ -0,0 +1,1224 @@
+-- Dữ liệu mẫu cho QueryBudgetTest. Mỗi đơn có shop / nhân viên / bưu cục / địa chỉ riêng để truy vấn
+-- theo từng dòng (N+1) không bị persistence context che đi:
+--   - shop 1 có 50 đơn (1..50) trong kỳ đối soát 1, mỗi đơn một nhân viên (user 100 + i, bưu cục 3000 + i);
+--   - shipper A (user 2) được gán 12 đơn (51..62) của 12 shop khác nhau (user 200..211);
+--   - shipper B (user 4) được gán 2 đơn (63, 64) của shop 212, 213;
+--   - đơn 1 có 10 dòng hành trình / sản phẩm / lần lấy hàng, đơn 2 mỗi loại một dòng.
+-- Bưu cục gửi / hiện tại của đơn i là 1000 + i / 2000 + i; địa chỉ gửi / nhận là 10000 + i / 20000 + i.
+insert into roles (id, name, created_at) values
+        (1, 'User', CURRENT_TIMESTAMP),
+        (2, 'Shipper', CURRENT_TIMESTAMP),
+        (3, 'Manager', CURRENT_TIMESTAMP);
+
+insert into accounts (id, email, password, is_active, is_verified, created_at) values
+        (1, 'user1@querycount.test', 'x', TRUE, TRUE, CURRENT_TIMESTAMP),
+        (2, 'user2@querycount.test', 'x', TRUE, TRUE, CURRENT_TIMESTAMP),
+        (3, 'user3@querycount.test', 'x', TRUE, TRUE, CURRENT_TIMESTAMP),
+        (4, 'user4@querycount.test', 'x', TRUE, TRUE, CURRENT_TIMESTAMP),
+        (101, 'user101@querycount.test', 'x', TRUE, TRUE, CURRENT_TIMESTAMP),
+        (102, 'user102@querycount.test', 'x', TRUE, TRUE, CURRENT_TIMESTAMP),
+        (103, 'user103@querycount.test', 'x', TRUE, TRUE, CURRENT_TIMESTAMP),
+        (104, 'user104@querycount.test', 'x', TRUE, TRUE, CURRENT_TIMESTAMP),
+        (105, 'user105@querycount.test', 'x', TRUE, TRUE, CURRENT_TIMESTAMP),
+        (106, 'user106@querycount.test', 'x', TRUE, TRUE, CURRENT_TIMESTAMP),
+        (107, 'user107@querycount.test', 'x', TRUE, TRUE, CURRENT_TIMESTAMP),
+        (108, 'user108@querycount.test', 'x', TRUE, TRUE, CURRENT_TIMESTAMP),
+        (109, 'user109@querycount.test', 'x', TRUE, TRUE, CURRENT_TIMESTAMP),
+        (110, 'user110@querycount.test', 'x', TRUE, TRUE, CURRENT_TIMESTAMP),
+        (111, 'user111@querycount.test', 'x', TRUE, TRUE, CURRENT_TIMESTAMP),
+        (112, 'user112@querycount.test', 'x', TRUE, TRUE, CURRENT_TIMESTAMP),
+        (113, 'user113@querycount.test', 'x', TRUE, TRUE, CURRENT_TIMESTAMP),
+        (114, 'user114@querycount.test', 'x', TRUE, TRUE, CURRENT_TIMESTAMP),
+        (115, 'user115@querycount.test', 'x', TRUE, TRUE, CURRENT_TIMESTAMP),
+        (116, 'user116@querycount.test', 'x', TRUE, TRUE, CURRENT_TIMESTAMP),
+        (117, 'user117@querycount.test', 'x', TRUE, TRUE, CURRENT_TIMESTAMP),
+        (118, 'user118@querycount.test', 'x', TRUE, TRUE, CURRENT_TIMESTAMP),
+        (119, 'user119@querycount.test', 'x', TRUE, TRUE, CURRENT_TIMESTAMP),
+        (120, 'user120@querycount.test', 'x', TRUE, TRUE, CURRENT_TIMESTAMP),
+        (121, 'user121@querycount.test', 'x', TRUE, TRUE, CURRENT_TIMESTAMP),
+        (122, 'user122@querycount.test', 'x', TRUE, TRUE, CURRENT_TIMESTAMP),
+        (123, 'user123@querycount.test', 'x', TRUE, TRUE, CURRENT_TIMESTAMP),
+        (124, 'user124@querycount.test', 'x', TRUE, TRUE, CURRENT_TIMESTAMP),
+        (125, 'user125@querycount.test', 'x', TRUE, TRUE, CURRENT_TIMESTAMP),
+        (126, 'user126@querycount.test', 'x', TRUE, TRUE, CURRENT_TIMESTAMP),
+        (127, 'user127@querycount.test', 'x', TRUE, TRUE, CURRENT_TIMESTAMP),
+        (128, 'user128@querycount.test', 'x', TRUE, TRUE, CURRENT_TIMESTAMP),
+        (129, 'user129@querycount.test', 'x', TRUE, TRUE, CURRENT_TIMESTAMP),
+        (130, 'user130@querycount.test', 'x', TRUE, TRUE, CURRENT_TIMESTAMP),
+        (131, 'user131@querycount.test', 'x', TRUE, TRUE, CURRENT_TIMESTAMP),
+        (132, 'user132@querycount.test', 'x', TRUE, TRUE, CURRENT_TIMESTAMP),
+        (133, 'user133@querycount.test', 'x', TRUE, TRUE, CURRENT_TIMESTAMP),
+        (134, 'user134@querycount.test', 'x', TRUE, TRUE, CURRENT_TIMESTAMP),
+        (135, 'user135@querycount.test', 'x', TRUE, TRUE, CURRENT_TIMESTAMP),
+        (136, 'user136@querycount.test', 'x', TRUE, TRUE, CURRENT_TIMESTAMP),
+        (137, 'user137@querycount.test', 'x', TRUE, TRUE, CURRENT_TIMESTAMP),
+        (138, 'user138@querycount.test', 'x', TRUE, TRUE, CURRENT_TIMESTAMP),
+        (139, 'user139@querycount.test', 'x', TRUE, TRUE, CURRENT_TIMESTAMP),
+        (140, 'user140@querycount.test', 'x', TRUE, TRUE, CURRENT_TIMESTAMP),
+        (141, 'user141@querycount.test', 'x', TRUE, TRUE, CURRENT_TIMESTAMP),
+        (142, 'user142@querycount.test', 'x', TRUE, TRUE, CURRENT_TIMESTAMP),
+        (143, 'user143@querycount.test', 'x', TRUE, TRUE, CURRENT_TIMESTAMP),
+        (144, 'user144@querycount.test', 'x', TRUE, TRUE, CURRENT_TIMESTAMP),
+        (145, 'user145@querycount.test', 'x', TRUE, TRUE, CURRENT_TIMESTAMP),
+        (146, 'user146@querycount.test', 'x', TRUE, TRUE, CURRENT_TIMESTAMP),
+        (147, 'user147@querycount.test', 'x', TRUE, TRUE, CURRENT_TIMESTAMP),
+        (148, 'user148@querycount.test', 'x', TRUE, TRUE, CURRENT_TIMESTAMP),
+        (149, 'user149@querycount.test', 'x', TRUE, TRUE, CURRENT_TIMESTAMP),
+        (150, 'user150@querycount.test', 'x', TRUE, TRUE, CURRENT_TIMESTAMP),
+        (200, 'user200@querycount.test', 'x', TRUE, TRUE, CURRENT_TIMESTAMP),
+        (201, 'user201@querycount.test', 'x', TRUE, TRUE, CURRENT_TIMESTAMP),
+        (202, 'user202@querycount.test', 'x', TRUE, TRUE, CURRENT_TIMESTAMP),
+        (203, 'user203@querycount.test', 'x', TRUE, TRUE, CURRENT_TIMESTAMP),
+        (204, 'user204@querycount.test', 'x', TRUE, TRUE, CURRENT_TIMESTAMP),
+        (205, 'user205@querycount.test', 'x', TRUE, TRUE, CURRENT_TIMESTAMP),
+        (206, 'user206@querycount.test', 'x', TRUE, TRUE, CURRENT_TIMESTAMP),
+        (207, 'user207@querycount.test', 'x', TRUE, TRUE, CURRENT_TIMESTAMP),
+        (208, 'user208@querycount.test', 'x', TRUE, TRUE, CURRENT_TIMESTAMP),
+        (209, 'user209@querycount.test', 'x', TRUE, TRUE, CURRENT_TIMESTAMP),
+        (210, 'user210@querycount.test', 'x', TRUE, TRUE, CURRENT_TIMESTAMP),
+        (211, 'user211@querycount.test', 'x', TRUE, TRUE, CURRENT_TIMESTAMP),
+        (212, 'user212@querycount.test', 'x', TRUE, TRUE, CURRENT_TIMESTAMP),
+        (213, 'user213@querycount.test', 'x', TRUE, TRUE, CURRENT_TIMESTAMP);
+
+insert into account_roles (id, account_id, role_id, is_active) values
+        (1, 1, 1, TRUE),
+        (2, 2, 2, TRUE),
+        (3, 3, 3, TRUE),
+        (4, 4, 2, TRUE),
+        (101, 101, 2, TRUE),
+        (102, 102, 2, TRUE),
+        (103, 103, 2, TRUE),
+        (104, 104, 2, TRUE),
+        (105, 105, 2, TRUE),
+        (106, 106, 2, TRUE),
+        (107, 107, 2, TRUE),
+        (108, 108, 2, TRUE),
+        (109, 109, 2, TRUE),
+        (110, 110, 2, TRUE),
+        (111, 111, 2, TRUE),
+        (112, 112, 2, TRUE),
+        (113, 113, 2, TRUE),
+        (114, 114, 2, TRUE),
+        (115, 115, 2, TRUE),
+        (116, 116, 2, TRUE),
+        (117, 117, 2, TRUE),
+        (118, 118, 2, TRUE),
+        (119, 119, 2, TRUE),
+        (120, 120, 2, TRUE),
+        (121, 121, 2, TRUE),
+        (122, 122, 2, TRUE),
+        (123, 123, 2, TRUE),
+        (124, 124, 2, TRUE),
+        (125, 125, 2, TRUE),
+        (126, 126, 2, TRUE),
+        (127, 127, 2, TRUE),
+        (128, 128, 2, TRUE),
+        (129, 129, 2, TRUE),
+        (130, 130, 2, TRUE),
+        (131, 131, 2, TRUE),
+        (132, 132, 2, TRUE),
+        (133, 133, 2, TRUE),
+        (134, 134, 2, TRUE),
+        (135, 135, 2, TRUE),
+        (136, 136, 2, TRUE),
+        (137, 137, 2, TRUE),
+        (138, 138, 2, TRUE),
+        (139, 139, 2, TRUE),
+        (140, 140, 2, TRUE),
+        (141, 141, 2, TRUE),
+        (142, 142, 2, TRUE),
+        (143, 143, 2, TRUE),
+        (144, 144, 2, TRUE),
+        (145, 145, 2, TRUE),
+        (146, 146, 2, TRUE),
+        (147, 147, 2, TRUE),
+        (148, 148, 2, TRUE),
+        (149, 149, 2, TRUE),
+        (150, 150, 2, TRUE),
+        (200, 200, 1, TRUE),
+        (201, 201, 1, TRUE),
+        (202, 202, 1, TRUE),
+        (203, 203, 1, TRUE),
+        (204, 204, 1, TRUE),
+        (205, 205, 1, TRUE),
+        (206, 206, 1, TRUE),
+        (207, 207, 1, TRUE),
+        (208, 208, 1, TRUE),
+        (209, 209, 1, TRUE),
+        (210, 210, 1, TRUE),
+        (211, 211, 1, TRUE),
+        (212, 212, 1, TRUE),
+        (213, 213, 1, TRUE);
+
+insert into users (id, account_id, first_name, last_name, phone_number, locked, created_at) values
+        (1, 1, 'Shop', 'Query Count', '0900000001', FALSE, CURRENT_TIMESTAMP),
+        (2, 2, 'Shipper A', 'Query Count', '0900000002', FALSE, CURRENT_TIMESTAMP),
+        (3, 3, 'Manager', 'Query Count', '0900000003', FALSE, CURRENT_TIMESTAMP),
+        (4, 4, 'Shipper B', 'Query Count', '0900000004', FALSE, CURRENT_TIMESTAMP),
+        (101, 101, 'Staff 1', 'Query Count', '0900000101', FALSE, CURRENT_TIMESTAMP),
+        (102, 102, 'Staff 2', 'Query Count', '0900000102', FALSE, CURRENT_TIMESTAMP),
+        (103, 103, 'Staff 3', 'Query Count', '0900000103', FALSE, CURRENT_TIMESTAMP),
+        (104, 104, 'Staff 4', 'Query Count', '0900000104', FALSE, CURRENT_TIMESTAMP),
+        (105, 105, 'Staff 5', 'Query Count', '0900000105', FALSE, CURRENT_TIMESTAMP),
+        (106, 106, 'Staff 6', 'Query Count', '0900000106', FALSE, CURRENT_TIMESTAMP),
+        (107, 107, 'Staff 7', 'Query Count', '0900000107', FALSE, CURRENT_TIMESTAMP),
+        (108, 108, 'Staff 8', 'Query Count', '0900000108', FALSE, CURRENT_TIMESTAMP),
+        (109, 109, 'Staff 9', 'Query Count', '0900000109', FALSE, CURRENT_TIMESTAMP),
+        (110, 110, 'Staff 10', 'Query Count', '0900000110', FALSE, CURRENT_TIMESTAMP),
+        (111, 111, 'Staff 11', 'Query Count', '0900000111', FALSE, CURRENT_TIMESTAMP),
+        (112, 112, 'Staff 12', 'Query Count', '0900000112', FALSE, CURRENT_TIMESTAMP),
+        (113, 113, 'Staff 13', 'Query Count', '0900000113', FALSE, CURRENT_TIMESTAMP),
+        (114, 114, 'Staff 14', 'Query Count', '0900000114', FALSE, CURRENT_TIMESTAMP),
+        (115, 115, 'Staff 15', 'Query Count', '0900000115', FALSE, CURRENT_TIMESTAMP),
+        (116, 116, 'Staff 16', 'Query Count', '0900000116', FALSE, CURRENT_TIMESTAMP),
+        (117, 117, 'Staff 17', 'Query Count', '0900000117', FALSE, CURRENT_TIMESTAMP),
+        (118, 118, 'Staff 18', 'Query Count', '0900000118', FALSE, CURRENT_TIMESTAMP),
+        (119, 119, 'Staff 19', 'Query Count', '0900000119', FALSE, CURRENT_TIMESTAMP),
+        (120, 120, 'Staff 20', 'Query Count', '0900000120', FALSE, CURRENT_TIMESTAMP),
+        (121, 121, 'Staff 21', 'Query Count', '0900000121', FALSE, CURRENT_TIMESTAMP),
+        (122, 122, 'Staff 22', 'Query Count', '0900000122', FALSE, CURRENT_TIMESTAMP),
+        (123, 123, 'Staff 23', 'Query Count', '0900000123', FALSE, CURRENT_TIMESTAMP),
+        (124, 124, 'Staff 24', 'Query Count', '0900000124', FALSE, CURRENT_TIMESTAMP),
+        (125, 125, 'Staff 25', 'Query Count', '0900000125', FALSE, CURRENT_TIMESTAMP),
+        (126, 126, 'Staff 26', 'Query Count', '0900000126', FALSE, CURRENT_TIMESTAMP),
+        (127, 127, 'Staff 27', 'Query Count', '0900000127', FALSE, CURRENT_TIMESTAMP),
+        (128, 128, 'Staff 28', 'Query Count', '0900000128', FALSE, CURRENT_TIMESTAMP),
+        (129, 129, 'Staff 29', 'Query Count', '0900000129', FALSE, CURRENT_TIMESTAMP),
+        (130, 130, 'Staff 30', 'Query Count', '0900000130', FALSE, CURRENT_TIMESTAMP),
+        (131, 131, 'Staff 31', 'Query Count', '0900000131', FALSE, CURRENT_TIMESTAMP),
+        (132, 132, 'Staff 32', 'Query Count', '0900000132', FALSE, CURRENT_TIMESTAMP),
+        (133, 133, 'Staff 33', 'Query Count', '0900000133', FALSE, CURRENT_TIMESTAMP),
+        (134, 134, 'Staff 34', 'Query Count', '0900000134', FALSE, CURRENT_TIMESTAMP),
+        (135, 135, 'Staff 35', 'Query Count', '0900000135', FALSE, CURRENT_TIMESTAMP),
+        (136, 136, 'Staff 36', 'Query Count', '0900000136', FALSE, CURRENT_TIMESTAMP),
+        (137, 137, 'Staff 37', 'Query Count', '0900000137', FALSE, CURRENT_TIMESTAMP),
+        (138, 138, 'Staff 38', 'Query Count', '0900000138', FALSE, CURRENT_TIMESTAMP),
+        (139, 139, 'Staff 39', 'Query Count', '0900000139', FALSE, CURRENT_TIMESTAMP),
+        (140, 140, 'Staff 40', 'Query Count', '0900000140', FALSE, CURRENT_TIMESTAMP),
+        (141, 141, 'Staff 41', 'Query Count', '0900000141', FALSE, CURRENT_TIMESTAMP),
+        (142, 142, 'Staff 42', 'Query Count', '0900000142', FALSE, CURRENT_TIMESTAMP),
+        (143, 143, 'Staff 43', 'Query Count', '0900000143', FALSE, CURRENT_TIMESTAMP),
+        (144, 144, 'Staff 44', 'Query Count', '0900000144', FALSE, CURRENT_TIMESTAMP),
+        (145, 145, 'Staff 45', 'Query Count', '0900000145', FALSE, CURRENT_TIMESTAMP),
+        (146, 146, 'Staff 46', 'Query Count', '0900000146', FALSE, CURRENT_TIMESTAMP),
+        (147, 147, 'Staff 47', 'Query Count', '0900000147', FALSE, CURRENT_TIMESTAMP),
+        (148, 148, 'Staff 48', 'Query Count', '0900000148', FALSE, CURRENT_TIMESTAMP),
+        (149, 149, 'Staff 49', 'Query Count', '0900000149', FALSE, CURRENT_TIMESTAMP),
+        (150, 150, 'Staff 50', 'Query Count', '0900000150', FALSE, CURRENT_TIMESTAMP),
+        (200, 200, 'Shop 200', 'Query Count', '0900000200', FALSE, CURRENT_TIMESTAMP),
+        (201, 201, 'Shop 201', 'Query Count', '0900000201', FALSE, CURRENT_TIMESTAMP),
+        (202, 202, 'Shop 202', 'Query Count', '0900000202', FALSE, CURRENT_TIMESTAMP),
+        (203, 203, 'Shop 203', 'Query Count', '0900000203', FALSE, CURRENT_TIMESTAMP),
+        (204, 204, 'Shop 204', 'Query Count', '0900000204', FALSE, CURRENT_TIMESTAMP),
+        (205, 205, 'Shop 205', 'Query Count', '0900000205', FALSE, CURRENT_TIMESTAMP),
+        (206, 206, 'Shop 206', 'Query Count', '0900000206', FALSE, CURRENT_TIMESTAMP),
+        (207, 207, 'Shop 207', 'Query Count', '0900000207', FALSE, CURRENT_TIMESTAMP),
+        (208, 208, 'Shop 208', 'Query Count', '0900000208', FALSE, CURRENT_TIMESTAMP),
+        (209, 209, 'Shop 209', 'Query Count', '0900000209', FALSE, CURRENT_TIMESTAMP),
+        (210, 210, 'Shop 210', 'Query Count', '0900000210', FALSE, CURRENT_TIMESTAMP),
+        (211, 211, 'Shop 211', 'Query Count', '0900000211', FALSE, CURRENT_TIMESTAMP),
+        (212, 212, 'Shop 212', 'Query Count', '0900000212', FALSE, CURRENT_TIMESTAMP),
+        (213, 213, 'Shop 213', 'Query Count', '0900000213', FALSE, CURRENT_TIMESTAMP);
+
+insert into offices (id, code, name, city_code, ward_code, detail, latitude, longitude, email, phone_number,
+        opening_time, closing_time, type, status, created_at) values
+        (1, 'PO_QC_1', 'Bưu cục gửi', 1, 10, '1 Đường A', 10.7000000, 106.6000000, 'po1@querycount.test', '0280000001',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (2, 'PO_QC_2', 'Bưu cục nhận', 2, 20, '2 Đường A', 10.7000000, 106.6000000, 'po2@querycount.test', '0280000002',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (1001, 'PO_QC_1001', 'Bưu cục gửi đơn 1', 1001, 10010, '1001 Đường A', 10.7000000, 106.6000000, 'po1001@querycount.test', '0280001001',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (2001, 'PO_QC_2001', 'Bưu cục hiện tại đơn 1', 2001, 20010, '2001 Đường A', 10.7000000, 106.6000000, 'po2001@querycount.test', '0280002001',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (1002, 'PO_QC_1002', 'Bưu cục gửi đơn 2', 1002, 10020, '1002 Đường A', 10.7000000, 106.6000000, 'po1002@querycount.test', '0280001002',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (2002, 'PO_QC_2002', 'Bưu cục hiện tại đơn 2', 2002, 20020, '2002 Đường A', 10.7000000, 106.6000000, 'po2002@querycount.test', '0280002002',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (1003, 'PO_QC_1003', 'Bưu cục gửi đơn 3', 1003, 10030, '1003 Đường A', 10.7000000, 106.6000000, 'po1003@querycount.test', '0280001003',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (2003, 'PO_QC_2003', 'Bưu cục hiện tại đơn 3', 2003, 20030, '2003 Đường A', 10.7000000, 106.6000000, 'po2003@querycount.test', '0280002003',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (1004, 'PO_QC_1004', 'Bưu cục gửi đơn 4', 1004, 10040, '1004 Đường A', 10.7000000, 106.6000000, 'po1004@querycount.test', '0280001004',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (2004, 'PO_QC_2004', 'Bưu cục hiện tại đơn 4', 2004, 20040, '2004 Đường A', 10.7000000, 106.6000000, 'po2004@querycount.test', '0280002004',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (1005, 'PO_QC_1005', 'Bưu cục gửi đơn 5', 1005, 10050, '1005 Đường A', 10.7000000, 106.6000000, 'po1005@querycount.test', '0280001005',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (2005, 'PO_QC_2005', 'Bưu cục hiện tại đơn 5', 2005, 20050, '2005 Đường A', 10.7000000, 106.6000000, 'po2005@querycount.test', '0280002005',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (1006, 'PO_QC_1006', 'Bưu cục gửi đơn 6', 1006, 10060, '1006 Đường A', 10.7000000, 106.6000000, 'po1006@querycount.test', '0280001006',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (2006, 'PO_QC_2006', 'Bưu cục hiện tại đơn 6', 2006, 20060, '2006 Đường A', 10.7000000, 106.6000000, 'po2006@querycount.test', '0280002006',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (1007, 'PO_QC_1007', 'Bưu cục gửi đơn 7', 1007, 10070, '1007 Đường A', 10.7000000, 106.6000000, 'po1007@querycount.test', '0280001007',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (2007, 'PO_QC_2007', 'Bưu cục hiện tại đơn 7', 2007, 20070, '2007 Đường A', 10.7000000, 106.6000000, 'po2007@querycount.test', '0280002007',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (1008, 'PO_QC_1008', 'Bưu cục gửi đơn 8', 1008, 10080, '1008 Đường A', 10.7000000, 106.6000000, 'po1008@querycount.test', '0280001008',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (2008, 'PO_QC_2008', 'Bưu cục hiện tại đơn 8', 2008, 20080, '2008 Đường A', 10.7000000, 106.6000000, 'po2008@querycount.test', '0280002008',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (1009, 'PO_QC_1009', 'Bưu cục gửi đơn 9', 1009, 10090, '1009 Đường A', 10.7000000, 106.6000000, 'po1009@querycount.test', '0280001009',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (2009, 'PO_QC_2009', 'Bưu cục hiện tại đơn 9', 2009, 20090, '2009 Đường A', 10.7000000, 106.6000000, 'po2009@querycount.test', '0280002009',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (1010, 'PO_QC_1010', 'Bưu cục gửi đơn 10', 1010, 10100, '1010 Đường A', 10.7000000, 106.6000000, 'po1010@querycount.test', '0280001010',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (2010, 'PO_QC_2010', 'Bưu cục hiện tại đơn 10', 2010, 20100, '2010 Đường A', 10.7000000, 106.6000000, 'po2010@querycount.test', '0280002010',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (1011, 'PO_QC_1011', 'Bưu cục gửi đơn 11', 1011, 10110, '1011 Đường A', 10.7000000, 106.6000000, 'po1011@querycount.test', '0280001011',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (2011, 'PO_QC_2011', 'Bưu cục hiện tại đơn 11', 2011, 20110, '2011 Đường A', 10.7000000, 106.6000000, 'po2011@querycount.test', '0280002011',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (1012, 'PO_QC_1012', 'Bưu cục gửi đơn 12', 1012, 10120, '1012 Đường A', 10.7000000, 106.6000000, 'po1012@querycount.test', '0280001012',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (2012, 'PO_QC_2012', 'Bưu cục hiện tại đơn 12', 2012, 20120, '2012 Đường A', 10.7000000, 106.6000000, 'po2012@querycount.test', '0280002012',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (1013, 'PO_QC_1013', 'Bưu cục gửi đơn 13', 1013, 10130, '1013 Đường A', 10.7000000, 106.6000000, 'po1013@querycount.test', '0280001013',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (2013, 'PO_QC_2013', 'Bưu cục hiện tại đơn 13', 2013, 20130, '2013 Đường A', 10.7000000, 106.6000000, 'po2013@querycount.test', '0280002013',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (1014, 'PO_QC_1014', 'Bưu cục gửi đơn 14', 1014, 10140, '1014 Đường A', 10.7000000, 106.6000000, 'po1014@querycount.test', '0280001014',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (2014, 'PO_QC_2014', 'Bưu cục hiện tại đơn 14', 2014, 20140, '2014 Đường A', 10.7000000, 106.6000000, 'po2014@querycount.test', '0280002014',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (1015, 'PO_QC_1015', 'Bưu cục gửi đơn 15', 1015, 10150, '1015 Đường A', 10.7000000, 106.6000000, 'po1015@querycount.test', '0280001015',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (2015, 'PO_QC_2015', 'Bưu cục hiện tại đơn 15', 2015, 20150, '2015 Đường A', 10.7000000, 106.6000000, 'po2015@querycount.test', '0280002015',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (1016, 'PO_QC_1016', 'Bưu cục gửi đơn 16', 1016, 10160, '1016 Đường A', 10.7000000, 106.6000000, 'po1016@querycount.test', '0280001016',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (2016, 'PO_QC_2016', 'Bưu cục hiện tại đơn 16', 2016, 20160, '2016 Đường A', 10.7000000, 106.6000000, 'po2016@querycount.test', '0280002016',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (1017, 'PO_QC_1017', 'Bưu cục gửi đơn 17', 1017, 10170, '1017 Đường A', 10.7000000, 106.6000000, 'po1017@querycount.test', '0280001017',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (2017, 'PO_QC_2017', 'Bưu cục hiện tại đơn 17', 2017, 20170, '2017 Đường A', 10.7000000, 106.6000000, 'po2017@querycount.test', '0280002017',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (1018, 'PO_QC_1018', 'Bưu cục gửi đơn 18', 1018, 10180, '1018 Đường A', 10.7000000, 106.6000000, 'po1018@querycount.test', '0280001018',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (2018, 'PO_QC_2018', 'Bưu cục hiện tại đơn 18', 2018, 20180, '2018 Đường A', 10.7000000, 106.6000000, 'po2018@querycount.test', '0280002018',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (1019, 'PO_QC_1019', 'Bưu cục gửi đơn 19', 1019, 10190, '1019 Đường A', 10.7000000, 106.6000000, 'po1019@querycount.test', '0280001019',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (2019, 'PO_QC_2019', 'Bưu cục hiện tại đơn 19', 2019, 20190, '2019 Đường A', 10.7000000, 106.6000000, 'po2019@querycount.test', '0280002019',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (1020, 'PO_QC_1020', 'Bưu cục gửi đơn 20', 1020, 10200, '1020 Đường A', 10.7000000, 106.6000000, 'po1020@querycount.test', '0280001020',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (2020, 'PO_QC_2020', 'Bưu cục hiện tại đơn 20', 2020, 20200, '2020 Đường A', 10.7000000, 106.6000000, 'po2020@querycount.test', '0280002020',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (1021, 'PO_QC_1021', 'Bưu cục gửi đơn 21', 1021, 10210, '1021 Đường A', 10.7000000, 106.6000000, 'po1021@querycount.test', '0280001021',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (2021, 'PO_QC_2021', 'Bưu cục hiện tại đơn 21', 2021, 20210, '2021 Đường A', 10.7000000, 106.6000000, 'po2021@querycount.test', '0280002021',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (1022, 'PO_QC_1022', 'Bưu cục gửi đơn 22', 1022, 10220, '1022 Đường A', 10.7000000, 106.6000000, 'po1022@querycount.test', '0280001022',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (2022, 'PO_QC_2022', 'Bưu cục hiện tại đơn 22', 2022, 20220, '2022 Đường A', 10.7000000, 106.6000000, 'po2022@querycount.test', '0280002022',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (1023, 'PO_QC_1023', 'Bưu cục gửi đơn 23', 1023, 10230, '1023 Đường A', 10.7000000, 106.6000000, 'po1023@querycount.test', '0280001023',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (2023, 'PO_QC_2023', 'Bưu cục hiện tại đơn 23', 2023, 20230, '2023 Đường A', 10.7000000, 106.6000000, 'po2023@querycount.test', '0280002023',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (1024, 'PO_QC_1024', 'Bưu cục gửi đơn 24', 1024, 10240, '1024 Đường A', 10.7000000, 106.6000000, 'po1024@querycount.test', '0280001024',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (2024, 'PO_QC_2024', 'Bưu cục hiện tại đơn 24', 2024, 20240, '2024 Đường A', 10.7000000, 106.6000000, 'po2024@querycount.test', '0280002024',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (1025, 'PO_QC_1025', 'Bưu cục gửi đơn 25', 1025, 10250, '1025 Đường A', 10.7000000, 106.6000000, 'po1025@querycount.test', '0280001025',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (2025, 'PO_QC_2025', 'Bưu cục hiện tại đơn 25', 2025, 20250, '2025 Đường A', 10.7000000, 106.6000000, 'po2025@querycount.test', '0280002025',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (1026, 'PO_QC_1026', 'Bưu cục gửi đơn 26', 1026, 10260, '1026 Đường A', 10.7000000, 106.6000000, 'po1026@querycount.test', '0280001026',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (2026, 'PO_QC_2026', 'Bưu cục hiện tại đơn 26', 2026, 20260, '2026 Đường A', 10.7000000, 106.6000000, 'po2026@querycount.test', '0280002026',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (1027, 'PO_QC_1027', 'Bưu cục gửi đơn 27', 1027, 10270, '1027 Đường A', 10.7000000, 106.6000000, 'po1027@querycount.test', '0280001027',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (2027, 'PO_QC_2027', 'Bưu cục hiện tại đơn 27', 2027, 20270, '2027 Đường A', 10.7000000, 106.6000000, 'po2027@querycount.test', '0280002027',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (1028, 'PO_QC_1028', 'Bưu cục gửi đơn 28', 1028, 10280, '1028 Đường A', 10.7000000, 106.6000000, 'po1028@querycount.test', '0280001028',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (2028, 'PO_QC_2028', 'Bưu cục hiện tại đơn 28', 2028, 20280, '2028 Đường A', 10.7000000, 106.6000000, 'po2028@querycount.test', '0280002028',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (1029, 'PO_QC_1029', 'Bưu cục gửi đơn 29', 1029, 10290, '1029 Đường A', 10.7000000, 106.6000000, 'po1029@querycount.test', '0280001029',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (2029, 'PO_QC_2029', 'Bưu cục hiện tại đơn 29', 2029, 20290, '2029 Đường A', 10.7000000, 106.6000000, 'po2029@querycount.test', '0280002029',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (1030, 'PO_QC_1030', 'Bưu cục gửi đơn 30', 1030, 10300, '1030 Đường A', 10.7000000, 106.6000000, 'po1030@querycount.test', '0280001030',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (2030, 'PO_QC_2030', 'Bưu cục hiện tại đơn 30', 2030, 20300, '2030 Đường A', 10.7000000, 106.6000000, 'po2030@querycount.test', '0280002030',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (1031, 'PO_QC_1031', 'Bưu cục gửi đơn 31', 1031, 10310, '1031 Đường A', 10.7000000, 106.6000000, 'po1031@querycount.test', '0280001031',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (2031, 'PO_QC_2031', 'Bưu cục hiện tại đơn 31', 2031, 20310, '2031 Đường A', 10.7000000, 106.6000000, 'po2031@querycount.test', '0280002031',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (1032, 'PO_QC_1032', 'Bưu cục gửi đơn 32', 1032, 10320, '1032 Đường A', 10.7000000, 106.6000000, 'po1032@querycount.test', '0280001032',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (2032, 'PO_QC_2032', 'Bưu cục hiện tại đơn 32', 2032, 20320, '2032 Đường A', 10.7000000, 106.6000000, 'po2032@querycount.test', '0280002032',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (1033, 'PO_QC_1033', 'Bưu cục gửi đơn 33', 1033, 10330, '1033 Đường A', 10.7000000, 106.6000000, 'po1033@querycount.test', '0280001033',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (2033, 'PO_QC_2033', 'Bưu cục hiện tại đơn 33', 2033, 20330, '2033 Đường A', 10.7000000, 106.6000000, 'po2033@querycount.test', '0280002033',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (1034, 'PO_QC_1034', 'Bưu cục gửi đơn 34', 1034, 10340, '1034 Đường A', 10.7000000, 106.6000000, 'po1034@querycount.test', '0280001034',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (2034, 'PO_QC_2034', 'Bưu cục hiện tại đơn 34', 2034, 20340, '2034 Đường A', 10.7000000, 106.6000000, 'po2034@querycount.test', '0280002034',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (1035, 'PO_QC_1035', 'Bưu cục gửi đơn 35', 1035, 10350, '1035 Đường A', 10.7000000, 106.6000000, 'po1035@querycount.test', '0280001035',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (2035, 'PO_QC_2035', 'Bưu cục hiện tại đơn 35', 2035, 20350, '2035 Đường A', 10.7000000, 106.6000000, 'po2035@querycount.test', '0280002035',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (1036, 'PO_QC_1036', 'Bưu cục gửi đơn 36', 1036, 10360, '1036 Đường A', 10.7000000, 106.6000000, 'po1036@querycount.test', '0280001036',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (2036, 'PO_QC_2036', 'Bưu cục hiện tại đơn 36', 2036, 20360, '2036 Đường A', 10.7000000, 106.6000000, 'po2036@querycount.test', '0280002036',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (1037, 'PO_QC_1037', 'Bưu cục gửi đơn 37', 1037, 10370, '1037 Đường A', 10.7000000, 106.6000000, 'po1037@querycount.test', '0280001037',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (2037, 'PO_QC_2037', 'Bưu cục hiện tại đơn 37', 2037, 20370, '2037 Đường A', 10.7000000, 106.6000000, 'po2037@querycount.test', '0280002037',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (1038, 'PO_QC_1038', 'Bưu cục gửi đơn 38', 1038, 10380, '1038 Đường A', 10.7000000, 106.6000000, 'po1038@querycount.test', '0280001038',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (2038, 'PO_QC_2038', 'Bưu cục hiện tại đơn 38', 2038, 20380, '2038 Đường A', 10.7000000, 106.6000000, 'po2038@querycount.test', '0280002038',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (1039, 'PO_QC_1039', 'Bưu cục gửi đơn 39', 1039, 10390, '1039 Đường A', 10.7000000, 106.6000000, 'po1039@querycount.test', '0280001039',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (2039, 'PO_QC_2039', 'Bưu cục hiện tại đơn 39', 2039, 20390, '2039 Đường A', 10.7000000, 106.6000000, 'po2039@querycount.test', '0280002039',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (1040, 'PO_QC_1040', 'Bưu cục gửi đơn 40', 1040, 10400, '1040 Đường A', 10.7000000, 106.6000000, 'po1040@querycount.test', '0280001040',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (2040, 'PO_QC_2040', 'Bưu cục hiện tại đơn 40', 2040, 20400, '2040 Đường A', 10.7000000, 106.6000000, 'po2040@querycount.test', '0280002040',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (1041, 'PO_QC_1041', 'Bưu cục gửi đơn 41', 1041, 10410, '1041 Đường A', 10.7000000, 106.6000000, 'po1041@querycount.test', '0280001041',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (2041, 'PO_QC_2041', 'Bưu cục hiện tại đơn 41', 2041, 20410, '2041 Đường A', 10.7000000, 106.6000000, 'po2041@querycount.test', '0280002041',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (1042, 'PO_QC_1042', 'Bưu cục gửi đơn 42', 1042, 10420, '1042 Đường A', 10.7000000, 106.6000000, 'po1042@querycount.test', '0280001042',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (2042, 'PO_QC_2042', 'Bưu cục hiện tại đơn 42', 2042, 20420, '2042 Đường A', 10.7000000, 106.6000000, 'po2042@querycount.test', '0280002042',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (1043, 'PO_QC_1043', 'Bưu cục gửi đơn 43', 1043, 10430, '1043 Đường A', 10.7000000, 106.6000000, 'po1043@querycount.test', '0280001043',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (2043, 'PO_QC_2043', 'Bưu cục hiện tại đơn 43', 2043, 20430, '2043 Đường A', 10.7000000, 106.6000000, 'po2043@querycount.test', '0280002043',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (1044, 'PO_QC_1044', 'Bưu cục gửi đơn 44', 1044, 10440, '1044 Đường A', 10.7000000, 106.6000000, 'po1044@querycount.test', '0280001044',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (2044, 'PO_QC_2044', 'Bưu cục hiện tại đơn 44', 2044, 20440, '2044 Đường A', 10.7000000, 106.6000000, 'po2044@querycount.test', '0280002044',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (1045, 'PO_QC_1045', 'Bưu cục gửi đơn 45', 1045, 10450, '1045 Đường A', 10.7000000, 106.6000000, 'po1045@querycount.test', '0280001045',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (2045, 'PO_QC_2045', 'Bưu cục hiện tại đơn 45', 2045, 20450, '2045 Đường A', 10.7000000, 106.6000000, 'po2045@querycount.test', '0280002045',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (1046, 'PO_QC_1046', 'Bưu cục gửi đơn 46', 1046, 10460, '1046 Đường A', 10.7000000, 106.6000000, 'po1046@querycount.test', '0280001046',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (2046, 'PO_QC_2046', 'Bưu cục hiện tại đơn 46', 2046, 20460, '2046 Đường A', 10.7000000, 106.6000000, 'po2046@querycount.test', '0280002046',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (1047, 'PO_QC_1047', 'Bưu cục gửi đơn 47', 1047, 10470, '1047 Đường A', 10.7000000, 106.6000000, 'po1047@querycount.test', '0280001047',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (2047, 'PO_QC_2047', 'Bưu cục hiện tại đơn 47', 2047, 20470, '2047 Đường A', 10.7000000, 106.6000000, 'po2047@querycount.test', '0280002047',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (1048, 'PO_QC_1048', 'Bưu cục gửi đơn 48', 1048, 10480, '1048 Đường A', 10.7000000, 106.6000000, 'po1048@querycount.test', '0280001048',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (2048, 'PO_QC_2048', 'Bưu cục hiện tại đơn 48', 2048, 20480, '2048 Đường A', 10.7000000, 106.6000000, 'po2048@querycount.test', '0280002048',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (1049, 'PO_QC_1049', 'Bưu cục gửi đơn 49', 1049, 10490, '1049 Đường A', 10.7000000, 106.6000000, 'po1049@querycount.test', '0280001049',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (2049, 'PO_QC_2049', 'Bưu cục hiện tại đơn 49', 2049, 20490, '2049 Đường A', 10.7000000, 106.6000000, 'po2049@querycount.test', '0280002049',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (1050, 'PO_QC_1050', 'Bưu cục gửi đơn 50', 1050, 10500, '1050 Đường A', 10.7000000, 106.6000000, 'po1050@querycount.test', '0280001050',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (2050, 'PO_QC_2050', 'Bưu cục hiện tại đơn 50', 2050, 20500, '2050 Đường A', 10.7000000, 106.6000000, 'po2050@querycount.test', '0280002050',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (1051, 'PO_QC_1051', 'Bưu cục gửi đơn 51', 1051, 10510, '1051 Đường A', 10.7000000, 106.6000000, 'po1051@querycount.test', '0280001051',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (2051, 'PO_QC_2051', 'Bưu cục hiện tại đơn 51', 2051, 20510, '2051 Đường A', 10.7000000, 106.6000000, 'po2051@querycount.test', '0280002051',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (1052, 'PO_QC_1052', 'Bưu cục gửi đơn 52', 1052, 10520, '1052 Đường A', 10.7000000, 106.6000000, 'po1052@querycount.test', '0280001052',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (2052, 'PO_QC_2052', 'Bưu cục hiện tại đơn 52', 2052, 20520, '2052 Đường A', 10.7000000, 106.6000000, 'po2052@querycount.test', '0280002052',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (1053, 'PO_QC_1053', 'Bưu cục gửi đơn 53', 1053, 10530, '1053 Đường A', 10.7000000, 106.6000000, 'po1053@querycount.test', '0280001053',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (2053, 'PO_QC_2053', 'Bưu cục hiện tại đơn 53', 2053, 20530, '2053 Đường A', 10.7000000, 106.6000000, 'po2053@querycount.test', '0280002053',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (1054, 'PO_QC_1054', 'Bưu cục gửi đơn 54', 1054, 10540, '1054 Đường A', 10.7000000, 106.6000000, 'po1054@querycount.test', '0280001054',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (2054, 'PO_QC_2054', 'Bưu cục hiện tại đơn 54', 2054, 20540, '2054 Đường A', 10.7000000, 106.6000000, 'po2054@querycount.test', '0280002054',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (1055, 'PO_QC_1055', 'Bưu cục gửi đơn 55', 1055, 10550, '1055 Đường A', 10.7000000, 106.6000000, 'po1055@querycount.test', '0280001055',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (2055, 'PO_QC_2055', 'Bưu cục hiện tại đơn 55', 2055, 20550, '2055 Đường A', 10.7000000, 106.6000000, 'po2055@querycount.test', '0280002055',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (1056, 'PO_QC_1056', 'Bưu cục gửi đơn 56', 1056, 10560, '1056 Đường A', 10.7000000, 106.6000000, 'po1056@querycount.test', '0280001056',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (2056, 'PO_QC_2056', 'Bưu cục hiện tại đơn 56', 2056, 20560, '2056 Đường A', 10.7000000, 106.6000000, 'po2056@querycount.test', '0280002056',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (1057, 'PO_QC_1057', 'Bưu cục gửi đơn 57', 1057, 10570, '1057 Đường A', 10.7000000, 106.6000000, 'po1057@querycount.test', '0280001057',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (2057, 'PO_QC_2057', 'Bưu cục hiện tại đơn 57', 2057, 20570, '2057 Đường A', 10.7000000, 106.6000000, 'po2057@querycount.test', '0280002057',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (1058, 'PO_QC_1058', 'Bưu cục gửi đơn 58', 1058, 10580, '1058 Đường A', 10.7000000, 106.6000000, 'po1058@querycount.test', '0280001058',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (2058, 'PO_QC_2058', 'Bưu cục hiện tại đơn 58', 2058, 20580, '2058 Đường A', 10.7000000, 106.6000000, 'po2058@querycount.test', '0280002058',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (1059, 'PO_QC_1059', 'Bưu cục gửi đơn 59', 1059, 10590, '1059 Đường A', 10.7000000, 106.6000000, 'po1059@querycount.test', '0280001059',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (2059, 'PO_QC_2059', 'Bưu cục hiện tại đơn 59', 2059, 20590, '2059 Đường A', 10.7000000, 106.6000000, 'po2059@querycount.test', '0280002059',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (1060, 'PO_QC_1060', 'Bưu cục gửi đơn 60', 1060, 10600, '1060 Đường A', 10.7000000, 106.6000000, 'po1060@querycount.test', '0280001060',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (2060, 'PO_QC_2060', 'Bưu cục hiện tại đơn 60', 2060, 20600, '2060 Đường A', 10.7000000, 106.6000000, 'po2060@querycount.test', '0280002060',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (1061, 'PO_QC_1061', 'Bưu cục gửi đơn 61', 1061, 10610, '1061 Đường A', 10.7000000, 106.6000000, 'po1061@querycount.test', '0280001061',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (2061, 'PO_QC_2061', 'Bưu cục hiện tại đơn 61', 2061, 20610, '2061 Đường A', 10.7000000, 106.6000000, 'po2061@querycount.test', '0280002061',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (1062, 'PO_QC_1062', 'Bưu cục gửi đơn 62', 1062, 10620, '1062 Đường A', 10.7000000, 106.6000000, 'po1062@querycount.test', '0280001062',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (2062, 'PO_QC_2062', 'Bưu cục hiện tại đơn 62', 2062, 20620, '2062 Đường A', 10.7000000, 106.6000000, 'po2062@querycount.test', '0280002062',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (1063, 'PO_QC_1063', 'Bưu cục gửi đơn 63', 1063, 10630, '1063 Đường A', 10.7000000, 106.6000000, 'po1063@querycount.test', '0280001063',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (2063, 'PO_QC_2063', 'Bưu cục hiện tại đơn 63', 2063, 20630, '2063 Đường A', 10.7000000, 106.6000000, 'po2063@querycount.test', '0280002063',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (1064, 'PO_QC_1064', 'Bưu cục gửi đơn 64', 1064, 10640, '1064 Đường A', 10.7000000, 106.6000000, 'po1064@querycount.test', '0280001064',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (2064, 'PO_QC_2064', 'Bưu cục hiện tại đơn 64', 2064, 20640, '2064 Đường A', 10.7000000, 106.6000000, 'po2064@querycount.test', '0280002064',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (3001, 'PO_QC_3001', 'Bưu cục nhân viên 1', 3001, 30010, '3001 Đường A', 10.7000000, 106.6000000, 'po3001@querycount.test', '0280003001',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (3002, 'PO_QC_3002', 'Bưu cục nhân viên 2', 3002, 30020, '3002 Đường A', 10.7000000, 106.6000000, 'po3002@querycount.test', '0280003002',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (3003, 'PO_QC_3003', 'Bưu cục nhân viên 3', 3003, 30030, '3003 Đường A', 10.7000000, 106.6000000, 'po3003@querycount.test', '0280003003',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (3004, 'PO_QC_3004', 'Bưu cục nhân viên 4', 3004, 30040, '3004 Đường A', 10.7000000, 106.6000000, 'po3004@querycount.test', '0280003004',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (3005, 'PO_QC_3005', 'Bưu cục nhân viên 5', 3005, 30050, '3005 Đường A', 10.7000000, 106.6000000, 'po3005@querycount.test', '0280003005',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (3006, 'PO_QC_3006', 'Bưu cục nhân viên 6', 3006, 30060, '3006 Đường A', 10.7000000, 106.6000000, 'po3006@querycount.test', '0280003006',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (3007, 'PO_QC_3007', 'Bưu cục nhân viên 7', 3007, 30070, '3007 Đường A', 10.7000000, 106.6000000, 'po3007@querycount.test', '0280003007',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (3008, 'PO_QC_3008', 'Bưu cục nhân viên 8', 3008, 30080, '3008 Đường A', 10.7000000, 106.6000000, 'po3008@querycount.test', '0280003008',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (3009, 'PO_QC_3009', 'Bưu cục nhân viên 9', 3009, 30090, '3009 Đường A', 10.7000000, 106.6000000, 'po3009@querycount.test', '0280003009',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (3010, 'PO_QC_3010', 'Bưu cục nhân viên 10', 3010, 30100, '3010 Đường A', 10.7000000, 106.6000000, 'po3010@querycount.test', '0280003010',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (3011, 'PO_QC_3011', 'Bưu cục nhân viên 11', 3011, 30110, '3011 Đường A', 10.7000000, 106.6000000, 'po3011@querycount.test', '0280003011',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (3012, 'PO_QC_3012', 'Bưu cục nhân viên 12', 3012, 30120, '3012 Đường A', 10.7000000, 106.6000000, 'po3012@querycount.test', '0280003012',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (3013, 'PO_QC_3013', 'Bưu cục nhân viên 13', 3013, 30130, '3013 Đường A', 10.7000000, 106.6000000, 'po3013@querycount.test', '0280003013',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (3014, 'PO_QC_3014', 'Bưu cục nhân viên 14', 3014, 30140, '3014 Đường A', 10.7000000, 106.6000000, 'po3014@querycount.test', '0280003014',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (3015, 'PO_QC_3015', 'Bưu cục nhân viên 15', 3015, 30150, '3015 Đường A', 10.7000000, 106.6000000, 'po3015@querycount.test', '0280003015',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (3016, 'PO_QC_3016', 'Bưu cục nhân viên 16', 3016, 30160, '3016 Đường A', 10.7000000, 106.6000000, 'po3016@querycount.test', '0280003016',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (3017, 'PO_QC_3017', 'Bưu cục nhân viên 17', 3017, 30170, '3017 Đường A', 10.7000000, 106.6000000, 'po3017@querycount.test', '0280003017',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (3018, 'PO_QC_3018', 'Bưu cục nhân viên 18', 3018, 30180, '3018 Đường A', 10.7000000, 106.6000000, 'po3018@querycount.test', '0280003018',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (3019, 'PO_QC_3019', 'Bưu cục nhân viên 19', 3019, 30190, '3019 Đường A', 10.7000000, 106.6000000, 'po3019@querycount.test', '0280003019',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (3020, 'PO_QC_3020', 'Bưu cục nhân viên 20', 3020, 30200, '3020 Đường A', 10.7000000, 106.6000000, 'po3020@querycount.test', '0280003020',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (3021, 'PO_QC_3021', 'Bưu cục nhân viên 21', 3021, 30210, '3021 Đường A', 10.7000000, 106.6000000, 'po3021@querycount.test', '0280003021',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (3022, 'PO_QC_3022', 'Bưu cục nhân viên 22', 3022, 30220, '3022 Đường A', 10.7000000, 106.6000000, 'po3022@querycount.test', '0280003022',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (3023, 'PO_QC_3023', 'Bưu cục nhân viên 23', 3023, 30230, '3023 Đường A', 10.7000000, 106.6000000, 'po3023@querycount.test', '0280003023',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (3024, 'PO_QC_3024', 'Bưu cục nhân viên 24', 3024, 30240, '3024 Đường A', 10.7000000, 106.6000000, 'po3024@querycount.test', '0280003024',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (3025, 'PO_QC_3025', 'Bưu cục nhân viên 25', 3025, 30250, '3025 Đường A', 10.7000000, 106.6000000, 'po3025@querycount.test', '0280003025',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (3026, 'PO_QC_3026', 'Bưu cục nhân viên 26', 3026, 30260, '3026 Đường A', 10.7000000, 106.6000000, 'po3026@querycount.test', '0280003026',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (3027, 'PO_QC_3027', 'Bưu cục nhân viên 27', 3027, 30270, '3027 Đường A', 10.7000000, 106.6000000, 'po3027@querycount.test', '0280003027',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (3028, 'PO_QC_3028', 'Bưu cục nhân viên 28', 3028, 30280, '3028 Đường A', 10.7000000, 106.6000000, 'po3028@querycount.test', '0280003028',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (3029, 'PO_QC_3029', 'Bưu cục nhân viên 29', 3029, 30290, '3029 Đường A', 10.7000000, 106.6000000, 'po3029@querycount.test', '0280003029',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (3030, 'PO_QC_3030', 'Bưu cục nhân viên 30', 3030, 30300, '3030 Đường A', 10.7000000, 106.6000000, 'po3030@querycount.test', '0280003030',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (3031, 'PO_QC_3031', 'Bưu cục nhân viên 31', 3031, 30310, '3031 Đường A', 10.7000000, 106.6000000, 'po3031@querycount.test', '0280003031',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (3032, 'PO_QC_3032', 'Bưu cục nhân viên 32', 3032, 30320, '3032 Đường A', 10.7000000, 106.6000000, 'po3032@querycount.test', '0280003032',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (3033, 'PO_QC_3033', 'Bưu cục nhân viên 33', 3033, 30330, '3033 Đường A', 10.7000000, 106.6000000, 'po3033@querycount.test', '0280003033',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (3034, 'PO_QC_3034', 'Bưu cục nhân viên 34', 3034, 30340, '3034 Đường A', 10.7000000, 106.6000000, 'po3034@querycount.test', '0280003034',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (3035, 'PO_QC_3035', 'Bưu cục nhân viên 35', 3035, 30350, '3035 Đường A', 10.7000000, 106.6000000, 'po3035@querycount.test', '0280003035',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (3036, 'PO_QC_3036', 'Bưu cục nhân viên 36', 3036, 30360, '3036 Đường A', 10.7000000, 106.6000000, 'po3036@querycount.test', '0280003036',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (3037, 'PO_QC_3037', 'Bưu cục nhân viên 37', 3037, 30370, '3037 Đường A', 10.7000000, 106.6000000, 'po3037@querycount.test', '0280003037',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (3038, 'PO_QC_3038', 'Bưu cục nhân viên 38', 3038, 30380, '3038 Đường A', 10.7000000, 106.6000000, 'po3038@querycount.test', '0280003038',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (3039, 'PO_QC_3039', 'Bưu cục nhân viên 39', 3039, 30390, '3039 Đường A', 10.7000000, 106.6000000, 'po3039@querycount.test', '0280003039',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (3040, 'PO_QC_3040', 'Bưu cục nhân viên 40', 3040, 30400, '3040 Đường A', 10.7000000, 106.6000000, 'po3040@querycount.test', '0280003040',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (3041, 'PO_QC_3041', 'Bưu cục nhân viên 41', 3041, 30410, '3041 Đường A', 10.7000000, 106.6000000, 'po3041@querycount.test', '0280003041',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (3042, 'PO_QC_3042', 'Bưu cục nhân viên 42', 3042, 30420, '3042 Đường A', 10.7000000, 106.6000000, 'po3042@querycount.test', '0280003042',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (3043, 'PO_QC_3043', 'Bưu cục nhân viên 43', 3043, 30430, '3043 Đường A', 10.7000000, 106.6000000, 'po3043@querycount.test', '0280003043',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (3044, 'PO_QC_3044', 'Bưu cục nhân viên 44', 3044, 30440, '3044 Đường A', 10.7000000, 106.6000000, 'po3044@querycount.test', '0280003044',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (3045, 'PO_QC_3045', 'Bưu cục nhân viên 45', 3045, 30450, '3045 Đường A', 10.7000000, 106.6000000, 'po3045@querycount.test', '0280003045',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (3046, 'PO_QC_3046', 'Bưu cục nhân viên 46', 3046, 30460, '3046 Đường A', 10.7000000, 106.6000000, 'po3046@querycount.test', '0280003046',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (3047, 'PO_QC_3047', 'Bưu cục nhân viên 47', 3047, 30470, '3047 Đường A', 10.7000000, 106.6000000, 'po3047@querycount.test', '0280003047',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (3048, 'PO_QC_3048', 'Bưu cục nhân viên 48', 3048, 30480, '3048 Đường A', 10.7000000, 106.6000000, 'po3048@querycount.test', '0280003048',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (3049, 'PO_QC_3049', 'Bưu cục nhân viên 49', 3049, 30490, '3049 Đường A', 10.7000000, 106.6000000, 'po3049@querycount.test', '0280003049',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP),
+        (3050, 'PO_QC_3050', 'Bưu cục nhân viên 50', 3050, 30500, '3050 Đường A', 10.7000000, 106.6000000, 'po3050@querycount.test', '0280003050',
+        '07:00:00', '17:00:00', 'POST_OFFICE', 'ACTIVE', CURRENT_TIMESTAMP);
+
+insert into employees (id, user_id, office_id, account_role_id, hire_date, shift, status, created_at) values
+        (1, 2, 2, 2, CURRENT_TIMESTAMP, 'FULL_DAY', 'ACTIVE', CURRENT_TIMESTAMP),
+        (2, 3, 1, 3, CURRENT_TIMESTAMP, 'FULL_DAY', 'ACTIVE', CURRENT_TIMESTAMP),
+        (3, 4, 2, 4, CURRENT_TIMESTAMP, 'FULL_DAY', 'ACTIVE', CURRENT_TIMESTAMP),
+        (101, 101, 3001, 101, CURRENT_TIMESTAMP, 'FULL_DAY', 'ACTIVE', CURRENT_TIMESTAMP),
+        (102, 102, 3002, 102, CURRENT_TIMESTAMP, 'FULL_DAY', 'ACTIVE', CURRENT_TIMESTAMP),
+        (103, 103, 3003, 103, CURRENT_TIMESTAMP, 'FULL_DAY', 'ACTIVE', CURRENT_TIMESTAMP),
+        (104, 104, 3004, 104, CURRENT_TIMESTAMP, 'FULL_DAY', 'ACTIVE', CURRENT_TIMESTAMP),
+        (105, 105, 3005, 105, CURRENT_TIMESTAMP, 'FULL_DAY', 'ACTIVE', CURRENT_TIMESTAMP),
+        (106, 106, 3006, 106, CURRENT_TIMESTAMP, 'FULL_DAY', 'ACTIVE', CURRENT_TIMESTAMP),
+        (107, 107, 3007, 107, CURRENT_TIMESTAMP, 'FULL_DAY', 'ACTIVE', CURRENT_TIMESTAMP),
+        (108, 108, 3008, 108, CURRENT_TIMESTAMP, 'FULL_DAY', 'ACTIVE', CURRENT_TIMESTAMP),
+        (109, 109, 3009, 109, CURRENT_TIMESTAMP, 'FULL_DAY', 'ACTIVE', CURRENT_TIMESTAMP),
+        (110, 110, 3010, 110, CURRENT_TIMESTAMP, 'FULL_DAY', 'ACTIVE', CURRENT_TIMESTAMP),
+        (111, 111, 3011, 111, CURRENT_TIMESTAMP, 'FULL_DAY', 'ACTIVE', CURRENT_TIMESTAMP),
+        (112, 112, 3012, 112, CURRENT_TIMESTAMP, 'FULL_DAY', 'ACTIVE', CURRENT_TIMESTAMP),
+        (113, 113, 3013, 113, CURRENT_TIMESTAMP, 'FULL_DAY', 'ACTIVE', CURRENT_TIMESTAMP),
+        (114, 114, 3014, 114, CURRENT_TIMESTAMP, 'FULL_DAY', 'ACTIVE', CURRENT_TIMESTAMP),
+        (115, 115, 3015, 115, CURRENT_TIMESTAMP, 'FULL_DAY', 'ACTIVE', CURRENT_TIMESTAMP),
+        (116, 116, 3016, 116, CURRENT_TIMESTAMP, 'FULL_DAY', 'ACTIVE', CURRENT_TIMESTAMP),
+        (117, 117, 3017, 117, CURRENT_TIMESTAMP, 'FULL_DAY', 'ACTIVE', CURRENT_TIMESTAMP),
+        (118, 118, 3018, 118, CURRENT_TIMESTAMP, 'FULL_DAY', 'ACTIVE', CURRENT_TIMESTAMP),
+        (119, 119, 3019, 119, CURRENT_TIMESTAMP, 'FULL_DAY', 'ACTIVE', CURRENT_TIMESTAMP),
+        (120, 120, 3020, 120, CURRENT_TIMESTAMP, 'FULL_DAY', 'ACTIVE', CURRENT_TIMESTAMP),
+        (121, 121, 3021, 121, CURRENT_TIMESTAMP, 'FULL_DAY', 'ACTIVE', CURRENT_TIMESTAMP),
+        (122, 122, 3022, 122, CURRENT_TIMESTAMP, 'FULL_DAY', 'ACTIVE', CURRENT_TIMESTAMP),
+        (123, 123, 3023, 123, CURRENT_TIMESTAMP, 'FULL_DAY', 'ACTIVE', CURRENT_TIMESTAMP),
+        (124, 124, 3024, 124, CURRENT_TIMESTAMP, 'FULL_DAY', 'ACTIVE', CURRENT_TIMESTAMP),
+        (125, 125, 3025, 125, CURRENT_TIMESTAMP, 'FULL_DAY', 'ACTIVE', CURRENT_TIMESTAMP),
+        (126, 126, 3026, 126, CURRENT_TIMESTAMP, 'FULL_DAY', 'ACTIVE', CURRENT_TIMESTAMP),
+        (127, 127, 3027, 127, CURRENT_TIMESTAMP, 'FULL_DAY', 'ACTIVE', CURRENT_TIMESTAMP),
+        (128, 128, 3028, 128, CURRENT_TIMESTAMP, 'FULL_DAY', 'ACTIVE', CURRENT_TIMESTAMP),
+        (129, 129, 3029, 129, CURRENT_TIMESTAMP, 'FULL_DAY', 'ACTIVE', CURRENT_TIMESTAMP),
+        (130, 130, 3030, 130, CURRENT_TIMESTAMP, 'FULL_DAY', 'ACTIVE', CURRENT_TIMESTAMP),
+        (131, 131, 3031, 131, CURRENT_TIMESTAMP, 'FULL_DAY', 'ACTIVE', CURRENT_TIMESTAMP),
+        (132, 132, 3032, 132, CURRENT_TIMESTAMP, 'FULL_DAY', 'ACTIVE', CURRENT_TIMESTAMP),
+        (133, 133, 3033, 133, CURRENT_TIMESTAMP, 'FULL_DAY', 'ACTIVE', CURRENT_TIMESTAMP),
+        (134, 134, 3034, 134, CURRENT_TIMESTAMP, 'FULL_DAY', 'ACTIVE', CURRENT_TIMESTAMP),
+        (135, 135, 3035, 135, CURRENT_TIMESTAMP, 'FULL_DAY', 'ACTIVE', CURRENT_TIMESTAMP),
+        (136, 136, 3036, 136, CURRENT_TIMESTAMP, 'FULL_DAY', 'ACTIVE', CURRENT_TIMESTAMP),
+        (137, 137, 3037, 137, CURRENT_TIMESTAMP, 'FULL_DAY', 'ACTIVE', CURRENT_TIMESTAMP),
+        (138, 138, 3038, 138, CURRENT_TIMESTAMP, 'FULL_DAY', 'ACTIVE', CURRENT_TIMESTAMP),
+        (139, 139, 3039, 139, CURRENT_TIMESTAMP, 'FULL_DAY', 'ACTIVE', CURRENT_TIMESTAMP),
+        (140, 140, 3040, 140, CURRENT_TIMESTAMP, 'FULL_DAY', 'ACTIVE', CURRENT_TIMESTAMP),
+        (141, 141, 3041, 141, CURRENT_TIMESTAMP, 'FULL_DAY', 'ACTIVE', CURRENT_TIMESTAMP),
+        (142, 142, 3042, 142, CURRENT_TIMESTAMP, 'FULL_DAY', 'ACTIVE', CURRENT_TIMESTAMP),
+        (143, 143, 3043, 143, CURRENT_TIMESTAMP, 'FULL_DAY', 'ACTIVE', CURRENT_TIMESTAMP),
+        (144, 144, 3044, 144, CURRENT_TIMESTAMP, 'FULL_DAY', 'ACTIVE', CURRENT_TIMESTAMP),
+        (145, 145, 3045, 145, CURRENT_TIMESTAMP, 'FULL_DAY', 'ACTIVE', CURRENT_TIMESTAMP),
+        (146, 146, 3046, 146, CURRENT_TIMESTAMP, 'FULL_DAY', 'ACTIVE', CURRENT_TIMESTAMP),
+        (147, 147, 3047, 147, CURRENT_TIMESTAMP, 'FULL_DAY', 'ACTIVE', CURRENT_TIMESTAMP),
+        (148, 148, 3048, 148, CURRENT_TIMESTAMP, 'FULL_DAY', 'ACTIVE', CURRENT_TIMESTAMP),
+        (149, 149, 3049, 149, CURRENT_TIMESTAMP, 'FULL_DAY', 'ACTIVE', CURRENT_TIMESTAMP),
+        (150, 150, 3050, 150, CURRENT_TIMESTAMP, 'FULL_DAY', 'ACTIVE', CURRENT_TIMESTAMP);
+
+update offices set manager_id = 2 where id = 1;
+
+insert into service_types (id, name, status, created_at) values
+        (1, 'Tiêu chuẩn', 'ACTIVE', CURRENT_TIMESTAMP);
+
+insert into settlement_batches (id, code, shop_id, status, locked_sent, warning_sent, created_at) values
+        (1, 'SB_QC_1', 1, 'PENDING', FALSE, FALSE, CURRENT_TIMESTAMP);
+
+insert into addresses (id, user_id, type, name, phone_number, city_code, city_name, ward_code, ward_name, detail,
+        full_address, latitude, longitude, is_default, created_at) values
+        (10001, 1, 'SENDER', 'Shop 1', '0900000001', 1, 'Thành phố A', 10, 'Phường A', '1 Đường A',
+        '1 Đường A, Phường A, Thành phố A', 10.7, 106.6, FALSE, CURRENT_TIMESTAMP),
+        (20001, 1, 'RECIPIENT', 'Người nhận 1', '0910000001', 2, 'Thành phố B', 20, 'Phường B', '1 Đường B',
+        '1 Đường B, Phường B, Thành phố B', 10.8, 106.7, FALSE, CURRENT_TIMESTAMP),
+        (10002, 1, 'SENDER', 'Shop 1', '0900000001', 1, 'Thành phố A', 10, 'Phường A', '2 Đường A',
+        '2 Đường A, Phường A, Thành phố A', 10.7, 106.6, FALSE, CURRENT_TIMESTAMP),
+        (20002, 1, 'RECIPIENT', 'Người nhận 2', '0910000002', 2, 'Thành phố B', 20, 'Phường B', '2 Đường B',
+        '2 Đường B, Phường B, Thành phố B', 10.8, 106.7, FALSE, CURRENT_TIMESTAMP),
+        (10003, 1, 'SENDER', 'Shop 1', '0900000001', 1, 'Thành phố A', 10, 'Phường A', '3 Đường A',
+        '3 Đường A, Phường A, Thành phố A', 10.7, 106.6, FALSE, CURRENT_TIMESTAMP),
+        (20003, 1, 'RECIPIENT', 'Người nhận 3', '0910000003', 2, 'Thành phố B', 20, 'Phường B', '3 Đường B',
+        '3 Đường B, Phường B, Thành phố B', 10.8, 106.7, FALSE, CURRENT_TIMESTAMP),
+        (10004, 1, 'SENDER', 'Shop 1', '0900000001', 1, 'Thành phố A', 10, 'Phường A', '4 Đường A',
+        '4 Đường A, Phường A, Thành phố A', 10.7, 106.6, FALSE, CURRENT_TIMESTAMP),
+        (20004, 1, 'RECIPIENT', 'Người nhận 4', '0910000004', 2, 'Thành phố B', 20, 'Phường B', '4 Đường B',
+        '4 Đường B, Phường B, Thành phố B', 10.8, 106.7, FALSE, CURRENT_TIMESTAMP),
+        (10005, 1, 'SENDER', 'Shop 1', '0900000001', 1, 'Thành phố A', 10, 'Phường A', '5 Đường A',
+        '5 Đường A, Phường A, Thành phố A', 10.7, 106.6, FALSE, CURRENT_TIMESTAMP),
+        (20005, 1, 'RECIPIENT', 'Người nhận 5', '0910000005', 2, 'Thành phố B', 20, 'Phường B', '5 Đường B',
+        '5 Đường B, Phường B, Thành phố B', 10.8, 106.7, FALSE, CURRENT_TIMESTAMP),
+        (10006, 1, 'SENDER', 'Shop 1', '0900000001', 1, 'Thành phố A', 10, 'Phường A', '6 Đường A',
+        '6 Đường A, Phường A, Thành phố A', 10.7, 106.6, FALSE, CURRENT_TIMESTAMP),
+        (20006, 1, 'RECIPIENT', 'Người nhận 6', '0910000006', 2, 'Thành phố B', 20, 'Phường B', '6 Đường B',
+        '6 Đường B, Phường B, Thành phố B', 10.8, 106.7, FALSE, CURRENT_TIMESTAMP),
+        (10007, 1, 'SENDER', 'Shop 1', '0900000001', 1, 'Thành phố A', 10, 'Phường A', '7 Đường A',
+        '7 Đường A, Phường A, Thành phố A', 10.7, 106.6, FALSE, CURRENT_TIMESTAMP),
+        (20007, 1, 'RECIPIENT', 'Người nhận 7', '0910000007', 2, 'Thành phố B', 20, 'Phường B', '7 Đường B',
+        '7 Đường B, Phường B, Thành phố B', 10.8, 106.7, FALSE, CURRENT_TIMESTAMP),
+        (10008, 1, 'SENDER', 'Shop 1', '0900000001', 1, 'Thành phố A', 10, 'Phường A', '8 Đường A',
+        '8 Đường A, Phường A, Thành phố A', 10.7, 106.6, FALSE, CURRENT_TIMESTAMP),
+        (20008, 1, 'RECIPIENT', 'Người nhận 8', '0910000008', 2, 'Thành phố B', 20, 'Phường B', '8 Đường B',
+        '8 Đường B, Phường B, Thành phố B', 10.8, 106.7, FALSE, CURRENT_TIMESTAMP),
+        (10009, 1, 'SENDER', 'Shop 1', '0900000001', 1, 'Thành phố A', 10, 'Phường A', '9 Đường A',
+        '9 Đường A, Phường A, Thành phố A', 10.7, 106.6, FALSE, CURRENT_TIMESTAMP),
+        (20009, 1, 'RECIPIENT', 'Người nhận 9', '0910000009', 2, 'Thành phố B', 20, 'Phường B', '9 Đường B',
+        '9 Đường B, Phường B, Thành phố B', 10.8, 106.7, FALSE, CURRENT_TIMESTAMP),
+        (10010, 1, 'SENDER', 'Shop 1', '0900000001', 1, 'Thành phố A', 10, 'Phường A', '10 Đường A',
+        '10 Đường A, Phường A, Thành phố A', 10.7, 106.6, FALSE, CURRENT_TIMESTAMP),
+        (20010, 1, 'RECIPIENT', 'Người nhận 10', '0910000010', 2, 'Thành phố B', 20, 'Phường B', '10 Đường B',
+        '10 Đường B, Phường B, Thành phố B', 10.8, 106.7, FALSE, CURRENT_TIMESTAMP),
+        (10011, 1, 'SENDER', 'Shop 1', '0900000001', 1, 'Thành phố A', 10, 'Phường A', '11 Đường A',
+        '11 Đường A, Phường A, Thành phố A', 10.7, 106.6, FALSE, CURRENT_TIMESTAMP),
+        (20011, 1, 'RECIPIENT', 'Người nhận 11', '0910000011', 2, 'Thành phố B', 20, 'Phường B', '11 Đường B',
+        '11 Đường B, Phường B, Thành phố B', 10.8, 106.7, FALSE, CURRENT_TIMESTAMP),
+        (10012, 1, 'SENDER', 'Shop 1', '0900000001', 1, 'Thành phố A', 10, 'Phường A', '12 Đường A',
+        '12 Đường A, Phường A, Thành phố A', 10.7, 106.6, FALSE, CURRENT_TIMESTAMP),
+        (20012, 1, 'RECIPIENT', 'Người nhận 12', '0910000012', 2, 'Thành phố B', 20, 'Phường B', '12 Đường B',
+        '12 Đường B, Phường B, Thành phố B', 10.8, 106.7, FALSE, CURRENT_TIMESTAMP),
+        (10013, 1, 'SENDER', 'Shop 1', '0900000001', 1, 'Thành phố A', 10, 'Phường A', '13 Đường A',
+        '13 Đường A, Phường A, Thành phố A', 10.7, 106.6, FALSE, CURRENT_TIMESTAMP),
+        (20013, 1, 'RECIPIENT', 'Người nhận 13', '0910000013', 2, 'Thành phố B', 20, 'Phường B', '13 Đường B',
+        '13 Đường B, Phường B, Thành phố B', 10.8, 106.7, FALSE, CURRENT_TIMESTAMP),
+        (10014, 1, 'SENDER', 'Shop 1', '0900000001', 1, 'Thành phố A', 10, 'Phường A', '14 Đường A',
+        '14 Đường A, Phường A, Thành phố A', 10.7, 106.6, FALSE, CURRENT_TIMESTAMP),
+        (20014, 1, 'RECIPIENT', 'Người nhận 14', '0910000014', 2, 'Thành phố B', 20, 'Phường B', '14 Đường B',
+        '14 Đường B, Phường B, Thành phố B', 10.8, 106.7, FALSE, CURRENT_TIMESTAMP),
+        (10015, 1, 'SENDER', 'Shop 1', '0900000001', 1, 'Thành phố A', 10, 'Phường A', '15 Đường A',
+        '15 Đường A, Phường A, Thành phố A', 10.7, 106.6, FALSE, CURRENT_TIMESTAMP),
+        (20015, 1, 'RECIPIENT', 'Người nhận 15', '0910000015', 2, 'Thành phố B', 20, 'Phường B', '15 Đường B',
+        '15 Đường B, Phường B, Thành phố B', 10.8, 106.7, FALSE, CURRENT_TIMESTAMP),
+        (10016, 1, 'SENDER', 'Shop 1', '0900000001', 1, 'Thành phố A', 10, 'Phường A', '16 Đường A',
+        '16 Đường A, Phường A, Thành phố A', 10.7, 106.6, FALSE, CURRENT_TIMESTAMP),
+        (20016, 1, 'RECIPIENT', 'Người nhận 16', '0910000016', 2, 'Thành phố B', 20, 'Phường B', '16 Đường B',
+        '16 Đường B, Phường B, Thành phố B', 10.8, 106.7, FALSE, CURRENT_TIMESTAMP),
+        (10017, 1, 'SENDER', 'Shop 1', '0900000001', 1, 'Thành phố A', 10, 'Phường A', '17 Đường A',
+        '17 Đường A, Phường A, Thành phố A', 10.7, 106.6, FALSE, CURRENT_TIMESTAMP),
+        (20017, 1, 'RECIPIENT', 'Người nhận 17', '0910000017', 2, 'Thành phố B', 20, 'Phường B', '17 Đường B',
+        '17 Đường B, Phường B, Thành phố B', 10.8, 106.7, FALSE, CURRENT_TIMESTAMP),
+        (10018, 1, 'SENDER', 'Shop 1', '0900000001', 1, 'Thành phố A', 10, 'Phường A', '18 Đường A',
+        '18 Đường A, Phường A, Thành phố A', 10.7, 106.6, FALSE, CURRENT_TIMESTAMP),
+        (20018, 1, 'RECIPIENT', 'Người nhận 18', '0910000018', 2, 'Thành phố B', 20, 'Phường B', '18 Đường B',
+        '18 Đường B, Phường B, Thành phố B', 10.8, 106.7, FALSE, CURRENT_TIMESTAMP),
+        (10019, 1, 'SENDER', 'Shop 1', '0900000001', 1, 'Thành phố A', 10, 'Phường A', '19 Đường A',
+        '19 Đường A, Phường A, Thành phố A', 10.7, 106.6, FALSE, CURRENT_TIMESTAMP),
+        (20019, 1, 'RECIPIENT', 'Người nhận 19', '0910000019', 2, 'Thành phố B', 20, 'Phường B', '19 Đường B',
+        '19 Đường B, Phường B, Thành phố B', 10.8, 106.7, FALSE, CURRENT_TIMESTAMP),
+        (10020, 1, 'SENDER', 'Shop 1', '0900000001', 1, 'Thành phố A', 10, 'Phường A', '20 Đường A',
+        '20 Đường A, Phường A, Thành phố A', 10.7, 106.6, FALSE, CURRENT_TIMESTAMP),
+        (20020, 1, 'RECIPIENT', 'Người nhận 20', '0910000020', 2, 'Thành phố B', 20, 'Phường B', '20 Đường B',
+        '20 Đường B, Phường B, Thành phố B', 10.8, 106.7, FALSE, CURRENT_TIMESTAMP),
+        (10021, 1, 'SENDER', 'Shop 1', '0900000001', 1, 'Thành phố A', 10, 'Phường A', '21 Đường A',
+        '21 Đường A, Phường A, Thành phố A', 10.7, 106.6, FALSE, CURRENT_TIMESTAMP),
+        (20021, 1, 'RECIPIENT', 'Người nhận 21', '0910000021', 2, 'Thành phố B', 20, 'Phường B', '21 Đường B',
+        '21 Đường B, Phường B, Thành phố B', 10.8, 106.7, FALSE, CURRENT_TIMESTAMP),
+        (10022, 1, 'SENDER', 'Shop 1', '0900000001', 1, 'Thành phố A', 10, 'Phường A', '22 Đường A',
+        '22 Đường A, Phường A, Thành phố A', 10.7, 106.6, FALSE, CURRENT_TIMESTAMP),
+        (20022, 1, 'RECIPIENT', 'Người nhận 22', '0910000022', 2, 'Thành phố B', 20, 'Phường B', '22 Đường B',
+        '22 Đường B, Phường B, Thành phố B', 10.8, 106.7, FALSE, CURRENT_TIMESTAMP),
+        (10023, 1, 'SENDER', 'Shop 1', '0900000001', 1, 'Thành phố A', 10, 'Phường A', '23 Đường A',
+        '23 Đường A, Phường A, Thành phố A', 10.7, 106.6, FALSE, CURRENT_TIMESTAMP),
+        (20023, 1, 'RECIPIENT', 'Người nhận 23', '0910000023', 2, 'Thành phố B', 20, 'Phường B', '23 Đường B',
+        '23 Đường B, Phường B, Thành phố B', 10.8, 106.7, FALSE, CURRENT_TIMESTAMP),
+        (10024, 1, 'SENDER', 'Shop 1', '0900000001', 1, 'Thành phố A', 10, 'Phường A', '24 Đường A',
+        '24 Đường A, Phường A, Thành phố A', 10.7, 106.6, FALSE, CURRENT_TIMESTAMP),
+        (20024, 1, 'RECIPIENT', 'Người nhận 24', '0910000024', 2, 'Thành phố B', 20, 'Phường B', '24 Đường B',
+        '24 Đường B, Phường B, Thành phố B', 10.8, 106.7, FALSE, CURRENT_TIMESTAMP),
+        (10025, 1, 'SENDER', 'Shop 1', '0900000001', 1, 'Thành phố A', 10, 'Phường A', '25 Đường A',
+        '25 Đường A, Phường A, Thành phố A', 10.7, 106.6, FALSE, CURRENT_TIMESTAMP),
+        (20025, 1, 'RECIPIENT', 'Người nhận 25', '0910000025', 2, 'Thành phố B', 20, 'Phường B', '25 Đường B',
+        '25 Đường B, Phường B, Thành phố B', 10.8, 106.7, FALSE, CURRENT_TIMESTAMP),
+        (10026, 1, 'SENDER', 'Shop 1', '0900000001', 1, 'Thành phố A', 10, 'Phường A', '26 Đường A',
+        '26 Đường A, Phường A, Thành phố A', 10.7, 106.6, FALSE, CURRENT_TIMESTAMP),
+        (20026, 1, 'RECIPIENT', 'Người nhận 26', '0910000026', 2, 'Thành phố B', 20, 'Phường B', '26 Đường B',
+        '26 Đường B, Phường B, Thành phố B', 10.8, 106.7, FALSE, CURRENT_TIMESTAMP),
+        (10027, 1, 'SENDER', 'Shop 1', '0900000001', 1, 'Thành phố A', 10, 'Phường A', '27 Đường A',
+        '27 Đường A, Phường A, Thành phố A', 10.7, 106.6, FALSE, CURRENT_TIMESTAMP),
+        (20027, 1, 'RECIPIENT', 'Người nhận 27', '0910000027', 2, 'Thành phố B', 20, 'Phường B', '27 Đường B',
+        '27 Đường B, Phường B, Thành phố B', 10.8, 106.7, FALSE, CURRENT_TIMESTAMP),
+        (10028, 1, 'SENDER', 'Shop 1', '0900000001', 1, 'Thành phố A', 10, 'Phường A', '28 Đường A',
+        '28 Đường A, Phường A, Thành phố A', 10.7, 106.6, FALSE, CURRENT_TIMESTAMP),
+        (20028, 1, 'RECIPIENT', 'Người nhận 28', '0910000028', 2, 'Thành phố B', 20, 'Phường B', '28 Đường B',
+        '28 Đường B, Phường B, Thành phố B', 10.8, 106.7, FALSE, CURRENT_TIMESTAMP),
+        (10029, 1, 'SENDER', 'Shop 1', '0900000001', 1, 'Thành phố A', 10, 'Phường A', '29 Đường A',
+        '29 Đường A, Phường A, Thành phố A', 10.7, 106.6, FALSE, CURRENT_TIMESTAMP),
+        (20029, 1, 'RECIPIENT', 'Người nhận 29', '0910000029', 2, 'Thành phố B', 20, 'Phường B', '29 Đường B',
+        '29 Đường B, Phường B, Thành phố B', 10.8, 106.7, FALSE, CURRENT_TIMESTAMP),
+        (10030, 1, 'SENDER', 'Shop 1', '0900000001', 1, 'Thành phố A', 10, 'Phường A', '30 Đường A',
+        '30 Đường A, Phường A, Thành phố A', 10.7, 106.6, FALSE, CURRENT_TIMESTAMP),
+        (20030, 1, 'RECIPIENT', 'Người nhận 30', '0910000030', 2, 'Thành phố B', 20, 'Phường B', '30 Đường B',
+        '30 Đường B, Phường B, Thành phố B', 10.8, 106.7, FALSE, CURRENT_TIMESTAMP),
+        (10031, 1, 'SENDER', 'Shop 1', '0900000001', 1, 'Thành phố A', 10, 'Phường A', '31 Đường A',
+        '31 Đường A, Phường A, Thành phố A', 10.7, 106.6, FALSE, CURRENT_TIMESTAMP),
+        (20031, 1, 'RECIPIENT', 'Người nhận 31', '0910000031', 2, 'Thành phố B', 20, 'Phường B', '31 Đường B',
+        '31 Đường B, Phường B, Thành phố B', 10.8, 106.7, FALSE, CURRENT_TIMESTAMP),
+        (10032, 1, 'SENDER', 'Shop 1', '0900000001', 1, 'Thành phố A', 10, 'Phường A', '32 Đường A',
+        '32 Đường A, Phường A, Thành phố A', 10.7, 106.6, FALSE, CURRENT_TIMESTAMP),
+        (20032, 1, 'RECIPIENT', 'Người nhận 32', '0910000032', 2, 'Thành phố B', 20, 'Phường B', '32 Đường B',
+        '32 Đường B, Phường B, Thành phố B', 10.8, 106.7, FALSE, CURRENT_TIMESTAMP),
+        (10033, 1, 'SENDER', 'Shop 1', '0900000001', 1, 'Thành phố A', 10, 'Phường A', '33 Đường A',
+        '33 Đường A, Phường A, Thành phố A', 10.7, 106.6, FALSE, CURRENT_TIMESTAMP),
+        (20033, 1, 'RECIPIENT', 'Người nhận 33', '0910000033', 2, 'Thành phố B', 20, 'Phường B', '33 Đường B',
+        '33 Đường B, Phường B, Thành phố B', 10.8, 106.7, FALSE, CURRENT_TIMESTAMP),
+        (10034, 1, 'SENDER', 'Shop 1', '0900000001', 1, 'Thành phố A', 10, 'Phường A', '34 Đường A',
+        '34 Đường A, Phường A, Thành phố A', 10.7, 106.6, FALSE, CURRENT_TIMESTAMP),
+        (20034, 1, 'RECIPIENT', 'Người nhận 34', '0910000034', 2, 'Thành phố B', 20, 'Phường B', '34 Đường B',
+        '34 Đường B, Phường B, Thành phố B', 10.8, 106.7, FALSE, CURRENT_TIMESTAMP),
+        (10035, 1, 'SENDER', 'Shop 1', '0900000001', 1, 'Thành phố A', 10, 'Phường A', '35 Đường A',
+        '35 Đường A, Phường A, Thành phố A', 10.7, 106.6, FALSE, CURRENT_TIMESTAMP),
+        (20035, 1, 'RECIPIENT', 'Người nhận 35', '0910000035', 2, 'Thành phố B', 20, 'Phường B', '35 Đường B',
+        '35 Đường B, Phường B, Thành phố B', 10.8, 106.7, FALSE, CURRENT_TIMESTAMP),
+        (10036, 1, 'SENDER', 'Shop 1', '0900000001', 1, 'Thành phố A', 10, 'Phường A', '36 Đường A',
+        '36 Đường A, Phường A, Thành phố A', 10.7, 106.6, FALSE, CURRENT_TIMESTAMP),
+        (20036, 1, 'RECIPIENT', 'Người nhận 36', '0910000036', 2, 'Thành phố B', 20, 'Phường B', '36 Đường B',
+        '36 Đường B, Phường B, Thành phố B', 10.8, 106.7, FALSE, CURRENT_TIMESTAMP),
+        (10037, 1, 'SENDER', 'Shop 1', '0900000001', 1, 'Thành phố A', 10, 'Phường A', '37 Đường A',
+        '37 Đường A, Phường A, Thành phố A', 10.7, 106.6, FALSE, CURRENT_TIMESTAMP),
+        (20037, 1, 'RECIPIENT', 'Người nhận 37', '0910000037', 2, 'Thành phố B', 20, 'Phường B', '37 Đường B',
+        '37 Đường B, Phường B, Thành phố B', 10.8, 106.7, FALSE, CURRENT_TIMESTAMP),
+        (10038, 1, 'SENDER', 'Shop 1', '0900000001', 1, 'Thành phố A', 10, 'Phường A', '38 Đường A',
+        '38 Đường A, Phường A, Thành phố A', 10.7, 106.6, FALSE, CURRENT_TIMESTAMP),
+        (20038, 1, 'RECIPIENT', 'Người nhận 38', '0910000038', 2, 'Thành phố B', 20, 'Phường B', '38 Đường B',
+        '38 Đường B, Phường B, Thành phố B', 10.8, 106.7, FALSE, CURRENT_TIMESTAMP),
+        (10039, 1, 'SENDER', 'Shop 1', '0900000001', 1, 'Thành phố A', 10, 'Phường A', '39 Đường A',
+        '39 Đường A, Phường A, Thành phố A', 10.7, 106.6, FALSE, CURRENT_TIMESTAMP),
+        (20039, 1, 'RECIPIENT', 'Người nhận 39', '0910000039', 2, 'Thành phố B', 20, 'Phường B', '39 Đường B',
+        '39 Đường B, Phường B, Thành phố B', 10.8, 106.7, FALSE, CURRENT_TIMESTAMP),
+        (10040, 1, 'SENDER', 'Shop 1', '0900000001', 1, 'Thành phố A', 10, 'Phường A', '40 Đường A',
+        '40 Đường A, Phường A, Thành phố A', 10.7, 106.6, FALSE, CURRENT_TIMESTAMP),
+        (20040, 1, 'RECIPIENT', 'Người nhận 40', '0910000040', 2, 'Thành phố B', 20, 'Phường B', '40 Đường B',
+        '40 Đường B, Phường B, Thành phố B', 10.8, 106.7, FALSE, CURRENT_TIMESTAMP),
+        (10041, 1, 'SENDER', 'Shop 1', '0900000001', 1, 'Thành phố A', 10, 'Phường A', '41 Đường A',
+        '41 Đường A, Phường A, Thành phố A', 10.7, 106.6, FALSE, CURRENT_TIMESTAMP),
+        (20041, 1, 'RECIPIENT', 'Người nhận 41', '0910000041', 2, 'Thành phố B', 20, 'Phường B', '41 Đường B',
+        '41 Đường B, Phường B, Thành phố B', 10.8, 106.7, FALSE, CURRENT_TIMESTAMP),
+        (10042, 1, 'SENDER', 'Shop 1', '0900000001', 1, 'Thành phố A', 10, 'Phường A', '42 Đường A',
+        '42 Đường A, Phường A, Thành phố A', 10.7, 106.6, FALSE, CURRENT_TIMESTAMP),
+        (20042, 1, 'RECIPIENT', 'Người nhận 42', '0910000042', 2, 'Thành phố B', 20, 'Phường B', '42 Đường B',
+        '42 Đường B, Phường B, Thành phố B', 10.8, 106.7, FALSE, CURRENT_TIMESTAMP),
+        (10043, 1, 'SENDER', 'Shop 1', '0900000001', 1, 'Thành phố A', 10, 'Phường A', '43 Đường A',
+        '43 Đường A, Phường A, Thành phố A', 10.7, 106.6, FALSE, CURRENT_TIMESTAMP),
+        (20043, 1, 'RECIPIENT', 'Người nhận 43', '0910000043', 2, 'Thành phố B', 20, 'Phường B', '43 Đường B',
+        '43 Đường B, Phường B, Thành phố B', 10.8, 106.7, FALSE, CURRENT_TIMESTAMP),
+        (10044, 1, 'SENDER', 'Shop 1', '0900000001', 1, 'Thành phố A', 10, 'Phường A', '44 Đường A',
+        '44 Đường A, Phường A, Thành phố A', 10.7, 106.6, FALSE, CURRENT_TIMESTAMP),
+        (20044, 1, 'RECIPIENT', 'Người nhận 44', '0910000044', 2, 'Thành phố B', 20, 'Phường B', '44 Đường B',
+        '44 Đường B, Phường B, Thành phố B', 10.8, 106.7, FALSE, CURRENT_TIMESTAMP),
+        (10045, 1, 'SENDER', 'Shop 1', '0900000001', 1, 'Thành phố A', 10, 'Phường A', '45 Đường A',
+        '45 Đường A, Phường A, Thành phố A', 10.7, 106.6, FALSE, CURRENT_TIMESTAMP),
+        (20045, 1, 'RECIPIENT', 'Người nhận 45', '0910000045', 2, 'Thành phố B', 20, 'Phường B', '45 Đường B',
+        '45 Đường B, Phường B, Thành phố B', 10.8, 106.7, FALSE, CURRENT_TIMESTAMP),
+        (10046, 1, 'SENDER', 'Shop 1', '0900000001', 1, 'Thành phố A', 10, 'Phường A', '46 Đường A',
+        '46 Đường A, Phường A, Thành phố A', 10.7, 106.6, FALSE, CURRENT_TIMESTAMP),
+        (20046, 1, 'RECIPIENT', 'Người nhận 46', '0910000046', 2, 'Thành phố B', 20, 'Phường B', '46 Đường B',
+        '46 Đường B, Phường B, Thành phố B', 10.8, 106.7, FALSE, CURRENT_TIMESTAMP),
+        (10047, 1, 'SENDER', 'Shop 1', '0900000001', 1, 'Thành phố A', 10, 'Phường A', '47 Đường A',
+        '47 Đường A, Phường A, Thành phố A', 10.7, 106.6, FALSE, CURRENT_TIMESTAMP),
+        (20047, 1, 'RECIPIENT', 'Người nhận 47', '0910000047', 2, 'Thành phố B', 20, 'Phường B', '47 Đường B',
+        '47 Đường B, Phường B, Thành phố B', 10.8, 106.7, FALSE, CURRENT_TIMESTAMP),
+        (10048, 1, 'SENDER', 'Shop 1', '0900000001', 1, 'Thành phố A', 10, 'Phường A', '48 Đường A',
+        '48 Đường A, Phường A, Thành phố A', 10.7, 106.6, FALSE, CURRENT_TIMESTAMP),
+        (20048, 1, 'RECIPIENT', 'Người nhận 48', '0910000048', 2, 'Thành phố B', 20, 'Phường B', '48 Đường B',
+        '48 Đường B, Phường B, Thành phố B', 10.8, 106.7, FALSE, CURRENT_TIMESTAMP),
+        (10049, 1, 'SENDER', 'Shop 1', '0900000001', 1, 'Thành phố A', 10, 'Phường A', '49 Đường A',
+        '49 Đường A, Phường A, Thành phố A', 10.7, 106.6, FALSE, CURRENT_TIMESTAMP),
+        (20049, 1, 'RECIPIENT', 'Người nhận 49', '0910000049', 2, 'Thành phố B', 20, 'Phường B', '49 Đường B',
+        '49 Đường B, Phường B, Thành phố B', 10.8, 106.7, FALSE, CURRENT_TIMESTAMP),
+        (10050, 1, 'SENDER', 'Shop 1', '0900000001', 1, 'Thành phố A', 10, 'Phường A', '50 Đường A',
+        '50 Đường A, Phường A, Thành phố A', 10.7, 106.6, FALSE, CURRENT_TIMESTAMP),
+        (20050, 1, 'RECIPIENT', 'Người nhận 50', '0910000050', 2, 'Thành phố B', 20, 'Phường B', '50 Đường B',
+        '50 Đường B, Phường B, Thành phố B', 10.8, 106.7, FALSE, CURRENT_TIMESTAMP),
+        (10051, 200, 'SENDER', 'Shop 200', '0900000200', 1, 'Thành phố A', 10, 'Phường A', '51 Đường A',
+        '51 Đường A, Phường A, Thành phố A', 10.7, 106.6, FALSE, CURRENT_TIMESTAMP),
+        (20051, 200, 'RECIPIENT', 'Người nhận 51', '0910000051', 2, 'Thành phố B', 20, 'Phường B', '51 Đường B',
+        '51 Đường B, Phường B, Thành phố B', 10.8, 106.7, FALSE, CURRENT_TIMESTAMP),
+        (10052, 201, 'SENDER', 'Shop 201', '0900000201', 1, 'Thành phố A', 10, 'Phường A', '52 Đường A',
+        '52 Đường A, Phường A, Thành phố A', 10.7, 106.6, FALSE, CURRENT_TIMESTAMP),
+        (20052, 201, 'RECIPIENT', 'Người nhận 52', '0910000052', 2, 'Thành phố B', 20, 'Phường B', '52 Đường B',
+        '52 Đường B, Phường B, Thành phố B', 10.8, 106.7, FALSE, CURRENT_TIMESTAMP),
+        (10053, 202, 'SENDER', 'Shop 202', '0900000202', 1, 'Thành phố A', 10, 'Phường A', '53 Đường A',
+        '53 Đường A, Phường A, Thành phố A', 10.7, 106.6, FALSE, CURRENT_TIMESTAMP),
+        (20053, 202, 'RECIPIENT', 'Người nhận 53', '0910000053', 2, 'Thành phố B', 20, 'Phường B', '53 Đường B',
+        '53 Đường B, Phường B, Thành phố B', 10.8, 106.7, FALSE, CURRENT_TIMESTAMP),
+        (10054, 203, 'SENDER', 'Shop 203', '0900000203', 1, 'Thành phố A', 10, 'Phường A', '54 Đường A',
+        '54 Đường A, Phường A, Thành phố A', 10.7, 106.6, FALSE, CURRENT_TIMESTAMP),
+        (20054, 203, 'RECIPIENT', 'Người nhận 54', '0910000054', 2, 'Thành phố B', 20, 'Phường B', '54 Đường B',
+        '54 Đường B, Phường B, Thành phố B', 10.8, 106.7, FALSE, CURRENT_TIMESTAMP),
+        (10055, 204, 'SENDER', 'Shop 204', '0900000204', 1, 'Thành phố A', 10, 'Phường A', '55 Đường A',
+        '55 Đường A, Phường A, Thành phố A', 10.7, 106.6, FALSE, CURRENT_TIMESTAMP),
+        (20055, 204, 'RECIPIENT', 'Người nhận 55', '0910000055', 2, 'Thành phố B', 20, 'Phường B', '55 Đường B',
+        '55 Đường B, Phường B, Thành phố B', 10.8, 106.7, FALSE, CURRENT_TIMESTAMP),
+        (10056, 205, 'SENDER', 'Shop 205', '0900000205', 1, 'Thành phố A', 10, 'Phường A', '56 Đường A',
+        '56 Đường A, Phường A, Thành phố A', 10.7, 106.6, FALSE, CURRENT_TIMESTAMP),
+        (20056, 205, 'RECIPIENT', 'Người nhận 56', '0910000056', 2, 'Thành phố B', 20, 'Phường B', '56 Đường B',
+        '56 Đường B, Phường B, Thành phố B', 10.8, 106.7, FALSE, CURRENT_TIMESTAMP),
+        (10057, 206, 'SENDER', 'Shop 206', '0900000206', 1, 'Thành phố A', 10, 'Phường A', '57 Đường A',
+        '57 Đường A, Phường A, Thành phố A', 10.7, 106.6, FALSE, CURRENT_TIMESTAMP),
+        (20057, 206, 'RECIPIENT', 'Người nhận 57', '0910000057', 2, 'Thành phố B', 20, 'Phường B', '57 Đường B',
+        '57 Đường B, Phường B, Thành phố B', 10.8, 106.7, FALSE, CURRENT_TIMESTAMP),
+        (10058, 207, 'SENDER', 'Shop 207', '0900000207', 1, 'Thành phố A', 10, 'Phường A', '58 Đường A',
+        '58 Đường A, Phường A, Thành phố A', 10.7, 106.6, FALSE, CURRENT_TIMESTAMP),
+        (20058, 207, 'RECIPIENT', 'Người nhận 58', '0910000058', 2, 'Thành phố B', 20, 'Phường B', '58 Đường B',
+        '58 Đường B, Phường B, Thành phố B', 10.8, 106.7, FALSE, CURRENT_TIMESTAMP),
+        (10059, 208, 'SENDER', 'Shop 208', '0900000208', 1, 'Thành phố A', 10, 'Phường A', '59 Đường A',
+        '59 Đường A, Phường A, Thành phố A', 10.7, 106.6, FALSE, CURRENT_TIMESTAMP),
+        (20059, 208, 'RECIPIENT', 'Người nhận 59', '0910000059', 2, 'Thành phố B', 20, 'Phường B', '59 Đường B',
+        '59 Đường B, Phường B, Thành phố B', 10.8, 106.7, FALSE, CURRENT_TIMESTAMP),
+        (10060, 209, 'SENDER', 'Shop 209', '0900000209', 1, 'Thành phố A', 10, 'Phường A', '60 Đường A',
+        '60 Đường A, Phường A, Thành phố A', 10.7, 106.6, FALSE, CURRENT_TIMESTAMP),
+        (20060, 209, 'RECIPIENT', 'Người nhận 60', '0910000060', 2, 'Thành phố B', 20, 'Phường B', '60 Đường B',
+        '60 Đường B, Phường B, Thành phố B', 10.8, 106.7, FALSE, CURRENT_TIMESTAMP),
+        (10061, 210, 'SENDER', 'Shop 210', '0900000210', 1, 'Thành phố A', 10, 'Phường A', '61 Đường A',
+        '61 Đường A, Phường A, Thành phố A', 10.7, 106.6, FALSE, CURRENT_TIMESTAMP),
+        (20061, 210, 'RECIPIENT', 'Người nhận 61', '0910000061', 2, 'Thành phố B', 20, 'Phường B', '61 Đường B',
+        '61 Đường B, Phường B, Thành phố B', 10.8, 106.7, FALSE, CURRENT_TIMESTAMP),
+        (10062, 211, 'SENDER', 'Shop 211', '0900000211', 1, 'Thành phố A', 10, 'Phường A', '62 Đường A',
+        '62 Đường A, Phường A, Thành phố A', 10.7, 106.6, FALSE, CURRENT_TIMESTAMP),
+        (20062, 211, 'RECIPIENT', 'Người nhận 62', '0910000062', 2, 'Thành phố B', 20, 'Phường B', '62 Đường B',
+        '62 Đường B, Phường B, Thành phố B', 10.8, 106.7, FALSE, CURRENT_TIMESTAMP),
+        (10063, 212, 'SENDER', 'Shop 212', '0900000212', 1, 'Thành phố A', 10, 'Phường A', '63 Đường A',
+        '63 Đường A, Phường A, Thành phố A', 10.7, 106.6, FALSE, CURRENT_TIMESTAMP),
+        (20063, 212, 'RECIPIENT', 'Người nhận 63', '0910000063', 2, 'Thành phố B', 20, 'Phường B', '63 Đường B',
+        '63 Đường B, Phường B, Thành phố B', 10.8, 106.7, FALSE, CURRENT_TIMESTAMP),
+        (10064, 213, 'SENDER', 'Shop 213', '0900000213', 1, 'Thành phố A', 10, 'Phường A', '64 Đường A',
+        '64 Đường A, Phường A, Thành phố A', 10.7, 106.6, FALSE, CURRENT_TIMESTAMP),
+        (20064, 213, 'RECIPIENT', 'Người nhận 64', '0910000064', 2, 'Thành phố B', 20, 'Phường B', '64 Đường B',
+        '64 Đường B, Phường B, Thành phố B', 10.8, 106.7, FALSE, CURRENT_TIMESTAMP);
+
+insert into orders (id, tracking_number, user_id, from_office_id, to_office_id, current_office_id, employee_id,
+        service_type_id, settlement_batch_id, sender_address_id, recipient_address_id, status, created_by_type,
+        cod, discount_amount, order_value, shipping_fee, total_fee, weight, pending_destination_confirm, version,
+        sender_name, sender_phone, sender_city_code, sender_city_name, sender_ward_code, sender_ward_name, sender_detail,
+        sender_full_address, sender_latitude, sender_longitude,
+        recipient_name, recipient_phone, recipient_city_code, recipient_city_name, recipient_ward_code, recipient_ward_name,
+        recipient_detail, recipient_full_address, recipient_latitude, recipient_longitude,
+        cod_status, payer, payment_status, pickup_notification_stage, pickup_type, created_at) values
+(1, 'QC00000001', 1, 1001, 2, 2001, 101, 1, 1, 10001, 20001, 'DELIVERING', 'USER', 0, 0, 100000, 30000, 30000, 1.50, FALSE, 0,
+        'Shop 1', '0900000001', 1, 'Thành phố A', 10, 'Phường A', '1 Đường A', '1 Đường A, Phường A, Thành phố A', 10.7, 106.6,
+        'Người nhận 1', '0910000001', 2, 'Thành phố B', 20, 'Phường B', '1 Đường B', '1 Đường B, Phường B, Thành phố B', 10.8, 106.7,
+        'NONE', 'SHOP', 'UNPAID', 'NONE', 'PICKUP_BY_COURIER', TIMESTAMPADD(MINUTE, -1, CURRENT_TIMESTAMP)),
+(2, 'QC00000002', 1, 1002, 2, 2002, 102, 1, 1, 10002, 20002, 'DELIVERING', 'USER', 0, 0, 100000, 30000, 30000, 1.50, FALSE, 0,
+        'Shop 1', '0900000001', 1, 'Thành phố A', 10, 'Phường A', '2 Đường A', '2 Đường A, Phường A, Thành phố A', 10.7, 106.6,
+        'Người nhận 2', '0910000002', 2, 'Thành phố B', 20, 'Phường B', '2 Đường B', '2 Đường B, Phường B, Thành phố B', 10.8, 106.7,
+        'NONE', 'SHOP', 'UNPAID', 'NONE', 'PICKUP_BY_COURIER', TIMESTAMPADD(MINUTE, -2, CURRENT_TIMESTAMP)),
+(3, 'QC00000003', 1, 1003, 2, 2003, 103, 1, 1, 10003, 20003, 'DELIVERED', 'USER', 0, 0, 100000, 30000, 30000, 1.50, FALSE, 0,
+        'Shop 1', '0900000001', 1, 'Thành phố A', 10, 'Phường A', '3 Đường A', '3 Đường A, Phường A, Thành phố A', 10.7, 106.6,
+        'Người nhận 3', '0910000003', 2, 'Thành phố B', 20, 'Phường B', '3 Đường B', '3 Đường B, Phường B, Thành phố B', 10.8, 106.7,
+        'NONE', 'SHOP', 'UNPAID', 'NONE', 'PICKUP_BY_COURIER', TIMESTAMPADD(MINUTE, -3, CURRENT_TIMESTAMP)),
+(4, 'QC00000004', 1, 1004, 2, 2004, 104, 1, 1, 10004, 20004, 'DELIVERING', 'USER', 0, 0, 100000, 30000, 30000, 1.50, FALSE, 0,
+        'Shop 1', '0900000001', 1, 'Thành phố A', 10, 'Phường A', '4 Đường A', '4 Đường A, Phường A, Thành phố A', 10.7, 106.6,
+        'Người nhận 4', '0910000004', 2, 'Thành phố B', 20, 'Phường B', '4 Đường B', '4 Đường B, Phường B, Thành phố B', 10.8, 106.7,
+        'NONE', 'SHOP', 'UNPAID', 'NONE', 'PICKUP_BY_COURIER', TIMESTAMPADD(MINUTE, -4, CURRENT_TIMESTAMP)),
+(5, 'QC00000005', 1, 1005, 2, 2005, 105, 1, 1, 10005, 20005, 'DELIVERING', 'USER', 0, 0, 100000, 30000, 30000, 1.50, FALSE, 0,
+        'Shop 1', '0900000001', 1, 'Thành phố A', 10, 'Phường A', '5 Đường A', '5 Đường A, Phường A, Thành phố A', 10.7, 106.6,
+        'Người nhận 5', '0910000005', 2, 'Thành phố B', 20, 'Phường B', '5 Đường B', '5 Đường B, Phường B, Thành phố B', 10.8, 106.7,
+        'NONE', 'SHOP', 'UNPAID', 'NONE', 'PICKUP_BY_COURIER', TIMESTAMPADD(MINUTE, -5, CURRENT_TIMESTAMP)),
+(6, 'QC00000006', 1, 1006, 2, 2006, 106, 1, 1, 10006, 20006, 'DELIVERED', 'USER', 0, 0, 100000, 30000, 30000, 1.50, FALSE, 0,
+        'Shop 1', '0900000001', 1, 'Thành phố A', 10, 'Phường A', '6 Đường A', '6 Đường A, Phường A, Thành phố A', 10.7, 106.6,
+        'Người nhận 6', '0910000006', 2, 'Thành phố B', 20, 'Phường B', '6 Đường B', '6 Đường B, Phường B, Thành phố B', 10.8, 106.7,
+        'NONE', 'SHOP', 'UNPAID', 'NONE', 'PICKUP_BY_COURIER', TIMESTAMPADD(MINUTE, -6, CURRENT_TIMESTAMP)),
+(7, 'QC00000007', 1, 1007, 2, 2007, 107, 1, 1, 10007, 20007, 'DELIVERING', 'USER', 0, 0, 100000, 30000, 30000, 1.50, FALSE, 0,
+        'Shop 1', '0900000001', 1, 'Thành phố A', 10, 'Phường A', '7 Đường A', '7 Đường A, Phường A, Thành phố A', 10.7, 106.6,
+        'Người nhận 7', '0910000007', 2, 'Thành phố B', 20, 'Phường B', '7 Đường B', '7 Đường B, Phường B, Thành phố B', 10.8, 106.7,
+        'NONE', 'SHOP', 'UNPAID', 'NONE', 'PICKUP_BY_COURIER', TIMESTAMPADD(MINUTE, -7, CURRENT_TIMESTAMP)),
+(8, 'QC00000008', 1, 1008, 2, 2008, 108, 1, 1, 10008, 20008, 'DELIVERING', 'USER', 0, 0, 100000, 30000, 30000, 1.50, FALSE, 0,
+        'Shop 1', '0900000001', 1, 'Thành phố A', 10, 'Phường A', '8 Đường A', '8 Đường A, Phường A, Thành phố A', 10.7, 106.6,
+        'Người nhận 8', '0910000008', 2, 'Thành phố B', 20, 'Phường B', '8 Đường B', '8 Đường B, Phường B, Thành phố B', 10.8, 106.7,
+        'NONE', 'SHOP', 'UNPAID', 'NONE', 'PICKUP_BY_COURIER', TIMESTAMPADD(MINUTE, -8, CURRENT_TIMESTAMP)),
+(9, 'QC00000009', 1, 1009, 2, 2009, 109, 1, 1, 10009, 20009, 'DELIVERED', 'USER', 0, 0, 100000, 30000, 30000, 1.50, FALSE, 0,
+        'Shop 1', '0900000001', 1, 'Thành phố A', 10, 'Phường A', '9 Đường A', '9 Đường A, Phường A, Thành phố A', 10.7, 106.6,
+        'Người nhận 9', '0910000009', 2, 'Thành phố B', 20, 'Phường B', '9 Đường B', '9 Đường B, Phường B, Thành phố B', 10.8, 106.7,
+        'NONE', 'SHOP', 'UNPAID', 'NONE', 'PICKUP_BY_COURIER', TIMESTAMPADD(MINUTE, -9, CURRENT_TIMESTAMP)),
+(10, 'QC00000010', 1, 1010, 2, 2010, 110, 1, 1, 10010, 20010, 'DELIVERING', 'USER', 0, 0, 100000, 30000, 30000, 1.50, FALSE, 0,
+        'Shop 1', '0900000001', 1, 'Thành phố A', 10, 'Phường A', '10 Đường A', '10 Đường A, Phường A, Thành phố A', 10.7, 106.6,
+        'Người nhận 10', '0910000010', 2, 'Thành phố B', 20, 'Phường B', '10 Đường B', '10 Đường B, Phường B, Thành phố B', 10.8, 106.7,
+        'NONE', 'SHOP', 'UNPAID', 'NONE', 'PICKUP_BY_COURIER', TIMESTAMPADD(MINUTE, -10, CURRENT_TIMESTAMP)),
+(11, 'QC00000011', 1, 1011, 2, 2011, 111, 1, 1, 10011, 20011, 'DELIVERING', 'USER', 0, 0, 100000, 30000, 30000, 1.50, FALSE, 0,
+        'Shop 1', '0900000001', 1, 'Thành phố A', 10, 'Phường A', '11 Đường A', '11 Đường A, Phường A, Thành phố A', 10.7, 106.6,
+        'Người nhận 11', '0910000011', 2, 'Thành phố B', 20, 'Phường B', '11 Đường B', '11 Đường B, Phường B, Thành phố B', 10.8, 106.7,
+        'NONE', 'SHOP', 'UNPAID', 'NONE', 'PICKUP_BY_COURIER', TIMESTAMPADD(MINUTE, -11, CURRENT_TIMESTAMP)),
+(12, 'QC00000012', 1, 1012, 2, 2012, 112, 1, 1, 10012, 20012, 'DELIVERED', 'USER', 0, 0, 100000, 30000, 30000, 1.50, FALSE, 0,
+        'Shop 1', '0900000001', 1, 'Thành phố A', 10, 'Phường A', '12 Đường A', '12 Đường A, Phường A, Thành phố A', 10.7, 106.6,
+        'Người nhận 12', '0910000012', 2, 'Thành phố B', 20, 'Phường B', '12 Đường B', '12 Đường B, Phường B, Thành phố B', 10.8, 106.7,
+        'NONE', 'SHOP', 'UNPAID', 'NONE', 'PICKUP_BY_COURIER', TIMESTAMPADD(MINUTE, -12, CURRENT_TIMESTAMP)),
+(13, 'QC00000013', 1, 1013, 2, 2013, 113, 1, 1, 10013, 20013, 'DELIVERING', 'USER', 0, 0, 100000, 30000, 30000, 1.50, FALSE, 0,
+        'Shop 1', '0900000001', 1, 'Thành phố A', 10, 'Phường A', '13 Đường A', '13 Đường A, Phường A, Thành phố A', 10.7, 106.6,
+        'Người nhận 13', '0910000013', 2, 'Thành phố B', 20, 'Phường B', '13 Đường B', '13 Đường B, Phường B, Thành phố B', 10.8, 106.7,
+        'NONE', 'SHOP', 'UNPAID', 'NONE', 'PICKUP_BY_COURIER', TIMESTAMPADD(MINUTE, -13, CURRENT_TIMESTAMP)),
+(14, 'QC00000014', 1, 1014, 2, 2014, 114, 1, 1, 10014, 20014, 'DELIVERING', 'USER', 0, 0, 100000, 30000, 30000, 1.50, FALSE, 0,
+        'Shop 1', '0900000001', 1, 'Thành phố A', 10, 'Phường A', '14 Đường A', '14 Đường A, Phường A, Thành phố A', 10.7, 106.6,
+        'Người nhận 14', '0910000014', 2, 'Thành phố B', 20, 'Phường B', '14 Đường B', '14 Đường B, Phường B, Thành phố B', 10.8, 106.7,
+        'NONE', 'SHOP', 'UNPAID', 'NONE', 'PICKUP_BY_COURIER', TIMESTAMPADD(MINUTE, -14, CURRENT_TIMESTAMP)),
+(15, 'QC00000015', 1, 1015, 2, 2015, 115, 1, 1, 10015, 20015, 'DELIVERED', 'USER', 0, 0, 100000, 30000, 30000, 1.50, FALSE, 0,
+        'Shop 1', '0900000001', 1, 'Thành phố A', 10, 'Phường A', '15 Đường A', '15 Đường A, Phường A, Thành phố A', 10.7, 106.6,
+        'Người nhận 15', '0910000015', 2, 'Thành phố B', 20, 'Phường B', '15 Đường B', '15 Đường B, Phường B, Thành phố B', 10.8, 106.7,
+        'NONE', 'SHOP', 'UNPAID', 'NONE', 'PICKUP_BY_COURIER', TIMESTAMPADD(MINUTE, -15, CURRENT_TIMESTAMP)),
+(16, 'QC00000016', 1, 1016, 2, 2016, 116, 1, 1, 10016, 20016, 'DELIVERING', 'USER', 0, 0, 100000, 30000, 30000, 1.50, FALSE, 0,
+        'Shop 1', '0900000001', 1, 'Thành phố A', 10, 'Phường A', '16 Đường A', '16 Đường A, Phường A, Thành phố A', 10.7, 106.6,
+        'Người nhận 16', '0910000016', 2, 'Thành phố B', 20, 'Phường B', '16 Đường B', '16 Đường B, Phường B, Thành phố B', 10.8, 106.7,
+        'NONE', 'SHOP', 'UNPAID', 'NONE', 'PICKUP_BY_COURIER', TIMESTAMPADD(MINUTE, -16, CURRENT_TIMESTAMP)),
+(17, 'QC00000017', 1, 1017, 2, 2017, 117, 1, 1, 10017, 20017, 'DELIVERING', 'USER', 0, 0, 100000, 30000, 30000, 1.50, FALSE, 0,
+        'Shop 1', '0900000001', 1, 'Thành phố A', 10, 'Phường A', '17 Đường A', '17 Đường A, Phường A, Thành phố A', 10.7, 106.6,
+        'Người nhận 17', '0910000017', 2, 'Thành phố B', 20, 'Phường B', '17 Đường B', '17 Đường B, Phường B, Thành phố B', 10.8, 106.7,
+        'NONE', 'SHOP', 'UNPAID', 'NONE', 'PICKUP_BY_COURIER', TIMESTAMPADD(MINUTE, -17, CURRENT_TIMESTAMP)),
+(18, 'QC00000018', 1, 1018, 2, 2018, 118, 1, 1, 10018, 20018, 'DELIVERED', 'USER', 0, 0, 100000, 30000, 30000, 1.50, FALSE, 0,
+        'Shop 1', '0900000001', 1, 'Thành phố A', 10, 'Phường A', '18 Đường A', '18 Đường A, Phường A, Thành phố A', 10.7, 106.6,
+        'Người nhận 18', '0910000018', 2, 'Thành phố B', 20, 'Phường B', '18 Đường B', '18 Đường B, Phường B, Thành phố B', 10.8, 106.7,
+        'NONE', 'SHOP', 'UNPAID', 'NONE', 'PICKUP_BY_COURIER', TIMESTAMPADD(MINUTE, -18, CURRENT_TIMESTAMP)),
+(19, 'QC00000019', 1, 1019, 2, 2019, 119, 1, 1, 10019, 20019, 'DELIVERING', 'USER', 0, 0, 100000, 30000, 30000, 1.50, FALSE, 0,
+        'Shop 1', '0900000001', 1, 'Thành phố A', 10, 'Phường A', '19 Đường A', '19 Đường A, Phường A, Thành phố A', 10.7, 106.6,
+        'Người nhận 19', '0910000019', 2, 'Thành phố B', 20, 'Phường B', '19 Đường B', '19 Đường B, Phường B, Thành phố B', 10.8, 106.7,
+        'NONE', 'SHOP', 'UNPAID', 'NONE', 'PICKUP_BY_COURIER', TIMESTAMPADD(MINUTE, -19, CURRENT_TIMESTAMP)),
+(20, 'QC00000020', 1, 1020, 2, 2020, 120, 1, 1, 10020, 20020, 'DELIVERING', 'USER', 0, 0, 100000, 30000, 30000, 1.50, FALSE, 0,
+        'Shop 1', '0900000001', 1, 'Thành phố A', 10, 'Phường A', '20 Đường A', '20 Đường A, Phường A, Thành phố A', 10.7, 106.6,
+        'Người nhận 20', '0910000020', 2, 'Thành phố B', 20, 'Phường B', '20 Đường B', '20 Đường B, Phường B, Thành phố B', 10.8, 106.7,
+        'NONE', 'SHOP', 'UNPAID', 'NONE', 'PICKUP_BY_COURIER', TIMESTAMPADD(MINUTE, -20, CURRENT_TIMESTAMP)),
+(21, 'QC00000021', 1, 1021, 2, 2021, 121, 1, 1, 10021, 20021, 'DELIVERED', 'USER', 0, 0, 100000, 30000, 30000, 1.50, FALSE, 0,
+        'Shop 1', '0900000001', 1, 'Thành phố A', 10, 'Phường A', '21 Đường A', '21 Đường A, Phường A, Thành phố A', 10.7, 106.6,
+        'Người nhận 21', '0910000021', 2, 'Thành phố B', 20, 'Phường B', '21 Đường B', '21 Đường B, Phường B, Thành phố B', 10.8, 106.7,
+        'NONE', 'SHOP', 'UNPAID', 'NONE', 'PICKUP_BY_COURIER', TIMESTAMPADD(MINUTE, -21, CURRENT_TIMESTAMP)),
+(22, 'QC00000022', 1, 1022, 2, 2022, 122, 1, 1, 10022, 20022, 'DELIVERING', 'USER', 0, 0, 100000, 30000, 30000, 1.50, FALSE, 0,
+        'Shop 1', '0900000001', 1, 'Thành phố A', 10, 'Phường A', '22 Đường A', '22 Đường A, Phường A, Thành phố A', 10.7, 106.6,
+        'Người nhận 22', '0910000022', 2, 'Thành phố B', 20, 'Phường B', '22 Đường B', '22 Đường B, Phường B, Thành phố B', 10.8, 106.7,
+        'NONE', 'SHOP', 'UNPAID', 'NONE', 'PICKUP_BY_COURIER', TIMESTAMPADD(MINUTE, -22, CURRENT_TIMESTAMP)),
+(23, 'QC00000023', 1, 1023, 2, 2023, 123, 1, 1, 10023, 20023, 'DELIVERING', 'USER', 0, 0, 100000, 30000, 30000, 1.50, FALSE, 0,
+        'Shop 1', '0900000001', 1, 'Thành phố A', 10, 'Phường A', '23 Đường A', '23 Đường A, Phường A, Thành phố A', 10.7, 106.6,
+        'Người nhận 23', '0910000023', 2, 'Thành phố B', 20, 'Phường B', '23 Đường B', '23 Đường B, Phường B, Thành phố B', 10.8, 106.7,
+        'NONE', 'SHOP', 'UNPAID', 'NONE', 'PICKUP_BY_COURIER', TIMESTAMPADD(MINUTE, -23, CURRENT_TIMESTAMP)),
+(24, 'QC00000024', 1, 1024, 2, 2024, 124, 1, 1, 10024, 20024, 'DELIVERED', 'USER', 0, 0, 100000, 30000, 30000, 1.50, FALSE, 0,
+        'Shop 1', '0900000001', 1, 'Thành phố A', 10, 'Phường A', '24 Đường A', '24 Đường A, Phường A, Thành phố A', 10.7, 106.6,
+        'Người nhận 24', '0910000024', 2, 'Thành phố B', 20, 'Phường B', '24 Đường B', '24 Đường B, Phường B, Thành phố B', 10.8, 106.7,
+        'NONE', 'SHOP', 'UNPAID', 'NONE', 'PICKUP_BY_COURIER', TIMESTAMPADD(MINUTE, -24, CURRENT_TIMESTAMP)),
+(25, 'QC00000025', 1, 1025, 2, 2025, 125, 1, 1, 10025, 20025, 'DELIVERING', 'USER', 0, 0, 100000, 30000, 30000, 1.50, FALSE, 0,
+        'Shop 1', '0900000001', 1, 'Thành phố A', 10, 'Phường A', '25 Đường A', '25 Đường A, Phường A, Thành phố A', 10.7, 106.6,
+        'Người nhận 25', '0910000025', 2, 'Thành phố B', 20, 'Phường B', '25 Đường B', '25 Đường B, Phường B, Thành phố B', 10.8, 106.7,
+        'NONE', 'SHOP', 'UNPAID', 'NONE', 'PICKUP_BY_COURIER', TIMESTAMPADD(MINUTE, -25, CURRENT_TIMESTAMP)),
+(26, 'QC00000026', 1, 1026, 2, 2026, 126, 1, 1, 10026, 20026, 'DELIVERING', 'USER', 0, 0, 100000, 30000, 30000, 1.50, FALSE, 0,
+        'Shop 1', '0900000001', 1, 'Thành phố A', 10, 'Phường A', '26 Đường A', '26 Đường A, Phường A, Thành phố A', 10.7, 106.6,
+        'Người nhận 26', '0910000026', 2, 'Thành phố B', 20, 'Phường B', '26 Đường B', '26 Đường B, Phường B, Thành phố B', 10.8, 106.7,
+        'NONE', 'SHOP', 'UNPAID', 'NONE', 'PICKUP_BY_COURIER', TIMESTAMPADD(MINUTE, -26, CURRENT_TIMESTAMP)),
+(27, 'QC00000027', 1, 1027, 2, 2027, 127, 1, 1, 10027, 20027, 'DELIVERED', 'USER', 0, 0, 100000, 30000, 30000, 1.50, FALSE, 0,
+        'Shop 1', '0900000001', 1, 'Thành phố A', 10, 'Phường A', '27 Đường A', '27 Đường A, Phường A, Thành phố A', 10.7, 106.6,
+        'Người nhận 27', '0910000027', 2, 'Thành phố B', 20, 'Phường B', '27 Đường B', '27 Đường B, Phường B, Thành phố B', 10.8, 106.7,
+        'NONE', 'SHOP', 'UNPAID', 'NONE', 'PICKUP_BY_COURIER', TIMESTAMPADD(MINUTE, -27, CURRENT_TIMESTAMP)),
+(28, 'QC00000028', 1, 1028, 2, 2028, 128, 1, 1, 10028, 20028, 'DELIVERING', 'USER', 0, 0, 100000, 30000, 30000, 1.50, FALSE, 0,
+        'Shop 1', '0900000001', 1, 'Thành phố A', 10, 'Phường A', '28 Đường A', '28 Đường A, Phường A, Thành phố A', 10.7, 106.6,
+        'Người nhận 28', '0910000028', 2, 'Thành phố B', 20, 'Phường B', '28 Đường B', '28 Đường B, Phường B, Thành phố B', 10.8, 106.7,
+        'NONE', 'SHOP', 'UNPAID', 'NONE', 'PICKUP_BY_COURIER', TIMESTAMPADD(MINUTE, -28, CURRENT_TIMESTAMP)),
+(29, 'QC00000029', 1, 1029, 2, 2029, 129, 1, 1, 10029, 20029, 'DELIVERING', 'USER', 0, 0, 100000, 30000, 30000, 1.50, FALSE, 0,
+        'Shop 1', '0900000001', 1, 'Thành phố A', 10, 'Phường A', '29 Đường A', '29 Đường A, Phường A, Thành phố A', 10.7, 106.6,
+        'Người nhận 29', '0910000029', 2, 'Thành phố B', 20, 'Phường B', '29 Đường B', '29 Đường B, Phường B, Thành phố B', 10.8, 106.7,
+        'NONE', 'SHOP', 'UNPAID', 'NONE', 'PICKUP_BY_COURIER', TIMESTAMPADD(MINUTE, -29, CURRENT_TIMESTAMP)),
+(30, 'QC00000030', 1, 1030, 2, 2030, 130, 1, 1, 10030, 20030, 'DELIVERED', 'USER', 0, 0, 100000, 30000, 30000, 1.50, FALSE, 0,
+        'Shop 1', '0900000001', 1, 'Thành phố A', 10, 'Phường A', '30 Đường A', '30 Đường A, Phường A, Thành phố A', 10.7, 106.6,
+        'Người nhận 30', '0910000030', 2, 'Thành phố B', 20, 'Phường B', '30 Đường B', '30 Đường B, Phường B, Thành phố B', 10.8, 106.7,
+        'NONE', 'SHOP', 'UNPAID', 'NONE', 'PICKUP_BY_COURIER', TIMESTAMPADD(MINUTE, -30, CURRENT_TIMESTAMP)),
+(31, 'QC00000031', 1, 1031, 2, 2031, 131, 1, 1, 10031, 20031, 'DELIVERING', 'USER', 0, 0, 100000, 30000, 30000, 1.50, FALSE, 0,
+        'Shop 1', '0900000001', 1, 'Thành phố A', 10, 'Phường A', '31 Đường A', '31 Đường A, Phường A, Thành phố A', 10.7, 106.6,
+        'Người nhận 31', '0910000031', 2, 'Thành phố B', 20, 'Phường B', '31 Đường B', '31 Đường B, Phường B, Thành phố B', 10.8, 106.7,
+        'NONE', 'SHOP', 'UNPAID', 'NONE', 'PICKUP_BY_COURIER', TIMESTAMPADD(MINUTE, -31, CURRENT_TIMESTAMP)),
+(32, 'QC00000032', 1, 1032, 2, 2032, 132, 1, 1, 10032, 20032, 'DELIVERING', 'USER', 0, 0, 100000, 30000, 30000, 1.50, FALSE, 0,
+        'Shop 1', '0900000001', 1, 'Thành phố A', 10, 'Phường A', '32 Đường A', '32 Đường A, Phường A, Thành phố A', 10.7, 106.6,
+        'Người nhận 32', '0910000032', 2, 'Thành phố B', 20, 'Phường B', '32 Đường B', '32 Đường B, Phường B, Thành phố B', 10.8, 106.7,
+        'NONE', 'SHOP', 'UNPAID', 'NONE', 'PICKUP_BY_COURIER', TIMESTAMPADD(MINUTE, -32, CURRENT_TIMESTAMP)),
+(33, 'QC00000033', 1, 1033, 2, 2033, 133, 1, 1, 10033, 20033, 'DELIVERED', 'USER', 0, 0, 100000, 30000, 30000, 1.50, FALSE, 0,
+        'Shop 1', '0900000001', 1, 'Thành phố A', 10, 'Phường A', '33 Đường A', '33 Đường A, Phường A, Thành phố A', 10.7, 106.6,
+        'Người nhận 33', '0910000033', 2, 'Thành phố B', 20, 'Phường B', '33 Đường B', '33 Đường B, Phường B, Thành phố B', 10.8, 106.7,
+        'NONE', 'SHOP', 'UNPAID', 'NONE', 'PICKUP_BY_COURIER', TIMESTAMPADD(MINUTE, -33, CURRENT_TIMESTAMP)),
+(34, 'QC00000034', 1, 1034, 2, 2034, 134, 1, 1, 10034, 20034, 'DELIVERING', 'USER', 0, 0, 100000, 30000, 30000, 1.50, FALSE, 0,
+        'Shop 1', '0900000001', 1, 'Thành phố A', 10, 'Phường A', '34 Đường A', '34 Đường A, Phường A, Thành phố A', 10.7, 106.6,
+        'Người nhận 34', '0910000034', 2, 'Thành phố B', 20, 'Phường B', '34 Đường B', '34 Đường B, Phường B, Thành phố B', 10.8, 106.7,
+        'NONE', 'SHOP', 'UNPAID', 'NONE', 'PICKUP_BY_COURIER', TIMESTAMPADD(MINUTE, -34, CURRENT_TIMESTAMP)),
+(35, 'QC00000035', 1, 1035, 2, 2035, 135, 1, 1, 10035, 20035, 'DELIVERING', 'USER', 0, 0, 100000, 30000, 30000, 1.50, FALSE, 0,
+        'Shop 1', '0900000001', 1, 'Thành phố A', 10, 'Phường A', '35 Đường A', '35 Đường A, Phường A, Thành phố A', 10.7, 106.6,
+        'Người nhận 35', '0910000035', 2, 'Thành phố B', 20, 'Phường B', '35 Đường B', '35 Đường B, Phường B, Thành phố B', 10.8, 106.7,
+        'NONE', 'SHOP', 'UNPAID', 'NONE', 'PICKUP_BY_COURIER', TIMESTAMPADD(MINUTE, -35, CURRENT_TIMESTAMP)),
+(36, 'QC00000036', 1, 1036, 2, 2036, 136, 1, 1, 10036, 20036, 'DELIVERED', 'USER', 0, 0, 100000, 30000, 30000, 1.50, FALSE, 0,
+        'Shop 1', '0900000001', 1, 'Thành phố A', 10, 'Phường A', '36 Đường A', '36 Đường A, Phường A, Thành phố A', 10.7, 106.6,
+        'Người nhận 36', '0910000036', 2, 'Thành phố B', 20, 'Phường B', '36 Đường B', '36 Đường B, Phường B, Thành phố B', 10.8, 106.7,
+        'NONE', 'SHOP', 'UNPAID', 'NONE', 'PICKUP_BY_COURIER', TIMESTAMPADD(MINUTE, -36, CURRENT_TIMESTAMP)),
+(37, 'QC00000037', 1, 1037, 2, 2037, 137, 1, 1, 10037, 20037, 'DELIVERING', 'USER', 0, 0, 100000, 30000, 30000, 1.50, FALSE, 0,
+        'Shop 1', '0900000001', 1, 'Thành phố A', 10, 'Phường A', '37 Đường A', '37 Đường A, Phường A, Thành phố A', 10.7, 106.6,
+        'Người nhận 37', '0910000037', 2, 'Thành phố B', 20, 'Phường B', '37 Đường B', '37 Đường B, Phường B, Thành phố B', 10.8, 106.7,
+        'NONE', 'SHOP', 'UNPAID', 'NONE', 'PICKUP_BY_COURIER', TIMESTAMPADD(MINUTE, -37, CURRENT_TIMESTAMP)),
+(38, 'QC00000038', 1, 1038, 2, 2038, 138, 1, 1, 10038, 20038, 'DELIVERING', 'USER', 0, 0, 100000, 30000, 30000, 1.50, FALSE, 0,
+        'Shop 1', '0900000001', 1, 'Thành phố A', 10, 'Phường A', '38 Đường A', '38 Đường A, Phường A, Thành phố A', 10.7, 106.6,
+        'Người nhận 38', '0910000038', 2, 'Thành phố B', 20, 'Phường B', '38 Đường B', '38 Đường B, Phường B, Thành phố B', 10.8, 106.7,
+        'NONE', 'SHOP', 'UNPAID', 'NONE', 'PICKUP_BY_COURIER', TIMESTAMPADD(MINUTE, -38, CURRENT_TIMESTAMP)),
+(39, 'QC00000039', 1, 1039, 2, 2039, 139, 1, 1, 10039, 20039, 'DELIVERED', 'USER', 0, 0, 100000, 30000, 30000, 1.50, FALSE, 0,
+        'Shop 1', '0900000001', 1, 'Thành phố A', 10, 'Phường A', '39 Đường A', '39 Đường A, Phường A, Thành phố A', 10.7, 106.6,
+        'Người nhận 39', '0910000039', 2, 'Thành phố B', 20, 'Phường B', '39 Đường B', '39 Đường B, Phường B, Thành phố B', 10.8, 106.7,
+        'NONE', 'SHOP', 'UNPAID', 'NONE', 'PICKUP_BY_COURIER', TIMESTAMPADD(MINUTE, -39, CURRENT_TIMESTAMP)),
+(40, 'QC00000040', 1, 1040, 2, 2040, 140, 1, 1, 10040, 20040, 'DELIVERING', 'USER', 0, 0, 100000, 30000, 30000, 1.50, FALSE, 0,
+        'Shop 1', '0900000001', 1, 'Thành phố A', 10, 'Phường A', '40 Đường A', '40 Đường A, Phường A, Thành phố A', 10.7, 106.6,
+        'Người nhận 40', '0910000040', 2, 'Thành phố B', 20, 'Phường B', '40 Đường B', '40 Đường B, Phường B, Thành phố B', 10.8, 106.7,
+        'NONE', 'SHOP', 'UNPAID', 'NONE', 'PICKUP_BY_COURIER', TIMESTAMPADD(MINUTE, -40, CURRENT_TIMESTAMP)),
+(41, 'QC00000041', 1, 1041, 2, 2041, 141, 1, 1, 10041, 20041, 'DELIVERING', 'USER', 0, 0, 100000, 30000, 30000, 1.50, FALSE, 0,
+        'Shop 1', '0900000001', 1, 'Thành phố A', 10, 'Phường A', '41 Đường A', '41 Đường A, Phường A, Thành phố A', 10.7, 106.6,
+        'Người nhận 41', '0910000041', 2, 'Thành phố B', 20, 'Phường B', '41 Đường B', '41 Đường B, Phường B, Thành phố B', 10.8, 106.7,
+        'NONE', 'SHOP', 'UNPAID', 'NONE', 'PICKUP_BY_COURIER', TIMESTAMPADD(MINUTE, -41, CURRENT_TIMESTAMP)),
+(42, 'QC00000042', 1, 1042, 2, 2042, 142, 1, 1, 10042, 20042, 'DELIVERED', 'USER', 0, 0, 100000, 30000, 30000, 1.50, FALSE, 0,
+        'Shop 1', '0900000001', 1, 'Thành phố A', 10, 'Phường A', '42 Đường A', '42 Đường A, Phường A, Thành phố A', 10.7, 106.6,
+        'Người nhận 42', '0910000042', 2, 'Thành phố B', 20, 'Phường B', '42 Đường B', '42 Đường B, Phường B, Thành phố B', 10.8, 106.7,
+        'NONE', 'SHOP', 'UNPAID', 'NONE', 'PICKUP_BY_COURIER', TIMESTAMPADD(MINUTE, -42, CURRENT_TIMESTAMP)),
+(43, 'QC00000043', 1, 1043, 2, 2043, 143, 1, 1, 10043, 20043, 'DELIVERING', 'USER', 0, 0, 100000, 30000, 30000, 1.50, FALSE, 0,
+        'Shop 1', '0900000001', 1, 'Thành phố A', 10, 'Phường A', '43 Đường A', '43 Đường A, Phường A, Thành phố A', 10.7, 106.6,
+        'Người nhận 43', '0910000043', 2, 'Thành phố B', 20, 'Phường B', '43 Đường B', '43 Đường B, Phường B, Thành phố B', 10.8, 106.7,
+        'NONE', 'SHOP', 'UNPAID', 'NONE', 'PICKUP_BY_COURIER', TIMESTAMPADD(MINUTE, -43, CURRENT_TIMESTAMP)),
+(44, 'QC00000044', 1, 1044, 2, 2044, 144, 1, 1, 10044, 20044, 'DELIVERING', 'USER', 0, 0, 100000, 30000, 30000, 1.50, FALSE, 0,
+        'Shop 1', '0900000001', 1, 'Thành phố A', 10, 'Phường A', '44 Đường A', '44 Đường A, Phường A, Thành phố A', 10.7, 106.6,
+        'Người nhận 44', '0910000044', 2, 'Thành phố B', 20, 'Phường B', '44 Đường B', '44 Đường B, Phường B, Thành phố B', 10.8, 106.7,
+        'NONE', 'SHOP', 'UNPAID', 'NONE', 'PICKUP_BY_COURIER', TIMESTAMPADD(MINUTE, -44, CURRENT_TIMESTAMP)),
+(45, 'QC00000045', 1, 1045, 2, 2045, 145, 1, 1, 10045, 20045, 'DELIVERED', 'USER', 0, 0, 100000, 30000, 30000, 1.50, FALSE, 0,
+        'Shop 1', '0900000001', 1, 'Thành phố A', 10, 'Phường A', '45 Đường A', '45 Đường A, Phường A, Thành phố A', 10.7, 106.6,
+        'Người nhận 45', '0910000045', 2, 'Thành phố B', 20, 'Phường B', '45 Đường B', '45 Đường B, Phường B, Thành phố B', 10.8, 106.7,
+        'NONE', 'SHOP', 'UNPAID', 'NONE', 'PICKUP_BY_COURIER', TIMESTAMPADD(MINUTE, -45, CURRENT_TIMESTAMP)),
+(46, 'QC00000046', 1, 1046, 2, 2046, 146, 1, 1, 10046, 20046, 'DELIVERING', 'USER', 0, 0, 100000, 30000, 30000, 1.50, FALSE, 0,
+        'Shop 1', '0900000001', 1, 'Thành phố A', 10, 'Phường A', '46 Đường A', '46 Đường A, Phường A, Thành phố A', 10.7, 106.6,
+        'Người nhận 46', '0910000046', 2, 'Thành phố B', 20, 'Phường B', '46 Đường B', '46 Đường B, Phường B, Thành phố B', 10.8, 106.7,
+        'NONE', 'SHOP', 'UNPAID', 'NONE', 'PICKUP_BY_COURIER', TIMESTAMPADD(MINUTE, -46, CURRENT_TIMESTAMP)),
+(47, 'QC00000047', 1, 1047, 2, 2047, 147, 1, 1, 10047, 20047, 'DELIVERING', 'USER', 0, 0, 100000, 30000, 30000, 1.50, FALSE, 0,
+        'Shop 1', '0900000001', 1, 'Thành phố A', 10, 'Phường A', '47 Đường A', '47 Đường A, Phường A, Thành phố A', 10.7, 106.6,
+        'Người nhận 47', '0910000047', 2, 'Thành phố B', 20, 'Phường B', '47 Đường B', '47 Đường B, Phường B, Thành phố B', 10.8, 106.7,
+        'NONE', 'SHOP', 'UNPAID', 'NONE', 'PICKUP_BY_COURIER', TIMESTAMPADD(MINUTE, -47, CURRENT_TIMESTAMP)),
+(48, 'QC00000048', 1, 1048, 2, 2048, 148, 1, 1, 10048, 20048, 'DELIVERED', 'USER', 0, 0, 100000, 30000, 30000, 1.50, FALSE, 0,
+        'Shop 1', '0900000001', 1, 'Thành phố A', 10, 'Phường A', '48 Đường A', '48 Đường A, Phường A, Thành phố A', 10.7, 106.6,
+        'Người nhận 48', '0910000048', 2, 'Thành phố B', 20, 'Phường B', '48 Đường B', '48 Đường B, Phường B, Thành phố B', 10.8, 106.7,
+        'NONE', 'SHOP', 'UNPAID', 'NONE', 'PICKUP_BY_COURIER', TIMESTAMPADD(MINUTE, -48, CURRENT_TIMESTAMP)),
+(49, 'QC00000049', 1, 1049, 2, 2049, 149, 1, 1, 10049, 20049, 'DELIVERING', 'USER', 0, 0, 100000, 30000, 30000, 1.50, FALSE, 0,
+        'Shop 1', '0900000001', 1, 'Thành phố A', 10, 'Phường A', '49 Đường A', '49 Đường A, Phường A, Thành phố A', 10.7, 106.6,
+        'Người nhận 49', '0910000049', 2, 'Thành phố B', 20, 'Phường B', '49 Đường B', '49 Đường B, Phường B, Thành phố B', 10.8, 106.7,
+        'NONE', 'SHOP', 'UNPAID', 'NONE', 'PICKUP_BY_COURIER', TIMESTAMPADD(MINUTE, -49, CURRENT_TIMESTAMP)),
+(50, 'QC00000050', 1, 1050, 2, 2050, 150, 1, 1, 10050, 20050, 'DELIVERING', 'USER', 0, 0, 100000, 30000, 30000, 1.50, FALSE, 0,
+        'Shop 1', '0900000001', 1, 'Thành phố A', 10, 'Phường A', '50 Đường A', '50 Đường A, Phường A, Thành phố A', 10.7, 106.6,
+        'Người nhận 50', '0910000050', 2, 'Thành phố B', 20, 'Phường B', '50 Đường B', '50 Đường B, Phường B, Thành phố B', 10.8, 106.7,
+        'NONE', 'SHOP', 'UNPAID', 'NONE', 'PICKUP_BY_COURIER', TIMESTAMPADD(MINUTE, -50, CURRENT_TIMESTAMP)),
+(51, 'QC00000051', 200, 1051, 2, 2051, 1, 1, NULL, 10051, 20051, 'DELIVERED', 'USER', 0, 0, 100000, 30000, 30000, 1.50, FALSE, 0,
+        'Shop 200', '0900000200', 1, 'Thành phố A', 10, 'Phường A', '51 Đường A', '51 Đường A, Phường A, Thành phố A', 10.7, 106.6,
+        'Người nhận 51', '0910000051', 2, 'Thành phố B', 20, 'Phường B', '51 Đường B', '51 Đường B, Phường B, Thành phố B', 10.8, 106.7,
+        'NONE', 'SHOP', 'UNPAID', 'NONE', 'PICKUP_BY_COURIER', TIMESTAMPADD(MINUTE, -51, CURRENT_TIMESTAMP)),
+(52, 'QC00000052', 201, 1052, 2, 2052, 1, 1, NULL, 10052, 20052, 'DELIVERING', 'USER', 0, 0, 100000, 30000, 30000, 1.50, FALSE, 0,
+        'Shop 201', '0900000201', 1, 'Thành phố A', 10, 'Phường A', '52 Đường A', '52 Đường A, Phường A, Thành phố A', 10.7, 106.6,
+        'Người nhận 52', '0910000052', 2, 'Thành phố B', 20, 'Phường B', '52 Đường B', '52 Đường B, Phường B, Thành phố B', 10.8, 106.7,
+        'NONE', 'SHOP', 'UNPAID', 'NONE', 'PICKUP_BY_COURIER', TIMESTAMPADD(MINUTE, -52, CURRENT_TIMESTAMP)),
+(53, 'QC00000053', 202, 1053, 2, 2053, 1, 1, NULL, 10053, 20053, 'DELIVERING', 'USER', 0, 0, 100000, 30000, 30000, 1.50, FALSE, 0,
+        'Shop 202', '0900000202', 1, 'Thành phố A', 10, 'Phường A', '53 Đường A', '53 Đường A, Phường A, Thành phố A', 10.7, 106.6,
+        'Người nhận 53', '0910000053', 2, 'Thành phố B', 20, 'Phường B', '53 Đường B', '53 Đường B, Phường B, Thành phố B', 10.8, 106.7,
+        'NONE', 'SHOP', 'UNPAID', 'NONE', 'PICKUP_BY_COURIER', TIMESTAMPADD(MINUTE, -53, CURRENT_TIMESTAMP)),
+(54, 'QC00000054', 203, 1054, 2, 2054, 1, 1, NULL, 10054, 20054, 'DELIVERED', 'USER', 0, 0, 100000, 30000, 30000, 1.50, FALSE, 0,
+        'Shop 203', '0900000203', 1, 'Thành phố A', 10, 'Phường A', '54 Đường A', '54 Đường A, Phường A, Thành phố A', 10.7, 106.6,
+        'Người nhận 54', '0910000054', 2, 'Thành phố B', 20, 'Phường B', '54 Đường B', '54 Đường B, Phường B, Thành phố B', 10.8, 106.7,
+        'NONE', 'SHOP', 'UNPAID', 'NONE', 'PICKUP_BY_COURIER', TIMESTAMPADD(MINUTE, -54, CURRENT_TIMESTAMP)),
+(55, 'QC00000055', 204, 1055, 2, 2055, 1, 1, NULL, 10055, 20055, 'DELIVERING', 'USER', 0, 0, 100000, 30000, 30000, 1.50, FALSE, 0,
+        'Shop 204', '0900000204', 1, 'Thành phố A', 10, 'Phường A', '55 Đường A', '55 Đường A, Phường A, Thành phố A', 10.7, 106.6,
+        'Người nhận 55', '0910000055', 2, 'Thành phố B', 20, 'Phường B', '55 Đường B', '55 Đường B, Phường B, Thành phố B', 10.8, 106.7,
+        'NONE', 'SHOP', 'UNPAID', 'NONE', 'PICKUP_BY_COURIER', TIMESTAMPADD(MINUTE, -55, CURRENT_TIMESTAMP)),
+(56, 'QC00000056', 205, 1056, 2, 2056, 1, 1, NULL, 10056, 20056, 'DELIVERING', 'USER', 0, 0, 100000, 30000, 30000, 1.50, FALSE, 0,
+        'Shop 205', '0900000205', 1, 'Thành phố A', 10, 'Phường A', '56 Đường A', '56 Đường A, Phường A, Thành phố A', 10.7, 106.6,
+        'Người nhận 56', '0910000056', 2, 'Thành phố B', 20, 'Phường B', '56 Đường B', '56 Đường B, Phường B, Thành phố B', 10.8, 106.7,
+        'NONE', 'SHOP', 'UNPAID', 'NONE', 'PICKUP_BY_COURIER', TIMESTAMPADD(MINUTE, -56, CURRENT_TIMESTAMP)),
+(57, 'QC00000057', 206, 1057, 2, 2057, 1, 1, NULL, 10057, 20057, 'DELIVERED', 'USER', 0, 0, 100000, 30000, 30000, 1.50, FALSE, 0,
+        'Shop 206', '0900000206', 1, 'Thành phố A', 10, 'Phường A', '57 Đường A', '57 Đường A, Phường A, Thành phố A', 10.7, 106.6,
+        'Người nhận 57', '0910000057', 2, 'Thành phố B', 20, 'Phường B', '57 Đường B', '57 Đường B, Phường B, Thành phố B', 10.8, 106.7,
+        'NONE', 'SHOP', 'UNPAID', 'NONE', 'PICKUP_BY_COURIER', TIMESTAMPADD(MINUTE, -57, CURRENT_TIMESTAMP)),
+(58, 'QC00000058', 207, 1058, 2, 2058, 1, 1, NULL, 10058, 20058, 'DELIVERING', 'USER', 0, 0, 100000, 30000, 30000, 1.50, FALSE, 0,
+        'Shop 207', '0900000207', 1, 'Thành phố A', 10, 'Phường A', '58 Đường A', '58 Đường A, Phường A, Thành phố A', 10.7, 106.6,
+        'Người nhận 58', '0910000058', 2, 'Thành phố B', 20, 'Phường B', '58 Đường B', '58 Đường B, Phường B, Thành phố B', 10.8, 106.7,
+        'NONE', 'SHOP', 'UNPAID', 'NONE', 'PICKUP_BY_COURIER', TIMESTAMPADD(MINUTE, -58, CURRENT_TIMESTAMP)),
+(59, 'QC00000059', 208, 1059, 2, 2059, 1, 1, NULL, 10059, 20059, 'DELIVERING', 'USER', 0, 0, 100000, 30000, 30000, 1.50, FALSE, 0,
+        'Shop 208', '0900000208', 1, 'Thành phố A', 10, 'Phường A', '59 Đường A', '59 Đường A, Phường A, Thành phố A', 10.7, 106.6,
+        'Người nhận 59', '0910000059', 2, 'Thành phố B', 20, 'Phường B', '59 Đường B', '59 Đường B, Phường B, Thành phố B', 10.8, 106.7,
+        'NONE', 'SHOP', 'UNPAID', 'NONE', 'PICKUP_BY_COURIER', TIMESTAMPADD(MINUTE, -59, CURRENT_TIMESTAMP)),
+(60, 'QC00000060', 209, 1060, 2, 2060, 1, 1, NULL, 10060, 20060, 'DELIVERED', 'USER', 0, 0, 100000, 30000, 30000, 1.50, FALSE, 0,
+        'Shop 209', '0900000209', 1, 'Thành phố A', 10, 'Phường A', '60 Đường A', '60 Đường A, Phường A, Thành phố A', 10.7, 106.6,
+        'Người nhận 60', '0910000060', 2, 'Thành phố B', 20, 'Phường B', '60 Đường B', '60 Đường B, Phường B, Thành phố B', 10.8, 106.7,
+        'NONE', 'SHOP', 'UNPAID', 'NONE', 'PICKUP_BY_COURIER', TIMESTAMPADD(MINUTE, -60, CURRENT_TIMESTAMP)),
+(61, 'QC00000061', 210, 1061, 2, 2061, 1, 1, NULL, 10061, 20061, 'DELIVERING', 'USER', 0, 0, 100000, 30000, 30000, 1.50, FALSE, 0,
+        'Shop 210', '0900000210', 1, 'Thành phố A', 10, 'Phường A', '61 Đường A', '61 Đường A, Phường A, Thành phố A', 10.7, 106.6,
+        'Người nhận 61', '0910000061', 2, 'Thành phố B', 20, 'Phường B', '61 Đường B', '61 Đường B, Phường B, Thành phố B', 10.8, 106.7,
+        'NONE', 'SHOP', 'UNPAID', 'NONE', 'PICKUP_BY_COURIER', TIMESTAMPADD(MINUTE, -61, CURRENT_TIMESTAMP)),
+(62, 'QC00000062', 211, 1062, 2, 2062, 1, 1, NULL, 10062, 20062, 'DELIVERING', 'USER', 0, 0, 100000, 30000, 30000, 1.50, FALSE, 0,
+        'Shop 211', '0900000211', 1, 'Thành phố A', 10, 'Phường A', '62 Đường A', '62 Đường A, Phường A, Thành phố A', 10.7, 106.6,
+        'Người nhận 62', '0910000062', 2, 'Thành phố B', 20, 'Phường B', '62 Đường B', '62 Đường B, Phường B, Thành phố B', 10.8, 106.7,
+        'NONE', 'SHOP', 'UNPAID', 'NONE', 'PICKUP_BY_COURIER', TIMESTAMPADD(MINUTE, -62, CURRENT_TIMESTAMP)),
+(63, 'QC00000063', 212, 1063, 2, 2063, 3, 1, NULL, 10063, 20063, 'DELIVERING', 'USER', 0, 0, 100000, 30000, 30000, 1.50, FALSE, 0,
+        'Shop 212', '0900000212', 1, 'Thành phố A', 10, 'Phường A', '63 Đường A', '63 Đường A, Phường A, Thành phố A', 10.7, 106.6,
+        'Người nhận 63', '0910000063', 2, 'Thành phố B', 20, 'Phường B', '63 Đường B', '63 Đường B, Phường B, Thành phố B', 10.8, 106.7,
+        'NONE', 'SHOP', 'UNPAID', 'NONE', 'PICKUP_BY_COURIER', TIMESTAMPADD(MINUTE, -63, CURRENT_TIMESTAMP)),
+(64, 'QC00000064', 213, 1064, 2, 2064, 3, 1, NULL, 10064, 20064, 'DELIVERED', 'USER', 0, 0, 100000, 30000, 30000, 1.50, FALSE, 0,
+        'Shop 213', '0900000213', 1, 'Thành phố A', 10, 'Phường A', '64 Đường A', '64 Đường A, Phường A, Thành phố A', 10.7, 106.6,
+        'Người nhận 64', '0910000064', 2, 'Thành phố B', 20, 'Phường B', '64 Đường B', '64 Đường B, Phường B, Thành phố B', 10.8, 106.7,
+        'NONE', 'SHOP', 'UNPAID', 'NONE', 'PICKUP_BY_COURIER', TIMESTAMPADD(MINUTE, -64, CURRENT_TIMESTAMP));
+
+-- Hành trình: đơn 1 đi qua 10 chặng giữa các bưu cục khác nhau (cũng dùng cho tra cứu công khai), đơn 2 một chặng
+insert into order_histories (id, order_id, from_office_id, to_office_id, action, note, action_time) values
+(1, 1, 1001, 2001, 'PENDING', 'Chặng 1', TIMESTAMPADD(MINUTE, -110, CURRENT_TIMESTAMP)),
+(2, 1, 1002, 2002, 'READY_FOR_PICKUP', 'Chặng 2', TIMESTAMPADD(MINUTE, -100, CURRENT_TIMESTAMP)),
+(3, 1, 1003, 2003, 'PICKING_UP', 'Chặng 3', TIMESTAMPADD(MINUTE, -90, CURRENT_TIMESTAMP)),
+(4, 1, 1004, 2004, 'PICKED_UP', 'Chặng 4', TIMESTAMPADD(MINUTE, -80, CURRENT_TIMESTAMP)),
+(5, 1, 1005, 2005, 'CONFIRMED', 'Chặng 5', TIMESTAMPADD(MINUTE, -70, CURRENT_TIMESTAMP)),
+(6, 1, 1006, 2006, 'TRANSIT_TO_OFFICE', 'Chặng 6', TIMESTAMPADD(MINUTE, -60, CURRENT_TIMESTAMP)),
+(7, 1, 1007, 2007, 'IMPORTED', 'Chặng 7', TIMESTAMPADD(MINUTE, -50, CURRENT_TIMESTAMP)),
+(8, 1, 1008, 2008, 'EXPORTED', 'Chặng 8', TIMESTAMPADD(MINUTE, -40, CURRENT_TIMESTAMP)),
+(9, 1, 1009, 2009, 'TRANSIT_TO_OFFICE', 'Chặng 9', TIMESTAMPADD(MINUTE, -30, CURRENT_TIMESTAMP)),
+(10, 1, 1010, 2010, 'AT_DEST_OFFICE', 'Chặng 10', TIMESTAMPADD(MINUTE, -20, CURRENT_TIMESTAMP)),
+(11, 2, 1002, 2002, 'PENDING', 'Đơn hàng đã được tạo', TIMESTAMPADD(MINUTE, -60, CURRENT_TIMESTAMP));
+
+insert into products (id, user_id, code, name, type, status, price, stock, sold_quantity, weight, created_at) values
+        (1, 1, 'PQC01', 'Sản phẩm 1', 'GOODS', 'ACTIVE', 50000, 100, 0, 0.50, CURRENT_TIMESTAMP),
+        (2, 1, 'PQC02', 'Sản phẩm 2', 'GOODS', 'ACTIVE', 50000, 100, 0, 0.50, CURRENT_TIMESTAMP),
+        (3, 1, 'PQC03', 'Sản phẩm 3', 'GOODS', 'ACTIVE', 50000, 100, 0, 0.50, CURRENT_TIMESTAMP),
+        (4, 1, 'PQC04', 'Sản phẩm 4', 'GOODS', 'ACTIVE', 50000, 100, 0, 0.50, CURRENT_TIMESTAMP),
+        (5, 1, 'PQC05', 'Sản phẩm 5', 'GOODS', 'ACTIVE', 50000, 100, 0, 0.50, CURRENT_TIMESTAMP),
+        (6, 1, 'PQC06', 'Sản phẩm 6', 'GOODS', 'ACTIVE', 50000, 100, 0, 0.50, CURRENT_TIMESTAMP),
+        (7, 1, 'PQC07', 'Sản phẩm 7', 'GOODS', 'ACTIVE', 50000, 100, 0, 0.50, CURRENT_TIMESTAMP),
+        (8, 1, 'PQC08', 'Sản phẩm 8', 'GOODS', 'ACTIVE', 50000, 100, 0, 0.50, CURRENT_TIMESTAMP),
+        (9, 1, 'PQC09', 'Sản phẩm 9', 'GOODS', 'ACTIVE', 50000, 100, 0, 0.50, CURRENT_TIMESTAMP),
+        (10, 1, 'PQC10', 'Sản phẩm 10', 'GOODS', 'ACTIVE', 50000, 100, 0, 0.50, CURRENT_TIMESTAMP);
+
+insert into order_products (id, order_id, product_id, quantity, price, delivered_quantity, returned_quantity, version,
+        created_at) values
+        (1, 1, 1, 1, 50000, 0, 0, 0, CURRENT_TIMESTAMP),
+        (2, 1, 2, 1, 50000, 0, 0, 0, CURRENT_TIMESTAMP),
+        (3, 1, 3, 1, 50000, 0, 0, 0, CURRENT_TIMESTAMP),
+        (4, 1, 4, 1, 50000, 0, 0, 0, CURRENT_TIMESTAMP),
+        (5, 1, 5, 1, 50000, 0, 0, 0, CURRENT_TIMESTAMP),
+        (6, 1, 6, 1, 50000, 0, 0, 0, CURRENT_TIMESTAMP),
+        (7, 1, 7, 1, 50000, 0, 0, 0, CURRENT_TIMESTAMP),
+        (8, 1, 8, 1, 50000, 0, 0, 0, CURRENT_TIMESTAMP),
+        (9, 1, 9, 1, 50000, 0, 0, 0, CURRENT_TIMESTAMP),
+        (10, 1, 10, 1, 50000, 0, 0, 0, CURRENT_TIMESTAMP),
+        (11, 2, 1, 1, 50000, 0, 0, 0, CURRENT_TIMESTAMP);
+
+insert into pickup_attempts (id, order_id, shipper_id, attempt_number, status, fail_reason, attempted_at) values
+        (1, 1, 101, 1, 'FAILED', 'NO_RESPONSE', TIMESTAMPADD(MINUTE, -110, CURRENT_TIMESTAMP)),
+        (2, 1, 102, 2, 'FAILED', 'NO_RESPONSE', TIMESTAMPADD(MINUTE, -100, CURRENT_TIMESTAMP)),
+        (3, 1, 103, 3, 'FAILED', 'NO_RESPONSE', TIMESTAMPADD(MINUTE, -90, CURRENT_TIMESTAMP)),
+        (4, 1, 104, 4, 'FAILED', 'NO_RESPONSE', TIMESTAMPADD(MINUTE, -80, CURRENT_TIMESTAMP)),
+        (5, 1, 105, 5, 'FAILED', 'NO_RESPONSE', TIMESTAMPADD(MINUTE, -70, CURRENT_TIMESTAMP)),
+        (6, 1, 106, 6, 'FAILED', 'NO_RESPONSE', TIMESTAMPADD(MINUTE, -60, CURRENT_TIMESTAMP)),
+        (7, 1, 107, 7, 'FAILED', 'NO_RESPONSE', TIMESTAMPADD(MINUTE, -50, CURRENT_TIMESTAMP)),
+        (8, 1, 108, 8, 'FAILED', 'NO_RESPONSE', TIMESTAMPADD(MINUTE, -40, CURRENT_TIMESTAMP)),
+        (9, 1, 109, 9, 'FAILED', 'NO_RESPONSE', TIMESTAMPADD(MINUTE, -30, CURRENT_TIMESTAMP)),
+        (10, 1, 110, 10, 'FAILED', 'NO_RESPONSE', TIMESTAMPADD(MINUTE, -20, CURRENT_TIMESTAMP)),
+        (11, 2, 101, 1, 'SUCCESS', NULL, TIMESTAMPADD(MINUTE, -60, CURRENT_TIMESTAMP));
@@ -1,8 +1,10 @@
-import type {ApiResponse} from "../types/response";
+import type {ApiResponse, BulkResponse} from "../types/response";
 import type {
     CalculateShippingFeeRequest,
     CalculateTotalFeeUserRequest,
-    CalculateWeightRequest
+    CalculateWeightRequest,
+    FeeQuote,
+    FeeQuoteBatchRequest
 } from "../types/shippingFee";
 import axiosClient from "./axiosClient";
 
@@ -32,6 +34,14 @@ const shippingFeeApi = {
     return res;
   },
 
+  quoteBatch: async (data: FeeQuoteBatchRequest) => {
+    const res = await axiosClient.post<ApiResponse<BulkResponse<FeeQuote>>, ApiResponse<BulkResponse<FeeQuote>>>(
+      "/fees/quotes",
+      data
+    );
+    return res;
+  },
+
   calculateWeight: async (params: CalculateWeightRequest) => {
     const res = await axiosClient.get<ApiResponse<number>>(
       "/public/fees/weight",
@@ -216,25 +216,23 @@ const ManagerOrderCreate: React.FC = () => {
             }
 
             try {
-                const [result1, result2] = await Promise.all([
-                    shippingFeeApi.calculateShippingFee({
-                        weight,
-                        serviceTypeId: selectedServiceType.id,
-                        senderCodeCity: officeCityCode,
-                        recipientCodeCity: recipientData.cityCode,
-                    }),
-                    shippingFeeApi.calculateTotalFeeMananager({
+                const result = await shippingFeeApi.quoteBatch({
+                    includePackaging: true,
+                    items: [{
                         weight,
                         serviceTypeId: selectedServiceType.id,
                         senderCodeCity: officeCityCode,
                         recipientCodeCity: recipientData.cityCode,
                         cod: 0,
                         orderValue: orderValue
-                    })
-                ]);
+                    }]
+                });
+
+                const quote = result?.data?.results?.[0];
+                if (!quote?.success) throw new Error(quote?.message);
 
-                if (result1?.data) setShippingFee(result1.data);
-                if (result2?.data) setTotalFee(result2.data);
+                setShippingFee(quote.result.shippingFee);
+                setTotalFee(quote.result.totalFee);
 
             } catch (error: any) {
                 message.error(error.message || "Tính cước thất bại");
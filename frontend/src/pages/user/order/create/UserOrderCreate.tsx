@@ -890,25 +890,22 @@ const UserOrderCreate: React.FC = () => {
             }
 
             try {
-                const [result1, result2] = await Promise.all([
-                    shippingFeeApi.calculateShippingFee({
-                        weight,
-                        serviceTypeId: selectedServiceType.id,
-                        senderCodeCity: senderData.cityCode,
-                        recipientCodeCity: recipientData.cityCode,
-                    }),
-                    shippingFeeApi.calculateTotalFeeUser({
+                const result = await shippingFeeApi.quoteBatch({
+                    items: [{
                         weight,
                         serviceTypeId: selectedServiceType.id,
                         senderCodeCity: senderData.cityCode,
                         recipientCodeCity: recipientData.cityCode,
                         cod: codAmount,
                         orderValue: orderValue
-                    })
-                ]);
+                    }]
+                });
+
+                const quote = result?.data?.results?.[0];
+                if (!quote?.success) throw new Error(quote?.message);
 
-                if (result1?.data) setShippingFee(result1.data);
-                if (result2?.data) setServiceFee(result2.data);
+                setShippingFee(quote.result.shippingFee);
+                setServiceFee(quote.result.totalFee);
 
             } catch (error) {
                 console.error(error);
@@ -6,9 +6,12 @@ let stompClient: Client;
 const baseUrl = import.meta.env.VITE_BASE_URL || 'http://localhost:8080';
 
 export const connectWebSocket = (userId: number, onMessage: (msg: any) => void) => {
-  const socket = new SockJS(`${baseUrl}/ws?userId=${userId}`);
+  // Server lấy người dùng từ JWT của frame CONNECT
+  void userId;
+  const socket = new SockJS(`${baseUrl}/ws`);
   stompClient = new Client({
     webSocketFactory: () => socket,
+    connectHeaders: { Authorization: `Bearer ${sessionStorage.getItem('token') ?? ''}` },
     debug: (str) => console.log(str),
     reconnectDelay: 5000,
   });
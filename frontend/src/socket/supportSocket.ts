@@ -18,10 +18,12 @@ export type SupportSocketClient = {
 export const connectSupportSocket = ({ accountId, ticketId, onMessage, onError }: ConnectOptions): SupportSocketClient => {
   void accountId;
   const wsBaseUrl = (import.meta.env.VITE_API_BASE || "http://localhost:8080/api").replace(/\/api$/, "");
-  const socket = new SockJS(`${wsBaseUrl}/ws?userId=${accountId}`);
+  // Server lấy người dùng từ JWT của frame CONNECT
+  const socket = new SockJS(`${wsBaseUrl}/ws`);
 
   const stompClient = new Client({
     webSocketFactory: () => socket,
+    connectHeaders: { Authorization: `Bearer ${sessionStorage.getItem("token") ?? ""}` },
     reconnectDelay: 5000,
     debug: () => {},
   });
@@ -19,4 +19,28 @@ export interface CalculateWeightRequest {
   width: number;
   length: number;
   originalWeight: number;
-}
\ No newline at end of file
+}
+
+export interface FeeQuoteItemRequest {
+  ref?: string;
+  weight: number;
+  serviceTypeId: number;
+  senderCodeCity: number;
+  recipientCodeCity: number;
+  orderValue?: number;
+  cod?: number;
+}
+
+export interface FeeQuoteBatchRequest {
+  includePackaging?: boolean;
+  items: FeeQuoteItemRequest[];
+}
+
+export interface FeeQuote {
+  shippingFee: number;
+  codFee: number;
+  insuranceFee: number;
+  packagingFee: number;
+  vatFee: number;
+  totalFee: number;
+}